@@ -126,9 +126,17 @@ public class Application {
         System.out.println(
                 "# 4) disconnect peerName        >>> Disconnects from the peer specified with peerName                        #");
         System.out.println(
-                "# 5) getFiles peerName          >>> Gets file names from peer                                                #");
+                "# 5) getFiles peerName [filter] >>> Lists files of peer, optionally by name prefix or glob pattern           #");
         System.out.println(
                 "# 6) download peerName fileName >>> Requests a file to download from peer                                    #");
+        System.out.println(
+                "# 7) swarm fileName             >>> Downloads a file in pieces from all connected peers that have it         #");
+        System.out.println(
+                "# 8) downloadDir peerName dir   >>> Downloads a directory tree from peer with pipelined file requests        #");
+        System.out.println(
+                "# 9) limit dir rate [peerName]  >>> Caps upload or download file data at rate bytes/s, of one peer or all    #");
+        System.out.println(
+                "# 10) stats                     >>> Logs how many messages of each type were handled and how long they took  #");
         System.out.println(
                 "#######################################################################################################");
     }
@@ -1,6 +1,7 @@
 package com.halcyon.p2p.file.transfer;
 
 import com.halcyon.p2p.file.transfer.config.PeerConfig;
+import com.halcyon.p2p.file.transfer.network.BandwidthLimiter.Direction;
 import com.halcyon.p2p.file.transfer.service.PeerService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -40,14 +41,35 @@ public class PeerRunner {
             String peerName = command.split(" ")[1];
             peerService.disconnect(peerName);
         } else if (command.startsWith("getFiles ")) {
-            String peerName = command.split(" ")[1];
-            peerService.sendGetFilesRequest(peerName);
+            String[] tokens = command.split(" ");
+            String peerName = tokens[1];
+            String filter = tokens.length > 2 ? tokens[2] : "";
+
+            peerService.sendGetFilesRequest(peerName, filter);
         } else if (command.startsWith("download ")) {
             String[] tokens = command.split(" ");
             String peerName = tokens[1];
             String fileName = tokens[2];
 
-            peerService.sendFileRequest(peerName, fileName);
+            peerService.download(peerName, fileName);
+        } else if (command.startsWith("swarm ")) {
+            String fileName = command.split(" ")[1];
+            peerService.swarmDownload(fileName);
+        } else if (command.startsWith("downloadDir ")) {
+            String[] tokens = command.split(" ");
+            String peerName = tokens[1];
+            String directoryName = tokens[2];
+
+            peerService.downloadDirectory(peerName, directoryName);
+        } else if (command.startsWith("limit ")) {
+            String[] tokens = command.split(" ");
+            Direction direction = Direction.valueOf(tokens[1].toUpperCase());
+            int rate = Integer.parseInt(tokens[2]);
+            String peerName = tokens.length > 3 ? tokens[3] : null;
+
+            peerService.setBandwidthLimit(direction, peerName, rate);
+        } else if (command.equals("stats")) {
+            peerService.logMessageStats();
         } else {
             result = CommandResult.INVALID;
         }
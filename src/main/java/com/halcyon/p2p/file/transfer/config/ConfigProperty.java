@@ -41,6 +41,244 @@ public enum ConfigProperty {
         public void setValue(int value, PeerConfig peerConfig) {
             peerConfig.setKeepAlivePeriodSeconds(value);
         }
+    },
+
+    ZERO_COPY_TRANSFER("zeroCopyTransfer") {
+        @Override
+        public void setValue(int value, PeerConfig peerConfig) {
+            peerConfig.setZeroCopyTransferEnabled(value != 0);
+        }
+    },
+
+    WRITE_BUFFER_LOW_WATER_MARK("writeBufferLowWaterMark") {
+        @Override
+        public void setValue(int value, PeerConfig peerConfig) {
+            peerConfig.setWriteBufferLowWaterMark(value);
+        }
+    },
+
+    WRITE_BUFFER_HIGH_WATER_MARK("writeBufferHighWaterMark") {
+        @Override
+        public void setValue(int value, PeerConfig peerConfig) {
+            peerConfig.setWriteBufferHighWaterMark(value);
+        }
+    },
+
+    DISK_IO_THREADS("diskIoThreads") {
+        @Override
+        public void setValue(int value, PeerConfig peerConfig) {
+            peerConfig.setDiskIoThreads(value);
+        }
+    },
+
+    PIECE_SIZE("pieceSize") {
+        @Override
+        public void setValue(int value, PeerConfig peerConfig) {
+            peerConfig.setPieceSize(value);
+        }
+    },
+
+    MIN_PIECE_SIZE("minPieceSize") {
+        @Override
+        public void setValue(int value, PeerConfig peerConfig) {
+            peerConfig.setMinPieceSize(value);
+        }
+    },
+
+    MAX_PIECE_SIZE("maxPieceSize") {
+        @Override
+        public void setValue(int value, PeerConfig peerConfig) {
+            peerConfig.setMaxPieceSize(value);
+        }
+    },
+
+    MAX_PENDING_PIECE_REQUESTS("maxPendingPieceRequests") {
+        @Override
+        public void setValue(int value, PeerConfig peerConfig) {
+            peerConfig.setMaxPendingPieceRequests(value);
+        }
+    },
+
+    PIECE_TIMEOUT_SECONDS("pieceTimeoutSeconds") {
+        @Override
+        public void setValue(int value, PeerConfig peerConfig) {
+            peerConfig.setPieceTimeoutSeconds(value);
+        }
+    },
+
+    MAX_PENDING_FILE_REQUESTS("maxPendingFileRequests") {
+        @Override
+        public void setValue(int value, PeerConfig peerConfig) {
+            peerConfig.setMaxPendingFileRequests(value);
+        }
+    },
+
+    MAX_PACKED_FILE_SIZE("maxPackedFileSize") {
+        @Override
+        public void setValue(int value, PeerConfig peerConfig) {
+            peerConfig.setMaxPackedFileSize(value);
+        }
+    },
+
+    MAX_PACKED_BATCH_SIZE("maxPackedBatchSize") {
+        @Override
+        public void setValue(int value, PeerConfig peerConfig) {
+            peerConfig.setMaxPackedBatchSize(value);
+        }
+    },
+
+    SWARM_DISCOVERY_TIMEOUT_MILLIS("swarmDiscoveryTimeoutMillis") {
+        @Override
+        public void setValue(int value, PeerConfig peerConfig) {
+            peerConfig.setSwarmDiscoveryTimeoutMillis(value);
+        }
+    },
+
+    MIN_CHUNK_SIZE("minChunkSize") {
+        @Override
+        public void setValue(int value, PeerConfig peerConfig) {
+            peerConfig.setMinChunkSize(value);
+        }
+    },
+
+    MAX_CHUNK_SIZE("maxChunkSize") {
+        @Override
+        public void setValue(int value, PeerConfig peerConfig) {
+            peerConfig.setMaxChunkSize(value);
+        }
+    },
+
+    COMPRESSION_LEVEL("compressionLevel") {
+        @Override
+        public void setValue(int value, PeerConfig peerConfig) {
+            peerConfig.setCompressionLevel(value);
+        }
+    },
+
+    DELTA_TRANSFER("deltaTransfer") {
+        @Override
+        public void setValue(int value, PeerConfig peerConfig) {
+            peerConfig.setDeltaTransferEnabled(value != 0);
+        }
+    },
+
+    CHUNK_STORE("chunkStore") {
+        @Override
+        public void setValue(int value, PeerConfig peerConfig) {
+            peerConfig.setChunkStoreEnabled(value != 0);
+        }
+    },
+
+    MAX_CHUNK_STORE_MEGABYTES("maxChunkStoreMegabytes") {
+        @Override
+        public void setValue(int value, PeerConfig peerConfig) {
+            peerConfig.setMaxChunkStoreMegabytes(value);
+        }
+    },
+
+    MAX_UPLOAD_RATE("maxUploadRate") {
+        @Override
+        public void setValue(int value, PeerConfig peerConfig) {
+            peerConfig.setMaxUploadRate(value);
+        }
+    },
+
+    MAX_DOWNLOAD_RATE("maxDownloadRate") {
+        @Override
+        public void setValue(int value, PeerConfig peerConfig) {
+            peerConfig.setMaxDownloadRate(value);
+        }
+    },
+
+    MAX_PEER_UPLOAD_RATE("maxPeerUploadRate") {
+        @Override
+        public void setValue(int value, PeerConfig peerConfig) {
+            peerConfig.setMaxPeerUploadRate(value);
+        }
+    },
+
+    MAX_PEER_DOWNLOAD_RATE("maxPeerDownloadRate") {
+        @Override
+        public void setValue(int value, PeerConfig peerConfig) {
+            peerConfig.setMaxPeerDownloadRate(value);
+        }
+    },
+
+    BANDWIDTH_BURST_SIZE("bandwidthBurstSize") {
+        @Override
+        public void setValue(int value, PeerConfig peerConfig) {
+            peerConfig.setBandwidthBurstSize(value);
+        }
+    },
+
+    UPLOAD_SLOTS("uploadSlots") {
+        @Override
+        public void setValue(int value, PeerConfig peerConfig) {
+            peerConfig.setUploadSlots(value);
+        }
+    },
+
+    DATA_LANE("dataLane") {
+        @Override
+        public void setValue(int value, PeerConfig peerConfig) {
+            peerConfig.setDataLaneEnabled(value != 0);
+        }
+    },
+
+    MAX_DATA_LANES("maxDataLanes") {
+        @Override
+        public void setValue(int value, PeerConfig peerConfig) {
+            peerConfig.setMaxDataLanes(value);
+        }
+    },
+
+    EXPLICIT_FLUSH_AFTER_FLUSHES("explicitFlushAfterFlushes") {
+        @Override
+        public void setValue(int value, PeerConfig peerConfig) {
+            peerConfig.setExplicitFlushAfterFlushes(value);
+        }
+    },
+
+    NATIVE_TRANSPORT("nativeTransport") {
+        @Override
+        public void setValue(int value, PeerConfig peerConfig) {
+            peerConfig.setNativeTransportEnabled(value != 0);
+        }
+    },
+
+    ACCEPTOR_THREADS("acceptorThreads") {
+        @Override
+        public void setValue(int value, PeerConfig peerConfig) {
+            peerConfig.setAcceptorThreads(value);
+        }
+    },
+
+    TCP_FAST_OPEN_QUEUE_LENGTH("tcpFastOpenQueueLength") {
+        @Override
+        public void setValue(int value, PeerConfig peerConfig) {
+            peerConfig.setTcpFastOpenQueueLength(value);
+        }
+    },
+
+    NETWORK_THREADS("networkThreads") {
+        @Override
+        public void setValue(int value, PeerConfig peerConfig) {
+            peerConfig.setNetworkThreads(value);
+        }
+    },
+
+    PEER_THREADS("peerThreads") {
+        @Override
+        public void setValue(int value, PeerConfig peerConfig) {
+            peerConfig.setPeerThreads(value);
+        }
+    },
+
+    GET_FILES_PAGE_SIZE("getFilesPageSize") {
+        @Override
+        public void setValue(int value, PeerConfig peerConfig) {
+            peerConfig.setGetFilesPageSize(value);
+        }
     };
 
     private final String propertyName;
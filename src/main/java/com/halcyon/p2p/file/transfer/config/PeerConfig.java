@@ -1,5 +1,7 @@
 package com.halcyon.p2p.file.transfer.config;
 
+import io.netty.channel.WriteBufferWaterMark;
+
 import java.util.concurrent.TimeUnit;
 
 public class PeerConfig {
@@ -9,6 +11,42 @@ public class PeerConfig {
     public static final int DEFAULT_MAX_NUMBER_OF_ACTIVE_CONNECTIONS = 5;
     public static final int DEFAULT_AUTO_DISCOVERY_PING_FREQUENCY = 10;
     public static final int DEFAULT_KEEP_ALIVE_SECONDS = 15;
+    public static final boolean DEFAULT_ZERO_COPY_TRANSFER_ENABLED = true;
+    public static final int DEFAULT_WRITE_BUFFER_LOW_WATER_MARK = 256 * 1024;
+    public static final int DEFAULT_WRITE_BUFFER_HIGH_WATER_MARK = 1024 * 1024;
+    public static final int DEFAULT_DISK_IO_THREADS = Math.max(4, Runtime.getRuntime().availableProcessors() / 2);
+    public static final int DEFAULT_PIECE_SIZE = 1024 * 1024;
+    public static final int DEFAULT_MIN_PIECE_SIZE = 16 * 1024;
+    public static final int DEFAULT_MAX_PIECE_SIZE = 16 * 1024 * 1024;
+    public static final int DEFAULT_MAX_PENDING_PIECE_REQUESTS = 4;
+    public static final int DEFAULT_PIECE_TIMEOUT_SECONDS = 30;
+    public static final int DEFAULT_MAX_PENDING_FILE_REQUESTS = 64;
+    public static final int DEFAULT_MAX_PACKED_FILE_SIZE = 64 * 1024;
+    public static final int DEFAULT_MAX_PACKED_BATCH_SIZE = 1024 * 1024;
+    public static final int DEFAULT_SWARM_DISCOVERY_TIMEOUT_MILLIS = 2000;
+    public static final int DEFAULT_MIN_CHUNK_SIZE = 64 * 1024;
+    public static final int DEFAULT_MAX_CHUNK_SIZE = 4 * 1024 * 1024;
+    public static final int DEFAULT_COMPRESSION_LEVEL = 0;
+    public static final boolean DEFAULT_DELTA_TRANSFER_ENABLED = true;
+    public static final boolean DEFAULT_CHUNK_STORE_ENABLED = false;
+    public static final int DEFAULT_MAX_CHUNK_STORE_MEGABYTES = 1024;
+    public static final int DEFAULT_MAX_UPLOAD_RATE = 0;
+    public static final int DEFAULT_MAX_DOWNLOAD_RATE = 0;
+    public static final int DEFAULT_MAX_PEER_UPLOAD_RATE = 0;
+    public static final int DEFAULT_MAX_PEER_DOWNLOAD_RATE = 0;
+    public static final int DEFAULT_BANDWIDTH_BURST_SIZE = 256 * 1024;
+    public static final int DEFAULT_UPLOAD_SLOTS = 4;
+    public static final boolean DEFAULT_DATA_LANE_ENABLED = true;
+    public static final int DEFAULT_MAX_DATA_LANES = 4;
+    public static final int DEFAULT_EXPLICIT_FLUSH_AFTER_FLUSHES = 256;
+    public static final boolean DEFAULT_NATIVE_TRANSPORT_ENABLED = true;
+    public static final int DEFAULT_ACCEPTOR_THREADS = 1;
+    public static final int DEFAULT_TCP_FAST_OPEN_QUEUE_LENGTH = 256;
+    public static final int DEFAULT_GET_FILES_PAGE_SIZE = 1000;
+    public static final int DEFAULT_NETWORK_THREADS = Runtime.getRuntime().availableProcessors();
+    // Every piece download keeps its bookkeeping and file data on a peer loop of its own, while only the registry of connections,
+    // uploads and discovery stay on a single one, so downloads of different files spread over the cores
+    public static final int DEFAULT_PEER_THREADS = Math.max(1, Runtime.getRuntime().availableProcessors() / 4);
 
     private String peerName;
     private int maxReadIdleSeconds = DEFAULT_MAX_READ_IDLE_SECONDS;
@@ -17,6 +55,40 @@ public class PeerConfig {
     private int maxNumberOfActiveConnections = DEFAULT_MAX_NUMBER_OF_ACTIVE_CONNECTIONS;
     private int autoDiscoveryPingFrequency = DEFAULT_AUTO_DISCOVERY_PING_FREQUENCY;
     private int keepAlivePeriodSeconds = DEFAULT_KEEP_ALIVE_SECONDS;
+    private boolean zeroCopyTransferEnabled = DEFAULT_ZERO_COPY_TRANSFER_ENABLED;
+    private int writeBufferLowWaterMark = DEFAULT_WRITE_BUFFER_LOW_WATER_MARK;
+    private int writeBufferHighWaterMark = DEFAULT_WRITE_BUFFER_HIGH_WATER_MARK;
+    private int diskIoThreads = DEFAULT_DISK_IO_THREADS;
+    private int pieceSize = DEFAULT_PIECE_SIZE;
+    private int minPieceSize = DEFAULT_MIN_PIECE_SIZE;
+    private int maxPieceSize = DEFAULT_MAX_PIECE_SIZE;
+    private int maxPendingPieceRequests = DEFAULT_MAX_PENDING_PIECE_REQUESTS;
+    private int pieceTimeoutSeconds = DEFAULT_PIECE_TIMEOUT_SECONDS;
+    private int maxPendingFileRequests = DEFAULT_MAX_PENDING_FILE_REQUESTS;
+    private int maxPackedFileSize = DEFAULT_MAX_PACKED_FILE_SIZE;
+    private int maxPackedBatchSize = DEFAULT_MAX_PACKED_BATCH_SIZE;
+    private int swarmDiscoveryTimeoutMillis = DEFAULT_SWARM_DISCOVERY_TIMEOUT_MILLIS;
+    private int minChunkSize = DEFAULT_MIN_CHUNK_SIZE;
+    private int maxChunkSize = DEFAULT_MAX_CHUNK_SIZE;
+    private int compressionLevel = DEFAULT_COMPRESSION_LEVEL;
+    private boolean deltaTransferEnabled = DEFAULT_DELTA_TRANSFER_ENABLED;
+    private boolean chunkStoreEnabled = DEFAULT_CHUNK_STORE_ENABLED;
+    private int maxChunkStoreMegabytes = DEFAULT_MAX_CHUNK_STORE_MEGABYTES;
+    private int maxUploadRate = DEFAULT_MAX_UPLOAD_RATE;
+    private int maxDownloadRate = DEFAULT_MAX_DOWNLOAD_RATE;
+    private int maxPeerUploadRate = DEFAULT_MAX_PEER_UPLOAD_RATE;
+    private int maxPeerDownloadRate = DEFAULT_MAX_PEER_DOWNLOAD_RATE;
+    private int bandwidthBurstSize = DEFAULT_BANDWIDTH_BURST_SIZE;
+    private int uploadSlots = DEFAULT_UPLOAD_SLOTS;
+    private boolean dataLaneEnabled = DEFAULT_DATA_LANE_ENABLED;
+    private int maxDataLanes = DEFAULT_MAX_DATA_LANES;
+    private int explicitFlushAfterFlushes = DEFAULT_EXPLICIT_FLUSH_AFTER_FLUSHES;
+    private boolean nativeTransportEnabled = DEFAULT_NATIVE_TRANSPORT_ENABLED;
+    private int acceptorThreads = DEFAULT_ACCEPTOR_THREADS;
+    private int tcpFastOpenQueueLength = DEFAULT_TCP_FAST_OPEN_QUEUE_LENGTH;
+    private int networkThreads = DEFAULT_NETWORK_THREADS;
+    private int getFilesPageSize = DEFAULT_GET_FILES_PAGE_SIZE;
+    private int peerThreads = DEFAULT_PEER_THREADS;
 
     public PeerConfig(String peerName) {
         this.peerName = peerName;
@@ -78,6 +150,282 @@ public class PeerConfig {
         this.keepAlivePeriodSeconds = keepAlivePeriodSeconds;
     }
 
+    public boolean isZeroCopyTransferEnabled() {
+        return zeroCopyTransferEnabled;
+    }
+
+    public void setZeroCopyTransferEnabled(boolean zeroCopyTransferEnabled) {
+        this.zeroCopyTransferEnabled = zeroCopyTransferEnabled;
+    }
+
+    public int getWriteBufferLowWaterMark() {
+        return writeBufferLowWaterMark;
+    }
+
+    public void setWriteBufferLowWaterMark(int writeBufferLowWaterMark) {
+        this.writeBufferLowWaterMark = writeBufferLowWaterMark;
+    }
+
+    public int getWriteBufferHighWaterMark() {
+        return writeBufferHighWaterMark;
+    }
+
+    public void setWriteBufferHighWaterMark(int writeBufferHighWaterMark) {
+        this.writeBufferHighWaterMark = writeBufferHighWaterMark;
+    }
+
+    public int getDiskIoThreads() {
+        return diskIoThreads;
+    }
+
+    public void setDiskIoThreads(int diskIoThreads) {
+        this.diskIoThreads = diskIoThreads;
+    }
+
+    public int getPieceSize() {
+        return pieceSize;
+    }
+
+    public void setPieceSize(int pieceSize) {
+        this.pieceSize = pieceSize;
+    }
+
+    public int getMinPieceSize() {
+        return minPieceSize;
+    }
+
+    public void setMinPieceSize(int minPieceSize) {
+        this.minPieceSize = minPieceSize;
+    }
+
+    public int getMaxPieceSize() {
+        return maxPieceSize;
+    }
+
+    public void setMaxPieceSize(int maxPieceSize) {
+        this.maxPieceSize = maxPieceSize;
+    }
+
+    public int getMaxPendingPieceRequests() {
+        return maxPendingPieceRequests;
+    }
+
+    public void setMaxPendingPieceRequests(int maxPendingPieceRequests) {
+        this.maxPendingPieceRequests = maxPendingPieceRequests;
+    }
+
+    public int getPieceTimeoutSeconds() {
+        return pieceTimeoutSeconds;
+    }
+
+    public void setPieceTimeoutSeconds(int pieceTimeoutSeconds) {
+        this.pieceTimeoutSeconds = pieceTimeoutSeconds;
+    }
+
+    public int getMaxPendingFileRequests() {
+        return maxPendingFileRequests;
+    }
+
+    public void setMaxPendingFileRequests(int maxPendingFileRequests) {
+        this.maxPendingFileRequests = maxPendingFileRequests;
+    }
+
+    public int getMaxPackedFileSize() {
+        return maxPackedFileSize;
+    }
+
+    public void setMaxPackedFileSize(int maxPackedFileSize) {
+        this.maxPackedFileSize = maxPackedFileSize;
+    }
+
+    public int getMaxPackedBatchSize() {
+        return maxPackedBatchSize;
+    }
+
+    public void setMaxPackedBatchSize(int maxPackedBatchSize) {
+        this.maxPackedBatchSize = maxPackedBatchSize;
+    }
+
+    public int getSwarmDiscoveryTimeoutMillis() {
+        return swarmDiscoveryTimeoutMillis;
+    }
+
+    public void setSwarmDiscoveryTimeoutMillis(int swarmDiscoveryTimeoutMillis) {
+        this.swarmDiscoveryTimeoutMillis = swarmDiscoveryTimeoutMillis;
+    }
+
+    public int getMinChunkSize() {
+        return minChunkSize;
+    }
+
+    public void setMinChunkSize(int minChunkSize) {
+        this.minChunkSize = minChunkSize;
+    }
+
+    public int getMaxChunkSize() {
+        return maxChunkSize;
+    }
+
+    public void setMaxChunkSize(int maxChunkSize) {
+        this.maxChunkSize = maxChunkSize;
+    }
+
+    public int getCompressionLevel() {
+        return compressionLevel;
+    }
+
+    public void setCompressionLevel(int compressionLevel) {
+        this.compressionLevel = compressionLevel;
+    }
+
+    public boolean isDeltaTransferEnabled() {
+        return deltaTransferEnabled;
+    }
+
+    public void setDeltaTransferEnabled(boolean deltaTransferEnabled) {
+        this.deltaTransferEnabled = deltaTransferEnabled;
+    }
+
+    public boolean isChunkStoreEnabled() {
+        return chunkStoreEnabled;
+    }
+
+    public void setChunkStoreEnabled(boolean chunkStoreEnabled) {
+        this.chunkStoreEnabled = chunkStoreEnabled;
+    }
+
+    public int getMaxChunkStoreMegabytes() {
+        return maxChunkStoreMegabytes;
+    }
+
+    public void setMaxChunkStoreMegabytes(int maxChunkStoreMegabytes) {
+        this.maxChunkStoreMegabytes = maxChunkStoreMegabytes;
+    }
+
+    public int getMaxUploadRate() {
+        return maxUploadRate;
+    }
+
+    public void setMaxUploadRate(int maxUploadRate) {
+        this.maxUploadRate = maxUploadRate;
+    }
+
+    public int getMaxDownloadRate() {
+        return maxDownloadRate;
+    }
+
+    public void setMaxDownloadRate(int maxDownloadRate) {
+        this.maxDownloadRate = maxDownloadRate;
+    }
+
+    public int getMaxPeerUploadRate() {
+        return maxPeerUploadRate;
+    }
+
+    public void setMaxPeerUploadRate(int maxPeerUploadRate) {
+        this.maxPeerUploadRate = maxPeerUploadRate;
+    }
+
+    public int getMaxPeerDownloadRate() {
+        return maxPeerDownloadRate;
+    }
+
+    public void setMaxPeerDownloadRate(int maxPeerDownloadRate) {
+        this.maxPeerDownloadRate = maxPeerDownloadRate;
+    }
+
+    public int getBandwidthBurstSize() {
+        return bandwidthBurstSize;
+    }
+
+    public void setBandwidthBurstSize(int bandwidthBurstSize) {
+        this.bandwidthBurstSize = bandwidthBurstSize;
+    }
+
+    public int getUploadSlots() {
+        return uploadSlots;
+    }
+
+    public void setUploadSlots(int uploadSlots) {
+        this.uploadSlots = uploadSlots;
+    }
+
+    public boolean isDataLaneEnabled() {
+        return dataLaneEnabled;
+    }
+
+    public void setDataLaneEnabled(boolean dataLaneEnabled) {
+        this.dataLaneEnabled = dataLaneEnabled;
+    }
+
+    public int getMaxDataLanes() {
+        return maxDataLanes;
+    }
+
+    public void setMaxDataLanes(int maxDataLanes) {
+        this.maxDataLanes = maxDataLanes;
+    }
+
+    public int getExplicitFlushAfterFlushes() {
+        return explicitFlushAfterFlushes;
+    }
+
+    public void setExplicitFlushAfterFlushes(int explicitFlushAfterFlushes) {
+        this.explicitFlushAfterFlushes = explicitFlushAfterFlushes;
+    }
+
+    public boolean isNativeTransportEnabled() {
+        return nativeTransportEnabled;
+    }
+
+    public void setNativeTransportEnabled(boolean nativeTransportEnabled) {
+        this.nativeTransportEnabled = nativeTransportEnabled;
+    }
+
+    public int getAcceptorThreads() {
+        return acceptorThreads;
+    }
+
+    public void setAcceptorThreads(int acceptorThreads) {
+        this.acceptorThreads = acceptorThreads;
+    }
+
+    public int getTcpFastOpenQueueLength() {
+        return tcpFastOpenQueueLength;
+    }
+
+    public void setTcpFastOpenQueueLength(int tcpFastOpenQueueLength) {
+        this.tcpFastOpenQueueLength = tcpFastOpenQueueLength;
+    }
+
+    public int getNetworkThreads() {
+        return networkThreads;
+    }
+
+    public void setNetworkThreads(int networkThreads) {
+        this.networkThreads = networkThreads;
+    }
+
+    public int getPeerThreads() {
+        return peerThreads;
+    }
+
+    public void setPeerThreads(int peerThreads) {
+        this.peerThreads = peerThreads;
+    }
+
+    public int getGetFilesPageSize() {
+        return getFilesPageSize;
+    }
+
+    public void setGetFilesPageSize(int getFilesPageSize) {
+        this.getFilesPageSize = getFilesPageSize;
+    }
+
+    public WriteBufferWaterMark getWriteBufferWaterMark() {
+        return new WriteBufferWaterMark(writeBufferLowWaterMark, writeBufferHighWaterMark);
+    }
+
     @Override
     public String toString() {
         return "PeerConfig{" +
@@ -88,6 +436,40 @@ public class PeerConfig {
                 ", maxNumberOfActiveConnections=" + maxNumberOfActiveConnections +
                 ", autoDiscoveryPingFrequency=" + autoDiscoveryPingFrequency +
                 ", keepAlivePeriodSeconds=" + keepAlivePeriodSeconds +
+                ", zeroCopyTransferEnabled=" + zeroCopyTransferEnabled +
+                ", writeBufferLowWaterMark=" + writeBufferLowWaterMark +
+                ", writeBufferHighWaterMark=" + writeBufferHighWaterMark +
+                ", diskIoThreads=" + diskIoThreads +
+                ", pieceSize=" + pieceSize +
+                ", minPieceSize=" + minPieceSize +
+                ", maxPieceSize=" + maxPieceSize +
+                ", maxPendingPieceRequests=" + maxPendingPieceRequests +
+                ", pieceTimeoutSeconds=" + pieceTimeoutSeconds +
+                ", maxPendingFileRequests=" + maxPendingFileRequests +
+                ", maxPackedFileSize=" + maxPackedFileSize +
+                ", maxPackedBatchSize=" + maxPackedBatchSize +
+                ", swarmDiscoveryTimeoutMillis=" + swarmDiscoveryTimeoutMillis +
+                ", minChunkSize=" + minChunkSize +
+                ", maxChunkSize=" + maxChunkSize +
+                ", compressionLevel=" + compressionLevel +
+                ", deltaTransferEnabled=" + deltaTransferEnabled +
+                ", chunkStoreEnabled=" + chunkStoreEnabled +
+                ", maxChunkStoreMegabytes=" + maxChunkStoreMegabytes +
+                ", maxUploadRate=" + maxUploadRate +
+                ", maxDownloadRate=" + maxDownloadRate +
+                ", maxPeerUploadRate=" + maxPeerUploadRate +
+                ", maxPeerDownloadRate=" + maxPeerDownloadRate +
+                ", bandwidthBurstSize=" + bandwidthBurstSize +
+                ", uploadSlots=" + uploadSlots +
+                ", dataLaneEnabled=" + dataLaneEnabled +
+                ", maxDataLanes=" + maxDataLanes +
+                ", explicitFlushAfterFlushes=" + explicitFlushAfterFlushes +
+                ", nativeTransportEnabled=" + nativeTransportEnabled +
+                ", acceptorThreads=" + acceptorThreads +
+                ", tcpFastOpenQueueLength=" + tcpFastOpenQueueLength +
+                ", networkThreads=" + networkThreads +
+                ", peerThreads=" + peerThreads +
+                ", getFilesPageSize=" + getFilesPageSize +
                 '}';
     }
 }
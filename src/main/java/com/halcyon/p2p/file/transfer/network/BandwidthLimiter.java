@@ -0,0 +1,145 @@
+package com.halcyon.p2p.file.transfer.network;
+
+import com.halcyon.p2p.file.transfer.config.PeerConfig;
+import com.halcyon.p2p.file.transfer.proto.General.ProtobufMessage;
+import io.netty.channel.FileRegion;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+import static java.lang.Math.max;
+
+// Only file data is shaped, so pings, keep-alives and requests are never held back behind a transfer. Every file data message
+// passes a global bucket of its direction and the bucket of its peer, whichever makes it wait longer wins.
+public class BandwidthLimiter {
+    public enum Direction {
+        UPLOAD {
+            @Override
+            int getGlobalRate(PeerConfig peerConfig) {
+                return peerConfig.getMaxUploadRate();
+            }
+
+            @Override
+            void setGlobalRate(PeerConfig peerConfig, int rate) {
+                peerConfig.setMaxUploadRate(rate);
+            }
+
+            @Override
+            int getPeerRate(PeerConfig peerConfig) {
+                return peerConfig.getMaxPeerUploadRate();
+            }
+        },
+
+        DOWNLOAD {
+            @Override
+            int getGlobalRate(PeerConfig peerConfig) {
+                return peerConfig.getMaxDownloadRate();
+            }
+
+            @Override
+            void setGlobalRate(PeerConfig peerConfig, int rate) {
+                peerConfig.setMaxDownloadRate(rate);
+            }
+
+            @Override
+            int getPeerRate(PeerConfig peerConfig) {
+                return peerConfig.getMaxPeerDownloadRate();
+            }
+        };
+
+        abstract int getGlobalRate(PeerConfig peerConfig);
+
+        abstract void setGlobalRate(PeerConfig peerConfig, int rate);
+
+        abstract int getPeerRate(PeerConfig peerConfig);
+    }
+
+    private final PeerConfig peerConfig;
+    private final LongSupplier nanoClock;
+    private final Map<Direction, TokenBucket> directionToGlobalBucketMap = new EnumMap<>(Direction.class);
+    private final Map<Direction, Map<String, TokenBucket>> directionToPeerBucketsMap = new EnumMap<>(Direction.class);
+    // Rates set for a single peer at runtime, other peers get the configured per peer rate
+    private final Map<Direction, Map<String, Integer>> directionToPeerRatesMap = new EnumMap<>(Direction.class);
+
+    public BandwidthLimiter(PeerConfig peerConfig) {
+        this(peerConfig, System::nanoTime);
+    }
+
+    BandwidthLimiter(PeerConfig peerConfig, LongSupplier nanoClock) {
+        this.peerConfig = peerConfig;
+        this.nanoClock = nanoClock;
+
+        for (Direction direction : Direction.values()) {
+            directionToGlobalBucketMap.put(direction, new TokenBucket(direction.getGlobalRate(peerConfig), peerConfig.getBandwidthBurstSize(),
+                    nanoClock));
+            directionToPeerBucketsMap.put(direction, new ConcurrentHashMap<>());
+            directionToPeerRatesMap.put(direction, new ConcurrentHashMap<>());
+        }
+    }
+
+    // Returns the size charged for a message, or -1 if the message isn't file data. A FileRegion is charged with its header.
+    public static long getFileDataSize(Object message) {
+        if (message instanceof FileRegion) {
+            return 0;
+        }
+
+        if (message instanceof FileData fileData) {
+            return fileData.getHeader().getSerializedSize() + fileData.getLength();
+        }
+
+        if (!(message instanceof ProtobufMessage protobufMessage)) {
+            return -1;
+        }
+
+        return switch (protobufMessage.getPayloadCase()) {
+            case FILERESPONSE -> protobufMessage.getSerializedSize() + protobufMessage.getFileResponse().getPayloadLength();
+            case PACKEDFILERESPONSE, DELTARESPONSE, CHUNKRESPONSE -> protobufMessage.getSerializedSize();
+            default -> -1;
+        };
+    }
+
+    // Returns how many nanoseconds the bytes have to wait, peerName is null before the handshake
+    public long reserve(Direction direction, String peerName, long bytes) {
+        long delayNanos = directionToGlobalBucketMap.get(direction).reserve(bytes);
+
+        if (peerName != null) {
+            delayNanos = max(delayNanos, getPeerBucket(direction, peerName).reserve(bytes));
+        }
+
+        return delayNanos;
+    }
+
+    public boolean isLimited(Direction direction, String peerName) {
+        return directionToGlobalBucketMap.get(direction).getRate() > 0 || (peerName != null && getPeerBucket(direction, peerName).getRate() > 0);
+    }
+
+    // Sets the global rate if peerName is null, a rate of 0 removes the limit
+    public void setRate(Direction direction, String peerName, int rate) {
+        if (peerName == null) {
+            direction.setGlobalRate(peerConfig, rate);
+            directionToGlobalBucketMap.get(direction).setRate(rate, peerConfig.getBandwidthBurstSize());
+        } else {
+            directionToPeerRatesMap.get(direction).put(peerName, rate);
+            getPeerBucket(direction, peerName).setRate(rate, peerConfig.getBandwidthBurstSize());
+        }
+    }
+
+    private TokenBucket getPeerBucket(Direction direction, String peerName) {
+        return directionToPeerBucketsMap.get(direction).computeIfAbsent(peerName, name -> new TokenBucket(getPeerRate(direction, name),
+                peerConfig.getBandwidthBurstSize(), nanoClock));
+    }
+
+    private int getPeerRate(Direction direction, String peerName) {
+        return directionToPeerRatesMap.get(direction).getOrDefault(peerName, direction.getPeerRate(peerConfig));
+    }
+
+    @Override
+    public String toString() {
+        return "BandwidthLimiter{" +
+                "globalBuckets=" + directionToGlobalBucketMap +
+                ", peerBuckets=" + directionToPeerBucketsMap +
+                '}';
+    }
+}
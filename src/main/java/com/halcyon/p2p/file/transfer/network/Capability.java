@@ -0,0 +1,47 @@
+package com.halcyon.p2p.file.transfer.network;
+
+import com.halcyon.p2p.file.transfer.config.PeerConfig;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+// Capabilities announce what a peer is able to decode, a sender only uses one the other side announced in its handshake
+public enum Capability {
+    DEFLATE("deflate"),
+    // Compressed file chunks travel as raw payloads after their header instead of inside it
+    DEFLATE_PAYLOAD("deflate-payload"),
+    CHUNK_STORE("chunk-store"),
+    // Unlike the others it is only announced when enabled, as both sides have to take part in opening the lane
+    DATA_LANE("data-lane");
+
+    private final String name;
+
+    Capability(String name) {
+        this.name = name;
+    }
+
+    public static List<String> getNames(PeerConfig peerConfig) {
+        return EnumSet.allOf(Capability.class).stream()
+                .filter(capability -> capability != DATA_LANE || peerConfig.isDataLaneEnabled())
+                .map(Capability::getName)
+                .toList();
+    }
+
+    public static Set<Capability> negotiate(Collection<String> remoteNames) {
+        Set<Capability> capabilities = EnumSet.noneOf(Capability.class);
+
+        for (Capability capability : values()) {
+            if (remoteNames.contains(capability.getName())) {
+                capabilities.add(capability);
+            }
+        }
+
+        return capabilities;
+    }
+
+    public String getName() {
+        return name;
+    }
+}
@@ -0,0 +1,116 @@
+package com.halcyon.p2p.file.transfer.network;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+
+// Sizes chunks so that one chunk takes about TARGET_CHUNK_NANOS to drain at the throughput observed on the connection, or longer on
+// a slow round trip so that CHUNKS_PER_ROUND_TRIP chunks cover the bandwidth-delay product. Sent chunks and round trips are only
+// reported on peerEventLoop, while the chunk size may be read from any thread.
+public class ChunkSizeController {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ChunkSizeController.class);
+
+    private static final long TARGET_CHUNK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SAMPLE_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long IDLE_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final int CHUNKS_PER_ROUND_TRIP = 4;
+
+    private final String peerName;
+    private final int minChunkSize;
+    private final int maxChunkSize;
+    private final LongSupplier nanoClock;
+
+    private volatile int chunkSize;
+    private long roundTripNanos;
+    private long sampleStartNanos;
+    private long sampleBytes;
+    private long lastChunkNanos;
+
+    public ChunkSizeController(String peerName, int minChunkSize, int maxChunkSize) {
+        this(peerName, minChunkSize, maxChunkSize, System::nanoTime);
+    }
+
+    ChunkSizeController(String peerName, int minChunkSize, int maxChunkSize, LongSupplier nanoClock) {
+        this.peerName = peerName;
+        this.minChunkSize = minChunkSize;
+        this.maxChunkSize = max(minChunkSize, maxChunkSize);
+        this.nanoClock = nanoClock;
+        this.chunkSize = minChunkSize;
+    }
+
+    public static ChunkSizeController negotiate(String peerName, int localMinChunkSize, int localMaxChunkSize, int remoteMinChunkSize,
+                                                int remoteMaxChunkSize) {
+        int maxChunkSize = remoteMaxChunkSize > 0 ? min(localMaxChunkSize, remoteMaxChunkSize) : localMaxChunkSize;
+        int minChunkSize = min(max(localMinChunkSize, remoteMinChunkSize), maxChunkSize);
+
+        return new ChunkSizeController(peerName, minChunkSize, maxChunkSize);
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    // Called with the time a ping to the peer took to come back as its pong
+    public void handleRoundTrip(long roundTripNanos) {
+        this.roundTripNanos = roundTripNanos;
+    }
+
+    public void handleChunkSent(int bytes) {
+        long now = nanoClock.getAsLong();
+
+        if (lastChunkNanos == 0 || now - lastChunkNanos > IDLE_NANOS) {
+            sampleStartNanos = now;
+            sampleBytes = 0;
+        }
+
+        sampleBytes += bytes;
+        lastChunkNanos = now;
+
+        long elapsedNanos = now - sampleStartNanos;
+
+        if (elapsedNanos < SAMPLE_NANOS) {
+            return;
+        }
+
+        long targetChunkSize = sampleBytes * max(TARGET_CHUNK_NANOS, roundTripNanos / CHUNKS_PER_ROUND_TRIP) / elapsedNanos;
+        int previousChunkSize = chunkSize;
+
+        if (targetChunkSize > chunkSize) {
+            chunkSize = (int) min((long) chunkSize * 2, maxChunkSize);
+        } else if (targetChunkSize < chunkSize / 2) {
+            chunkSize = max(chunkSize / 2, minChunkSize);
+        }
+
+        if (chunkSize != previousChunkSize) {
+            LOGGER.info("Chunk size for {} changed from {} to {} bytes at {} bytes/s", peerName, previousChunkSize, chunkSize,
+                    sampleBytes * TimeUnit.SECONDS.toNanos(1) / elapsedNanos);
+        }
+
+        sampleStartNanos = now;
+        sampleBytes = 0;
+    }
+
+    public int getMinChunkSize() {
+        return minChunkSize;
+    }
+
+    public int getMaxChunkSize() {
+        return maxChunkSize;
+    }
+
+    @Override
+    public String toString() {
+        return "ChunkSizeController{" +
+                "peerName='" + peerName + '\'' +
+                ", chunkSize=" + chunkSize +
+                ", minChunkSize=" + minChunkSize +
+                ", maxChunkSize=" + maxChunkSize +
+                ", roundTripNanos=" + roundTripNanos +
+                '}';
+    }
+}
@@ -1,31 +1,178 @@
 package com.halcyon.p2p.file.transfer.network;
 
 import com.halcyon.p2p.file.transfer.proto.General.ProtobufMessage;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.FileRegion;
+import io.netty.handler.stream.ChunkedInput;
+import io.netty.handler.stream.ChunkedWriteHandler;
+import io.netty.handler.timeout.IdleStateHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.net.SocketAddress;
+import java.nio.channels.ClosedChannelException;
+import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 
 public class Connection {
     private static final Logger LOGGER = LoggerFactory.getLogger(Connection.class);
 
     private final ChannelHandlerContext ctx;
+    private final LongAdder fileDataReceived = new LongAdder();
+    private final LongAdder fileDataSent = new LongAdder();
+    private final List<ChannelHandlerContext> dataLaneContexts = new CopyOnWriteArrayList<>();
+    private final AtomicInteger dataLaneCounter = new AtomicInteger();
     private String peerName;
-    private boolean isOpen = false;
+    private ChunkSizeController chunkSizeController;
+    private DataLaneController dataLaneController;
+    private Set<Capability> capabilities = Set.of();
+    private volatile boolean isOpen = false;
 
     public Connection(ChannelHandlerContext ctx) {
         this.ctx = ctx;
     }
 
-    public void send(ProtobufMessage message) {
+    public ChannelFuture send(ProtobufMessage message) {
+        return send(message, 0);
+    }
+
+    public ChannelFuture send(ProtobufMessage message, int dataLaneIndex) {
         if (isOpen()) {
-            ctx.writeAndFlush(message);
+            return getWriteContext(message, dataLaneIndex).writeAndFlush(message);
+        }
+
+        LOGGER.warn("Can't send message because {} is closed", this);
+        return ctx.newFailedFuture(new ClosedChannelException());
+    }
+
+    public void write(ProtobufMessage message) {
+        write(message, 0);
+    }
+
+    public void write(ProtobufMessage message, int dataLaneIndex) {
+        if (isOpen()) {
+            ChannelHandlerContext writeContext = getWriteContext(message, dataLaneIndex);
+            writeContext.write(message, writeContext.voidPromise());
         } else {
-            LOGGER.warn("Can't send message because {} is closed", this);
+            LOGGER.warn("Can't write message because {} is closed", this);
+        }
+    }
+
+    // Everything answering one request goes over the same lane so that it arrives in order, while the requests of a peer are spread
+    // over all lanes. Lanes are only ever added, so the index stays valid.
+    public int nextDataLaneIndex() {
+        int numberOfDataLanes = dataLaneContexts.size();
+
+        return numberOfDataLanes > 1 ? Math.floorMod(dataLaneCounter.getAndIncrement(), numberOfDataLanes) : 0;
+    }
+
+    // File data takes a data lane when there is one. Without it ChunkedWriteHandler queues every write behind the file being sent,
+    // so other messages start below it and only wait for file data that is already on its way.
+    private ChannelHandlerContext getWriteContext(ProtobufMessage message, int dataLaneIndex) {
+        if (BandwidthLimiter.getFileDataSize(message) >= 0) {
+            return getDataContext(dataLaneIndex);
+        }
+
+        ChannelHandlerContext chunkedWriteContext = ctx.pipeline().context(ChunkedWriteHandler.class);
+
+        return chunkedWriteContext != null ? chunkedWriteContext : ctx;
+    }
+
+    private ChannelHandlerContext getDataContext(int dataLaneIndex) {
+        return dataLaneIndex < dataLaneContexts.size() ? dataLaneContexts.get(dataLaneIndex) : ctx;
+    }
+
+    public void flush() {
+        if (isOpen()) {
+            ctx.flush();
+
+            for (ChannelHandlerContext dataLaneCtx : dataLaneContexts) {
+                dataLaneCtx.flush();
+            }
+        }
+    }
+
+    public ChannelFuture sendFileData(FileData fileData, int dataLaneIndex) {
+        if (isOpen()) {
+            return getDataContext(dataLaneIndex).writeAndFlush(fileData);
+        }
+
+        fileData.release();
+        LOGGER.warn("Can't send file data because {} is closed", this);
+        return ctx.newFailedFuture(new ClosedChannelException());
+    }
+
+    // The header in front of a region promised its length, so a region cut short by a truncated file leaves the peer reading frames
+    // out of the middle of the file. The lane is closed instead, which ends the session and lets the peer ask again.
+    public ChannelFuture sendFileRegion(FileRegion fileRegion, int dataLaneIndex) {
+        if (isOpen()) {
+            return getDataContext(dataLaneIndex).writeAndFlush(fileRegion).addListener(ChannelFutureListener.CLOSE_ON_FAILURE);
+        }
+
+        fileRegion.release();
+        LOGGER.warn("Can't send file region because {} is closed", this);
+        return ctx.newFailedFuture(new ClosedChannelException());
+    }
+
+    public void sendChunkedInput(ChunkedInput<?> chunkedInput, int dataLaneIndex) {
+        if (isOpen()) {
+            getDataContext(dataLaneIndex).writeAndFlush(chunkedInput);
+            return;
+        }
+
+        LOGGER.warn("Can't send chunked input because {} is closed", this);
+
+        try {
+            chunkedInput.close();
+        } catch (Exception e) {
+            LOGGER.error("Error occurred while closing chunked input for {}", this, e);
+        }
+    }
+
+    public void resumeTransfer() {
+        if (dataLaneContexts.isEmpty()) {
+            resumeTransfer(ctx);
+            return;
+        }
+
+        for (ChannelHandlerContext dataLaneCtx : dataLaneContexts) {
+            resumeTransfer(dataLaneCtx);
         }
     }
 
+    private static void resumeTransfer(ChannelHandlerContext ctx) {
+        ChunkedWriteHandler chunkedWriteHandler = ctx.pipeline().get(ChunkedWriteHandler.class);
+
+        if (chunkedWriteHandler != null) {
+            chunkedWriteHandler.resumeTransfer();
+        }
+    }
+
+    // Called on the channel's event loop for every file data message received, read by the upload scheduler to reward uploaders
+    public void handleFileDataReceived(long bytes) {
+        fileDataReceived.add(bytes);
+    }
+
+    public long getFileDataReceived() {
+        return fileDataReceived.sum();
+    }
+
+    // Called on the channel's event loop for every file data message sent
+    public void handleFileDataSent(long bytes) {
+        fileDataSent.add(bytes);
+    }
+
+    public long getFileDataSent() {
+        return fileDataSent.sum();
+    }
+
     public void close() {
         LOGGER.info("Closing session for {}", this);
 
@@ -33,11 +180,60 @@ public class Connection {
             ctx.close();
             isOpen = false;
         }
+
+        for (ChannelHandlerContext dataLaneCtx : dataLaneContexts) {
+            dataLaneCtx.close();
+        }
     }
 
-    public void open(String peerName) {
-        this.isOpen = true;
+    // Lanes share this connection's session, their idleness is fine as the control channel already watches the peer
+    public static void bindDataLane(ChannelHandlerContext dataLaneCtx, Connection connection) {
+        PeerChannelHandler.getSessionConnection(dataLaneCtx).set(connection);
+
+        if (dataLaneCtx.pipeline().get(IdleStateHandler.class) != null) {
+            dataLaneCtx.pipeline().remove(IdleStateHandler.class);
+        }
+    }
+
+    // Called on the peer event loop once both sides are ready to use the lane
+    public void attachDataLane(ChannelHandlerContext dataLaneCtx) {
+        bindDataLane(dataLaneCtx, this);
+        dataLaneContexts.add(dataLaneCtx);
+        LOGGER.info("The data lane {} is attached to {} as lane {} of {}", dataLaneCtx.channel().remoteAddress(), peerName,
+                dataLaneContexts.size(), dataLaneController.getMaxDataLanes());
+    }
+
+    public boolean isAttached(ChannelHandlerContext channelCtx) {
+        return channelCtx == ctx || dataLaneContexts.contains(channelCtx);
+    }
+
+    public boolean isControlChannel(Channel channel) {
+        return ctx.channel() == channel;
+    }
+
+    public boolean hasDataLane() {
+        return !dataLaneContexts.isEmpty();
+    }
+
+    public int getNumberOfDataLanes() {
+        return dataLaneContexts.size();
+    }
+
+    public boolean isOutbound() {
+        return ctx.channel().parent() == null;
+    }
+
+    public SocketAddress getRemoteAddress() {
+        return ctx.channel().remoteAddress();
+    }
+
+    public void open(String peerName, ChunkSizeController chunkSizeController, DataLaneController dataLaneController,
+                     Set<Capability> capabilities) {
         this.peerName = peerName;
+        this.chunkSizeController = chunkSizeController;
+        this.dataLaneController = dataLaneController;
+        this.capabilities = capabilities;
+        this.isOpen = true;
     }
 
     public boolean isOpen() {
@@ -48,6 +244,18 @@ public class Connection {
         return peerName;
     }
 
+    public ChunkSizeController getChunkSizeController() {
+        return chunkSizeController;
+    }
+
+    public DataLaneController getDataLaneController() {
+        return dataLaneController;
+    }
+
+    public boolean hasCapability(Capability capability) {
+        return capabilities.contains(capability);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (this == other) {
@@ -72,6 +280,8 @@ public class Connection {
         return "Connection{" +
                 "isOpen=" + isOpen() +
                 ", peerName='" + peerName + '\'' +
+                ", capabilities=" + capabilities +
+                ", numberOfDataLanes=" + getNumberOfDataLanes() +
                 '}';
     }
 }
@@ -0,0 +1,98 @@
+package com.halcyon.p2p.file.transfer.network;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+
+// Probes for more data lanes while file data flows: the next lane is opened as long as the previous one raised the throughput by
+// MIN_GAIN_PERCENT, so a single TCP stream that can't fill a long fat link gets company until the link is full. An idle period
+// starts the probing over.
+public class DataLaneController {
+    private static final Logger LOGGER = LoggerFactory.getLogger(DataLaneController.class);
+
+    public static final int PROBE_PERIOD_SECONDS = 2;
+    private static final int MIN_GAIN_PERCENT = 10;
+
+    private final String peerName;
+    private final int maxDataLanes;
+    private final LongSupplier nanoClock;
+
+    private long lastBytes;
+    private long lastNanos;
+    private long rateBeforeLastLane;
+    private int targetDataLanes = 1;
+    private boolean isSaturated;
+
+    public DataLaneController(String peerName, int maxDataLanes) {
+        this(peerName, maxDataLanes, System::nanoTime);
+    }
+
+    DataLaneController(String peerName, int maxDataLanes, LongSupplier nanoClock) {
+        this.peerName = peerName;
+        this.maxDataLanes = max(maxDataLanes, 1);
+        this.nanoClock = nanoClock;
+    }
+
+    public static DataLaneController negotiate(String peerName, int localMaxDataLanes, int remoteMaxDataLanes) {
+        return new DataLaneController(peerName, min(localMaxDataLanes, max(remoteMaxDataLanes, 1)));
+    }
+
+    // Called every PROBE_PERIOD_SECONDS with the file data sent and received so far, returns whether to open another lane
+    public boolean shouldAddDataLane(long bytes, int numberOfDataLanes) {
+        long now = nanoClock.getAsLong();
+        long elapsedNanos = now - lastNanos;
+        long periodBytes = bytes - lastBytes;
+
+        boolean isFirstSample = lastNanos == 0;
+        lastBytes = bytes;
+        lastNanos = now;
+
+        if (isFirstSample || elapsedNanos <= 0) {
+            return false;
+        }
+
+        long rate = periodBytes * TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+
+        if (rate == 0) {
+            rateBeforeLastLane = 0;
+            isSaturated = false;
+            return false;
+        }
+
+        if (isSaturated || numberOfDataLanes < targetDataLanes || numberOfDataLanes >= maxDataLanes) {
+            return false;
+        }
+
+        if (rateBeforeLastLane > 0 && rate * 100 < rateBeforeLastLane * (100 + MIN_GAIN_PERCENT)) {
+            isSaturated = true;
+            LOGGER.info("{} data lanes to {} reached {} bytes/s, lane {} didn't raise it by {}%", numberOfDataLanes, peerName, rate,
+                    numberOfDataLanes, MIN_GAIN_PERCENT);
+            return false;
+        }
+
+        rateBeforeLastLane = rate;
+        targetDataLanes = numberOfDataLanes + 1;
+        LOGGER.info("Opening data lane {} to {} at {} bytes/s", targetDataLanes, peerName, rate);
+
+        return true;
+    }
+
+    public int getMaxDataLanes() {
+        return maxDataLanes;
+    }
+
+    @Override
+    public String toString() {
+        return "DataLaneController{" +
+                "peerName='" + peerName + '\'' +
+                ", maxDataLanes=" + maxDataLanes +
+                ", targetDataLanes=" + targetDataLanes +
+                ", isSaturated=" + isSaturated +
+                '}';
+    }
+}
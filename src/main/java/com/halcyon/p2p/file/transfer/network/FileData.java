@@ -0,0 +1,81 @@
+package com.halcyon.p2p.file.transfer.network;
+
+import com.halcyon.p2p.file.transfer.proto.File.FileResponse;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.DefaultByteBufHolder;
+
+// A FileResponse header with its payload kept in a ByteBuf, so file bytes go between the socket and the disk without a heap copy.
+// On the wire the header carries the payload length and the raw payload follows it. Whoever ends up holding it has to release it.
+public class FileData extends DefaultByteBufHolder {
+    private final FileResponse header;
+
+    public FileData(FileResponse header, ByteBuf payload) {
+        super(payload);
+        this.header = header;
+    }
+
+    public FileResponse getHeader() {
+        return header;
+    }
+
+    public String getFileName() {
+        return header.getFileName();
+    }
+
+    public long getOffset() {
+        return header.getOffset();
+    }
+
+    public int getLength() {
+        return content().readableBytes();
+    }
+
+    // The number of file bytes it stands for, which differs from its length while compressed
+    public int getUncompressedLength() {
+        return header.getCompressed() ? header.getUncompressedLength() : getLength();
+    }
+
+    public boolean isLastChunk() {
+        return header.getIsLastChunk();
+    }
+
+    @Override
+    public FileData replace(ByteBuf payload) {
+        return new FileData(header, payload);
+    }
+
+    @Override
+    public FileData retain() {
+        super.retain();
+        return this;
+    }
+
+    @Override
+    public FileData retain(int increment) {
+        super.retain(increment);
+        return this;
+    }
+
+    @Override
+    public FileData touch() {
+        super.touch();
+        return this;
+    }
+
+    @Override
+    public FileData touch(Object hint) {
+        super.touch(hint);
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return "FileData{" +
+                "fileName='" + getFileName() + '\'' +
+                ", offset=" + getOffset() +
+                ", length=" + getLength() +
+                ", compressed=" + header.getCompressed() +
+                ", isLastChunk=" + isLastChunk() +
+                '}';
+    }
+}
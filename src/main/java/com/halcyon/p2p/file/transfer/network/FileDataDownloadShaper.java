@@ -0,0 +1,123 @@
+package com.halcyon.p2p.file.transfer.network;
+
+import com.halcyon.p2p.file.transfer.network.BandwidthLimiter.Direction;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.util.ReferenceCountUtil;
+import io.netty.util.concurrent.ScheduledFuture;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import static java.lang.Math.max;
+
+// Holds received file data back until the token buckets let it pass while other messages go on right away. Once too much is held
+// back a data lane stops reading, so TCP flow control slows the sender down. The control channel carries file data too when there are
+// no data lanes, and a control message there would wait for everything unread in front of it, so it keeps reading. What it holds
+// is bounded by the pieces and files requested from the peer, and only past MAX_CONTROL_PENDING_BYTES does it stop reading as well.
+public class FileDataDownloadShaper extends ChannelInboundHandlerAdapter {
+    private static final int MAX_PENDING_BYTES = 1024 * 1024;
+    private static final int MAX_CONTROL_PENDING_BYTES = 64 * 1024 * 1024;
+
+    private final BandwidthLimiter bandwidthLimiter;
+    private final LongSupplier nanoClock;
+
+    private final Deque<PendingRead> pendingReads = new ArrayDeque<>();
+    private long pendingBytes;
+    private ScheduledFuture<?> drainFuture;
+
+    public FileDataDownloadShaper(BandwidthLimiter bandwidthLimiter) {
+        this(bandwidthLimiter, System::nanoTime);
+    }
+
+    FileDataDownloadShaper(BandwidthLimiter bandwidthLimiter, LongSupplier nanoClock) {
+        this.bandwidthLimiter = bandwidthLimiter;
+        this.nanoClock = nanoClock;
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) {
+        long size = BandwidthLimiter.getFileDataSize(msg);
+
+        if (size < 0) {
+            ctx.fireChannelRead(msg);
+            return;
+        }
+
+        Connection connection = PeerChannelHandler.getSessionConnection(ctx).get();
+
+        if (connection != null) {
+            connection.handleFileDataReceived(size);
+        }
+
+        long now = nanoClock.getAsLong();
+        long releaseNanos = now + bandwidthLimiter.reserve(Direction.DOWNLOAD, connection != null ? connection.getPeerName() : null, size);
+
+        if (pendingReads.isEmpty() && releaseNanos == now) {
+            ctx.fireChannelRead(msg);
+            return;
+        }
+
+        if (!pendingReads.isEmpty()) {
+            releaseNanos = max(releaseNanos, pendingReads.peekLast().releaseNanos());
+        }
+
+        pendingReads.addLast(new PendingRead(msg, size, releaseNanos));
+        pendingBytes += size;
+
+        if (pendingBytes > getMaxPendingBytes(ctx, connection)) {
+            ctx.channel().config().setAutoRead(false);
+        }
+
+        scheduleDrain(ctx);
+    }
+
+    private static int getMaxPendingBytes(ChannelHandlerContext ctx, Connection connection) {
+        return connection != null && connection.isControlChannel(ctx.channel()) ? MAX_CONTROL_PENDING_BYTES : MAX_PENDING_BYTES;
+    }
+
+    private void scheduleDrain(ChannelHandlerContext ctx) {
+        if (drainFuture != null || pendingReads.isEmpty()) {
+            return;
+        }
+
+        long delayNanos = pendingReads.peekFirst().releaseNanos() - nanoClock.getAsLong();
+        drainFuture = ctx.executor().schedule(() -> drain(ctx), max(delayNanos, 0), TimeUnit.NANOSECONDS);
+    }
+
+    private void drain(ChannelHandlerContext ctx) {
+        drainFuture = null;
+        long now = nanoClock.getAsLong();
+
+        while (!pendingReads.isEmpty() && pendingReads.peekFirst().releaseNanos() <= now) {
+            PendingRead pendingRead = pendingReads.pollFirst();
+            pendingBytes -= pendingRead.size();
+            ctx.fireChannelRead(pendingRead.msg());
+        }
+
+        Connection connection = PeerChannelHandler.getSessionConnection(ctx).get();
+
+        if (pendingBytes <= getMaxPendingBytes(ctx, connection) / 2 && !ctx.channel().config().isAutoRead()) {
+            ctx.channel().config().setAutoRead(true);
+        }
+
+        scheduleDrain(ctx);
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) {
+        if (drainFuture != null) {
+            drainFuture.cancel(false);
+        }
+
+        pendingReads.forEach(pendingRead -> ReferenceCountUtil.release(pendingRead.msg()));
+        pendingReads.clear();
+
+        ctx.fireChannelInactive();
+    }
+
+    private record PendingRead(Object msg, long size, long releaseNanos) {
+    }
+}
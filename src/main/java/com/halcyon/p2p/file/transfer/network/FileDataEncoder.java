@@ -0,0 +1,19 @@
+package com.halcyon.p2p.file.transfer.network;
+
+import com.halcyon.p2p.file.transfer.proto.General.ProtobufMessage;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.MessageToMessageEncoder;
+
+import java.util.List;
+
+// Splits FileData into its header, which ProtobufBatchEncoder frames like any other message, and the payload that follows it as it
+// is, so the socket gathers both in a single write and the file bytes are never copied into a protobuf message
+public class FileDataEncoder extends MessageToMessageEncoder<FileData> {
+    @Override
+    protected void encode(ChannelHandlerContext ctx, FileData fileData, List<Object> out) {
+        out.add(ProtobufMessage.newBuilder()
+                .setFileResponse(fileData.getHeader())
+                .build());
+        out.add(fileData.content().retain());
+    }
+}
@@ -0,0 +1,127 @@
+package com.halcyon.p2p.file.transfer.network;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
+import com.halcyon.p2p.file.transfer.proto.General.ProtobufMessage;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.CorruptedFrameException;
+import io.netty.handler.codec.MessageToMessageDecoder;
+import io.netty.util.ReferenceCountUtil;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+// Restores compressed file data on the network thread, so the services only ever see raw bytes
+public class FileDataInflater extends MessageToMessageDecoder<Object> {
+    static final int MAX_UNCOMPRESSED_LENGTH = 64 * 1024 * 1024;
+
+    private final Inflater inflater = new Inflater();
+
+    @Override
+    protected void decode(ChannelHandlerContext ctx, Object msg, List<Object> out) throws Exception {
+        if (msg instanceof FileData fileData) {
+            out.add(fileData.getHeader().getCompressed() ? inflate(ctx, fileData) : fileData.retain());
+            return;
+        }
+
+        if (!(msg instanceof ProtobufMessage message)) {
+            out.add(ReferenceCountUtil.retain(msg));
+            return;
+        }
+
+        if (message.hasPackedFileResponse() && message.getPackedFileResponse().getCompressed()) {
+            var packedFileResponse = message.getPackedFileResponse();
+
+            message = ProtobufMessage.newBuilder()
+                    .setPackedFileResponse(packedFileResponse.toBuilder()
+                            .setData(inflate(packedFileResponse.getData(), packedFileResponse.getUncompressedLength()))
+                            .setCompressed(false)
+                            .setUncompressedLength(0))
+                    .build();
+        }
+
+        out.add(message);
+    }
+
+    // Inflates straight into a pooled buffer, which then travels on to the disk like any other payload
+    private FileData inflate(ChannelHandlerContext ctx, FileData fileData) throws DataFormatException {
+        int uncompressedLength = fileData.getHeader().getUncompressedLength();
+        checkUncompressedLength(uncompressedLength);
+
+        // One spare byte lets the inflater reach the end of the stream, and reveals data inflating beyond the declared length
+        ByteBuf buffer = ctx.alloc().directBuffer(uncompressedLength + 1);
+
+        try {
+            ByteBuffer output = buffer.nioBuffer(0, uncompressedLength + 1);
+
+            inflater.reset();
+            inflater.setInput(fileData.content().nioBuffer());
+
+            while (!inflater.finished() && output.hasRemaining()) {
+                int inflatedLength = inflater.inflate(output);
+
+                if (inflatedLength == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+            }
+
+            if (output.position() != uncompressedLength || !inflater.finished()) {
+                throw new CorruptedFrameException("Compressed data doesn't inflate to " + uncompressedLength + " bytes");
+            }
+
+            buffer.writerIndex(uncompressedLength);
+        } catch (DataFormatException | RuntimeException e) {
+            buffer.release();
+            throw e;
+        }
+
+        var header = fileData.getHeader().toBuilder()
+                .setPayloadLength(uncompressedLength)
+                .setCompressed(false)
+                .setUncompressedLength(0)
+                .build();
+
+        return new FileData(header, buffer);
+    }
+
+    private static void checkUncompressedLength(int uncompressedLength) {
+        if (uncompressedLength < 0 || uncompressedLength > MAX_UNCOMPRESSED_LENGTH) {
+            throw new CorruptedFrameException("Invalid uncompressed length: " + uncompressedLength);
+        }
+    }
+
+    private ByteString inflate(ByteString data, int uncompressedLength) throws DataFormatException {
+        checkUncompressedLength(uncompressedLength);
+
+        // One spare byte lets the inflater reach the end of the stream, and reveals data inflating beyond the declared length
+        byte[] buffer = new byte[uncompressedLength + 1];
+        int length = 0;
+
+        inflater.reset();
+        inflater.setInput(data.asReadOnlyByteBuffer());
+
+        while (!inflater.finished() && length < buffer.length) {
+            int inflatedLength = inflater.inflate(buffer, length, buffer.length - length);
+
+            if (inflatedLength == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                break;
+            }
+
+            length += inflatedLength;
+        }
+
+        if (length != uncompressedLength || !inflater.finished()) {
+            throw new CorruptedFrameException("Compressed data doesn't inflate to " + uncompressedLength + " bytes");
+        }
+
+        return UnsafeByteOperations.unsafeWrap(buffer, 0, length);
+    }
+
+    @Override
+    public void handlerRemoved(ChannelHandlerContext ctx) {
+        inflater.end();
+    }
+}
@@ -0,0 +1,185 @@
+package com.halcyon.p2p.file.transfer.network;
+
+import com.halcyon.p2p.file.transfer.network.BandwidthLimiter.Direction;
+import com.halcyon.p2p.file.transfer.proto.General.ProtobufMessage;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundBuffer;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import io.netty.util.ReferenceCountUtil;
+import io.netty.util.concurrent.ScheduledFuture;
+
+import java.nio.channels.ClosedChannelException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import static java.lang.Math.max;
+
+// Holds file data back until the token buckets let it pass while other messages overtake it. Held bytes count against writability,
+// so ChunkedWriteHandler stops reading the file instead of queueing it here.
+public class FileDataUploadShaper extends ChannelOutboundHandlerAdapter {
+    private static final int USER_DEFINED_WRITABILITY_INDEX = 1;
+
+    private final BandwidthLimiter bandwidthLimiter;
+    private final LongSupplier nanoClock;
+
+    private final Deque<PendingWrite> pendingWrites = new ArrayDeque<>();
+    private long pendingBytes;
+    // Raw file bytes follow a FileResponse header on the wire, so nothing may be written between the header and its file region
+    private boolean awaitingFileRegion;
+    private final Deque<PendingWrite> deferredWrites = new ArrayDeque<>();
+    private ScheduledFuture<?> drainFuture;
+
+    public FileDataUploadShaper(BandwidthLimiter bandwidthLimiter) {
+        this(bandwidthLimiter, System::nanoTime);
+    }
+
+    FileDataUploadShaper(BandwidthLimiter bandwidthLimiter, LongSupplier nanoClock) {
+        this.bandwidthLimiter = bandwidthLimiter;
+        this.nanoClock = nanoClock;
+    }
+
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
+        long size = BandwidthLimiter.getFileDataSize(msg);
+
+        if (size < 0) {
+            if (awaitingFileRegion) {
+                deferredWrites.addLast(new PendingWrite(msg, promise, 0, 0, null));
+            } else {
+                ctx.write(msg, promise);
+            }
+
+            return;
+        }
+
+        long now = nanoClock.getAsLong();
+        long releaseNanos = now;
+
+        if (size > 0) {
+            Connection connection = PeerChannelHandler.getSessionConnection(ctx).get();
+
+            if (connection != null) {
+                connection.handleFileDataSent(size);
+            }
+
+            releaseNanos += bandwidthLimiter.reserve(Direction.UPLOAD, connection != null ? connection.getPeerName() : null, size);
+        }
+
+        boolean completesFileRegion = awaitingFileRegion;
+
+        awaitingFileRegion = msg instanceof ProtobufMessage message && message.hasFileResponse()
+                && message.getFileResponse().getPayloadLength() > 0;
+
+        // Messages held back for the region leave right behind it instead of waiting for the file data shaped after it
+        Deque<PendingWrite> trailingWrites = null;
+
+        if (completesFileRegion && !awaitingFileRegion && !deferredWrites.isEmpty()) {
+            trailingWrites = new ArrayDeque<>(deferredWrites);
+            deferredWrites.clear();
+        }
+
+        write(ctx, new PendingWrite(msg, promise, size, releaseNanos, trailingWrites), now);
+    }
+
+    private void write(ChannelHandlerContext ctx, PendingWrite pendingWrite, long now) {
+        if (pendingWrites.isEmpty() && pendingWrite.releaseNanos() <= now) {
+            writeNow(ctx, pendingWrite);
+            return;
+        }
+
+        long releaseNanos = pendingWrites.isEmpty() ? pendingWrite.releaseNanos()
+                : max(pendingWrite.releaseNanos(), pendingWrites.peekLast().releaseNanos());
+
+        pendingWrites.addLast(new PendingWrite(pendingWrite.msg(), pendingWrite.promise(), pendingWrite.size(), releaseNanos,
+                pendingWrite.trailingWrites()));
+        pendingBytes += pendingWrite.size();
+
+        updateWritability(ctx);
+        scheduleDrain(ctx);
+    }
+
+    private void scheduleDrain(ChannelHandlerContext ctx) {
+        if (drainFuture != null || pendingWrites.isEmpty()) {
+            return;
+        }
+
+        long delayNanos = pendingWrites.peekFirst().releaseNanos() - nanoClock.getAsLong();
+        drainFuture = ctx.executor().schedule(() -> drain(ctx), max(delayNanos, 0), TimeUnit.NANOSECONDS);
+    }
+
+    private void drain(ChannelHandlerContext ctx) {
+        drainFuture = null;
+        long now = nanoClock.getAsLong();
+        boolean written = false;
+
+        while (!pendingWrites.isEmpty() && pendingWrites.peekFirst().releaseNanos() <= now) {
+            PendingWrite pendingWrite = pendingWrites.pollFirst();
+            pendingBytes -= pendingWrite.size();
+            writeNow(ctx, pendingWrite);
+            written = true;
+        }
+
+        if (written) {
+            ctx.flush();
+        }
+
+        updateWritability(ctx);
+        scheduleDrain(ctx);
+    }
+
+    private static void writeNow(ChannelHandlerContext ctx, PendingWrite pendingWrite) {
+        ctx.write(pendingWrite.msg(), pendingWrite.promise());
+
+        if (pendingWrite.trailingWrites() != null) {
+            for (PendingWrite trailingWrite : pendingWrite.trailingWrites()) {
+                ctx.write(trailingWrite.msg(), trailingWrite.promise());
+            }
+        }
+    }
+
+    private void updateWritability(ChannelHandlerContext ctx) {
+        ChannelOutboundBuffer outboundBuffer = ctx.channel().unsafe().outboundBuffer();
+
+        if (outboundBuffer == null) {
+            return;
+        }
+
+        if (pendingBytes > ctx.channel().config().getWriteBufferHighWaterMark()) {
+            outboundBuffer.setUserDefinedWritability(USER_DEFINED_WRITABILITY_INDEX, false);
+        } else if (pendingBytes < ctx.channel().config().getWriteBufferLowWaterMark()) {
+            outboundBuffer.setUserDefinedWritability(USER_DEFINED_WRITABILITY_INDEX, true);
+        }
+    }
+
+    @Override
+    public void handlerRemoved(ChannelHandlerContext ctx) {
+        if (drainFuture != null) {
+            drainFuture.cancel(false);
+        }
+
+        failPendingWrites(pendingWrites);
+        failPendingWrites(deferredWrites);
+    }
+
+    private static void failPendingWrites(Deque<PendingWrite> pendingWrites) {
+        for (PendingWrite pendingWrite : pendingWrites) {
+            ReferenceCountUtil.release(pendingWrite.msg());
+
+            if (!pendingWrite.promise().isVoid()) {
+                pendingWrite.promise().tryFailure(new ClosedChannelException());
+            }
+
+            if (pendingWrite.trailingWrites() != null) {
+                failPendingWrites(pendingWrite.trailingWrites());
+            }
+        }
+
+        pendingWrites.clear();
+    }
+
+    private record PendingWrite(Object msg, ChannelPromise promise, long size, long releaseNanos, Deque<PendingWrite> trailingWrites) {
+    }
+}
@@ -0,0 +1,117 @@
+package com.halcyon.p2p.file.transfer.network;
+
+import com.halcyon.p2p.file.transfer.proto.General.ProtobufMessage;
+import com.halcyon.p2p.file.transfer.proto.General.ProtobufMessage.PayloadCase;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+// Maps every message type to the handler the services registered for it. A handler either runs right away on the peer loop the
+// channel is pinned to, so it may only touch thread-safe state, or on peerEventLoop together with everything else touching shared
+// peer state. Handlers are registered before the first channel opens and counted per type from then on.
+public class MessageHandlerRegistry {
+    @FunctionalInterface
+    public interface MessageHandler<T> {
+        void handle(Connection connection, T message);
+    }
+
+    private final Map<PayloadCase, Registration<ProtobufMessage>> payloadCaseToRegistrationMap = new EnumMap<>(PayloadCase.class);
+    private Registration<FileData> fileDataRegistration;
+
+    public void registerOnChannelLoop(PayloadCase payloadCase, MessageHandler<ProtobufMessage> handler) {
+        register(payloadCase, new Registration<>(payloadCase.name(), handler, false));
+    }
+
+    public void registerOnPeerEventLoop(PayloadCase payloadCase, MessageHandler<ProtobufMessage> handler) {
+        register(payloadCase, new Registration<>(payloadCase.name(), handler, true));
+    }
+
+    private void register(PayloadCase payloadCase, Registration<ProtobufMessage> registration) {
+        if (payloadCase == PayloadCase.PAYLOAD_NOT_SET || payloadCaseToRegistrationMap.putIfAbsent(payloadCase, registration) != null) {
+            throw new IllegalStateException("Can't register another handler for " + payloadCase);
+        }
+    }
+
+    // File data skips the message decoding, its handler runs on the channel's loop, hands the data to the loop of its download and
+    // has to release it
+    public void registerFileData(MessageHandler<FileData> handler) {
+        if (fileDataRegistration != null) {
+            throw new IllegalStateException("Can't register another handler for file data");
+        }
+
+        fileDataRegistration = new Registration<>("FILEDATA", handler, false);
+    }
+
+    // Returns null if nothing handles the type
+    public Registration<ProtobufMessage> get(PayloadCase payloadCase) {
+        return payloadCaseToRegistrationMap.get(payloadCase);
+    }
+
+    public Registration<FileData> getFileData() {
+        return fileDataRegistration;
+    }
+
+    public String getStats() {
+        StringBuilder stats = new StringBuilder();
+
+        for (Registration<?> registration : payloadCaseToRegistrationMap.values()) {
+            appendStats(stats, registration);
+        }
+
+        if (fileDataRegistration != null) {
+            appendStats(stats, fileDataRegistration);
+        }
+
+        return stats.toString();
+    }
+
+    private static void appendStats(StringBuilder stats, Registration<?> registration) {
+        long count = registration.getCount();
+
+        if (count > 0) {
+            stats.append(String.format("%n%-20s %10d messages %10.3f ms on average", registration.getName(), count,
+                    registration.getTotalNanos() / 1e6 / count));
+        }
+    }
+
+    public static class Registration<T> {
+        private final String name;
+        private final MessageHandler<T> handler;
+        private final boolean isOnPeerEventLoop;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+
+        private Registration(String name, MessageHandler<T> handler, boolean isOnPeerEventLoop) {
+            this.name = name;
+            this.handler = handler;
+            this.isOnPeerEventLoop = isOnPeerEventLoop;
+        }
+
+        // The time is taken from the dispatch on the channel's loop, so it includes the wait for peerEventLoop
+        public void handle(Connection connection, T message, long dispatchNanos) {
+            try {
+                handler.handle(connection, message);
+            } finally {
+                count.increment();
+                totalNanos.add(System.nanoTime() - dispatchNanos);
+            }
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public boolean isOnPeerEventLoop() {
+            return isOnPeerEventLoop;
+        }
+
+        public long getCount() {
+            return count.sum();
+        }
+
+        public long getTotalNanos() {
+            return totalNanos.sum();
+        }
+    }
+}
@@ -3,13 +3,16 @@ package com.halcyon.p2p.file.transfer.network;
 import com.halcyon.p2p.file.transfer.config.PeerConfig;
 import com.halcyon.p2p.file.transfer.proto.File.*;
 import com.halcyon.p2p.file.transfer.proto.General.ProtobufMessage;
+import com.halcyon.p2p.file.transfer.proto.General.ProtobufMessage.PayloadCase;
 import com.halcyon.p2p.file.transfer.proto.Ping.PingMessage;
 
 import com.halcyon.p2p.file.transfer.proto.Pong.*;
 import com.halcyon.p2p.file.transfer.service.ConnectionService;
+import com.halcyon.p2p.file.transfer.service.DownloadService;
 import com.halcyon.p2p.file.transfer.service.FileService;
 import com.halcyon.p2p.file.transfer.service.PingPongService;
 import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -28,14 +31,71 @@ public class Peer {
     private final ConnectionService connectionService;
     private final PingPongService pingPongService;
     private final FileService fileService;
+    private final DownloadService downloadService;
+    private final MessageHandlerRegistry messageHandlerRegistry = new MessageHandlerRegistry();
     private Channel bindChannel;
-    private boolean running = true;
+    private volatile boolean running = true;
 
-    public Peer(PeerConfig peerConfig, ConnectionService connectionService, PingPongService pingPongService, FileService fileService) {
+    public Peer(PeerConfig peerConfig, ConnectionService connectionService, PingPongService pingPongService, FileService fileService,
+                DownloadService downloadService) {
         this.peerConfig = peerConfig;
         this.connectionService = connectionService;
         this.pingPongService = pingPongService;
         this.fileService = fileService;
+        this.downloadService = downloadService;
+
+        registerMessageHandlers();
+    }
+
+    // Requests are served on the channel's loop as the services hand their disk work off right away, while pings and responses
+    // update state shared by all connections
+    private void registerMessageHandlers() {
+        messageHandlerRegistry.registerOnPeerEventLoop(PayloadCase.PING,
+                (connection, message) -> handlePing(connection, message.getPing()));
+        messageHandlerRegistry.registerOnPeerEventLoop(PayloadCase.PONG,
+                (connection, message) -> handlePong(connection, message.getPong()));
+        messageHandlerRegistry.registerOnPeerEventLoop(PayloadCase.CANCELPINGS,
+                (connection, message) -> cancelPings(connection, message.getCancelPings().getPeerName()));
+        messageHandlerRegistry.registerOnPeerEventLoop(PayloadCase.CANCELPONGS,
+                (connection, message) -> cancelPongs(message.getCancelPongs().getPeerName()));
+
+        messageHandlerRegistry.registerOnChannelLoop(PayloadCase.GETFILESREQUEST,
+                (connection, message) -> handleGetFilesRequest(connection, message.getGetFilesRequest()));
+        messageHandlerRegistry.registerOnChannelLoop(PayloadCase.GETFILESRESPONSE,
+                (connection, message) -> handleGetFilesResponse(connection, message.getGetFilesResponse()));
+        messageHandlerRegistry.registerOnChannelLoop(PayloadCase.FILEREQUEST,
+                (connection, message) -> handleFileRequest(connection, message.getFileRequest()));
+        messageHandlerRegistry.registerFileData(this::handleFileData);
+        messageHandlerRegistry.registerOnPeerEventLoop(PayloadCase.FILEINFOREQUEST,
+                (connection, message) -> handleFileInfoRequest(connection, message.getFileInfoRequest()));
+        messageHandlerRegistry.registerOnPeerEventLoop(PayloadCase.FILEINFORESPONSE,
+                (connection, message) -> handleFileInfoResponse(connection, message.getFileInfoResponse()));
+
+        messageHandlerRegistry.registerOnChannelLoop(PayloadCase.DIRECTORYREQUEST,
+                (connection, message) -> handleDirectoryRequest(connection, message.getDirectoryRequest()));
+        messageHandlerRegistry.registerOnPeerEventLoop(PayloadCase.DIRECTORYRESPONSE,
+                (connection, message) -> handleDirectoryResponse(connection, message.getDirectoryResponse()));
+        messageHandlerRegistry.registerOnChannelLoop(PayloadCase.PACKEDFILEREQUEST,
+                (connection, message) -> handlePackedFileRequest(connection, message.getPackedFileRequest()));
+        messageHandlerRegistry.registerOnPeerEventLoop(PayloadCase.PACKEDFILERESPONSE,
+                (connection, message) -> handlePackedFileResponse(connection, message.getPackedFileResponse()));
+
+        messageHandlerRegistry.registerOnChannelLoop(PayloadCase.DELTAREQUEST,
+                (connection, message) -> handleDeltaRequest(connection, message.getDeltaRequest()));
+        messageHandlerRegistry.registerOnPeerEventLoop(PayloadCase.DELTARESPONSE,
+                (connection, message) -> handleDeltaResponse(connection, message.getDeltaResponse()));
+        messageHandlerRegistry.registerOnChannelLoop(PayloadCase.CHUNKLISTREQUEST,
+                (connection, message) -> handleChunkListRequest(connection, message.getChunkListRequest()));
+        messageHandlerRegistry.registerOnPeerEventLoop(PayloadCase.CHUNKLISTRESPONSE,
+                (connection, message) -> handleChunkListResponse(connection, message.getChunkListResponse()));
+        messageHandlerRegistry.registerOnChannelLoop(PayloadCase.CHUNKREQUEST,
+                (connection, message) -> handleChunkRequest(connection, message.getChunkRequest()));
+        messageHandlerRegistry.registerOnPeerEventLoop(PayloadCase.CHUNKRESPONSE,
+                (connection, message) -> handleChunkResponse(connection, message.getChunkResponse()));
+    }
+
+    public MessageHandlerRegistry getMessageHandlerRegistry() {
+        return messageHandlerRegistry;
     }
 
     public void handleConnectionOpening(Connection connection) {
@@ -51,22 +111,115 @@ public class Peer {
         }
 
         connectionService.addConnection(connection);
+        downloadService.handleConnectionOpening(connection);
+    }
+
+    public void handleConnectionPending(Connection connection) {
+        if (isDisabled()) {
+            LOGGER.warn("The new connection {} is ignore because the peer {} is disabled", connection, peerConfig.getPeerName());
+            return;
+        }
+
+        if (connection.isOutbound()) {
+            connectionService.connectDataLane(this, connection);
+        } else {
+            connectionService.addPendingConnection(connection);
+        }
+    }
+
+    void handleDataLaneOpening(ChannelHandlerContext dataLaneCtx, String peerName) {
+        if (isDisabled()) {
+            LOGGER.warn("The data lane from {} is ignored because the peer {} is disabled", peerName, peerConfig.getPeerName());
+            dataLaneCtx.close();
+            return;
+        }
+
+        Connection connection = connectionService.removePendingConnection(peerName);
+        boolean isFirstDataLane = connection != null;
+
+        if (!isFirstDataLane) {
+            connection = connectionService.getConnection(peerName);
+        }
+
+        if (connection == null || !connection.hasDataLane() && !isFirstDataLane
+                || connection.getNumberOfDataLanes() >= connection.getDataLaneController().getMaxDataLanes()) {
+            LOGGER.warn("The data lane from {} is closed because no connection is waiting for it", peerName);
+            dataLaneCtx.close();
+            return;
+        }
+
+        connection.attachDataLane(dataLaneCtx);
+        dataLaneCtx.writeAndFlush(PeerChannelHandler.createHandshakeMessage(peerConfig, true));
+
+        if (isFirstDataLane) {
+            handleConnectionOpening(connection);
+        }
+    }
+
+    void handleDataLaneAccepted(ChannelHandlerContext dataLaneCtx, Connection connection) {
+        if (isDisabled() || !connection.isOpen()) {
+            LOGGER.warn("The data lane to {} is closed because the connection is closed", connection.getPeerName());
+            dataLaneCtx.close();
+            return;
+        }
+
+        connection.attachDataLane(dataLaneCtx);
+
+        if (connection.getNumberOfDataLanes() == 1) {
+            handleConnectionOpening(connection);
+        }
+    }
+
+    public void probeDataLanes() {
+        if (isDisabled()) {
+            LOGGER.warn("Probing data lanes is ignored because the peer is disabled");
+            return;
+        }
+
+        for (Connection connection : connectionService.getConnections()) {
+            long bytes = connection.getFileDataSent() + connection.getFileDataReceived();
+
+            if (connection.isOutbound() && connection.hasDataLane()
+                    && connection.getDataLaneController().shouldAddDataLane(bytes, connection.getNumberOfDataLanes())) {
+                connectionService.connectDataLane(this, connection);
+            }
+        }
     }
 
     private boolean isDisabled() {
         return !running;
     }
 
+    void handleChannelClosing(ChannelHandlerContext channelCtx, Connection connection) {
+        // An extra lane that was never accepted isn't part of the session, the connection goes on without it
+        if (connection.hasDataLane() && !connection.isAttached(channelCtx)) {
+            LOGGER.info("The data lane {} to {} closed before it was accepted", channelCtx.channel().remoteAddress(), connection.getPeerName());
+            return;
+        }
+
+        handleConnectionClosing(connection);
+    }
+
     public void handleConnectionClosing(Connection connection) {
         String connectionPeerName = connection.getPeerName();
 
+        // A data lane that closed before being attached has no peer yet
+        if (connectionPeerName == null) {
+            connection.close();
+            return;
+        }
+
         if (connectionPeerName.equals(peerConfig.getPeerName())) {
             return;
         }
 
-        if (connectionService.removeConnection(connection)) {
+        if (connectionService.removePendingConnection(connection)) {
+            LOGGER.info("{} closed while waiting for its data lane", connection);
+        } else if (connectionService.removeConnection(connection)) {
             cancelPings(connection, connectionPeerName);
             cancelPongs(connectionPeerName);
+            downloadService.handleConnectionClosing(connection);
+            fileService.handleConnectionClosing(connection);
         }
 
         connection.close();
@@ -172,7 +325,7 @@ public class Peer {
         if (isDisabled()) {
             LOGGER.warn("Pong of {} is ignored because the peer is disabled", connection.getPeerName());
         } else {
-            pingPongService.handlePong(pong);
+            pingPongService.handlePong(connection, pong);
         }
     }
 
@@ -229,20 +382,38 @@ public class Peer {
         }
     }
 
-    public void sendGetFilesRequest(String peerName) {
+    public void rechokeUploads() {
+        if (isDisabled()) {
+            LOGGER.warn("Rechoking uploads is ignored because the peer is disabled");
+            return;
+        }
+
+        fileService.rechokeUploads();
+    }
+
+    public void timeoutPieceRequests() {
+        if (isDisabled()) {
+            LOGGER.warn("Timeout piece requests are ignored because the peer is disabled");
+            return;
+        }
+
+        downloadService.timeoutPieceRequests();
+    }
+
+    public void sendGetFilesRequest(String peerName, String filter) {
         if (isDisabled()) {
             LOGGER.warn("Sending GetFilesRequest is ignored because the peer is disabled");
         } else {
             Connection connection = connectionService.getConnection(peerName);
-            fileService.sendGetFilesRequest(connection);
+            fileService.sendGetFilesRequest(connection, filter);
         }
     }
 
-    public void handleGetFilesRequest(Connection connection) {
+    public void handleGetFilesRequest(Connection connection, GetFilesRequest request) {
         if (isDisabled()) {
             LOGGER.warn("GetFilesRequest from {} is ignored because the peer is disabled", connection.getPeerName());
         } else {
-            fileService.handleGetFilesRequest(connection);
+            fileService.handleGetFilesRequest(connection, request);
         }
     }
 
@@ -250,31 +421,144 @@ public class Peer {
         if (isDisabled()) {
             LOGGER.warn("GetFilesResponse from {} is ignored because the peer is disabled", connection.getPeerName());
         } else {
-            fileService.handleGetFilesResponse(response);
+            fileService.handleGetFilesResponse(connection, response);
         }
     }
 
-    public void sendFileRequest(String peerName, String fileName) {
+    public void download(String peerName, String fileName) {
         if (isDisabled()) {
-            LOGGER.warn("Sending FileRequest is ignored because the peer is disabled");
+            LOGGER.warn("Downloading {} is ignored because the peer is disabled", fileName);
         } else {
-            fileService.sendFileRequest(peerName, fileName);
+            downloadService.download(peerName, fileName);
+        }
+    }
+
+    public void swarmDownload(String fileName) {
+        if (isDisabled()) {
+            LOGGER.warn("Swarm downloading {} is ignored because the peer is disabled", fileName);
+        } else {
+            downloadService.swarmDownload(fileName);
+        }
+    }
+
+    public void downloadDirectory(String peerName, String directoryName) {
+        if (isDisabled()) {
+            LOGGER.warn("Downloading directory {} is ignored because the peer is disabled", directoryName);
+        } else {
+            downloadService.downloadDirectory(peerName, directoryName);
+        }
+    }
+
+    public void handleDirectoryRequest(Connection connection, DirectoryRequest request) {
+        if (isDisabled()) {
+            LOGGER.warn("DirectoryRequest from {} is ignored because the peer is disabled", connection.getPeerName());
+        } else {
+            fileService.handleDirectoryRequest(connection, request);
+        }
+    }
+
+    public void handleDirectoryResponse(Connection connection, DirectoryResponse response) {
+        if (isDisabled()) {
+            LOGGER.warn("DirectoryResponse from {} is ignored because the peer is disabled", connection.getPeerName());
+        } else {
+            downloadService.handleDirectoryResponse(connection, response);
+        }
+    }
+
+    public void handlePackedFileRequest(Connection connection, PackedFileRequest request) {
+        if (isDisabled()) {
+            LOGGER.warn("PackedFileRequest from {} is ignored because the peer is disabled", connection.getPeerName());
+        } else {
+            fileService.handlePackedFileRequest(connection, request);
+        }
+    }
+
+    public void handlePackedFileResponse(Connection connection, PackedFileResponse response) {
+        if (isDisabled()) {
+            LOGGER.warn("PackedFileResponse from {} is ignored because the peer is disabled", connection.getPeerName());
+        } else {
+            downloadService.handlePackedFileResponse(connection, response);
+        }
+    }
+
+    public void handleDeltaRequest(Connection connection, DeltaRequest request) {
+        if (isDisabled()) {
+            LOGGER.warn("DeltaRequest from {} is ignored because the peer is disabled", connection.getPeerName());
+        } else {
+            fileService.handleDeltaRequest(connection, request);
+        }
+    }
+
+    public void handleDeltaResponse(Connection connection, DeltaResponse response) {
+        if (isDisabled()) {
+            LOGGER.warn("DeltaResponse from {} is ignored because the peer is disabled", connection.getPeerName());
+        } else {
+            downloadService.handleDeltaResponse(connection, response);
+        }
+    }
+
+    public void handleChunkListRequest(Connection connection, ChunkListRequest request) {
+        if (isDisabled()) {
+            LOGGER.warn("ChunkListRequest from {} is ignored because the peer is disabled", connection.getPeerName());
+        } else {
+            fileService.handleChunkListRequest(connection, request);
+        }
+    }
+
+    public void handleChunkListResponse(Connection connection, ChunkListResponse response) {
+        if (isDisabled()) {
+            LOGGER.warn("ChunkListResponse from {} is ignored because the peer is disabled", connection.getPeerName());
+        } else {
+            downloadService.handleChunkListResponse(connection, response);
+        }
+    }
+
+    public void handleChunkRequest(Connection connection, ChunkRequest request) {
+        if (isDisabled()) {
+            LOGGER.warn("ChunkRequest from {} is ignored because the peer is disabled", connection.getPeerName());
+        } else {
+            fileService.handleChunkRequest(connection, request);
+        }
+    }
+
+    public void handleChunkResponse(Connection connection, ChunkResponse response) {
+        if (isDisabled()) {
+            LOGGER.warn("ChunkResponse from {} is ignored because the peer is disabled", connection.getPeerName());
+        } else {
+            downloadService.handleChunkResponse(connection, response);
+        }
+    }
+
+    public void handleFileInfoRequest(Connection connection, FileInfoRequest request) {
+        if (isDisabled()) {
+            LOGGER.warn("FileInfoRequest from {} is ignored because the peer is disabled", connection.getPeerName());
+        } else {
+            fileService.handleFileInfoRequest(connection, request);
+        }
+    }
+
+    public void handleFileInfoResponse(Connection connection, FileInfoResponse response) {
+        if (isDisabled()) {
+            LOGGER.warn("FileInfoResponse from {} is ignored because the peer is disabled", connection.getPeerName());
+        } else {
+            downloadService.handleFileInfoResponse(connection, response);
         }
     }
 
     public void handleFileRequest(Connection connection, FileRequest request) {
         if (isDisabled()) {
-            LOGGER.warn("FileRequest from {} is ignored because the peer is disabled", request.getFileName());
+            LOGGER.warn("FileRequest from {} is ignored because the peer is disabled", connection.getPeerName());
         } else {
             fileService.handleFileRequest(connection, request);
         }
     }
 
-    public void handleFileResponse(FileResponse response) {
+    public void handleFileData(Connection connection, FileData fileData) {
         if (isDisabled()) {
-            LOGGER.warn("FileResponse from {} is ignored because the peer is disabled", response.getFileName());
+            LOGGER.warn("FileResponse from {} is ignored because the peer is disabled", connection.getPeerName());
+            fileData.release();
         } else {
-            fileService.handleFileResponse(response);
+            downloadService.handleFileData(connection, fileData);
         }
     }
 
@@ -285,4 +569,8 @@ public class Peer {
     public String getPeerName() {
         return peerConfig.getPeerName();
     }
+
+    public PeerConfig getPeerConfig() {
+        return peerConfig;
+    }
 }
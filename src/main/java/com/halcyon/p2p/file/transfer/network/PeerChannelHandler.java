@@ -1,9 +1,12 @@
 package com.halcyon.p2p.file.transfer.network;
 
+import com.halcyon.p2p.file.transfer.config.PeerConfig;
+import com.halcyon.p2p.file.transfer.network.MessageHandlerRegistry.Registration;
 import com.halcyon.p2p.file.transfer.proto.General.ProtobufMessage;
 import com.halcyon.p2p.file.transfer.proto.Handshake.HandshakeMessage;
 import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.EventLoop;
 import io.netty.channel.SimpleChannelInboundHandler;
 import io.netty.handler.timeout.IdleState;
 import io.netty.handler.timeout.IdleStateEvent;
@@ -12,82 +15,142 @@ import io.netty.util.AttributeKey;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+// Runs on the peer loop the channel is pinned to and hands everything touching shared peer state over to peerEventLoop
 @ChannelHandler.Sharable
 public class PeerChannelHandler extends SimpleChannelInboundHandler<ProtobufMessage> {
     private static final Logger LOGGER = LoggerFactory.getLogger(PeerChannelHandler.class);
 
     private static final String SESSION_ATTRIBUTE_KEY = "session";
+    // Set on the bootstrap of an outbound data lane to the connection the lane belongs to
+    public static final AttributeKey<Connection> DATA_LANE_ATTRIBUTE_KEY = AttributeKey.valueOf("dataLane");
+
     private final Peer peer;
+    private final EventLoop peerEventLoop;
+    private final MessageHandlerRegistry messageHandlerRegistry;
 
-    public PeerChannelHandler(Peer peer) {
+    public PeerChannelHandler(Peer peer, EventLoop peerEventLoop) {
         this.peer = peer;
+        this.peerEventLoop = peerEventLoop;
+        this.messageHandlerRegistry = peer.getMessageHandlerRegistry();
     }
 
     static Attribute<Connection> getSessionConnection(ChannelHandlerContext ctx) {
         return ctx.channel().attr(AttributeKey.valueOf(SESSION_ATTRIBUTE_KEY));
     }
 
+    // FileData bypasses the message decoding, its handler releases it once it is written to disk
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+        if (!(msg instanceof FileData fileData)) {
+            super.channelRead(ctx, msg);
+            return;
+        }
+
+        Registration<FileData> registration = messageHandlerRegistry.getFileData();
+
+        if (registration != null) {
+            dispatch(registration, getSessionConnection(ctx).get(), fileData);
+        } else {
+            fileData.release();
+        }
+    }
+
+    // Only the messages about the channel itself are handled here, everything else goes to the handler registered for its type
     @Override
     protected void channelRead0(ChannelHandlerContext ctx, ProtobufMessage message) {
         Connection connection = getSessionConnection(ctx).get();
 
-        if (message.hasHandshake()) {
-            handleHandshake(connection, message.getHandshake());
-        } else if (message.hasPing()) {
-            peer.handlePing(connection, message.getPing());
-        } else if (message.hasPong()) {
-            peer.handlePong(connection, message.getPong());
-        } else if (message.hasKeepAlive()) {
-            LOGGER.info("Keep alive ping received from {}", connection);
-        } else if (message.hasCancelPings()) {
-            peer.cancelPings(connection, message.getCancelPings().getPeerName());
-        } else if (message.hasCancelPongs()) {
-            peer.cancelPongs(message.getCancelPongs().getPeerName());
-        } else if (message.hasGetFilesRequest()) {
-            peer.handleGetFilesRequest(connection);
-        } else if (message.hasGetFilesResponse()) {
-            peer.handleGetFilesResponse(connection, message.getGetFilesResponse());
-        } else if (message.hasFileRequest()) {
-            peer.handleFileRequest(connection, message.getFileRequest());
-        } else if (message.hasFileResponse()) {
-            peer.handleFileResponse(message.getFileResponse());
+        switch (message.getPayloadCase()) {
+            case HANDSHAKE -> handleHandshake(ctx, connection, message.getHandshake());
+            case KEEPALIVE -> LOGGER.info("Keep alive ping received from {}", connection);
+            default -> {
+                Registration<ProtobufMessage> registration = messageHandlerRegistry.get(message.getPayloadCase());
+
+                if (registration != null) {
+                    dispatch(registration, connection, message);
+                } else {
+                    LOGGER.warn("There is no handler for {} from {}", message.getPayloadCase(), connection);
+                }
+            }
         }
     }
 
-    private void handleHandshake(Connection connection, HandshakeMessage handshake) {
+    private <T> void dispatch(Registration<T> registration, Connection connection, T message) {
+        long dispatchNanos = System.nanoTime();
+
+        if (registration.isOnPeerEventLoop()) {
+            peerEventLoop.execute(() -> registration.handle(connection, message, dispatchNanos));
+        } else {
+            registration.handle(connection, message, dispatchNanos);
+        }
+    }
+
+    private void handleHandshake(ChannelHandlerContext ctx, Connection connection, HandshakeMessage handshake) {
         String peerName = handshake.getSenderPeerName();
 
-        if (!connection.isOpen()) {
-            connection.open(peerName);
-            peer.handleConnectionOpening(connection);
+        if (handshake.getDataLane()) {
+            if (ctx.channel().attr(DATA_LANE_ATTRIBUTE_KEY).get() != null) {
+                peerEventLoop.execute(() -> peer.handleDataLaneAccepted(ctx, connection));
+            } else {
+                peerEventLoop.execute(() -> peer.handleDataLaneOpening(ctx, peerName));
+            }
+        } else if (!connection.isOpen()) {
+            PeerConfig peerConfig = peer.getPeerConfig();
+            connection.open(peerName, ChunkSizeController.negotiate(peerName, peerConfig.getMinChunkSize(), peerConfig.getMaxChunkSize(),
+                            handshake.getMinChunkSize(), handshake.getMaxChunkSize()),
+                    DataLaneController.negotiate(peerName, peerConfig.getMaxDataLanes(), handshake.getMaxDataLanes()),
+                    Capability.negotiate(handshake.getCapabilitiesList()));
+
+            // Both sides announced the data lane, so the connection opens once its first lane is attached
+            if (peerConfig.isDataLaneEnabled() && connection.hasCapability(Capability.DATA_LANE)) {
+                peerEventLoop.execute(() -> peer.handleConnectionPending(connection));
+            } else {
+                peerEventLoop.execute(() -> peer.handleConnectionOpening(connection));
+            }
         } else if (!connection.getPeerName().equals(peerName)) {
             LOGGER.warn("Mismatching of peer names! Handshake: {} Connection: {}", peerName, connection.getPeerName());
         }
     }
 
+    static ProtobufMessage createHandshakeMessage(PeerConfig peerConfig, boolean isDataLane) {
+        var handshakeMessage = HandshakeMessage.newBuilder()
+                .setSenderPeerName(peerConfig.getPeerName())
+                .setMinChunkSize(peerConfig.getMinChunkSize())
+                .setMaxChunkSize(peerConfig.getMaxChunkSize())
+                .addAllCapabilities(Capability.getNames(peerConfig))
+                .setDataLane(isDataLane)
+                .setMaxDataLanes(peerConfig.getMaxDataLanes())
+                .build();
+
+        return ProtobufMessage.newBuilder()
+                .setHandshake(handshakeMessage)
+                .build();
+    }
+
     @Override
     public void channelActive(ChannelHandlerContext ctx) {
+        Connection dataLaneConnection = ctx.channel().attr(DATA_LANE_ATTRIBUTE_KEY).get();
+
+        // The lane only carries file data after the other side has accepted it
+        if (dataLaneConnection != null) {
+            Connection.bindDataLane(ctx, dataLaneConnection);
+            ctx.writeAndFlush(createHandshakeMessage(peer.getPeerConfig(), true));
+            return;
+        }
+
         LOGGER.info("The channel {} is active", ctx.channel().remoteAddress());
 
         Connection connection = new Connection(ctx);
         getSessionConnection(ctx).set(connection);
 
-        var handshakeMessage = HandshakeMessage.newBuilder()
-                .setSenderPeerName(peer.getPeerName())
-                .build();
-
-        var protobufMessage = ProtobufMessage.newBuilder()
-                .setHandshake(handshakeMessage)
-                .build();
-
-        ctx.writeAndFlush(protobufMessage);
+        ctx.writeAndFlush(createHandshakeMessage(peer.getPeerConfig(), false));
     }
 
     @Override
     public void channelInactive(ChannelHandlerContext ctx) {
         LOGGER.info("Channel {} is inactive", ctx.channel().remoteAddress());
         Connection connection = getSessionConnection(ctx).get();
-        peer.handleConnectionClosing(connection);
+        peerEventLoop.execute(() -> peer.handleChannelClosing(ctx, connection));
     }
 
     @Override
@@ -101,7 +164,7 @@ public class PeerChannelHandler extends SimpleChannelInboundHandler<ProtobufMess
         ctx.close();
 
         Connection connection = getSessionConnection(ctx).get();
-        peer.handleConnectionClosing(connection);
+        peerEventLoop.execute(() -> peer.handleChannelClosing(ctx, connection));
     }
 
     @Override
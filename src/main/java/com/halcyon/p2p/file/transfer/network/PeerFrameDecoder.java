@@ -0,0 +1,128 @@
+package com.halcyon.p2p.file.transfer.network;
+
+import com.google.protobuf.ByteString;
+import com.halcyon.p2p.file.transfer.proto.File.FileResponse;
+import com.halcyon.p2p.file.transfer.proto.General.ProtobufMessage;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.ByteToMessageDecoder;
+import io.netty.handler.codec.CorruptedFrameException;
+
+import java.util.List;
+
+import static java.lang.Math.min;
+
+// A FileResponse with a positive payloadLength is only a header: that many raw file bytes follow it on the wire. Every FileResponse
+// leaves the decoder as FileData.
+public class PeerFrameDecoder extends ByteToMessageDecoder {
+    private static final int PAYLOAD_SLICE_SIZE = 64 * 1024;
+
+    private FileResponse payloadHeader;
+    private long payloadBytesRemaining;
+
+    @Override
+    protected void decode(ChannelHandlerContext ctx, ByteBuf in, List<Object> out) throws Exception {
+        if (payloadHeader != null) {
+            decodePayload(in, out);
+        } else {
+            decodeFrame(in, out);
+        }
+    }
+
+    private void decodeFrame(ByteBuf in, List<Object> out) throws Exception {
+        in.markReaderIndex();
+
+        int preIndex = in.readerIndex();
+        int length = readRawVarint32(in);
+
+        if (preIndex == in.readerIndex()) {
+            return;
+        }
+
+        if (length < 0) {
+            throw new CorruptedFrameException("Negative frame length: " + length);
+        }
+
+        if (in.readableBytes() < length) {
+            in.resetReaderIndex();
+            return;
+        }
+
+        ProtobufMessage message = ProtobufMessage.parseFrom(in.nioBuffer(in.readerIndex(), length));
+        in.skipBytes(length);
+
+        if (!message.hasFileResponse()) {
+            out.add(message);
+            return;
+        }
+
+        FileResponse fileResponse = message.getFileResponse();
+
+        if (fileResponse.getPayloadLength() > 0) {
+            if (fileResponse.getCompressed() && fileResponse.getPayloadLength() > FileDataInflater.MAX_UNCOMPRESSED_LENGTH) {
+                throw new CorruptedFrameException("Compressed payload too long: " + fileResponse.getPayloadLength());
+            }
+
+            payloadHeader = fileResponse;
+            payloadBytesRemaining = payloadHeader.getPayloadLength();
+        } else {
+            // Peers that don't announce compressed payloads still send the data inside the message
+            ByteString data = fileResponse.getData();
+            var header = fileResponse.toBuilder()
+                    .clearData()
+                    .setPayloadLength(data.size())
+                    .build();
+
+            out.add(new FileData(header, Unpooled.wrappedBuffer(data.asReadOnlyByteBuffer())));
+        }
+    }
+
+    // Uncompressed file bytes are handed on as retained slices of the received buffer as soon as enough of them arrived, a compressed
+    // payload only as a whole since it can't be inflated piecewise
+    private void decodePayload(ByteBuf in, List<Object> out) {
+        int sliceSize = (int) min(in.readableBytes(), payloadBytesRemaining);
+        long minSliceSize = payloadHeader.getCompressed() ? payloadBytesRemaining : min(payloadBytesRemaining, PAYLOAD_SLICE_SIZE);
+
+        if (sliceSize < minSliceSize) {
+            return;
+        }
+
+        long sliceOffset = payloadHeader.getOffset() + payloadHeader.getPayloadLength() - payloadBytesRemaining;
+        payloadBytesRemaining -= sliceSize;
+
+        boolean isLastSlice = payloadBytesRemaining == 0;
+
+        var header = payloadHeader.toBuilder()
+                .setOffset(sliceOffset)
+                .setPayloadLength(sliceSize)
+                .setIsLastChunk(isLastSlice && payloadHeader.getIsLastChunk())
+                .build();
+
+        out.add(new FileData(header, in.readRetainedSlice(sliceSize)));
+
+        if (isLastSlice) {
+            payloadHeader = null;
+        }
+    }
+
+    private static int readRawVarint32(ByteBuf buffer) {
+        int result = 0;
+
+        for (int shift = 0; shift < 32; shift += 7) {
+            if (!buffer.isReadable()) {
+                buffer.resetReaderIndex();
+                return 0;
+            }
+
+            byte tmp = buffer.readByte();
+            result |= (tmp & 0x7f) << shift;
+
+            if (tmp >= 0) {
+                return result;
+            }
+        }
+
+        throw new CorruptedFrameException("Malformed varint");
+    }
+}
@@ -0,0 +1,139 @@
+package com.halcyon.p2p.file.transfer.network;
+
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.MessageLite;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import io.netty.util.concurrent.PromiseNotifier;
+
+import java.io.IOException;
+import java.nio.channels.ClosedChannelException;
+import java.util.ArrayList;
+import java.util.List;
+
+// Frames consecutive messages into one pooled direct buffer until the next flush, replacing ProtobufEncoder and
+// ProtobufVarint32LengthFieldPrepender. It sits below FlushConsolidationHandler, so a burst of pings written from the peer event loop
+// leaves in a single buffer. Anything else written in between, like a file region, first sends the batch to keep the order.
+public class ProtobufBatchEncoder extends ChannelOutboundHandlerAdapter {
+    private static final int BATCH_CAPACITY = 8 * 1024;
+
+    private final List<ChannelPromise> batchPromises = new ArrayList<>();
+    private ByteBuf batch;
+    private CodedOutputStream batchOutputStream;
+
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
+        if (!(msg instanceof MessageLite message)) {
+            writeBatch(ctx);
+            ctx.write(msg, promise);
+            return;
+        }
+
+        int messageSize = message.getSerializedSize();
+        int frameSize = CodedOutputStream.computeUInt32SizeNoTag(messageSize) + messageSize;
+
+        // A message that doesn't fit into an empty batch gets a buffer of its own
+        if (frameSize > BATCH_CAPACITY) {
+            writeBatch(ctx);
+            writeFrame(ctx, message, messageSize, frameSize, promise);
+            return;
+        }
+
+        if (batch != null && batch.capacity() - batchOutputStream.getTotalBytesWritten() < frameSize) {
+            writeBatch(ctx);
+        }
+
+        if (batch == null) {
+            batch = ctx.alloc().directBuffer(BATCH_CAPACITY);
+            batchOutputStream = CodedOutputStream.newInstance(batch.nioBuffer(0, BATCH_CAPACITY));
+        }
+
+        int bytesWritten = batchOutputStream.getTotalBytesWritten();
+
+        try {
+            batchOutputStream.writeUInt32NoTag(messageSize);
+            message.writeTo(batchOutputStream);
+        } catch (IOException | RuntimeException e) {
+            // The frames before it are complete, so the batch goes out with them and a fresh one starts after it
+            batchOutputStream = null;
+            batch.writerIndex(bytesWritten);
+            writeBatch(ctx);
+            promise.tryFailure(e);
+            return;
+        }
+
+        if (!promise.isVoid()) {
+            batchPromises.add(promise);
+        }
+    }
+
+    private static void writeFrame(ChannelHandlerContext ctx, MessageLite message, int messageSize, int frameSize, ChannelPromise promise) {
+        ByteBuf frame = ctx.alloc().directBuffer(frameSize);
+
+        try {
+            CodedOutputStream outputStream = CodedOutputStream.newInstance(frame.nioBuffer(0, frameSize));
+            outputStream.writeUInt32NoTag(messageSize);
+            message.writeTo(outputStream);
+            frame.writerIndex(frameSize);
+        } catch (IOException | RuntimeException e) {
+            frame.release();
+            promise.tryFailure(e);
+            return;
+        }
+
+        ctx.write(frame, promise);
+    }
+
+    private void writeBatch(ChannelHandlerContext ctx) {
+        if (batch == null) {
+            return;
+        }
+
+        if (batchOutputStream != null) {
+            batch.writerIndex(batchOutputStream.getTotalBytesWritten());
+        }
+
+        ByteBuf frames = batch;
+        batch = null;
+        batchOutputStream = null;
+
+        if (!frames.isReadable()) {
+            frames.release();
+            return;
+        }
+
+        if (batchPromises.isEmpty()) {
+            ctx.write(frames, ctx.voidPromise());
+            return;
+        }
+
+        ChannelPromise promise = ctx.newPromise();
+        promise.addListener(new PromiseNotifier<>(batchPromises.toArray(new ChannelPromise[0])));
+        batchPromises.clear();
+
+        ctx.write(frames, promise);
+    }
+
+    @Override
+    public void flush(ChannelHandlerContext ctx) {
+        writeBatch(ctx);
+        ctx.flush();
+    }
+
+    @Override
+    public void handlerRemoved(ChannelHandlerContext ctx) {
+        if (batch != null) {
+            batch.release();
+            batch = null;
+            batchOutputStream = null;
+        }
+
+        for (ChannelPromise promise : batchPromises) {
+            promise.tryFailure(new ClosedChannelException());
+        }
+
+        batchPromises.clear();
+    }
+}
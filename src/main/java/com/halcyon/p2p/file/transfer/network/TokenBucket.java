@@ -0,0 +1,75 @@
+package com.halcyon.p2p.file.transfer.network;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import static java.lang.Math.min;
+
+// Refills at rate bytes per second up to burstSize. A reservation takes its tokens right away and may run into debt that later
+// reservations wait out, so a message larger than the burst still passes at the configured rate.
+public class TokenBucket {
+    private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final LongSupplier nanoClock;
+
+    private long rate;
+    private long burstSize;
+    private double tokens;
+    private long lastRefillNanos;
+
+    public TokenBucket(long rate, long burstSize) {
+        this(rate, burstSize, System::nanoTime);
+    }
+
+    TokenBucket(long rate, long burstSize, LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+        this.lastRefillNanos = nanoClock.getAsLong();
+        setRate(rate, burstSize);
+    }
+
+    // A rate of 0 or less means unlimited
+    public synchronized void setRate(long rate, long burstSize) {
+        refill(nanoClock.getAsLong());
+
+        if (this.rate <= 0) {
+            tokens = burstSize;
+        }
+
+        this.rate = rate;
+        this.burstSize = burstSize;
+        this.tokens = min(tokens, burstSize);
+    }
+
+    // Returns how many nanoseconds the reserved bytes have to wait before they may pass
+    public synchronized long reserve(long bytes) {
+        if (rate <= 0) {
+            return 0;
+        }
+
+        refill(nanoClock.getAsLong());
+        tokens -= bytes;
+
+        return tokens >= 0 ? 0 : (long) Math.ceil(-tokens * NANOS_PER_SECOND / rate);
+    }
+
+    private void refill(long nowNanos) {
+        if (rate > 0) {
+            tokens = min(burstSize, tokens + (nowNanos - lastRefillNanos) * rate / NANOS_PER_SECOND);
+        }
+
+        lastRefillNanos = nowNanos;
+    }
+
+    public synchronized long getRate() {
+        return rate;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "TokenBucket{" +
+                "rate=" + rate +
+                ", burstSize=" + burstSize +
+                ", tokens=" + (long) tokens +
+                '}';
+    }
+}
@@ -0,0 +1,121 @@
+package com.halcyon.p2p.file.transfer.network;
+
+import com.halcyon.p2p.file.transfer.config.PeerConfig;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.ServerChannel;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollChannelOption;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollServerSocketChannel;
+import io.netty.channel.epoll.EpollSocketChannel;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ThreadFactory;
+
+public enum Transport {
+    NIO {
+        @Override
+        public EventLoopGroup newEventLoopGroup(int numberOfThreads, ThreadFactory threadFactory) {
+            return new NioEventLoopGroup(numberOfThreads, threadFactory);
+        }
+
+        @Override
+        public Class<? extends ServerChannel> getServerChannelClass() {
+            return NioServerSocketChannel.class;
+        }
+
+        @Override
+        public Class<? extends SocketChannel> getSocketChannelClass() {
+            return NioSocketChannel.class;
+        }
+
+        @Override
+        public int getNumberOfBindChannels(PeerConfig peerConfig) {
+            return 1;
+        }
+
+        @Override
+        public void configureServer(ServerBootstrap serverBootstrap, PeerConfig peerConfig) {
+        }
+
+        @Override
+        public void configureClient(Bootstrap bootstrap, PeerConfig peerConfig) {
+        }
+    },
+
+    // Native sockets also send file regions with sendfile(2) and add SO_REUSEPORT and TCP Fast Open
+    EPOLL {
+        @Override
+        public EventLoopGroup newEventLoopGroup(int numberOfThreads, ThreadFactory threadFactory) {
+            return new EpollEventLoopGroup(numberOfThreads, threadFactory);
+        }
+
+        @Override
+        public Class<? extends ServerChannel> getServerChannelClass() {
+            return EpollServerSocketChannel.class;
+        }
+
+        @Override
+        public Class<? extends SocketChannel> getSocketChannelClass() {
+            return EpollSocketChannel.class;
+        }
+
+        @Override
+        public int getNumberOfBindChannels(PeerConfig peerConfig) {
+            return peerConfig.getAcceptorThreads();
+        }
+
+        @Override
+        public void configureServer(ServerBootstrap serverBootstrap, PeerConfig peerConfig) {
+            if (peerConfig.getAcceptorThreads() > 1) {
+                serverBootstrap.option(EpollChannelOption.SO_REUSEPORT, true);
+            }
+
+            if (peerConfig.getTcpFastOpenQueueLength() > 0) {
+                serverBootstrap.option(ChannelOption.TCP_FASTOPEN, peerConfig.getTcpFastOpenQueueLength());
+            }
+        }
+
+        @Override
+        public void configureClient(Bootstrap bootstrap, PeerConfig peerConfig) {
+            if (peerConfig.getTcpFastOpenQueueLength() > 0) {
+                bootstrap.option(ChannelOption.TCP_FASTOPEN_CONNECT, true);
+            }
+        }
+    };
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(Transport.class);
+
+    public abstract EventLoopGroup newEventLoopGroup(int numberOfThreads, ThreadFactory threadFactory);
+
+    public abstract Class<? extends ServerChannel> getServerChannelClass();
+
+    public abstract Class<? extends SocketChannel> getSocketChannelClass();
+
+    public abstract int getNumberOfBindChannels(PeerConfig peerConfig);
+
+    public abstract void configureServer(ServerBootstrap serverBootstrap, PeerConfig peerConfig);
+
+    public abstract void configureClient(Bootstrap bootstrap, PeerConfig peerConfig);
+
+    public static Transport select(PeerConfig peerConfig) {
+        if (!peerConfig.isNativeTransportEnabled()) {
+            return NIO;
+        }
+
+        if (Epoll.isAvailable()) {
+            return EPOLL;
+        }
+
+        LOGGER.warn("The native epoll transport is unavailable, falling back to NIO", Epoll.unavailabilityCause());
+        return NIO;
+    }
+}
@@ -0,0 +1,862 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// NO CHECKED-IN PROTOBUF GENCODE
+// source: src/main/protobuf/download.proto
+// Protobuf Java Version: 4.29.2
+
+package com.halcyon.p2p.file.transfer.proto;
+
+public final class Download {
+  private Download() {}
+  static {
+    com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+      com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+      /* major= */ 4,
+      /* minor= */ 29,
+      /* patch= */ 2,
+      /* suffix= */ "",
+      Download.class.getName());
+  }
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistryLite registry) {
+  }
+
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+    registerAllExtensions(
+        (com.google.protobuf.ExtensionRegistryLite) registry);
+  }
+  public interface DownloadStateOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:DownloadState)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string fileName = 1;</code>
+     * @return The fileName.
+     */
+    java.lang.String getFileName();
+    /**
+     * <code>string fileName = 1;</code>
+     * @return The bytes for fileName.
+     */
+    com.google.protobuf.ByteString
+        getFileNameBytes();
+
+    /**
+     * <code>int64 fileSize = 2;</code>
+     * @return The fileSize.
+     */
+    long getFileSize();
+
+    /**
+     * <code>bytes contentHash = 3;</code>
+     * @return The contentHash.
+     */
+    com.google.protobuf.ByteString getContentHash();
+
+    /**
+     * <code>int32 pieceSize = 4;</code>
+     * @return The pieceSize.
+     */
+    int getPieceSize();
+
+    /**
+     * <code>bytes pieceBitmap = 5;</code>
+     * @return The pieceBitmap.
+     */
+    com.google.protobuf.ByteString getPieceBitmap();
+  }
+  /**
+   * Protobuf type {@code DownloadState}
+   */
+  public static final class DownloadState extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:DownloadState)
+      DownloadStateOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 29,
+        /* patch= */ 2,
+        /* suffix= */ "",
+        DownloadState.class.getName());
+    }
+    // Use DownloadState.newBuilder() to construct.
+    private DownloadState(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private DownloadState() {
+      fileName_ = "";
+      contentHash_ = com.google.protobuf.ByteString.EMPTY;
+      pieceBitmap_ = com.google.protobuf.ByteString.EMPTY;
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return Download.internal_static_DownloadState_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return Download.internal_static_DownloadState_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              Download.DownloadState.class, Download.DownloadState.Builder.class);
+    }
+
+    public static final int FILENAME_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object fileName_ = "";
+    /**
+     * <code>string fileName = 1;</code>
+     * @return The fileName.
+     */
+    @java.lang.Override
+    public java.lang.String getFileName() {
+      java.lang.Object ref = fileName_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        fileName_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string fileName = 1;</code>
+     * @return The bytes for fileName.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getFileNameBytes() {
+      java.lang.Object ref = fileName_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        fileName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int FILESIZE_FIELD_NUMBER = 2;
+    private long fileSize_ = 0L;
+    /**
+     * <code>int64 fileSize = 2;</code>
+     * @return The fileSize.
+     */
+    @java.lang.Override
+    public long getFileSize() {
+      return fileSize_;
+    }
+
+    public static final int CONTENTHASH_FIELD_NUMBER = 3;
+    private com.google.protobuf.ByteString contentHash_ = com.google.protobuf.ByteString.EMPTY;
+    /**
+     * <code>bytes contentHash = 3;</code>
+     * @return The contentHash.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString getContentHash() {
+      return contentHash_;
+    }
+
+    public static final int PIECESIZE_FIELD_NUMBER = 4;
+    private int pieceSize_ = 0;
+    /**
+     * <code>int32 pieceSize = 4;</code>
+     * @return The pieceSize.
+     */
+    @java.lang.Override
+    public int getPieceSize() {
+      return pieceSize_;
+    }
+
+    public static final int PIECEBITMAP_FIELD_NUMBER = 5;
+    private com.google.protobuf.ByteString pieceBitmap_ = com.google.protobuf.ByteString.EMPTY;
+    /**
+     * <code>bytes pieceBitmap = 5;</code>
+     * @return The pieceBitmap.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString getPieceBitmap() {
+      return pieceBitmap_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(fileName_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 1, fileName_);
+      }
+      if (fileSize_ != 0L) {
+        output.writeInt64(2, fileSize_);
+      }
+      if (!contentHash_.isEmpty()) {
+        output.writeBytes(3, contentHash_);
+      }
+      if (pieceSize_ != 0) {
+        output.writeInt32(4, pieceSize_);
+      }
+      if (!pieceBitmap_.isEmpty()) {
+        output.writeBytes(5, pieceBitmap_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(fileName_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(1, fileName_);
+      }
+      if (fileSize_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(2, fileSize_);
+      }
+      if (!contentHash_.isEmpty()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(3, contentHash_);
+      }
+      if (pieceSize_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(4, pieceSize_);
+      }
+      if (!pieceBitmap_.isEmpty()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(5, pieceBitmap_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof Download.DownloadState)) {
+        return super.equals(obj);
+      }
+      Download.DownloadState other = (Download.DownloadState) obj;
+
+      if (!getFileName()
+          .equals(other.getFileName())) return false;
+      if (getFileSize()
+          != other.getFileSize()) return false;
+      if (!getContentHash()
+          .equals(other.getContentHash())) return false;
+      if (getPieceSize()
+          != other.getPieceSize()) return false;
+      if (!getPieceBitmap()
+          .equals(other.getPieceBitmap())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + FILENAME_FIELD_NUMBER;
+      hash = (53 * hash) + getFileName().hashCode();
+      hash = (37 * hash) + FILESIZE_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getFileSize());
+      hash = (37 * hash) + CONTENTHASH_FIELD_NUMBER;
+      hash = (53 * hash) + getContentHash().hashCode();
+      hash = (37 * hash) + PIECESIZE_FIELD_NUMBER;
+      hash = (53 * hash) + getPieceSize();
+      hash = (37 * hash) + PIECEBITMAP_FIELD_NUMBER;
+      hash = (53 * hash) + getPieceBitmap().hashCode();
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static Download.DownloadState parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static Download.DownloadState parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static Download.DownloadState parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static Download.DownloadState parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static Download.DownloadState parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static Download.DownloadState parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static Download.DownloadState parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static Download.DownloadState parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static Download.DownloadState parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static Download.DownloadState parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static Download.DownloadState parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static Download.DownloadState parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(Download.DownloadState prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code DownloadState}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:DownloadState)
+        Download.DownloadStateOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return Download.internal_static_DownloadState_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return Download.internal_static_DownloadState_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                Download.DownloadState.class, Download.DownloadState.Builder.class);
+      }
+
+      // Construct using Download.DownloadState.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        fileName_ = "";
+        fileSize_ = 0L;
+        contentHash_ = com.google.protobuf.ByteString.EMPTY;
+        pieceSize_ = 0;
+        pieceBitmap_ = com.google.protobuf.ByteString.EMPTY;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return Download.internal_static_DownloadState_descriptor;
+      }
+
+      @java.lang.Override
+      public Download.DownloadState getDefaultInstanceForType() {
+        return Download.DownloadState.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public Download.DownloadState build() {
+        Download.DownloadState result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public Download.DownloadState buildPartial() {
+        Download.DownloadState result = new Download.DownloadState(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(Download.DownloadState result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.fileName_ = fileName_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.fileSize_ = fileSize_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.contentHash_ = contentHash_;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.pieceSize_ = pieceSize_;
+        }
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          result.pieceBitmap_ = pieceBitmap_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof Download.DownloadState) {
+          return mergeFrom((Download.DownloadState)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(Download.DownloadState other) {
+        if (other == Download.DownloadState.getDefaultInstance()) return this;
+        if (!other.getFileName().isEmpty()) {
+          fileName_ = other.fileName_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (other.getFileSize() != 0L) {
+          setFileSize(other.getFileSize());
+        }
+        if (other.getContentHash() != com.google.protobuf.ByteString.EMPTY) {
+          setContentHash(other.getContentHash());
+        }
+        if (other.getPieceSize() != 0) {
+          setPieceSize(other.getPieceSize());
+        }
+        if (other.getPieceBitmap() != com.google.protobuf.ByteString.EMPTY) {
+          setPieceBitmap(other.getPieceBitmap());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                fileName_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 16: {
+                fileSize_ = input.readInt64();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 16
+              case 26: {
+                contentHash_ = input.readBytes();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 26
+              case 32: {
+                pieceSize_ = input.readInt32();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 32
+              case 42: {
+                pieceBitmap_ = input.readBytes();
+                bitField0_ |= 0x00000010;
+                break;
+              } // case 42
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object fileName_ = "";
+      /**
+       * <code>string fileName = 1;</code>
+       * @return The fileName.
+       */
+      public java.lang.String getFileName() {
+        java.lang.Object ref = fileName_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          fileName_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string fileName = 1;</code>
+       * @return The bytes for fileName.
+       */
+      public com.google.protobuf.ByteString
+          getFileNameBytes() {
+        java.lang.Object ref = fileName_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          fileName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string fileName = 1;</code>
+       * @param value The fileName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setFileName(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        fileName_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string fileName = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearFileName() {
+        fileName_ = getDefaultInstance().getFileName();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string fileName = 1;</code>
+       * @param value The bytes for fileName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setFileNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        fileName_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private long fileSize_ ;
+      /**
+       * <code>int64 fileSize = 2;</code>
+       * @return The fileSize.
+       */
+      @java.lang.Override
+      public long getFileSize() {
+        return fileSize_;
+      }
+      /**
+       * <code>int64 fileSize = 2;</code>
+       * @param value The fileSize to set.
+       * @return This builder for chaining.
+       */
+      public Builder setFileSize(long value) {
+
+        fileSize_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 fileSize = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearFileSize() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        fileSize_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.ByteString contentHash_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>bytes contentHash = 3;</code>
+       * @return The contentHash.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString getContentHash() {
+        return contentHash_;
+      }
+      /**
+       * <code>bytes contentHash = 3;</code>
+       * @param value The contentHash to set.
+       * @return This builder for chaining.
+       */
+      public Builder setContentHash(com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        contentHash_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bytes contentHash = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearContentHash() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        contentHash_ = getDefaultInstance().getContentHash();
+        onChanged();
+        return this;
+      }
+
+      private int pieceSize_ ;
+      /**
+       * <code>int32 pieceSize = 4;</code>
+       * @return The pieceSize.
+       */
+      @java.lang.Override
+      public int getPieceSize() {
+        return pieceSize_;
+      }
+      /**
+       * <code>int32 pieceSize = 4;</code>
+       * @param value The pieceSize to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPieceSize(int value) {
+
+        pieceSize_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 pieceSize = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPieceSize() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        pieceSize_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.ByteString pieceBitmap_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>bytes pieceBitmap = 5;</code>
+       * @return The pieceBitmap.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString getPieceBitmap() {
+        return pieceBitmap_;
+      }
+      /**
+       * <code>bytes pieceBitmap = 5;</code>
+       * @param value The pieceBitmap to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPieceBitmap(com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        pieceBitmap_ = value;
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bytes pieceBitmap = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPieceBitmap() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        pieceBitmap_ = getDefaultInstance().getPieceBitmap();
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:DownloadState)
+    }
+
+    // @@protoc_insertion_point(class_scope:DownloadState)
+    private static final Download.DownloadState DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new Download.DownloadState();
+    }
+
+    public static Download.DownloadState getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<DownloadState>
+        PARSER = new com.google.protobuf.AbstractParser<DownloadState>() {
+      @java.lang.Override
+      public DownloadState parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<DownloadState> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<DownloadState> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public Download.DownloadState getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_DownloadState_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_DownloadState_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n src/main/protobuf/download.proto\"p\n\rDo" +
+      "wnloadState\022\020\n\010fileName\030\001 \001(\t\022\020\n\010fileSiz" +
+      "e\030\002 \001(\003\022\023\n\013contentHash\030\003 \001(\014\022\021\n\tpieceSiz" +
+      "e\030\004 \001(\005\022\023\n\013pieceBitmap\030\005 \001(\014b\006proto3"
+    };
+    descriptor = com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+        });
+    internal_static_DownloadState_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_DownloadState_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_DownloadState_descriptor,
+        new java.lang.String[] { "FileName", "FileSize", "ContentHash", "PieceSize", "PieceBitmap", });
+    descriptor.resolveAllFeaturesImmutable();
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
@@ -28,6 +28,48 @@ public final class File {
   public interface GetFilesRequestOrBuilder extends
       // @@protoc_insertion_point(interface_extends:GetFilesRequest)
       com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string prefix = 1;</code>
+     * @return The prefix.
+     */
+    java.lang.String getPrefix();
+    /**
+     * <code>string prefix = 1;</code>
+     * @return The bytes for prefix.
+     */
+    com.google.protobuf.ByteString
+        getPrefixBytes();
+
+    /**
+     * <code>string glob = 2;</code>
+     * @return The glob.
+     */
+    java.lang.String getGlob();
+    /**
+     * <code>string glob = 2;</code>
+     * @return The bytes for glob.
+     */
+    com.google.protobuf.ByteString
+        getGlobBytes();
+
+    /**
+     * <code>string cursor = 3;</code>
+     * @return The cursor.
+     */
+    java.lang.String getCursor();
+    /**
+     * <code>string cursor = 3;</code>
+     * @return The bytes for cursor.
+     */
+    com.google.protobuf.ByteString
+        getCursorBytes();
+
+    /**
+     * <code>int32 pageSize = 4;</code>
+     * @return The pageSize.
+     */
+    int getPageSize();
   }
   /**
    * Protobuf type {@code GetFilesRequest}
@@ -51,6 +93,9 @@ public final class File {
       super(builder);
     }
     private GetFilesRequest() {
+      prefix_ = "";
+      glob_ = "";
+      cursor_ = "";
     }
 
     public static final com.google.protobuf.Descriptors.Descriptor
@@ -66,6 +111,134 @@ public final class File {
               File.GetFilesRequest.class, File.GetFilesRequest.Builder.class);
     }
 
+    public static final int PREFIX_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object prefix_ = "";
+    /**
+     * <code>string prefix = 1;</code>
+     * @return The prefix.
+     */
+    @java.lang.Override
+    public java.lang.String getPrefix() {
+      java.lang.Object ref = prefix_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        prefix_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string prefix = 1;</code>
+     * @return The bytes for prefix.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getPrefixBytes() {
+      java.lang.Object ref = prefix_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        prefix_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int GLOB_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object glob_ = "";
+    /**
+     * <code>string glob = 2;</code>
+     * @return The glob.
+     */
+    @java.lang.Override
+    public java.lang.String getGlob() {
+      java.lang.Object ref = glob_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        glob_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string glob = 2;</code>
+     * @return The bytes for glob.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getGlobBytes() {
+      java.lang.Object ref = glob_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        glob_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int CURSOR_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object cursor_ = "";
+    /**
+     * <code>string cursor = 3;</code>
+     * @return The cursor.
+     */
+    @java.lang.Override
+    public java.lang.String getCursor() {
+      java.lang.Object ref = cursor_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        cursor_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string cursor = 3;</code>
+     * @return The bytes for cursor.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getCursorBytes() {
+      java.lang.Object ref = cursor_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        cursor_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int PAGESIZE_FIELD_NUMBER = 4;
+    private int pageSize_ = 0;
+    /**
+     * <code>int32 pageSize = 4;</code>
+     * @return The pageSize.
+     */
+    @java.lang.Override
+    public int getPageSize() {
+      return pageSize_;
+    }
+
     private byte memoizedIsInitialized = -1;
     @java.lang.Override
     public final boolean isInitialized() {
@@ -80,6 +253,18 @@ public final class File {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(prefix_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 1, prefix_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(glob_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 2, glob_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(cursor_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 3, cursor_);
+      }
+      if (pageSize_ != 0) {
+        output.writeInt32(4, pageSize_);
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -89,6 +274,19 @@ public final class File {
       if (size != -1) return size;
 
       size = 0;
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(prefix_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(1, prefix_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(glob_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(2, glob_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(cursor_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(3, cursor_);
+      }
+      if (pageSize_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(4, pageSize_);
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSize = size;
       return size;
@@ -104,6 +302,14 @@ public final class File {
       }
       File.GetFilesRequest other = (File.GetFilesRequest) obj;
 
+      if (!getPrefix()
+          .equals(other.getPrefix())) return false;
+      if (!getGlob()
+          .equals(other.getGlob())) return false;
+      if (!getCursor()
+          .equals(other.getCursor())) return false;
+      if (getPageSize()
+          != other.getPageSize()) return false;
       if (!getUnknownFields().equals(other.getUnknownFields())) return false;
       return true;
     }
@@ -115,6 +321,14 @@ public final class File {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + PREFIX_FIELD_NUMBER;
+      hash = (53 * hash) + getPrefix().hashCode();
+      hash = (37 * hash) + GLOB_FIELD_NUMBER;
+      hash = (53 * hash) + getGlob().hashCode();
+      hash = (37 * hash) + CURSOR_FIELD_NUMBER;
+      hash = (53 * hash) + getCursor().hashCode();
+      hash = (37 * hash) + PAGESIZE_FIELD_NUMBER;
+      hash = (53 * hash) + getPageSize();
       hash = (29 * hash) + getUnknownFields().hashCode();
       memoizedHashCode = hash;
       return hash;
@@ -245,6 +459,11 @@ public final class File {
       @java.lang.Override
       public Builder clear() {
         super.clear();
+        bitField0_ = 0;
+        prefix_ = "";
+        glob_ = "";
+        cursor_ = "";
+        pageSize_ = 0;
         return this;
       }
 
@@ -271,10 +490,27 @@ public final class File {
       @java.lang.Override
       public File.GetFilesRequest buildPartial() {
         File.GetFilesRequest result = new File.GetFilesRequest(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
         onBuilt();
         return result;
       }
 
+      private void buildPartial0(File.GetFilesRequest result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.prefix_ = prefix_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.glob_ = glob_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.cursor_ = cursor_;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.pageSize_ = pageSize_;
+        }
+      }
+
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
         if (other instanceof File.GetFilesRequest) {
@@ -287,6 +523,24 @@ public final class File {
 
       public Builder mergeFrom(File.GetFilesRequest other) {
         if (other == File.GetFilesRequest.getDefaultInstance()) return this;
+        if (!other.getPrefix().isEmpty()) {
+          prefix_ = other.prefix_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (!other.getGlob().isEmpty()) {
+          glob_ = other.glob_;
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
+        if (!other.getCursor().isEmpty()) {
+          cursor_ = other.cursor_;
+          bitField0_ |= 0x00000004;
+          onChanged();
+        }
+        if (other.getPageSize() != 0) {
+          setPageSize(other.getPageSize());
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         onChanged();
         return this;
@@ -313,6 +567,26 @@ public final class File {
               case 0:
                 done = true;
                 break;
+              case 10: {
+                prefix_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                glob_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              case 26: {
+                cursor_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 26
+              case 32: {
+                pageSize_ = input.readInt32();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 32
               default: {
                 if (!super.parseUnknownField(input, extensionRegistry, tag)) {
                   done = true; // was an endgroup tag
@@ -328,106 +602,14144 @@ public final class File {
         } // finally
         return this;
       }
+      private int bitField0_;
 
-      // @@protoc_insertion_point(builder_scope:GetFilesRequest)
-    }
-
-    // @@protoc_insertion_point(class_scope:GetFilesRequest)
-    private static final File.GetFilesRequest DEFAULT_INSTANCE;
-    static {
-      DEFAULT_INSTANCE = new File.GetFilesRequest();
-    }
-
-    public static File.GetFilesRequest getDefaultInstance() {
-      return DEFAULT_INSTANCE;
-    }
-
-    private static final com.google.protobuf.Parser<GetFilesRequest>
-        PARSER = new com.google.protobuf.AbstractParser<GetFilesRequest>() {
-      @java.lang.Override
-      public GetFilesRequest parsePartialFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-        Builder builder = newBuilder();
-        try {
-          builder.mergeFrom(input, extensionRegistry);
-        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          throw e.setUnfinishedMessage(builder.buildPartial());
-        } catch (com.google.protobuf.UninitializedMessageException e) {
-          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
-        } catch (java.io.IOException e) {
-          throw new com.google.protobuf.InvalidProtocolBufferException(e)
-              .setUnfinishedMessage(builder.buildPartial());
+      private java.lang.Object prefix_ = "";
+      /**
+       * <code>string prefix = 1;</code>
+       * @return The prefix.
+       */
+      public java.lang.String getPrefix() {
+        java.lang.Object ref = prefix_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          prefix_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
         }
-        return builder.buildPartial();
       }
-    };
-
-    public static com.google.protobuf.Parser<GetFilesRequest> parser() {
-      return PARSER;
-    }
-
-    @java.lang.Override
-    public com.google.protobuf.Parser<GetFilesRequest> getParserForType() {
-      return PARSER;
-    }
-
-    @java.lang.Override
-    public File.GetFilesRequest getDefaultInstanceForType() {
-      return DEFAULT_INSTANCE;
-    }
-
-  }
-
-  public interface GetFilesResponseOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:GetFilesResponse)
-      com.google.protobuf.MessageOrBuilder {
+      /**
+       * <code>string prefix = 1;</code>
+       * @return The bytes for prefix.
+       */
+      public com.google.protobuf.ByteString
+          getPrefixBytes() {
+        java.lang.Object ref = prefix_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          prefix_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string prefix = 1;</code>
+       * @param value The prefix to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPrefix(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        prefix_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string prefix = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPrefix() {
+        prefix_ = getDefaultInstance().getPrefix();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string prefix = 1;</code>
+       * @param value The bytes for prefix to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPrefixBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        prefix_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
 
-    /**
-     * <code>string peerName = 1;</code>
-     * @return The peerName.
-     */
-    java.lang.String getPeerName();
-    /**
+      private java.lang.Object glob_ = "";
+      /**
+       * <code>string glob = 2;</code>
+       * @return The glob.
+       */
+      public java.lang.String getGlob() {
+        java.lang.Object ref = glob_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          glob_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string glob = 2;</code>
+       * @return The bytes for glob.
+       */
+      public com.google.protobuf.ByteString
+          getGlobBytes() {
+        java.lang.Object ref = glob_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          glob_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string glob = 2;</code>
+       * @param value The glob to set.
+       * @return This builder for chaining.
+       */
+      public Builder setGlob(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        glob_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string glob = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearGlob() {
+        glob_ = getDefaultInstance().getGlob();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string glob = 2;</code>
+       * @param value The bytes for glob to set.
+       * @return This builder for chaining.
+       */
+      public Builder setGlobBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        glob_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object cursor_ = "";
+      /**
+       * <code>string cursor = 3;</code>
+       * @return The cursor.
+       */
+      public java.lang.String getCursor() {
+        java.lang.Object ref = cursor_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          cursor_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string cursor = 3;</code>
+       * @return The bytes for cursor.
+       */
+      public com.google.protobuf.ByteString
+          getCursorBytes() {
+        java.lang.Object ref = cursor_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          cursor_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string cursor = 3;</code>
+       * @param value The cursor to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCursor(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        cursor_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string cursor = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearCursor() {
+        cursor_ = getDefaultInstance().getCursor();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string cursor = 3;</code>
+       * @param value The bytes for cursor to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCursorBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        cursor_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+
+      private int pageSize_ ;
+      /**
+       * <code>int32 pageSize = 4;</code>
+       * @return The pageSize.
+       */
+      @java.lang.Override
+      public int getPageSize() {
+        return pageSize_;
+      }
+      /**
+       * <code>int32 pageSize = 4;</code>
+       * @param value The pageSize to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPageSize(int value) {
+
+        pageSize_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 pageSize = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPageSize() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        pageSize_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:GetFilesRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:GetFilesRequest)
+    private static final File.GetFilesRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new File.GetFilesRequest();
+    }
+
+    public static File.GetFilesRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<GetFilesRequest>
+        PARSER = new com.google.protobuf.AbstractParser<GetFilesRequest>() {
+      @java.lang.Override
+      public GetFilesRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<GetFilesRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<GetFilesRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public File.GetFilesRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface FileEntryOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:FileEntry)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string fileName = 1;</code>
+     * @return The fileName.
+     */
+    java.lang.String getFileName();
+    /**
+     * <code>string fileName = 1;</code>
+     * @return The bytes for fileName.
+     */
+    com.google.protobuf.ByteString
+        getFileNameBytes();
+
+    /**
+     * <code>int64 fileSize = 2;</code>
+     * @return The fileSize.
+     */
+    long getFileSize();
+
+    /**
+     * <code>int64 lastModified = 3;</code>
+     * @return The lastModified.
+     */
+    long getLastModified();
+
+    /**
+     * <code>bytes contentHash = 4;</code>
+     * @return The contentHash.
+     */
+    com.google.protobuf.ByteString getContentHash();
+  }
+  /**
+   * Protobuf type {@code FileEntry}
+   */
+  public static final class FileEntry extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:FileEntry)
+      FileEntryOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 29,
+        /* patch= */ 2,
+        /* suffix= */ "",
+        FileEntry.class.getName());
+    }
+    // Use FileEntry.newBuilder() to construct.
+    private FileEntry(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private FileEntry() {
+      fileName_ = "";
+      contentHash_ = com.google.protobuf.ByteString.EMPTY;
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return File.internal_static_FileEntry_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return File.internal_static_FileEntry_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              File.FileEntry.class, File.FileEntry.Builder.class);
+    }
+
+    public static final int FILENAME_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object fileName_ = "";
+    /**
+     * <code>string fileName = 1;</code>
+     * @return The fileName.
+     */
+    @java.lang.Override
+    public java.lang.String getFileName() {
+      java.lang.Object ref = fileName_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        fileName_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string fileName = 1;</code>
+     * @return The bytes for fileName.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getFileNameBytes() {
+      java.lang.Object ref = fileName_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        fileName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int FILESIZE_FIELD_NUMBER = 2;
+    private long fileSize_ = 0L;
+    /**
+     * <code>int64 fileSize = 2;</code>
+     * @return The fileSize.
+     */
+    @java.lang.Override
+    public long getFileSize() {
+      return fileSize_;
+    }
+
+    public static final int LASTMODIFIED_FIELD_NUMBER = 3;
+    private long lastModified_ = 0L;
+    /**
+     * <code>int64 lastModified = 3;</code>
+     * @return The lastModified.
+     */
+    @java.lang.Override
+    public long getLastModified() {
+      return lastModified_;
+    }
+
+    public static final int CONTENTHASH_FIELD_NUMBER = 4;
+    private com.google.protobuf.ByteString contentHash_ = com.google.protobuf.ByteString.EMPTY;
+    /**
+     * <code>bytes contentHash = 4;</code>
+     * @return The contentHash.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString getContentHash() {
+      return contentHash_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(fileName_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 1, fileName_);
+      }
+      if (fileSize_ != 0L) {
+        output.writeInt64(2, fileSize_);
+      }
+      if (lastModified_ != 0L) {
+        output.writeInt64(3, lastModified_);
+      }
+      if (!contentHash_.isEmpty()) {
+        output.writeBytes(4, contentHash_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(fileName_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(1, fileName_);
+      }
+      if (fileSize_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(2, fileSize_);
+      }
+      if (lastModified_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(3, lastModified_);
+      }
+      if (!contentHash_.isEmpty()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(4, contentHash_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof File.FileEntry)) {
+        return super.equals(obj);
+      }
+      File.FileEntry other = (File.FileEntry) obj;
+
+      if (!getFileName()
+          .equals(other.getFileName())) return false;
+      if (getFileSize()
+          != other.getFileSize()) return false;
+      if (getLastModified()
+          != other.getLastModified()) return false;
+      if (!getContentHash()
+          .equals(other.getContentHash())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + FILENAME_FIELD_NUMBER;
+      hash = (53 * hash) + getFileName().hashCode();
+      hash = (37 * hash) + FILESIZE_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getFileSize());
+      hash = (37 * hash) + LASTMODIFIED_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getLastModified());
+      hash = (37 * hash) + CONTENTHASH_FIELD_NUMBER;
+      hash = (53 * hash) + getContentHash().hashCode();
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static File.FileEntry parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static File.FileEntry parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static File.FileEntry parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static File.FileEntry parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static File.FileEntry parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static File.FileEntry parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static File.FileEntry parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static File.FileEntry parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static File.FileEntry parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static File.FileEntry parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static File.FileEntry parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static File.FileEntry parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(File.FileEntry prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code FileEntry}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:FileEntry)
+        File.FileEntryOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return File.internal_static_FileEntry_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return File.internal_static_FileEntry_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                File.FileEntry.class, File.FileEntry.Builder.class);
+      }
+
+      // Construct using File.FileEntry.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        fileName_ = "";
+        fileSize_ = 0L;
+        lastModified_ = 0L;
+        contentHash_ = com.google.protobuf.ByteString.EMPTY;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return File.internal_static_FileEntry_descriptor;
+      }
+
+      @java.lang.Override
+      public File.FileEntry getDefaultInstanceForType() {
+        return File.FileEntry.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public File.FileEntry build() {
+        File.FileEntry result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public File.FileEntry buildPartial() {
+        File.FileEntry result = new File.FileEntry(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(File.FileEntry result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.fileName_ = fileName_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.fileSize_ = fileSize_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.lastModified_ = lastModified_;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.contentHash_ = contentHash_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof File.FileEntry) {
+          return mergeFrom((File.FileEntry)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(File.FileEntry other) {
+        if (other == File.FileEntry.getDefaultInstance()) return this;
+        if (!other.getFileName().isEmpty()) {
+          fileName_ = other.fileName_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (other.getFileSize() != 0L) {
+          setFileSize(other.getFileSize());
+        }
+        if (other.getLastModified() != 0L) {
+          setLastModified(other.getLastModified());
+        }
+        if (other.getContentHash() != com.google.protobuf.ByteString.EMPTY) {
+          setContentHash(other.getContentHash());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                fileName_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 16: {
+                fileSize_ = input.readInt64();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 16
+              case 24: {
+                lastModified_ = input.readInt64();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 24
+              case 34: {
+                contentHash_ = input.readBytes();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 34
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object fileName_ = "";
+      /**
+       * <code>string fileName = 1;</code>
+       * @return The fileName.
+       */
+      public java.lang.String getFileName() {
+        java.lang.Object ref = fileName_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          fileName_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string fileName = 1;</code>
+       * @return The bytes for fileName.
+       */
+      public com.google.protobuf.ByteString
+          getFileNameBytes() {
+        java.lang.Object ref = fileName_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          fileName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string fileName = 1;</code>
+       * @param value The fileName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setFileName(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        fileName_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string fileName = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearFileName() {
+        fileName_ = getDefaultInstance().getFileName();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string fileName = 1;</code>
+       * @param value The bytes for fileName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setFileNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        fileName_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private long fileSize_ ;
+      /**
+       * <code>int64 fileSize = 2;</code>
+       * @return The fileSize.
+       */
+      @java.lang.Override
+      public long getFileSize() {
+        return fileSize_;
+      }
+      /**
+       * <code>int64 fileSize = 2;</code>
+       * @param value The fileSize to set.
+       * @return This builder for chaining.
+       */
+      public Builder setFileSize(long value) {
+
+        fileSize_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 fileSize = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearFileSize() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        fileSize_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private long lastModified_ ;
+      /**
+       * <code>int64 lastModified = 3;</code>
+       * @return The lastModified.
+       */
+      @java.lang.Override
+      public long getLastModified() {
+        return lastModified_;
+      }
+      /**
+       * <code>int64 lastModified = 3;</code>
+       * @param value The lastModified to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLastModified(long value) {
+
+        lastModified_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 lastModified = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLastModified() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        lastModified_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.ByteString contentHash_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>bytes contentHash = 4;</code>
+       * @return The contentHash.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString getContentHash() {
+        return contentHash_;
+      }
+      /**
+       * <code>bytes contentHash = 4;</code>
+       * @param value The contentHash to set.
+       * @return This builder for chaining.
+       */
+      public Builder setContentHash(com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        contentHash_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bytes contentHash = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearContentHash() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        contentHash_ = getDefaultInstance().getContentHash();
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:FileEntry)
+    }
+
+    // @@protoc_insertion_point(class_scope:FileEntry)
+    private static final File.FileEntry DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new File.FileEntry();
+    }
+
+    public static File.FileEntry getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<FileEntry>
+        PARSER = new com.google.protobuf.AbstractParser<FileEntry>() {
+      @java.lang.Override
+      public FileEntry parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<FileEntry> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<FileEntry> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public File.FileEntry getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface GetFilesResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:GetFilesResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string peerName = 1;</code>
+     * @return The peerName.
+     */
+    java.lang.String getPeerName();
+    /**
+     * <code>string peerName = 1;</code>
+     * @return The bytes for peerName.
+     */
+    com.google.protobuf.ByteString
+        getPeerNameBytes();
+
+    /**
+     * <code>repeated .FileEntry files = 4;</code>
+     */
+    java.util.List<File.FileEntry> 
+        getFilesList();
+    /**
+     * <code>repeated .FileEntry files = 4;</code>
+     */
+    File.FileEntry getFiles(int index);
+    /**
+     * <code>repeated .FileEntry files = 4;</code>
+     */
+    int getFilesCount();
+    /**
+     * <code>repeated .FileEntry files = 4;</code>
+     */
+    java.util.List<? extends File.FileEntryOrBuilder> 
+        getFilesOrBuilderList();
+    /**
+     * <code>repeated .FileEntry files = 4;</code>
+     */
+    File.FileEntryOrBuilder getFilesOrBuilder(
+        int index);
+
+    /**
+     * <code>string nextCursor = 5;</code>
+     * @return The nextCursor.
+     */
+    java.lang.String getNextCursor();
+    /**
+     * <code>string nextCursor = 5;</code>
+     * @return The bytes for nextCursor.
+     */
+    com.google.protobuf.ByteString
+        getNextCursorBytes();
+  }
+  /**
+   * Protobuf type {@code GetFilesResponse}
+   */
+  public static final class GetFilesResponse extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:GetFilesResponse)
+      GetFilesResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 29,
+        /* patch= */ 2,
+        /* suffix= */ "",
+        GetFilesResponse.class.getName());
+    }
+    // Use GetFilesResponse.newBuilder() to construct.
+    private GetFilesResponse(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private GetFilesResponse() {
+      peerName_ = "";
+      files_ = java.util.Collections.emptyList();
+      nextCursor_ = "";
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return File.internal_static_GetFilesResponse_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return File.internal_static_GetFilesResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              File.GetFilesResponse.class, File.GetFilesResponse.Builder.class);
+    }
+
+    public static final int PEERNAME_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object peerName_ = "";
+    /**
+     * <code>string peerName = 1;</code>
+     * @return The peerName.
+     */
+    @java.lang.Override
+    public java.lang.String getPeerName() {
+      java.lang.Object ref = peerName_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        peerName_ = s;
+        return s;
+      }
+    }
+    /**
      * <code>string peerName = 1;</code>
      * @return The bytes for peerName.
      */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getPeerNameBytes() {
+      java.lang.Object ref = peerName_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        peerName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int FILES_FIELD_NUMBER = 4;
+    @SuppressWarnings("serial")
+    private java.util.List<File.FileEntry> files_;
+    /**
+     * <code>repeated .FileEntry files = 4;</code>
+     */
+    @java.lang.Override
+    public java.util.List<File.FileEntry> getFilesList() {
+      return files_;
+    }
+    /**
+     * <code>repeated .FileEntry files = 4;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends File.FileEntryOrBuilder> 
+        getFilesOrBuilderList() {
+      return files_;
+    }
+    /**
+     * <code>repeated .FileEntry files = 4;</code>
+     */
+    @java.lang.Override
+    public int getFilesCount() {
+      return files_.size();
+    }
+    /**
+     * <code>repeated .FileEntry files = 4;</code>
+     */
+    @java.lang.Override
+    public File.FileEntry getFiles(int index) {
+      return files_.get(index);
+    }
+    /**
+     * <code>repeated .FileEntry files = 4;</code>
+     */
+    @java.lang.Override
+    public File.FileEntryOrBuilder getFilesOrBuilder(
+        int index) {
+      return files_.get(index);
+    }
+
+    public static final int NEXTCURSOR_FIELD_NUMBER = 5;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object nextCursor_ = "";
+    /**
+     * <code>string nextCursor = 5;</code>
+     * @return The nextCursor.
+     */
+    @java.lang.Override
+    public java.lang.String getNextCursor() {
+      java.lang.Object ref = nextCursor_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        nextCursor_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string nextCursor = 5;</code>
+     * @return The bytes for nextCursor.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getNextCursorBytes() {
+      java.lang.Object ref = nextCursor_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        nextCursor_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(peerName_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 1, peerName_);
+      }
+      for (int i = 0; i < files_.size(); i++) {
+        output.writeMessage(4, files_.get(i));
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(nextCursor_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 5, nextCursor_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(peerName_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(1, peerName_);
+      }
+      for (int i = 0; i < files_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, files_.get(i));
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(nextCursor_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(5, nextCursor_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof File.GetFilesResponse)) {
+        return super.equals(obj);
+      }
+      File.GetFilesResponse other = (File.GetFilesResponse) obj;
+
+      if (!getPeerName()
+          .equals(other.getPeerName())) return false;
+      if (!getFilesList()
+          .equals(other.getFilesList())) return false;
+      if (!getNextCursor()
+          .equals(other.getNextCursor())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + PEERNAME_FIELD_NUMBER;
+      hash = (53 * hash) + getPeerName().hashCode();
+      if (getFilesCount() > 0) {
+        hash = (37 * hash) + FILES_FIELD_NUMBER;
+        hash = (53 * hash) + getFilesList().hashCode();
+      }
+      hash = (37 * hash) + NEXTCURSOR_FIELD_NUMBER;
+      hash = (53 * hash) + getNextCursor().hashCode();
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static File.GetFilesResponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static File.GetFilesResponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static File.GetFilesResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static File.GetFilesResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static File.GetFilesResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static File.GetFilesResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static File.GetFilesResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static File.GetFilesResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static File.GetFilesResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static File.GetFilesResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static File.GetFilesResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static File.GetFilesResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(File.GetFilesResponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code GetFilesResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:GetFilesResponse)
+        File.GetFilesResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return File.internal_static_GetFilesResponse_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return File.internal_static_GetFilesResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                File.GetFilesResponse.class, File.GetFilesResponse.Builder.class);
+      }
+
+      // Construct using File.GetFilesResponse.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        peerName_ = "";
+        if (filesBuilder_ == null) {
+          files_ = java.util.Collections.emptyList();
+        } else {
+          files_ = null;
+          filesBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000002);
+        nextCursor_ = "";
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return File.internal_static_GetFilesResponse_descriptor;
+      }
+
+      @java.lang.Override
+      public File.GetFilesResponse getDefaultInstanceForType() {
+        return File.GetFilesResponse.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public File.GetFilesResponse build() {
+        File.GetFilesResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public File.GetFilesResponse buildPartial() {
+        File.GetFilesResponse result = new File.GetFilesResponse(this);
+        buildPartialRepeatedFields(result);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartialRepeatedFields(File.GetFilesResponse result) {
+        if (filesBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) != 0)) {
+            files_ = java.util.Collections.unmodifiableList(files_);
+            bitField0_ = (bitField0_ & ~0x00000002);
+          }
+          result.files_ = files_;
+        } else {
+          result.files_ = filesBuilder_.build();
+        }
+      }
+
+      private void buildPartial0(File.GetFilesResponse result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.peerName_ = peerName_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.nextCursor_ = nextCursor_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof File.GetFilesResponse) {
+          return mergeFrom((File.GetFilesResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(File.GetFilesResponse other) {
+        if (other == File.GetFilesResponse.getDefaultInstance()) return this;
+        if (!other.getPeerName().isEmpty()) {
+          peerName_ = other.peerName_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (filesBuilder_ == null) {
+          if (!other.files_.isEmpty()) {
+            if (files_.isEmpty()) {
+              files_ = other.files_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+            } else {
+              ensureFilesIsMutable();
+              files_.addAll(other.files_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.files_.isEmpty()) {
+            if (filesBuilder_.isEmpty()) {
+              filesBuilder_.dispose();
+              filesBuilder_ = null;
+              files_ = other.files_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+              filesBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getFilesFieldBuilder() : null;
+            } else {
+              filesBuilder_.addAllMessages(other.files_);
+            }
+          }
+        }
+        if (!other.getNextCursor().isEmpty()) {
+          nextCursor_ = other.nextCursor_;
+          bitField0_ |= 0x00000004;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                peerName_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 34: {
+                File.FileEntry m =
+                    input.readMessage(
+                        File.FileEntry.parser(),
+                        extensionRegistry);
+                if (filesBuilder_ == null) {
+                  ensureFilesIsMutable();
+                  files_.add(m);
+                } else {
+                  filesBuilder_.addMessage(m);
+                }
+                break;
+              } // case 34
+              case 42: {
+                nextCursor_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 42
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object peerName_ = "";
+      /**
+       * <code>string peerName = 1;</code>
+       * @return The peerName.
+       */
+      public java.lang.String getPeerName() {
+        java.lang.Object ref = peerName_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          peerName_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string peerName = 1;</code>
+       * @return The bytes for peerName.
+       */
+      public com.google.protobuf.ByteString
+          getPeerNameBytes() {
+        java.lang.Object ref = peerName_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          peerName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string peerName = 1;</code>
+       * @param value The peerName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPeerName(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        peerName_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string peerName = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPeerName() {
+        peerName_ = getDefaultInstance().getPeerName();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string peerName = 1;</code>
+       * @param value The bytes for peerName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPeerNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        peerName_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<File.FileEntry> files_ =
+        java.util.Collections.emptyList();
+      private void ensureFilesIsMutable() {
+        if (!((bitField0_ & 0x00000002) != 0)) {
+          files_ = new java.util.ArrayList<File.FileEntry>(files_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          File.FileEntry, File.FileEntry.Builder, File.FileEntryOrBuilder> filesBuilder_;
+
+      /**
+       * <code>repeated .FileEntry files = 4;</code>
+       */
+      public java.util.List<File.FileEntry> getFilesList() {
+        if (filesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(files_);
+        } else {
+          return filesBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .FileEntry files = 4;</code>
+       */
+      public int getFilesCount() {
+        if (filesBuilder_ == null) {
+          return files_.size();
+        } else {
+          return filesBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .FileEntry files = 4;</code>
+       */
+      public File.FileEntry getFiles(int index) {
+        if (filesBuilder_ == null) {
+          return files_.get(index);
+        } else {
+          return filesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .FileEntry files = 4;</code>
+       */
+      public Builder setFiles(
+          int index, File.FileEntry value) {
+        if (filesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureFilesIsMutable();
+          files_.set(index, value);
+          onChanged();
+        } else {
+          filesBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .FileEntry files = 4;</code>
+       */
+      public Builder setFiles(
+          int index, File.FileEntry.Builder builderForValue) {
+        if (filesBuilder_ == null) {
+          ensureFilesIsMutable();
+          files_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          filesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .FileEntry files = 4;</code>
+       */
+      public Builder addFiles(File.FileEntry value) {
+        if (filesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureFilesIsMutable();
+          files_.add(value);
+          onChanged();
+        } else {
+          filesBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .FileEntry files = 4;</code>
+       */
+      public Builder addFiles(
+          int index, File.FileEntry value) {
+        if (filesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureFilesIsMutable();
+          files_.add(index, value);
+          onChanged();
+        } else {
+          filesBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .FileEntry files = 4;</code>
+       */
+      public Builder addFiles(
+          File.FileEntry.Builder builderForValue) {
+        if (filesBuilder_ == null) {
+          ensureFilesIsMutable();
+          files_.add(builderForValue.build());
+          onChanged();
+        } else {
+          filesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .FileEntry files = 4;</code>
+       */
+      public Builder addFiles(
+          int index, File.FileEntry.Builder builderForValue) {
+        if (filesBuilder_ == null) {
+          ensureFilesIsMutable();
+          files_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          filesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .FileEntry files = 4;</code>
+       */
+      public Builder addAllFiles(
+          java.lang.Iterable<? extends File.FileEntry> values) {
+        if (filesBuilder_ == null) {
+          ensureFilesIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, files_);
+          onChanged();
+        } else {
+          filesBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .FileEntry files = 4;</code>
+       */
+      public Builder clearFiles() {
+        if (filesBuilder_ == null) {
+          files_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+          onChanged();
+        } else {
+          filesBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .FileEntry files = 4;</code>
+       */
+      public Builder removeFiles(int index) {
+        if (filesBuilder_ == null) {
+          ensureFilesIsMutable();
+          files_.remove(index);
+          onChanged();
+        } else {
+          filesBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .FileEntry files = 4;</code>
+       */
+      public File.FileEntry.Builder getFilesBuilder(
+          int index) {
+        return getFilesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .FileEntry files = 4;</code>
+       */
+      public File.FileEntryOrBuilder getFilesOrBuilder(
+          int index) {
+        if (filesBuilder_ == null) {
+          return files_.get(index);  } else {
+          return filesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .FileEntry files = 4;</code>
+       */
+      public java.util.List<? extends File.FileEntryOrBuilder> 
+           getFilesOrBuilderList() {
+        if (filesBuilder_ != null) {
+          return filesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(files_);
+        }
+      }
+      /**
+       * <code>repeated .FileEntry files = 4;</code>
+       */
+      public File.FileEntry.Builder addFilesBuilder() {
+        return getFilesFieldBuilder().addBuilder(
+            File.FileEntry.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .FileEntry files = 4;</code>
+       */
+      public File.FileEntry.Builder addFilesBuilder(
+          int index) {
+        return getFilesFieldBuilder().addBuilder(
+            index, File.FileEntry.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .FileEntry files = 4;</code>
+       */
+      public java.util.List<File.FileEntry.Builder> 
+           getFilesBuilderList() {
+        return getFilesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          File.FileEntry, File.FileEntry.Builder, File.FileEntryOrBuilder> 
+          getFilesFieldBuilder() {
+        if (filesBuilder_ == null) {
+          filesBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              File.FileEntry, File.FileEntry.Builder, File.FileEntryOrBuilder>(
+                  files_,
+                  ((bitField0_ & 0x00000002) != 0),
+                  getParentForChildren(),
+                  isClean());
+          files_ = null;
+        }
+        return filesBuilder_;
+      }
+
+      private java.lang.Object nextCursor_ = "";
+      /**
+       * <code>string nextCursor = 5;</code>
+       * @return The nextCursor.
+       */
+      public java.lang.String getNextCursor() {
+        java.lang.Object ref = nextCursor_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          nextCursor_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string nextCursor = 5;</code>
+       * @return The bytes for nextCursor.
+       */
+      public com.google.protobuf.ByteString
+          getNextCursorBytes() {
+        java.lang.Object ref = nextCursor_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          nextCursor_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string nextCursor = 5;</code>
+       * @param value The nextCursor to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNextCursor(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        nextCursor_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string nextCursor = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearNextCursor() {
+        nextCursor_ = getDefaultInstance().getNextCursor();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string nextCursor = 5;</code>
+       * @param value The bytes for nextCursor to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNextCursorBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        nextCursor_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:GetFilesResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:GetFilesResponse)
+    private static final File.GetFilesResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new File.GetFilesResponse();
+    }
+
+    public static File.GetFilesResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<GetFilesResponse>
+        PARSER = new com.google.protobuf.AbstractParser<GetFilesResponse>() {
+      @java.lang.Override
+      public GetFilesResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<GetFilesResponse> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<GetFilesResponse> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public File.GetFilesResponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface DirectoryRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:DirectoryRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string directoryName = 1;</code>
+     * @return The directoryName.
+     */
+    java.lang.String getDirectoryName();
+    /**
+     * <code>string directoryName = 1;</code>
+     * @return The bytes for directoryName.
+     */
+    com.google.protobuf.ByteString
+        getDirectoryNameBytes();
+  }
+  /**
+   * Protobuf type {@code DirectoryRequest}
+   */
+  public static final class DirectoryRequest extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:DirectoryRequest)
+      DirectoryRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 29,
+        /* patch= */ 2,
+        /* suffix= */ "",
+        DirectoryRequest.class.getName());
+    }
+    // Use DirectoryRequest.newBuilder() to construct.
+    private DirectoryRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private DirectoryRequest() {
+      directoryName_ = "";
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return File.internal_static_DirectoryRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return File.internal_static_DirectoryRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              File.DirectoryRequest.class, File.DirectoryRequest.Builder.class);
+    }
+
+    public static final int DIRECTORYNAME_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object directoryName_ = "";
+    /**
+     * <code>string directoryName = 1;</code>
+     * @return The directoryName.
+     */
+    @java.lang.Override
+    public java.lang.String getDirectoryName() {
+      java.lang.Object ref = directoryName_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        directoryName_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string directoryName = 1;</code>
+     * @return The bytes for directoryName.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getDirectoryNameBytes() {
+      java.lang.Object ref = directoryName_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        directoryName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(directoryName_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 1, directoryName_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(directoryName_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(1, directoryName_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof File.DirectoryRequest)) {
+        return super.equals(obj);
+      }
+      File.DirectoryRequest other = (File.DirectoryRequest) obj;
+
+      if (!getDirectoryName()
+          .equals(other.getDirectoryName())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + DIRECTORYNAME_FIELD_NUMBER;
+      hash = (53 * hash) + getDirectoryName().hashCode();
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static File.DirectoryRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static File.DirectoryRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static File.DirectoryRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static File.DirectoryRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static File.DirectoryRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static File.DirectoryRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static File.DirectoryRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static File.DirectoryRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static File.DirectoryRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static File.DirectoryRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static File.DirectoryRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static File.DirectoryRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(File.DirectoryRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code DirectoryRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:DirectoryRequest)
+        File.DirectoryRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return File.internal_static_DirectoryRequest_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return File.internal_static_DirectoryRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                File.DirectoryRequest.class, File.DirectoryRequest.Builder.class);
+      }
+
+      // Construct using File.DirectoryRequest.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        directoryName_ = "";
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return File.internal_static_DirectoryRequest_descriptor;
+      }
+
+      @java.lang.Override
+      public File.DirectoryRequest getDefaultInstanceForType() {
+        return File.DirectoryRequest.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public File.DirectoryRequest build() {
+        File.DirectoryRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public File.DirectoryRequest buildPartial() {
+        File.DirectoryRequest result = new File.DirectoryRequest(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(File.DirectoryRequest result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.directoryName_ = directoryName_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof File.DirectoryRequest) {
+          return mergeFrom((File.DirectoryRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(File.DirectoryRequest other) {
+        if (other == File.DirectoryRequest.getDefaultInstance()) return this;
+        if (!other.getDirectoryName().isEmpty()) {
+          directoryName_ = other.directoryName_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                directoryName_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object directoryName_ = "";
+      /**
+       * <code>string directoryName = 1;</code>
+       * @return The directoryName.
+       */
+      public java.lang.String getDirectoryName() {
+        java.lang.Object ref = directoryName_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          directoryName_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string directoryName = 1;</code>
+       * @return The bytes for directoryName.
+       */
+      public com.google.protobuf.ByteString
+          getDirectoryNameBytes() {
+        java.lang.Object ref = directoryName_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          directoryName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string directoryName = 1;</code>
+       * @param value The directoryName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDirectoryName(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        directoryName_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string directoryName = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDirectoryName() {
+        directoryName_ = getDefaultInstance().getDirectoryName();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string directoryName = 1;</code>
+       * @param value The bytes for directoryName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDirectoryNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        directoryName_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:DirectoryRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:DirectoryRequest)
+    private static final File.DirectoryRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new File.DirectoryRequest();
+    }
+
+    public static File.DirectoryRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<DirectoryRequest>
+        PARSER = new com.google.protobuf.AbstractParser<DirectoryRequest>() {
+      @java.lang.Override
+      public DirectoryRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<DirectoryRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<DirectoryRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public File.DirectoryRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface DirectoryResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:DirectoryResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string directoryName = 1;</code>
+     * @return The directoryName.
+     */
+    java.lang.String getDirectoryName();
+    /**
+     * <code>string directoryName = 1;</code>
+     * @return The bytes for directoryName.
+     */
+    com.google.protobuf.ByteString
+        getDirectoryNameBytes();
+
+    /**
+     * <code>bool found = 2;</code>
+     * @return The found.
+     */
+    boolean getFound();
+
+    /**
+     * <code>repeated .FileEntry files = 3;</code>
+     */
+    java.util.List<File.FileEntry> 
+        getFilesList();
+    /**
+     * <code>repeated .FileEntry files = 3;</code>
+     */
+    File.FileEntry getFiles(int index);
+    /**
+     * <code>repeated .FileEntry files = 3;</code>
+     */
+    int getFilesCount();
+    /**
+     * <code>repeated .FileEntry files = 3;</code>
+     */
+    java.util.List<? extends File.FileEntryOrBuilder> 
+        getFilesOrBuilderList();
+    /**
+     * <code>repeated .FileEntry files = 3;</code>
+     */
+    File.FileEntryOrBuilder getFilesOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code DirectoryResponse}
+   */
+  public static final class DirectoryResponse extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:DirectoryResponse)
+      DirectoryResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 29,
+        /* patch= */ 2,
+        /* suffix= */ "",
+        DirectoryResponse.class.getName());
+    }
+    // Use DirectoryResponse.newBuilder() to construct.
+    private DirectoryResponse(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private DirectoryResponse() {
+      directoryName_ = "";
+      files_ = java.util.Collections.emptyList();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return File.internal_static_DirectoryResponse_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return File.internal_static_DirectoryResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              File.DirectoryResponse.class, File.DirectoryResponse.Builder.class);
+    }
+
+    public static final int DIRECTORYNAME_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object directoryName_ = "";
+    /**
+     * <code>string directoryName = 1;</code>
+     * @return The directoryName.
+     */
+    @java.lang.Override
+    public java.lang.String getDirectoryName() {
+      java.lang.Object ref = directoryName_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        directoryName_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string directoryName = 1;</code>
+     * @return The bytes for directoryName.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getDirectoryNameBytes() {
+      java.lang.Object ref = directoryName_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        directoryName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int FOUND_FIELD_NUMBER = 2;
+    private boolean found_ = false;
+    /**
+     * <code>bool found = 2;</code>
+     * @return The found.
+     */
+    @java.lang.Override
+    public boolean getFound() {
+      return found_;
+    }
+
+    public static final int FILES_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private java.util.List<File.FileEntry> files_;
+    /**
+     * <code>repeated .FileEntry files = 3;</code>
+     */
+    @java.lang.Override
+    public java.util.List<File.FileEntry> getFilesList() {
+      return files_;
+    }
+    /**
+     * <code>repeated .FileEntry files = 3;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends File.FileEntryOrBuilder> 
+        getFilesOrBuilderList() {
+      return files_;
+    }
+    /**
+     * <code>repeated .FileEntry files = 3;</code>
+     */
+    @java.lang.Override
+    public int getFilesCount() {
+      return files_.size();
+    }
+    /**
+     * <code>repeated .FileEntry files = 3;</code>
+     */
+    @java.lang.Override
+    public File.FileEntry getFiles(int index) {
+      return files_.get(index);
+    }
+    /**
+     * <code>repeated .FileEntry files = 3;</code>
+     */
+    @java.lang.Override
+    public File.FileEntryOrBuilder getFilesOrBuilder(
+        int index) {
+      return files_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(directoryName_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 1, directoryName_);
+      }
+      if (found_ != false) {
+        output.writeBool(2, found_);
+      }
+      for (int i = 0; i < files_.size(); i++) {
+        output.writeMessage(3, files_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(directoryName_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(1, directoryName_);
+      }
+      if (found_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(2, found_);
+      }
+      for (int i = 0; i < files_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, files_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof File.DirectoryResponse)) {
+        return super.equals(obj);
+      }
+      File.DirectoryResponse other = (File.DirectoryResponse) obj;
+
+      if (!getDirectoryName()
+          .equals(other.getDirectoryName())) return false;
+      if (getFound()
+          != other.getFound()) return false;
+      if (!getFilesList()
+          .equals(other.getFilesList())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + DIRECTORYNAME_FIELD_NUMBER;
+      hash = (53 * hash) + getDirectoryName().hashCode();
+      hash = (37 * hash) + FOUND_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getFound());
+      if (getFilesCount() > 0) {
+        hash = (37 * hash) + FILES_FIELD_NUMBER;
+        hash = (53 * hash) + getFilesList().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static File.DirectoryResponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static File.DirectoryResponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static File.DirectoryResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static File.DirectoryResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static File.DirectoryResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static File.DirectoryResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static File.DirectoryResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static File.DirectoryResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static File.DirectoryResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static File.DirectoryResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static File.DirectoryResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static File.DirectoryResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(File.DirectoryResponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code DirectoryResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:DirectoryResponse)
+        File.DirectoryResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return File.internal_static_DirectoryResponse_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return File.internal_static_DirectoryResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                File.DirectoryResponse.class, File.DirectoryResponse.Builder.class);
+      }
+
+      // Construct using File.DirectoryResponse.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        directoryName_ = "";
+        found_ = false;
+        if (filesBuilder_ == null) {
+          files_ = java.util.Collections.emptyList();
+        } else {
+          files_ = null;
+          filesBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000004);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return File.internal_static_DirectoryResponse_descriptor;
+      }
+
+      @java.lang.Override
+      public File.DirectoryResponse getDefaultInstanceForType() {
+        return File.DirectoryResponse.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public File.DirectoryResponse build() {
+        File.DirectoryResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public File.DirectoryResponse buildPartial() {
+        File.DirectoryResponse result = new File.DirectoryResponse(this);
+        buildPartialRepeatedFields(result);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartialRepeatedFields(File.DirectoryResponse result) {
+        if (filesBuilder_ == null) {
+          if (((bitField0_ & 0x00000004) != 0)) {
+            files_ = java.util.Collections.unmodifiableList(files_);
+            bitField0_ = (bitField0_ & ~0x00000004);
+          }
+          result.files_ = files_;
+        } else {
+          result.files_ = filesBuilder_.build();
+        }
+      }
+
+      private void buildPartial0(File.DirectoryResponse result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.directoryName_ = directoryName_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.found_ = found_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof File.DirectoryResponse) {
+          return mergeFrom((File.DirectoryResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(File.DirectoryResponse other) {
+        if (other == File.DirectoryResponse.getDefaultInstance()) return this;
+        if (!other.getDirectoryName().isEmpty()) {
+          directoryName_ = other.directoryName_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (other.getFound() != false) {
+          setFound(other.getFound());
+        }
+        if (filesBuilder_ == null) {
+          if (!other.files_.isEmpty()) {
+            if (files_.isEmpty()) {
+              files_ = other.files_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+            } else {
+              ensureFilesIsMutable();
+              files_.addAll(other.files_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.files_.isEmpty()) {
+            if (filesBuilder_.isEmpty()) {
+              filesBuilder_.dispose();
+              filesBuilder_ = null;
+              files_ = other.files_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+              filesBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getFilesFieldBuilder() : null;
+            } else {
+              filesBuilder_.addAllMessages(other.files_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                directoryName_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 16: {
+                found_ = input.readBool();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 16
+              case 26: {
+                File.FileEntry m =
+                    input.readMessage(
+                        File.FileEntry.parser(),
+                        extensionRegistry);
+                if (filesBuilder_ == null) {
+                  ensureFilesIsMutable();
+                  files_.add(m);
+                } else {
+                  filesBuilder_.addMessage(m);
+                }
+                break;
+              } // case 26
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object directoryName_ = "";
+      /**
+       * <code>string directoryName = 1;</code>
+       * @return The directoryName.
+       */
+      public java.lang.String getDirectoryName() {
+        java.lang.Object ref = directoryName_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          directoryName_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string directoryName = 1;</code>
+       * @return The bytes for directoryName.
+       */
+      public com.google.protobuf.ByteString
+          getDirectoryNameBytes() {
+        java.lang.Object ref = directoryName_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          directoryName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string directoryName = 1;</code>
+       * @param value The directoryName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDirectoryName(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        directoryName_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string directoryName = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDirectoryName() {
+        directoryName_ = getDefaultInstance().getDirectoryName();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string directoryName = 1;</code>
+       * @param value The bytes for directoryName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDirectoryNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        directoryName_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private boolean found_ ;
+      /**
+       * <code>bool found = 2;</code>
+       * @return The found.
+       */
+      @java.lang.Override
+      public boolean getFound() {
+        return found_;
+      }
+      /**
+       * <code>bool found = 2;</code>
+       * @param value The found to set.
+       * @return This builder for chaining.
+       */
+      public Builder setFound(boolean value) {
+
+        found_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bool found = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearFound() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        found_ = false;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<File.FileEntry> files_ =
+        java.util.Collections.emptyList();
+      private void ensureFilesIsMutable() {
+        if (!((bitField0_ & 0x00000004) != 0)) {
+          files_ = new java.util.ArrayList<File.FileEntry>(files_);
+          bitField0_ |= 0x00000004;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          File.FileEntry, File.FileEntry.Builder, File.FileEntryOrBuilder> filesBuilder_;
+
+      /**
+       * <code>repeated .FileEntry files = 3;</code>
+       */
+      public java.util.List<File.FileEntry> getFilesList() {
+        if (filesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(files_);
+        } else {
+          return filesBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .FileEntry files = 3;</code>
+       */
+      public int getFilesCount() {
+        if (filesBuilder_ == null) {
+          return files_.size();
+        } else {
+          return filesBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .FileEntry files = 3;</code>
+       */
+      public File.FileEntry getFiles(int index) {
+        if (filesBuilder_ == null) {
+          return files_.get(index);
+        } else {
+          return filesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .FileEntry files = 3;</code>
+       */
+      public Builder setFiles(
+          int index, File.FileEntry value) {
+        if (filesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureFilesIsMutable();
+          files_.set(index, value);
+          onChanged();
+        } else {
+          filesBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .FileEntry files = 3;</code>
+       */
+      public Builder setFiles(
+          int index, File.FileEntry.Builder builderForValue) {
+        if (filesBuilder_ == null) {
+          ensureFilesIsMutable();
+          files_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          filesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .FileEntry files = 3;</code>
+       */
+      public Builder addFiles(File.FileEntry value) {
+        if (filesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureFilesIsMutable();
+          files_.add(value);
+          onChanged();
+        } else {
+          filesBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .FileEntry files = 3;</code>
+       */
+      public Builder addFiles(
+          int index, File.FileEntry value) {
+        if (filesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureFilesIsMutable();
+          files_.add(index, value);
+          onChanged();
+        } else {
+          filesBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .FileEntry files = 3;</code>
+       */
+      public Builder addFiles(
+          File.FileEntry.Builder builderForValue) {
+        if (filesBuilder_ == null) {
+          ensureFilesIsMutable();
+          files_.add(builderForValue.build());
+          onChanged();
+        } else {
+          filesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .FileEntry files = 3;</code>
+       */
+      public Builder addFiles(
+          int index, File.FileEntry.Builder builderForValue) {
+        if (filesBuilder_ == null) {
+          ensureFilesIsMutable();
+          files_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          filesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .FileEntry files = 3;</code>
+       */
+      public Builder addAllFiles(
+          java.lang.Iterable<? extends File.FileEntry> values) {
+        if (filesBuilder_ == null) {
+          ensureFilesIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, files_);
+          onChanged();
+        } else {
+          filesBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .FileEntry files = 3;</code>
+       */
+      public Builder clearFiles() {
+        if (filesBuilder_ == null) {
+          files_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000004);
+          onChanged();
+        } else {
+          filesBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .FileEntry files = 3;</code>
+       */
+      public Builder removeFiles(int index) {
+        if (filesBuilder_ == null) {
+          ensureFilesIsMutable();
+          files_.remove(index);
+          onChanged();
+        } else {
+          filesBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .FileEntry files = 3;</code>
+       */
+      public File.FileEntry.Builder getFilesBuilder(
+          int index) {
+        return getFilesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .FileEntry files = 3;</code>
+       */
+      public File.FileEntryOrBuilder getFilesOrBuilder(
+          int index) {
+        if (filesBuilder_ == null) {
+          return files_.get(index);  } else {
+          return filesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .FileEntry files = 3;</code>
+       */
+      public java.util.List<? extends File.FileEntryOrBuilder> 
+           getFilesOrBuilderList() {
+        if (filesBuilder_ != null) {
+          return filesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(files_);
+        }
+      }
+      /**
+       * <code>repeated .FileEntry files = 3;</code>
+       */
+      public File.FileEntry.Builder addFilesBuilder() {
+        return getFilesFieldBuilder().addBuilder(
+            File.FileEntry.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .FileEntry files = 3;</code>
+       */
+      public File.FileEntry.Builder addFilesBuilder(
+          int index) {
+        return getFilesFieldBuilder().addBuilder(
+            index, File.FileEntry.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .FileEntry files = 3;</code>
+       */
+      public java.util.List<File.FileEntry.Builder> 
+           getFilesBuilderList() {
+        return getFilesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          File.FileEntry, File.FileEntry.Builder, File.FileEntryOrBuilder> 
+          getFilesFieldBuilder() {
+        if (filesBuilder_ == null) {
+          filesBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              File.FileEntry, File.FileEntry.Builder, File.FileEntryOrBuilder>(
+                  files_,
+                  ((bitField0_ & 0x00000004) != 0),
+                  getParentForChildren(),
+                  isClean());
+          files_ = null;
+        }
+        return filesBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:DirectoryResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:DirectoryResponse)
+    private static final File.DirectoryResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new File.DirectoryResponse();
+    }
+
+    public static File.DirectoryResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<DirectoryResponse>
+        PARSER = new com.google.protobuf.AbstractParser<DirectoryResponse>() {
+      @java.lang.Override
+      public DirectoryResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<DirectoryResponse> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<DirectoryResponse> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public File.DirectoryResponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface PackedFileRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:PackedFileRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string directoryName = 1;</code>
+     * @return The directoryName.
+     */
+    java.lang.String getDirectoryName();
+    /**
+     * <code>string directoryName = 1;</code>
+     * @return The bytes for directoryName.
+     */
+    com.google.protobuf.ByteString
+        getDirectoryNameBytes();
+
+    /**
+     * <code>repeated string fileNames = 2;</code>
+     * @return A list containing the fileNames.
+     */
+    java.util.List<java.lang.String>
+        getFileNamesList();
+    /**
+     * <code>repeated string fileNames = 2;</code>
+     * @return The count of fileNames.
+     */
+    int getFileNamesCount();
+    /**
+     * <code>repeated string fileNames = 2;</code>
+     * @param index The index of the element to return.
+     * @return The fileNames at the given index.
+     */
+    java.lang.String getFileNames(int index);
+    /**
+     * <code>repeated string fileNames = 2;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the fileNames at the given index.
+     */
+    com.google.protobuf.ByteString
+        getFileNamesBytes(int index);
+  }
+  /**
+   * Protobuf type {@code PackedFileRequest}
+   */
+  public static final class PackedFileRequest extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:PackedFileRequest)
+      PackedFileRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 29,
+        /* patch= */ 2,
+        /* suffix= */ "",
+        PackedFileRequest.class.getName());
+    }
+    // Use PackedFileRequest.newBuilder() to construct.
+    private PackedFileRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private PackedFileRequest() {
+      directoryName_ = "";
+      fileNames_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return File.internal_static_PackedFileRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return File.internal_static_PackedFileRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              File.PackedFileRequest.class, File.PackedFileRequest.Builder.class);
+    }
+
+    public static final int DIRECTORYNAME_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object directoryName_ = "";
+    /**
+     * <code>string directoryName = 1;</code>
+     * @return The directoryName.
+     */
+    @java.lang.Override
+    public java.lang.String getDirectoryName() {
+      java.lang.Object ref = directoryName_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        directoryName_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string directoryName = 1;</code>
+     * @return The bytes for directoryName.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getDirectoryNameBytes() {
+      java.lang.Object ref = directoryName_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        directoryName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int FILENAMES_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.LazyStringArrayList fileNames_ =
+        com.google.protobuf.LazyStringArrayList.emptyList();
+    /**
+     * <code>repeated string fileNames = 2;</code>
+     * @return A list containing the fileNames.
+     */
+    public com.google.protobuf.ProtocolStringList
+        getFileNamesList() {
+      return fileNames_;
+    }
+    /**
+     * <code>repeated string fileNames = 2;</code>
+     * @return The count of fileNames.
+     */
+    public int getFileNamesCount() {
+      return fileNames_.size();
+    }
+    /**
+     * <code>repeated string fileNames = 2;</code>
+     * @param index The index of the element to return.
+     * @return The fileNames at the given index.
+     */
+    public java.lang.String getFileNames(int index) {
+      return fileNames_.get(index);
+    }
+    /**
+     * <code>repeated string fileNames = 2;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the fileNames at the given index.
+     */
+    public com.google.protobuf.ByteString
+        getFileNamesBytes(int index) {
+      return fileNames_.getByteString(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(directoryName_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 1, directoryName_);
+      }
+      for (int i = 0; i < fileNames_.size(); i++) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 2, fileNames_.getRaw(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(directoryName_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(1, directoryName_);
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < fileNames_.size(); i++) {
+          dataSize += computeStringSizeNoTag(fileNames_.getRaw(i));
+        }
+        size += dataSize;
+        size += 1 * getFileNamesList().size();
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof File.PackedFileRequest)) {
+        return super.equals(obj);
+      }
+      File.PackedFileRequest other = (File.PackedFileRequest) obj;
+
+      if (!getDirectoryName()
+          .equals(other.getDirectoryName())) return false;
+      if (!getFileNamesList()
+          .equals(other.getFileNamesList())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + DIRECTORYNAME_FIELD_NUMBER;
+      hash = (53 * hash) + getDirectoryName().hashCode();
+      if (getFileNamesCount() > 0) {
+        hash = (37 * hash) + FILENAMES_FIELD_NUMBER;
+        hash = (53 * hash) + getFileNamesList().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static File.PackedFileRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static File.PackedFileRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static File.PackedFileRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static File.PackedFileRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static File.PackedFileRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static File.PackedFileRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static File.PackedFileRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static File.PackedFileRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static File.PackedFileRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static File.PackedFileRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static File.PackedFileRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static File.PackedFileRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(File.PackedFileRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code PackedFileRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:PackedFileRequest)
+        File.PackedFileRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return File.internal_static_PackedFileRequest_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return File.internal_static_PackedFileRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                File.PackedFileRequest.class, File.PackedFileRequest.Builder.class);
+      }
+
+      // Construct using File.PackedFileRequest.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        directoryName_ = "";
+        fileNames_ =
+            com.google.protobuf.LazyStringArrayList.emptyList();
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return File.internal_static_PackedFileRequest_descriptor;
+      }
+
+      @java.lang.Override
+      public File.PackedFileRequest getDefaultInstanceForType() {
+        return File.PackedFileRequest.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public File.PackedFileRequest build() {
+        File.PackedFileRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public File.PackedFileRequest buildPartial() {
+        File.PackedFileRequest result = new File.PackedFileRequest(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(File.PackedFileRequest result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.directoryName_ = directoryName_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          fileNames_.makeImmutable();
+          result.fileNames_ = fileNames_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof File.PackedFileRequest) {
+          return mergeFrom((File.PackedFileRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(File.PackedFileRequest other) {
+        if (other == File.PackedFileRequest.getDefaultInstance()) return this;
+        if (!other.getDirectoryName().isEmpty()) {
+          directoryName_ = other.directoryName_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (!other.fileNames_.isEmpty()) {
+          if (fileNames_.isEmpty()) {
+            fileNames_ = other.fileNames_;
+            bitField0_ |= 0x00000002;
+          } else {
+            ensureFileNamesIsMutable();
+            fileNames_.addAll(other.fileNames_);
+          }
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                directoryName_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                java.lang.String s = input.readStringRequireUtf8();
+                ensureFileNamesIsMutable();
+                fileNames_.add(s);
+                break;
+              } // case 18
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object directoryName_ = "";
+      /**
+       * <code>string directoryName = 1;</code>
+       * @return The directoryName.
+       */
+      public java.lang.String getDirectoryName() {
+        java.lang.Object ref = directoryName_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          directoryName_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string directoryName = 1;</code>
+       * @return The bytes for directoryName.
+       */
+      public com.google.protobuf.ByteString
+          getDirectoryNameBytes() {
+        java.lang.Object ref = directoryName_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          directoryName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string directoryName = 1;</code>
+       * @param value The directoryName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDirectoryName(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        directoryName_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string directoryName = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDirectoryName() {
+        directoryName_ = getDefaultInstance().getDirectoryName();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string directoryName = 1;</code>
+       * @param value The bytes for directoryName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDirectoryNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        directoryName_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.LazyStringArrayList fileNames_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+      private void ensureFileNamesIsMutable() {
+        if (!fileNames_.isModifiable()) {
+          fileNames_ = new com.google.protobuf.LazyStringArrayList(fileNames_);
+        }
+        bitField0_ |= 0x00000002;
+      }
+      /**
+       * <code>repeated string fileNames = 2;</code>
+       * @return A list containing the fileNames.
+       */
+      public com.google.protobuf.ProtocolStringList
+          getFileNamesList() {
+        fileNames_.makeImmutable();
+        return fileNames_;
+      }
+      /**
+       * <code>repeated string fileNames = 2;</code>
+       * @return The count of fileNames.
+       */
+      public int getFileNamesCount() {
+        return fileNames_.size();
+      }
+      /**
+       * <code>repeated string fileNames = 2;</code>
+       * @param index The index of the element to return.
+       * @return The fileNames at the given index.
+       */
+      public java.lang.String getFileNames(int index) {
+        return fileNames_.get(index);
+      }
+      /**
+       * <code>repeated string fileNames = 2;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the fileNames at the given index.
+       */
+      public com.google.protobuf.ByteString
+          getFileNamesBytes(int index) {
+        return fileNames_.getByteString(index);
+      }
+      /**
+       * <code>repeated string fileNames = 2;</code>
+       * @param index The index to set the value at.
+       * @param value The fileNames to set.
+       * @return This builder for chaining.
+       */
+      public Builder setFileNames(
+          int index, java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureFileNamesIsMutable();
+        fileNames_.set(index, value);
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string fileNames = 2;</code>
+       * @param value The fileNames to add.
+       * @return This builder for chaining.
+       */
+      public Builder addFileNames(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureFileNamesIsMutable();
+        fileNames_.add(value);
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string fileNames = 2;</code>
+       * @param values The fileNames to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllFileNames(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureFileNamesIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, fileNames_);
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string fileNames = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearFileNames() {
+        fileNames_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000002);;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string fileNames = 2;</code>
+       * @param value The bytes of the fileNames to add.
+       * @return This builder for chaining.
+       */
+      public Builder addFileNamesBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        ensureFileNamesIsMutable();
+        fileNames_.add(value);
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:PackedFileRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:PackedFileRequest)
+    private static final File.PackedFileRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new File.PackedFileRequest();
+    }
+
+    public static File.PackedFileRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<PackedFileRequest>
+        PARSER = new com.google.protobuf.AbstractParser<PackedFileRequest>() {
+      @java.lang.Override
+      public PackedFileRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<PackedFileRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<PackedFileRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public File.PackedFileRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface PackedFileEntryOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:PackedFileEntry)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string fileName = 1;</code>
+     * @return The fileName.
+     */
+    java.lang.String getFileName();
+    /**
+     * <code>string fileName = 1;</code>
+     * @return The bytes for fileName.
+     */
+    com.google.protobuf.ByteString
+        getFileNameBytes();
+
+    /**
+     * <code>bool found = 2;</code>
+     * @return The found.
+     */
+    boolean getFound();
+
+    /**
+     * <code>int32 offset = 3;</code>
+     * @return The offset.
+     */
+    int getOffset();
+
+    /**
+     * <code>int32 length = 4;</code>
+     * @return The length.
+     */
+    int getLength();
+  }
+  /**
+   * Protobuf type {@code PackedFileEntry}
+   */
+  public static final class PackedFileEntry extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:PackedFileEntry)
+      PackedFileEntryOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 29,
+        /* patch= */ 2,
+        /* suffix= */ "",
+        PackedFileEntry.class.getName());
+    }
+    // Use PackedFileEntry.newBuilder() to construct.
+    private PackedFileEntry(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private PackedFileEntry() {
+      fileName_ = "";
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return File.internal_static_PackedFileEntry_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return File.internal_static_PackedFileEntry_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              File.PackedFileEntry.class, File.PackedFileEntry.Builder.class);
+    }
+
+    public static final int FILENAME_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object fileName_ = "";
+    /**
+     * <code>string fileName = 1;</code>
+     * @return The fileName.
+     */
+    @java.lang.Override
+    public java.lang.String getFileName() {
+      java.lang.Object ref = fileName_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        fileName_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string fileName = 1;</code>
+     * @return The bytes for fileName.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getFileNameBytes() {
+      java.lang.Object ref = fileName_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        fileName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int FOUND_FIELD_NUMBER = 2;
+    private boolean found_ = false;
+    /**
+     * <code>bool found = 2;</code>
+     * @return The found.
+     */
+    @java.lang.Override
+    public boolean getFound() {
+      return found_;
+    }
+
+    public static final int OFFSET_FIELD_NUMBER = 3;
+    private int offset_ = 0;
+    /**
+     * <code>int32 offset = 3;</code>
+     * @return The offset.
+     */
+    @java.lang.Override
+    public int getOffset() {
+      return offset_;
+    }
+
+    public static final int LENGTH_FIELD_NUMBER = 4;
+    private int length_ = 0;
+    /**
+     * <code>int32 length = 4;</code>
+     * @return The length.
+     */
+    @java.lang.Override
+    public int getLength() {
+      return length_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(fileName_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 1, fileName_);
+      }
+      if (found_ != false) {
+        output.writeBool(2, found_);
+      }
+      if (offset_ != 0) {
+        output.writeInt32(3, offset_);
+      }
+      if (length_ != 0) {
+        output.writeInt32(4, length_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(fileName_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(1, fileName_);
+      }
+      if (found_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(2, found_);
+      }
+      if (offset_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(3, offset_);
+      }
+      if (length_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(4, length_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof File.PackedFileEntry)) {
+        return super.equals(obj);
+      }
+      File.PackedFileEntry other = (File.PackedFileEntry) obj;
+
+      if (!getFileName()
+          .equals(other.getFileName())) return false;
+      if (getFound()
+          != other.getFound()) return false;
+      if (getOffset()
+          != other.getOffset()) return false;
+      if (getLength()
+          != other.getLength()) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + FILENAME_FIELD_NUMBER;
+      hash = (53 * hash) + getFileName().hashCode();
+      hash = (37 * hash) + FOUND_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getFound());
+      hash = (37 * hash) + OFFSET_FIELD_NUMBER;
+      hash = (53 * hash) + getOffset();
+      hash = (37 * hash) + LENGTH_FIELD_NUMBER;
+      hash = (53 * hash) + getLength();
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static File.PackedFileEntry parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static File.PackedFileEntry parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static File.PackedFileEntry parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static File.PackedFileEntry parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static File.PackedFileEntry parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static File.PackedFileEntry parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static File.PackedFileEntry parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static File.PackedFileEntry parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static File.PackedFileEntry parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static File.PackedFileEntry parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static File.PackedFileEntry parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static File.PackedFileEntry parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(File.PackedFileEntry prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code PackedFileEntry}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:PackedFileEntry)
+        File.PackedFileEntryOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return File.internal_static_PackedFileEntry_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return File.internal_static_PackedFileEntry_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                File.PackedFileEntry.class, File.PackedFileEntry.Builder.class);
+      }
+
+      // Construct using File.PackedFileEntry.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        fileName_ = "";
+        found_ = false;
+        offset_ = 0;
+        length_ = 0;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return File.internal_static_PackedFileEntry_descriptor;
+      }
+
+      @java.lang.Override
+      public File.PackedFileEntry getDefaultInstanceForType() {
+        return File.PackedFileEntry.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public File.PackedFileEntry build() {
+        File.PackedFileEntry result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public File.PackedFileEntry buildPartial() {
+        File.PackedFileEntry result = new File.PackedFileEntry(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(File.PackedFileEntry result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.fileName_ = fileName_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.found_ = found_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.offset_ = offset_;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.length_ = length_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof File.PackedFileEntry) {
+          return mergeFrom((File.PackedFileEntry)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(File.PackedFileEntry other) {
+        if (other == File.PackedFileEntry.getDefaultInstance()) return this;
+        if (!other.getFileName().isEmpty()) {
+          fileName_ = other.fileName_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (other.getFound() != false) {
+          setFound(other.getFound());
+        }
+        if (other.getOffset() != 0) {
+          setOffset(other.getOffset());
+        }
+        if (other.getLength() != 0) {
+          setLength(other.getLength());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                fileName_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 16: {
+                found_ = input.readBool();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 16
+              case 24: {
+                offset_ = input.readInt32();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 24
+              case 32: {
+                length_ = input.readInt32();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 32
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object fileName_ = "";
+      /**
+       * <code>string fileName = 1;</code>
+       * @return The fileName.
+       */
+      public java.lang.String getFileName() {
+        java.lang.Object ref = fileName_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          fileName_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string fileName = 1;</code>
+       * @return The bytes for fileName.
+       */
+      public com.google.protobuf.ByteString
+          getFileNameBytes() {
+        java.lang.Object ref = fileName_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          fileName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string fileName = 1;</code>
+       * @param value The fileName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setFileName(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        fileName_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string fileName = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearFileName() {
+        fileName_ = getDefaultInstance().getFileName();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string fileName = 1;</code>
+       * @param value The bytes for fileName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setFileNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        fileName_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private boolean found_ ;
+      /**
+       * <code>bool found = 2;</code>
+       * @return The found.
+       */
+      @java.lang.Override
+      public boolean getFound() {
+        return found_;
+      }
+      /**
+       * <code>bool found = 2;</code>
+       * @param value The found to set.
+       * @return This builder for chaining.
+       */
+      public Builder setFound(boolean value) {
+
+        found_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bool found = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearFound() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        found_ = false;
+        onChanged();
+        return this;
+      }
+
+      private int offset_ ;
+      /**
+       * <code>int32 offset = 3;</code>
+       * @return The offset.
+       */
+      @java.lang.Override
+      public int getOffset() {
+        return offset_;
+      }
+      /**
+       * <code>int32 offset = 3;</code>
+       * @param value The offset to set.
+       * @return This builder for chaining.
+       */
+      public Builder setOffset(int value) {
+
+        offset_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 offset = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearOffset() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        offset_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int length_ ;
+      /**
+       * <code>int32 length = 4;</code>
+       * @return The length.
+       */
+      @java.lang.Override
+      public int getLength() {
+        return length_;
+      }
+      /**
+       * <code>int32 length = 4;</code>
+       * @param value The length to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLength(int value) {
+
+        length_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 length = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLength() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        length_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:PackedFileEntry)
+    }
+
+    // @@protoc_insertion_point(class_scope:PackedFileEntry)
+    private static final File.PackedFileEntry DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new File.PackedFileEntry();
+    }
+
+    public static File.PackedFileEntry getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<PackedFileEntry>
+        PARSER = new com.google.protobuf.AbstractParser<PackedFileEntry>() {
+      @java.lang.Override
+      public PackedFileEntry parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<PackedFileEntry> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<PackedFileEntry> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public File.PackedFileEntry getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface PackedFileResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:PackedFileResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string directoryName = 1;</code>
+     * @return The directoryName.
+     */
+    java.lang.String getDirectoryName();
+    /**
+     * <code>string directoryName = 1;</code>
+     * @return The bytes for directoryName.
+     */
+    com.google.protobuf.ByteString
+        getDirectoryNameBytes();
+
+    /**
+     * <code>repeated .PackedFileEntry files = 2;</code>
+     */
+    java.util.List<File.PackedFileEntry> 
+        getFilesList();
+    /**
+     * <code>repeated .PackedFileEntry files = 2;</code>
+     */
+    File.PackedFileEntry getFiles(int index);
+    /**
+     * <code>repeated .PackedFileEntry files = 2;</code>
+     */
+    int getFilesCount();
+    /**
+     * <code>repeated .PackedFileEntry files = 2;</code>
+     */
+    java.util.List<? extends File.PackedFileEntryOrBuilder> 
+        getFilesOrBuilderList();
+    /**
+     * <code>repeated .PackedFileEntry files = 2;</code>
+     */
+    File.PackedFileEntryOrBuilder getFilesOrBuilder(
+        int index);
+
+    /**
+     * <code>bytes data = 3;</code>
+     * @return The data.
+     */
+    com.google.protobuf.ByteString getData();
+
+    /**
+     * <code>bool compressed = 4;</code>
+     * @return The compressed.
+     */
+    boolean getCompressed();
+
+    /**
+     * <code>int32 uncompressedLength = 5;</code>
+     * @return The uncompressedLength.
+     */
+    int getUncompressedLength();
+
+    /**
+     * <code>bool hasMore = 6;</code>
+     * @return The hasMore.
+     */
+    boolean getHasMore();
+  }
+  /**
+   * Protobuf type {@code PackedFileResponse}
+   */
+  public static final class PackedFileResponse extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:PackedFileResponse)
+      PackedFileResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 29,
+        /* patch= */ 2,
+        /* suffix= */ "",
+        PackedFileResponse.class.getName());
+    }
+    // Use PackedFileResponse.newBuilder() to construct.
+    private PackedFileResponse(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private PackedFileResponse() {
+      directoryName_ = "";
+      files_ = java.util.Collections.emptyList();
+      data_ = com.google.protobuf.ByteString.EMPTY;
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return File.internal_static_PackedFileResponse_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return File.internal_static_PackedFileResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              File.PackedFileResponse.class, File.PackedFileResponse.Builder.class);
+    }
+
+    public static final int DIRECTORYNAME_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object directoryName_ = "";
+    /**
+     * <code>string directoryName = 1;</code>
+     * @return The directoryName.
+     */
+    @java.lang.Override
+    public java.lang.String getDirectoryName() {
+      java.lang.Object ref = directoryName_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        directoryName_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string directoryName = 1;</code>
+     * @return The bytes for directoryName.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getDirectoryNameBytes() {
+      java.lang.Object ref = directoryName_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        directoryName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int FILES_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private java.util.List<File.PackedFileEntry> files_;
+    /**
+     * <code>repeated .PackedFileEntry files = 2;</code>
+     */
+    @java.lang.Override
+    public java.util.List<File.PackedFileEntry> getFilesList() {
+      return files_;
+    }
+    /**
+     * <code>repeated .PackedFileEntry files = 2;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends File.PackedFileEntryOrBuilder> 
+        getFilesOrBuilderList() {
+      return files_;
+    }
+    /**
+     * <code>repeated .PackedFileEntry files = 2;</code>
+     */
+    @java.lang.Override
+    public int getFilesCount() {
+      return files_.size();
+    }
+    /**
+     * <code>repeated .PackedFileEntry files = 2;</code>
+     */
+    @java.lang.Override
+    public File.PackedFileEntry getFiles(int index) {
+      return files_.get(index);
+    }
+    /**
+     * <code>repeated .PackedFileEntry files = 2;</code>
+     */
+    @java.lang.Override
+    public File.PackedFileEntryOrBuilder getFilesOrBuilder(
+        int index) {
+      return files_.get(index);
+    }
+
+    public static final int DATA_FIELD_NUMBER = 3;
+    private com.google.protobuf.ByteString data_ = com.google.protobuf.ByteString.EMPTY;
+    /**
+     * <code>bytes data = 3;</code>
+     * @return The data.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString getData() {
+      return data_;
+    }
+
+    public static final int COMPRESSED_FIELD_NUMBER = 4;
+    private boolean compressed_ = false;
+    /**
+     * <code>bool compressed = 4;</code>
+     * @return The compressed.
+     */
+    @java.lang.Override
+    public boolean getCompressed() {
+      return compressed_;
+    }
+
+    public static final int UNCOMPRESSEDLENGTH_FIELD_NUMBER = 5;
+    private int uncompressedLength_ = 0;
+    /**
+     * <code>int32 uncompressedLength = 5;</code>
+     * @return The uncompressedLength.
+     */
+    @java.lang.Override
+    public int getUncompressedLength() {
+      return uncompressedLength_;
+    }
+
+    public static final int HASMORE_FIELD_NUMBER = 6;
+    private boolean hasMore_ = false;
+    /**
+     * <code>bool hasMore = 6;</code>
+     * @return The hasMore.
+     */
+    @java.lang.Override
+    public boolean getHasMore() {
+      return hasMore_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(directoryName_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 1, directoryName_);
+      }
+      for (int i = 0; i < files_.size(); i++) {
+        output.writeMessage(2, files_.get(i));
+      }
+      if (!data_.isEmpty()) {
+        output.writeBytes(3, data_);
+      }
+      if (compressed_ != false) {
+        output.writeBool(4, compressed_);
+      }
+      if (uncompressedLength_ != 0) {
+        output.writeInt32(5, uncompressedLength_);
+      }
+      if (hasMore_ != false) {
+        output.writeBool(6, hasMore_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(directoryName_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(1, directoryName_);
+      }
+      for (int i = 0; i < files_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, files_.get(i));
+      }
+      if (!data_.isEmpty()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(3, data_);
+      }
+      if (compressed_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(4, compressed_);
+      }
+      if (uncompressedLength_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(5, uncompressedLength_);
+      }
+      if (hasMore_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(6, hasMore_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof File.PackedFileResponse)) {
+        return super.equals(obj);
+      }
+      File.PackedFileResponse other = (File.PackedFileResponse) obj;
+
+      if (!getDirectoryName()
+          .equals(other.getDirectoryName())) return false;
+      if (!getFilesList()
+          .equals(other.getFilesList())) return false;
+      if (!getData()
+          .equals(other.getData())) return false;
+      if (getCompressed()
+          != other.getCompressed()) return false;
+      if (getUncompressedLength()
+          != other.getUncompressedLength()) return false;
+      if (getHasMore()
+          != other.getHasMore()) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + DIRECTORYNAME_FIELD_NUMBER;
+      hash = (53 * hash) + getDirectoryName().hashCode();
+      if (getFilesCount() > 0) {
+        hash = (37 * hash) + FILES_FIELD_NUMBER;
+        hash = (53 * hash) + getFilesList().hashCode();
+      }
+      hash = (37 * hash) + DATA_FIELD_NUMBER;
+      hash = (53 * hash) + getData().hashCode();
+      hash = (37 * hash) + COMPRESSED_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getCompressed());
+      hash = (37 * hash) + UNCOMPRESSEDLENGTH_FIELD_NUMBER;
+      hash = (53 * hash) + getUncompressedLength();
+      hash = (37 * hash) + HASMORE_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getHasMore());
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static File.PackedFileResponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static File.PackedFileResponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static File.PackedFileResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static File.PackedFileResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static File.PackedFileResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static File.PackedFileResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static File.PackedFileResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static File.PackedFileResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static File.PackedFileResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static File.PackedFileResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static File.PackedFileResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static File.PackedFileResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(File.PackedFileResponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code PackedFileResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:PackedFileResponse)
+        File.PackedFileResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return File.internal_static_PackedFileResponse_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return File.internal_static_PackedFileResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                File.PackedFileResponse.class, File.PackedFileResponse.Builder.class);
+      }
+
+      // Construct using File.PackedFileResponse.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        directoryName_ = "";
+        if (filesBuilder_ == null) {
+          files_ = java.util.Collections.emptyList();
+        } else {
+          files_ = null;
+          filesBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000002);
+        data_ = com.google.protobuf.ByteString.EMPTY;
+        compressed_ = false;
+        uncompressedLength_ = 0;
+        hasMore_ = false;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return File.internal_static_PackedFileResponse_descriptor;
+      }
+
+      @java.lang.Override
+      public File.PackedFileResponse getDefaultInstanceForType() {
+        return File.PackedFileResponse.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public File.PackedFileResponse build() {
+        File.PackedFileResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public File.PackedFileResponse buildPartial() {
+        File.PackedFileResponse result = new File.PackedFileResponse(this);
+        buildPartialRepeatedFields(result);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartialRepeatedFields(File.PackedFileResponse result) {
+        if (filesBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) != 0)) {
+            files_ = java.util.Collections.unmodifiableList(files_);
+            bitField0_ = (bitField0_ & ~0x00000002);
+          }
+          result.files_ = files_;
+        } else {
+          result.files_ = filesBuilder_.build();
+        }
+      }
+
+      private void buildPartial0(File.PackedFileResponse result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.directoryName_ = directoryName_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.data_ = data_;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.compressed_ = compressed_;
+        }
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          result.uncompressedLength_ = uncompressedLength_;
+        }
+        if (((from_bitField0_ & 0x00000020) != 0)) {
+          result.hasMore_ = hasMore_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof File.PackedFileResponse) {
+          return mergeFrom((File.PackedFileResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(File.PackedFileResponse other) {
+        if (other == File.PackedFileResponse.getDefaultInstance()) return this;
+        if (!other.getDirectoryName().isEmpty()) {
+          directoryName_ = other.directoryName_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (filesBuilder_ == null) {
+          if (!other.files_.isEmpty()) {
+            if (files_.isEmpty()) {
+              files_ = other.files_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+            } else {
+              ensureFilesIsMutable();
+              files_.addAll(other.files_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.files_.isEmpty()) {
+            if (filesBuilder_.isEmpty()) {
+              filesBuilder_.dispose();
+              filesBuilder_ = null;
+              files_ = other.files_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+              filesBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getFilesFieldBuilder() : null;
+            } else {
+              filesBuilder_.addAllMessages(other.files_);
+            }
+          }
+        }
+        if (other.getData() != com.google.protobuf.ByteString.EMPTY) {
+          setData(other.getData());
+        }
+        if (other.getCompressed() != false) {
+          setCompressed(other.getCompressed());
+        }
+        if (other.getUncompressedLength() != 0) {
+          setUncompressedLength(other.getUncompressedLength());
+        }
+        if (other.getHasMore() != false) {
+          setHasMore(other.getHasMore());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                directoryName_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                File.PackedFileEntry m =
+                    input.readMessage(
+                        File.PackedFileEntry.parser(),
+                        extensionRegistry);
+                if (filesBuilder_ == null) {
+                  ensureFilesIsMutable();
+                  files_.add(m);
+                } else {
+                  filesBuilder_.addMessage(m);
+                }
+                break;
+              } // case 18
+              case 26: {
+                data_ = input.readBytes();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 26
+              case 32: {
+                compressed_ = input.readBool();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 32
+              case 40: {
+                uncompressedLength_ = input.readInt32();
+                bitField0_ |= 0x00000010;
+                break;
+              } // case 40
+              case 48: {
+                hasMore_ = input.readBool();
+                bitField0_ |= 0x00000020;
+                break;
+              } // case 48
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object directoryName_ = "";
+      /**
+       * <code>string directoryName = 1;</code>
+       * @return The directoryName.
+       */
+      public java.lang.String getDirectoryName() {
+        java.lang.Object ref = directoryName_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          directoryName_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string directoryName = 1;</code>
+       * @return The bytes for directoryName.
+       */
+      public com.google.protobuf.ByteString
+          getDirectoryNameBytes() {
+        java.lang.Object ref = directoryName_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          directoryName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string directoryName = 1;</code>
+       * @param value The directoryName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDirectoryName(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        directoryName_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string directoryName = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDirectoryName() {
+        directoryName_ = getDefaultInstance().getDirectoryName();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string directoryName = 1;</code>
+       * @param value The bytes for directoryName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDirectoryNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        directoryName_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<File.PackedFileEntry> files_ =
+        java.util.Collections.emptyList();
+      private void ensureFilesIsMutable() {
+        if (!((bitField0_ & 0x00000002) != 0)) {
+          files_ = new java.util.ArrayList<File.PackedFileEntry>(files_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          File.PackedFileEntry, File.PackedFileEntry.Builder, File.PackedFileEntryOrBuilder> filesBuilder_;
+
+      /**
+       * <code>repeated .PackedFileEntry files = 2;</code>
+       */
+      public java.util.List<File.PackedFileEntry> getFilesList() {
+        if (filesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(files_);
+        } else {
+          return filesBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .PackedFileEntry files = 2;</code>
+       */
+      public int getFilesCount() {
+        if (filesBuilder_ == null) {
+          return files_.size();
+        } else {
+          return filesBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .PackedFileEntry files = 2;</code>
+       */
+      public File.PackedFileEntry getFiles(int index) {
+        if (filesBuilder_ == null) {
+          return files_.get(index);
+        } else {
+          return filesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .PackedFileEntry files = 2;</code>
+       */
+      public Builder setFiles(
+          int index, File.PackedFileEntry value) {
+        if (filesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureFilesIsMutable();
+          files_.set(index, value);
+          onChanged();
+        } else {
+          filesBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .PackedFileEntry files = 2;</code>
+       */
+      public Builder setFiles(
+          int index, File.PackedFileEntry.Builder builderForValue) {
+        if (filesBuilder_ == null) {
+          ensureFilesIsMutable();
+          files_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          filesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .PackedFileEntry files = 2;</code>
+       */
+      public Builder addFiles(File.PackedFileEntry value) {
+        if (filesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureFilesIsMutable();
+          files_.add(value);
+          onChanged();
+        } else {
+          filesBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .PackedFileEntry files = 2;</code>
+       */
+      public Builder addFiles(
+          int index, File.PackedFileEntry value) {
+        if (filesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureFilesIsMutable();
+          files_.add(index, value);
+          onChanged();
+        } else {
+          filesBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .PackedFileEntry files = 2;</code>
+       */
+      public Builder addFiles(
+          File.PackedFileEntry.Builder builderForValue) {
+        if (filesBuilder_ == null) {
+          ensureFilesIsMutable();
+          files_.add(builderForValue.build());
+          onChanged();
+        } else {
+          filesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .PackedFileEntry files = 2;</code>
+       */
+      public Builder addFiles(
+          int index, File.PackedFileEntry.Builder builderForValue) {
+        if (filesBuilder_ == null) {
+          ensureFilesIsMutable();
+          files_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          filesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .PackedFileEntry files = 2;</code>
+       */
+      public Builder addAllFiles(
+          java.lang.Iterable<? extends File.PackedFileEntry> values) {
+        if (filesBuilder_ == null) {
+          ensureFilesIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, files_);
+          onChanged();
+        } else {
+          filesBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .PackedFileEntry files = 2;</code>
+       */
+      public Builder clearFiles() {
+        if (filesBuilder_ == null) {
+          files_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+          onChanged();
+        } else {
+          filesBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .PackedFileEntry files = 2;</code>
+       */
+      public Builder removeFiles(int index) {
+        if (filesBuilder_ == null) {
+          ensureFilesIsMutable();
+          files_.remove(index);
+          onChanged();
+        } else {
+          filesBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .PackedFileEntry files = 2;</code>
+       */
+      public File.PackedFileEntry.Builder getFilesBuilder(
+          int index) {
+        return getFilesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .PackedFileEntry files = 2;</code>
+       */
+      public File.PackedFileEntryOrBuilder getFilesOrBuilder(
+          int index) {
+        if (filesBuilder_ == null) {
+          return files_.get(index);  } else {
+          return filesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .PackedFileEntry files = 2;</code>
+       */
+      public java.util.List<? extends File.PackedFileEntryOrBuilder> 
+           getFilesOrBuilderList() {
+        if (filesBuilder_ != null) {
+          return filesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(files_);
+        }
+      }
+      /**
+       * <code>repeated .PackedFileEntry files = 2;</code>
+       */
+      public File.PackedFileEntry.Builder addFilesBuilder() {
+        return getFilesFieldBuilder().addBuilder(
+            File.PackedFileEntry.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .PackedFileEntry files = 2;</code>
+       */
+      public File.PackedFileEntry.Builder addFilesBuilder(
+          int index) {
+        return getFilesFieldBuilder().addBuilder(
+            index, File.PackedFileEntry.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .PackedFileEntry files = 2;</code>
+       */
+      public java.util.List<File.PackedFileEntry.Builder> 
+           getFilesBuilderList() {
+        return getFilesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          File.PackedFileEntry, File.PackedFileEntry.Builder, File.PackedFileEntryOrBuilder> 
+          getFilesFieldBuilder() {
+        if (filesBuilder_ == null) {
+          filesBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              File.PackedFileEntry, File.PackedFileEntry.Builder, File.PackedFileEntryOrBuilder>(
+                  files_,
+                  ((bitField0_ & 0x00000002) != 0),
+                  getParentForChildren(),
+                  isClean());
+          files_ = null;
+        }
+        return filesBuilder_;
+      }
+
+      private com.google.protobuf.ByteString data_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>bytes data = 3;</code>
+       * @return The data.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString getData() {
+        return data_;
+      }
+      /**
+       * <code>bytes data = 3;</code>
+       * @param value The data to set.
+       * @return This builder for chaining.
+       */
+      public Builder setData(com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        data_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bytes data = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearData() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        data_ = getDefaultInstance().getData();
+        onChanged();
+        return this;
+      }
+
+      private boolean compressed_ ;
+      /**
+       * <code>bool compressed = 4;</code>
+       * @return The compressed.
+       */
+      @java.lang.Override
+      public boolean getCompressed() {
+        return compressed_;
+      }
+      /**
+       * <code>bool compressed = 4;</code>
+       * @param value The compressed to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCompressed(boolean value) {
+
+        compressed_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bool compressed = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearCompressed() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        compressed_ = false;
+        onChanged();
+        return this;
+      }
+
+      private int uncompressedLength_ ;
+      /**
+       * <code>int32 uncompressedLength = 5;</code>
+       * @return The uncompressedLength.
+       */
+      @java.lang.Override
+      public int getUncompressedLength() {
+        return uncompressedLength_;
+      }
+      /**
+       * <code>int32 uncompressedLength = 5;</code>
+       * @param value The uncompressedLength to set.
+       * @return This builder for chaining.
+       */
+      public Builder setUncompressedLength(int value) {
+
+        uncompressedLength_ = value;
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 uncompressedLength = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearUncompressedLength() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        uncompressedLength_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private boolean hasMore_ ;
+      /**
+       * <code>bool hasMore = 6;</code>
+       * @return The hasMore.
+       */
+      @java.lang.Override
+      public boolean getHasMore() {
+        return hasMore_;
+      }
+      /**
+       * <code>bool hasMore = 6;</code>
+       * @param value The hasMore to set.
+       * @return This builder for chaining.
+       */
+      public Builder setHasMore(boolean value) {
+
+        hasMore_ = value;
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bool hasMore = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearHasMore() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        hasMore_ = false;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:PackedFileResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:PackedFileResponse)
+    private static final File.PackedFileResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new File.PackedFileResponse();
+    }
+
+    public static File.PackedFileResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<PackedFileResponse>
+        PARSER = new com.google.protobuf.AbstractParser<PackedFileResponse>() {
+      @java.lang.Override
+      public PackedFileResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<PackedFileResponse> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<PackedFileResponse> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public File.PackedFileResponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface DeltaRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:DeltaRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string fileName = 1;</code>
+     * @return The fileName.
+     */
+    java.lang.String getFileName();
+    /**
+     * <code>string fileName = 1;</code>
+     * @return The bytes for fileName.
+     */
+    com.google.protobuf.ByteString
+        getFileNameBytes();
+
+    /**
+     * <code>int32 blockSize = 2;</code>
+     * @return The blockSize.
+     */
+    int getBlockSize();
+
+    /**
+     * <code>repeated fixed32 weakChecksums = 3;</code>
+     * @return A list containing the weakChecksums.
+     */
+    java.util.List<java.lang.Integer> getWeakChecksumsList();
+    /**
+     * <code>repeated fixed32 weakChecksums = 3;</code>
+     * @return The count of weakChecksums.
+     */
+    int getWeakChecksumsCount();
+    /**
+     * <code>repeated fixed32 weakChecksums = 3;</code>
+     * @param index The index of the element to return.
+     * @return The weakChecksums at the given index.
+     */
+    int getWeakChecksums(int index);
+
+    /**
+     * <code>repeated fixed64 strongChecksums = 4;</code>
+     * @return A list containing the strongChecksums.
+     */
+    java.util.List<java.lang.Long> getStrongChecksumsList();
+    /**
+     * <code>repeated fixed64 strongChecksums = 4;</code>
+     * @return The count of strongChecksums.
+     */
+    int getStrongChecksumsCount();
+    /**
+     * <code>repeated fixed64 strongChecksums = 4;</code>
+     * @param index The index of the element to return.
+     * @return The strongChecksums at the given index.
+     */
+    long getStrongChecksums(int index);
+  }
+  /**
+   * Protobuf type {@code DeltaRequest}
+   */
+  public static final class DeltaRequest extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:DeltaRequest)
+      DeltaRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 29,
+        /* patch= */ 2,
+        /* suffix= */ "",
+        DeltaRequest.class.getName());
+    }
+    // Use DeltaRequest.newBuilder() to construct.
+    private DeltaRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private DeltaRequest() {
+      fileName_ = "";
+      weakChecksums_ = emptyIntList();
+      strongChecksums_ = emptyLongList();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return File.internal_static_DeltaRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return File.internal_static_DeltaRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              File.DeltaRequest.class, File.DeltaRequest.Builder.class);
+    }
+
+    public static final int FILENAME_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object fileName_ = "";
+    /**
+     * <code>string fileName = 1;</code>
+     * @return The fileName.
+     */
+    @java.lang.Override
+    public java.lang.String getFileName() {
+      java.lang.Object ref = fileName_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        fileName_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string fileName = 1;</code>
+     * @return The bytes for fileName.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getFileNameBytes() {
+      java.lang.Object ref = fileName_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        fileName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int BLOCKSIZE_FIELD_NUMBER = 2;
+    private int blockSize_ = 0;
+    /**
+     * <code>int32 blockSize = 2;</code>
+     * @return The blockSize.
+     */
+    @java.lang.Override
+    public int getBlockSize() {
+      return blockSize_;
+    }
+
+    public static final int WEAKCHECKSUMS_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.Internal.IntList weakChecksums_ =
+        emptyIntList();
+    /**
+     * <code>repeated fixed32 weakChecksums = 3;</code>
+     * @return A list containing the weakChecksums.
+     */
+    @java.lang.Override
+    public java.util.List<java.lang.Integer>
+        getWeakChecksumsList() {
+      return weakChecksums_;
+    }
+    /**
+     * <code>repeated fixed32 weakChecksums = 3;</code>
+     * @return The count of weakChecksums.
+     */
+    public int getWeakChecksumsCount() {
+      return weakChecksums_.size();
+    }
+    /**
+     * <code>repeated fixed32 weakChecksums = 3;</code>
+     * @param index The index of the element to return.
+     * @return The weakChecksums at the given index.
+     */
+    public int getWeakChecksums(int index) {
+      return weakChecksums_.getInt(index);
+    }
+    private int weakChecksumsMemoizedSerializedSize = -1;
+
+    public static final int STRONGCHECKSUMS_FIELD_NUMBER = 4;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.Internal.LongList strongChecksums_ =
+        emptyLongList();
+    /**
+     * <code>repeated fixed64 strongChecksums = 4;</code>
+     * @return A list containing the strongChecksums.
+     */
+    @java.lang.Override
+    public java.util.List<java.lang.Long>
+        getStrongChecksumsList() {
+      return strongChecksums_;
+    }
+    /**
+     * <code>repeated fixed64 strongChecksums = 4;</code>
+     * @return The count of strongChecksums.
+     */
+    public int getStrongChecksumsCount() {
+      return strongChecksums_.size();
+    }
+    /**
+     * <code>repeated fixed64 strongChecksums = 4;</code>
+     * @param index The index of the element to return.
+     * @return The strongChecksums at the given index.
+     */
+    public long getStrongChecksums(int index) {
+      return strongChecksums_.getLong(index);
+    }
+    private int strongChecksumsMemoizedSerializedSize = -1;
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(fileName_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 1, fileName_);
+      }
+      if (blockSize_ != 0) {
+        output.writeInt32(2, blockSize_);
+      }
+      if (getWeakChecksumsList().size() > 0) {
+        output.writeUInt32NoTag(26);
+        output.writeUInt32NoTag(weakChecksumsMemoizedSerializedSize);
+      }
+      for (int i = 0; i < weakChecksums_.size(); i++) {
+        output.writeFixed32NoTag(weakChecksums_.getInt(i));
+      }
+      if (getStrongChecksumsList().size() > 0) {
+        output.writeUInt32NoTag(34);
+        output.writeUInt32NoTag(strongChecksumsMemoizedSerializedSize);
+      }
+      for (int i = 0; i < strongChecksums_.size(); i++) {
+        output.writeFixed64NoTag(strongChecksums_.getLong(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(fileName_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(1, fileName_);
+      }
+      if (blockSize_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, blockSize_);
+      }
+      {
+        int dataSize = 0;
+        dataSize = 4 * getWeakChecksumsList().size();
+        size += dataSize;
+        if (!getWeakChecksumsList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        weakChecksumsMemoizedSerializedSize = dataSize;
+      }
+      {
+        int dataSize = 0;
+        dataSize = 8 * getStrongChecksumsList().size();
+        size += dataSize;
+        if (!getStrongChecksumsList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        strongChecksumsMemoizedSerializedSize = dataSize;
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof File.DeltaRequest)) {
+        return super.equals(obj);
+      }
+      File.DeltaRequest other = (File.DeltaRequest) obj;
+
+      if (!getFileName()
+          .equals(other.getFileName())) return false;
+      if (getBlockSize()
+          != other.getBlockSize()) return false;
+      if (!getWeakChecksumsList()
+          .equals(other.getWeakChecksumsList())) return false;
+      if (!getStrongChecksumsList()
+          .equals(other.getStrongChecksumsList())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + FILENAME_FIELD_NUMBER;
+      hash = (53 * hash) + getFileName().hashCode();
+      hash = (37 * hash) + BLOCKSIZE_FIELD_NUMBER;
+      hash = (53 * hash) + getBlockSize();
+      if (getWeakChecksumsCount() > 0) {
+        hash = (37 * hash) + WEAKCHECKSUMS_FIELD_NUMBER;
+        hash = (53 * hash) + getWeakChecksumsList().hashCode();
+      }
+      if (getStrongChecksumsCount() > 0) {
+        hash = (37 * hash) + STRONGCHECKSUMS_FIELD_NUMBER;
+        hash = (53 * hash) + getStrongChecksumsList().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static File.DeltaRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static File.DeltaRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static File.DeltaRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static File.DeltaRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static File.DeltaRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static File.DeltaRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static File.DeltaRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static File.DeltaRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static File.DeltaRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static File.DeltaRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static File.DeltaRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static File.DeltaRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(File.DeltaRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code DeltaRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:DeltaRequest)
+        File.DeltaRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return File.internal_static_DeltaRequest_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return File.internal_static_DeltaRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                File.DeltaRequest.class, File.DeltaRequest.Builder.class);
+      }
+
+      // Construct using File.DeltaRequest.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        fileName_ = "";
+        blockSize_ = 0;
+        weakChecksums_ = emptyIntList();
+        strongChecksums_ = emptyLongList();
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return File.internal_static_DeltaRequest_descriptor;
+      }
+
+      @java.lang.Override
+      public File.DeltaRequest getDefaultInstanceForType() {
+        return File.DeltaRequest.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public File.DeltaRequest build() {
+        File.DeltaRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public File.DeltaRequest buildPartial() {
+        File.DeltaRequest result = new File.DeltaRequest(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(File.DeltaRequest result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.fileName_ = fileName_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.blockSize_ = blockSize_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          weakChecksums_.makeImmutable();
+          result.weakChecksums_ = weakChecksums_;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          strongChecksums_.makeImmutable();
+          result.strongChecksums_ = strongChecksums_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof File.DeltaRequest) {
+          return mergeFrom((File.DeltaRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(File.DeltaRequest other) {
+        if (other == File.DeltaRequest.getDefaultInstance()) return this;
+        if (!other.getFileName().isEmpty()) {
+          fileName_ = other.fileName_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (other.getBlockSize() != 0) {
+          setBlockSize(other.getBlockSize());
+        }
+        if (!other.weakChecksums_.isEmpty()) {
+          if (weakChecksums_.isEmpty()) {
+            weakChecksums_ = other.weakChecksums_;
+            weakChecksums_.makeImmutable();
+            bitField0_ |= 0x00000004;
+          } else {
+            ensureWeakChecksumsIsMutable();
+            weakChecksums_.addAll(other.weakChecksums_);
+          }
+          onChanged();
+        }
+        if (!other.strongChecksums_.isEmpty()) {
+          if (strongChecksums_.isEmpty()) {
+            strongChecksums_ = other.strongChecksums_;
+            strongChecksums_.makeImmutable();
+            bitField0_ |= 0x00000008;
+          } else {
+            ensureStrongChecksumsIsMutable();
+            strongChecksums_.addAll(other.strongChecksums_);
+          }
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                fileName_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 16: {
+                blockSize_ = input.readInt32();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 16
+              case 29: {
+                int v = input.readFixed32();
+                ensureWeakChecksumsIsMutable();
+                weakChecksums_.addInt(v);
+                break;
+              } // case 29
+              case 26: {
+                int length = input.readRawVarint32();
+                int limit = input.pushLimit(length);
+                int alloc = length > 4096 ? 4096 : length;
+                ensureWeakChecksumsIsMutable(alloc / 4);
+                while (input.getBytesUntilLimit() > 0) {
+                  weakChecksums_.addInt(input.readFixed32());
+                }
+                input.popLimit(limit);
+                break;
+              } // case 26
+              case 33: {
+                long v = input.readFixed64();
+                ensureStrongChecksumsIsMutable();
+                strongChecksums_.addLong(v);
+                break;
+              } // case 33
+              case 34: {
+                int length = input.readRawVarint32();
+                int limit = input.pushLimit(length);
+                int alloc = length > 4096 ? 4096 : length;
+                ensureStrongChecksumsIsMutable(alloc / 8);
+                while (input.getBytesUntilLimit() > 0) {
+                  strongChecksums_.addLong(input.readFixed64());
+                }
+                input.popLimit(limit);
+                break;
+              } // case 34
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object fileName_ = "";
+      /**
+       * <code>string fileName = 1;</code>
+       * @return The fileName.
+       */
+      public java.lang.String getFileName() {
+        java.lang.Object ref = fileName_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          fileName_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string fileName = 1;</code>
+       * @return The bytes for fileName.
+       */
+      public com.google.protobuf.ByteString
+          getFileNameBytes() {
+        java.lang.Object ref = fileName_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          fileName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string fileName = 1;</code>
+       * @param value The fileName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setFileName(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        fileName_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string fileName = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearFileName() {
+        fileName_ = getDefaultInstance().getFileName();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string fileName = 1;</code>
+       * @param value The bytes for fileName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setFileNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        fileName_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private int blockSize_ ;
+      /**
+       * <code>int32 blockSize = 2;</code>
+       * @return The blockSize.
+       */
+      @java.lang.Override
+      public int getBlockSize() {
+        return blockSize_;
+      }
+      /**
+       * <code>int32 blockSize = 2;</code>
+       * @param value The blockSize to set.
+       * @return This builder for chaining.
+       */
+      public Builder setBlockSize(int value) {
+
+        blockSize_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 blockSize = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearBlockSize() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        blockSize_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.Internal.IntList weakChecksums_ = emptyIntList();
+      private void ensureWeakChecksumsIsMutable() {
+        if (!weakChecksums_.isModifiable()) {
+          weakChecksums_ = makeMutableCopy(weakChecksums_);
+        }
+        bitField0_ |= 0x00000004;
+      }
+      private void ensureWeakChecksumsIsMutable(int capacity) {
+        if (!weakChecksums_.isModifiable()) {
+          weakChecksums_ = makeMutableCopy(weakChecksums_, capacity);
+        }
+        bitField0_ |= 0x00000004;
+      }
+      /**
+       * <code>repeated fixed32 weakChecksums = 3;</code>
+       * @return A list containing the weakChecksums.
+       */
+      public java.util.List<java.lang.Integer>
+          getWeakChecksumsList() {
+        weakChecksums_.makeImmutable();
+        return weakChecksums_;
+      }
+      /**
+       * <code>repeated fixed32 weakChecksums = 3;</code>
+       * @return The count of weakChecksums.
+       */
+      public int getWeakChecksumsCount() {
+        return weakChecksums_.size();
+      }
+      /**
+       * <code>repeated fixed32 weakChecksums = 3;</code>
+       * @param index The index of the element to return.
+       * @return The weakChecksums at the given index.
+       */
+      public int getWeakChecksums(int index) {
+        return weakChecksums_.getInt(index);
+      }
+      /**
+       * <code>repeated fixed32 weakChecksums = 3;</code>
+       * @param index The index to set the value at.
+       * @param value The weakChecksums to set.
+       * @return This builder for chaining.
+       */
+      public Builder setWeakChecksums(
+          int index, int value) {
+
+        ensureWeakChecksumsIsMutable();
+        weakChecksums_.setInt(index, value);
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated fixed32 weakChecksums = 3;</code>
+       * @param value The weakChecksums to add.
+       * @return This builder for chaining.
+       */
+      public Builder addWeakChecksums(int value) {
+
+        ensureWeakChecksumsIsMutable();
+        weakChecksums_.addInt(value);
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated fixed32 weakChecksums = 3;</code>
+       * @param values The weakChecksums to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllWeakChecksums(
+          java.lang.Iterable<? extends java.lang.Integer> values) {
+        ensureWeakChecksumsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, weakChecksums_);
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated fixed32 weakChecksums = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearWeakChecksums() {
+        weakChecksums_ = emptyIntList();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.Internal.LongList strongChecksums_ = emptyLongList();
+      private void ensureStrongChecksumsIsMutable() {
+        if (!strongChecksums_.isModifiable()) {
+          strongChecksums_ = makeMutableCopy(strongChecksums_);
+        }
+        bitField0_ |= 0x00000008;
+      }
+      private void ensureStrongChecksumsIsMutable(int capacity) {
+        if (!strongChecksums_.isModifiable()) {
+          strongChecksums_ = makeMutableCopy(strongChecksums_, capacity);
+        }
+        bitField0_ |= 0x00000008;
+      }
+      /**
+       * <code>repeated fixed64 strongChecksums = 4;</code>
+       * @return A list containing the strongChecksums.
+       */
+      public java.util.List<java.lang.Long>
+          getStrongChecksumsList() {
+        strongChecksums_.makeImmutable();
+        return strongChecksums_;
+      }
+      /**
+       * <code>repeated fixed64 strongChecksums = 4;</code>
+       * @return The count of strongChecksums.
+       */
+      public int getStrongChecksumsCount() {
+        return strongChecksums_.size();
+      }
+      /**
+       * <code>repeated fixed64 strongChecksums = 4;</code>
+       * @param index The index of the element to return.
+       * @return The strongChecksums at the given index.
+       */
+      public long getStrongChecksums(int index) {
+        return strongChecksums_.getLong(index);
+      }
+      /**
+       * <code>repeated fixed64 strongChecksums = 4;</code>
+       * @param index The index to set the value at.
+       * @param value The strongChecksums to set.
+       * @return This builder for chaining.
+       */
+      public Builder setStrongChecksums(
+          int index, long value) {
+
+        ensureStrongChecksumsIsMutable();
+        strongChecksums_.setLong(index, value);
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated fixed64 strongChecksums = 4;</code>
+       * @param value The strongChecksums to add.
+       * @return This builder for chaining.
+       */
+      public Builder addStrongChecksums(long value) {
+
+        ensureStrongChecksumsIsMutable();
+        strongChecksums_.addLong(value);
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated fixed64 strongChecksums = 4;</code>
+       * @param values The strongChecksums to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllStrongChecksums(
+          java.lang.Iterable<? extends java.lang.Long> values) {
+        ensureStrongChecksumsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, strongChecksums_);
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated fixed64 strongChecksums = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearStrongChecksums() {
+        strongChecksums_ = emptyLongList();
+        bitField0_ = (bitField0_ & ~0x00000008);
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:DeltaRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:DeltaRequest)
+    private static final File.DeltaRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new File.DeltaRequest();
+    }
+
+    public static File.DeltaRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<DeltaRequest>
+        PARSER = new com.google.protobuf.AbstractParser<DeltaRequest>() {
+      @java.lang.Override
+      public DeltaRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<DeltaRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<DeltaRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public File.DeltaRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface BlockRangeOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:BlockRange)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>int32 blockIndex = 1;</code>
+     * @return The blockIndex.
+     */
+    int getBlockIndex();
+
+    /**
+     * <code>int32 blockCount = 2;</code>
+     * @return The blockCount.
+     */
+    int getBlockCount();
+  }
+  /**
+   * Protobuf type {@code BlockRange}
+   */
+  public static final class BlockRange extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:BlockRange)
+      BlockRangeOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 29,
+        /* patch= */ 2,
+        /* suffix= */ "",
+        BlockRange.class.getName());
+    }
+    // Use BlockRange.newBuilder() to construct.
+    private BlockRange(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private BlockRange() {
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return File.internal_static_BlockRange_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return File.internal_static_BlockRange_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              File.BlockRange.class, File.BlockRange.Builder.class);
+    }
+
+    public static final int BLOCKINDEX_FIELD_NUMBER = 1;
+    private int blockIndex_ = 0;
+    /**
+     * <code>int32 blockIndex = 1;</code>
+     * @return The blockIndex.
+     */
+    @java.lang.Override
+    public int getBlockIndex() {
+      return blockIndex_;
+    }
+
+    public static final int BLOCKCOUNT_FIELD_NUMBER = 2;
+    private int blockCount_ = 0;
+    /**
+     * <code>int32 blockCount = 2;</code>
+     * @return The blockCount.
+     */
+    @java.lang.Override
+    public int getBlockCount() {
+      return blockCount_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (blockIndex_ != 0) {
+        output.writeInt32(1, blockIndex_);
+      }
+      if (blockCount_ != 0) {
+        output.writeInt32(2, blockCount_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (blockIndex_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, blockIndex_);
+      }
+      if (blockCount_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, blockCount_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof File.BlockRange)) {
+        return super.equals(obj);
+      }
+      File.BlockRange other = (File.BlockRange) obj;
+
+      if (getBlockIndex()
+          != other.getBlockIndex()) return false;
+      if (getBlockCount()
+          != other.getBlockCount()) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + BLOCKINDEX_FIELD_NUMBER;
+      hash = (53 * hash) + getBlockIndex();
+      hash = (37 * hash) + BLOCKCOUNT_FIELD_NUMBER;
+      hash = (53 * hash) + getBlockCount();
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static File.BlockRange parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static File.BlockRange parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static File.BlockRange parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static File.BlockRange parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static File.BlockRange parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static File.BlockRange parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static File.BlockRange parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static File.BlockRange parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static File.BlockRange parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static File.BlockRange parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static File.BlockRange parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static File.BlockRange parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(File.BlockRange prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code BlockRange}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:BlockRange)
+        File.BlockRangeOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return File.internal_static_BlockRange_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return File.internal_static_BlockRange_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                File.BlockRange.class, File.BlockRange.Builder.class);
+      }
+
+      // Construct using File.BlockRange.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        blockIndex_ = 0;
+        blockCount_ = 0;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return File.internal_static_BlockRange_descriptor;
+      }
+
+      @java.lang.Override
+      public File.BlockRange getDefaultInstanceForType() {
+        return File.BlockRange.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public File.BlockRange build() {
+        File.BlockRange result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public File.BlockRange buildPartial() {
+        File.BlockRange result = new File.BlockRange(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(File.BlockRange result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.blockIndex_ = blockIndex_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.blockCount_ = blockCount_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof File.BlockRange) {
+          return mergeFrom((File.BlockRange)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(File.BlockRange other) {
+        if (other == File.BlockRange.getDefaultInstance()) return this;
+        if (other.getBlockIndex() != 0) {
+          setBlockIndex(other.getBlockIndex());
+        }
+        if (other.getBlockCount() != 0) {
+          setBlockCount(other.getBlockCount());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 8: {
+                blockIndex_ = input.readInt32();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 8
+              case 16: {
+                blockCount_ = input.readInt32();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 16
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private int blockIndex_ ;
+      /**
+       * <code>int32 blockIndex = 1;</code>
+       * @return The blockIndex.
+       */
+      @java.lang.Override
+      public int getBlockIndex() {
+        return blockIndex_;
+      }
+      /**
+       * <code>int32 blockIndex = 1;</code>
+       * @param value The blockIndex to set.
+       * @return This builder for chaining.
+       */
+      public Builder setBlockIndex(int value) {
+
+        blockIndex_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 blockIndex = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearBlockIndex() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        blockIndex_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int blockCount_ ;
+      /**
+       * <code>int32 blockCount = 2;</code>
+       * @return The blockCount.
+       */
+      @java.lang.Override
+      public int getBlockCount() {
+        return blockCount_;
+      }
+      /**
+       * <code>int32 blockCount = 2;</code>
+       * @param value The blockCount to set.
+       * @return This builder for chaining.
+       */
+      public Builder setBlockCount(int value) {
+
+        blockCount_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 blockCount = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearBlockCount() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        blockCount_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:BlockRange)
+    }
+
+    // @@protoc_insertion_point(class_scope:BlockRange)
+    private static final File.BlockRange DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new File.BlockRange();
+    }
+
+    public static File.BlockRange getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<BlockRange>
+        PARSER = new com.google.protobuf.AbstractParser<BlockRange>() {
+      @java.lang.Override
+      public BlockRange parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<BlockRange> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<BlockRange> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public File.BlockRange getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface DeltaInstructionOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:DeltaInstruction)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.BlockRange copy = 1;</code>
+     * @return Whether the copy field is set.
+     */
+    boolean hasCopy();
+    /**
+     * <code>.BlockRange copy = 1;</code>
+     * @return The copy.
+     */
+    File.BlockRange getCopy();
+    /**
+     * <code>.BlockRange copy = 1;</code>
+     */
+    File.BlockRangeOrBuilder getCopyOrBuilder();
+
+    /**
+     * <code>bytes literal = 2;</code>
+     * @return Whether the literal field is set.
+     */
+    boolean hasLiteral();
+    /**
+     * <code>bytes literal = 2;</code>
+     * @return The literal.
+     */
+    com.google.protobuf.ByteString getLiteral();
+
+    File.DeltaInstruction.InstructionCase getInstructionCase();
+  }
+  /**
+   * Protobuf type {@code DeltaInstruction}
+   */
+  public static final class DeltaInstruction extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:DeltaInstruction)
+      DeltaInstructionOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 29,
+        /* patch= */ 2,
+        /* suffix= */ "",
+        DeltaInstruction.class.getName());
+    }
+    // Use DeltaInstruction.newBuilder() to construct.
+    private DeltaInstruction(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private DeltaInstruction() {
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return File.internal_static_DeltaInstruction_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return File.internal_static_DeltaInstruction_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              File.DeltaInstruction.class, File.DeltaInstruction.Builder.class);
+    }
+
+    private int instructionCase_ = 0;
+    @SuppressWarnings("serial")
+    private java.lang.Object instruction_;
+    public enum InstructionCase
+        implements com.google.protobuf.Internal.EnumLite,
+            com.google.protobuf.AbstractMessage.InternalOneOfEnum {
+      COPY(1),
+      LITERAL(2),
+      INSTRUCTION_NOT_SET(0);
+      private final int value;
+      private InstructionCase(int value) {
+        this.value = value;
+      }
+      /**
+       * @param value The number of the enum to look for.
+       * @return The enum associated with the given number.
+       * @deprecated Use {@link #forNumber(int)} instead.
+       */
+      @java.lang.Deprecated
+      public static InstructionCase valueOf(int value) {
+        return forNumber(value);
+      }
+
+      public static InstructionCase forNumber(int value) {
+        switch (value) {
+          case 1: return COPY;
+          case 2: return LITERAL;
+          case 0: return INSTRUCTION_NOT_SET;
+          default: return null;
+        }
+      }
+      public int getNumber() {
+        return this.value;
+      }
+    };
+
+    public InstructionCase
+    getInstructionCase() {
+      return InstructionCase.forNumber(
+          instructionCase_);
+    }
+
+    public static final int COPY_FIELD_NUMBER = 1;
+    /**
+     * <code>.BlockRange copy = 1;</code>
+     * @return Whether the copy field is set.
+     */
+    @java.lang.Override
+    public boolean hasCopy() {
+      return instructionCase_ == 1;
+    }
+    /**
+     * <code>.BlockRange copy = 1;</code>
+     * @return The copy.
+     */
+    @java.lang.Override
+    public File.BlockRange getCopy() {
+      if (instructionCase_ == 1) {
+         return (File.BlockRange) instruction_;
+      }
+      return File.BlockRange.getDefaultInstance();
+    }
+    /**
+     * <code>.BlockRange copy = 1;</code>
+     */
+    @java.lang.Override
+    public File.BlockRangeOrBuilder getCopyOrBuilder() {
+      if (instructionCase_ == 1) {
+         return (File.BlockRange) instruction_;
+      }
+      return File.BlockRange.getDefaultInstance();
+    }
+
+    public static final int LITERAL_FIELD_NUMBER = 2;
+    /**
+     * <code>bytes literal = 2;</code>
+     * @return Whether the literal field is set.
+     */
+    @java.lang.Override
+    public boolean hasLiteral() {
+      return instructionCase_ == 2;
+    }
+    /**
+     * <code>bytes literal = 2;</code>
+     * @return The literal.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString getLiteral() {
+      if (instructionCase_ == 2) {
+        return (com.google.protobuf.ByteString) instruction_;
+      }
+      return com.google.protobuf.ByteString.EMPTY;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (instructionCase_ == 1) {
+        output.writeMessage(1, (File.BlockRange) instruction_);
+      }
+      if (instructionCase_ == 2) {
+        output.writeBytes(
+            2, (com.google.protobuf.ByteString) instruction_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (instructionCase_ == 1) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, (File.BlockRange) instruction_);
+      }
+      if (instructionCase_ == 2) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(
+              2, (com.google.protobuf.ByteString) instruction_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof File.DeltaInstruction)) {
+        return super.equals(obj);
+      }
+      File.DeltaInstruction other = (File.DeltaInstruction) obj;
+
+      if (!getInstructionCase().equals(other.getInstructionCase())) return false;
+      switch (instructionCase_) {
+        case 1:
+          if (!getCopy()
+              .equals(other.getCopy())) return false;
+          break;
+        case 2:
+          if (!getLiteral()
+              .equals(other.getLiteral())) return false;
+          break;
+        case 0:
+        default:
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      switch (instructionCase_) {
+        case 1:
+          hash = (37 * hash) + COPY_FIELD_NUMBER;
+          hash = (53 * hash) + getCopy().hashCode();
+          break;
+        case 2:
+          hash = (37 * hash) + LITERAL_FIELD_NUMBER;
+          hash = (53 * hash) + getLiteral().hashCode();
+          break;
+        case 0:
+        default:
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static File.DeltaInstruction parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static File.DeltaInstruction parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static File.DeltaInstruction parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static File.DeltaInstruction parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static File.DeltaInstruction parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static File.DeltaInstruction parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static File.DeltaInstruction parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static File.DeltaInstruction parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static File.DeltaInstruction parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static File.DeltaInstruction parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static File.DeltaInstruction parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static File.DeltaInstruction parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(File.DeltaInstruction prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code DeltaInstruction}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:DeltaInstruction)
+        File.DeltaInstructionOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return File.internal_static_DeltaInstruction_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return File.internal_static_DeltaInstruction_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                File.DeltaInstruction.class, File.DeltaInstruction.Builder.class);
+      }
+
+      // Construct using File.DeltaInstruction.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        if (copyBuilder_ != null) {
+          copyBuilder_.clear();
+        }
+        instructionCase_ = 0;
+        instruction_ = null;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return File.internal_static_DeltaInstruction_descriptor;
+      }
+
+      @java.lang.Override
+      public File.DeltaInstruction getDefaultInstanceForType() {
+        return File.DeltaInstruction.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public File.DeltaInstruction build() {
+        File.DeltaInstruction result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public File.DeltaInstruction buildPartial() {
+        File.DeltaInstruction result = new File.DeltaInstruction(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        buildPartialOneofs(result);
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(File.DeltaInstruction result) {
+        int from_bitField0_ = bitField0_;
+      }
+
+      private void buildPartialOneofs(File.DeltaInstruction result) {
+        result.instructionCase_ = instructionCase_;
+        result.instruction_ = this.instruction_;
+        if (instructionCase_ == 1 &&
+            copyBuilder_ != null) {
+          result.instruction_ = copyBuilder_.build();
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof File.DeltaInstruction) {
+          return mergeFrom((File.DeltaInstruction)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(File.DeltaInstruction other) {
+        if (other == File.DeltaInstruction.getDefaultInstance()) return this;
+        switch (other.getInstructionCase()) {
+          case COPY: {
+            mergeCopy(other.getCopy());
+            break;
+          }
+          case LITERAL: {
+            setLiteral(other.getLiteral());
+            break;
+          }
+          case INSTRUCTION_NOT_SET: {
+            break;
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                input.readMessage(
+                    getCopyFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                instructionCase_ = 1;
+                break;
+              } // case 10
+              case 18: {
+                instruction_ = input.readBytes();
+                instructionCase_ = 2;
+                break;
+              } // case 18
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int instructionCase_ = 0;
+      private java.lang.Object instruction_;
+      public InstructionCase
+          getInstructionCase() {
+        return InstructionCase.forNumber(
+            instructionCase_);
+      }
+
+      public Builder clearInstruction() {
+        instructionCase_ = 0;
+        instruction_ = null;
+        onChanged();
+        return this;
+      }
+
+      private int bitField0_;
+
+      private com.google.protobuf.SingleFieldBuilder<
+          File.BlockRange, File.BlockRange.Builder, File.BlockRangeOrBuilder> copyBuilder_;
+      /**
+       * <code>.BlockRange copy = 1;</code>
+       * @return Whether the copy field is set.
+       */
+      @java.lang.Override
+      public boolean hasCopy() {
+        return instructionCase_ == 1;
+      }
+      /**
+       * <code>.BlockRange copy = 1;</code>
+       * @return The copy.
+       */
+      @java.lang.Override
+      public File.BlockRange getCopy() {
+        if (copyBuilder_ == null) {
+          if (instructionCase_ == 1) {
+            return (File.BlockRange) instruction_;
+          }
+          return File.BlockRange.getDefaultInstance();
+        } else {
+          if (instructionCase_ == 1) {
+            return copyBuilder_.getMessage();
+          }
+          return File.BlockRange.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.BlockRange copy = 1;</code>
+       */
+      public Builder setCopy(File.BlockRange value) {
+        if (copyBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          instruction_ = value;
+          onChanged();
+        } else {
+          copyBuilder_.setMessage(value);
+        }
+        instructionCase_ = 1;
+        return this;
+      }
+      /**
+       * <code>.BlockRange copy = 1;</code>
+       */
+      public Builder setCopy(
+          File.BlockRange.Builder builderForValue) {
+        if (copyBuilder_ == null) {
+          instruction_ = builderForValue.build();
+          onChanged();
+        } else {
+          copyBuilder_.setMessage(builderForValue.build());
+        }
+        instructionCase_ = 1;
+        return this;
+      }
+      /**
+       * <code>.BlockRange copy = 1;</code>
+       */
+      public Builder mergeCopy(File.BlockRange value) {
+        if (copyBuilder_ == null) {
+          if (instructionCase_ == 1 &&
+              instruction_ != File.BlockRange.getDefaultInstance()) {
+            instruction_ = File.BlockRange.newBuilder((File.BlockRange) instruction_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            instruction_ = value;
+          }
+          onChanged();
+        } else {
+          if (instructionCase_ == 1) {
+            copyBuilder_.mergeFrom(value);
+          } else {
+            copyBuilder_.setMessage(value);
+          }
+        }
+        instructionCase_ = 1;
+        return this;
+      }
+      /**
+       * <code>.BlockRange copy = 1;</code>
+       */
+      public Builder clearCopy() {
+        if (copyBuilder_ == null) {
+          if (instructionCase_ == 1) {
+            instructionCase_ = 0;
+            instruction_ = null;
+            onChanged();
+          }
+        } else {
+          if (instructionCase_ == 1) {
+            instructionCase_ = 0;
+            instruction_ = null;
+          }
+          copyBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>.BlockRange copy = 1;</code>
+       */
+      public File.BlockRange.Builder getCopyBuilder() {
+        return getCopyFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.BlockRange copy = 1;</code>
+       */
+      @java.lang.Override
+      public File.BlockRangeOrBuilder getCopyOrBuilder() {
+        if ((instructionCase_ == 1) && (copyBuilder_ != null)) {
+          return copyBuilder_.getMessageOrBuilder();
+        } else {
+          if (instructionCase_ == 1) {
+            return (File.BlockRange) instruction_;
+          }
+          return File.BlockRange.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.BlockRange copy = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          File.BlockRange, File.BlockRange.Builder, File.BlockRangeOrBuilder> 
+          getCopyFieldBuilder() {
+        if (copyBuilder_ == null) {
+          if (!(instructionCase_ == 1)) {
+            instruction_ = File.BlockRange.getDefaultInstance();
+          }
+          copyBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              File.BlockRange, File.BlockRange.Builder, File.BlockRangeOrBuilder>(
+                  (File.BlockRange) instruction_,
+                  getParentForChildren(),
+                  isClean());
+          instruction_ = null;
+        }
+        instructionCase_ = 1;
+        onChanged();
+        return copyBuilder_;
+      }
+
+      /**
+       * <code>bytes literal = 2;</code>
+       * @return Whether the literal field is set.
+       */
+      public boolean hasLiteral() {
+        return instructionCase_ == 2;
+      }
+      /**
+       * <code>bytes literal = 2;</code>
+       * @return The literal.
+       */
+      public com.google.protobuf.ByteString getLiteral() {
+        if (instructionCase_ == 2) {
+          return (com.google.protobuf.ByteString) instruction_;
+        }
+        return com.google.protobuf.ByteString.EMPTY;
+      }
+      /**
+       * <code>bytes literal = 2;</code>
+       * @param value The literal to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLiteral(com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        instructionCase_ = 2;
+        instruction_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bytes literal = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLiteral() {
+        if (instructionCase_ == 2) {
+          instructionCase_ = 0;
+          instruction_ = null;
+          onChanged();
+        }
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:DeltaInstruction)
+    }
+
+    // @@protoc_insertion_point(class_scope:DeltaInstruction)
+    private static final File.DeltaInstruction DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new File.DeltaInstruction();
+    }
+
+    public static File.DeltaInstruction getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<DeltaInstruction>
+        PARSER = new com.google.protobuf.AbstractParser<DeltaInstruction>() {
+      @java.lang.Override
+      public DeltaInstruction parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<DeltaInstruction> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<DeltaInstruction> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public File.DeltaInstruction getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface DeltaResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:DeltaResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string fileName = 1;</code>
+     * @return The fileName.
+     */
+    java.lang.String getFileName();
+    /**
+     * <code>string fileName = 1;</code>
+     * @return The bytes for fileName.
+     */
+    com.google.protobuf.ByteString
+        getFileNameBytes();
+
+    /**
+     * <code>bool found = 2;</code>
+     * @return The found.
+     */
+    boolean getFound();
+
+    /**
+     * <code>repeated .DeltaInstruction instructions = 3;</code>
+     */
+    java.util.List<File.DeltaInstruction> 
+        getInstructionsList();
+    /**
+     * <code>repeated .DeltaInstruction instructions = 3;</code>
+     */
+    File.DeltaInstruction getInstructions(int index);
+    /**
+     * <code>repeated .DeltaInstruction instructions = 3;</code>
+     */
+    int getInstructionsCount();
+    /**
+     * <code>repeated .DeltaInstruction instructions = 3;</code>
+     */
+    java.util.List<? extends File.DeltaInstructionOrBuilder> 
+        getInstructionsOrBuilderList();
+    /**
+     * <code>repeated .DeltaInstruction instructions = 3;</code>
+     */
+    File.DeltaInstructionOrBuilder getInstructionsOrBuilder(
+        int index);
+
+    /**
+     * <code>bool isLast = 4;</code>
+     * @return The isLast.
+     */
+    boolean getIsLast();
+  }
+  /**
+   * Protobuf type {@code DeltaResponse}
+   */
+  public static final class DeltaResponse extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:DeltaResponse)
+      DeltaResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 29,
+        /* patch= */ 2,
+        /* suffix= */ "",
+        DeltaResponse.class.getName());
+    }
+    // Use DeltaResponse.newBuilder() to construct.
+    private DeltaResponse(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private DeltaResponse() {
+      fileName_ = "";
+      instructions_ = java.util.Collections.emptyList();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return File.internal_static_DeltaResponse_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return File.internal_static_DeltaResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              File.DeltaResponse.class, File.DeltaResponse.Builder.class);
+    }
+
+    public static final int FILENAME_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object fileName_ = "";
+    /**
+     * <code>string fileName = 1;</code>
+     * @return The fileName.
+     */
+    @java.lang.Override
+    public java.lang.String getFileName() {
+      java.lang.Object ref = fileName_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        fileName_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string fileName = 1;</code>
+     * @return The bytes for fileName.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getFileNameBytes() {
+      java.lang.Object ref = fileName_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        fileName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int FOUND_FIELD_NUMBER = 2;
+    private boolean found_ = false;
+    /**
+     * <code>bool found = 2;</code>
+     * @return The found.
+     */
+    @java.lang.Override
+    public boolean getFound() {
+      return found_;
+    }
+
+    public static final int INSTRUCTIONS_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private java.util.List<File.DeltaInstruction> instructions_;
+    /**
+     * <code>repeated .DeltaInstruction instructions = 3;</code>
+     */
+    @java.lang.Override
+    public java.util.List<File.DeltaInstruction> getInstructionsList() {
+      return instructions_;
+    }
+    /**
+     * <code>repeated .DeltaInstruction instructions = 3;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends File.DeltaInstructionOrBuilder> 
+        getInstructionsOrBuilderList() {
+      return instructions_;
+    }
+    /**
+     * <code>repeated .DeltaInstruction instructions = 3;</code>
+     */
+    @java.lang.Override
+    public int getInstructionsCount() {
+      return instructions_.size();
+    }
+    /**
+     * <code>repeated .DeltaInstruction instructions = 3;</code>
+     */
+    @java.lang.Override
+    public File.DeltaInstruction getInstructions(int index) {
+      return instructions_.get(index);
+    }
+    /**
+     * <code>repeated .DeltaInstruction instructions = 3;</code>
+     */
+    @java.lang.Override
+    public File.DeltaInstructionOrBuilder getInstructionsOrBuilder(
+        int index) {
+      return instructions_.get(index);
+    }
+
+    public static final int ISLAST_FIELD_NUMBER = 4;
+    private boolean isLast_ = false;
+    /**
+     * <code>bool isLast = 4;</code>
+     * @return The isLast.
+     */
+    @java.lang.Override
+    public boolean getIsLast() {
+      return isLast_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(fileName_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 1, fileName_);
+      }
+      if (found_ != false) {
+        output.writeBool(2, found_);
+      }
+      for (int i = 0; i < instructions_.size(); i++) {
+        output.writeMessage(3, instructions_.get(i));
+      }
+      if (isLast_ != false) {
+        output.writeBool(4, isLast_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(fileName_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(1, fileName_);
+      }
+      if (found_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(2, found_);
+      }
+      for (int i = 0; i < instructions_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, instructions_.get(i));
+      }
+      if (isLast_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(4, isLast_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof File.DeltaResponse)) {
+        return super.equals(obj);
+      }
+      File.DeltaResponse other = (File.DeltaResponse) obj;
+
+      if (!getFileName()
+          .equals(other.getFileName())) return false;
+      if (getFound()
+          != other.getFound()) return false;
+      if (!getInstructionsList()
+          .equals(other.getInstructionsList())) return false;
+      if (getIsLast()
+          != other.getIsLast()) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + FILENAME_FIELD_NUMBER;
+      hash = (53 * hash) + getFileName().hashCode();
+      hash = (37 * hash) + FOUND_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getFound());
+      if (getInstructionsCount() > 0) {
+        hash = (37 * hash) + INSTRUCTIONS_FIELD_NUMBER;
+        hash = (53 * hash) + getInstructionsList().hashCode();
+      }
+      hash = (37 * hash) + ISLAST_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getIsLast());
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static File.DeltaResponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static File.DeltaResponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static File.DeltaResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static File.DeltaResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static File.DeltaResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static File.DeltaResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static File.DeltaResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static File.DeltaResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static File.DeltaResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static File.DeltaResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static File.DeltaResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static File.DeltaResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(File.DeltaResponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code DeltaResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:DeltaResponse)
+        File.DeltaResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return File.internal_static_DeltaResponse_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return File.internal_static_DeltaResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                File.DeltaResponse.class, File.DeltaResponse.Builder.class);
+      }
+
+      // Construct using File.DeltaResponse.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        fileName_ = "";
+        found_ = false;
+        if (instructionsBuilder_ == null) {
+          instructions_ = java.util.Collections.emptyList();
+        } else {
+          instructions_ = null;
+          instructionsBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000004);
+        isLast_ = false;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return File.internal_static_DeltaResponse_descriptor;
+      }
+
+      @java.lang.Override
+      public File.DeltaResponse getDefaultInstanceForType() {
+        return File.DeltaResponse.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public File.DeltaResponse build() {
+        File.DeltaResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public File.DeltaResponse buildPartial() {
+        File.DeltaResponse result = new File.DeltaResponse(this);
+        buildPartialRepeatedFields(result);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartialRepeatedFields(File.DeltaResponse result) {
+        if (instructionsBuilder_ == null) {
+          if (((bitField0_ & 0x00000004) != 0)) {
+            instructions_ = java.util.Collections.unmodifiableList(instructions_);
+            bitField0_ = (bitField0_ & ~0x00000004);
+          }
+          result.instructions_ = instructions_;
+        } else {
+          result.instructions_ = instructionsBuilder_.build();
+        }
+      }
+
+      private void buildPartial0(File.DeltaResponse result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.fileName_ = fileName_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.found_ = found_;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.isLast_ = isLast_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof File.DeltaResponse) {
+          return mergeFrom((File.DeltaResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(File.DeltaResponse other) {
+        if (other == File.DeltaResponse.getDefaultInstance()) return this;
+        if (!other.getFileName().isEmpty()) {
+          fileName_ = other.fileName_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (other.getFound() != false) {
+          setFound(other.getFound());
+        }
+        if (instructionsBuilder_ == null) {
+          if (!other.instructions_.isEmpty()) {
+            if (instructions_.isEmpty()) {
+              instructions_ = other.instructions_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+            } else {
+              ensureInstructionsIsMutable();
+              instructions_.addAll(other.instructions_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.instructions_.isEmpty()) {
+            if (instructionsBuilder_.isEmpty()) {
+              instructionsBuilder_.dispose();
+              instructionsBuilder_ = null;
+              instructions_ = other.instructions_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+              instructionsBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getInstructionsFieldBuilder() : null;
+            } else {
+              instructionsBuilder_.addAllMessages(other.instructions_);
+            }
+          }
+        }
+        if (other.getIsLast() != false) {
+          setIsLast(other.getIsLast());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                fileName_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 16: {
+                found_ = input.readBool();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 16
+              case 26: {
+                File.DeltaInstruction m =
+                    input.readMessage(
+                        File.DeltaInstruction.parser(),
+                        extensionRegistry);
+                if (instructionsBuilder_ == null) {
+                  ensureInstructionsIsMutable();
+                  instructions_.add(m);
+                } else {
+                  instructionsBuilder_.addMessage(m);
+                }
+                break;
+              } // case 26
+              case 32: {
+                isLast_ = input.readBool();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 32
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object fileName_ = "";
+      /**
+       * <code>string fileName = 1;</code>
+       * @return The fileName.
+       */
+      public java.lang.String getFileName() {
+        java.lang.Object ref = fileName_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          fileName_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string fileName = 1;</code>
+       * @return The bytes for fileName.
+       */
+      public com.google.protobuf.ByteString
+          getFileNameBytes() {
+        java.lang.Object ref = fileName_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          fileName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string fileName = 1;</code>
+       * @param value The fileName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setFileName(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        fileName_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string fileName = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearFileName() {
+        fileName_ = getDefaultInstance().getFileName();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string fileName = 1;</code>
+       * @param value The bytes for fileName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setFileNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        fileName_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private boolean found_ ;
+      /**
+       * <code>bool found = 2;</code>
+       * @return The found.
+       */
+      @java.lang.Override
+      public boolean getFound() {
+        return found_;
+      }
+      /**
+       * <code>bool found = 2;</code>
+       * @param value The found to set.
+       * @return This builder for chaining.
+       */
+      public Builder setFound(boolean value) {
+
+        found_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bool found = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearFound() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        found_ = false;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<File.DeltaInstruction> instructions_ =
+        java.util.Collections.emptyList();
+      private void ensureInstructionsIsMutable() {
+        if (!((bitField0_ & 0x00000004) != 0)) {
+          instructions_ = new java.util.ArrayList<File.DeltaInstruction>(instructions_);
+          bitField0_ |= 0x00000004;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          File.DeltaInstruction, File.DeltaInstruction.Builder, File.DeltaInstructionOrBuilder> instructionsBuilder_;
+
+      /**
+       * <code>repeated .DeltaInstruction instructions = 3;</code>
+       */
+      public java.util.List<File.DeltaInstruction> getInstructionsList() {
+        if (instructionsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(instructions_);
+        } else {
+          return instructionsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .DeltaInstruction instructions = 3;</code>
+       */
+      public int getInstructionsCount() {
+        if (instructionsBuilder_ == null) {
+          return instructions_.size();
+        } else {
+          return instructionsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .DeltaInstruction instructions = 3;</code>
+       */
+      public File.DeltaInstruction getInstructions(int index) {
+        if (instructionsBuilder_ == null) {
+          return instructions_.get(index);
+        } else {
+          return instructionsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .DeltaInstruction instructions = 3;</code>
+       */
+      public Builder setInstructions(
+          int index, File.DeltaInstruction value) {
+        if (instructionsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureInstructionsIsMutable();
+          instructions_.set(index, value);
+          onChanged();
+        } else {
+          instructionsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .DeltaInstruction instructions = 3;</code>
+       */
+      public Builder setInstructions(
+          int index, File.DeltaInstruction.Builder builderForValue) {
+        if (instructionsBuilder_ == null) {
+          ensureInstructionsIsMutable();
+          instructions_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          instructionsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .DeltaInstruction instructions = 3;</code>
+       */
+      public Builder addInstructions(File.DeltaInstruction value) {
+        if (instructionsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureInstructionsIsMutable();
+          instructions_.add(value);
+          onChanged();
+        } else {
+          instructionsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .DeltaInstruction instructions = 3;</code>
+       */
+      public Builder addInstructions(
+          int index, File.DeltaInstruction value) {
+        if (instructionsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureInstructionsIsMutable();
+          instructions_.add(index, value);
+          onChanged();
+        } else {
+          instructionsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .DeltaInstruction instructions = 3;</code>
+       */
+      public Builder addInstructions(
+          File.DeltaInstruction.Builder builderForValue) {
+        if (instructionsBuilder_ == null) {
+          ensureInstructionsIsMutable();
+          instructions_.add(builderForValue.build());
+          onChanged();
+        } else {
+          instructionsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .DeltaInstruction instructions = 3;</code>
+       */
+      public Builder addInstructions(
+          int index, File.DeltaInstruction.Builder builderForValue) {
+        if (instructionsBuilder_ == null) {
+          ensureInstructionsIsMutable();
+          instructions_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          instructionsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .DeltaInstruction instructions = 3;</code>
+       */
+      public Builder addAllInstructions(
+          java.lang.Iterable<? extends File.DeltaInstruction> values) {
+        if (instructionsBuilder_ == null) {
+          ensureInstructionsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, instructions_);
+          onChanged();
+        } else {
+          instructionsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .DeltaInstruction instructions = 3;</code>
+       */
+      public Builder clearInstructions() {
+        if (instructionsBuilder_ == null) {
+          instructions_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000004);
+          onChanged();
+        } else {
+          instructionsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .DeltaInstruction instructions = 3;</code>
+       */
+      public Builder removeInstructions(int index) {
+        if (instructionsBuilder_ == null) {
+          ensureInstructionsIsMutable();
+          instructions_.remove(index);
+          onChanged();
+        } else {
+          instructionsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .DeltaInstruction instructions = 3;</code>
+       */
+      public File.DeltaInstruction.Builder getInstructionsBuilder(
+          int index) {
+        return getInstructionsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .DeltaInstruction instructions = 3;</code>
+       */
+      public File.DeltaInstructionOrBuilder getInstructionsOrBuilder(
+          int index) {
+        if (instructionsBuilder_ == null) {
+          return instructions_.get(index);  } else {
+          return instructionsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .DeltaInstruction instructions = 3;</code>
+       */
+      public java.util.List<? extends File.DeltaInstructionOrBuilder> 
+           getInstructionsOrBuilderList() {
+        if (instructionsBuilder_ != null) {
+          return instructionsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(instructions_);
+        }
+      }
+      /**
+       * <code>repeated .DeltaInstruction instructions = 3;</code>
+       */
+      public File.DeltaInstruction.Builder addInstructionsBuilder() {
+        return getInstructionsFieldBuilder().addBuilder(
+            File.DeltaInstruction.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .DeltaInstruction instructions = 3;</code>
+       */
+      public File.DeltaInstruction.Builder addInstructionsBuilder(
+          int index) {
+        return getInstructionsFieldBuilder().addBuilder(
+            index, File.DeltaInstruction.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .DeltaInstruction instructions = 3;</code>
+       */
+      public java.util.List<File.DeltaInstruction.Builder> 
+           getInstructionsBuilderList() {
+        return getInstructionsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          File.DeltaInstruction, File.DeltaInstruction.Builder, File.DeltaInstructionOrBuilder> 
+          getInstructionsFieldBuilder() {
+        if (instructionsBuilder_ == null) {
+          instructionsBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              File.DeltaInstruction, File.DeltaInstruction.Builder, File.DeltaInstructionOrBuilder>(
+                  instructions_,
+                  ((bitField0_ & 0x00000004) != 0),
+                  getParentForChildren(),
+                  isClean());
+          instructions_ = null;
+        }
+        return instructionsBuilder_;
+      }
+
+      private boolean isLast_ ;
+      /**
+       * <code>bool isLast = 4;</code>
+       * @return The isLast.
+       */
+      @java.lang.Override
+      public boolean getIsLast() {
+        return isLast_;
+      }
+      /**
+       * <code>bool isLast = 4;</code>
+       * @param value The isLast to set.
+       * @return This builder for chaining.
+       */
+      public Builder setIsLast(boolean value) {
+
+        isLast_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bool isLast = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearIsLast() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        isLast_ = false;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:DeltaResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:DeltaResponse)
+    private static final File.DeltaResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new File.DeltaResponse();
+    }
+
+    public static File.DeltaResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<DeltaResponse>
+        PARSER = new com.google.protobuf.AbstractParser<DeltaResponse>() {
+      @java.lang.Override
+      public DeltaResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<DeltaResponse> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<DeltaResponse> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public File.DeltaResponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface ChunkEntryOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:ChunkEntry)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>bytes hash = 1;</code>
+     * @return The hash.
+     */
+    com.google.protobuf.ByteString getHash();
+
+    /**
+     * <code>int64 offset = 2;</code>
+     * @return The offset.
+     */
+    long getOffset();
+
+    /**
+     * <code>int32 length = 3;</code>
+     * @return The length.
+     */
+    int getLength();
+  }
+  /**
+   * Protobuf type {@code ChunkEntry}
+   */
+  public static final class ChunkEntry extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:ChunkEntry)
+      ChunkEntryOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 29,
+        /* patch= */ 2,
+        /* suffix= */ "",
+        ChunkEntry.class.getName());
+    }
+    // Use ChunkEntry.newBuilder() to construct.
+    private ChunkEntry(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private ChunkEntry() {
+      hash_ = com.google.protobuf.ByteString.EMPTY;
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return File.internal_static_ChunkEntry_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return File.internal_static_ChunkEntry_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              File.ChunkEntry.class, File.ChunkEntry.Builder.class);
+    }
+
+    public static final int HASH_FIELD_NUMBER = 1;
+    private com.google.protobuf.ByteString hash_ = com.google.protobuf.ByteString.EMPTY;
+    /**
+     * <code>bytes hash = 1;</code>
+     * @return The hash.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString getHash() {
+      return hash_;
+    }
+
+    public static final int OFFSET_FIELD_NUMBER = 2;
+    private long offset_ = 0L;
+    /**
+     * <code>int64 offset = 2;</code>
+     * @return The offset.
+     */
+    @java.lang.Override
+    public long getOffset() {
+      return offset_;
+    }
+
+    public static final int LENGTH_FIELD_NUMBER = 3;
+    private int length_ = 0;
+    /**
+     * <code>int32 length = 3;</code>
+     * @return The length.
+     */
+    @java.lang.Override
+    public int getLength() {
+      return length_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!hash_.isEmpty()) {
+        output.writeBytes(1, hash_);
+      }
+      if (offset_ != 0L) {
+        output.writeInt64(2, offset_);
+      }
+      if (length_ != 0) {
+        output.writeInt32(3, length_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!hash_.isEmpty()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(1, hash_);
+      }
+      if (offset_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(2, offset_);
+      }
+      if (length_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(3, length_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof File.ChunkEntry)) {
+        return super.equals(obj);
+      }
+      File.ChunkEntry other = (File.ChunkEntry) obj;
+
+      if (!getHash()
+          .equals(other.getHash())) return false;
+      if (getOffset()
+          != other.getOffset()) return false;
+      if (getLength()
+          != other.getLength()) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + HASH_FIELD_NUMBER;
+      hash = (53 * hash) + getHash().hashCode();
+      hash = (37 * hash) + OFFSET_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getOffset());
+      hash = (37 * hash) + LENGTH_FIELD_NUMBER;
+      hash = (53 * hash) + getLength();
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static File.ChunkEntry parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static File.ChunkEntry parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static File.ChunkEntry parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static File.ChunkEntry parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static File.ChunkEntry parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static File.ChunkEntry parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static File.ChunkEntry parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static File.ChunkEntry parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static File.ChunkEntry parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static File.ChunkEntry parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static File.ChunkEntry parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static File.ChunkEntry parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(File.ChunkEntry prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code ChunkEntry}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:ChunkEntry)
+        File.ChunkEntryOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return File.internal_static_ChunkEntry_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return File.internal_static_ChunkEntry_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                File.ChunkEntry.class, File.ChunkEntry.Builder.class);
+      }
+
+      // Construct using File.ChunkEntry.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        hash_ = com.google.protobuf.ByteString.EMPTY;
+        offset_ = 0L;
+        length_ = 0;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return File.internal_static_ChunkEntry_descriptor;
+      }
+
+      @java.lang.Override
+      public File.ChunkEntry getDefaultInstanceForType() {
+        return File.ChunkEntry.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public File.ChunkEntry build() {
+        File.ChunkEntry result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public File.ChunkEntry buildPartial() {
+        File.ChunkEntry result = new File.ChunkEntry(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(File.ChunkEntry result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.hash_ = hash_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.offset_ = offset_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.length_ = length_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof File.ChunkEntry) {
+          return mergeFrom((File.ChunkEntry)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(File.ChunkEntry other) {
+        if (other == File.ChunkEntry.getDefaultInstance()) return this;
+        if (other.getHash() != com.google.protobuf.ByteString.EMPTY) {
+          setHash(other.getHash());
+        }
+        if (other.getOffset() != 0L) {
+          setOffset(other.getOffset());
+        }
+        if (other.getLength() != 0) {
+          setLength(other.getLength());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                hash_ = input.readBytes();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 16: {
+                offset_ = input.readInt64();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 16
+              case 24: {
+                length_ = input.readInt32();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 24
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private com.google.protobuf.ByteString hash_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>bytes hash = 1;</code>
+       * @return The hash.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString getHash() {
+        return hash_;
+      }
+      /**
+       * <code>bytes hash = 1;</code>
+       * @param value The hash to set.
+       * @return This builder for chaining.
+       */
+      public Builder setHash(com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        hash_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bytes hash = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearHash() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        hash_ = getDefaultInstance().getHash();
+        onChanged();
+        return this;
+      }
+
+      private long offset_ ;
+      /**
+       * <code>int64 offset = 2;</code>
+       * @return The offset.
+       */
+      @java.lang.Override
+      public long getOffset() {
+        return offset_;
+      }
+      /**
+       * <code>int64 offset = 2;</code>
+       * @param value The offset to set.
+       * @return This builder for chaining.
+       */
+      public Builder setOffset(long value) {
+
+        offset_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 offset = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearOffset() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        offset_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private int length_ ;
+      /**
+       * <code>int32 length = 3;</code>
+       * @return The length.
+       */
+      @java.lang.Override
+      public int getLength() {
+        return length_;
+      }
+      /**
+       * <code>int32 length = 3;</code>
+       * @param value The length to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLength(int value) {
+
+        length_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 length = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLength() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        length_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:ChunkEntry)
+    }
+
+    // @@protoc_insertion_point(class_scope:ChunkEntry)
+    private static final File.ChunkEntry DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new File.ChunkEntry();
+    }
+
+    public static File.ChunkEntry getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<ChunkEntry>
+        PARSER = new com.google.protobuf.AbstractParser<ChunkEntry>() {
+      @java.lang.Override
+      public ChunkEntry parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<ChunkEntry> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<ChunkEntry> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public File.ChunkEntry getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface ChunkListRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:ChunkListRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string fileName = 1;</code>
+     * @return The fileName.
+     */
+    java.lang.String getFileName();
+    /**
+     * <code>string fileName = 1;</code>
+     * @return The bytes for fileName.
+     */
+    com.google.protobuf.ByteString
+        getFileNameBytes();
+  }
+  /**
+   * Protobuf type {@code ChunkListRequest}
+   */
+  public static final class ChunkListRequest extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:ChunkListRequest)
+      ChunkListRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 29,
+        /* patch= */ 2,
+        /* suffix= */ "",
+        ChunkListRequest.class.getName());
+    }
+    // Use ChunkListRequest.newBuilder() to construct.
+    private ChunkListRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private ChunkListRequest() {
+      fileName_ = "";
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return File.internal_static_ChunkListRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return File.internal_static_ChunkListRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              File.ChunkListRequest.class, File.ChunkListRequest.Builder.class);
+    }
+
+    public static final int FILENAME_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object fileName_ = "";
+    /**
+     * <code>string fileName = 1;</code>
+     * @return The fileName.
+     */
+    @java.lang.Override
+    public java.lang.String getFileName() {
+      java.lang.Object ref = fileName_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        fileName_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string fileName = 1;</code>
+     * @return The bytes for fileName.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getFileNameBytes() {
+      java.lang.Object ref = fileName_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        fileName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(fileName_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 1, fileName_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(fileName_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(1, fileName_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof File.ChunkListRequest)) {
+        return super.equals(obj);
+      }
+      File.ChunkListRequest other = (File.ChunkListRequest) obj;
+
+      if (!getFileName()
+          .equals(other.getFileName())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + FILENAME_FIELD_NUMBER;
+      hash = (53 * hash) + getFileName().hashCode();
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static File.ChunkListRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static File.ChunkListRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static File.ChunkListRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static File.ChunkListRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static File.ChunkListRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static File.ChunkListRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static File.ChunkListRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static File.ChunkListRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static File.ChunkListRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static File.ChunkListRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static File.ChunkListRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static File.ChunkListRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(File.ChunkListRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code ChunkListRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:ChunkListRequest)
+        File.ChunkListRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return File.internal_static_ChunkListRequest_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return File.internal_static_ChunkListRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                File.ChunkListRequest.class, File.ChunkListRequest.Builder.class);
+      }
+
+      // Construct using File.ChunkListRequest.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        fileName_ = "";
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return File.internal_static_ChunkListRequest_descriptor;
+      }
+
+      @java.lang.Override
+      public File.ChunkListRequest getDefaultInstanceForType() {
+        return File.ChunkListRequest.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public File.ChunkListRequest build() {
+        File.ChunkListRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public File.ChunkListRequest buildPartial() {
+        File.ChunkListRequest result = new File.ChunkListRequest(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(File.ChunkListRequest result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.fileName_ = fileName_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof File.ChunkListRequest) {
+          return mergeFrom((File.ChunkListRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(File.ChunkListRequest other) {
+        if (other == File.ChunkListRequest.getDefaultInstance()) return this;
+        if (!other.getFileName().isEmpty()) {
+          fileName_ = other.fileName_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                fileName_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object fileName_ = "";
+      /**
+       * <code>string fileName = 1;</code>
+       * @return The fileName.
+       */
+      public java.lang.String getFileName() {
+        java.lang.Object ref = fileName_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          fileName_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string fileName = 1;</code>
+       * @return The bytes for fileName.
+       */
+      public com.google.protobuf.ByteString
+          getFileNameBytes() {
+        java.lang.Object ref = fileName_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          fileName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string fileName = 1;</code>
+       * @param value The fileName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setFileName(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        fileName_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string fileName = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearFileName() {
+        fileName_ = getDefaultInstance().getFileName();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string fileName = 1;</code>
+       * @param value The bytes for fileName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setFileNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        fileName_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:ChunkListRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:ChunkListRequest)
+    private static final File.ChunkListRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new File.ChunkListRequest();
+    }
+
+    public static File.ChunkListRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<ChunkListRequest>
+        PARSER = new com.google.protobuf.AbstractParser<ChunkListRequest>() {
+      @java.lang.Override
+      public ChunkListRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<ChunkListRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<ChunkListRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public File.ChunkListRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface ChunkListResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:ChunkListResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string fileName = 1;</code>
+     * @return The fileName.
+     */
+    java.lang.String getFileName();
+    /**
+     * <code>string fileName = 1;</code>
+     * @return The bytes for fileName.
+     */
+    com.google.protobuf.ByteString
+        getFileNameBytes();
+
+    /**
+     * <code>bool found = 2;</code>
+     * @return The found.
+     */
+    boolean getFound();
+
+    /**
+     * <code>repeated .ChunkEntry chunks = 3;</code>
+     */
+    java.util.List<File.ChunkEntry> 
+        getChunksList();
+    /**
+     * <code>repeated .ChunkEntry chunks = 3;</code>
+     */
+    File.ChunkEntry getChunks(int index);
+    /**
+     * <code>repeated .ChunkEntry chunks = 3;</code>
+     */
+    int getChunksCount();
+    /**
+     * <code>repeated .ChunkEntry chunks = 3;</code>
+     */
+    java.util.List<? extends File.ChunkEntryOrBuilder> 
+        getChunksOrBuilderList();
+    /**
+     * <code>repeated .ChunkEntry chunks = 3;</code>
+     */
+    File.ChunkEntryOrBuilder getChunksOrBuilder(
+        int index);
+
+    /**
+     * <code>bool isLast = 4;</code>
+     * @return The isLast.
+     */
+    boolean getIsLast();
+  }
+  /**
+   * Protobuf type {@code ChunkListResponse}
+   */
+  public static final class ChunkListResponse extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:ChunkListResponse)
+      ChunkListResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 29,
+        /* patch= */ 2,
+        /* suffix= */ "",
+        ChunkListResponse.class.getName());
+    }
+    // Use ChunkListResponse.newBuilder() to construct.
+    private ChunkListResponse(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private ChunkListResponse() {
+      fileName_ = "";
+      chunks_ = java.util.Collections.emptyList();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return File.internal_static_ChunkListResponse_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return File.internal_static_ChunkListResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              File.ChunkListResponse.class, File.ChunkListResponse.Builder.class);
+    }
+
+    public static final int FILENAME_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object fileName_ = "";
+    /**
+     * <code>string fileName = 1;</code>
+     * @return The fileName.
+     */
+    @java.lang.Override
+    public java.lang.String getFileName() {
+      java.lang.Object ref = fileName_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        fileName_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string fileName = 1;</code>
+     * @return The bytes for fileName.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getFileNameBytes() {
+      java.lang.Object ref = fileName_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        fileName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int FOUND_FIELD_NUMBER = 2;
+    private boolean found_ = false;
+    /**
+     * <code>bool found = 2;</code>
+     * @return The found.
+     */
+    @java.lang.Override
+    public boolean getFound() {
+      return found_;
+    }
+
+    public static final int CHUNKS_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private java.util.List<File.ChunkEntry> chunks_;
+    /**
+     * <code>repeated .ChunkEntry chunks = 3;</code>
+     */
+    @java.lang.Override
+    public java.util.List<File.ChunkEntry> getChunksList() {
+      return chunks_;
+    }
+    /**
+     * <code>repeated .ChunkEntry chunks = 3;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends File.ChunkEntryOrBuilder> 
+        getChunksOrBuilderList() {
+      return chunks_;
+    }
+    /**
+     * <code>repeated .ChunkEntry chunks = 3;</code>
+     */
+    @java.lang.Override
+    public int getChunksCount() {
+      return chunks_.size();
+    }
+    /**
+     * <code>repeated .ChunkEntry chunks = 3;</code>
+     */
+    @java.lang.Override
+    public File.ChunkEntry getChunks(int index) {
+      return chunks_.get(index);
+    }
+    /**
+     * <code>repeated .ChunkEntry chunks = 3;</code>
+     */
+    @java.lang.Override
+    public File.ChunkEntryOrBuilder getChunksOrBuilder(
+        int index) {
+      return chunks_.get(index);
+    }
+
+    public static final int ISLAST_FIELD_NUMBER = 4;
+    private boolean isLast_ = false;
+    /**
+     * <code>bool isLast = 4;</code>
+     * @return The isLast.
+     */
+    @java.lang.Override
+    public boolean getIsLast() {
+      return isLast_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(fileName_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 1, fileName_);
+      }
+      if (found_ != false) {
+        output.writeBool(2, found_);
+      }
+      for (int i = 0; i < chunks_.size(); i++) {
+        output.writeMessage(3, chunks_.get(i));
+      }
+      if (isLast_ != false) {
+        output.writeBool(4, isLast_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(fileName_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(1, fileName_);
+      }
+      if (found_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(2, found_);
+      }
+      for (int i = 0; i < chunks_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, chunks_.get(i));
+      }
+      if (isLast_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(4, isLast_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof File.ChunkListResponse)) {
+        return super.equals(obj);
+      }
+      File.ChunkListResponse other = (File.ChunkListResponse) obj;
+
+      if (!getFileName()
+          .equals(other.getFileName())) return false;
+      if (getFound()
+          != other.getFound()) return false;
+      if (!getChunksList()
+          .equals(other.getChunksList())) return false;
+      if (getIsLast()
+          != other.getIsLast()) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + FILENAME_FIELD_NUMBER;
+      hash = (53 * hash) + getFileName().hashCode();
+      hash = (37 * hash) + FOUND_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getFound());
+      if (getChunksCount() > 0) {
+        hash = (37 * hash) + CHUNKS_FIELD_NUMBER;
+        hash = (53 * hash) + getChunksList().hashCode();
+      }
+      hash = (37 * hash) + ISLAST_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getIsLast());
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static File.ChunkListResponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static File.ChunkListResponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static File.ChunkListResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static File.ChunkListResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static File.ChunkListResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static File.ChunkListResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static File.ChunkListResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static File.ChunkListResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static File.ChunkListResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static File.ChunkListResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static File.ChunkListResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static File.ChunkListResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(File.ChunkListResponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code ChunkListResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:ChunkListResponse)
+        File.ChunkListResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return File.internal_static_ChunkListResponse_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return File.internal_static_ChunkListResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                File.ChunkListResponse.class, File.ChunkListResponse.Builder.class);
+      }
+
+      // Construct using File.ChunkListResponse.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        fileName_ = "";
+        found_ = false;
+        if (chunksBuilder_ == null) {
+          chunks_ = java.util.Collections.emptyList();
+        } else {
+          chunks_ = null;
+          chunksBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000004);
+        isLast_ = false;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return File.internal_static_ChunkListResponse_descriptor;
+      }
+
+      @java.lang.Override
+      public File.ChunkListResponse getDefaultInstanceForType() {
+        return File.ChunkListResponse.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public File.ChunkListResponse build() {
+        File.ChunkListResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public File.ChunkListResponse buildPartial() {
+        File.ChunkListResponse result = new File.ChunkListResponse(this);
+        buildPartialRepeatedFields(result);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartialRepeatedFields(File.ChunkListResponse result) {
+        if (chunksBuilder_ == null) {
+          if (((bitField0_ & 0x00000004) != 0)) {
+            chunks_ = java.util.Collections.unmodifiableList(chunks_);
+            bitField0_ = (bitField0_ & ~0x00000004);
+          }
+          result.chunks_ = chunks_;
+        } else {
+          result.chunks_ = chunksBuilder_.build();
+        }
+      }
+
+      private void buildPartial0(File.ChunkListResponse result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.fileName_ = fileName_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.found_ = found_;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.isLast_ = isLast_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof File.ChunkListResponse) {
+          return mergeFrom((File.ChunkListResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(File.ChunkListResponse other) {
+        if (other == File.ChunkListResponse.getDefaultInstance()) return this;
+        if (!other.getFileName().isEmpty()) {
+          fileName_ = other.fileName_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (other.getFound() != false) {
+          setFound(other.getFound());
+        }
+        if (chunksBuilder_ == null) {
+          if (!other.chunks_.isEmpty()) {
+            if (chunks_.isEmpty()) {
+              chunks_ = other.chunks_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+            } else {
+              ensureChunksIsMutable();
+              chunks_.addAll(other.chunks_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.chunks_.isEmpty()) {
+            if (chunksBuilder_.isEmpty()) {
+              chunksBuilder_.dispose();
+              chunksBuilder_ = null;
+              chunks_ = other.chunks_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+              chunksBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getChunksFieldBuilder() : null;
+            } else {
+              chunksBuilder_.addAllMessages(other.chunks_);
+            }
+          }
+        }
+        if (other.getIsLast() != false) {
+          setIsLast(other.getIsLast());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                fileName_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 16: {
+                found_ = input.readBool();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 16
+              case 26: {
+                File.ChunkEntry m =
+                    input.readMessage(
+                        File.ChunkEntry.parser(),
+                        extensionRegistry);
+                if (chunksBuilder_ == null) {
+                  ensureChunksIsMutable();
+                  chunks_.add(m);
+                } else {
+                  chunksBuilder_.addMessage(m);
+                }
+                break;
+              } // case 26
+              case 32: {
+                isLast_ = input.readBool();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 32
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object fileName_ = "";
+      /**
+       * <code>string fileName = 1;</code>
+       * @return The fileName.
+       */
+      public java.lang.String getFileName() {
+        java.lang.Object ref = fileName_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          fileName_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string fileName = 1;</code>
+       * @return The bytes for fileName.
+       */
+      public com.google.protobuf.ByteString
+          getFileNameBytes() {
+        java.lang.Object ref = fileName_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          fileName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string fileName = 1;</code>
+       * @param value The fileName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setFileName(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        fileName_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string fileName = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearFileName() {
+        fileName_ = getDefaultInstance().getFileName();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string fileName = 1;</code>
+       * @param value The bytes for fileName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setFileNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        fileName_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private boolean found_ ;
+      /**
+       * <code>bool found = 2;</code>
+       * @return The found.
+       */
+      @java.lang.Override
+      public boolean getFound() {
+        return found_;
+      }
+      /**
+       * <code>bool found = 2;</code>
+       * @param value The found to set.
+       * @return This builder for chaining.
+       */
+      public Builder setFound(boolean value) {
+
+        found_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bool found = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearFound() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        found_ = false;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<File.ChunkEntry> chunks_ =
+        java.util.Collections.emptyList();
+      private void ensureChunksIsMutable() {
+        if (!((bitField0_ & 0x00000004) != 0)) {
+          chunks_ = new java.util.ArrayList<File.ChunkEntry>(chunks_);
+          bitField0_ |= 0x00000004;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          File.ChunkEntry, File.ChunkEntry.Builder, File.ChunkEntryOrBuilder> chunksBuilder_;
+
+      /**
+       * <code>repeated .ChunkEntry chunks = 3;</code>
+       */
+      public java.util.List<File.ChunkEntry> getChunksList() {
+        if (chunksBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(chunks_);
+        } else {
+          return chunksBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .ChunkEntry chunks = 3;</code>
+       */
+      public int getChunksCount() {
+        if (chunksBuilder_ == null) {
+          return chunks_.size();
+        } else {
+          return chunksBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .ChunkEntry chunks = 3;</code>
+       */
+      public File.ChunkEntry getChunks(int index) {
+        if (chunksBuilder_ == null) {
+          return chunks_.get(index);
+        } else {
+          return chunksBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .ChunkEntry chunks = 3;</code>
+       */
+      public Builder setChunks(
+          int index, File.ChunkEntry value) {
+        if (chunksBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureChunksIsMutable();
+          chunks_.set(index, value);
+          onChanged();
+        } else {
+          chunksBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ChunkEntry chunks = 3;</code>
+       */
+      public Builder setChunks(
+          int index, File.ChunkEntry.Builder builderForValue) {
+        if (chunksBuilder_ == null) {
+          ensureChunksIsMutable();
+          chunks_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          chunksBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ChunkEntry chunks = 3;</code>
+       */
+      public Builder addChunks(File.ChunkEntry value) {
+        if (chunksBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureChunksIsMutable();
+          chunks_.add(value);
+          onChanged();
+        } else {
+          chunksBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ChunkEntry chunks = 3;</code>
+       */
+      public Builder addChunks(
+          int index, File.ChunkEntry value) {
+        if (chunksBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureChunksIsMutable();
+          chunks_.add(index, value);
+          onChanged();
+        } else {
+          chunksBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ChunkEntry chunks = 3;</code>
+       */
+      public Builder addChunks(
+          File.ChunkEntry.Builder builderForValue) {
+        if (chunksBuilder_ == null) {
+          ensureChunksIsMutable();
+          chunks_.add(builderForValue.build());
+          onChanged();
+        } else {
+          chunksBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ChunkEntry chunks = 3;</code>
+       */
+      public Builder addChunks(
+          int index, File.ChunkEntry.Builder builderForValue) {
+        if (chunksBuilder_ == null) {
+          ensureChunksIsMutable();
+          chunks_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          chunksBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ChunkEntry chunks = 3;</code>
+       */
+      public Builder addAllChunks(
+          java.lang.Iterable<? extends File.ChunkEntry> values) {
+        if (chunksBuilder_ == null) {
+          ensureChunksIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, chunks_);
+          onChanged();
+        } else {
+          chunksBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ChunkEntry chunks = 3;</code>
+       */
+      public Builder clearChunks() {
+        if (chunksBuilder_ == null) {
+          chunks_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000004);
+          onChanged();
+        } else {
+          chunksBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ChunkEntry chunks = 3;</code>
+       */
+      public Builder removeChunks(int index) {
+        if (chunksBuilder_ == null) {
+          ensureChunksIsMutable();
+          chunks_.remove(index);
+          onChanged();
+        } else {
+          chunksBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ChunkEntry chunks = 3;</code>
+       */
+      public File.ChunkEntry.Builder getChunksBuilder(
+          int index) {
+        return getChunksFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .ChunkEntry chunks = 3;</code>
+       */
+      public File.ChunkEntryOrBuilder getChunksOrBuilder(
+          int index) {
+        if (chunksBuilder_ == null) {
+          return chunks_.get(index);  } else {
+          return chunksBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .ChunkEntry chunks = 3;</code>
+       */
+      public java.util.List<? extends File.ChunkEntryOrBuilder> 
+           getChunksOrBuilderList() {
+        if (chunksBuilder_ != null) {
+          return chunksBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(chunks_);
+        }
+      }
+      /**
+       * <code>repeated .ChunkEntry chunks = 3;</code>
+       */
+      public File.ChunkEntry.Builder addChunksBuilder() {
+        return getChunksFieldBuilder().addBuilder(
+            File.ChunkEntry.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .ChunkEntry chunks = 3;</code>
+       */
+      public File.ChunkEntry.Builder addChunksBuilder(
+          int index) {
+        return getChunksFieldBuilder().addBuilder(
+            index, File.ChunkEntry.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .ChunkEntry chunks = 3;</code>
+       */
+      public java.util.List<File.ChunkEntry.Builder> 
+           getChunksBuilderList() {
+        return getChunksFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          File.ChunkEntry, File.ChunkEntry.Builder, File.ChunkEntryOrBuilder> 
+          getChunksFieldBuilder() {
+        if (chunksBuilder_ == null) {
+          chunksBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              File.ChunkEntry, File.ChunkEntry.Builder, File.ChunkEntryOrBuilder>(
+                  chunks_,
+                  ((bitField0_ & 0x00000004) != 0),
+                  getParentForChildren(),
+                  isClean());
+          chunks_ = null;
+        }
+        return chunksBuilder_;
+      }
+
+      private boolean isLast_ ;
+      /**
+       * <code>bool isLast = 4;</code>
+       * @return The isLast.
+       */
+      @java.lang.Override
+      public boolean getIsLast() {
+        return isLast_;
+      }
+      /**
+       * <code>bool isLast = 4;</code>
+       * @param value The isLast to set.
+       * @return This builder for chaining.
+       */
+      public Builder setIsLast(boolean value) {
+
+        isLast_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bool isLast = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearIsLast() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        isLast_ = false;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:ChunkListResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:ChunkListResponse)
+    private static final File.ChunkListResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new File.ChunkListResponse();
+    }
+
+    public static File.ChunkListResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<ChunkListResponse>
+        PARSER = new com.google.protobuf.AbstractParser<ChunkListResponse>() {
+      @java.lang.Override
+      public ChunkListResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<ChunkListResponse> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<ChunkListResponse> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public File.ChunkListResponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface ChunkRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:ChunkRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string fileName = 1;</code>
+     * @return The fileName.
+     */
+    java.lang.String getFileName();
+    /**
+     * <code>string fileName = 1;</code>
+     * @return The bytes for fileName.
+     */
+    com.google.protobuf.ByteString
+        getFileNameBytes();
+
+    /**
+     * <code>repeated .ChunkEntry chunks = 2;</code>
+     */
+    java.util.List<File.ChunkEntry> 
+        getChunksList();
+    /**
+     * <code>repeated .ChunkEntry chunks = 2;</code>
+     */
+    File.ChunkEntry getChunks(int index);
+    /**
+     * <code>repeated .ChunkEntry chunks = 2;</code>
+     */
+    int getChunksCount();
+    /**
+     * <code>repeated .ChunkEntry chunks = 2;</code>
+     */
+    java.util.List<? extends File.ChunkEntryOrBuilder> 
+        getChunksOrBuilderList();
+    /**
+     * <code>repeated .ChunkEntry chunks = 2;</code>
+     */
+    File.ChunkEntryOrBuilder getChunksOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code ChunkRequest}
+   */
+  public static final class ChunkRequest extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:ChunkRequest)
+      ChunkRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 29,
+        /* patch= */ 2,
+        /* suffix= */ "",
+        ChunkRequest.class.getName());
+    }
+    // Use ChunkRequest.newBuilder() to construct.
+    private ChunkRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private ChunkRequest() {
+      fileName_ = "";
+      chunks_ = java.util.Collections.emptyList();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return File.internal_static_ChunkRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return File.internal_static_ChunkRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              File.ChunkRequest.class, File.ChunkRequest.Builder.class);
+    }
+
+    public static final int FILENAME_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object fileName_ = "";
+    /**
+     * <code>string fileName = 1;</code>
+     * @return The fileName.
+     */
+    @java.lang.Override
+    public java.lang.String getFileName() {
+      java.lang.Object ref = fileName_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        fileName_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string fileName = 1;</code>
+     * @return The bytes for fileName.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getFileNameBytes() {
+      java.lang.Object ref = fileName_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        fileName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int CHUNKS_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private java.util.List<File.ChunkEntry> chunks_;
+    /**
+     * <code>repeated .ChunkEntry chunks = 2;</code>
+     */
+    @java.lang.Override
+    public java.util.List<File.ChunkEntry> getChunksList() {
+      return chunks_;
+    }
+    /**
+     * <code>repeated .ChunkEntry chunks = 2;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends File.ChunkEntryOrBuilder> 
+        getChunksOrBuilderList() {
+      return chunks_;
+    }
+    /**
+     * <code>repeated .ChunkEntry chunks = 2;</code>
+     */
+    @java.lang.Override
+    public int getChunksCount() {
+      return chunks_.size();
+    }
+    /**
+     * <code>repeated .ChunkEntry chunks = 2;</code>
+     */
+    @java.lang.Override
+    public File.ChunkEntry getChunks(int index) {
+      return chunks_.get(index);
+    }
+    /**
+     * <code>repeated .ChunkEntry chunks = 2;</code>
+     */
+    @java.lang.Override
+    public File.ChunkEntryOrBuilder getChunksOrBuilder(
+        int index) {
+      return chunks_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(fileName_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 1, fileName_);
+      }
+      for (int i = 0; i < chunks_.size(); i++) {
+        output.writeMessage(2, chunks_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(fileName_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(1, fileName_);
+      }
+      for (int i = 0; i < chunks_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, chunks_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof File.ChunkRequest)) {
+        return super.equals(obj);
+      }
+      File.ChunkRequest other = (File.ChunkRequest) obj;
+
+      if (!getFileName()
+          .equals(other.getFileName())) return false;
+      if (!getChunksList()
+          .equals(other.getChunksList())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + FILENAME_FIELD_NUMBER;
+      hash = (53 * hash) + getFileName().hashCode();
+      if (getChunksCount() > 0) {
+        hash = (37 * hash) + CHUNKS_FIELD_NUMBER;
+        hash = (53 * hash) + getChunksList().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static File.ChunkRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static File.ChunkRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static File.ChunkRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static File.ChunkRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static File.ChunkRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static File.ChunkRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static File.ChunkRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static File.ChunkRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static File.ChunkRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static File.ChunkRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static File.ChunkRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static File.ChunkRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(File.ChunkRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code ChunkRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:ChunkRequest)
+        File.ChunkRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return File.internal_static_ChunkRequest_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return File.internal_static_ChunkRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                File.ChunkRequest.class, File.ChunkRequest.Builder.class);
+      }
+
+      // Construct using File.ChunkRequest.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        fileName_ = "";
+        if (chunksBuilder_ == null) {
+          chunks_ = java.util.Collections.emptyList();
+        } else {
+          chunks_ = null;
+          chunksBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return File.internal_static_ChunkRequest_descriptor;
+      }
+
+      @java.lang.Override
+      public File.ChunkRequest getDefaultInstanceForType() {
+        return File.ChunkRequest.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public File.ChunkRequest build() {
+        File.ChunkRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public File.ChunkRequest buildPartial() {
+        File.ChunkRequest result = new File.ChunkRequest(this);
+        buildPartialRepeatedFields(result);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartialRepeatedFields(File.ChunkRequest result) {
+        if (chunksBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) != 0)) {
+            chunks_ = java.util.Collections.unmodifiableList(chunks_);
+            bitField0_ = (bitField0_ & ~0x00000002);
+          }
+          result.chunks_ = chunks_;
+        } else {
+          result.chunks_ = chunksBuilder_.build();
+        }
+      }
+
+      private void buildPartial0(File.ChunkRequest result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.fileName_ = fileName_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof File.ChunkRequest) {
+          return mergeFrom((File.ChunkRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(File.ChunkRequest other) {
+        if (other == File.ChunkRequest.getDefaultInstance()) return this;
+        if (!other.getFileName().isEmpty()) {
+          fileName_ = other.fileName_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (chunksBuilder_ == null) {
+          if (!other.chunks_.isEmpty()) {
+            if (chunks_.isEmpty()) {
+              chunks_ = other.chunks_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+            } else {
+              ensureChunksIsMutable();
+              chunks_.addAll(other.chunks_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.chunks_.isEmpty()) {
+            if (chunksBuilder_.isEmpty()) {
+              chunksBuilder_.dispose();
+              chunksBuilder_ = null;
+              chunks_ = other.chunks_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+              chunksBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getChunksFieldBuilder() : null;
+            } else {
+              chunksBuilder_.addAllMessages(other.chunks_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                fileName_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                File.ChunkEntry m =
+                    input.readMessage(
+                        File.ChunkEntry.parser(),
+                        extensionRegistry);
+                if (chunksBuilder_ == null) {
+                  ensureChunksIsMutable();
+                  chunks_.add(m);
+                } else {
+                  chunksBuilder_.addMessage(m);
+                }
+                break;
+              } // case 18
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object fileName_ = "";
+      /**
+       * <code>string fileName = 1;</code>
+       * @return The fileName.
+       */
+      public java.lang.String getFileName() {
+        java.lang.Object ref = fileName_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          fileName_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string fileName = 1;</code>
+       * @return The bytes for fileName.
+       */
+      public com.google.protobuf.ByteString
+          getFileNameBytes() {
+        java.lang.Object ref = fileName_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          fileName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string fileName = 1;</code>
+       * @param value The fileName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setFileName(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        fileName_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string fileName = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearFileName() {
+        fileName_ = getDefaultInstance().getFileName();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string fileName = 1;</code>
+       * @param value The bytes for fileName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setFileNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        fileName_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<File.ChunkEntry> chunks_ =
+        java.util.Collections.emptyList();
+      private void ensureChunksIsMutable() {
+        if (!((bitField0_ & 0x00000002) != 0)) {
+          chunks_ = new java.util.ArrayList<File.ChunkEntry>(chunks_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          File.ChunkEntry, File.ChunkEntry.Builder, File.ChunkEntryOrBuilder> chunksBuilder_;
+
+      /**
+       * <code>repeated .ChunkEntry chunks = 2;</code>
+       */
+      public java.util.List<File.ChunkEntry> getChunksList() {
+        if (chunksBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(chunks_);
+        } else {
+          return chunksBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .ChunkEntry chunks = 2;</code>
+       */
+      public int getChunksCount() {
+        if (chunksBuilder_ == null) {
+          return chunks_.size();
+        } else {
+          return chunksBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .ChunkEntry chunks = 2;</code>
+       */
+      public File.ChunkEntry getChunks(int index) {
+        if (chunksBuilder_ == null) {
+          return chunks_.get(index);
+        } else {
+          return chunksBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .ChunkEntry chunks = 2;</code>
+       */
+      public Builder setChunks(
+          int index, File.ChunkEntry value) {
+        if (chunksBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureChunksIsMutable();
+          chunks_.set(index, value);
+          onChanged();
+        } else {
+          chunksBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ChunkEntry chunks = 2;</code>
+       */
+      public Builder setChunks(
+          int index, File.ChunkEntry.Builder builderForValue) {
+        if (chunksBuilder_ == null) {
+          ensureChunksIsMutable();
+          chunks_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          chunksBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ChunkEntry chunks = 2;</code>
+       */
+      public Builder addChunks(File.ChunkEntry value) {
+        if (chunksBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureChunksIsMutable();
+          chunks_.add(value);
+          onChanged();
+        } else {
+          chunksBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ChunkEntry chunks = 2;</code>
+       */
+      public Builder addChunks(
+          int index, File.ChunkEntry value) {
+        if (chunksBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureChunksIsMutable();
+          chunks_.add(index, value);
+          onChanged();
+        } else {
+          chunksBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ChunkEntry chunks = 2;</code>
+       */
+      public Builder addChunks(
+          File.ChunkEntry.Builder builderForValue) {
+        if (chunksBuilder_ == null) {
+          ensureChunksIsMutable();
+          chunks_.add(builderForValue.build());
+          onChanged();
+        } else {
+          chunksBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ChunkEntry chunks = 2;</code>
+       */
+      public Builder addChunks(
+          int index, File.ChunkEntry.Builder builderForValue) {
+        if (chunksBuilder_ == null) {
+          ensureChunksIsMutable();
+          chunks_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          chunksBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ChunkEntry chunks = 2;</code>
+       */
+      public Builder addAllChunks(
+          java.lang.Iterable<? extends File.ChunkEntry> values) {
+        if (chunksBuilder_ == null) {
+          ensureChunksIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, chunks_);
+          onChanged();
+        } else {
+          chunksBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ChunkEntry chunks = 2;</code>
+       */
+      public Builder clearChunks() {
+        if (chunksBuilder_ == null) {
+          chunks_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+          onChanged();
+        } else {
+          chunksBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ChunkEntry chunks = 2;</code>
+       */
+      public Builder removeChunks(int index) {
+        if (chunksBuilder_ == null) {
+          ensureChunksIsMutable();
+          chunks_.remove(index);
+          onChanged();
+        } else {
+          chunksBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ChunkEntry chunks = 2;</code>
+       */
+      public File.ChunkEntry.Builder getChunksBuilder(
+          int index) {
+        return getChunksFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .ChunkEntry chunks = 2;</code>
+       */
+      public File.ChunkEntryOrBuilder getChunksOrBuilder(
+          int index) {
+        if (chunksBuilder_ == null) {
+          return chunks_.get(index);  } else {
+          return chunksBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .ChunkEntry chunks = 2;</code>
+       */
+      public java.util.List<? extends File.ChunkEntryOrBuilder> 
+           getChunksOrBuilderList() {
+        if (chunksBuilder_ != null) {
+          return chunksBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(chunks_);
+        }
+      }
+      /**
+       * <code>repeated .ChunkEntry chunks = 2;</code>
+       */
+      public File.ChunkEntry.Builder addChunksBuilder() {
+        return getChunksFieldBuilder().addBuilder(
+            File.ChunkEntry.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .ChunkEntry chunks = 2;</code>
+       */
+      public File.ChunkEntry.Builder addChunksBuilder(
+          int index) {
+        return getChunksFieldBuilder().addBuilder(
+            index, File.ChunkEntry.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .ChunkEntry chunks = 2;</code>
+       */
+      public java.util.List<File.ChunkEntry.Builder> 
+           getChunksBuilderList() {
+        return getChunksFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          File.ChunkEntry, File.ChunkEntry.Builder, File.ChunkEntryOrBuilder> 
+          getChunksFieldBuilder() {
+        if (chunksBuilder_ == null) {
+          chunksBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              File.ChunkEntry, File.ChunkEntry.Builder, File.ChunkEntryOrBuilder>(
+                  chunks_,
+                  ((bitField0_ & 0x00000002) != 0),
+                  getParentForChildren(),
+                  isClean());
+          chunks_ = null;
+        }
+        return chunksBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:ChunkRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:ChunkRequest)
+    private static final File.ChunkRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new File.ChunkRequest();
+    }
+
+    public static File.ChunkRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<ChunkRequest>
+        PARSER = new com.google.protobuf.AbstractParser<ChunkRequest>() {
+      @java.lang.Override
+      public ChunkRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<ChunkRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<ChunkRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public File.ChunkRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface ChunkResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:ChunkResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string fileName = 1;</code>
+     * @return The fileName.
+     */
+    java.lang.String getFileName();
+    /**
+     * <code>string fileName = 1;</code>
+     * @return The bytes for fileName.
+     */
+    com.google.protobuf.ByteString
+        getFileNameBytes();
+
+    /**
+     * <code>repeated .ChunkEntry chunks = 2;</code>
+     */
+    java.util.List<File.ChunkEntry> 
+        getChunksList();
+    /**
+     * <code>repeated .ChunkEntry chunks = 2;</code>
+     */
+    File.ChunkEntry getChunks(int index);
+    /**
+     * <code>repeated .ChunkEntry chunks = 2;</code>
+     */
+    int getChunksCount();
+    /**
+     * <code>repeated .ChunkEntry chunks = 2;</code>
+     */
+    java.util.List<? extends File.ChunkEntryOrBuilder> 
+        getChunksOrBuilderList();
+    /**
+     * <code>repeated .ChunkEntry chunks = 2;</code>
+     */
+    File.ChunkEntryOrBuilder getChunksOrBuilder(
+        int index);
+
+    /**
+     * <code>bytes data = 3;</code>
+     * @return The data.
+     */
+    com.google.protobuf.ByteString getData();
+  }
+  /**
+   * Protobuf type {@code ChunkResponse}
+   */
+  public static final class ChunkResponse extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:ChunkResponse)
+      ChunkResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 29,
+        /* patch= */ 2,
+        /* suffix= */ "",
+        ChunkResponse.class.getName());
+    }
+    // Use ChunkResponse.newBuilder() to construct.
+    private ChunkResponse(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private ChunkResponse() {
+      fileName_ = "";
+      chunks_ = java.util.Collections.emptyList();
+      data_ = com.google.protobuf.ByteString.EMPTY;
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return File.internal_static_ChunkResponse_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return File.internal_static_ChunkResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              File.ChunkResponse.class, File.ChunkResponse.Builder.class);
+    }
+
+    public static final int FILENAME_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object fileName_ = "";
+    /**
+     * <code>string fileName = 1;</code>
+     * @return The fileName.
+     */
+    @java.lang.Override
+    public java.lang.String getFileName() {
+      java.lang.Object ref = fileName_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        fileName_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string fileName = 1;</code>
+     * @return The bytes for fileName.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getFileNameBytes() {
+      java.lang.Object ref = fileName_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        fileName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int CHUNKS_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private java.util.List<File.ChunkEntry> chunks_;
+    /**
+     * <code>repeated .ChunkEntry chunks = 2;</code>
+     */
+    @java.lang.Override
+    public java.util.List<File.ChunkEntry> getChunksList() {
+      return chunks_;
+    }
+    /**
+     * <code>repeated .ChunkEntry chunks = 2;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends File.ChunkEntryOrBuilder> 
+        getChunksOrBuilderList() {
+      return chunks_;
+    }
+    /**
+     * <code>repeated .ChunkEntry chunks = 2;</code>
+     */
+    @java.lang.Override
+    public int getChunksCount() {
+      return chunks_.size();
+    }
+    /**
+     * <code>repeated .ChunkEntry chunks = 2;</code>
+     */
+    @java.lang.Override
+    public File.ChunkEntry getChunks(int index) {
+      return chunks_.get(index);
+    }
+    /**
+     * <code>repeated .ChunkEntry chunks = 2;</code>
+     */
+    @java.lang.Override
+    public File.ChunkEntryOrBuilder getChunksOrBuilder(
+        int index) {
+      return chunks_.get(index);
+    }
+
+    public static final int DATA_FIELD_NUMBER = 3;
+    private com.google.protobuf.ByteString data_ = com.google.protobuf.ByteString.EMPTY;
+    /**
+     * <code>bytes data = 3;</code>
+     * @return The data.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString getData() {
+      return data_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(fileName_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 1, fileName_);
+      }
+      for (int i = 0; i < chunks_.size(); i++) {
+        output.writeMessage(2, chunks_.get(i));
+      }
+      if (!data_.isEmpty()) {
+        output.writeBytes(3, data_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(fileName_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(1, fileName_);
+      }
+      for (int i = 0; i < chunks_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, chunks_.get(i));
+      }
+      if (!data_.isEmpty()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(3, data_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof File.ChunkResponse)) {
+        return super.equals(obj);
+      }
+      File.ChunkResponse other = (File.ChunkResponse) obj;
+
+      if (!getFileName()
+          .equals(other.getFileName())) return false;
+      if (!getChunksList()
+          .equals(other.getChunksList())) return false;
+      if (!getData()
+          .equals(other.getData())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + FILENAME_FIELD_NUMBER;
+      hash = (53 * hash) + getFileName().hashCode();
+      if (getChunksCount() > 0) {
+        hash = (37 * hash) + CHUNKS_FIELD_NUMBER;
+        hash = (53 * hash) + getChunksList().hashCode();
+      }
+      hash = (37 * hash) + DATA_FIELD_NUMBER;
+      hash = (53 * hash) + getData().hashCode();
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static File.ChunkResponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static File.ChunkResponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static File.ChunkResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static File.ChunkResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static File.ChunkResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static File.ChunkResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static File.ChunkResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static File.ChunkResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static File.ChunkResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static File.ChunkResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static File.ChunkResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static File.ChunkResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(File.ChunkResponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code ChunkResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:ChunkResponse)
+        File.ChunkResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return File.internal_static_ChunkResponse_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return File.internal_static_ChunkResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                File.ChunkResponse.class, File.ChunkResponse.Builder.class);
+      }
+
+      // Construct using File.ChunkResponse.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        fileName_ = "";
+        if (chunksBuilder_ == null) {
+          chunks_ = java.util.Collections.emptyList();
+        } else {
+          chunks_ = null;
+          chunksBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000002);
+        data_ = com.google.protobuf.ByteString.EMPTY;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return File.internal_static_ChunkResponse_descriptor;
+      }
+
+      @java.lang.Override
+      public File.ChunkResponse getDefaultInstanceForType() {
+        return File.ChunkResponse.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public File.ChunkResponse build() {
+        File.ChunkResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public File.ChunkResponse buildPartial() {
+        File.ChunkResponse result = new File.ChunkResponse(this);
+        buildPartialRepeatedFields(result);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartialRepeatedFields(File.ChunkResponse result) {
+        if (chunksBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) != 0)) {
+            chunks_ = java.util.Collections.unmodifiableList(chunks_);
+            bitField0_ = (bitField0_ & ~0x00000002);
+          }
+          result.chunks_ = chunks_;
+        } else {
+          result.chunks_ = chunksBuilder_.build();
+        }
+      }
+
+      private void buildPartial0(File.ChunkResponse result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.fileName_ = fileName_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.data_ = data_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof File.ChunkResponse) {
+          return mergeFrom((File.ChunkResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(File.ChunkResponse other) {
+        if (other == File.ChunkResponse.getDefaultInstance()) return this;
+        if (!other.getFileName().isEmpty()) {
+          fileName_ = other.fileName_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (chunksBuilder_ == null) {
+          if (!other.chunks_.isEmpty()) {
+            if (chunks_.isEmpty()) {
+              chunks_ = other.chunks_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+            } else {
+              ensureChunksIsMutable();
+              chunks_.addAll(other.chunks_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.chunks_.isEmpty()) {
+            if (chunksBuilder_.isEmpty()) {
+              chunksBuilder_.dispose();
+              chunksBuilder_ = null;
+              chunks_ = other.chunks_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+              chunksBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getChunksFieldBuilder() : null;
+            } else {
+              chunksBuilder_.addAllMessages(other.chunks_);
+            }
+          }
+        }
+        if (other.getData() != com.google.protobuf.ByteString.EMPTY) {
+          setData(other.getData());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                fileName_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                File.ChunkEntry m =
+                    input.readMessage(
+                        File.ChunkEntry.parser(),
+                        extensionRegistry);
+                if (chunksBuilder_ == null) {
+                  ensureChunksIsMutable();
+                  chunks_.add(m);
+                } else {
+                  chunksBuilder_.addMessage(m);
+                }
+                break;
+              } // case 18
+              case 26: {
+                data_ = input.readBytes();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 26
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object fileName_ = "";
+      /**
+       * <code>string fileName = 1;</code>
+       * @return The fileName.
+       */
+      public java.lang.String getFileName() {
+        java.lang.Object ref = fileName_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          fileName_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string fileName = 1;</code>
+       * @return The bytes for fileName.
+       */
+      public com.google.protobuf.ByteString
+          getFileNameBytes() {
+        java.lang.Object ref = fileName_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          fileName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string fileName = 1;</code>
+       * @param value The fileName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setFileName(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        fileName_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string fileName = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearFileName() {
+        fileName_ = getDefaultInstance().getFileName();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string fileName = 1;</code>
+       * @param value The bytes for fileName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setFileNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        fileName_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<File.ChunkEntry> chunks_ =
+        java.util.Collections.emptyList();
+      private void ensureChunksIsMutable() {
+        if (!((bitField0_ & 0x00000002) != 0)) {
+          chunks_ = new java.util.ArrayList<File.ChunkEntry>(chunks_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          File.ChunkEntry, File.ChunkEntry.Builder, File.ChunkEntryOrBuilder> chunksBuilder_;
+
+      /**
+       * <code>repeated .ChunkEntry chunks = 2;</code>
+       */
+      public java.util.List<File.ChunkEntry> getChunksList() {
+        if (chunksBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(chunks_);
+        } else {
+          return chunksBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .ChunkEntry chunks = 2;</code>
+       */
+      public int getChunksCount() {
+        if (chunksBuilder_ == null) {
+          return chunks_.size();
+        } else {
+          return chunksBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .ChunkEntry chunks = 2;</code>
+       */
+      public File.ChunkEntry getChunks(int index) {
+        if (chunksBuilder_ == null) {
+          return chunks_.get(index);
+        } else {
+          return chunksBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .ChunkEntry chunks = 2;</code>
+       */
+      public Builder setChunks(
+          int index, File.ChunkEntry value) {
+        if (chunksBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureChunksIsMutable();
+          chunks_.set(index, value);
+          onChanged();
+        } else {
+          chunksBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ChunkEntry chunks = 2;</code>
+       */
+      public Builder setChunks(
+          int index, File.ChunkEntry.Builder builderForValue) {
+        if (chunksBuilder_ == null) {
+          ensureChunksIsMutable();
+          chunks_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          chunksBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ChunkEntry chunks = 2;</code>
+       */
+      public Builder addChunks(File.ChunkEntry value) {
+        if (chunksBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureChunksIsMutable();
+          chunks_.add(value);
+          onChanged();
+        } else {
+          chunksBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ChunkEntry chunks = 2;</code>
+       */
+      public Builder addChunks(
+          int index, File.ChunkEntry value) {
+        if (chunksBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureChunksIsMutable();
+          chunks_.add(index, value);
+          onChanged();
+        } else {
+          chunksBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ChunkEntry chunks = 2;</code>
+       */
+      public Builder addChunks(
+          File.ChunkEntry.Builder builderForValue) {
+        if (chunksBuilder_ == null) {
+          ensureChunksIsMutable();
+          chunks_.add(builderForValue.build());
+          onChanged();
+        } else {
+          chunksBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ChunkEntry chunks = 2;</code>
+       */
+      public Builder addChunks(
+          int index, File.ChunkEntry.Builder builderForValue) {
+        if (chunksBuilder_ == null) {
+          ensureChunksIsMutable();
+          chunks_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          chunksBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ChunkEntry chunks = 2;</code>
+       */
+      public Builder addAllChunks(
+          java.lang.Iterable<? extends File.ChunkEntry> values) {
+        if (chunksBuilder_ == null) {
+          ensureChunksIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, chunks_);
+          onChanged();
+        } else {
+          chunksBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ChunkEntry chunks = 2;</code>
+       */
+      public Builder clearChunks() {
+        if (chunksBuilder_ == null) {
+          chunks_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+          onChanged();
+        } else {
+          chunksBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ChunkEntry chunks = 2;</code>
+       */
+      public Builder removeChunks(int index) {
+        if (chunksBuilder_ == null) {
+          ensureChunksIsMutable();
+          chunks_.remove(index);
+          onChanged();
+        } else {
+          chunksBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ChunkEntry chunks = 2;</code>
+       */
+      public File.ChunkEntry.Builder getChunksBuilder(
+          int index) {
+        return getChunksFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .ChunkEntry chunks = 2;</code>
+       */
+      public File.ChunkEntryOrBuilder getChunksOrBuilder(
+          int index) {
+        if (chunksBuilder_ == null) {
+          return chunks_.get(index);  } else {
+          return chunksBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .ChunkEntry chunks = 2;</code>
+       */
+      public java.util.List<? extends File.ChunkEntryOrBuilder> 
+           getChunksOrBuilderList() {
+        if (chunksBuilder_ != null) {
+          return chunksBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(chunks_);
+        }
+      }
+      /**
+       * <code>repeated .ChunkEntry chunks = 2;</code>
+       */
+      public File.ChunkEntry.Builder addChunksBuilder() {
+        return getChunksFieldBuilder().addBuilder(
+            File.ChunkEntry.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .ChunkEntry chunks = 2;</code>
+       */
+      public File.ChunkEntry.Builder addChunksBuilder(
+          int index) {
+        return getChunksFieldBuilder().addBuilder(
+            index, File.ChunkEntry.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .ChunkEntry chunks = 2;</code>
+       */
+      public java.util.List<File.ChunkEntry.Builder> 
+           getChunksBuilderList() {
+        return getChunksFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          File.ChunkEntry, File.ChunkEntry.Builder, File.ChunkEntryOrBuilder> 
+          getChunksFieldBuilder() {
+        if (chunksBuilder_ == null) {
+          chunksBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              File.ChunkEntry, File.ChunkEntry.Builder, File.ChunkEntryOrBuilder>(
+                  chunks_,
+                  ((bitField0_ & 0x00000002) != 0),
+                  getParentForChildren(),
+                  isClean());
+          chunks_ = null;
+        }
+        return chunksBuilder_;
+      }
+
+      private com.google.protobuf.ByteString data_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>bytes data = 3;</code>
+       * @return The data.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString getData() {
+        return data_;
+      }
+      /**
+       * <code>bytes data = 3;</code>
+       * @param value The data to set.
+       * @return This builder for chaining.
+       */
+      public Builder setData(com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        data_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bytes data = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearData() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        data_ = getDefaultInstance().getData();
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:ChunkResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:ChunkResponse)
+    private static final File.ChunkResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new File.ChunkResponse();
+    }
+
+    public static File.ChunkResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<ChunkResponse>
+        PARSER = new com.google.protobuf.AbstractParser<ChunkResponse>() {
+      @java.lang.Override
+      public ChunkResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<ChunkResponse> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<ChunkResponse> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public File.ChunkResponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface FileRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:FileRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string fileName = 1;</code>
+     * @return The fileName.
+     */
+    java.lang.String getFileName();
+    /**
+     * <code>string fileName = 1;</code>
+     * @return The bytes for fileName.
+     */
+    com.google.protobuf.ByteString
+        getFileNameBytes();
+
+    /**
+     * <code>int64 offset = 2;</code>
+     * @return The offset.
+     */
+    long getOffset();
+
+    /**
+     * <code>int64 length = 3;</code>
+     * @return The length.
+     */
+    long getLength();
+  }
+  /**
+   * Protobuf type {@code FileRequest}
+   */
+  public static final class FileRequest extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:FileRequest)
+      FileRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 29,
+        /* patch= */ 2,
+        /* suffix= */ "",
+        FileRequest.class.getName());
+    }
+    // Use FileRequest.newBuilder() to construct.
+    private FileRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private FileRequest() {
+      fileName_ = "";
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return File.internal_static_FileRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return File.internal_static_FileRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              File.FileRequest.class, File.FileRequest.Builder.class);
+    }
+
+    public static final int FILENAME_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object fileName_ = "";
+    /**
+     * <code>string fileName = 1;</code>
+     * @return The fileName.
+     */
+    @java.lang.Override
+    public java.lang.String getFileName() {
+      java.lang.Object ref = fileName_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        fileName_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string fileName = 1;</code>
+     * @return The bytes for fileName.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getFileNameBytes() {
+      java.lang.Object ref = fileName_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        fileName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int OFFSET_FIELD_NUMBER = 2;
+    private long offset_ = 0L;
+    /**
+     * <code>int64 offset = 2;</code>
+     * @return The offset.
+     */
+    @java.lang.Override
+    public long getOffset() {
+      return offset_;
+    }
+
+    public static final int LENGTH_FIELD_NUMBER = 3;
+    private long length_ = 0L;
+    /**
+     * <code>int64 length = 3;</code>
+     * @return The length.
+     */
+    @java.lang.Override
+    public long getLength() {
+      return length_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(fileName_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 1, fileName_);
+      }
+      if (offset_ != 0L) {
+        output.writeInt64(2, offset_);
+      }
+      if (length_ != 0L) {
+        output.writeInt64(3, length_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(fileName_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(1, fileName_);
+      }
+      if (offset_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(2, offset_);
+      }
+      if (length_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(3, length_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof File.FileRequest)) {
+        return super.equals(obj);
+      }
+      File.FileRequest other = (File.FileRequest) obj;
+
+      if (!getFileName()
+          .equals(other.getFileName())) return false;
+      if (getOffset()
+          != other.getOffset()) return false;
+      if (getLength()
+          != other.getLength()) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + FILENAME_FIELD_NUMBER;
+      hash = (53 * hash) + getFileName().hashCode();
+      hash = (37 * hash) + OFFSET_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getOffset());
+      hash = (37 * hash) + LENGTH_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getLength());
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static File.FileRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static File.FileRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static File.FileRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static File.FileRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static File.FileRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static File.FileRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static File.FileRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static File.FileRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static File.FileRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static File.FileRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static File.FileRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static File.FileRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(File.FileRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code FileRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:FileRequest)
+        File.FileRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return File.internal_static_FileRequest_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return File.internal_static_FileRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                File.FileRequest.class, File.FileRequest.Builder.class);
+      }
+
+      // Construct using File.FileRequest.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        fileName_ = "";
+        offset_ = 0L;
+        length_ = 0L;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return File.internal_static_FileRequest_descriptor;
+      }
+
+      @java.lang.Override
+      public File.FileRequest getDefaultInstanceForType() {
+        return File.FileRequest.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public File.FileRequest build() {
+        File.FileRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public File.FileRequest buildPartial() {
+        File.FileRequest result = new File.FileRequest(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(File.FileRequest result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.fileName_ = fileName_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.offset_ = offset_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.length_ = length_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof File.FileRequest) {
+          return mergeFrom((File.FileRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(File.FileRequest other) {
+        if (other == File.FileRequest.getDefaultInstance()) return this;
+        if (!other.getFileName().isEmpty()) {
+          fileName_ = other.fileName_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (other.getOffset() != 0L) {
+          setOffset(other.getOffset());
+        }
+        if (other.getLength() != 0L) {
+          setLength(other.getLength());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                fileName_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 16: {
+                offset_ = input.readInt64();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 16
+              case 24: {
+                length_ = input.readInt64();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 24
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object fileName_ = "";
+      /**
+       * <code>string fileName = 1;</code>
+       * @return The fileName.
+       */
+      public java.lang.String getFileName() {
+        java.lang.Object ref = fileName_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          fileName_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string fileName = 1;</code>
+       * @return The bytes for fileName.
+       */
+      public com.google.protobuf.ByteString
+          getFileNameBytes() {
+        java.lang.Object ref = fileName_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          fileName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string fileName = 1;</code>
+       * @param value The fileName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setFileName(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        fileName_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string fileName = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearFileName() {
+        fileName_ = getDefaultInstance().getFileName();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string fileName = 1;</code>
+       * @param value The bytes for fileName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setFileNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        fileName_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private long offset_ ;
+      /**
+       * <code>int64 offset = 2;</code>
+       * @return The offset.
+       */
+      @java.lang.Override
+      public long getOffset() {
+        return offset_;
+      }
+      /**
+       * <code>int64 offset = 2;</code>
+       * @param value The offset to set.
+       * @return This builder for chaining.
+       */
+      public Builder setOffset(long value) {
+
+        offset_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 offset = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearOffset() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        offset_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private long length_ ;
+      /**
+       * <code>int64 length = 3;</code>
+       * @return The length.
+       */
+      @java.lang.Override
+      public long getLength() {
+        return length_;
+      }
+      /**
+       * <code>int64 length = 3;</code>
+       * @param value The length to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLength(long value) {
+
+        length_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 length = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLength() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        length_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:FileRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:FileRequest)
+    private static final File.FileRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new File.FileRequest();
+    }
+
+    public static File.FileRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<FileRequest>
+        PARSER = new com.google.protobuf.AbstractParser<FileRequest>() {
+      @java.lang.Override
+      public FileRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<FileRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<FileRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public File.FileRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface FileResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:FileResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>bytes data = 1;</code>
+     * @return The data.
+     */
+    com.google.protobuf.ByteString getData();
+
+    /**
+     * <code>string fileName = 2;</code>
+     * @return The fileName.
+     */
+    java.lang.String getFileName();
+    /**
+     * <code>string fileName = 2;</code>
+     * @return The bytes for fileName.
+     */
     com.google.protobuf.ByteString
-        getPeerNameBytes();
+        getFileNameBytes();
 
     /**
-     * <code>repeated string fileNames = 3;</code>
-     * @return A list containing the fileNames.
+     * <code>bool isLastChunk = 3;</code>
+     * @return The isLastChunk.
      */
-    java.util.List<java.lang.String>
-        getFileNamesList();
+    boolean getIsLastChunk();
+
     /**
-     * <code>repeated string fileNames = 3;</code>
-     * @return The count of fileNames.
+     * <code>int64 payloadLength = 4;</code>
+     * @return The payloadLength.
      */
-    int getFileNamesCount();
+    long getPayloadLength();
+
     /**
-     * <code>repeated string fileNames = 3;</code>
-     * @param index The index of the element to return.
-     * @return The fileNames at the given index.
+     * <code>int64 offset = 5;</code>
+     * @return The offset.
      */
-    java.lang.String getFileNames(int index);
+    long getOffset();
+
     /**
-     * <code>repeated string fileNames = 3;</code>
-     * @param index The index of the value to return.
-     * @return The bytes of the fileNames at the given index.
+     * <code>int64 fileSize = 6;</code>
+     * @return The fileSize.
      */
-    com.google.protobuf.ByteString
-        getFileNamesBytes(int index);
+    long getFileSize();
+
+    /**
+     * <code>bool compressed = 7;</code>
+     * @return The compressed.
+     */
+    boolean getCompressed();
+
+    /**
+     * <code>int32 uncompressedLength = 8;</code>
+     * @return The uncompressedLength.
+     */
+    int getUncompressedLength();
   }
   /**
-   * Protobuf type {@code GetFilesResponse}
+   * Protobuf type {@code FileResponse}
    */
-  public static final class GetFilesResponse extends
+  public static final class FileResponse extends
       com.google.protobuf.GeneratedMessage implements
-      // @@protoc_insertion_point(message_implements:GetFilesResponse)
-      GetFilesResponseOrBuilder {
+      // @@protoc_insertion_point(message_implements:FileResponse)
+      FileResponseOrBuilder {
   private static final long serialVersionUID = 0L;
     static {
       com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
@@ -436,105 +14748,144 @@ public final class File {
         /* minor= */ 29,
         /* patch= */ 2,
         /* suffix= */ "",
-        GetFilesResponse.class.getName());
+        FileResponse.class.getName());
     }
-    // Use GetFilesResponse.newBuilder() to construct.
-    private GetFilesResponse(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+    // Use FileResponse.newBuilder() to construct.
+    private FileResponse(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
     }
-    private GetFilesResponse() {
-      peerName_ = "";
-      fileNames_ =
-          com.google.protobuf.LazyStringArrayList.emptyList();
+    private FileResponse() {
+      data_ = com.google.protobuf.ByteString.EMPTY;
+      fileName_ = "";
     }
 
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return File.internal_static_GetFilesResponse_descriptor;
+      return File.internal_static_FileResponse_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return File.internal_static_GetFilesResponse_fieldAccessorTable
+      return File.internal_static_FileResponse_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              File.GetFilesResponse.class, File.GetFilesResponse.Builder.class);
+              File.FileResponse.class, File.FileResponse.Builder.class);
     }
 
-    public static final int PEERNAME_FIELD_NUMBER = 1;
+    public static final int DATA_FIELD_NUMBER = 1;
+    private com.google.protobuf.ByteString data_ = com.google.protobuf.ByteString.EMPTY;
+    /**
+     * <code>bytes data = 1;</code>
+     * @return The data.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString getData() {
+      return data_;
+    }
+
+    public static final int FILENAME_FIELD_NUMBER = 2;
     @SuppressWarnings("serial")
-    private volatile java.lang.Object peerName_ = "";
+    private volatile java.lang.Object fileName_ = "";
     /**
-     * <code>string peerName = 1;</code>
-     * @return The peerName.
+     * <code>string fileName = 2;</code>
+     * @return The fileName.
      */
     @java.lang.Override
-    public java.lang.String getPeerName() {
-      java.lang.Object ref = peerName_;
+    public java.lang.String getFileName() {
+      java.lang.Object ref = fileName_;
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
         com.google.protobuf.ByteString bs = 
             (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
-        peerName_ = s;
+        fileName_ = s;
         return s;
       }
     }
     /**
-     * <code>string peerName = 1;</code>
-     * @return The bytes for peerName.
+     * <code>string fileName = 2;</code>
+     * @return The bytes for fileName.
      */
     @java.lang.Override
     public com.google.protobuf.ByteString
-        getPeerNameBytes() {
-      java.lang.Object ref = peerName_;
+        getFileNameBytes() {
+      java.lang.Object ref = fileName_;
       if (ref instanceof java.lang.String) {
         com.google.protobuf.ByteString b = 
             com.google.protobuf.ByteString.copyFromUtf8(
                 (java.lang.String) ref);
-        peerName_ = b;
+        fileName_ = b;
         return b;
       } else {
         return (com.google.protobuf.ByteString) ref;
       }
     }
 
-    public static final int FILENAMES_FIELD_NUMBER = 3;
-    @SuppressWarnings("serial")
-    private com.google.protobuf.LazyStringArrayList fileNames_ =
-        com.google.protobuf.LazyStringArrayList.emptyList();
+    public static final int ISLASTCHUNK_FIELD_NUMBER = 3;
+    private boolean isLastChunk_ = false;
     /**
-     * <code>repeated string fileNames = 3;</code>
-     * @return A list containing the fileNames.
+     * <code>bool isLastChunk = 3;</code>
+     * @return The isLastChunk.
      */
-    public com.google.protobuf.ProtocolStringList
-        getFileNamesList() {
-      return fileNames_;
+    @java.lang.Override
+    public boolean getIsLastChunk() {
+      return isLastChunk_;
     }
+
+    public static final int PAYLOADLENGTH_FIELD_NUMBER = 4;
+    private long payloadLength_ = 0L;
     /**
-     * <code>repeated string fileNames = 3;</code>
-     * @return The count of fileNames.
+     * <code>int64 payloadLength = 4;</code>
+     * @return The payloadLength.
      */
-    public int getFileNamesCount() {
-      return fileNames_.size();
+    @java.lang.Override
+    public long getPayloadLength() {
+      return payloadLength_;
+    }
+
+    public static final int OFFSET_FIELD_NUMBER = 5;
+    private long offset_ = 0L;
+    /**
+     * <code>int64 offset = 5;</code>
+     * @return The offset.
+     */
+    @java.lang.Override
+    public long getOffset() {
+      return offset_;
     }
+
+    public static final int FILESIZE_FIELD_NUMBER = 6;
+    private long fileSize_ = 0L;
     /**
-     * <code>repeated string fileNames = 3;</code>
-     * @param index The index of the element to return.
-     * @return The fileNames at the given index.
+     * <code>int64 fileSize = 6;</code>
+     * @return The fileSize.
      */
-    public java.lang.String getFileNames(int index) {
-      return fileNames_.get(index);
+    @java.lang.Override
+    public long getFileSize() {
+      return fileSize_;
     }
+
+    public static final int COMPRESSED_FIELD_NUMBER = 7;
+    private boolean compressed_ = false;
     /**
-     * <code>repeated string fileNames = 3;</code>
-     * @param index The index of the value to return.
-     * @return The bytes of the fileNames at the given index.
+     * <code>bool compressed = 7;</code>
+     * @return The compressed.
      */
-    public com.google.protobuf.ByteString
-        getFileNamesBytes(int index) {
-      return fileNames_.getByteString(index);
+    @java.lang.Override
+    public boolean getCompressed() {
+      return compressed_;
+    }
+
+    public static final int UNCOMPRESSEDLENGTH_FIELD_NUMBER = 8;
+    private int uncompressedLength_ = 0;
+    /**
+     * <code>int32 uncompressedLength = 8;</code>
+     * @return The uncompressedLength.
+     */
+    @java.lang.Override
+    public int getUncompressedLength() {
+      return uncompressedLength_;
     }
 
     private byte memoizedIsInitialized = -1;
@@ -551,11 +14902,29 @@ public final class File {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(peerName_)) {
-        com.google.protobuf.GeneratedMessage.writeString(output, 1, peerName_);
+      if (!data_.isEmpty()) {
+        output.writeBytes(1, data_);
       }
-      for (int i = 0; i < fileNames_.size(); i++) {
-        com.google.protobuf.GeneratedMessage.writeString(output, 3, fileNames_.getRaw(i));
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(fileName_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 2, fileName_);
+      }
+      if (isLastChunk_ != false) {
+        output.writeBool(3, isLastChunk_);
+      }
+      if (payloadLength_ != 0L) {
+        output.writeInt64(4, payloadLength_);
+      }
+      if (offset_ != 0L) {
+        output.writeInt64(5, offset_);
+      }
+      if (fileSize_ != 0L) {
+        output.writeInt64(6, fileSize_);
+      }
+      if (compressed_ != false) {
+        output.writeBool(7, compressed_);
+      }
+      if (uncompressedLength_ != 0) {
+        output.writeInt32(8, uncompressedLength_);
       }
       getUnknownFields().writeTo(output);
     }
@@ -566,16 +14935,36 @@ public final class File {
       if (size != -1) return size;
 
       size = 0;
-      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(peerName_)) {
-        size += com.google.protobuf.GeneratedMessage.computeStringSize(1, peerName_);
+      if (!data_.isEmpty()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(1, data_);
       }
-      {
-        int dataSize = 0;
-        for (int i = 0; i < fileNames_.size(); i++) {
-          dataSize += computeStringSizeNoTag(fileNames_.getRaw(i));
-        }
-        size += dataSize;
-        size += 1 * getFileNamesList().size();
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(fileName_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(2, fileName_);
+      }
+      if (isLastChunk_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(3, isLastChunk_);
+      }
+      if (payloadLength_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(4, payloadLength_);
+      }
+      if (offset_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(5, offset_);
+      }
+      if (fileSize_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(6, fileSize_);
+      }
+      if (compressed_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(7, compressed_);
+      }
+      if (uncompressedLength_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(8, uncompressedLength_);
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSize = size;
@@ -587,15 +14976,27 @@ public final class File {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof File.GetFilesResponse)) {
+      if (!(obj instanceof File.FileResponse)) {
         return super.equals(obj);
       }
-      File.GetFilesResponse other = (File.GetFilesResponse) obj;
+      File.FileResponse other = (File.FileResponse) obj;
 
-      if (!getPeerName()
-          .equals(other.getPeerName())) return false;
-      if (!getFileNamesList()
-          .equals(other.getFileNamesList())) return false;
+      if (!getData()
+          .equals(other.getData())) return false;
+      if (!getFileName()
+          .equals(other.getFileName())) return false;
+      if (getIsLastChunk()
+          != other.getIsLastChunk()) return false;
+      if (getPayloadLength()
+          != other.getPayloadLength()) return false;
+      if (getOffset()
+          != other.getOffset()) return false;
+      if (getFileSize()
+          != other.getFileSize()) return false;
+      if (getCompressed()
+          != other.getCompressed()) return false;
+      if (getUncompressedLength()
+          != other.getUncompressedLength()) return false;
       if (!getUnknownFields().equals(other.getUnknownFields())) return false;
       return true;
     }
@@ -607,55 +15008,70 @@ public final class File {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
-      hash = (37 * hash) + PEERNAME_FIELD_NUMBER;
-      hash = (53 * hash) + getPeerName().hashCode();
-      if (getFileNamesCount() > 0) {
-        hash = (37 * hash) + FILENAMES_FIELD_NUMBER;
-        hash = (53 * hash) + getFileNamesList().hashCode();
-      }
+      hash = (37 * hash) + DATA_FIELD_NUMBER;
+      hash = (53 * hash) + getData().hashCode();
+      hash = (37 * hash) + FILENAME_FIELD_NUMBER;
+      hash = (53 * hash) + getFileName().hashCode();
+      hash = (37 * hash) + ISLASTCHUNK_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getIsLastChunk());
+      hash = (37 * hash) + PAYLOADLENGTH_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getPayloadLength());
+      hash = (37 * hash) + OFFSET_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getOffset());
+      hash = (37 * hash) + FILESIZE_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getFileSize());
+      hash = (37 * hash) + COMPRESSED_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getCompressed());
+      hash = (37 * hash) + UNCOMPRESSEDLENGTH_FIELD_NUMBER;
+      hash = (53 * hash) + getUncompressedLength();
       hash = (29 * hash) + getUnknownFields().hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static File.GetFilesResponse parseFrom(
+    public static File.FileResponse parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static File.GetFilesResponse parseFrom(
+    public static File.FileResponse parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static File.GetFilesResponse parseFrom(
+    public static File.FileResponse parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static File.GetFilesResponse parseFrom(
+    public static File.FileResponse parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static File.GetFilesResponse parseFrom(byte[] data)
+    public static File.FileResponse parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static File.GetFilesResponse parseFrom(
+    public static File.FileResponse parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static File.GetFilesResponse parseFrom(java.io.InputStream input)
+    public static File.FileResponse parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseWithIOException(PARSER, input);
     }
-    public static File.GetFilesResponse parseFrom(
+    public static File.FileResponse parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -663,26 +15079,26 @@ public final class File {
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
 
-    public static File.GetFilesResponse parseDelimitedFrom(java.io.InputStream input)
+    public static File.FileResponse parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseDelimitedWithIOException(PARSER, input);
     }
 
-    public static File.GetFilesResponse parseDelimitedFrom(
+    public static File.FileResponse parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static File.GetFilesResponse parseFrom(
+    public static File.FileResponse parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseWithIOException(PARSER, input);
     }
-    public static File.GetFilesResponse parseFrom(
+    public static File.FileResponse parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -695,7 +15111,7 @@ public final class File {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(File.GetFilesResponse prototype) {
+    public static Builder newBuilder(File.FileResponse prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -711,26 +15127,26 @@ public final class File {
       return builder;
     }
     /**
-     * Protobuf type {@code GetFilesResponse}
+     * Protobuf type {@code FileResponse}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:GetFilesResponse)
-        File.GetFilesResponseOrBuilder {
+        // @@protoc_insertion_point(builder_implements:FileResponse)
+        File.FileResponseOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return File.internal_static_GetFilesResponse_descriptor;
+        return File.internal_static_FileResponse_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return File.internal_static_GetFilesResponse_fieldAccessorTable
+        return File.internal_static_FileResponse_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                File.GetFilesResponse.class, File.GetFilesResponse.Builder.class);
+                File.FileResponse.class, File.FileResponse.Builder.class);
       }
 
-      // Construct using File.GetFilesResponse.newBuilder()
+      // Construct using File.FileResponse.newBuilder()
       private Builder() {
 
       }
@@ -744,26 +15160,31 @@ public final class File {
       public Builder clear() {
         super.clear();
         bitField0_ = 0;
-        peerName_ = "";
-        fileNames_ =
-            com.google.protobuf.LazyStringArrayList.emptyList();
+        data_ = com.google.protobuf.ByteString.EMPTY;
+        fileName_ = "";
+        isLastChunk_ = false;
+        payloadLength_ = 0L;
+        offset_ = 0L;
+        fileSize_ = 0L;
+        compressed_ = false;
+        uncompressedLength_ = 0;
         return this;
       }
 
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return File.internal_static_GetFilesResponse_descriptor;
+        return File.internal_static_FileResponse_descriptor;
       }
 
       @java.lang.Override
-      public File.GetFilesResponse getDefaultInstanceForType() {
-        return File.GetFilesResponse.getDefaultInstance();
+      public File.FileResponse getDefaultInstanceForType() {
+        return File.FileResponse.getDefaultInstance();
       }
 
       @java.lang.Override
-      public File.GetFilesResponse build() {
-        File.GetFilesResponse result = buildPartial();
+      public File.FileResponse build() {
+        File.FileResponse result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -771,51 +15192,79 @@ public final class File {
       }
 
       @java.lang.Override
-      public File.GetFilesResponse buildPartial() {
-        File.GetFilesResponse result = new File.GetFilesResponse(this);
+      public File.FileResponse buildPartial() {
+        File.FileResponse result = new File.FileResponse(this);
         if (bitField0_ != 0) { buildPartial0(result); }
         onBuilt();
         return result;
       }
 
-      private void buildPartial0(File.GetFilesResponse result) {
+      private void buildPartial0(File.FileResponse result) {
         int from_bitField0_ = bitField0_;
         if (((from_bitField0_ & 0x00000001) != 0)) {
-          result.peerName_ = peerName_;
+          result.data_ = data_;
         }
         if (((from_bitField0_ & 0x00000002) != 0)) {
-          fileNames_.makeImmutable();
-          result.fileNames_ = fileNames_;
+          result.fileName_ = fileName_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.isLastChunk_ = isLastChunk_;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.payloadLength_ = payloadLength_;
+        }
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          result.offset_ = offset_;
+        }
+        if (((from_bitField0_ & 0x00000020) != 0)) {
+          result.fileSize_ = fileSize_;
+        }
+        if (((from_bitField0_ & 0x00000040) != 0)) {
+          result.compressed_ = compressed_;
+        }
+        if (((from_bitField0_ & 0x00000080) != 0)) {
+          result.uncompressedLength_ = uncompressedLength_;
         }
       }
 
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof File.GetFilesResponse) {
-          return mergeFrom((File.GetFilesResponse)other);
+        if (other instanceof File.FileResponse) {
+          return mergeFrom((File.FileResponse)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(File.GetFilesResponse other) {
-        if (other == File.GetFilesResponse.getDefaultInstance()) return this;
-        if (!other.getPeerName().isEmpty()) {
-          peerName_ = other.peerName_;
-          bitField0_ |= 0x00000001;
-          onChanged();
+      public Builder mergeFrom(File.FileResponse other) {
+        if (other == File.FileResponse.getDefaultInstance()) return this;
+        if (other.getData() != com.google.protobuf.ByteString.EMPTY) {
+          setData(other.getData());
         }
-        if (!other.fileNames_.isEmpty()) {
-          if (fileNames_.isEmpty()) {
-            fileNames_ = other.fileNames_;
-            bitField0_ |= 0x00000002;
-          } else {
-            ensureFileNamesIsMutable();
-            fileNames_.addAll(other.fileNames_);
-          }
+        if (!other.getFileName().isEmpty()) {
+          fileName_ = other.fileName_;
+          bitField0_ |= 0x00000002;
           onChanged();
         }
+        if (other.getIsLastChunk() != false) {
+          setIsLastChunk(other.getIsLastChunk());
+        }
+        if (other.getPayloadLength() != 0L) {
+          setPayloadLength(other.getPayloadLength());
+        }
+        if (other.getOffset() != 0L) {
+          setOffset(other.getOffset());
+        }
+        if (other.getFileSize() != 0L) {
+          setFileSize(other.getFileSize());
+        }
+        if (other.getCompressed() != false) {
+          setCompressed(other.getCompressed());
+        }
+        if (other.getUncompressedLength() != 0) {
+          setUncompressedLength(other.getUncompressedLength());
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         onChanged();
         return this;
@@ -843,16 +15292,45 @@ public final class File {
                 done = true;
                 break;
               case 10: {
-                peerName_ = input.readStringRequireUtf8();
+                data_ = input.readBytes();
                 bitField0_ |= 0x00000001;
                 break;
               } // case 10
-              case 26: {
-                java.lang.String s = input.readStringRequireUtf8();
-                ensureFileNamesIsMutable();
-                fileNames_.add(s);
+              case 18: {
+                fileName_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000002;
                 break;
-              } // case 26
+              } // case 18
+              case 24: {
+                isLastChunk_ = input.readBool();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 24
+              case 32: {
+                payloadLength_ = input.readInt64();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 32
+              case 40: {
+                offset_ = input.readInt64();
+                bitField0_ |= 0x00000010;
+                break;
+              } // case 40
+              case 48: {
+                fileSize_ = input.readInt64();
+                bitField0_ |= 0x00000020;
+                break;
+              } // case 48
+              case 56: {
+                compressed_ = input.readBool();
+                bitField0_ |= 0x00000040;
+                break;
+              } // case 56
+              case 64: {
+                uncompressedLength_ = input.readInt32();
+                bitField0_ |= 0x00000080;
+                break;
+              } // case 64
               default: {
                 if (!super.parseUnknownField(input, extensionRegistry, tag)) {
                   done = true; // was an endgroup tag
@@ -870,206 +15348,319 @@ public final class File {
       }
       private int bitField0_;
 
-      private java.lang.Object peerName_ = "";
+      private com.google.protobuf.ByteString data_ = com.google.protobuf.ByteString.EMPTY;
       /**
-       * <code>string peerName = 1;</code>
-       * @return The peerName.
+       * <code>bytes data = 1;</code>
+       * @return The data.
        */
-      public java.lang.String getPeerName() {
-        java.lang.Object ref = peerName_;
+      @java.lang.Override
+      public com.google.protobuf.ByteString getData() {
+        return data_;
+      }
+      /**
+       * <code>bytes data = 1;</code>
+       * @param value The data to set.
+       * @return This builder for chaining.
+       */
+      public Builder setData(com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        data_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bytes data = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearData() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        data_ = getDefaultInstance().getData();
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object fileName_ = "";
+      /**
+       * <code>string fileName = 2;</code>
+       * @return The fileName.
+       */
+      public java.lang.String getFileName() {
+        java.lang.Object ref = fileName_;
         if (!(ref instanceof java.lang.String)) {
           com.google.protobuf.ByteString bs =
               (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
-          peerName_ = s;
+          fileName_ = s;
           return s;
         } else {
           return (java.lang.String) ref;
         }
       }
       /**
-       * <code>string peerName = 1;</code>
-       * @return The bytes for peerName.
+       * <code>string fileName = 2;</code>
+       * @return The bytes for fileName.
        */
       public com.google.protobuf.ByteString
-          getPeerNameBytes() {
-        java.lang.Object ref = peerName_;
+          getFileNameBytes() {
+        java.lang.Object ref = fileName_;
         if (ref instanceof String) {
           com.google.protobuf.ByteString b = 
               com.google.protobuf.ByteString.copyFromUtf8(
                   (java.lang.String) ref);
-          peerName_ = b;
+          fileName_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
       /**
-       * <code>string peerName = 1;</code>
-       * @param value The peerName to set.
+       * <code>string fileName = 2;</code>
+       * @param value The fileName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setFileName(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        fileName_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string fileName = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearFileName() {
+        fileName_ = getDefaultInstance().getFileName();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string fileName = 2;</code>
+       * @param value The bytes for fileName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setFileNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        fileName_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+
+      private boolean isLastChunk_ ;
+      /**
+       * <code>bool isLastChunk = 3;</code>
+       * @return The isLastChunk.
+       */
+      @java.lang.Override
+      public boolean getIsLastChunk() {
+        return isLastChunk_;
+      }
+      /**
+       * <code>bool isLastChunk = 3;</code>
+       * @param value The isLastChunk to set.
        * @return This builder for chaining.
        */
-      public Builder setPeerName(
-          java.lang.String value) {
-        if (value == null) { throw new NullPointerException(); }
-        peerName_ = value;
-        bitField0_ |= 0x00000001;
+      public Builder setIsLastChunk(boolean value) {
+
+        isLastChunk_ = value;
+        bitField0_ |= 0x00000004;
         onChanged();
         return this;
       }
       /**
-       * <code>string peerName = 1;</code>
+       * <code>bool isLastChunk = 3;</code>
        * @return This builder for chaining.
        */
-      public Builder clearPeerName() {
-        peerName_ = getDefaultInstance().getPeerName();
-        bitField0_ = (bitField0_ & ~0x00000001);
+      public Builder clearIsLastChunk() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        isLastChunk_ = false;
         onChanged();
         return this;
       }
+
+      private long payloadLength_ ;
       /**
-       * <code>string peerName = 1;</code>
-       * @param value The bytes for peerName to set.
+       * <code>int64 payloadLength = 4;</code>
+       * @return The payloadLength.
+       */
+      @java.lang.Override
+      public long getPayloadLength() {
+        return payloadLength_;
+      }
+      /**
+       * <code>int64 payloadLength = 4;</code>
+       * @param value The payloadLength to set.
        * @return This builder for chaining.
        */
-      public Builder setPeerNameBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) { throw new NullPointerException(); }
-        checkByteStringIsUtf8(value);
-        peerName_ = value;
-        bitField0_ |= 0x00000001;
+      public Builder setPayloadLength(long value) {
+
+        payloadLength_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 payloadLength = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPayloadLength() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        payloadLength_ = 0L;
         onChanged();
         return this;
       }
 
-      private com.google.protobuf.LazyStringArrayList fileNames_ =
-          com.google.protobuf.LazyStringArrayList.emptyList();
-      private void ensureFileNamesIsMutable() {
-        if (!fileNames_.isModifiable()) {
-          fileNames_ = new com.google.protobuf.LazyStringArrayList(fileNames_);
-        }
-        bitField0_ |= 0x00000002;
+      private long offset_ ;
+      /**
+       * <code>int64 offset = 5;</code>
+       * @return The offset.
+       */
+      @java.lang.Override
+      public long getOffset() {
+        return offset_;
       }
       /**
-       * <code>repeated string fileNames = 3;</code>
-       * @return A list containing the fileNames.
+       * <code>int64 offset = 5;</code>
+       * @param value The offset to set.
+       * @return This builder for chaining.
        */
-      public com.google.protobuf.ProtocolStringList
-          getFileNamesList() {
-        fileNames_.makeImmutable();
-        return fileNames_;
+      public Builder setOffset(long value) {
+
+        offset_ = value;
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
       }
       /**
-       * <code>repeated string fileNames = 3;</code>
-       * @return The count of fileNames.
+       * <code>int64 offset = 5;</code>
+       * @return This builder for chaining.
        */
-      public int getFileNamesCount() {
-        return fileNames_.size();
+      public Builder clearOffset() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        offset_ = 0L;
+        onChanged();
+        return this;
       }
+
+      private long fileSize_ ;
       /**
-       * <code>repeated string fileNames = 3;</code>
-       * @param index The index of the element to return.
-       * @return The fileNames at the given index.
+       * <code>int64 fileSize = 6;</code>
+       * @return The fileSize.
        */
-      public java.lang.String getFileNames(int index) {
-        return fileNames_.get(index);
+      @java.lang.Override
+      public long getFileSize() {
+        return fileSize_;
       }
       /**
-       * <code>repeated string fileNames = 3;</code>
-       * @param index The index of the value to return.
-       * @return The bytes of the fileNames at the given index.
+       * <code>int64 fileSize = 6;</code>
+       * @param value The fileSize to set.
+       * @return This builder for chaining.
        */
-      public com.google.protobuf.ByteString
-          getFileNamesBytes(int index) {
-        return fileNames_.getByteString(index);
+      public Builder setFileSize(long value) {
+
+        fileSize_ = value;
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
       }
       /**
-       * <code>repeated string fileNames = 3;</code>
-       * @param index The index to set the value at.
-       * @param value The fileNames to set.
+       * <code>int64 fileSize = 6;</code>
        * @return This builder for chaining.
        */
-      public Builder setFileNames(
-          int index, java.lang.String value) {
-        if (value == null) { throw new NullPointerException(); }
-        ensureFileNamesIsMutable();
-        fileNames_.set(index, value);
-        bitField0_ |= 0x00000002;
+      public Builder clearFileSize() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        fileSize_ = 0L;
         onChanged();
         return this;
       }
+
+      private boolean compressed_ ;
       /**
-       * <code>repeated string fileNames = 3;</code>
-       * @param value The fileNames to add.
+       * <code>bool compressed = 7;</code>
+       * @return The compressed.
+       */
+      @java.lang.Override
+      public boolean getCompressed() {
+        return compressed_;
+      }
+      /**
+       * <code>bool compressed = 7;</code>
+       * @param value The compressed to set.
        * @return This builder for chaining.
        */
-      public Builder addFileNames(
-          java.lang.String value) {
-        if (value == null) { throw new NullPointerException(); }
-        ensureFileNamesIsMutable();
-        fileNames_.add(value);
-        bitField0_ |= 0x00000002;
+      public Builder setCompressed(boolean value) {
+
+        compressed_ = value;
+        bitField0_ |= 0x00000040;
         onChanged();
         return this;
       }
       /**
-       * <code>repeated string fileNames = 3;</code>
-       * @param values The fileNames to add.
+       * <code>bool compressed = 7;</code>
        * @return This builder for chaining.
        */
-      public Builder addAllFileNames(
-          java.lang.Iterable<java.lang.String> values) {
-        ensureFileNamesIsMutable();
-        com.google.protobuf.AbstractMessageLite.Builder.addAll(
-            values, fileNames_);
-        bitField0_ |= 0x00000002;
+      public Builder clearCompressed() {
+        bitField0_ = (bitField0_ & ~0x00000040);
+        compressed_ = false;
         onChanged();
         return this;
       }
+
+      private int uncompressedLength_ ;
+      /**
+       * <code>int32 uncompressedLength = 8;</code>
+       * @return The uncompressedLength.
+       */
+      @java.lang.Override
+      public int getUncompressedLength() {
+        return uncompressedLength_;
+      }
       /**
-       * <code>repeated string fileNames = 3;</code>
+       * <code>int32 uncompressedLength = 8;</code>
+       * @param value The uncompressedLength to set.
        * @return This builder for chaining.
        */
-      public Builder clearFileNames() {
-        fileNames_ =
-          com.google.protobuf.LazyStringArrayList.emptyList();
-        bitField0_ = (bitField0_ & ~0x00000002);;
+      public Builder setUncompressedLength(int value) {
+
+        uncompressedLength_ = value;
+        bitField0_ |= 0x00000080;
         onChanged();
         return this;
       }
       /**
-       * <code>repeated string fileNames = 3;</code>
-       * @param value The bytes of the fileNames to add.
+       * <code>int32 uncompressedLength = 8;</code>
        * @return This builder for chaining.
        */
-      public Builder addFileNamesBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) { throw new NullPointerException(); }
-        checkByteStringIsUtf8(value);
-        ensureFileNamesIsMutable();
-        fileNames_.add(value);
-        bitField0_ |= 0x00000002;
+      public Builder clearUncompressedLength() {
+        bitField0_ = (bitField0_ & ~0x00000080);
+        uncompressedLength_ = 0;
         onChanged();
         return this;
       }
 
-      // @@protoc_insertion_point(builder_scope:GetFilesResponse)
+      // @@protoc_insertion_point(builder_scope:FileResponse)
     }
 
-    // @@protoc_insertion_point(class_scope:GetFilesResponse)
-    private static final File.GetFilesResponse DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:FileResponse)
+    private static final File.FileResponse DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new File.GetFilesResponse();
+      DEFAULT_INSTANCE = new File.FileResponse();
     }
 
-    public static File.GetFilesResponse getDefaultInstance() {
+    public static File.FileResponse getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<GetFilesResponse>
-        PARSER = new com.google.protobuf.AbstractParser<GetFilesResponse>() {
+    private static final com.google.protobuf.Parser<FileResponse>
+        PARSER = new com.google.protobuf.AbstractParser<FileResponse>() {
       @java.lang.Override
-      public GetFilesResponse parsePartialFrom(
+      public FileResponse parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
@@ -1088,24 +15679,24 @@ public final class File {
       }
     };
 
-    public static com.google.protobuf.Parser<GetFilesResponse> parser() {
+    public static com.google.protobuf.Parser<FileResponse> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<GetFilesResponse> getParserForType() {
+    public com.google.protobuf.Parser<FileResponse> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public File.GetFilesResponse getDefaultInstanceForType() {
+    public File.FileResponse getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface FileRequestOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:FileRequest)
+  public interface FileInfoRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:FileInfoRequest)
       com.google.protobuf.MessageOrBuilder {
 
     /**
@@ -1119,14 +15710,20 @@ public final class File {
      */
     com.google.protobuf.ByteString
         getFileNameBytes();
+
+    /**
+     * <code>int32 pieceSize = 2;</code>
+     * @return The pieceSize.
+     */
+    int getPieceSize();
   }
   /**
-   * Protobuf type {@code FileRequest}
+   * Protobuf type {@code FileInfoRequest}
    */
-  public static final class FileRequest extends
+  public static final class FileInfoRequest extends
       com.google.protobuf.GeneratedMessage implements
-      // @@protoc_insertion_point(message_implements:FileRequest)
-      FileRequestOrBuilder {
+      // @@protoc_insertion_point(message_implements:FileInfoRequest)
+      FileInfoRequestOrBuilder {
   private static final long serialVersionUID = 0L;
     static {
       com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
@@ -1135,27 +15732,27 @@ public final class File {
         /* minor= */ 29,
         /* patch= */ 2,
         /* suffix= */ "",
-        FileRequest.class.getName());
+        FileInfoRequest.class.getName());
     }
-    // Use FileRequest.newBuilder() to construct.
-    private FileRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+    // Use FileInfoRequest.newBuilder() to construct.
+    private FileInfoRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
     }
-    private FileRequest() {
+    private FileInfoRequest() {
       fileName_ = "";
     }
 
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return File.internal_static_FileRequest_descriptor;
+      return File.internal_static_FileInfoRequest_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return File.internal_static_FileRequest_fieldAccessorTable
+      return File.internal_static_FileInfoRequest_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              File.FileRequest.class, File.FileRequest.Builder.class);
+              File.FileInfoRequest.class, File.FileInfoRequest.Builder.class);
     }
 
     public static final int FILENAME_FIELD_NUMBER = 1;
@@ -1197,6 +15794,17 @@ public final class File {
       }
     }
 
+    public static final int PIECESIZE_FIELD_NUMBER = 2;
+    private int pieceSize_ = 0;
+    /**
+     * <code>int32 pieceSize = 2;</code>
+     * @return The pieceSize.
+     */
+    @java.lang.Override
+    public int getPieceSize() {
+      return pieceSize_;
+    }
+
     private byte memoizedIsInitialized = -1;
     @java.lang.Override
     public final boolean isInitialized() {
@@ -1214,6 +15822,9 @@ public final class File {
       if (!com.google.protobuf.GeneratedMessage.isStringEmpty(fileName_)) {
         com.google.protobuf.GeneratedMessage.writeString(output, 1, fileName_);
       }
+      if (pieceSize_ != 0) {
+        output.writeInt32(2, pieceSize_);
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -1226,6 +15837,10 @@ public final class File {
       if (!com.google.protobuf.GeneratedMessage.isStringEmpty(fileName_)) {
         size += com.google.protobuf.GeneratedMessage.computeStringSize(1, fileName_);
       }
+      if (pieceSize_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, pieceSize_);
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSize = size;
       return size;
@@ -1236,13 +15851,15 @@ public final class File {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof File.FileRequest)) {
+      if (!(obj instanceof File.FileInfoRequest)) {
         return super.equals(obj);
       }
-      File.FileRequest other = (File.FileRequest) obj;
+      File.FileInfoRequest other = (File.FileInfoRequest) obj;
 
       if (!getFileName()
           .equals(other.getFileName())) return false;
+      if (getPieceSize()
+          != other.getPieceSize()) return false;
       if (!getUnknownFields().equals(other.getUnknownFields())) return false;
       return true;
     }
@@ -1256,49 +15873,51 @@ public final class File {
       hash = (19 * hash) + getDescriptor().hashCode();
       hash = (37 * hash) + FILENAME_FIELD_NUMBER;
       hash = (53 * hash) + getFileName().hashCode();
+      hash = (37 * hash) + PIECESIZE_FIELD_NUMBER;
+      hash = (53 * hash) + getPieceSize();
       hash = (29 * hash) + getUnknownFields().hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static File.FileRequest parseFrom(
+    public static File.FileInfoRequest parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static File.FileRequest parseFrom(
+    public static File.FileInfoRequest parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static File.FileRequest parseFrom(
+    public static File.FileInfoRequest parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static File.FileRequest parseFrom(
+    public static File.FileInfoRequest parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static File.FileRequest parseFrom(byte[] data)
+    public static File.FileInfoRequest parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static File.FileRequest parseFrom(
+    public static File.FileInfoRequest parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static File.FileRequest parseFrom(java.io.InputStream input)
+    public static File.FileInfoRequest parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseWithIOException(PARSER, input);
     }
-    public static File.FileRequest parseFrom(
+    public static File.FileInfoRequest parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -1306,26 +15925,26 @@ public final class File {
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
 
-    public static File.FileRequest parseDelimitedFrom(java.io.InputStream input)
+    public static File.FileInfoRequest parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseDelimitedWithIOException(PARSER, input);
     }
 
-    public static File.FileRequest parseDelimitedFrom(
+    public static File.FileInfoRequest parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static File.FileRequest parseFrom(
+    public static File.FileInfoRequest parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseWithIOException(PARSER, input);
     }
-    public static File.FileRequest parseFrom(
+    public static File.FileInfoRequest parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -1338,7 +15957,7 @@ public final class File {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(File.FileRequest prototype) {
+    public static Builder newBuilder(File.FileInfoRequest prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -1354,26 +15973,26 @@ public final class File {
       return builder;
     }
     /**
-     * Protobuf type {@code FileRequest}
+     * Protobuf type {@code FileInfoRequest}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:FileRequest)
-        File.FileRequestOrBuilder {
+        // @@protoc_insertion_point(builder_implements:FileInfoRequest)
+        File.FileInfoRequestOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return File.internal_static_FileRequest_descriptor;
+        return File.internal_static_FileInfoRequest_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return File.internal_static_FileRequest_fieldAccessorTable
+        return File.internal_static_FileInfoRequest_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                File.FileRequest.class, File.FileRequest.Builder.class);
+                File.FileInfoRequest.class, File.FileInfoRequest.Builder.class);
       }
 
-      // Construct using File.FileRequest.newBuilder()
+      // Construct using File.FileInfoRequest.newBuilder()
       private Builder() {
 
       }
@@ -1388,23 +16007,24 @@ public final class File {
         super.clear();
         bitField0_ = 0;
         fileName_ = "";
+        pieceSize_ = 0;
         return this;
       }
 
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return File.internal_static_FileRequest_descriptor;
+        return File.internal_static_FileInfoRequest_descriptor;
       }
 
       @java.lang.Override
-      public File.FileRequest getDefaultInstanceForType() {
-        return File.FileRequest.getDefaultInstance();
+      public File.FileInfoRequest getDefaultInstanceForType() {
+        return File.FileInfoRequest.getDefaultInstance();
       }
 
       @java.lang.Override
-      public File.FileRequest build() {
-        File.FileRequest result = buildPartial();
+      public File.FileInfoRequest build() {
+        File.FileInfoRequest result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -1412,37 +16032,43 @@ public final class File {
       }
 
       @java.lang.Override
-      public File.FileRequest buildPartial() {
-        File.FileRequest result = new File.FileRequest(this);
+      public File.FileInfoRequest buildPartial() {
+        File.FileInfoRequest result = new File.FileInfoRequest(this);
         if (bitField0_ != 0) { buildPartial0(result); }
         onBuilt();
         return result;
       }
 
-      private void buildPartial0(File.FileRequest result) {
+      private void buildPartial0(File.FileInfoRequest result) {
         int from_bitField0_ = bitField0_;
         if (((from_bitField0_ & 0x00000001) != 0)) {
           result.fileName_ = fileName_;
         }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.pieceSize_ = pieceSize_;
+        }
       }
 
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof File.FileRequest) {
-          return mergeFrom((File.FileRequest)other);
+        if (other instanceof File.FileInfoRequest) {
+          return mergeFrom((File.FileInfoRequest)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(File.FileRequest other) {
-        if (other == File.FileRequest.getDefaultInstance()) return this;
+      public Builder mergeFrom(File.FileInfoRequest other) {
+        if (other == File.FileInfoRequest.getDefaultInstance()) return this;
         if (!other.getFileName().isEmpty()) {
           fileName_ = other.fileName_;
           bitField0_ |= 0x00000001;
           onChanged();
         }
+        if (other.getPieceSize() != 0) {
+          setPieceSize(other.getPieceSize());
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         onChanged();
         return this;
@@ -1474,6 +16100,11 @@ public final class File {
                 bitField0_ |= 0x00000001;
                 break;
               } // case 10
+              case 16: {
+                pieceSize_ = input.readInt32();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 16
               default: {
                 if (!super.parseUnknownField(input, extensionRegistry, tag)) {
                   done = true; // was an endgroup tag
@@ -1563,23 +16194,55 @@ public final class File {
         return this;
       }
 
-      // @@protoc_insertion_point(builder_scope:FileRequest)
+      private int pieceSize_ ;
+      /**
+       * <code>int32 pieceSize = 2;</code>
+       * @return The pieceSize.
+       */
+      @java.lang.Override
+      public int getPieceSize() {
+        return pieceSize_;
+      }
+      /**
+       * <code>int32 pieceSize = 2;</code>
+       * @param value The pieceSize to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPieceSize(int value) {
+
+        pieceSize_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 pieceSize = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPieceSize() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        pieceSize_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:FileInfoRequest)
     }
 
-    // @@protoc_insertion_point(class_scope:FileRequest)
-    private static final File.FileRequest DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:FileInfoRequest)
+    private static final File.FileInfoRequest DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new File.FileRequest();
+      DEFAULT_INSTANCE = new File.FileInfoRequest();
     }
 
-    public static File.FileRequest getDefaultInstance() {
+    public static File.FileInfoRequest getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<FileRequest>
-        PARSER = new com.google.protobuf.AbstractParser<FileRequest>() {
+    private static final com.google.protobuf.Parser<FileInfoRequest>
+        PARSER = new com.google.protobuf.AbstractParser<FileInfoRequest>() {
       @java.lang.Override
-      public FileRequest parsePartialFrom(
+      public FileInfoRequest parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
@@ -1598,57 +16261,92 @@ public final class File {
       }
     };
 
-    public static com.google.protobuf.Parser<FileRequest> parser() {
+    public static com.google.protobuf.Parser<FileInfoRequest> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<FileRequest> getParserForType() {
+    public com.google.protobuf.Parser<FileInfoRequest> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public File.FileRequest getDefaultInstanceForType() {
+    public File.FileInfoRequest getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface FileResponseOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:FileResponse)
-      com.google.protobuf.MessageOrBuilder {
-
-    /**
-     * <code>bytes data = 1;</code>
-     * @return The data.
-     */
-    com.google.protobuf.ByteString getData();
-
+  public interface FileInfoResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:FileInfoResponse)
+      com.google.protobuf.MessageOrBuilder {
+
     /**
-     * <code>string fileName = 2;</code>
+     * <code>string fileName = 1;</code>
      * @return The fileName.
      */
     java.lang.String getFileName();
     /**
-     * <code>string fileName = 2;</code>
+     * <code>string fileName = 1;</code>
      * @return The bytes for fileName.
      */
     com.google.protobuf.ByteString
         getFileNameBytes();
 
     /**
-     * <code>bool isLastChunk = 3;</code>
-     * @return The isLastChunk.
+     * <code>bool found = 2;</code>
+     * @return The found.
      */
-    boolean getIsLastChunk();
+    boolean getFound();
+
+    /**
+     * <code>int64 fileSize = 3;</code>
+     * @return The fileSize.
+     */
+    long getFileSize();
+
+    /**
+     * <code>bytes contentHash = 4;</code>
+     * @return The contentHash.
+     */
+    com.google.protobuf.ByteString getContentHash();
+
+    /**
+     * <code>bytes pieceBitmap = 5;</code>
+     * @return The pieceBitmap.
+     */
+    com.google.protobuf.ByteString getPieceBitmap();
+
+    /**
+     * <code>repeated bytes pieceHashes = 6;</code>
+     * @return A list containing the pieceHashes.
+     */
+    java.util.List<com.google.protobuf.ByteString> getPieceHashesList();
+    /**
+     * <code>repeated bytes pieceHashes = 6;</code>
+     * @return The count of pieceHashes.
+     */
+    int getPieceHashesCount();
+    /**
+     * <code>repeated bytes pieceHashes = 6;</code>
+     * @param index The index of the element to return.
+     * @return The pieceHashes at the given index.
+     */
+    com.google.protobuf.ByteString getPieceHashes(int index);
+
+    /**
+     * <code>bytes merkleRoot = 7;</code>
+     * @return The merkleRoot.
+     */
+    com.google.protobuf.ByteString getMerkleRoot();
   }
   /**
-   * Protobuf type {@code FileResponse}
+   * Protobuf type {@code FileInfoResponse}
    */
-  public static final class FileResponse extends
+  public static final class FileInfoResponse extends
       com.google.protobuf.GeneratedMessage implements
-      // @@protoc_insertion_point(message_implements:FileResponse)
-      FileResponseOrBuilder {
+      // @@protoc_insertion_point(message_implements:FileInfoResponse)
+      FileInfoResponseOrBuilder {
   private static final long serialVersionUID = 0L;
     static {
       com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
@@ -1657,46 +16355,38 @@ public final class File {
         /* minor= */ 29,
         /* patch= */ 2,
         /* suffix= */ "",
-        FileResponse.class.getName());
+        FileInfoResponse.class.getName());
     }
-    // Use FileResponse.newBuilder() to construct.
-    private FileResponse(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+    // Use FileInfoResponse.newBuilder() to construct.
+    private FileInfoResponse(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
     }
-    private FileResponse() {
-      data_ = com.google.protobuf.ByteString.EMPTY;
+    private FileInfoResponse() {
       fileName_ = "";
+      contentHash_ = com.google.protobuf.ByteString.EMPTY;
+      pieceBitmap_ = com.google.protobuf.ByteString.EMPTY;
+      pieceHashes_ = emptyList(com.google.protobuf.ByteString.class);
+      merkleRoot_ = com.google.protobuf.ByteString.EMPTY;
     }
 
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return File.internal_static_FileResponse_descriptor;
+      return File.internal_static_FileInfoResponse_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return File.internal_static_FileResponse_fieldAccessorTable
+      return File.internal_static_FileInfoResponse_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              File.FileResponse.class, File.FileResponse.Builder.class);
-    }
-
-    public static final int DATA_FIELD_NUMBER = 1;
-    private com.google.protobuf.ByteString data_ = com.google.protobuf.ByteString.EMPTY;
-    /**
-     * <code>bytes data = 1;</code>
-     * @return The data.
-     */
-    @java.lang.Override
-    public com.google.protobuf.ByteString getData() {
-      return data_;
+              File.FileInfoResponse.class, File.FileInfoResponse.Builder.class);
     }
 
-    public static final int FILENAME_FIELD_NUMBER = 2;
+    public static final int FILENAME_FIELD_NUMBER = 1;
     @SuppressWarnings("serial")
     private volatile java.lang.Object fileName_ = "";
     /**
-     * <code>string fileName = 2;</code>
+     * <code>string fileName = 1;</code>
      * @return The fileName.
      */
     @java.lang.Override
@@ -1713,7 +16403,7 @@ public final class File {
       }
     }
     /**
-     * <code>string fileName = 2;</code>
+     * <code>string fileName = 1;</code>
      * @return The bytes for fileName.
      */
     @java.lang.Override
@@ -1731,15 +16421,88 @@ public final class File {
       }
     }
 
-    public static final int ISLASTCHUNK_FIELD_NUMBER = 3;
-    private boolean isLastChunk_ = false;
+    public static final int FOUND_FIELD_NUMBER = 2;
+    private boolean found_ = false;
     /**
-     * <code>bool isLastChunk = 3;</code>
-     * @return The isLastChunk.
+     * <code>bool found = 2;</code>
+     * @return The found.
      */
     @java.lang.Override
-    public boolean getIsLastChunk() {
-      return isLastChunk_;
+    public boolean getFound() {
+      return found_;
+    }
+
+    public static final int FILESIZE_FIELD_NUMBER = 3;
+    private long fileSize_ = 0L;
+    /**
+     * <code>int64 fileSize = 3;</code>
+     * @return The fileSize.
+     */
+    @java.lang.Override
+    public long getFileSize() {
+      return fileSize_;
+    }
+
+    public static final int CONTENTHASH_FIELD_NUMBER = 4;
+    private com.google.protobuf.ByteString contentHash_ = com.google.protobuf.ByteString.EMPTY;
+    /**
+     * <code>bytes contentHash = 4;</code>
+     * @return The contentHash.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString getContentHash() {
+      return contentHash_;
+    }
+
+    public static final int PIECEBITMAP_FIELD_NUMBER = 5;
+    private com.google.protobuf.ByteString pieceBitmap_ = com.google.protobuf.ByteString.EMPTY;
+    /**
+     * <code>bytes pieceBitmap = 5;</code>
+     * @return The pieceBitmap.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString getPieceBitmap() {
+      return pieceBitmap_;
+    }
+
+    public static final int PIECEHASHES_FIELD_NUMBER = 6;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.Internal.ProtobufList<com.google.protobuf.ByteString> pieceHashes_ =
+        emptyList(com.google.protobuf.ByteString.class);
+    /**
+     * <code>repeated bytes pieceHashes = 6;</code>
+     * @return A list containing the pieceHashes.
+     */
+    @java.lang.Override
+    public java.util.List<com.google.protobuf.ByteString>
+        getPieceHashesList() {
+      return pieceHashes_;
+    }
+    /**
+     * <code>repeated bytes pieceHashes = 6;</code>
+     * @return The count of pieceHashes.
+     */
+    public int getPieceHashesCount() {
+      return pieceHashes_.size();
+    }
+    /**
+     * <code>repeated bytes pieceHashes = 6;</code>
+     * @param index The index of the element to return.
+     * @return The pieceHashes at the given index.
+     */
+    public com.google.protobuf.ByteString getPieceHashes(int index) {
+      return pieceHashes_.get(index);
+    }
+
+    public static final int MERKLEROOT_FIELD_NUMBER = 7;
+    private com.google.protobuf.ByteString merkleRoot_ = com.google.protobuf.ByteString.EMPTY;
+    /**
+     * <code>bytes merkleRoot = 7;</code>
+     * @return The merkleRoot.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString getMerkleRoot() {
+      return merkleRoot_;
     }
 
     private byte memoizedIsInitialized = -1;
@@ -1756,14 +16519,26 @@ public final class File {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (!data_.isEmpty()) {
-        output.writeBytes(1, data_);
-      }
       if (!com.google.protobuf.GeneratedMessage.isStringEmpty(fileName_)) {
-        com.google.protobuf.GeneratedMessage.writeString(output, 2, fileName_);
+        com.google.protobuf.GeneratedMessage.writeString(output, 1, fileName_);
       }
-      if (isLastChunk_ != false) {
-        output.writeBool(3, isLastChunk_);
+      if (found_ != false) {
+        output.writeBool(2, found_);
+      }
+      if (fileSize_ != 0L) {
+        output.writeInt64(3, fileSize_);
+      }
+      if (!contentHash_.isEmpty()) {
+        output.writeBytes(4, contentHash_);
+      }
+      if (!pieceBitmap_.isEmpty()) {
+        output.writeBytes(5, pieceBitmap_);
+      }
+      for (int i = 0; i < pieceHashes_.size(); i++) {
+        output.writeBytes(6, pieceHashes_.get(i));
+      }
+      if (!merkleRoot_.isEmpty()) {
+        output.writeBytes(7, merkleRoot_);
       }
       getUnknownFields().writeTo(output);
     }
@@ -1774,16 +16549,37 @@ public final class File {
       if (size != -1) return size;
 
       size = 0;
-      if (!data_.isEmpty()) {
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(fileName_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(1, fileName_);
+      }
+      if (found_ != false) {
         size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(1, data_);
+          .computeBoolSize(2, found_);
       }
-      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(fileName_)) {
-        size += com.google.protobuf.GeneratedMessage.computeStringSize(2, fileName_);
+      if (fileSize_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(3, fileSize_);
       }
-      if (isLastChunk_ != false) {
+      if (!contentHash_.isEmpty()) {
         size += com.google.protobuf.CodedOutputStream
-          .computeBoolSize(3, isLastChunk_);
+          .computeBytesSize(4, contentHash_);
+      }
+      if (!pieceBitmap_.isEmpty()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(5, pieceBitmap_);
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < pieceHashes_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeBytesSizeNoTag(pieceHashes_.get(i));
+        }
+        size += dataSize;
+        size += 1 * getPieceHashesList().size();
+      }
+      if (!merkleRoot_.isEmpty()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(7, merkleRoot_);
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSize = size;
@@ -1795,17 +16591,25 @@ public final class File {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof File.FileResponse)) {
+      if (!(obj instanceof File.FileInfoResponse)) {
         return super.equals(obj);
       }
-      File.FileResponse other = (File.FileResponse) obj;
+      File.FileInfoResponse other = (File.FileInfoResponse) obj;
 
-      if (!getData()
-          .equals(other.getData())) return false;
       if (!getFileName()
           .equals(other.getFileName())) return false;
-      if (getIsLastChunk()
-          != other.getIsLastChunk()) return false;
+      if (getFound()
+          != other.getFound()) return false;
+      if (getFileSize()
+          != other.getFileSize()) return false;
+      if (!getContentHash()
+          .equals(other.getContentHash())) return false;
+      if (!getPieceBitmap()
+          .equals(other.getPieceBitmap())) return false;
+      if (!getPieceHashesList()
+          .equals(other.getPieceHashesList())) return false;
+      if (!getMerkleRoot()
+          .equals(other.getMerkleRoot())) return false;
       if (!getUnknownFields().equals(other.getUnknownFields())) return false;
       return true;
     }
@@ -1817,56 +16621,67 @@ public final class File {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
-      hash = (37 * hash) + DATA_FIELD_NUMBER;
-      hash = (53 * hash) + getData().hashCode();
       hash = (37 * hash) + FILENAME_FIELD_NUMBER;
       hash = (53 * hash) + getFileName().hashCode();
-      hash = (37 * hash) + ISLASTCHUNK_FIELD_NUMBER;
+      hash = (37 * hash) + FOUND_FIELD_NUMBER;
       hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
-          getIsLastChunk());
+          getFound());
+      hash = (37 * hash) + FILESIZE_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getFileSize());
+      hash = (37 * hash) + CONTENTHASH_FIELD_NUMBER;
+      hash = (53 * hash) + getContentHash().hashCode();
+      hash = (37 * hash) + PIECEBITMAP_FIELD_NUMBER;
+      hash = (53 * hash) + getPieceBitmap().hashCode();
+      if (getPieceHashesCount() > 0) {
+        hash = (37 * hash) + PIECEHASHES_FIELD_NUMBER;
+        hash = (53 * hash) + getPieceHashesList().hashCode();
+      }
+      hash = (37 * hash) + MERKLEROOT_FIELD_NUMBER;
+      hash = (53 * hash) + getMerkleRoot().hashCode();
       hash = (29 * hash) + getUnknownFields().hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static File.FileResponse parseFrom(
+    public static File.FileInfoResponse parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static File.FileResponse parseFrom(
+    public static File.FileInfoResponse parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static File.FileResponse parseFrom(
+    public static File.FileInfoResponse parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static File.FileResponse parseFrom(
+    public static File.FileInfoResponse parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static File.FileResponse parseFrom(byte[] data)
+    public static File.FileInfoResponse parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static File.FileResponse parseFrom(
+    public static File.FileInfoResponse parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static File.FileResponse parseFrom(java.io.InputStream input)
+    public static File.FileInfoResponse parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseWithIOException(PARSER, input);
     }
-    public static File.FileResponse parseFrom(
+    public static File.FileInfoResponse parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -1874,26 +16689,26 @@ public final class File {
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
 
-    public static File.FileResponse parseDelimitedFrom(java.io.InputStream input)
+    public static File.FileInfoResponse parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseDelimitedWithIOException(PARSER, input);
     }
 
-    public static File.FileResponse parseDelimitedFrom(
+    public static File.FileInfoResponse parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static File.FileResponse parseFrom(
+    public static File.FileInfoResponse parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseWithIOException(PARSER, input);
     }
-    public static File.FileResponse parseFrom(
+    public static File.FileInfoResponse parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -1906,7 +16721,7 @@ public final class File {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(File.FileResponse prototype) {
+    public static Builder newBuilder(File.FileInfoResponse prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -1922,26 +16737,26 @@ public final class File {
       return builder;
     }
     /**
-     * Protobuf type {@code FileResponse}
+     * Protobuf type {@code FileInfoResponse}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:FileResponse)
-        File.FileResponseOrBuilder {
+        // @@protoc_insertion_point(builder_implements:FileInfoResponse)
+        File.FileInfoResponseOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return File.internal_static_FileResponse_descriptor;
+        return File.internal_static_FileInfoResponse_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return File.internal_static_FileResponse_fieldAccessorTable
+        return File.internal_static_FileInfoResponse_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                File.FileResponse.class, File.FileResponse.Builder.class);
+                File.FileInfoResponse.class, File.FileInfoResponse.Builder.class);
       }
 
-      // Construct using File.FileResponse.newBuilder()
+      // Construct using File.FileInfoResponse.newBuilder()
       private Builder() {
 
       }
@@ -1955,26 +16770,30 @@ public final class File {
       public Builder clear() {
         super.clear();
         bitField0_ = 0;
-        data_ = com.google.protobuf.ByteString.EMPTY;
         fileName_ = "";
-        isLastChunk_ = false;
+        found_ = false;
+        fileSize_ = 0L;
+        contentHash_ = com.google.protobuf.ByteString.EMPTY;
+        pieceBitmap_ = com.google.protobuf.ByteString.EMPTY;
+        pieceHashes_ = emptyList(com.google.protobuf.ByteString.class);
+        merkleRoot_ = com.google.protobuf.ByteString.EMPTY;
         return this;
       }
 
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return File.internal_static_FileResponse_descriptor;
+        return File.internal_static_FileInfoResponse_descriptor;
       }
 
       @java.lang.Override
-      public File.FileResponse getDefaultInstanceForType() {
-        return File.FileResponse.getDefaultInstance();
+      public File.FileInfoResponse getDefaultInstanceForType() {
+        return File.FileInfoResponse.getDefaultInstance();
       }
 
       @java.lang.Override
-      public File.FileResponse build() {
-        File.FileResponse result = buildPartial();
+      public File.FileInfoResponse build() {
+        File.FileInfoResponse result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -1982,48 +16801,81 @@ public final class File {
       }
 
       @java.lang.Override
-      public File.FileResponse buildPartial() {
-        File.FileResponse result = new File.FileResponse(this);
+      public File.FileInfoResponse buildPartial() {
+        File.FileInfoResponse result = new File.FileInfoResponse(this);
         if (bitField0_ != 0) { buildPartial0(result); }
         onBuilt();
         return result;
       }
 
-      private void buildPartial0(File.FileResponse result) {
+      private void buildPartial0(File.FileInfoResponse result) {
         int from_bitField0_ = bitField0_;
         if (((from_bitField0_ & 0x00000001) != 0)) {
-          result.data_ = data_;
+          result.fileName_ = fileName_;
         }
         if (((from_bitField0_ & 0x00000002) != 0)) {
-          result.fileName_ = fileName_;
+          result.found_ = found_;
         }
         if (((from_bitField0_ & 0x00000004) != 0)) {
-          result.isLastChunk_ = isLastChunk_;
+          result.fileSize_ = fileSize_;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.contentHash_ = contentHash_;
+        }
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          result.pieceBitmap_ = pieceBitmap_;
+        }
+        if (((from_bitField0_ & 0x00000020) != 0)) {
+          pieceHashes_.makeImmutable();
+          result.pieceHashes_ = pieceHashes_;
+        }
+        if (((from_bitField0_ & 0x00000040) != 0)) {
+          result.merkleRoot_ = merkleRoot_;
         }
       }
 
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof File.FileResponse) {
-          return mergeFrom((File.FileResponse)other);
+        if (other instanceof File.FileInfoResponse) {
+          return mergeFrom((File.FileInfoResponse)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(File.FileResponse other) {
-        if (other == File.FileResponse.getDefaultInstance()) return this;
-        if (other.getData() != com.google.protobuf.ByteString.EMPTY) {
-          setData(other.getData());
-        }
+      public Builder mergeFrom(File.FileInfoResponse other) {
+        if (other == File.FileInfoResponse.getDefaultInstance()) return this;
         if (!other.getFileName().isEmpty()) {
           fileName_ = other.fileName_;
-          bitField0_ |= 0x00000002;
+          bitField0_ |= 0x00000001;
           onChanged();
         }
-        if (other.getIsLastChunk() != false) {
-          setIsLastChunk(other.getIsLastChunk());
+        if (other.getFound() != false) {
+          setFound(other.getFound());
+        }
+        if (other.getFileSize() != 0L) {
+          setFileSize(other.getFileSize());
+        }
+        if (other.getContentHash() != com.google.protobuf.ByteString.EMPTY) {
+          setContentHash(other.getContentHash());
+        }
+        if (other.getPieceBitmap() != com.google.protobuf.ByteString.EMPTY) {
+          setPieceBitmap(other.getPieceBitmap());
+        }
+        if (!other.pieceHashes_.isEmpty()) {
+          if (pieceHashes_.isEmpty()) {
+            pieceHashes_ = other.pieceHashes_;
+            pieceHashes_.makeImmutable();
+            bitField0_ |= 0x00000020;
+          } else {
+            ensurePieceHashesIsMutable();
+            pieceHashes_.addAll(other.pieceHashes_);
+          }
+          onChanged();
+        }
+        if (other.getMerkleRoot() != com.google.protobuf.ByteString.EMPTY) {
+          setMerkleRoot(other.getMerkleRoot());
         }
         this.mergeUnknownFields(other.getUnknownFields());
         onChanged();
@@ -2052,72 +16904,61 @@ public final class File {
                 done = true;
                 break;
               case 10: {
-                data_ = input.readBytes();
-                bitField0_ |= 0x00000001;
-                break;
-              } // case 10
-              case 18: {
-                fileName_ = input.readStringRequireUtf8();
-                bitField0_ |= 0x00000002;
-                break;
-              } // case 18
-              case 24: {
-                isLastChunk_ = input.readBool();
-                bitField0_ |= 0x00000004;
-                break;
-              } // case 24
-              default: {
-                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
-                  done = true; // was an endgroup tag
-                }
-                break;
-              } // default:
-            } // switch (tag)
-          } // while (!done)
-        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          throw e.unwrapIOException();
-        } finally {
-          onChanged();
-        } // finally
-        return this;
-      }
-      private int bitField0_;
-
-      private com.google.protobuf.ByteString data_ = com.google.protobuf.ByteString.EMPTY;
-      /**
-       * <code>bytes data = 1;</code>
-       * @return The data.
-       */
-      @java.lang.Override
-      public com.google.protobuf.ByteString getData() {
-        return data_;
-      }
-      /**
-       * <code>bytes data = 1;</code>
-       * @param value The data to set.
-       * @return This builder for chaining.
-       */
-      public Builder setData(com.google.protobuf.ByteString value) {
-        if (value == null) { throw new NullPointerException(); }
-        data_ = value;
-        bitField0_ |= 0x00000001;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>bytes data = 1;</code>
-       * @return This builder for chaining.
-       */
-      public Builder clearData() {
-        bitField0_ = (bitField0_ & ~0x00000001);
-        data_ = getDefaultInstance().getData();
-        onChanged();
+                fileName_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 16: {
+                found_ = input.readBool();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 16
+              case 24: {
+                fileSize_ = input.readInt64();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 24
+              case 34: {
+                contentHash_ = input.readBytes();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 34
+              case 42: {
+                pieceBitmap_ = input.readBytes();
+                bitField0_ |= 0x00000010;
+                break;
+              } // case 42
+              case 50: {
+                com.google.protobuf.ByteString v = input.readBytes();
+                ensurePieceHashesIsMutable();
+                pieceHashes_.add(v);
+                break;
+              } // case 50
+              case 58: {
+                merkleRoot_ = input.readBytes();
+                bitField0_ |= 0x00000040;
+                break;
+              } // case 58
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
         return this;
       }
+      private int bitField0_;
 
       private java.lang.Object fileName_ = "";
       /**
-       * <code>string fileName = 2;</code>
+       * <code>string fileName = 1;</code>
        * @return The fileName.
        */
       public java.lang.String getFileName() {
@@ -2133,7 +16974,7 @@ public final class File {
         }
       }
       /**
-       * <code>string fileName = 2;</code>
+       * <code>string fileName = 1;</code>
        * @return The bytes for fileName.
        */
       public com.google.protobuf.ByteString
@@ -2150,7 +16991,7 @@ public final class File {
         }
       }
       /**
-       * <code>string fileName = 2;</code>
+       * <code>string fileName = 1;</code>
        * @param value The fileName to set.
        * @return This builder for chaining.
        */
@@ -2158,22 +16999,22 @@ public final class File {
           java.lang.String value) {
         if (value == null) { throw new NullPointerException(); }
         fileName_ = value;
-        bitField0_ |= 0x00000002;
+        bitField0_ |= 0x00000001;
         onChanged();
         return this;
       }
       /**
-       * <code>string fileName = 2;</code>
+       * <code>string fileName = 1;</code>
        * @return This builder for chaining.
        */
       public Builder clearFileName() {
         fileName_ = getDefaultInstance().getFileName();
-        bitField0_ = (bitField0_ & ~0x00000002);
+        bitField0_ = (bitField0_ & ~0x00000001);
         onChanged();
         return this;
       }
       /**
-       * <code>string fileName = 2;</code>
+       * <code>string fileName = 1;</code>
        * @param value The bytes for fileName to set.
        * @return This builder for chaining.
        */
@@ -2182,60 +17023,272 @@ public final class File {
         if (value == null) { throw new NullPointerException(); }
         checkByteStringIsUtf8(value);
         fileName_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private boolean found_ ;
+      /**
+       * <code>bool found = 2;</code>
+       * @return The found.
+       */
+      @java.lang.Override
+      public boolean getFound() {
+        return found_;
+      }
+      /**
+       * <code>bool found = 2;</code>
+       * @param value The found to set.
+       * @return This builder for chaining.
+       */
+      public Builder setFound(boolean value) {
+
+        found_ = value;
         bitField0_ |= 0x00000002;
         onChanged();
         return this;
       }
+      /**
+       * <code>bool found = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearFound() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        found_ = false;
+        onChanged();
+        return this;
+      }
 
-      private boolean isLastChunk_ ;
+      private long fileSize_ ;
       /**
-       * <code>bool isLastChunk = 3;</code>
-       * @return The isLastChunk.
+       * <code>int64 fileSize = 3;</code>
+       * @return The fileSize.
        */
       @java.lang.Override
-      public boolean getIsLastChunk() {
-        return isLastChunk_;
+      public long getFileSize() {
+        return fileSize_;
       }
       /**
-       * <code>bool isLastChunk = 3;</code>
-       * @param value The isLastChunk to set.
+       * <code>int64 fileSize = 3;</code>
+       * @param value The fileSize to set.
        * @return This builder for chaining.
        */
-      public Builder setIsLastChunk(boolean value) {
+      public Builder setFileSize(long value) {
 
-        isLastChunk_ = value;
+        fileSize_ = value;
         bitField0_ |= 0x00000004;
         onChanged();
         return this;
       }
       /**
-       * <code>bool isLastChunk = 3;</code>
+       * <code>int64 fileSize = 3;</code>
        * @return This builder for chaining.
        */
-      public Builder clearIsLastChunk() {
+      public Builder clearFileSize() {
         bitField0_ = (bitField0_ & ~0x00000004);
-        isLastChunk_ = false;
+        fileSize_ = 0L;
         onChanged();
         return this;
       }
 
-      // @@protoc_insertion_point(builder_scope:FileResponse)
+      private com.google.protobuf.ByteString contentHash_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>bytes contentHash = 4;</code>
+       * @return The contentHash.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString getContentHash() {
+        return contentHash_;
+      }
+      /**
+       * <code>bytes contentHash = 4;</code>
+       * @param value The contentHash to set.
+       * @return This builder for chaining.
+       */
+      public Builder setContentHash(com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        contentHash_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bytes contentHash = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearContentHash() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        contentHash_ = getDefaultInstance().getContentHash();
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.ByteString pieceBitmap_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>bytes pieceBitmap = 5;</code>
+       * @return The pieceBitmap.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString getPieceBitmap() {
+        return pieceBitmap_;
+      }
+      /**
+       * <code>bytes pieceBitmap = 5;</code>
+       * @param value The pieceBitmap to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPieceBitmap(com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        pieceBitmap_ = value;
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bytes pieceBitmap = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPieceBitmap() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        pieceBitmap_ = getDefaultInstance().getPieceBitmap();
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.Internal.ProtobufList<com.google.protobuf.ByteString> pieceHashes_ = emptyList(com.google.protobuf.ByteString.class);
+      private void ensurePieceHashesIsMutable() {
+        if (!pieceHashes_.isModifiable()) {
+          pieceHashes_ = makeMutableCopy(pieceHashes_);
+        }
+        bitField0_ |= 0x00000020;
+      }
+      /**
+       * <code>repeated bytes pieceHashes = 6;</code>
+       * @return A list containing the pieceHashes.
+       */
+      public java.util.List<com.google.protobuf.ByteString>
+          getPieceHashesList() {
+        pieceHashes_.makeImmutable();
+        return pieceHashes_;
+      }
+      /**
+       * <code>repeated bytes pieceHashes = 6;</code>
+       * @return The count of pieceHashes.
+       */
+      public int getPieceHashesCount() {
+        return pieceHashes_.size();
+      }
+      /**
+       * <code>repeated bytes pieceHashes = 6;</code>
+       * @param index The index of the element to return.
+       * @return The pieceHashes at the given index.
+       */
+      public com.google.protobuf.ByteString getPieceHashes(int index) {
+        return pieceHashes_.get(index);
+      }
+      /**
+       * <code>repeated bytes pieceHashes = 6;</code>
+       * @param index The index to set the value at.
+       * @param value The pieceHashes to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPieceHashes(
+          int index, com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensurePieceHashesIsMutable();
+        pieceHashes_.set(index, value);
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated bytes pieceHashes = 6;</code>
+       * @param value The pieceHashes to add.
+       * @return This builder for chaining.
+       */
+      public Builder addPieceHashes(com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensurePieceHashesIsMutable();
+        pieceHashes_.add(value);
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated bytes pieceHashes = 6;</code>
+       * @param values The pieceHashes to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllPieceHashes(
+          java.lang.Iterable<? extends com.google.protobuf.ByteString> values) {
+        ensurePieceHashesIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, pieceHashes_);
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated bytes pieceHashes = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPieceHashes() {
+        pieceHashes_ = emptyList(com.google.protobuf.ByteString.class);
+        bitField0_ = (bitField0_ & ~0x00000020);
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.ByteString merkleRoot_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>bytes merkleRoot = 7;</code>
+       * @return The merkleRoot.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString getMerkleRoot() {
+        return merkleRoot_;
+      }
+      /**
+       * <code>bytes merkleRoot = 7;</code>
+       * @param value The merkleRoot to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMerkleRoot(com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        merkleRoot_ = value;
+        bitField0_ |= 0x00000040;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bytes merkleRoot = 7;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearMerkleRoot() {
+        bitField0_ = (bitField0_ & ~0x00000040);
+        merkleRoot_ = getDefaultInstance().getMerkleRoot();
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:FileInfoResponse)
     }
 
-    // @@protoc_insertion_point(class_scope:FileResponse)
-    private static final File.FileResponse DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:FileInfoResponse)
+    private static final File.FileInfoResponse DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new File.FileResponse();
+      DEFAULT_INSTANCE = new File.FileInfoResponse();
     }
 
-    public static File.FileResponse getDefaultInstance() {
+    public static File.FileInfoResponse getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<FileResponse>
-        PARSER = new com.google.protobuf.AbstractParser<FileResponse>() {
+    private static final com.google.protobuf.Parser<FileInfoResponse>
+        PARSER = new com.google.protobuf.AbstractParser<FileInfoResponse>() {
       @java.lang.Override
-      public FileResponse parsePartialFrom(
+      public FileInfoResponse parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
@@ -2254,17 +17307,17 @@ public final class File {
       }
     };
 
-    public static com.google.protobuf.Parser<FileResponse> parser() {
+    public static com.google.protobuf.Parser<FileInfoResponse> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<FileResponse> getParserForType() {
+    public com.google.protobuf.Parser<FileInfoResponse> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public File.FileResponse getDefaultInstanceForType() {
+    public File.FileInfoResponse getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
@@ -2275,11 +17328,86 @@ public final class File {
   private static final 
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_GetFilesRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_FileEntry_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_FileEntry_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_GetFilesResponse_descriptor;
   private static final 
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_GetFilesResponse_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_DirectoryRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_DirectoryRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_DirectoryResponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_DirectoryResponse_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_PackedFileRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_PackedFileRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_PackedFileEntry_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_PackedFileEntry_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_PackedFileResponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_PackedFileResponse_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_DeltaRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_DeltaRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_BlockRange_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_BlockRange_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_DeltaInstruction_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_DeltaInstruction_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_DeltaResponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_DeltaResponse_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_ChunkEntry_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_ChunkEntry_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_ChunkListRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_ChunkListRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_ChunkListResponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_ChunkListResponse_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_ChunkRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_ChunkRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_ChunkResponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_ChunkResponse_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_FileRequest_descriptor;
   private static final 
@@ -2290,6 +17418,16 @@ public final class File {
   private static final 
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_FileResponse_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_FileInfoRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_FileInfoRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_FileInfoResponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_FileInfoResponse_fieldAccessorTable;
 
   public static com.google.protobuf.Descriptors.FileDescriptor
       getDescriptor() {
@@ -2299,12 +17437,53 @@ public final class File {
       descriptor;
   static {
     java.lang.String[] descriptorData = {
-      "\n\034src/main/protobuf/file.proto\"\021\n\017GetFil" +
-      "esRequest\"7\n\020GetFilesResponse\022\020\n\010peerNam" +
-      "e\030\001 \001(\t\022\021\n\tfileNames\030\003 \003(\t\"\037\n\013FileReques" +
-      "t\022\020\n\010fileName\030\001 \001(\t\"C\n\014FileResponse\022\014\n\004d" +
-      "ata\030\001 \001(\014\022\020\n\010fileName\030\002 \001(\t\022\023\n\013isLastChu" +
-      "nk\030\003 \001(\010b\006proto3"
+      "\n\034src/main/protobuf/file.proto\"Q\n\017GetFil" +
+      "esRequest\022\016\n\006prefix\030\001 \001(\t\022\014\n\004glob\030\002 \001(\t\022" +
+      "\016\n\006cursor\030\003 \001(\t\022\020\n\010pageSize\030\004 \001(\005\"Z\n\tFil" +
+      "eEntry\022\020\n\010fileName\030\001 \001(\t\022\020\n\010fileSize\030\002 \001" +
+      "(\003\022\024\n\014lastModified\030\003 \001(\003\022\023\n\013contentHash\030" +
+      "\004 \001(\014\"Y\n\020GetFilesResponse\022\020\n\010peerName\030\001 " +
+      "\001(\t\022\031\n\005files\030\004 \003(\0132\n.FileEntry\022\022\n\nnextCu" +
+      "rsor\030\005 \001(\tJ\004\010\003\020\004\")\n\020DirectoryRequest\022\025\n\r" +
+      "directoryName\030\001 \001(\t\"T\n\021DirectoryResponse" +
+      "\022\025\n\rdirectoryName\030\001 \001(\t\022\r\n\005found\030\002 \001(\010\022\031" +
+      "\n\005files\030\003 \003(\0132\n.FileEntry\"=\n\021PackedFileR" +
+      "equest\022\025\n\rdirectoryName\030\001 \001(\t\022\021\n\tfileNam" +
+      "es\030\002 \003(\t\"R\n\017PackedFileEntry\022\020\n\010fileName\030" +
+      "\001 \001(\t\022\r\n\005found\030\002 \001(\010\022\016\n\006offset\030\003 \001(\005\022\016\n\006" +
+      "length\030\004 \001(\005\"\233\001\n\022PackedFileResponse\022\025\n\rd" +
+      "irectoryName\030\001 \001(\t\022\037\n\005files\030\002 \003(\0132\020.Pack" +
+      "edFileEntry\022\014\n\004data\030\003 \001(\014\022\022\n\ncompressed\030" +
+      "\004 \001(\010\022\032\n\022uncompressedLength\030\005 \001(\005\022\017\n\007has" +
+      "More\030\006 \001(\010\"c\n\014DeltaRequest\022\020\n\010fileName\030\001" +
+      " \001(\t\022\021\n\tblockSize\030\002 \001(\005\022\025\n\rweakChecksums" +
+      "\030\003 \003(\007\022\027\n\017strongChecksums\030\004 \003(\006\"4\n\nBlock" +
+      "Range\022\022\n\nblockIndex\030\001 \001(\005\022\022\n\nblockCount\030" +
+      "\002 \001(\005\"Q\n\020DeltaInstruction\022\033\n\004copy\030\001 \001(\0132" +
+      "\013.BlockRangeH\000\022\021\n\007literal\030\002 \001(\014H\000B\r\n\013ins" +
+      "truction\"i\n\rDeltaResponse\022\020\n\010fileName\030\001 " +
+      "\001(\t\022\r\n\005found\030\002 \001(\010\022\'\n\014instructions\030\003 \003(\013" +
+      "2\021.DeltaInstruction\022\016\n\006isLast\030\004 \001(\010\":\n\nC" +
+      "hunkEntry\022\014\n\004hash\030\001 \001(\014\022\016\n\006offset\030\002 \001(\003\022" +
+      "\016\n\006length\030\003 \001(\005\"$\n\020ChunkListRequest\022\020\n\010f" +
+      "ileName\030\001 \001(\t\"a\n\021ChunkListResponse\022\020\n\010fi" +
+      "leName\030\001 \001(\t\022\r\n\005found\030\002 \001(\010\022\033\n\006chunks\030\003 " +
+      "\003(\0132\013.ChunkEntry\022\016\n\006isLast\030\004 \001(\010\"=\n\014Chun" +
+      "kRequest\022\020\n\010fileName\030\001 \001(\t\022\033\n\006chunks\030\002 \003" +
+      "(\0132\013.ChunkEntry\"L\n\rChunkResponse\022\020\n\010file" +
+      "Name\030\001 \001(\t\022\033\n\006chunks\030\002 \003(\0132\013.ChunkEntry\022" +
+      "\014\n\004data\030\003 \001(\014\"?\n\013FileRequest\022\020\n\010fileName" +
+      "\030\001 \001(\t\022\016\n\006offset\030\002 \001(\003\022\016\n\006length\030\003 \001(\003\"\254" +
+      "\001\n\014FileResponse\022\014\n\004data\030\001 \001(\014\022\020\n\010fileNam" +
+      "e\030\002 \001(\t\022\023\n\013isLastChunk\030\003 \001(\010\022\025\n\rpayloadL" +
+      "ength\030\004 \001(\003\022\016\n\006offset\030\005 \001(\003\022\020\n\010fileSize\030" +
+      "\006 \001(\003\022\022\n\ncompressed\030\007 \001(\010\022\032\n\022uncompresse" +
+      "dLength\030\010 \001(\005\"6\n\017FileInfoRequest\022\020\n\010file" +
+      "Name\030\001 \001(\t\022\021\n\tpieceSize\030\002 \001(\005\"\230\001\n\020FileIn" +
+      "foResponse\022\020\n\010fileName\030\001 \001(\t\022\r\n\005found\030\002 " +
+      "\001(\010\022\020\n\010fileSize\030\003 \001(\003\022\023\n\013contentHash\030\004 \001" +
+      "(\014\022\023\n\013pieceBitmap\030\005 \001(\014\022\023\n\013pieceHashes\030\006" +
+      " \003(\014\022\022\n\nmerkleRoot\030\007 \001(\014b\006proto3"
     };
     descriptor = com.google.protobuf.Descriptors.FileDescriptor
       .internalBuildGeneratedFileFrom(descriptorData,
@@ -2315,25 +17494,127 @@ public final class File {
     internal_static_GetFilesRequest_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_GetFilesRequest_descriptor,
-        new java.lang.String[] { });
-    internal_static_GetFilesResponse_descriptor =
+        new java.lang.String[] { "Prefix", "Glob", "Cursor", "PageSize", });
+    internal_static_FileEntry_descriptor =
       getDescriptor().getMessageTypes().get(1);
+    internal_static_FileEntry_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_FileEntry_descriptor,
+        new java.lang.String[] { "FileName", "FileSize", "LastModified", "ContentHash", });
+    internal_static_GetFilesResponse_descriptor =
+      getDescriptor().getMessageTypes().get(2);
     internal_static_GetFilesResponse_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_GetFilesResponse_descriptor,
-        new java.lang.String[] { "PeerName", "FileNames", });
+        new java.lang.String[] { "PeerName", "Files", "NextCursor", });
+    internal_static_DirectoryRequest_descriptor =
+      getDescriptor().getMessageTypes().get(3);
+    internal_static_DirectoryRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_DirectoryRequest_descriptor,
+        new java.lang.String[] { "DirectoryName", });
+    internal_static_DirectoryResponse_descriptor =
+      getDescriptor().getMessageTypes().get(4);
+    internal_static_DirectoryResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_DirectoryResponse_descriptor,
+        new java.lang.String[] { "DirectoryName", "Found", "Files", });
+    internal_static_PackedFileRequest_descriptor =
+      getDescriptor().getMessageTypes().get(5);
+    internal_static_PackedFileRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_PackedFileRequest_descriptor,
+        new java.lang.String[] { "DirectoryName", "FileNames", });
+    internal_static_PackedFileEntry_descriptor =
+      getDescriptor().getMessageTypes().get(6);
+    internal_static_PackedFileEntry_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_PackedFileEntry_descriptor,
+        new java.lang.String[] { "FileName", "Found", "Offset", "Length", });
+    internal_static_PackedFileResponse_descriptor =
+      getDescriptor().getMessageTypes().get(7);
+    internal_static_PackedFileResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_PackedFileResponse_descriptor,
+        new java.lang.String[] { "DirectoryName", "Files", "Data", "Compressed", "UncompressedLength", "HasMore", });
+    internal_static_DeltaRequest_descriptor =
+      getDescriptor().getMessageTypes().get(8);
+    internal_static_DeltaRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_DeltaRequest_descriptor,
+        new java.lang.String[] { "FileName", "BlockSize", "WeakChecksums", "StrongChecksums", });
+    internal_static_BlockRange_descriptor =
+      getDescriptor().getMessageTypes().get(9);
+    internal_static_BlockRange_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_BlockRange_descriptor,
+        new java.lang.String[] { "BlockIndex", "BlockCount", });
+    internal_static_DeltaInstruction_descriptor =
+      getDescriptor().getMessageTypes().get(10);
+    internal_static_DeltaInstruction_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_DeltaInstruction_descriptor,
+        new java.lang.String[] { "Copy", "Literal", "Instruction", });
+    internal_static_DeltaResponse_descriptor =
+      getDescriptor().getMessageTypes().get(11);
+    internal_static_DeltaResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_DeltaResponse_descriptor,
+        new java.lang.String[] { "FileName", "Found", "Instructions", "IsLast", });
+    internal_static_ChunkEntry_descriptor =
+      getDescriptor().getMessageTypes().get(12);
+    internal_static_ChunkEntry_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_ChunkEntry_descriptor,
+        new java.lang.String[] { "Hash", "Offset", "Length", });
+    internal_static_ChunkListRequest_descriptor =
+      getDescriptor().getMessageTypes().get(13);
+    internal_static_ChunkListRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_ChunkListRequest_descriptor,
+        new java.lang.String[] { "FileName", });
+    internal_static_ChunkListResponse_descriptor =
+      getDescriptor().getMessageTypes().get(14);
+    internal_static_ChunkListResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_ChunkListResponse_descriptor,
+        new java.lang.String[] { "FileName", "Found", "Chunks", "IsLast", });
+    internal_static_ChunkRequest_descriptor =
+      getDescriptor().getMessageTypes().get(15);
+    internal_static_ChunkRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_ChunkRequest_descriptor,
+        new java.lang.String[] { "FileName", "Chunks", });
+    internal_static_ChunkResponse_descriptor =
+      getDescriptor().getMessageTypes().get(16);
+    internal_static_ChunkResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_ChunkResponse_descriptor,
+        new java.lang.String[] { "FileName", "Chunks", "Data", });
     internal_static_FileRequest_descriptor =
-      getDescriptor().getMessageTypes().get(2);
+      getDescriptor().getMessageTypes().get(17);
     internal_static_FileRequest_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_FileRequest_descriptor,
-        new java.lang.String[] { "FileName", });
+        new java.lang.String[] { "FileName", "Offset", "Length", });
     internal_static_FileResponse_descriptor =
-      getDescriptor().getMessageTypes().get(3);
+      getDescriptor().getMessageTypes().get(18);
     internal_static_FileResponse_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_FileResponse_descriptor,
-        new java.lang.String[] { "Data", "FileName", "IsLastChunk", });
+        new java.lang.String[] { "Data", "FileName", "IsLastChunk", "PayloadLength", "Offset", "FileSize", "Compressed", "UncompressedLength", });
+    internal_static_FileInfoRequest_descriptor =
+      getDescriptor().getMessageTypes().get(19);
+    internal_static_FileInfoRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_FileInfoRequest_descriptor,
+        new java.lang.String[] { "FileName", "PieceSize", });
+    internal_static_FileInfoResponse_descriptor =
+      getDescriptor().getMessageTypes().get(20);
+    internal_static_FileInfoResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_FileInfoResponse_descriptor,
+        new java.lang.String[] { "FileName", "Found", "FileSize", "ContentHash", "PieceBitmap", "PieceHashes", "MerkleRoot", });
     descriptor.resolveAllFeaturesImmutable();
   }
 
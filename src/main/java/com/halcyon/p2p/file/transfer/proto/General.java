@@ -179,6 +179,186 @@ public final class General {
      */
     File.FileResponseOrBuilder getFileResponseOrBuilder();
 
+    /**
+     * <code>.FileInfoRequest fileInfoRequest = 11;</code>
+     * @return Whether the fileInfoRequest field is set.
+     */
+    boolean hasFileInfoRequest();
+    /**
+     * <code>.FileInfoRequest fileInfoRequest = 11;</code>
+     * @return The fileInfoRequest.
+     */
+    File.FileInfoRequest getFileInfoRequest();
+    /**
+     * <code>.FileInfoRequest fileInfoRequest = 11;</code>
+     */
+    File.FileInfoRequestOrBuilder getFileInfoRequestOrBuilder();
+
+    /**
+     * <code>.FileInfoResponse fileInfoResponse = 12;</code>
+     * @return Whether the fileInfoResponse field is set.
+     */
+    boolean hasFileInfoResponse();
+    /**
+     * <code>.FileInfoResponse fileInfoResponse = 12;</code>
+     * @return The fileInfoResponse.
+     */
+    File.FileInfoResponse getFileInfoResponse();
+    /**
+     * <code>.FileInfoResponse fileInfoResponse = 12;</code>
+     */
+    File.FileInfoResponseOrBuilder getFileInfoResponseOrBuilder();
+
+    /**
+     * <code>.DirectoryRequest directoryRequest = 13;</code>
+     * @return Whether the directoryRequest field is set.
+     */
+    boolean hasDirectoryRequest();
+    /**
+     * <code>.DirectoryRequest directoryRequest = 13;</code>
+     * @return The directoryRequest.
+     */
+    File.DirectoryRequest getDirectoryRequest();
+    /**
+     * <code>.DirectoryRequest directoryRequest = 13;</code>
+     */
+    File.DirectoryRequestOrBuilder getDirectoryRequestOrBuilder();
+
+    /**
+     * <code>.DirectoryResponse directoryResponse = 14;</code>
+     * @return Whether the directoryResponse field is set.
+     */
+    boolean hasDirectoryResponse();
+    /**
+     * <code>.DirectoryResponse directoryResponse = 14;</code>
+     * @return The directoryResponse.
+     */
+    File.DirectoryResponse getDirectoryResponse();
+    /**
+     * <code>.DirectoryResponse directoryResponse = 14;</code>
+     */
+    File.DirectoryResponseOrBuilder getDirectoryResponseOrBuilder();
+
+    /**
+     * <code>.PackedFileRequest packedFileRequest = 15;</code>
+     * @return Whether the packedFileRequest field is set.
+     */
+    boolean hasPackedFileRequest();
+    /**
+     * <code>.PackedFileRequest packedFileRequest = 15;</code>
+     * @return The packedFileRequest.
+     */
+    File.PackedFileRequest getPackedFileRequest();
+    /**
+     * <code>.PackedFileRequest packedFileRequest = 15;</code>
+     */
+    File.PackedFileRequestOrBuilder getPackedFileRequestOrBuilder();
+
+    /**
+     * <code>.PackedFileResponse packedFileResponse = 16;</code>
+     * @return Whether the packedFileResponse field is set.
+     */
+    boolean hasPackedFileResponse();
+    /**
+     * <code>.PackedFileResponse packedFileResponse = 16;</code>
+     * @return The packedFileResponse.
+     */
+    File.PackedFileResponse getPackedFileResponse();
+    /**
+     * <code>.PackedFileResponse packedFileResponse = 16;</code>
+     */
+    File.PackedFileResponseOrBuilder getPackedFileResponseOrBuilder();
+
+    /**
+     * <code>.DeltaRequest deltaRequest = 17;</code>
+     * @return Whether the deltaRequest field is set.
+     */
+    boolean hasDeltaRequest();
+    /**
+     * <code>.DeltaRequest deltaRequest = 17;</code>
+     * @return The deltaRequest.
+     */
+    File.DeltaRequest getDeltaRequest();
+    /**
+     * <code>.DeltaRequest deltaRequest = 17;</code>
+     */
+    File.DeltaRequestOrBuilder getDeltaRequestOrBuilder();
+
+    /**
+     * <code>.DeltaResponse deltaResponse = 18;</code>
+     * @return Whether the deltaResponse field is set.
+     */
+    boolean hasDeltaResponse();
+    /**
+     * <code>.DeltaResponse deltaResponse = 18;</code>
+     * @return The deltaResponse.
+     */
+    File.DeltaResponse getDeltaResponse();
+    /**
+     * <code>.DeltaResponse deltaResponse = 18;</code>
+     */
+    File.DeltaResponseOrBuilder getDeltaResponseOrBuilder();
+
+    /**
+     * <code>.ChunkListRequest chunkListRequest = 19;</code>
+     * @return Whether the chunkListRequest field is set.
+     */
+    boolean hasChunkListRequest();
+    /**
+     * <code>.ChunkListRequest chunkListRequest = 19;</code>
+     * @return The chunkListRequest.
+     */
+    File.ChunkListRequest getChunkListRequest();
+    /**
+     * <code>.ChunkListRequest chunkListRequest = 19;</code>
+     */
+    File.ChunkListRequestOrBuilder getChunkListRequestOrBuilder();
+
+    /**
+     * <code>.ChunkListResponse chunkListResponse = 20;</code>
+     * @return Whether the chunkListResponse field is set.
+     */
+    boolean hasChunkListResponse();
+    /**
+     * <code>.ChunkListResponse chunkListResponse = 20;</code>
+     * @return The chunkListResponse.
+     */
+    File.ChunkListResponse getChunkListResponse();
+    /**
+     * <code>.ChunkListResponse chunkListResponse = 20;</code>
+     */
+    File.ChunkListResponseOrBuilder getChunkListResponseOrBuilder();
+
+    /**
+     * <code>.ChunkRequest chunkRequest = 21;</code>
+     * @return Whether the chunkRequest field is set.
+     */
+    boolean hasChunkRequest();
+    /**
+     * <code>.ChunkRequest chunkRequest = 21;</code>
+     * @return The chunkRequest.
+     */
+    File.ChunkRequest getChunkRequest();
+    /**
+     * <code>.ChunkRequest chunkRequest = 21;</code>
+     */
+    File.ChunkRequestOrBuilder getChunkRequestOrBuilder();
+
+    /**
+     * <code>.ChunkResponse chunkResponse = 22;</code>
+     * @return Whether the chunkResponse field is set.
+     */
+    boolean hasChunkResponse();
+    /**
+     * <code>.ChunkResponse chunkResponse = 22;</code>
+     * @return The chunkResponse.
+     */
+    File.ChunkResponse getChunkResponse();
+    /**
+     * <code>.ChunkResponse chunkResponse = 22;</code>
+     */
+    File.ChunkResponseOrBuilder getChunkResponseOrBuilder();
+
     General.ProtobufMessage.PayloadCase getPayloadCase();
   }
   /**
@@ -234,6 +414,18 @@ public final class General {
       GETFILESRESPONSE(8),
       FILEREQUEST(9),
       FILERESPONSE(10),
+      FILEINFOREQUEST(11),
+      FILEINFORESPONSE(12),
+      DIRECTORYREQUEST(13),
+      DIRECTORYRESPONSE(14),
+      PACKEDFILEREQUEST(15),
+      PACKEDFILERESPONSE(16),
+      DELTAREQUEST(17),
+      DELTARESPONSE(18),
+      CHUNKLISTREQUEST(19),
+      CHUNKLISTRESPONSE(20),
+      CHUNKREQUEST(21),
+      CHUNKRESPONSE(22),
       PAYLOAD_NOT_SET(0);
       private final int value;
       private PayloadCase(int value) {
@@ -261,6 +453,18 @@ public final class General {
           case 8: return GETFILESRESPONSE;
           case 9: return FILEREQUEST;
           case 10: return FILERESPONSE;
+          case 11: return FILEINFOREQUEST;
+          case 12: return FILEINFORESPONSE;
+          case 13: return DIRECTORYREQUEST;
+          case 14: return DIRECTORYRESPONSE;
+          case 15: return PACKEDFILEREQUEST;
+          case 16: return PACKEDFILERESPONSE;
+          case 17: return DELTAREQUEST;
+          case 18: return DELTARESPONSE;
+          case 19: return CHUNKLISTREQUEST;
+          case 20: return CHUNKLISTRESPONSE;
+          case 21: return CHUNKREQUEST;
+          case 22: return CHUNKRESPONSE;
           case 0: return PAYLOAD_NOT_SET;
           default: return null;
         }
@@ -586,102 +790,558 @@ public final class General {
       return File.FileResponse.getDefaultInstance();
     }
 
-    private byte memoizedIsInitialized = -1;
+    public static final int FILEINFOREQUEST_FIELD_NUMBER = 11;
+    /**
+     * <code>.FileInfoRequest fileInfoRequest = 11;</code>
+     * @return Whether the fileInfoRequest field is set.
+     */
     @java.lang.Override
-    public final boolean isInitialized() {
-      byte isInitialized = memoizedIsInitialized;
-      if (isInitialized == 1) return true;
-      if (isInitialized == 0) return false;
-
-      memoizedIsInitialized = 1;
-      return true;
+    public boolean hasFileInfoRequest() {
+      return payloadCase_ == 11;
     }
-
+    /**
+     * <code>.FileInfoRequest fileInfoRequest = 11;</code>
+     * @return The fileInfoRequest.
+     */
     @java.lang.Override
-    public void writeTo(com.google.protobuf.CodedOutputStream output)
-                        throws java.io.IOException {
-      if (payloadCase_ == 1) {
-        output.writeMessage(1, (Handshake.HandshakeMessage) payload_);
-      }
-      if (payloadCase_ == 2) {
-        output.writeMessage(2, (Ping.PingMessage) payload_);
-      }
-      if (payloadCase_ == 3) {
-        output.writeMessage(3, (Pong.PongMessage) payload_);
-      }
-      if (payloadCase_ == 4) {
-        output.writeMessage(4, (Ping.CancelPingsMessage) payload_);
-      }
-      if (payloadCase_ == 5) {
-        output.writeMessage(5, (Pong.CancelPongsMessage) payload_);
+    public File.FileInfoRequest getFileInfoRequest() {
+      if (payloadCase_ == 11) {
+         return (File.FileInfoRequest) payload_;
       }
-      if (payloadCase_ == 6) {
-        output.writeMessage(6, (KeepAlive.KeepAliveMessage) payload_);
+      return File.FileInfoRequest.getDefaultInstance();
+    }
+    /**
+     * <code>.FileInfoRequest fileInfoRequest = 11;</code>
+     */
+    @java.lang.Override
+    public File.FileInfoRequestOrBuilder getFileInfoRequestOrBuilder() {
+      if (payloadCase_ == 11) {
+         return (File.FileInfoRequest) payload_;
       }
-      if (payloadCase_ == 7) {
-        output.writeMessage(7, (File.GetFilesRequest) payload_);
+      return File.FileInfoRequest.getDefaultInstance();
+    }
+
+    public static final int FILEINFORESPONSE_FIELD_NUMBER = 12;
+    /**
+     * <code>.FileInfoResponse fileInfoResponse = 12;</code>
+     * @return Whether the fileInfoResponse field is set.
+     */
+    @java.lang.Override
+    public boolean hasFileInfoResponse() {
+      return payloadCase_ == 12;
+    }
+    /**
+     * <code>.FileInfoResponse fileInfoResponse = 12;</code>
+     * @return The fileInfoResponse.
+     */
+    @java.lang.Override
+    public File.FileInfoResponse getFileInfoResponse() {
+      if (payloadCase_ == 12) {
+         return (File.FileInfoResponse) payload_;
       }
-      if (payloadCase_ == 8) {
-        output.writeMessage(8, (File.GetFilesResponse) payload_);
+      return File.FileInfoResponse.getDefaultInstance();
+    }
+    /**
+     * <code>.FileInfoResponse fileInfoResponse = 12;</code>
+     */
+    @java.lang.Override
+    public File.FileInfoResponseOrBuilder getFileInfoResponseOrBuilder() {
+      if (payloadCase_ == 12) {
+         return (File.FileInfoResponse) payload_;
       }
-      if (payloadCase_ == 9) {
-        output.writeMessage(9, (File.FileRequest) payload_);
+      return File.FileInfoResponse.getDefaultInstance();
+    }
+
+    public static final int DIRECTORYREQUEST_FIELD_NUMBER = 13;
+    /**
+     * <code>.DirectoryRequest directoryRequest = 13;</code>
+     * @return Whether the directoryRequest field is set.
+     */
+    @java.lang.Override
+    public boolean hasDirectoryRequest() {
+      return payloadCase_ == 13;
+    }
+    /**
+     * <code>.DirectoryRequest directoryRequest = 13;</code>
+     * @return The directoryRequest.
+     */
+    @java.lang.Override
+    public File.DirectoryRequest getDirectoryRequest() {
+      if (payloadCase_ == 13) {
+         return (File.DirectoryRequest) payload_;
       }
-      if (payloadCase_ == 10) {
-        output.writeMessage(10, (File.FileResponse) payload_);
+      return File.DirectoryRequest.getDefaultInstance();
+    }
+    /**
+     * <code>.DirectoryRequest directoryRequest = 13;</code>
+     */
+    @java.lang.Override
+    public File.DirectoryRequestOrBuilder getDirectoryRequestOrBuilder() {
+      if (payloadCase_ == 13) {
+         return (File.DirectoryRequest) payload_;
       }
-      getUnknownFields().writeTo(output);
+      return File.DirectoryRequest.getDefaultInstance();
     }
 
+    public static final int DIRECTORYRESPONSE_FIELD_NUMBER = 14;
+    /**
+     * <code>.DirectoryResponse directoryResponse = 14;</code>
+     * @return Whether the directoryResponse field is set.
+     */
     @java.lang.Override
-    public int getSerializedSize() {
-      int size = memoizedSize;
-      if (size != -1) return size;
-
-      size = 0;
-      if (payloadCase_ == 1) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(1, (Handshake.HandshakeMessage) payload_);
+    public boolean hasDirectoryResponse() {
+      return payloadCase_ == 14;
+    }
+    /**
+     * <code>.DirectoryResponse directoryResponse = 14;</code>
+     * @return The directoryResponse.
+     */
+    @java.lang.Override
+    public File.DirectoryResponse getDirectoryResponse() {
+      if (payloadCase_ == 14) {
+         return (File.DirectoryResponse) payload_;
       }
-      if (payloadCase_ == 2) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(2, (Ping.PingMessage) payload_);
+      return File.DirectoryResponse.getDefaultInstance();
+    }
+    /**
+     * <code>.DirectoryResponse directoryResponse = 14;</code>
+     */
+    @java.lang.Override
+    public File.DirectoryResponseOrBuilder getDirectoryResponseOrBuilder() {
+      if (payloadCase_ == 14) {
+         return (File.DirectoryResponse) payload_;
       }
-      if (payloadCase_ == 3) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(3, (Pong.PongMessage) payload_);
+      return File.DirectoryResponse.getDefaultInstance();
+    }
+
+    public static final int PACKEDFILEREQUEST_FIELD_NUMBER = 15;
+    /**
+     * <code>.PackedFileRequest packedFileRequest = 15;</code>
+     * @return Whether the packedFileRequest field is set.
+     */
+    @java.lang.Override
+    public boolean hasPackedFileRequest() {
+      return payloadCase_ == 15;
+    }
+    /**
+     * <code>.PackedFileRequest packedFileRequest = 15;</code>
+     * @return The packedFileRequest.
+     */
+    @java.lang.Override
+    public File.PackedFileRequest getPackedFileRequest() {
+      if (payloadCase_ == 15) {
+         return (File.PackedFileRequest) payload_;
       }
-      if (payloadCase_ == 4) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(4, (Ping.CancelPingsMessage) payload_);
+      return File.PackedFileRequest.getDefaultInstance();
+    }
+    /**
+     * <code>.PackedFileRequest packedFileRequest = 15;</code>
+     */
+    @java.lang.Override
+    public File.PackedFileRequestOrBuilder getPackedFileRequestOrBuilder() {
+      if (payloadCase_ == 15) {
+         return (File.PackedFileRequest) payload_;
       }
-      if (payloadCase_ == 5) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(5, (Pong.CancelPongsMessage) payload_);
+      return File.PackedFileRequest.getDefaultInstance();
+    }
+
+    public static final int PACKEDFILERESPONSE_FIELD_NUMBER = 16;
+    /**
+     * <code>.PackedFileResponse packedFileResponse = 16;</code>
+     * @return Whether the packedFileResponse field is set.
+     */
+    @java.lang.Override
+    public boolean hasPackedFileResponse() {
+      return payloadCase_ == 16;
+    }
+    /**
+     * <code>.PackedFileResponse packedFileResponse = 16;</code>
+     * @return The packedFileResponse.
+     */
+    @java.lang.Override
+    public File.PackedFileResponse getPackedFileResponse() {
+      if (payloadCase_ == 16) {
+         return (File.PackedFileResponse) payload_;
       }
-      if (payloadCase_ == 6) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(6, (KeepAlive.KeepAliveMessage) payload_);
+      return File.PackedFileResponse.getDefaultInstance();
+    }
+    /**
+     * <code>.PackedFileResponse packedFileResponse = 16;</code>
+     */
+    @java.lang.Override
+    public File.PackedFileResponseOrBuilder getPackedFileResponseOrBuilder() {
+      if (payloadCase_ == 16) {
+         return (File.PackedFileResponse) payload_;
       }
-      if (payloadCase_ == 7) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(7, (File.GetFilesRequest) payload_);
+      return File.PackedFileResponse.getDefaultInstance();
+    }
+
+    public static final int DELTAREQUEST_FIELD_NUMBER = 17;
+    /**
+     * <code>.DeltaRequest deltaRequest = 17;</code>
+     * @return Whether the deltaRequest field is set.
+     */
+    @java.lang.Override
+    public boolean hasDeltaRequest() {
+      return payloadCase_ == 17;
+    }
+    /**
+     * <code>.DeltaRequest deltaRequest = 17;</code>
+     * @return The deltaRequest.
+     */
+    @java.lang.Override
+    public File.DeltaRequest getDeltaRequest() {
+      if (payloadCase_ == 17) {
+         return (File.DeltaRequest) payload_;
       }
-      if (payloadCase_ == 8) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(8, (File.GetFilesResponse) payload_);
+      return File.DeltaRequest.getDefaultInstance();
+    }
+    /**
+     * <code>.DeltaRequest deltaRequest = 17;</code>
+     */
+    @java.lang.Override
+    public File.DeltaRequestOrBuilder getDeltaRequestOrBuilder() {
+      if (payloadCase_ == 17) {
+         return (File.DeltaRequest) payload_;
       }
-      if (payloadCase_ == 9) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(9, (File.FileRequest) payload_);
+      return File.DeltaRequest.getDefaultInstance();
+    }
+
+    public static final int DELTARESPONSE_FIELD_NUMBER = 18;
+    /**
+     * <code>.DeltaResponse deltaResponse = 18;</code>
+     * @return Whether the deltaResponse field is set.
+     */
+    @java.lang.Override
+    public boolean hasDeltaResponse() {
+      return payloadCase_ == 18;
+    }
+    /**
+     * <code>.DeltaResponse deltaResponse = 18;</code>
+     * @return The deltaResponse.
+     */
+    @java.lang.Override
+    public File.DeltaResponse getDeltaResponse() {
+      if (payloadCase_ == 18) {
+         return (File.DeltaResponse) payload_;
       }
-      if (payloadCase_ == 10) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(10, (File.FileResponse) payload_);
+      return File.DeltaResponse.getDefaultInstance();
+    }
+    /**
+     * <code>.DeltaResponse deltaResponse = 18;</code>
+     */
+    @java.lang.Override
+    public File.DeltaResponseOrBuilder getDeltaResponseOrBuilder() {
+      if (payloadCase_ == 18) {
+         return (File.DeltaResponse) payload_;
       }
-      size += getUnknownFields().getSerializedSize();
-      memoizedSize = size;
-      return size;
+      return File.DeltaResponse.getDefaultInstance();
+    }
+
+    public static final int CHUNKLISTREQUEST_FIELD_NUMBER = 19;
+    /**
+     * <code>.ChunkListRequest chunkListRequest = 19;</code>
+     * @return Whether the chunkListRequest field is set.
+     */
+    @java.lang.Override
+    public boolean hasChunkListRequest() {
+      return payloadCase_ == 19;
+    }
+    /**
+     * <code>.ChunkListRequest chunkListRequest = 19;</code>
+     * @return The chunkListRequest.
+     */
+    @java.lang.Override
+    public File.ChunkListRequest getChunkListRequest() {
+      if (payloadCase_ == 19) {
+         return (File.ChunkListRequest) payload_;
+      }
+      return File.ChunkListRequest.getDefaultInstance();
+    }
+    /**
+     * <code>.ChunkListRequest chunkListRequest = 19;</code>
+     */
+    @java.lang.Override
+    public File.ChunkListRequestOrBuilder getChunkListRequestOrBuilder() {
+      if (payloadCase_ == 19) {
+         return (File.ChunkListRequest) payload_;
+      }
+      return File.ChunkListRequest.getDefaultInstance();
+    }
+
+    public static final int CHUNKLISTRESPONSE_FIELD_NUMBER = 20;
+    /**
+     * <code>.ChunkListResponse chunkListResponse = 20;</code>
+     * @return Whether the chunkListResponse field is set.
+     */
+    @java.lang.Override
+    public boolean hasChunkListResponse() {
+      return payloadCase_ == 20;
+    }
+    /**
+     * <code>.ChunkListResponse chunkListResponse = 20;</code>
+     * @return The chunkListResponse.
+     */
+    @java.lang.Override
+    public File.ChunkListResponse getChunkListResponse() {
+      if (payloadCase_ == 20) {
+         return (File.ChunkListResponse) payload_;
+      }
+      return File.ChunkListResponse.getDefaultInstance();
+    }
+    /**
+     * <code>.ChunkListResponse chunkListResponse = 20;</code>
+     */
+    @java.lang.Override
+    public File.ChunkListResponseOrBuilder getChunkListResponseOrBuilder() {
+      if (payloadCase_ == 20) {
+         return (File.ChunkListResponse) payload_;
+      }
+      return File.ChunkListResponse.getDefaultInstance();
+    }
+
+    public static final int CHUNKREQUEST_FIELD_NUMBER = 21;
+    /**
+     * <code>.ChunkRequest chunkRequest = 21;</code>
+     * @return Whether the chunkRequest field is set.
+     */
+    @java.lang.Override
+    public boolean hasChunkRequest() {
+      return payloadCase_ == 21;
+    }
+    /**
+     * <code>.ChunkRequest chunkRequest = 21;</code>
+     * @return The chunkRequest.
+     */
+    @java.lang.Override
+    public File.ChunkRequest getChunkRequest() {
+      if (payloadCase_ == 21) {
+         return (File.ChunkRequest) payload_;
+      }
+      return File.ChunkRequest.getDefaultInstance();
+    }
+    /**
+     * <code>.ChunkRequest chunkRequest = 21;</code>
+     */
+    @java.lang.Override
+    public File.ChunkRequestOrBuilder getChunkRequestOrBuilder() {
+      if (payloadCase_ == 21) {
+         return (File.ChunkRequest) payload_;
+      }
+      return File.ChunkRequest.getDefaultInstance();
+    }
+
+    public static final int CHUNKRESPONSE_FIELD_NUMBER = 22;
+    /**
+     * <code>.ChunkResponse chunkResponse = 22;</code>
+     * @return Whether the chunkResponse field is set.
+     */
+    @java.lang.Override
+    public boolean hasChunkResponse() {
+      return payloadCase_ == 22;
+    }
+    /**
+     * <code>.ChunkResponse chunkResponse = 22;</code>
+     * @return The chunkResponse.
+     */
+    @java.lang.Override
+    public File.ChunkResponse getChunkResponse() {
+      if (payloadCase_ == 22) {
+         return (File.ChunkResponse) payload_;
+      }
+      return File.ChunkResponse.getDefaultInstance();
+    }
+    /**
+     * <code>.ChunkResponse chunkResponse = 22;</code>
+     */
+    @java.lang.Override
+    public File.ChunkResponseOrBuilder getChunkResponseOrBuilder() {
+      if (payloadCase_ == 22) {
+         return (File.ChunkResponse) payload_;
+      }
+      return File.ChunkResponse.getDefaultInstance();
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (payloadCase_ == 1) {
+        output.writeMessage(1, (Handshake.HandshakeMessage) payload_);
+      }
+      if (payloadCase_ == 2) {
+        output.writeMessage(2, (Ping.PingMessage) payload_);
+      }
+      if (payloadCase_ == 3) {
+        output.writeMessage(3, (Pong.PongMessage) payload_);
+      }
+      if (payloadCase_ == 4) {
+        output.writeMessage(4, (Ping.CancelPingsMessage) payload_);
+      }
+      if (payloadCase_ == 5) {
+        output.writeMessage(5, (Pong.CancelPongsMessage) payload_);
+      }
+      if (payloadCase_ == 6) {
+        output.writeMessage(6, (KeepAlive.KeepAliveMessage) payload_);
+      }
+      if (payloadCase_ == 7) {
+        output.writeMessage(7, (File.GetFilesRequest) payload_);
+      }
+      if (payloadCase_ == 8) {
+        output.writeMessage(8, (File.GetFilesResponse) payload_);
+      }
+      if (payloadCase_ == 9) {
+        output.writeMessage(9, (File.FileRequest) payload_);
+      }
+      if (payloadCase_ == 10) {
+        output.writeMessage(10, (File.FileResponse) payload_);
+      }
+      if (payloadCase_ == 11) {
+        output.writeMessage(11, (File.FileInfoRequest) payload_);
+      }
+      if (payloadCase_ == 12) {
+        output.writeMessage(12, (File.FileInfoResponse) payload_);
+      }
+      if (payloadCase_ == 13) {
+        output.writeMessage(13, (File.DirectoryRequest) payload_);
+      }
+      if (payloadCase_ == 14) {
+        output.writeMessage(14, (File.DirectoryResponse) payload_);
+      }
+      if (payloadCase_ == 15) {
+        output.writeMessage(15, (File.PackedFileRequest) payload_);
+      }
+      if (payloadCase_ == 16) {
+        output.writeMessage(16, (File.PackedFileResponse) payload_);
+      }
+      if (payloadCase_ == 17) {
+        output.writeMessage(17, (File.DeltaRequest) payload_);
+      }
+      if (payloadCase_ == 18) {
+        output.writeMessage(18, (File.DeltaResponse) payload_);
+      }
+      if (payloadCase_ == 19) {
+        output.writeMessage(19, (File.ChunkListRequest) payload_);
+      }
+      if (payloadCase_ == 20) {
+        output.writeMessage(20, (File.ChunkListResponse) payload_);
+      }
+      if (payloadCase_ == 21) {
+        output.writeMessage(21, (File.ChunkRequest) payload_);
+      }
+      if (payloadCase_ == 22) {
+        output.writeMessage(22, (File.ChunkResponse) payload_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (payloadCase_ == 1) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, (Handshake.HandshakeMessage) payload_);
+      }
+      if (payloadCase_ == 2) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, (Ping.PingMessage) payload_);
+      }
+      if (payloadCase_ == 3) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, (Pong.PongMessage) payload_);
+      }
+      if (payloadCase_ == 4) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, (Ping.CancelPingsMessage) payload_);
+      }
+      if (payloadCase_ == 5) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(5, (Pong.CancelPongsMessage) payload_);
+      }
+      if (payloadCase_ == 6) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(6, (KeepAlive.KeepAliveMessage) payload_);
+      }
+      if (payloadCase_ == 7) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(7, (File.GetFilesRequest) payload_);
+      }
+      if (payloadCase_ == 8) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(8, (File.GetFilesResponse) payload_);
+      }
+      if (payloadCase_ == 9) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(9, (File.FileRequest) payload_);
+      }
+      if (payloadCase_ == 10) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(10, (File.FileResponse) payload_);
+      }
+      if (payloadCase_ == 11) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(11, (File.FileInfoRequest) payload_);
+      }
+      if (payloadCase_ == 12) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(12, (File.FileInfoResponse) payload_);
+      }
+      if (payloadCase_ == 13) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(13, (File.DirectoryRequest) payload_);
+      }
+      if (payloadCase_ == 14) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(14, (File.DirectoryResponse) payload_);
+      }
+      if (payloadCase_ == 15) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(15, (File.PackedFileRequest) payload_);
+      }
+      if (payloadCase_ == 16) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(16, (File.PackedFileResponse) payload_);
+      }
+      if (payloadCase_ == 17) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(17, (File.DeltaRequest) payload_);
+      }
+      if (payloadCase_ == 18) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(18, (File.DeltaResponse) payload_);
+      }
+      if (payloadCase_ == 19) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(19, (File.ChunkListRequest) payload_);
+      }
+      if (payloadCase_ == 20) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(20, (File.ChunkListResponse) payload_);
+      }
+      if (payloadCase_ == 21) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(21, (File.ChunkRequest) payload_);
+      }
+      if (payloadCase_ == 22) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(22, (File.ChunkResponse) payload_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
     }
 
     @java.lang.Override
@@ -736,6 +1396,54 @@ public final class General {
           if (!getFileResponse()
               .equals(other.getFileResponse())) return false;
           break;
+        case 11:
+          if (!getFileInfoRequest()
+              .equals(other.getFileInfoRequest())) return false;
+          break;
+        case 12:
+          if (!getFileInfoResponse()
+              .equals(other.getFileInfoResponse())) return false;
+          break;
+        case 13:
+          if (!getDirectoryRequest()
+              .equals(other.getDirectoryRequest())) return false;
+          break;
+        case 14:
+          if (!getDirectoryResponse()
+              .equals(other.getDirectoryResponse())) return false;
+          break;
+        case 15:
+          if (!getPackedFileRequest()
+              .equals(other.getPackedFileRequest())) return false;
+          break;
+        case 16:
+          if (!getPackedFileResponse()
+              .equals(other.getPackedFileResponse())) return false;
+          break;
+        case 17:
+          if (!getDeltaRequest()
+              .equals(other.getDeltaRequest())) return false;
+          break;
+        case 18:
+          if (!getDeltaResponse()
+              .equals(other.getDeltaResponse())) return false;
+          break;
+        case 19:
+          if (!getChunkListRequest()
+              .equals(other.getChunkListRequest())) return false;
+          break;
+        case 20:
+          if (!getChunkListResponse()
+              .equals(other.getChunkListResponse())) return false;
+          break;
+        case 21:
+          if (!getChunkRequest()
+              .equals(other.getChunkRequest())) return false;
+          break;
+        case 22:
+          if (!getChunkResponse()
+              .equals(other.getChunkResponse())) return false;
+          break;
         case 0:
         default:
       }
@@ -791,6 +1499,54 @@ public final class General {
           hash = (37 * hash) + FILERESPONSE_FIELD_NUMBER;
           hash = (53 * hash) + getFileResponse().hashCode();
           break;
+        case 11:
+          hash = (37 * hash) + FILEINFOREQUEST_FIELD_NUMBER;
+          hash = (53 * hash) + getFileInfoRequest().hashCode();
+          break;
+        case 12:
+          hash = (37 * hash) + FILEINFORESPONSE_FIELD_NUMBER;
+          hash = (53 * hash) + getFileInfoResponse().hashCode();
+          break;
+        case 13:
+          hash = (37 * hash) + DIRECTORYREQUEST_FIELD_NUMBER;
+          hash = (53 * hash) + getDirectoryRequest().hashCode();
+          break;
+        case 14:
+          hash = (37 * hash) + DIRECTORYRESPONSE_FIELD_NUMBER;
+          hash = (53 * hash) + getDirectoryResponse().hashCode();
+          break;
+        case 15:
+          hash = (37 * hash) + PACKEDFILEREQUEST_FIELD_NUMBER;
+          hash = (53 * hash) + getPackedFileRequest().hashCode();
+          break;
+        case 16:
+          hash = (37 * hash) + PACKEDFILERESPONSE_FIELD_NUMBER;
+          hash = (53 * hash) + getPackedFileResponse().hashCode();
+          break;
+        case 17:
+          hash = (37 * hash) + DELTAREQUEST_FIELD_NUMBER;
+          hash = (53 * hash) + getDeltaRequest().hashCode();
+          break;
+        case 18:
+          hash = (37 * hash) + DELTARESPONSE_FIELD_NUMBER;
+          hash = (53 * hash) + getDeltaResponse().hashCode();
+          break;
+        case 19:
+          hash = (37 * hash) + CHUNKLISTREQUEST_FIELD_NUMBER;
+          hash = (53 * hash) + getChunkListRequest().hashCode();
+          break;
+        case 20:
+          hash = (37 * hash) + CHUNKLISTRESPONSE_FIELD_NUMBER;
+          hash = (53 * hash) + getChunkListResponse().hashCode();
+          break;
+        case 21:
+          hash = (37 * hash) + CHUNKREQUEST_FIELD_NUMBER;
+          hash = (53 * hash) + getChunkRequest().hashCode();
+          break;
+        case 22:
+          hash = (37 * hash) + CHUNKRESPONSE_FIELD_NUMBER;
+          hash = (53 * hash) + getChunkResponse().hashCode();
+          break;
         case 0:
         default:
       }
@@ -955,6 +1711,42 @@ public final class General {
         if (fileResponseBuilder_ != null) {
           fileResponseBuilder_.clear();
         }
+        if (fileInfoRequestBuilder_ != null) {
+          fileInfoRequestBuilder_.clear();
+        }
+        if (fileInfoResponseBuilder_ != null) {
+          fileInfoResponseBuilder_.clear();
+        }
+        if (directoryRequestBuilder_ != null) {
+          directoryRequestBuilder_.clear();
+        }
+        if (directoryResponseBuilder_ != null) {
+          directoryResponseBuilder_.clear();
+        }
+        if (packedFileRequestBuilder_ != null) {
+          packedFileRequestBuilder_.clear();
+        }
+        if (packedFileResponseBuilder_ != null) {
+          packedFileResponseBuilder_.clear();
+        }
+        if (deltaRequestBuilder_ != null) {
+          deltaRequestBuilder_.clear();
+        }
+        if (deltaResponseBuilder_ != null) {
+          deltaResponseBuilder_.clear();
+        }
+        if (chunkListRequestBuilder_ != null) {
+          chunkListRequestBuilder_.clear();
+        }
+        if (chunkListResponseBuilder_ != null) {
+          chunkListResponseBuilder_.clear();
+        }
+        if (chunkRequestBuilder_ != null) {
+          chunkRequestBuilder_.clear();
+        }
+        if (chunkResponseBuilder_ != null) {
+          chunkResponseBuilder_.clear();
+        }
         payloadCase_ = 0;
         payload_ = null;
         return this;
@@ -1036,6 +1828,54 @@ public final class General {
             fileResponseBuilder_ != null) {
           result.payload_ = fileResponseBuilder_.build();
         }
+        if (payloadCase_ == 11 &&
+            fileInfoRequestBuilder_ != null) {
+          result.payload_ = fileInfoRequestBuilder_.build();
+        }
+        if (payloadCase_ == 12 &&
+            fileInfoResponseBuilder_ != null) {
+          result.payload_ = fileInfoResponseBuilder_.build();
+        }
+        if (payloadCase_ == 13 &&
+            directoryRequestBuilder_ != null) {
+          result.payload_ = directoryRequestBuilder_.build();
+        }
+        if (payloadCase_ == 14 &&
+            directoryResponseBuilder_ != null) {
+          result.payload_ = directoryResponseBuilder_.build();
+        }
+        if (payloadCase_ == 15 &&
+            packedFileRequestBuilder_ != null) {
+          result.payload_ = packedFileRequestBuilder_.build();
+        }
+        if (payloadCase_ == 16 &&
+            packedFileResponseBuilder_ != null) {
+          result.payload_ = packedFileResponseBuilder_.build();
+        }
+        if (payloadCase_ == 17 &&
+            deltaRequestBuilder_ != null) {
+          result.payload_ = deltaRequestBuilder_.build();
+        }
+        if (payloadCase_ == 18 &&
+            deltaResponseBuilder_ != null) {
+          result.payload_ = deltaResponseBuilder_.build();
+        }
+        if (payloadCase_ == 19 &&
+            chunkListRequestBuilder_ != null) {
+          result.payload_ = chunkListRequestBuilder_.build();
+        }
+        if (payloadCase_ == 20 &&
+            chunkListResponseBuilder_ != null) {
+          result.payload_ = chunkListResponseBuilder_.build();
+        }
+        if (payloadCase_ == 21 &&
+            chunkRequestBuilder_ != null) {
+          result.payload_ = chunkRequestBuilder_.build();
+        }
+        if (payloadCase_ == 22 &&
+            chunkResponseBuilder_ != null) {
+          result.payload_ = chunkResponseBuilder_.build();
+        }
       }
 
       @java.lang.Override
@@ -1091,24 +1931,72 @@ public final class General {
             mergeFileResponse(other.getFileResponse());
             break;
           }
-          case PAYLOAD_NOT_SET: {
+          case FILEINFOREQUEST: {
+            mergeFileInfoRequest(other.getFileInfoRequest());
             break;
           }
-        }
-        this.mergeUnknownFields(other.getUnknownFields());
-        onChanged();
-        return this;
-      }
-
-      @java.lang.Override
-      public final boolean isInitialized() {
-        return true;
-      }
-
-      @java.lang.Override
-      public Builder mergeFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          case FILEINFORESPONSE: {
+            mergeFileInfoResponse(other.getFileInfoResponse());
+            break;
+          }
+          case DIRECTORYREQUEST: {
+            mergeDirectoryRequest(other.getDirectoryRequest());
+            break;
+          }
+          case DIRECTORYRESPONSE: {
+            mergeDirectoryResponse(other.getDirectoryResponse());
+            break;
+          }
+          case PACKEDFILEREQUEST: {
+            mergePackedFileRequest(other.getPackedFileRequest());
+            break;
+          }
+          case PACKEDFILERESPONSE: {
+            mergePackedFileResponse(other.getPackedFileResponse());
+            break;
+          }
+          case DELTAREQUEST: {
+            mergeDeltaRequest(other.getDeltaRequest());
+            break;
+          }
+          case DELTARESPONSE: {
+            mergeDeltaResponse(other.getDeltaResponse());
+            break;
+          }
+          case CHUNKLISTREQUEST: {
+            mergeChunkListRequest(other.getChunkListRequest());
+            break;
+          }
+          case CHUNKLISTRESPONSE: {
+            mergeChunkListResponse(other.getChunkListResponse());
+            break;
+          }
+          case CHUNKREQUEST: {
+            mergeChunkRequest(other.getChunkRequest());
+            break;
+          }
+          case CHUNKRESPONSE: {
+            mergeChunkResponse(other.getChunkResponse());
+            break;
+          }
+          case PAYLOAD_NOT_SET: {
+            break;
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
         if (extensionRegistry == null) {
           throw new java.lang.NullPointerException();
@@ -1191,6 +2079,90 @@ public final class General {
                 payloadCase_ = 10;
                 break;
               } // case 82
+              case 90: {
+                input.readMessage(
+                    getFileInfoRequestFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                payloadCase_ = 11;
+                break;
+              } // case 90
+              case 98: {
+                input.readMessage(
+                    getFileInfoResponseFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                payloadCase_ = 12;
+                break;
+              } // case 98
+              case 106: {
+                input.readMessage(
+                    getDirectoryRequestFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                payloadCase_ = 13;
+                break;
+              } // case 106
+              case 114: {
+                input.readMessage(
+                    getDirectoryResponseFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                payloadCase_ = 14;
+                break;
+              } // case 114
+              case 122: {
+                input.readMessage(
+                    getPackedFileRequestFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                payloadCase_ = 15;
+                break;
+              } // case 122
+              case 130: {
+                input.readMessage(
+                    getPackedFileResponseFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                payloadCase_ = 16;
+                break;
+              } // case 130
+              case 138: {
+                input.readMessage(
+                    getDeltaRequestFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                payloadCase_ = 17;
+                break;
+              } // case 138
+              case 146: {
+                input.readMessage(
+                    getDeltaResponseFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                payloadCase_ = 18;
+                break;
+              } // case 146
+              case 154: {
+                input.readMessage(
+                    getChunkListRequestFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                payloadCase_ = 19;
+                break;
+              } // case 154
+              case 162: {
+                input.readMessage(
+                    getChunkListResponseFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                payloadCase_ = 20;
+                break;
+              } // case 162
+              case 170: {
+                input.readMessage(
+                    getChunkRequestFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                payloadCase_ = 21;
+                break;
+              } // case 170
+              case 178: {
+                input.readMessage(
+                    getChunkResponseFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                payloadCase_ = 22;
+                break;
+              } // case 178
               default: {
                 if (!super.parseUnknownField(input, extensionRegistry, tag)) {
                   done = true; // was an endgroup tag
@@ -2643,6 +3615,1710 @@ public final class General {
         return fileResponseBuilder_;
       }
 
+      private com.google.protobuf.SingleFieldBuilder<
+          File.FileInfoRequest, File.FileInfoRequest.Builder, File.FileInfoRequestOrBuilder> fileInfoRequestBuilder_;
+      /**
+       * <code>.FileInfoRequest fileInfoRequest = 11;</code>
+       * @return Whether the fileInfoRequest field is set.
+       */
+      @java.lang.Override
+      public boolean hasFileInfoRequest() {
+        return payloadCase_ == 11;
+      }
+      /**
+       * <code>.FileInfoRequest fileInfoRequest = 11;</code>
+       * @return The fileInfoRequest.
+       */
+      @java.lang.Override
+      public File.FileInfoRequest getFileInfoRequest() {
+        if (fileInfoRequestBuilder_ == null) {
+          if (payloadCase_ == 11) {
+            return (File.FileInfoRequest) payload_;
+          }
+          return File.FileInfoRequest.getDefaultInstance();
+        } else {
+          if (payloadCase_ == 11) {
+            return fileInfoRequestBuilder_.getMessage();
+          }
+          return File.FileInfoRequest.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.FileInfoRequest fileInfoRequest = 11;</code>
+       */
+      public Builder setFileInfoRequest(File.FileInfoRequest value) {
+        if (fileInfoRequestBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          payload_ = value;
+          onChanged();
+        } else {
+          fileInfoRequestBuilder_.setMessage(value);
+        }
+        payloadCase_ = 11;
+        return this;
+      }
+      /**
+       * <code>.FileInfoRequest fileInfoRequest = 11;</code>
+       */
+      public Builder setFileInfoRequest(
+          File.FileInfoRequest.Builder builderForValue) {
+        if (fileInfoRequestBuilder_ == null) {
+          payload_ = builderForValue.build();
+          onChanged();
+        } else {
+          fileInfoRequestBuilder_.setMessage(builderForValue.build());
+        }
+        payloadCase_ = 11;
+        return this;
+      }
+      /**
+       * <code>.FileInfoRequest fileInfoRequest = 11;</code>
+       */
+      public Builder mergeFileInfoRequest(File.FileInfoRequest value) {
+        if (fileInfoRequestBuilder_ == null) {
+          if (payloadCase_ == 11 &&
+              payload_ != File.FileInfoRequest.getDefaultInstance()) {
+            payload_ = File.FileInfoRequest.newBuilder((File.FileInfoRequest) payload_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            payload_ = value;
+          }
+          onChanged();
+        } else {
+          if (payloadCase_ == 11) {
+            fileInfoRequestBuilder_.mergeFrom(value);
+          } else {
+            fileInfoRequestBuilder_.setMessage(value);
+          }
+        }
+        payloadCase_ = 11;
+        return this;
+      }
+      /**
+       * <code>.FileInfoRequest fileInfoRequest = 11;</code>
+       */
+      public Builder clearFileInfoRequest() {
+        if (fileInfoRequestBuilder_ == null) {
+          if (payloadCase_ == 11) {
+            payloadCase_ = 0;
+            payload_ = null;
+            onChanged();
+          }
+        } else {
+          if (payloadCase_ == 11) {
+            payloadCase_ = 0;
+            payload_ = null;
+          }
+          fileInfoRequestBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>.FileInfoRequest fileInfoRequest = 11;</code>
+       */
+      public File.FileInfoRequest.Builder getFileInfoRequestBuilder() {
+        return getFileInfoRequestFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.FileInfoRequest fileInfoRequest = 11;</code>
+       */
+      @java.lang.Override
+      public File.FileInfoRequestOrBuilder getFileInfoRequestOrBuilder() {
+        if ((payloadCase_ == 11) && (fileInfoRequestBuilder_ != null)) {
+          return fileInfoRequestBuilder_.getMessageOrBuilder();
+        } else {
+          if (payloadCase_ == 11) {
+            return (File.FileInfoRequest) payload_;
+          }
+          return File.FileInfoRequest.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.FileInfoRequest fileInfoRequest = 11;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          File.FileInfoRequest, File.FileInfoRequest.Builder, File.FileInfoRequestOrBuilder> 
+          getFileInfoRequestFieldBuilder() {
+        if (fileInfoRequestBuilder_ == null) {
+          if (!(payloadCase_ == 11)) {
+            payload_ = File.FileInfoRequest.getDefaultInstance();
+          }
+          fileInfoRequestBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              File.FileInfoRequest, File.FileInfoRequest.Builder, File.FileInfoRequestOrBuilder>(
+                  (File.FileInfoRequest) payload_,
+                  getParentForChildren(),
+                  isClean());
+          payload_ = null;
+        }
+        payloadCase_ = 11;
+        onChanged();
+        return fileInfoRequestBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilder<
+          File.FileInfoResponse, File.FileInfoResponse.Builder, File.FileInfoResponseOrBuilder> fileInfoResponseBuilder_;
+      /**
+       * <code>.FileInfoResponse fileInfoResponse = 12;</code>
+       * @return Whether the fileInfoResponse field is set.
+       */
+      @java.lang.Override
+      public boolean hasFileInfoResponse() {
+        return payloadCase_ == 12;
+      }
+      /**
+       * <code>.FileInfoResponse fileInfoResponse = 12;</code>
+       * @return The fileInfoResponse.
+       */
+      @java.lang.Override
+      public File.FileInfoResponse getFileInfoResponse() {
+        if (fileInfoResponseBuilder_ == null) {
+          if (payloadCase_ == 12) {
+            return (File.FileInfoResponse) payload_;
+          }
+          return File.FileInfoResponse.getDefaultInstance();
+        } else {
+          if (payloadCase_ == 12) {
+            return fileInfoResponseBuilder_.getMessage();
+          }
+          return File.FileInfoResponse.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.FileInfoResponse fileInfoResponse = 12;</code>
+       */
+      public Builder setFileInfoResponse(File.FileInfoResponse value) {
+        if (fileInfoResponseBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          payload_ = value;
+          onChanged();
+        } else {
+          fileInfoResponseBuilder_.setMessage(value);
+        }
+        payloadCase_ = 12;
+        return this;
+      }
+      /**
+       * <code>.FileInfoResponse fileInfoResponse = 12;</code>
+       */
+      public Builder setFileInfoResponse(
+          File.FileInfoResponse.Builder builderForValue) {
+        if (fileInfoResponseBuilder_ == null) {
+          payload_ = builderForValue.build();
+          onChanged();
+        } else {
+          fileInfoResponseBuilder_.setMessage(builderForValue.build());
+        }
+        payloadCase_ = 12;
+        return this;
+      }
+      /**
+       * <code>.FileInfoResponse fileInfoResponse = 12;</code>
+       */
+      public Builder mergeFileInfoResponse(File.FileInfoResponse value) {
+        if (fileInfoResponseBuilder_ == null) {
+          if (payloadCase_ == 12 &&
+              payload_ != File.FileInfoResponse.getDefaultInstance()) {
+            payload_ = File.FileInfoResponse.newBuilder((File.FileInfoResponse) payload_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            payload_ = value;
+          }
+          onChanged();
+        } else {
+          if (payloadCase_ == 12) {
+            fileInfoResponseBuilder_.mergeFrom(value);
+          } else {
+            fileInfoResponseBuilder_.setMessage(value);
+          }
+        }
+        payloadCase_ = 12;
+        return this;
+      }
+      /**
+       * <code>.FileInfoResponse fileInfoResponse = 12;</code>
+       */
+      public Builder clearFileInfoResponse() {
+        if (fileInfoResponseBuilder_ == null) {
+          if (payloadCase_ == 12) {
+            payloadCase_ = 0;
+            payload_ = null;
+            onChanged();
+          }
+        } else {
+          if (payloadCase_ == 12) {
+            payloadCase_ = 0;
+            payload_ = null;
+          }
+          fileInfoResponseBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>.FileInfoResponse fileInfoResponse = 12;</code>
+       */
+      public File.FileInfoResponse.Builder getFileInfoResponseBuilder() {
+        return getFileInfoResponseFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.FileInfoResponse fileInfoResponse = 12;</code>
+       */
+      @java.lang.Override
+      public File.FileInfoResponseOrBuilder getFileInfoResponseOrBuilder() {
+        if ((payloadCase_ == 12) && (fileInfoResponseBuilder_ != null)) {
+          return fileInfoResponseBuilder_.getMessageOrBuilder();
+        } else {
+          if (payloadCase_ == 12) {
+            return (File.FileInfoResponse) payload_;
+          }
+          return File.FileInfoResponse.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.FileInfoResponse fileInfoResponse = 12;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          File.FileInfoResponse, File.FileInfoResponse.Builder, File.FileInfoResponseOrBuilder> 
+          getFileInfoResponseFieldBuilder() {
+        if (fileInfoResponseBuilder_ == null) {
+          if (!(payloadCase_ == 12)) {
+            payload_ = File.FileInfoResponse.getDefaultInstance();
+          }
+          fileInfoResponseBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              File.FileInfoResponse, File.FileInfoResponse.Builder, File.FileInfoResponseOrBuilder>(
+                  (File.FileInfoResponse) payload_,
+                  getParentForChildren(),
+                  isClean());
+          payload_ = null;
+        }
+        payloadCase_ = 12;
+        onChanged();
+        return fileInfoResponseBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilder<
+          File.DirectoryRequest, File.DirectoryRequest.Builder, File.DirectoryRequestOrBuilder> directoryRequestBuilder_;
+      /**
+       * <code>.DirectoryRequest directoryRequest = 13;</code>
+       * @return Whether the directoryRequest field is set.
+       */
+      @java.lang.Override
+      public boolean hasDirectoryRequest() {
+        return payloadCase_ == 13;
+      }
+      /**
+       * <code>.DirectoryRequest directoryRequest = 13;</code>
+       * @return The directoryRequest.
+       */
+      @java.lang.Override
+      public File.DirectoryRequest getDirectoryRequest() {
+        if (directoryRequestBuilder_ == null) {
+          if (payloadCase_ == 13) {
+            return (File.DirectoryRequest) payload_;
+          }
+          return File.DirectoryRequest.getDefaultInstance();
+        } else {
+          if (payloadCase_ == 13) {
+            return directoryRequestBuilder_.getMessage();
+          }
+          return File.DirectoryRequest.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.DirectoryRequest directoryRequest = 13;</code>
+       */
+      public Builder setDirectoryRequest(File.DirectoryRequest value) {
+        if (directoryRequestBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          payload_ = value;
+          onChanged();
+        } else {
+          directoryRequestBuilder_.setMessage(value);
+        }
+        payloadCase_ = 13;
+        return this;
+      }
+      /**
+       * <code>.DirectoryRequest directoryRequest = 13;</code>
+       */
+      public Builder setDirectoryRequest(
+          File.DirectoryRequest.Builder builderForValue) {
+        if (directoryRequestBuilder_ == null) {
+          payload_ = builderForValue.build();
+          onChanged();
+        } else {
+          directoryRequestBuilder_.setMessage(builderForValue.build());
+        }
+        payloadCase_ = 13;
+        return this;
+      }
+      /**
+       * <code>.DirectoryRequest directoryRequest = 13;</code>
+       */
+      public Builder mergeDirectoryRequest(File.DirectoryRequest value) {
+        if (directoryRequestBuilder_ == null) {
+          if (payloadCase_ == 13 &&
+              payload_ != File.DirectoryRequest.getDefaultInstance()) {
+            payload_ = File.DirectoryRequest.newBuilder((File.DirectoryRequest) payload_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            payload_ = value;
+          }
+          onChanged();
+        } else {
+          if (payloadCase_ == 13) {
+            directoryRequestBuilder_.mergeFrom(value);
+          } else {
+            directoryRequestBuilder_.setMessage(value);
+          }
+        }
+        payloadCase_ = 13;
+        return this;
+      }
+      /**
+       * <code>.DirectoryRequest directoryRequest = 13;</code>
+       */
+      public Builder clearDirectoryRequest() {
+        if (directoryRequestBuilder_ == null) {
+          if (payloadCase_ == 13) {
+            payloadCase_ = 0;
+            payload_ = null;
+            onChanged();
+          }
+        } else {
+          if (payloadCase_ == 13) {
+            payloadCase_ = 0;
+            payload_ = null;
+          }
+          directoryRequestBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>.DirectoryRequest directoryRequest = 13;</code>
+       */
+      public File.DirectoryRequest.Builder getDirectoryRequestBuilder() {
+        return getDirectoryRequestFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.DirectoryRequest directoryRequest = 13;</code>
+       */
+      @java.lang.Override
+      public File.DirectoryRequestOrBuilder getDirectoryRequestOrBuilder() {
+        if ((payloadCase_ == 13) && (directoryRequestBuilder_ != null)) {
+          return directoryRequestBuilder_.getMessageOrBuilder();
+        } else {
+          if (payloadCase_ == 13) {
+            return (File.DirectoryRequest) payload_;
+          }
+          return File.DirectoryRequest.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.DirectoryRequest directoryRequest = 13;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          File.DirectoryRequest, File.DirectoryRequest.Builder, File.DirectoryRequestOrBuilder> 
+          getDirectoryRequestFieldBuilder() {
+        if (directoryRequestBuilder_ == null) {
+          if (!(payloadCase_ == 13)) {
+            payload_ = File.DirectoryRequest.getDefaultInstance();
+          }
+          directoryRequestBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              File.DirectoryRequest, File.DirectoryRequest.Builder, File.DirectoryRequestOrBuilder>(
+                  (File.DirectoryRequest) payload_,
+                  getParentForChildren(),
+                  isClean());
+          payload_ = null;
+        }
+        payloadCase_ = 13;
+        onChanged();
+        return directoryRequestBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilder<
+          File.DirectoryResponse, File.DirectoryResponse.Builder, File.DirectoryResponseOrBuilder> directoryResponseBuilder_;
+      /**
+       * <code>.DirectoryResponse directoryResponse = 14;</code>
+       * @return Whether the directoryResponse field is set.
+       */
+      @java.lang.Override
+      public boolean hasDirectoryResponse() {
+        return payloadCase_ == 14;
+      }
+      /**
+       * <code>.DirectoryResponse directoryResponse = 14;</code>
+       * @return The directoryResponse.
+       */
+      @java.lang.Override
+      public File.DirectoryResponse getDirectoryResponse() {
+        if (directoryResponseBuilder_ == null) {
+          if (payloadCase_ == 14) {
+            return (File.DirectoryResponse) payload_;
+          }
+          return File.DirectoryResponse.getDefaultInstance();
+        } else {
+          if (payloadCase_ == 14) {
+            return directoryResponseBuilder_.getMessage();
+          }
+          return File.DirectoryResponse.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.DirectoryResponse directoryResponse = 14;</code>
+       */
+      public Builder setDirectoryResponse(File.DirectoryResponse value) {
+        if (directoryResponseBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          payload_ = value;
+          onChanged();
+        } else {
+          directoryResponseBuilder_.setMessage(value);
+        }
+        payloadCase_ = 14;
+        return this;
+      }
+      /**
+       * <code>.DirectoryResponse directoryResponse = 14;</code>
+       */
+      public Builder setDirectoryResponse(
+          File.DirectoryResponse.Builder builderForValue) {
+        if (directoryResponseBuilder_ == null) {
+          payload_ = builderForValue.build();
+          onChanged();
+        } else {
+          directoryResponseBuilder_.setMessage(builderForValue.build());
+        }
+        payloadCase_ = 14;
+        return this;
+      }
+      /**
+       * <code>.DirectoryResponse directoryResponse = 14;</code>
+       */
+      public Builder mergeDirectoryResponse(File.DirectoryResponse value) {
+        if (directoryResponseBuilder_ == null) {
+          if (payloadCase_ == 14 &&
+              payload_ != File.DirectoryResponse.getDefaultInstance()) {
+            payload_ = File.DirectoryResponse.newBuilder((File.DirectoryResponse) payload_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            payload_ = value;
+          }
+          onChanged();
+        } else {
+          if (payloadCase_ == 14) {
+            directoryResponseBuilder_.mergeFrom(value);
+          } else {
+            directoryResponseBuilder_.setMessage(value);
+          }
+        }
+        payloadCase_ = 14;
+        return this;
+      }
+      /**
+       * <code>.DirectoryResponse directoryResponse = 14;</code>
+       */
+      public Builder clearDirectoryResponse() {
+        if (directoryResponseBuilder_ == null) {
+          if (payloadCase_ == 14) {
+            payloadCase_ = 0;
+            payload_ = null;
+            onChanged();
+          }
+        } else {
+          if (payloadCase_ == 14) {
+            payloadCase_ = 0;
+            payload_ = null;
+          }
+          directoryResponseBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>.DirectoryResponse directoryResponse = 14;</code>
+       */
+      public File.DirectoryResponse.Builder getDirectoryResponseBuilder() {
+        return getDirectoryResponseFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.DirectoryResponse directoryResponse = 14;</code>
+       */
+      @java.lang.Override
+      public File.DirectoryResponseOrBuilder getDirectoryResponseOrBuilder() {
+        if ((payloadCase_ == 14) && (directoryResponseBuilder_ != null)) {
+          return directoryResponseBuilder_.getMessageOrBuilder();
+        } else {
+          if (payloadCase_ == 14) {
+            return (File.DirectoryResponse) payload_;
+          }
+          return File.DirectoryResponse.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.DirectoryResponse directoryResponse = 14;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          File.DirectoryResponse, File.DirectoryResponse.Builder, File.DirectoryResponseOrBuilder> 
+          getDirectoryResponseFieldBuilder() {
+        if (directoryResponseBuilder_ == null) {
+          if (!(payloadCase_ == 14)) {
+            payload_ = File.DirectoryResponse.getDefaultInstance();
+          }
+          directoryResponseBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              File.DirectoryResponse, File.DirectoryResponse.Builder, File.DirectoryResponseOrBuilder>(
+                  (File.DirectoryResponse) payload_,
+                  getParentForChildren(),
+                  isClean());
+          payload_ = null;
+        }
+        payloadCase_ = 14;
+        onChanged();
+        return directoryResponseBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilder<
+          File.PackedFileRequest, File.PackedFileRequest.Builder, File.PackedFileRequestOrBuilder> packedFileRequestBuilder_;
+      /**
+       * <code>.PackedFileRequest packedFileRequest = 15;</code>
+       * @return Whether the packedFileRequest field is set.
+       */
+      @java.lang.Override
+      public boolean hasPackedFileRequest() {
+        return payloadCase_ == 15;
+      }
+      /**
+       * <code>.PackedFileRequest packedFileRequest = 15;</code>
+       * @return The packedFileRequest.
+       */
+      @java.lang.Override
+      public File.PackedFileRequest getPackedFileRequest() {
+        if (packedFileRequestBuilder_ == null) {
+          if (payloadCase_ == 15) {
+            return (File.PackedFileRequest) payload_;
+          }
+          return File.PackedFileRequest.getDefaultInstance();
+        } else {
+          if (payloadCase_ == 15) {
+            return packedFileRequestBuilder_.getMessage();
+          }
+          return File.PackedFileRequest.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.PackedFileRequest packedFileRequest = 15;</code>
+       */
+      public Builder setPackedFileRequest(File.PackedFileRequest value) {
+        if (packedFileRequestBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          payload_ = value;
+          onChanged();
+        } else {
+          packedFileRequestBuilder_.setMessage(value);
+        }
+        payloadCase_ = 15;
+        return this;
+      }
+      /**
+       * <code>.PackedFileRequest packedFileRequest = 15;</code>
+       */
+      public Builder setPackedFileRequest(
+          File.PackedFileRequest.Builder builderForValue) {
+        if (packedFileRequestBuilder_ == null) {
+          payload_ = builderForValue.build();
+          onChanged();
+        } else {
+          packedFileRequestBuilder_.setMessage(builderForValue.build());
+        }
+        payloadCase_ = 15;
+        return this;
+      }
+      /**
+       * <code>.PackedFileRequest packedFileRequest = 15;</code>
+       */
+      public Builder mergePackedFileRequest(File.PackedFileRequest value) {
+        if (packedFileRequestBuilder_ == null) {
+          if (payloadCase_ == 15 &&
+              payload_ != File.PackedFileRequest.getDefaultInstance()) {
+            payload_ = File.PackedFileRequest.newBuilder((File.PackedFileRequest) payload_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            payload_ = value;
+          }
+          onChanged();
+        } else {
+          if (payloadCase_ == 15) {
+            packedFileRequestBuilder_.mergeFrom(value);
+          } else {
+            packedFileRequestBuilder_.setMessage(value);
+          }
+        }
+        payloadCase_ = 15;
+        return this;
+      }
+      /**
+       * <code>.PackedFileRequest packedFileRequest = 15;</code>
+       */
+      public Builder clearPackedFileRequest() {
+        if (packedFileRequestBuilder_ == null) {
+          if (payloadCase_ == 15) {
+            payloadCase_ = 0;
+            payload_ = null;
+            onChanged();
+          }
+        } else {
+          if (payloadCase_ == 15) {
+            payloadCase_ = 0;
+            payload_ = null;
+          }
+          packedFileRequestBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>.PackedFileRequest packedFileRequest = 15;</code>
+       */
+      public File.PackedFileRequest.Builder getPackedFileRequestBuilder() {
+        return getPackedFileRequestFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.PackedFileRequest packedFileRequest = 15;</code>
+       */
+      @java.lang.Override
+      public File.PackedFileRequestOrBuilder getPackedFileRequestOrBuilder() {
+        if ((payloadCase_ == 15) && (packedFileRequestBuilder_ != null)) {
+          return packedFileRequestBuilder_.getMessageOrBuilder();
+        } else {
+          if (payloadCase_ == 15) {
+            return (File.PackedFileRequest) payload_;
+          }
+          return File.PackedFileRequest.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.PackedFileRequest packedFileRequest = 15;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          File.PackedFileRequest, File.PackedFileRequest.Builder, File.PackedFileRequestOrBuilder> 
+          getPackedFileRequestFieldBuilder() {
+        if (packedFileRequestBuilder_ == null) {
+          if (!(payloadCase_ == 15)) {
+            payload_ = File.PackedFileRequest.getDefaultInstance();
+          }
+          packedFileRequestBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              File.PackedFileRequest, File.PackedFileRequest.Builder, File.PackedFileRequestOrBuilder>(
+                  (File.PackedFileRequest) payload_,
+                  getParentForChildren(),
+                  isClean());
+          payload_ = null;
+        }
+        payloadCase_ = 15;
+        onChanged();
+        return packedFileRequestBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilder<
+          File.PackedFileResponse, File.PackedFileResponse.Builder, File.PackedFileResponseOrBuilder> packedFileResponseBuilder_;
+      /**
+       * <code>.PackedFileResponse packedFileResponse = 16;</code>
+       * @return Whether the packedFileResponse field is set.
+       */
+      @java.lang.Override
+      public boolean hasPackedFileResponse() {
+        return payloadCase_ == 16;
+      }
+      /**
+       * <code>.PackedFileResponse packedFileResponse = 16;</code>
+       * @return The packedFileResponse.
+       */
+      @java.lang.Override
+      public File.PackedFileResponse getPackedFileResponse() {
+        if (packedFileResponseBuilder_ == null) {
+          if (payloadCase_ == 16) {
+            return (File.PackedFileResponse) payload_;
+          }
+          return File.PackedFileResponse.getDefaultInstance();
+        } else {
+          if (payloadCase_ == 16) {
+            return packedFileResponseBuilder_.getMessage();
+          }
+          return File.PackedFileResponse.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.PackedFileResponse packedFileResponse = 16;</code>
+       */
+      public Builder setPackedFileResponse(File.PackedFileResponse value) {
+        if (packedFileResponseBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          payload_ = value;
+          onChanged();
+        } else {
+          packedFileResponseBuilder_.setMessage(value);
+        }
+        payloadCase_ = 16;
+        return this;
+      }
+      /**
+       * <code>.PackedFileResponse packedFileResponse = 16;</code>
+       */
+      public Builder setPackedFileResponse(
+          File.PackedFileResponse.Builder builderForValue) {
+        if (packedFileResponseBuilder_ == null) {
+          payload_ = builderForValue.build();
+          onChanged();
+        } else {
+          packedFileResponseBuilder_.setMessage(builderForValue.build());
+        }
+        payloadCase_ = 16;
+        return this;
+      }
+      /**
+       * <code>.PackedFileResponse packedFileResponse = 16;</code>
+       */
+      public Builder mergePackedFileResponse(File.PackedFileResponse value) {
+        if (packedFileResponseBuilder_ == null) {
+          if (payloadCase_ == 16 &&
+              payload_ != File.PackedFileResponse.getDefaultInstance()) {
+            payload_ = File.PackedFileResponse.newBuilder((File.PackedFileResponse) payload_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            payload_ = value;
+          }
+          onChanged();
+        } else {
+          if (payloadCase_ == 16) {
+            packedFileResponseBuilder_.mergeFrom(value);
+          } else {
+            packedFileResponseBuilder_.setMessage(value);
+          }
+        }
+        payloadCase_ = 16;
+        return this;
+      }
+      /**
+       * <code>.PackedFileResponse packedFileResponse = 16;</code>
+       */
+      public Builder clearPackedFileResponse() {
+        if (packedFileResponseBuilder_ == null) {
+          if (payloadCase_ == 16) {
+            payloadCase_ = 0;
+            payload_ = null;
+            onChanged();
+          }
+        } else {
+          if (payloadCase_ == 16) {
+            payloadCase_ = 0;
+            payload_ = null;
+          }
+          packedFileResponseBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>.PackedFileResponse packedFileResponse = 16;</code>
+       */
+      public File.PackedFileResponse.Builder getPackedFileResponseBuilder() {
+        return getPackedFileResponseFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.PackedFileResponse packedFileResponse = 16;</code>
+       */
+      @java.lang.Override
+      public File.PackedFileResponseOrBuilder getPackedFileResponseOrBuilder() {
+        if ((payloadCase_ == 16) && (packedFileResponseBuilder_ != null)) {
+          return packedFileResponseBuilder_.getMessageOrBuilder();
+        } else {
+          if (payloadCase_ == 16) {
+            return (File.PackedFileResponse) payload_;
+          }
+          return File.PackedFileResponse.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.PackedFileResponse packedFileResponse = 16;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          File.PackedFileResponse, File.PackedFileResponse.Builder, File.PackedFileResponseOrBuilder> 
+          getPackedFileResponseFieldBuilder() {
+        if (packedFileResponseBuilder_ == null) {
+          if (!(payloadCase_ == 16)) {
+            payload_ = File.PackedFileResponse.getDefaultInstance();
+          }
+          packedFileResponseBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              File.PackedFileResponse, File.PackedFileResponse.Builder, File.PackedFileResponseOrBuilder>(
+                  (File.PackedFileResponse) payload_,
+                  getParentForChildren(),
+                  isClean());
+          payload_ = null;
+        }
+        payloadCase_ = 16;
+        onChanged();
+        return packedFileResponseBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilder<
+          File.DeltaRequest, File.DeltaRequest.Builder, File.DeltaRequestOrBuilder> deltaRequestBuilder_;
+      /**
+       * <code>.DeltaRequest deltaRequest = 17;</code>
+       * @return Whether the deltaRequest field is set.
+       */
+      @java.lang.Override
+      public boolean hasDeltaRequest() {
+        return payloadCase_ == 17;
+      }
+      /**
+       * <code>.DeltaRequest deltaRequest = 17;</code>
+       * @return The deltaRequest.
+       */
+      @java.lang.Override
+      public File.DeltaRequest getDeltaRequest() {
+        if (deltaRequestBuilder_ == null) {
+          if (payloadCase_ == 17) {
+            return (File.DeltaRequest) payload_;
+          }
+          return File.DeltaRequest.getDefaultInstance();
+        } else {
+          if (payloadCase_ == 17) {
+            return deltaRequestBuilder_.getMessage();
+          }
+          return File.DeltaRequest.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.DeltaRequest deltaRequest = 17;</code>
+       */
+      public Builder setDeltaRequest(File.DeltaRequest value) {
+        if (deltaRequestBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          payload_ = value;
+          onChanged();
+        } else {
+          deltaRequestBuilder_.setMessage(value);
+        }
+        payloadCase_ = 17;
+        return this;
+      }
+      /**
+       * <code>.DeltaRequest deltaRequest = 17;</code>
+       */
+      public Builder setDeltaRequest(
+          File.DeltaRequest.Builder builderForValue) {
+        if (deltaRequestBuilder_ == null) {
+          payload_ = builderForValue.build();
+          onChanged();
+        } else {
+          deltaRequestBuilder_.setMessage(builderForValue.build());
+        }
+        payloadCase_ = 17;
+        return this;
+      }
+      /**
+       * <code>.DeltaRequest deltaRequest = 17;</code>
+       */
+      public Builder mergeDeltaRequest(File.DeltaRequest value) {
+        if (deltaRequestBuilder_ == null) {
+          if (payloadCase_ == 17 &&
+              payload_ != File.DeltaRequest.getDefaultInstance()) {
+            payload_ = File.DeltaRequest.newBuilder((File.DeltaRequest) payload_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            payload_ = value;
+          }
+          onChanged();
+        } else {
+          if (payloadCase_ == 17) {
+            deltaRequestBuilder_.mergeFrom(value);
+          } else {
+            deltaRequestBuilder_.setMessage(value);
+          }
+        }
+        payloadCase_ = 17;
+        return this;
+      }
+      /**
+       * <code>.DeltaRequest deltaRequest = 17;</code>
+       */
+      public Builder clearDeltaRequest() {
+        if (deltaRequestBuilder_ == null) {
+          if (payloadCase_ == 17) {
+            payloadCase_ = 0;
+            payload_ = null;
+            onChanged();
+          }
+        } else {
+          if (payloadCase_ == 17) {
+            payloadCase_ = 0;
+            payload_ = null;
+          }
+          deltaRequestBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>.DeltaRequest deltaRequest = 17;</code>
+       */
+      public File.DeltaRequest.Builder getDeltaRequestBuilder() {
+        return getDeltaRequestFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.DeltaRequest deltaRequest = 17;</code>
+       */
+      @java.lang.Override
+      public File.DeltaRequestOrBuilder getDeltaRequestOrBuilder() {
+        if ((payloadCase_ == 17) && (deltaRequestBuilder_ != null)) {
+          return deltaRequestBuilder_.getMessageOrBuilder();
+        } else {
+          if (payloadCase_ == 17) {
+            return (File.DeltaRequest) payload_;
+          }
+          return File.DeltaRequest.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.DeltaRequest deltaRequest = 17;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          File.DeltaRequest, File.DeltaRequest.Builder, File.DeltaRequestOrBuilder> 
+          getDeltaRequestFieldBuilder() {
+        if (deltaRequestBuilder_ == null) {
+          if (!(payloadCase_ == 17)) {
+            payload_ = File.DeltaRequest.getDefaultInstance();
+          }
+          deltaRequestBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              File.DeltaRequest, File.DeltaRequest.Builder, File.DeltaRequestOrBuilder>(
+                  (File.DeltaRequest) payload_,
+                  getParentForChildren(),
+                  isClean());
+          payload_ = null;
+        }
+        payloadCase_ = 17;
+        onChanged();
+        return deltaRequestBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilder<
+          File.DeltaResponse, File.DeltaResponse.Builder, File.DeltaResponseOrBuilder> deltaResponseBuilder_;
+      /**
+       * <code>.DeltaResponse deltaResponse = 18;</code>
+       * @return Whether the deltaResponse field is set.
+       */
+      @java.lang.Override
+      public boolean hasDeltaResponse() {
+        return payloadCase_ == 18;
+      }
+      /**
+       * <code>.DeltaResponse deltaResponse = 18;</code>
+       * @return The deltaResponse.
+       */
+      @java.lang.Override
+      public File.DeltaResponse getDeltaResponse() {
+        if (deltaResponseBuilder_ == null) {
+          if (payloadCase_ == 18) {
+            return (File.DeltaResponse) payload_;
+          }
+          return File.DeltaResponse.getDefaultInstance();
+        } else {
+          if (payloadCase_ == 18) {
+            return deltaResponseBuilder_.getMessage();
+          }
+          return File.DeltaResponse.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.DeltaResponse deltaResponse = 18;</code>
+       */
+      public Builder setDeltaResponse(File.DeltaResponse value) {
+        if (deltaResponseBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          payload_ = value;
+          onChanged();
+        } else {
+          deltaResponseBuilder_.setMessage(value);
+        }
+        payloadCase_ = 18;
+        return this;
+      }
+      /**
+       * <code>.DeltaResponse deltaResponse = 18;</code>
+       */
+      public Builder setDeltaResponse(
+          File.DeltaResponse.Builder builderForValue) {
+        if (deltaResponseBuilder_ == null) {
+          payload_ = builderForValue.build();
+          onChanged();
+        } else {
+          deltaResponseBuilder_.setMessage(builderForValue.build());
+        }
+        payloadCase_ = 18;
+        return this;
+      }
+      /**
+       * <code>.DeltaResponse deltaResponse = 18;</code>
+       */
+      public Builder mergeDeltaResponse(File.DeltaResponse value) {
+        if (deltaResponseBuilder_ == null) {
+          if (payloadCase_ == 18 &&
+              payload_ != File.DeltaResponse.getDefaultInstance()) {
+            payload_ = File.DeltaResponse.newBuilder((File.DeltaResponse) payload_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            payload_ = value;
+          }
+          onChanged();
+        } else {
+          if (payloadCase_ == 18) {
+            deltaResponseBuilder_.mergeFrom(value);
+          } else {
+            deltaResponseBuilder_.setMessage(value);
+          }
+        }
+        payloadCase_ = 18;
+        return this;
+      }
+      /**
+       * <code>.DeltaResponse deltaResponse = 18;</code>
+       */
+      public Builder clearDeltaResponse() {
+        if (deltaResponseBuilder_ == null) {
+          if (payloadCase_ == 18) {
+            payloadCase_ = 0;
+            payload_ = null;
+            onChanged();
+          }
+        } else {
+          if (payloadCase_ == 18) {
+            payloadCase_ = 0;
+            payload_ = null;
+          }
+          deltaResponseBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>.DeltaResponse deltaResponse = 18;</code>
+       */
+      public File.DeltaResponse.Builder getDeltaResponseBuilder() {
+        return getDeltaResponseFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.DeltaResponse deltaResponse = 18;</code>
+       */
+      @java.lang.Override
+      public File.DeltaResponseOrBuilder getDeltaResponseOrBuilder() {
+        if ((payloadCase_ == 18) && (deltaResponseBuilder_ != null)) {
+          return deltaResponseBuilder_.getMessageOrBuilder();
+        } else {
+          if (payloadCase_ == 18) {
+            return (File.DeltaResponse) payload_;
+          }
+          return File.DeltaResponse.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.DeltaResponse deltaResponse = 18;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          File.DeltaResponse, File.DeltaResponse.Builder, File.DeltaResponseOrBuilder> 
+          getDeltaResponseFieldBuilder() {
+        if (deltaResponseBuilder_ == null) {
+          if (!(payloadCase_ == 18)) {
+            payload_ = File.DeltaResponse.getDefaultInstance();
+          }
+          deltaResponseBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              File.DeltaResponse, File.DeltaResponse.Builder, File.DeltaResponseOrBuilder>(
+                  (File.DeltaResponse) payload_,
+                  getParentForChildren(),
+                  isClean());
+          payload_ = null;
+        }
+        payloadCase_ = 18;
+        onChanged();
+        return deltaResponseBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilder<
+          File.ChunkListRequest, File.ChunkListRequest.Builder, File.ChunkListRequestOrBuilder> chunkListRequestBuilder_;
+      /**
+       * <code>.ChunkListRequest chunkListRequest = 19;</code>
+       * @return Whether the chunkListRequest field is set.
+       */
+      @java.lang.Override
+      public boolean hasChunkListRequest() {
+        return payloadCase_ == 19;
+      }
+      /**
+       * <code>.ChunkListRequest chunkListRequest = 19;</code>
+       * @return The chunkListRequest.
+       */
+      @java.lang.Override
+      public File.ChunkListRequest getChunkListRequest() {
+        if (chunkListRequestBuilder_ == null) {
+          if (payloadCase_ == 19) {
+            return (File.ChunkListRequest) payload_;
+          }
+          return File.ChunkListRequest.getDefaultInstance();
+        } else {
+          if (payloadCase_ == 19) {
+            return chunkListRequestBuilder_.getMessage();
+          }
+          return File.ChunkListRequest.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.ChunkListRequest chunkListRequest = 19;</code>
+       */
+      public Builder setChunkListRequest(File.ChunkListRequest value) {
+        if (chunkListRequestBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          payload_ = value;
+          onChanged();
+        } else {
+          chunkListRequestBuilder_.setMessage(value);
+        }
+        payloadCase_ = 19;
+        return this;
+      }
+      /**
+       * <code>.ChunkListRequest chunkListRequest = 19;</code>
+       */
+      public Builder setChunkListRequest(
+          File.ChunkListRequest.Builder builderForValue) {
+        if (chunkListRequestBuilder_ == null) {
+          payload_ = builderForValue.build();
+          onChanged();
+        } else {
+          chunkListRequestBuilder_.setMessage(builderForValue.build());
+        }
+        payloadCase_ = 19;
+        return this;
+      }
+      /**
+       * <code>.ChunkListRequest chunkListRequest = 19;</code>
+       */
+      public Builder mergeChunkListRequest(File.ChunkListRequest value) {
+        if (chunkListRequestBuilder_ == null) {
+          if (payloadCase_ == 19 &&
+              payload_ != File.ChunkListRequest.getDefaultInstance()) {
+            payload_ = File.ChunkListRequest.newBuilder((File.ChunkListRequest) payload_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            payload_ = value;
+          }
+          onChanged();
+        } else {
+          if (payloadCase_ == 19) {
+            chunkListRequestBuilder_.mergeFrom(value);
+          } else {
+            chunkListRequestBuilder_.setMessage(value);
+          }
+        }
+        payloadCase_ = 19;
+        return this;
+      }
+      /**
+       * <code>.ChunkListRequest chunkListRequest = 19;</code>
+       */
+      public Builder clearChunkListRequest() {
+        if (chunkListRequestBuilder_ == null) {
+          if (payloadCase_ == 19) {
+            payloadCase_ = 0;
+            payload_ = null;
+            onChanged();
+          }
+        } else {
+          if (payloadCase_ == 19) {
+            payloadCase_ = 0;
+            payload_ = null;
+          }
+          chunkListRequestBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>.ChunkListRequest chunkListRequest = 19;</code>
+       */
+      public File.ChunkListRequest.Builder getChunkListRequestBuilder() {
+        return getChunkListRequestFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.ChunkListRequest chunkListRequest = 19;</code>
+       */
+      @java.lang.Override
+      public File.ChunkListRequestOrBuilder getChunkListRequestOrBuilder() {
+        if ((payloadCase_ == 19) && (chunkListRequestBuilder_ != null)) {
+          return chunkListRequestBuilder_.getMessageOrBuilder();
+        } else {
+          if (payloadCase_ == 19) {
+            return (File.ChunkListRequest) payload_;
+          }
+          return File.ChunkListRequest.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.ChunkListRequest chunkListRequest = 19;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          File.ChunkListRequest, File.ChunkListRequest.Builder, File.ChunkListRequestOrBuilder> 
+          getChunkListRequestFieldBuilder() {
+        if (chunkListRequestBuilder_ == null) {
+          if (!(payloadCase_ == 19)) {
+            payload_ = File.ChunkListRequest.getDefaultInstance();
+          }
+          chunkListRequestBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              File.ChunkListRequest, File.ChunkListRequest.Builder, File.ChunkListRequestOrBuilder>(
+                  (File.ChunkListRequest) payload_,
+                  getParentForChildren(),
+                  isClean());
+          payload_ = null;
+        }
+        payloadCase_ = 19;
+        onChanged();
+        return chunkListRequestBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilder<
+          File.ChunkListResponse, File.ChunkListResponse.Builder, File.ChunkListResponseOrBuilder> chunkListResponseBuilder_;
+      /**
+       * <code>.ChunkListResponse chunkListResponse = 20;</code>
+       * @return Whether the chunkListResponse field is set.
+       */
+      @java.lang.Override
+      public boolean hasChunkListResponse() {
+        return payloadCase_ == 20;
+      }
+      /**
+       * <code>.ChunkListResponse chunkListResponse = 20;</code>
+       * @return The chunkListResponse.
+       */
+      @java.lang.Override
+      public File.ChunkListResponse getChunkListResponse() {
+        if (chunkListResponseBuilder_ == null) {
+          if (payloadCase_ == 20) {
+            return (File.ChunkListResponse) payload_;
+          }
+          return File.ChunkListResponse.getDefaultInstance();
+        } else {
+          if (payloadCase_ == 20) {
+            return chunkListResponseBuilder_.getMessage();
+          }
+          return File.ChunkListResponse.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.ChunkListResponse chunkListResponse = 20;</code>
+       */
+      public Builder setChunkListResponse(File.ChunkListResponse value) {
+        if (chunkListResponseBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          payload_ = value;
+          onChanged();
+        } else {
+          chunkListResponseBuilder_.setMessage(value);
+        }
+        payloadCase_ = 20;
+        return this;
+      }
+      /**
+       * <code>.ChunkListResponse chunkListResponse = 20;</code>
+       */
+      public Builder setChunkListResponse(
+          File.ChunkListResponse.Builder builderForValue) {
+        if (chunkListResponseBuilder_ == null) {
+          payload_ = builderForValue.build();
+          onChanged();
+        } else {
+          chunkListResponseBuilder_.setMessage(builderForValue.build());
+        }
+        payloadCase_ = 20;
+        return this;
+      }
+      /**
+       * <code>.ChunkListResponse chunkListResponse = 20;</code>
+       */
+      public Builder mergeChunkListResponse(File.ChunkListResponse value) {
+        if (chunkListResponseBuilder_ == null) {
+          if (payloadCase_ == 20 &&
+              payload_ != File.ChunkListResponse.getDefaultInstance()) {
+            payload_ = File.ChunkListResponse.newBuilder((File.ChunkListResponse) payload_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            payload_ = value;
+          }
+          onChanged();
+        } else {
+          if (payloadCase_ == 20) {
+            chunkListResponseBuilder_.mergeFrom(value);
+          } else {
+            chunkListResponseBuilder_.setMessage(value);
+          }
+        }
+        payloadCase_ = 20;
+        return this;
+      }
+      /**
+       * <code>.ChunkListResponse chunkListResponse = 20;</code>
+       */
+      public Builder clearChunkListResponse() {
+        if (chunkListResponseBuilder_ == null) {
+          if (payloadCase_ == 20) {
+            payloadCase_ = 0;
+            payload_ = null;
+            onChanged();
+          }
+        } else {
+          if (payloadCase_ == 20) {
+            payloadCase_ = 0;
+            payload_ = null;
+          }
+          chunkListResponseBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>.ChunkListResponse chunkListResponse = 20;</code>
+       */
+      public File.ChunkListResponse.Builder getChunkListResponseBuilder() {
+        return getChunkListResponseFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.ChunkListResponse chunkListResponse = 20;</code>
+       */
+      @java.lang.Override
+      public File.ChunkListResponseOrBuilder getChunkListResponseOrBuilder() {
+        if ((payloadCase_ == 20) && (chunkListResponseBuilder_ != null)) {
+          return chunkListResponseBuilder_.getMessageOrBuilder();
+        } else {
+          if (payloadCase_ == 20) {
+            return (File.ChunkListResponse) payload_;
+          }
+          return File.ChunkListResponse.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.ChunkListResponse chunkListResponse = 20;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          File.ChunkListResponse, File.ChunkListResponse.Builder, File.ChunkListResponseOrBuilder> 
+          getChunkListResponseFieldBuilder() {
+        if (chunkListResponseBuilder_ == null) {
+          if (!(payloadCase_ == 20)) {
+            payload_ = File.ChunkListResponse.getDefaultInstance();
+          }
+          chunkListResponseBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              File.ChunkListResponse, File.ChunkListResponse.Builder, File.ChunkListResponseOrBuilder>(
+                  (File.ChunkListResponse) payload_,
+                  getParentForChildren(),
+                  isClean());
+          payload_ = null;
+        }
+        payloadCase_ = 20;
+        onChanged();
+        return chunkListResponseBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilder<
+          File.ChunkRequest, File.ChunkRequest.Builder, File.ChunkRequestOrBuilder> chunkRequestBuilder_;
+      /**
+       * <code>.ChunkRequest chunkRequest = 21;</code>
+       * @return Whether the chunkRequest field is set.
+       */
+      @java.lang.Override
+      public boolean hasChunkRequest() {
+        return payloadCase_ == 21;
+      }
+      /**
+       * <code>.ChunkRequest chunkRequest = 21;</code>
+       * @return The chunkRequest.
+       */
+      @java.lang.Override
+      public File.ChunkRequest getChunkRequest() {
+        if (chunkRequestBuilder_ == null) {
+          if (payloadCase_ == 21) {
+            return (File.ChunkRequest) payload_;
+          }
+          return File.ChunkRequest.getDefaultInstance();
+        } else {
+          if (payloadCase_ == 21) {
+            return chunkRequestBuilder_.getMessage();
+          }
+          return File.ChunkRequest.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.ChunkRequest chunkRequest = 21;</code>
+       */
+      public Builder setChunkRequest(File.ChunkRequest value) {
+        if (chunkRequestBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          payload_ = value;
+          onChanged();
+        } else {
+          chunkRequestBuilder_.setMessage(value);
+        }
+        payloadCase_ = 21;
+        return this;
+      }
+      /**
+       * <code>.ChunkRequest chunkRequest = 21;</code>
+       */
+      public Builder setChunkRequest(
+          File.ChunkRequest.Builder builderForValue) {
+        if (chunkRequestBuilder_ == null) {
+          payload_ = builderForValue.build();
+          onChanged();
+        } else {
+          chunkRequestBuilder_.setMessage(builderForValue.build());
+        }
+        payloadCase_ = 21;
+        return this;
+      }
+      /**
+       * <code>.ChunkRequest chunkRequest = 21;</code>
+       */
+      public Builder mergeChunkRequest(File.ChunkRequest value) {
+        if (chunkRequestBuilder_ == null) {
+          if (payloadCase_ == 21 &&
+              payload_ != File.ChunkRequest.getDefaultInstance()) {
+            payload_ = File.ChunkRequest.newBuilder((File.ChunkRequest) payload_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            payload_ = value;
+          }
+          onChanged();
+        } else {
+          if (payloadCase_ == 21) {
+            chunkRequestBuilder_.mergeFrom(value);
+          } else {
+            chunkRequestBuilder_.setMessage(value);
+          }
+        }
+        payloadCase_ = 21;
+        return this;
+      }
+      /**
+       * <code>.ChunkRequest chunkRequest = 21;</code>
+       */
+      public Builder clearChunkRequest() {
+        if (chunkRequestBuilder_ == null) {
+          if (payloadCase_ == 21) {
+            payloadCase_ = 0;
+            payload_ = null;
+            onChanged();
+          }
+        } else {
+          if (payloadCase_ == 21) {
+            payloadCase_ = 0;
+            payload_ = null;
+          }
+          chunkRequestBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>.ChunkRequest chunkRequest = 21;</code>
+       */
+      public File.ChunkRequest.Builder getChunkRequestBuilder() {
+        return getChunkRequestFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.ChunkRequest chunkRequest = 21;</code>
+       */
+      @java.lang.Override
+      public File.ChunkRequestOrBuilder getChunkRequestOrBuilder() {
+        if ((payloadCase_ == 21) && (chunkRequestBuilder_ != null)) {
+          return chunkRequestBuilder_.getMessageOrBuilder();
+        } else {
+          if (payloadCase_ == 21) {
+            return (File.ChunkRequest) payload_;
+          }
+          return File.ChunkRequest.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.ChunkRequest chunkRequest = 21;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          File.ChunkRequest, File.ChunkRequest.Builder, File.ChunkRequestOrBuilder> 
+          getChunkRequestFieldBuilder() {
+        if (chunkRequestBuilder_ == null) {
+          if (!(payloadCase_ == 21)) {
+            payload_ = File.ChunkRequest.getDefaultInstance();
+          }
+          chunkRequestBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              File.ChunkRequest, File.ChunkRequest.Builder, File.ChunkRequestOrBuilder>(
+                  (File.ChunkRequest) payload_,
+                  getParentForChildren(),
+                  isClean());
+          payload_ = null;
+        }
+        payloadCase_ = 21;
+        onChanged();
+        return chunkRequestBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilder<
+          File.ChunkResponse, File.ChunkResponse.Builder, File.ChunkResponseOrBuilder> chunkResponseBuilder_;
+      /**
+       * <code>.ChunkResponse chunkResponse = 22;</code>
+       * @return Whether the chunkResponse field is set.
+       */
+      @java.lang.Override
+      public boolean hasChunkResponse() {
+        return payloadCase_ == 22;
+      }
+      /**
+       * <code>.ChunkResponse chunkResponse = 22;</code>
+       * @return The chunkResponse.
+       */
+      @java.lang.Override
+      public File.ChunkResponse getChunkResponse() {
+        if (chunkResponseBuilder_ == null) {
+          if (payloadCase_ == 22) {
+            return (File.ChunkResponse) payload_;
+          }
+          return File.ChunkResponse.getDefaultInstance();
+        } else {
+          if (payloadCase_ == 22) {
+            return chunkResponseBuilder_.getMessage();
+          }
+          return File.ChunkResponse.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.ChunkResponse chunkResponse = 22;</code>
+       */
+      public Builder setChunkResponse(File.ChunkResponse value) {
+        if (chunkResponseBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          payload_ = value;
+          onChanged();
+        } else {
+          chunkResponseBuilder_.setMessage(value);
+        }
+        payloadCase_ = 22;
+        return this;
+      }
+      /**
+       * <code>.ChunkResponse chunkResponse = 22;</code>
+       */
+      public Builder setChunkResponse(
+          File.ChunkResponse.Builder builderForValue) {
+        if (chunkResponseBuilder_ == null) {
+          payload_ = builderForValue.build();
+          onChanged();
+        } else {
+          chunkResponseBuilder_.setMessage(builderForValue.build());
+        }
+        payloadCase_ = 22;
+        return this;
+      }
+      /**
+       * <code>.ChunkResponse chunkResponse = 22;</code>
+       */
+      public Builder mergeChunkResponse(File.ChunkResponse value) {
+        if (chunkResponseBuilder_ == null) {
+          if (payloadCase_ == 22 &&
+              payload_ != File.ChunkResponse.getDefaultInstance()) {
+            payload_ = File.ChunkResponse.newBuilder((File.ChunkResponse) payload_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            payload_ = value;
+          }
+          onChanged();
+        } else {
+          if (payloadCase_ == 22) {
+            chunkResponseBuilder_.mergeFrom(value);
+          } else {
+            chunkResponseBuilder_.setMessage(value);
+          }
+        }
+        payloadCase_ = 22;
+        return this;
+      }
+      /**
+       * <code>.ChunkResponse chunkResponse = 22;</code>
+       */
+      public Builder clearChunkResponse() {
+        if (chunkResponseBuilder_ == null) {
+          if (payloadCase_ == 22) {
+            payloadCase_ = 0;
+            payload_ = null;
+            onChanged();
+          }
+        } else {
+          if (payloadCase_ == 22) {
+            payloadCase_ = 0;
+            payload_ = null;
+          }
+          chunkResponseBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>.ChunkResponse chunkResponse = 22;</code>
+       */
+      public File.ChunkResponse.Builder getChunkResponseBuilder() {
+        return getChunkResponseFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.ChunkResponse chunkResponse = 22;</code>
+       */
+      @java.lang.Override
+      public File.ChunkResponseOrBuilder getChunkResponseOrBuilder() {
+        if ((payloadCase_ == 22) && (chunkResponseBuilder_ != null)) {
+          return chunkResponseBuilder_.getMessageOrBuilder();
+        } else {
+          if (payloadCase_ == 22) {
+            return (File.ChunkResponse) payload_;
+          }
+          return File.ChunkResponse.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.ChunkResponse chunkResponse = 22;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          File.ChunkResponse, File.ChunkResponse.Builder, File.ChunkResponseOrBuilder> 
+          getChunkResponseFieldBuilder() {
+        if (chunkResponseBuilder_ == null) {
+          if (!(payloadCase_ == 22)) {
+            payload_ = File.ChunkResponse.getDefaultInstance();
+          }
+          chunkResponseBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              File.ChunkResponse, File.ChunkResponse.Builder, File.ChunkResponseOrBuilder>(
+                  (File.ChunkResponse) payload_,
+                  getParentForChildren(),
+                  isClean());
+          payload_ = null;
+        }
+        payloadCase_ = 22;
+        onChanged();
+        return chunkResponseBuilder_;
+      }
+
       // @@protoc_insertion_point(builder_scope:ProtobufMessage)
     }
 
@@ -2712,7 +5388,7 @@ public final class General {
       "ain/protobuf/handshake.proto\032\034src/main/p" +
       "rotobuf/ping.proto\032\034src/main/protobuf/po" +
       "ng.proto\032\"src/main/protobuf/keep_alive.p" +
-      "roto\032\034src/main/protobuf/file.proto\"\250\003\n\017P" +
+      "roto\032\034src/main/protobuf/file.proto\"\310\007\n\017P" +
       "rotobufMessage\022&\n\thandshake\030\001 \001(\0132\021.Hand" +
       "shakeMessageH\000\022\034\n\004ping\030\002 \001(\0132\014.PingMessa" +
       "geH\000\022\034\n\004pong\030\003 \001(\0132\014.PongMessageH\000\022*\n\013ca" +
@@ -2723,7 +5399,21 @@ public final class General {
       "questH\000\022-\n\020getFilesResponse\030\010 \001(\0132\021.GetF" +
       "ilesResponseH\000\022#\n\013fileRequest\030\t \001(\0132\014.Fi" +
       "leRequestH\000\022%\n\014fileResponse\030\n \001(\0132\r.File" +
-      "ResponseH\000B\t\n\007payloadb\006proto3"
+      "ResponseH\000\022+\n\017fileInfoRequest\030\013 \001(\0132\020.Fi" +
+      "leInfoRequestH\000\022-\n\020fileInfoResponse\030\014 \001(" +
+      "\0132\021.FileInfoResponseH\000\022-\n\020directoryReque" +
+      "st\030\r \001(\0132\021.DirectoryRequestH\000\022/\n\021directo" +
+      "ryResponse\030\016 \001(\0132\022.DirectoryResponseH\000\022/" +
+      "\n\021packedFileRequest\030\017 \001(\0132\022.PackedFileRe" +
+      "questH\000\0221\n\022packedFileResponse\030\020 \001(\0132\023.Pa" +
+      "ckedFileResponseH\000\022%\n\014deltaRequest\030\021 \001(\013" +
+      "2\r.DeltaRequestH\000\022\'\n\rdeltaResponse\030\022 \001(\013" +
+      "2\016.DeltaResponseH\000\022-\n\020chunkListRequest\030\023" +
+      " \001(\0132\021.ChunkListRequestH\000\022/\n\021chunkListRe" +
+      "sponse\030\024 \001(\0132\022.ChunkListResponseH\000\022%\n\014ch" +
+      "unkRequest\030\025 \001(\0132\r.ChunkRequestH\000\022\'\n\rchu" +
+      "nkResponse\030\026 \001(\0132\016.ChunkResponseH\000B\t\n\007pa" +
+      "yloadb\006proto3"
     };
     descriptor = com.google.protobuf.Descriptors.FileDescriptor
       .internalBuildGeneratedFileFrom(descriptorData,
@@ -2739,7 +5429,7 @@ public final class General {
     internal_static_ProtobufMessage_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_ProtobufMessage_descriptor,
-        new java.lang.String[] { "Handshake", "Ping", "Pong", "CancelPings", "CancelPongs", "KeepAlive", "GetFilesRequest", "GetFilesResponse", "FileRequest", "FileResponse", "Payload", });
+        new java.lang.String[] { "Handshake", "Ping", "Pong", "CancelPings", "CancelPongs", "KeepAlive", "GetFilesRequest", "GetFilesResponse", "FileRequest", "FileResponse", "FileInfoRequest", "FileInfoResponse", "DirectoryRequest", "DirectoryResponse", "PackedFileRequest", "PackedFileResponse", "DeltaRequest", "DeltaResponse", "ChunkListRequest", "ChunkListResponse", "ChunkRequest", "ChunkResponse", "Payload", });
     descriptor.resolveAllFeaturesImmutable();
     Handshake.getDescriptor();
     Ping.getDescriptor();
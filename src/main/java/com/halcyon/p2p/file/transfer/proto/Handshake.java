@@ -52,6 +52,55 @@ public final class Handshake {
      */
     com.google.protobuf.ByteString
         getLeaderNameBytes();
+
+    /**
+     * <code>int32 minChunkSize = 3;</code>
+     * @return The minChunkSize.
+     */
+    int getMinChunkSize();
+
+    /**
+     * <code>int32 maxChunkSize = 4;</code>
+     * @return The maxChunkSize.
+     */
+    int getMaxChunkSize();
+
+    /**
+     * <code>repeated string capabilities = 5;</code>
+     * @return A list containing the capabilities.
+     */
+    java.util.List<java.lang.String>
+        getCapabilitiesList();
+    /**
+     * <code>repeated string capabilities = 5;</code>
+     * @return The count of capabilities.
+     */
+    int getCapabilitiesCount();
+    /**
+     * <code>repeated string capabilities = 5;</code>
+     * @param index The index of the element to return.
+     * @return The capabilities at the given index.
+     */
+    java.lang.String getCapabilities(int index);
+    /**
+     * <code>repeated string capabilities = 5;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the capabilities at the given index.
+     */
+    com.google.protobuf.ByteString
+        getCapabilitiesBytes(int index);
+
+    /**
+     * <code>bool dataLane = 6;</code>
+     * @return The dataLane.
+     */
+    boolean getDataLane();
+
+    /**
+     * <code>int32 maxDataLanes = 7;</code>
+     * @return The maxDataLanes.
+     */
+    int getMaxDataLanes();
   }
   /**
    * Protobuf type {@code HandshakeMessage}
@@ -77,6 +126,8 @@ public final class Handshake {
     private HandshakeMessage() {
       senderPeerName_ = "";
       leaderName_ = "";
+      capabilities_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
     }
 
     public static final com.google.protobuf.Descriptors.Descriptor
@@ -170,6 +221,87 @@ public final class Handshake {
       }
     }
 
+    public static final int MINCHUNKSIZE_FIELD_NUMBER = 3;
+    private int minChunkSize_ = 0;
+    /**
+     * <code>int32 minChunkSize = 3;</code>
+     * @return The minChunkSize.
+     */
+    @java.lang.Override
+    public int getMinChunkSize() {
+      return minChunkSize_;
+    }
+
+    public static final int MAXCHUNKSIZE_FIELD_NUMBER = 4;
+    private int maxChunkSize_ = 0;
+    /**
+     * <code>int32 maxChunkSize = 4;</code>
+     * @return The maxChunkSize.
+     */
+    @java.lang.Override
+    public int getMaxChunkSize() {
+      return maxChunkSize_;
+    }
+
+    public static final int CAPABILITIES_FIELD_NUMBER = 5;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.LazyStringArrayList capabilities_ =
+        com.google.protobuf.LazyStringArrayList.emptyList();
+    /**
+     * <code>repeated string capabilities = 5;</code>
+     * @return A list containing the capabilities.
+     */
+    public com.google.protobuf.ProtocolStringList
+        getCapabilitiesList() {
+      return capabilities_;
+    }
+    /**
+     * <code>repeated string capabilities = 5;</code>
+     * @return The count of capabilities.
+     */
+    public int getCapabilitiesCount() {
+      return capabilities_.size();
+    }
+    /**
+     * <code>repeated string capabilities = 5;</code>
+     * @param index The index of the element to return.
+     * @return The capabilities at the given index.
+     */
+    public java.lang.String getCapabilities(int index) {
+      return capabilities_.get(index);
+    }
+    /**
+     * <code>repeated string capabilities = 5;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the capabilities at the given index.
+     */
+    public com.google.protobuf.ByteString
+        getCapabilitiesBytes(int index) {
+      return capabilities_.getByteString(index);
+    }
+
+    public static final int DATALANE_FIELD_NUMBER = 6;
+    private boolean dataLane_ = false;
+    /**
+     * <code>bool dataLane = 6;</code>
+     * @return The dataLane.
+     */
+    @java.lang.Override
+    public boolean getDataLane() {
+      return dataLane_;
+    }
+
+    public static final int MAXDATALANES_FIELD_NUMBER = 7;
+    private int maxDataLanes_ = 0;
+    /**
+     * <code>int32 maxDataLanes = 7;</code>
+     * @return The maxDataLanes.
+     */
+    @java.lang.Override
+    public int getMaxDataLanes() {
+      return maxDataLanes_;
+    }
+
     private byte memoizedIsInitialized = -1;
     @java.lang.Override
     public final boolean isInitialized() {
@@ -190,6 +322,21 @@ public final class Handshake {
       if (!com.google.protobuf.GeneratedMessage.isStringEmpty(leaderName_)) {
         com.google.protobuf.GeneratedMessage.writeString(output, 2, leaderName_);
       }
+      if (minChunkSize_ != 0) {
+        output.writeInt32(3, minChunkSize_);
+      }
+      if (maxChunkSize_ != 0) {
+        output.writeInt32(4, maxChunkSize_);
+      }
+      for (int i = 0; i < capabilities_.size(); i++) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 5, capabilities_.getRaw(i));
+      }
+      if (dataLane_ != false) {
+        output.writeBool(6, dataLane_);
+      }
+      if (maxDataLanes_ != 0) {
+        output.writeInt32(7, maxDataLanes_);
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -205,6 +352,30 @@ public final class Handshake {
       if (!com.google.protobuf.GeneratedMessage.isStringEmpty(leaderName_)) {
         size += com.google.protobuf.GeneratedMessage.computeStringSize(2, leaderName_);
       }
+      if (minChunkSize_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(3, minChunkSize_);
+      }
+      if (maxChunkSize_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(4, maxChunkSize_);
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < capabilities_.size(); i++) {
+          dataSize += computeStringSizeNoTag(capabilities_.getRaw(i));
+        }
+        size += dataSize;
+        size += 1 * getCapabilitiesList().size();
+      }
+      if (dataLane_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(6, dataLane_);
+      }
+      if (maxDataLanes_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(7, maxDataLanes_);
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSize = size;
       return size;
@@ -224,6 +395,16 @@ public final class Handshake {
           .equals(other.getSenderPeerName())) return false;
       if (!getLeaderName()
           .equals(other.getLeaderName())) return false;
+      if (getMinChunkSize()
+          != other.getMinChunkSize()) return false;
+      if (getMaxChunkSize()
+          != other.getMaxChunkSize()) return false;
+      if (!getCapabilitiesList()
+          .equals(other.getCapabilitiesList())) return false;
+      if (getDataLane()
+          != other.getDataLane()) return false;
+      if (getMaxDataLanes()
+          != other.getMaxDataLanes()) return false;
       if (!getUnknownFields().equals(other.getUnknownFields())) return false;
       return true;
     }
@@ -239,6 +420,19 @@ public final class Handshake {
       hash = (53 * hash) + getSenderPeerName().hashCode();
       hash = (37 * hash) + LEADERNAME_FIELD_NUMBER;
       hash = (53 * hash) + getLeaderName().hashCode();
+      hash = (37 * hash) + MINCHUNKSIZE_FIELD_NUMBER;
+      hash = (53 * hash) + getMinChunkSize();
+      hash = (37 * hash) + MAXCHUNKSIZE_FIELD_NUMBER;
+      hash = (53 * hash) + getMaxChunkSize();
+      if (getCapabilitiesCount() > 0) {
+        hash = (37 * hash) + CAPABILITIES_FIELD_NUMBER;
+        hash = (53 * hash) + getCapabilitiesList().hashCode();
+      }
+      hash = (37 * hash) + DATALANE_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getDataLane());
+      hash = (37 * hash) + MAXDATALANES_FIELD_NUMBER;
+      hash = (53 * hash) + getMaxDataLanes();
       hash = (29 * hash) + getUnknownFields().hashCode();
       memoizedHashCode = hash;
       return hash;
@@ -372,6 +566,12 @@ public final class Handshake {
         bitField0_ = 0;
         senderPeerName_ = "";
         leaderName_ = "";
+        minChunkSize_ = 0;
+        maxChunkSize_ = 0;
+        capabilities_ =
+            com.google.protobuf.LazyStringArrayList.emptyList();
+        dataLane_ = false;
+        maxDataLanes_ = 0;
         return this;
       }
 
@@ -411,6 +611,22 @@ public final class Handshake {
         if (((from_bitField0_ & 0x00000002) != 0)) {
           result.leaderName_ = leaderName_;
         }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.minChunkSize_ = minChunkSize_;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.maxChunkSize_ = maxChunkSize_;
+        }
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          capabilities_.makeImmutable();
+          result.capabilities_ = capabilities_;
+        }
+        if (((from_bitField0_ & 0x00000020) != 0)) {
+          result.dataLane_ = dataLane_;
+        }
+        if (((from_bitField0_ & 0x00000040) != 0)) {
+          result.maxDataLanes_ = maxDataLanes_;
+        }
       }
 
       @java.lang.Override
@@ -435,6 +651,28 @@ public final class Handshake {
           bitField0_ |= 0x00000002;
           onChanged();
         }
+        if (other.getMinChunkSize() != 0) {
+          setMinChunkSize(other.getMinChunkSize());
+        }
+        if (other.getMaxChunkSize() != 0) {
+          setMaxChunkSize(other.getMaxChunkSize());
+        }
+        if (!other.capabilities_.isEmpty()) {
+          if (capabilities_.isEmpty()) {
+            capabilities_ = other.capabilities_;
+            bitField0_ |= 0x00000010;
+          } else {
+            ensureCapabilitiesIsMutable();
+            capabilities_.addAll(other.capabilities_);
+          }
+          onChanged();
+        }
+        if (other.getDataLane() != false) {
+          setDataLane(other.getDataLane());
+        }
+        if (other.getMaxDataLanes() != 0) {
+          setMaxDataLanes(other.getMaxDataLanes());
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         onChanged();
         return this;
@@ -471,6 +709,32 @@ public final class Handshake {
                 bitField0_ |= 0x00000002;
                 break;
               } // case 18
+              case 24: {
+                minChunkSize_ = input.readInt32();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 24
+              case 32: {
+                maxChunkSize_ = input.readInt32();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 32
+              case 42: {
+                java.lang.String s = input.readStringRequireUtf8();
+                ensureCapabilitiesIsMutable();
+                capabilities_.add(s);
+                break;
+              } // case 42
+              case 48: {
+                dataLane_ = input.readBool();
+                bitField0_ |= 0x00000020;
+                break;
+              } // case 48
+              case 56: {
+                maxDataLanes_ = input.readInt32();
+                bitField0_ |= 0x00000040;
+                break;
+              } // case 56
               default: {
                 if (!super.parseUnknownField(input, extensionRegistry, tag)) {
                   done = true; // was an endgroup tag
@@ -632,6 +896,245 @@ public final class Handshake {
         return this;
       }
 
+      private int minChunkSize_ ;
+      /**
+       * <code>int32 minChunkSize = 3;</code>
+       * @return The minChunkSize.
+       */
+      @java.lang.Override
+      public int getMinChunkSize() {
+        return minChunkSize_;
+      }
+      /**
+       * <code>int32 minChunkSize = 3;</code>
+       * @param value The minChunkSize to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMinChunkSize(int value) {
+
+        minChunkSize_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 minChunkSize = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearMinChunkSize() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        minChunkSize_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int maxChunkSize_ ;
+      /**
+       * <code>int32 maxChunkSize = 4;</code>
+       * @return The maxChunkSize.
+       */
+      @java.lang.Override
+      public int getMaxChunkSize() {
+        return maxChunkSize_;
+      }
+      /**
+       * <code>int32 maxChunkSize = 4;</code>
+       * @param value The maxChunkSize to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMaxChunkSize(int value) {
+
+        maxChunkSize_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 maxChunkSize = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearMaxChunkSize() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        maxChunkSize_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.LazyStringArrayList capabilities_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+      private void ensureCapabilitiesIsMutable() {
+        if (!capabilities_.isModifiable()) {
+          capabilities_ = new com.google.protobuf.LazyStringArrayList(capabilities_);
+        }
+        bitField0_ |= 0x00000010;
+      }
+      /**
+       * <code>repeated string capabilities = 5;</code>
+       * @return A list containing the capabilities.
+       */
+      public com.google.protobuf.ProtocolStringList
+          getCapabilitiesList() {
+        capabilities_.makeImmutable();
+        return capabilities_;
+      }
+      /**
+       * <code>repeated string capabilities = 5;</code>
+       * @return The count of capabilities.
+       */
+      public int getCapabilitiesCount() {
+        return capabilities_.size();
+      }
+      /**
+       * <code>repeated string capabilities = 5;</code>
+       * @param index The index of the element to return.
+       * @return The capabilities at the given index.
+       */
+      public java.lang.String getCapabilities(int index) {
+        return capabilities_.get(index);
+      }
+      /**
+       * <code>repeated string capabilities = 5;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the capabilities at the given index.
+       */
+      public com.google.protobuf.ByteString
+          getCapabilitiesBytes(int index) {
+        return capabilities_.getByteString(index);
+      }
+      /**
+       * <code>repeated string capabilities = 5;</code>
+       * @param index The index to set the value at.
+       * @param value The capabilities to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCapabilities(
+          int index, java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureCapabilitiesIsMutable();
+        capabilities_.set(index, value);
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string capabilities = 5;</code>
+       * @param value The capabilities to add.
+       * @return This builder for chaining.
+       */
+      public Builder addCapabilities(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureCapabilitiesIsMutable();
+        capabilities_.add(value);
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string capabilities = 5;</code>
+       * @param values The capabilities to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllCapabilities(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureCapabilitiesIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, capabilities_);
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string capabilities = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearCapabilities() {
+        capabilities_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000010);;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string capabilities = 5;</code>
+       * @param value The bytes of the capabilities to add.
+       * @return This builder for chaining.
+       */
+      public Builder addCapabilitiesBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        ensureCapabilitiesIsMutable();
+        capabilities_.add(value);
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+
+      private boolean dataLane_ ;
+      /**
+       * <code>bool dataLane = 6;</code>
+       * @return The dataLane.
+       */
+      @java.lang.Override
+      public boolean getDataLane() {
+        return dataLane_;
+      }
+      /**
+       * <code>bool dataLane = 6;</code>
+       * @param value The dataLane to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDataLane(boolean value) {
+
+        dataLane_ = value;
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bool dataLane = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDataLane() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        dataLane_ = false;
+        onChanged();
+        return this;
+      }
+
+      private int maxDataLanes_ ;
+      /**
+       * <code>int32 maxDataLanes = 7;</code>
+       * @return The maxDataLanes.
+       */
+      @java.lang.Override
+      public int getMaxDataLanes() {
+        return maxDataLanes_;
+      }
+      /**
+       * <code>int32 maxDataLanes = 7;</code>
+       * @param value The maxDataLanes to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMaxDataLanes(int value) {
+
+        maxDataLanes_ = value;
+        bitField0_ |= 0x00000040;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 maxDataLanes = 7;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearMaxDataLanes() {
+        bitField0_ = (bitField0_ & ~0x00000040);
+        maxDataLanes_ = 0;
+        onChanged();
+        return this;
+      }
+
       // @@protoc_insertion_point(builder_scope:HandshakeMessage)
     }
 
@@ -697,9 +1200,12 @@ public final class Handshake {
       descriptor;
   static {
     java.lang.String[] descriptorData = {
-      "\n!src/main/protobuf/handshake.proto\">\n\020H" +
-      "andshakeMessage\022\026\n\016senderPeerName\030\001 \001(\t\022" +
-      "\022\n\nleaderName\030\002 \001(\tb\006proto3"
+      "\n!src/main/protobuf/handshake.proto\"\250\001\n\020" +
+      "HandshakeMessage\022\026\n\016senderPeerName\030\001 \001(\t" +
+      "\022\022\n\nleaderName\030\002 \001(\t\022\024\n\014minChunkSize\030\003 \001" +
+      "(\005\022\024\n\014maxChunkSize\030\004 \001(\005\022\024\n\014capabilities" +
+      "\030\005 \003(\t\022\020\n\010dataLane\030\006 \001(\010\022\024\n\014maxDataLanes" +
+      "\030\007 \001(\005b\006proto3"
     };
     descriptor = com.google.protobuf.Descriptors.FileDescriptor
       .internalBuildGeneratedFileFrom(descriptorData,
@@ -710,7 +1216,7 @@ public final class Handshake {
     internal_static_HandshakeMessage_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_HandshakeMessage_descriptor,
-        new java.lang.String[] { "SenderPeerName", "LeaderName", });
+        new java.lang.String[] { "SenderPeerName", "LeaderName", "MinChunkSize", "MaxChunkSize", "Capabilities", "DataLane", "MaxDataLanes", });
     descriptor.resolveAllFeaturesImmutable();
   }
 
@@ -0,0 +1,1860 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// NO CHECKED-IN PROTOBUF GENCODE
+// source: src/main/protobuf/index.proto
+// Protobuf Java Version: 4.29.2
+
+package com.halcyon.p2p.file.transfer.proto;
+
+public final class Index {
+  private Index() {}
+  static {
+    com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+      com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+      /* major= */ 4,
+      /* minor= */ 29,
+      /* patch= */ 2,
+      /* suffix= */ "",
+      Index.class.getName());
+  }
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistryLite registry) {
+  }
+
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+    registerAllExtensions(
+        (com.google.protobuf.ExtensionRegistryLite) registry);
+  }
+  public interface IndexedFileOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:IndexedFile)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string fileName = 1;</code>
+     * @return The fileName.
+     */
+    java.lang.String getFileName();
+    /**
+     * <code>string fileName = 1;</code>
+     * @return The bytes for fileName.
+     */
+    com.google.protobuf.ByteString
+        getFileNameBytes();
+
+    /**
+     * <code>int64 fileSize = 2;</code>
+     * @return The fileSize.
+     */
+    long getFileSize();
+
+    /**
+     * <code>int64 lastModified = 3;</code>
+     * @return The lastModified.
+     */
+    long getLastModified();
+
+    /**
+     * <code>bytes contentHash = 4;</code>
+     * @return The contentHash.
+     */
+    com.google.protobuf.ByteString getContentHash();
+
+    /**
+     * <code>int32 pieceSize = 5;</code>
+     * @return The pieceSize.
+     */
+    int getPieceSize();
+
+    /**
+     * <code>repeated bytes pieceHashes = 6;</code>
+     * @return A list containing the pieceHashes.
+     */
+    java.util.List<com.google.protobuf.ByteString> getPieceHashesList();
+    /**
+     * <code>repeated bytes pieceHashes = 6;</code>
+     * @return The count of pieceHashes.
+     */
+    int getPieceHashesCount();
+    /**
+     * <code>repeated bytes pieceHashes = 6;</code>
+     * @param index The index of the element to return.
+     * @return The pieceHashes at the given index.
+     */
+    com.google.protobuf.ByteString getPieceHashes(int index);
+
+    /**
+     * <code>bytes merkleRoot = 7;</code>
+     * @return The merkleRoot.
+     */
+    com.google.protobuf.ByteString getMerkleRoot();
+  }
+  /**
+   * Protobuf type {@code IndexedFile}
+   */
+  public static final class IndexedFile extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:IndexedFile)
+      IndexedFileOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 29,
+        /* patch= */ 2,
+        /* suffix= */ "",
+        IndexedFile.class.getName());
+    }
+    // Use IndexedFile.newBuilder() to construct.
+    private IndexedFile(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private IndexedFile() {
+      fileName_ = "";
+      contentHash_ = com.google.protobuf.ByteString.EMPTY;
+      pieceHashes_ = emptyList(com.google.protobuf.ByteString.class);
+      merkleRoot_ = com.google.protobuf.ByteString.EMPTY;
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return Index.internal_static_IndexedFile_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return Index.internal_static_IndexedFile_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              Index.IndexedFile.class, Index.IndexedFile.Builder.class);
+    }
+
+    public static final int FILENAME_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object fileName_ = "";
+    /**
+     * <code>string fileName = 1;</code>
+     * @return The fileName.
+     */
+    @java.lang.Override
+    public java.lang.String getFileName() {
+      java.lang.Object ref = fileName_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        fileName_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string fileName = 1;</code>
+     * @return The bytes for fileName.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getFileNameBytes() {
+      java.lang.Object ref = fileName_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        fileName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int FILESIZE_FIELD_NUMBER = 2;
+    private long fileSize_ = 0L;
+    /**
+     * <code>int64 fileSize = 2;</code>
+     * @return The fileSize.
+     */
+    @java.lang.Override
+    public long getFileSize() {
+      return fileSize_;
+    }
+
+    public static final int LASTMODIFIED_FIELD_NUMBER = 3;
+    private long lastModified_ = 0L;
+    /**
+     * <code>int64 lastModified = 3;</code>
+     * @return The lastModified.
+     */
+    @java.lang.Override
+    public long getLastModified() {
+      return lastModified_;
+    }
+
+    public static final int CONTENTHASH_FIELD_NUMBER = 4;
+    private com.google.protobuf.ByteString contentHash_ = com.google.protobuf.ByteString.EMPTY;
+    /**
+     * <code>bytes contentHash = 4;</code>
+     * @return The contentHash.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString getContentHash() {
+      return contentHash_;
+    }
+
+    public static final int PIECESIZE_FIELD_NUMBER = 5;
+    private int pieceSize_ = 0;
+    /**
+     * <code>int32 pieceSize = 5;</code>
+     * @return The pieceSize.
+     */
+    @java.lang.Override
+    public int getPieceSize() {
+      return pieceSize_;
+    }
+
+    public static final int PIECEHASHES_FIELD_NUMBER = 6;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.Internal.ProtobufList<com.google.protobuf.ByteString> pieceHashes_ =
+        emptyList(com.google.protobuf.ByteString.class);
+    /**
+     * <code>repeated bytes pieceHashes = 6;</code>
+     * @return A list containing the pieceHashes.
+     */
+    @java.lang.Override
+    public java.util.List<com.google.protobuf.ByteString>
+        getPieceHashesList() {
+      return pieceHashes_;
+    }
+    /**
+     * <code>repeated bytes pieceHashes = 6;</code>
+     * @return The count of pieceHashes.
+     */
+    public int getPieceHashesCount() {
+      return pieceHashes_.size();
+    }
+    /**
+     * <code>repeated bytes pieceHashes = 6;</code>
+     * @param index The index of the element to return.
+     * @return The pieceHashes at the given index.
+     */
+    public com.google.protobuf.ByteString getPieceHashes(int index) {
+      return pieceHashes_.get(index);
+    }
+
+    public static final int MERKLEROOT_FIELD_NUMBER = 7;
+    private com.google.protobuf.ByteString merkleRoot_ = com.google.protobuf.ByteString.EMPTY;
+    /**
+     * <code>bytes merkleRoot = 7;</code>
+     * @return The merkleRoot.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString getMerkleRoot() {
+      return merkleRoot_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(fileName_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 1, fileName_);
+      }
+      if (fileSize_ != 0L) {
+        output.writeInt64(2, fileSize_);
+      }
+      if (lastModified_ != 0L) {
+        output.writeInt64(3, lastModified_);
+      }
+      if (!contentHash_.isEmpty()) {
+        output.writeBytes(4, contentHash_);
+      }
+      if (pieceSize_ != 0) {
+        output.writeInt32(5, pieceSize_);
+      }
+      for (int i = 0; i < pieceHashes_.size(); i++) {
+        output.writeBytes(6, pieceHashes_.get(i));
+      }
+      if (!merkleRoot_.isEmpty()) {
+        output.writeBytes(7, merkleRoot_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(fileName_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(1, fileName_);
+      }
+      if (fileSize_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(2, fileSize_);
+      }
+      if (lastModified_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(3, lastModified_);
+      }
+      if (!contentHash_.isEmpty()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(4, contentHash_);
+      }
+      if (pieceSize_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(5, pieceSize_);
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < pieceHashes_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeBytesSizeNoTag(pieceHashes_.get(i));
+        }
+        size += dataSize;
+        size += 1 * getPieceHashesList().size();
+      }
+      if (!merkleRoot_.isEmpty()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(7, merkleRoot_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof Index.IndexedFile)) {
+        return super.equals(obj);
+      }
+      Index.IndexedFile other = (Index.IndexedFile) obj;
+
+      if (!getFileName()
+          .equals(other.getFileName())) return false;
+      if (getFileSize()
+          != other.getFileSize()) return false;
+      if (getLastModified()
+          != other.getLastModified()) return false;
+      if (!getContentHash()
+          .equals(other.getContentHash())) return false;
+      if (getPieceSize()
+          != other.getPieceSize()) return false;
+      if (!getPieceHashesList()
+          .equals(other.getPieceHashesList())) return false;
+      if (!getMerkleRoot()
+          .equals(other.getMerkleRoot())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + FILENAME_FIELD_NUMBER;
+      hash = (53 * hash) + getFileName().hashCode();
+      hash = (37 * hash) + FILESIZE_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getFileSize());
+      hash = (37 * hash) + LASTMODIFIED_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getLastModified());
+      hash = (37 * hash) + CONTENTHASH_FIELD_NUMBER;
+      hash = (53 * hash) + getContentHash().hashCode();
+      hash = (37 * hash) + PIECESIZE_FIELD_NUMBER;
+      hash = (53 * hash) + getPieceSize();
+      if (getPieceHashesCount() > 0) {
+        hash = (37 * hash) + PIECEHASHES_FIELD_NUMBER;
+        hash = (53 * hash) + getPieceHashesList().hashCode();
+      }
+      hash = (37 * hash) + MERKLEROOT_FIELD_NUMBER;
+      hash = (53 * hash) + getMerkleRoot().hashCode();
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static Index.IndexedFile parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static Index.IndexedFile parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static Index.IndexedFile parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static Index.IndexedFile parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static Index.IndexedFile parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static Index.IndexedFile parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static Index.IndexedFile parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static Index.IndexedFile parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static Index.IndexedFile parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static Index.IndexedFile parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static Index.IndexedFile parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static Index.IndexedFile parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(Index.IndexedFile prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code IndexedFile}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:IndexedFile)
+        Index.IndexedFileOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return Index.internal_static_IndexedFile_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return Index.internal_static_IndexedFile_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                Index.IndexedFile.class, Index.IndexedFile.Builder.class);
+      }
+
+      // Construct using Index.IndexedFile.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        fileName_ = "";
+        fileSize_ = 0L;
+        lastModified_ = 0L;
+        contentHash_ = com.google.protobuf.ByteString.EMPTY;
+        pieceSize_ = 0;
+        pieceHashes_ = emptyList(com.google.protobuf.ByteString.class);
+        merkleRoot_ = com.google.protobuf.ByteString.EMPTY;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return Index.internal_static_IndexedFile_descriptor;
+      }
+
+      @java.lang.Override
+      public Index.IndexedFile getDefaultInstanceForType() {
+        return Index.IndexedFile.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public Index.IndexedFile build() {
+        Index.IndexedFile result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public Index.IndexedFile buildPartial() {
+        Index.IndexedFile result = new Index.IndexedFile(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(Index.IndexedFile result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.fileName_ = fileName_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.fileSize_ = fileSize_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.lastModified_ = lastModified_;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.contentHash_ = contentHash_;
+        }
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          result.pieceSize_ = pieceSize_;
+        }
+        if (((from_bitField0_ & 0x00000020) != 0)) {
+          pieceHashes_.makeImmutable();
+          result.pieceHashes_ = pieceHashes_;
+        }
+        if (((from_bitField0_ & 0x00000040) != 0)) {
+          result.merkleRoot_ = merkleRoot_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof Index.IndexedFile) {
+          return mergeFrom((Index.IndexedFile)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(Index.IndexedFile other) {
+        if (other == Index.IndexedFile.getDefaultInstance()) return this;
+        if (!other.getFileName().isEmpty()) {
+          fileName_ = other.fileName_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (other.getFileSize() != 0L) {
+          setFileSize(other.getFileSize());
+        }
+        if (other.getLastModified() != 0L) {
+          setLastModified(other.getLastModified());
+        }
+        if (other.getContentHash() != com.google.protobuf.ByteString.EMPTY) {
+          setContentHash(other.getContentHash());
+        }
+        if (other.getPieceSize() != 0) {
+          setPieceSize(other.getPieceSize());
+        }
+        if (!other.pieceHashes_.isEmpty()) {
+          if (pieceHashes_.isEmpty()) {
+            pieceHashes_ = other.pieceHashes_;
+            pieceHashes_.makeImmutable();
+            bitField0_ |= 0x00000020;
+          } else {
+            ensurePieceHashesIsMutable();
+            pieceHashes_.addAll(other.pieceHashes_);
+          }
+          onChanged();
+        }
+        if (other.getMerkleRoot() != com.google.protobuf.ByteString.EMPTY) {
+          setMerkleRoot(other.getMerkleRoot());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                fileName_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 16: {
+                fileSize_ = input.readInt64();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 16
+              case 24: {
+                lastModified_ = input.readInt64();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 24
+              case 34: {
+                contentHash_ = input.readBytes();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 34
+              case 40: {
+                pieceSize_ = input.readInt32();
+                bitField0_ |= 0x00000010;
+                break;
+              } // case 40
+              case 50: {
+                com.google.protobuf.ByteString v = input.readBytes();
+                ensurePieceHashesIsMutable();
+                pieceHashes_.add(v);
+                break;
+              } // case 50
+              case 58: {
+                merkleRoot_ = input.readBytes();
+                bitField0_ |= 0x00000040;
+                break;
+              } // case 58
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object fileName_ = "";
+      /**
+       * <code>string fileName = 1;</code>
+       * @return The fileName.
+       */
+      public java.lang.String getFileName() {
+        java.lang.Object ref = fileName_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          fileName_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string fileName = 1;</code>
+       * @return The bytes for fileName.
+       */
+      public com.google.protobuf.ByteString
+          getFileNameBytes() {
+        java.lang.Object ref = fileName_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          fileName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string fileName = 1;</code>
+       * @param value The fileName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setFileName(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        fileName_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string fileName = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearFileName() {
+        fileName_ = getDefaultInstance().getFileName();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string fileName = 1;</code>
+       * @param value The bytes for fileName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setFileNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        fileName_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private long fileSize_ ;
+      /**
+       * <code>int64 fileSize = 2;</code>
+       * @return The fileSize.
+       */
+      @java.lang.Override
+      public long getFileSize() {
+        return fileSize_;
+      }
+      /**
+       * <code>int64 fileSize = 2;</code>
+       * @param value The fileSize to set.
+       * @return This builder for chaining.
+       */
+      public Builder setFileSize(long value) {
+
+        fileSize_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 fileSize = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearFileSize() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        fileSize_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private long lastModified_ ;
+      /**
+       * <code>int64 lastModified = 3;</code>
+       * @return The lastModified.
+       */
+      @java.lang.Override
+      public long getLastModified() {
+        return lastModified_;
+      }
+      /**
+       * <code>int64 lastModified = 3;</code>
+       * @param value The lastModified to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLastModified(long value) {
+
+        lastModified_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 lastModified = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLastModified() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        lastModified_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.ByteString contentHash_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>bytes contentHash = 4;</code>
+       * @return The contentHash.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString getContentHash() {
+        return contentHash_;
+      }
+      /**
+       * <code>bytes contentHash = 4;</code>
+       * @param value The contentHash to set.
+       * @return This builder for chaining.
+       */
+      public Builder setContentHash(com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        contentHash_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bytes contentHash = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearContentHash() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        contentHash_ = getDefaultInstance().getContentHash();
+        onChanged();
+        return this;
+      }
+
+      private int pieceSize_ ;
+      /**
+       * <code>int32 pieceSize = 5;</code>
+       * @return The pieceSize.
+       */
+      @java.lang.Override
+      public int getPieceSize() {
+        return pieceSize_;
+      }
+      /**
+       * <code>int32 pieceSize = 5;</code>
+       * @param value The pieceSize to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPieceSize(int value) {
+
+        pieceSize_ = value;
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 pieceSize = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPieceSize() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        pieceSize_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.Internal.ProtobufList<com.google.protobuf.ByteString> pieceHashes_ = emptyList(com.google.protobuf.ByteString.class);
+      private void ensurePieceHashesIsMutable() {
+        if (!pieceHashes_.isModifiable()) {
+          pieceHashes_ = makeMutableCopy(pieceHashes_);
+        }
+        bitField0_ |= 0x00000020;
+      }
+      /**
+       * <code>repeated bytes pieceHashes = 6;</code>
+       * @return A list containing the pieceHashes.
+       */
+      public java.util.List<com.google.protobuf.ByteString>
+          getPieceHashesList() {
+        pieceHashes_.makeImmutable();
+        return pieceHashes_;
+      }
+      /**
+       * <code>repeated bytes pieceHashes = 6;</code>
+       * @return The count of pieceHashes.
+       */
+      public int getPieceHashesCount() {
+        return pieceHashes_.size();
+      }
+      /**
+       * <code>repeated bytes pieceHashes = 6;</code>
+       * @param index The index of the element to return.
+       * @return The pieceHashes at the given index.
+       */
+      public com.google.protobuf.ByteString getPieceHashes(int index) {
+        return pieceHashes_.get(index);
+      }
+      /**
+       * <code>repeated bytes pieceHashes = 6;</code>
+       * @param index The index to set the value at.
+       * @param value The pieceHashes to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPieceHashes(
+          int index, com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensurePieceHashesIsMutable();
+        pieceHashes_.set(index, value);
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated bytes pieceHashes = 6;</code>
+       * @param value The pieceHashes to add.
+       * @return This builder for chaining.
+       */
+      public Builder addPieceHashes(com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensurePieceHashesIsMutable();
+        pieceHashes_.add(value);
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated bytes pieceHashes = 6;</code>
+       * @param values The pieceHashes to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllPieceHashes(
+          java.lang.Iterable<? extends com.google.protobuf.ByteString> values) {
+        ensurePieceHashesIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, pieceHashes_);
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated bytes pieceHashes = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPieceHashes() {
+        pieceHashes_ = emptyList(com.google.protobuf.ByteString.class);
+        bitField0_ = (bitField0_ & ~0x00000020);
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.ByteString merkleRoot_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>bytes merkleRoot = 7;</code>
+       * @return The merkleRoot.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString getMerkleRoot() {
+        return merkleRoot_;
+      }
+      /**
+       * <code>bytes merkleRoot = 7;</code>
+       * @param value The merkleRoot to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMerkleRoot(com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        merkleRoot_ = value;
+        bitField0_ |= 0x00000040;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bytes merkleRoot = 7;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearMerkleRoot() {
+        bitField0_ = (bitField0_ & ~0x00000040);
+        merkleRoot_ = getDefaultInstance().getMerkleRoot();
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:IndexedFile)
+    }
+
+    // @@protoc_insertion_point(class_scope:IndexedFile)
+    private static final Index.IndexedFile DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new Index.IndexedFile();
+    }
+
+    public static Index.IndexedFile getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<IndexedFile>
+        PARSER = new com.google.protobuf.AbstractParser<IndexedFile>() {
+      @java.lang.Override
+      public IndexedFile parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<IndexedFile> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<IndexedFile> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public Index.IndexedFile getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface SharedDirectoryIndexOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:SharedDirectoryIndex)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated .IndexedFile files = 1;</code>
+     */
+    java.util.List<Index.IndexedFile> 
+        getFilesList();
+    /**
+     * <code>repeated .IndexedFile files = 1;</code>
+     */
+    Index.IndexedFile getFiles(int index);
+    /**
+     * <code>repeated .IndexedFile files = 1;</code>
+     */
+    int getFilesCount();
+    /**
+     * <code>repeated .IndexedFile files = 1;</code>
+     */
+    java.util.List<? extends Index.IndexedFileOrBuilder> 
+        getFilesOrBuilderList();
+    /**
+     * <code>repeated .IndexedFile files = 1;</code>
+     */
+    Index.IndexedFileOrBuilder getFilesOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code SharedDirectoryIndex}
+   */
+  public static final class SharedDirectoryIndex extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:SharedDirectoryIndex)
+      SharedDirectoryIndexOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 29,
+        /* patch= */ 2,
+        /* suffix= */ "",
+        SharedDirectoryIndex.class.getName());
+    }
+    // Use SharedDirectoryIndex.newBuilder() to construct.
+    private SharedDirectoryIndex(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private SharedDirectoryIndex() {
+      files_ = java.util.Collections.emptyList();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return Index.internal_static_SharedDirectoryIndex_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return Index.internal_static_SharedDirectoryIndex_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              Index.SharedDirectoryIndex.class, Index.SharedDirectoryIndex.Builder.class);
+    }
+
+    public static final int FILES_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private java.util.List<Index.IndexedFile> files_;
+    /**
+     * <code>repeated .IndexedFile files = 1;</code>
+     */
+    @java.lang.Override
+    public java.util.List<Index.IndexedFile> getFilesList() {
+      return files_;
+    }
+    /**
+     * <code>repeated .IndexedFile files = 1;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends Index.IndexedFileOrBuilder> 
+        getFilesOrBuilderList() {
+      return files_;
+    }
+    /**
+     * <code>repeated .IndexedFile files = 1;</code>
+     */
+    @java.lang.Override
+    public int getFilesCount() {
+      return files_.size();
+    }
+    /**
+     * <code>repeated .IndexedFile files = 1;</code>
+     */
+    @java.lang.Override
+    public Index.IndexedFile getFiles(int index) {
+      return files_.get(index);
+    }
+    /**
+     * <code>repeated .IndexedFile files = 1;</code>
+     */
+    @java.lang.Override
+    public Index.IndexedFileOrBuilder getFilesOrBuilder(
+        int index) {
+      return files_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      for (int i = 0; i < files_.size(); i++) {
+        output.writeMessage(1, files_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < files_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, files_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof Index.SharedDirectoryIndex)) {
+        return super.equals(obj);
+      }
+      Index.SharedDirectoryIndex other = (Index.SharedDirectoryIndex) obj;
+
+      if (!getFilesList()
+          .equals(other.getFilesList())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getFilesCount() > 0) {
+        hash = (37 * hash) + FILES_FIELD_NUMBER;
+        hash = (53 * hash) + getFilesList().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static Index.SharedDirectoryIndex parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static Index.SharedDirectoryIndex parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static Index.SharedDirectoryIndex parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static Index.SharedDirectoryIndex parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static Index.SharedDirectoryIndex parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static Index.SharedDirectoryIndex parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static Index.SharedDirectoryIndex parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static Index.SharedDirectoryIndex parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static Index.SharedDirectoryIndex parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static Index.SharedDirectoryIndex parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static Index.SharedDirectoryIndex parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static Index.SharedDirectoryIndex parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(Index.SharedDirectoryIndex prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code SharedDirectoryIndex}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:SharedDirectoryIndex)
+        Index.SharedDirectoryIndexOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return Index.internal_static_SharedDirectoryIndex_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return Index.internal_static_SharedDirectoryIndex_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                Index.SharedDirectoryIndex.class, Index.SharedDirectoryIndex.Builder.class);
+      }
+
+      // Construct using Index.SharedDirectoryIndex.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        if (filesBuilder_ == null) {
+          files_ = java.util.Collections.emptyList();
+        } else {
+          files_ = null;
+          filesBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000001);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return Index.internal_static_SharedDirectoryIndex_descriptor;
+      }
+
+      @java.lang.Override
+      public Index.SharedDirectoryIndex getDefaultInstanceForType() {
+        return Index.SharedDirectoryIndex.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public Index.SharedDirectoryIndex build() {
+        Index.SharedDirectoryIndex result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public Index.SharedDirectoryIndex buildPartial() {
+        Index.SharedDirectoryIndex result = new Index.SharedDirectoryIndex(this);
+        buildPartialRepeatedFields(result);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartialRepeatedFields(Index.SharedDirectoryIndex result) {
+        if (filesBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0)) {
+            files_ = java.util.Collections.unmodifiableList(files_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.files_ = files_;
+        } else {
+          result.files_ = filesBuilder_.build();
+        }
+      }
+
+      private void buildPartial0(Index.SharedDirectoryIndex result) {
+        int from_bitField0_ = bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof Index.SharedDirectoryIndex) {
+          return mergeFrom((Index.SharedDirectoryIndex)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(Index.SharedDirectoryIndex other) {
+        if (other == Index.SharedDirectoryIndex.getDefaultInstance()) return this;
+        if (filesBuilder_ == null) {
+          if (!other.files_.isEmpty()) {
+            if (files_.isEmpty()) {
+              files_ = other.files_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureFilesIsMutable();
+              files_.addAll(other.files_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.files_.isEmpty()) {
+            if (filesBuilder_.isEmpty()) {
+              filesBuilder_.dispose();
+              filesBuilder_ = null;
+              files_ = other.files_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              filesBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getFilesFieldBuilder() : null;
+            } else {
+              filesBuilder_.addAllMessages(other.files_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                Index.IndexedFile m =
+                    input.readMessage(
+                        Index.IndexedFile.parser(),
+                        extensionRegistry);
+                if (filesBuilder_ == null) {
+                  ensureFilesIsMutable();
+                  files_.add(m);
+                } else {
+                  filesBuilder_.addMessage(m);
+                }
+                break;
+              } // case 10
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<Index.IndexedFile> files_ =
+        java.util.Collections.emptyList();
+      private void ensureFilesIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          files_ = new java.util.ArrayList<Index.IndexedFile>(files_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          Index.IndexedFile, Index.IndexedFile.Builder, Index.IndexedFileOrBuilder> filesBuilder_;
+
+      /**
+       * <code>repeated .IndexedFile files = 1;</code>
+       */
+      public java.util.List<Index.IndexedFile> getFilesList() {
+        if (filesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(files_);
+        } else {
+          return filesBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .IndexedFile files = 1;</code>
+       */
+      public int getFilesCount() {
+        if (filesBuilder_ == null) {
+          return files_.size();
+        } else {
+          return filesBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .IndexedFile files = 1;</code>
+       */
+      public Index.IndexedFile getFiles(int index) {
+        if (filesBuilder_ == null) {
+          return files_.get(index);
+        } else {
+          return filesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .IndexedFile files = 1;</code>
+       */
+      public Builder setFiles(
+          int index, Index.IndexedFile value) {
+        if (filesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureFilesIsMutable();
+          files_.set(index, value);
+          onChanged();
+        } else {
+          filesBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .IndexedFile files = 1;</code>
+       */
+      public Builder setFiles(
+          int index, Index.IndexedFile.Builder builderForValue) {
+        if (filesBuilder_ == null) {
+          ensureFilesIsMutable();
+          files_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          filesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .IndexedFile files = 1;</code>
+       */
+      public Builder addFiles(Index.IndexedFile value) {
+        if (filesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureFilesIsMutable();
+          files_.add(value);
+          onChanged();
+        } else {
+          filesBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .IndexedFile files = 1;</code>
+       */
+      public Builder addFiles(
+          int index, Index.IndexedFile value) {
+        if (filesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureFilesIsMutable();
+          files_.add(index, value);
+          onChanged();
+        } else {
+          filesBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .IndexedFile files = 1;</code>
+       */
+      public Builder addFiles(
+          Index.IndexedFile.Builder builderForValue) {
+        if (filesBuilder_ == null) {
+          ensureFilesIsMutable();
+          files_.add(builderForValue.build());
+          onChanged();
+        } else {
+          filesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .IndexedFile files = 1;</code>
+       */
+      public Builder addFiles(
+          int index, Index.IndexedFile.Builder builderForValue) {
+        if (filesBuilder_ == null) {
+          ensureFilesIsMutable();
+          files_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          filesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .IndexedFile files = 1;</code>
+       */
+      public Builder addAllFiles(
+          java.lang.Iterable<? extends Index.IndexedFile> values) {
+        if (filesBuilder_ == null) {
+          ensureFilesIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, files_);
+          onChanged();
+        } else {
+          filesBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .IndexedFile files = 1;</code>
+       */
+      public Builder clearFiles() {
+        if (filesBuilder_ == null) {
+          files_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          filesBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .IndexedFile files = 1;</code>
+       */
+      public Builder removeFiles(int index) {
+        if (filesBuilder_ == null) {
+          ensureFilesIsMutable();
+          files_.remove(index);
+          onChanged();
+        } else {
+          filesBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .IndexedFile files = 1;</code>
+       */
+      public Index.IndexedFile.Builder getFilesBuilder(
+          int index) {
+        return getFilesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .IndexedFile files = 1;</code>
+       */
+      public Index.IndexedFileOrBuilder getFilesOrBuilder(
+          int index) {
+        if (filesBuilder_ == null) {
+          return files_.get(index);  } else {
+          return filesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .IndexedFile files = 1;</code>
+       */
+      public java.util.List<? extends Index.IndexedFileOrBuilder> 
+           getFilesOrBuilderList() {
+        if (filesBuilder_ != null) {
+          return filesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(files_);
+        }
+      }
+      /**
+       * <code>repeated .IndexedFile files = 1;</code>
+       */
+      public Index.IndexedFile.Builder addFilesBuilder() {
+        return getFilesFieldBuilder().addBuilder(
+            Index.IndexedFile.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .IndexedFile files = 1;</code>
+       */
+      public Index.IndexedFile.Builder addFilesBuilder(
+          int index) {
+        return getFilesFieldBuilder().addBuilder(
+            index, Index.IndexedFile.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .IndexedFile files = 1;</code>
+       */
+      public java.util.List<Index.IndexedFile.Builder> 
+           getFilesBuilderList() {
+        return getFilesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          Index.IndexedFile, Index.IndexedFile.Builder, Index.IndexedFileOrBuilder> 
+          getFilesFieldBuilder() {
+        if (filesBuilder_ == null) {
+          filesBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              Index.IndexedFile, Index.IndexedFile.Builder, Index.IndexedFileOrBuilder>(
+                  files_,
+                  ((bitField0_ & 0x00000001) != 0),
+                  getParentForChildren(),
+                  isClean());
+          files_ = null;
+        }
+        return filesBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:SharedDirectoryIndex)
+    }
+
+    // @@protoc_insertion_point(class_scope:SharedDirectoryIndex)
+    private static final Index.SharedDirectoryIndex DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new Index.SharedDirectoryIndex();
+    }
+
+    public static Index.SharedDirectoryIndex getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<SharedDirectoryIndex>
+        PARSER = new com.google.protobuf.AbstractParser<SharedDirectoryIndex>() {
+      @java.lang.Override
+      public SharedDirectoryIndex parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<SharedDirectoryIndex> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<SharedDirectoryIndex> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public Index.SharedDirectoryIndex getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_IndexedFile_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_IndexedFile_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_SharedDirectoryIndex_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_SharedDirectoryIndex_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n\035src/main/protobuf/index.proto\"\230\001\n\013Inde" +
+      "xedFile\022\020\n\010fileName\030\001 \001(\t\022\020\n\010fileSize\030\002 " +
+      "\001(\003\022\024\n\014lastModified\030\003 \001(\003\022\023\n\013contentHash" +
+      "\030\004 \001(\014\022\021\n\tpieceSize\030\005 \001(\005\022\023\n\013pieceHashes" +
+      "\030\006 \003(\014\022\022\n\nmerkleRoot\030\007 \001(\014\"3\n\024SharedDire" +
+      "ctoryIndex\022\033\n\005files\030\001 \003(\0132\014.IndexedFileb" +
+      "\006proto3"
+    };
+    descriptor = com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+        });
+    internal_static_IndexedFile_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_IndexedFile_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_IndexedFile_descriptor,
+        new java.lang.String[] { "FileName", "FileSize", "LastModified", "ContentHash", "PieceSize", "PieceHashes", "MerkleRoot", });
+    internal_static_SharedDirectoryIndex_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_SharedDirectoryIndex_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_SharedDirectoryIndex_descriptor,
+        new java.lang.String[] { "Files", });
+    descriptor.resolveAllFeaturesImmutable();
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
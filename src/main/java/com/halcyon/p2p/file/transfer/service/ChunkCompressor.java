@@ -0,0 +1,101 @@
+package com.halcyon.p2p.file.transfer.service;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.zip.Deflater;
+
+// Compresses the chunks of one transfer and gives up on the rest of it once the bytes seen so far barely shrink
+public class ChunkCompressor {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ChunkCompressor.class);
+
+    public static final int SAMPLE_SIZE = 64 * 1024;
+    private static final double MAX_COMPRESSED_RATIO = 0.9;
+    private static final ThreadLocal<Deflater> DEFLATER = ThreadLocal.withInitial(Deflater::new);
+
+    private final String fileName;
+    private final int level;
+
+    private long rawBytes;
+    private long compressedBytes;
+    private boolean enabled = true;
+
+    public ChunkCompressor(String fileName, int level) {
+        this.fileName = fileName;
+        this.level = level;
+    }
+
+    // Returns null when the chunk should be sent as it is
+    public byte[] compress(byte[] data, int length) {
+        if (!enabled) {
+            return null;
+        }
+
+        Deflater deflater = DEFLATER.get();
+        deflater.reset();
+        deflater.setLevel(level);
+        deflater.setInput(data, 0, length);
+        deflater.finish();
+
+        byte[] buffer = new byte[(int) (length * MAX_COMPRESSED_RATIO)];
+        int compressedLength = 0;
+
+        while (!deflater.finished() && compressedLength < buffer.length) {
+            compressedLength += deflater.deflate(buffer, compressedLength, buffer.length - compressedLength);
+        }
+
+        boolean worthIt = deflater.finished();
+        handleCompressed(length, worthIt ? compressedLength : length);
+
+        return worthIt ? Arrays.copyOf(buffer, compressedLength) : null;
+    }
+
+    // Compresses the readable bytes of a chunk into a buffer of the allocator, returns null when the chunk should be sent as it is
+    public ByteBuf compress(ByteBuf data, ByteBufAllocator allocator) {
+        if (!enabled) {
+            return null;
+        }
+
+        int length = data.readableBytes();
+        Deflater deflater = DEFLATER.get();
+        deflater.reset();
+        deflater.setLevel(level);
+        deflater.setInput(data.nioBuffer());
+        deflater.finish();
+
+        ByteBuf buffer = allocator.directBuffer((int) (length * MAX_COMPRESSED_RATIO));
+        ByteBuffer output = buffer.nioBuffer(0, buffer.capacity());
+
+        while (!deflater.finished() && output.hasRemaining()) {
+            deflater.deflate(output);
+        }
+
+        boolean worthIt = deflater.finished();
+        handleCompressed(length, worthIt ? output.position() : length);
+
+        if (!worthIt) {
+            buffer.release();
+            return null;
+        }
+
+        return buffer.writerIndex(output.position());
+    }
+
+    private void handleCompressed(int length, int compressedLength) {
+        rawBytes += length;
+        compressedBytes += compressedLength;
+
+        if (rawBytes >= SAMPLE_SIZE && compressedBytes > rawBytes * MAX_COMPRESSED_RATIO) {
+            enabled = false;
+            LOGGER.debug("Compression of {} is turned off after {} bytes shrank to {}", fileName, rawBytes, compressedBytes);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+}
@@ -0,0 +1,226 @@
+package com.halcyon.p2p.file.transfer.service;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.protobuf.ByteString;
+import com.halcyon.p2p.file.transfer.network.Connection;
+import com.halcyon.p2p.file.transfer.proto.File.ChunkEntry;
+import com.halcyon.p2p.file.transfer.proto.File.FileInfoResponse;
+import com.halcyon.p2p.file.transfer.util.ContentDefinedChunker;
+import io.netty.util.concurrent.EventExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+
+// Fetches only the chunks of a file that the chunk store lacks, then assembles the file from the store and moves it into place once
+// it matches the content hash
+public class ChunkDownload {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ChunkDownload.class);
+
+    private static final String PART_FILE_SUFFIX = ".part";
+
+    private final FileInfoResponse fileInfo;
+    private final Map<String, FileInfoResponse> peerNameToResponseMap;
+    private final Connection connection;
+    private final Path path;
+    private final Path partPath;
+    private final EventExecutor diskIoExecutor;
+
+    // The chunk list is complete before it is handed to diskIoExecutor, everything else is only accessed on the peer event loop
+    private final List<ChunkEntry> chunks = new ArrayList<>();
+    private final Deque<ChunkEntry> missingChunks = new ArrayDeque<>();
+    private final Set<ByteString> requestedHashes = new HashSet<>();
+    // Only accessed on diskIoExecutor
+    private final Set<ByteString> pinnedHashes = new HashSet<>();
+    private int numberOfPendingRequests;
+    private long fetchedBytes;
+
+    public ChunkDownload(FileInfoResponse fileInfo, Map<String, FileInfoResponse> peerNameToResponseMap, Connection connection, Path path,
+                         EventExecutor diskIoExecutor) {
+        this.fileInfo = fileInfo;
+        this.peerNameToResponseMap = peerNameToResponseMap;
+        this.connection = connection;
+        this.path = path;
+        this.partPath = path.resolveSibling(path.getFileName() + PART_FILE_SUFFIX);
+        this.diskIoExecutor = diskIoExecutor;
+    }
+
+    public void addChunks(List<ChunkEntry> chunks) {
+        this.chunks.addAll(chunks);
+    }
+
+    // The chunks have to tile the whole file, otherwise the assembled file can't match anyway
+    public boolean isChunkListValid() {
+        long offset = 0;
+
+        for (ChunkEntry chunk : chunks) {
+            if (chunk.getOffset() != offset || chunk.getLength() <= 0 || chunk.getLength() > ContentDefinedChunker.MAX_CHUNK_SIZE
+                    || !ChunkStore.isValidHash(chunk.getHash())) {
+                return false;
+            }
+
+            offset += chunk.getLength();
+        }
+
+        return offset == fileInfo.getFileSize();
+    }
+
+    // Called on diskIoExecutor, a chunk repeated within the file is only listed once. The chunks are pinned in the store until the
+    // download is assembled or aborted.
+    public List<ChunkEntry> findMissingChunks(ChunkStore chunkStore) {
+        List<ChunkEntry> missingChunks = new ArrayList<>();
+
+        for (ChunkEntry chunk : chunks) {
+            pinnedHashes.add(chunk.getHash());
+        }
+
+        chunkStore.pin(pinnedHashes);
+
+        Set<ByteString> hashes = new HashSet<>();
+
+        for (ChunkEntry chunk : chunks) {
+            if (hashes.add(chunk.getHash()) && !chunkStore.contains(chunk.getHash())) {
+                missingChunks.add(chunk);
+            }
+        }
+
+        return missingChunks;
+    }
+
+    public void setMissingChunks(List<ChunkEntry> missingChunks) {
+        this.missingChunks.addAll(missingChunks);
+    }
+
+    public List<ChunkEntry> pollMissingChunks(int maxBytes) {
+        List<ChunkEntry> batch = new ArrayList<>();
+        long bytes = 0;
+
+        while (!missingChunks.isEmpty() && (batch.isEmpty() || bytes + missingChunks.peekFirst().getLength() <= maxBytes)) {
+            ChunkEntry chunk = missingChunks.pollFirst();
+            bytes += chunk.getLength();
+            requestedHashes.add(chunk.getHash());
+            batch.add(chunk);
+        }
+
+        return batch;
+    }
+
+    public boolean isRequested(ByteString hash) {
+        return requestedHashes.contains(hash);
+    }
+
+    public void handleChunksReceived(List<ChunkEntry> chunks) {
+        for (ChunkEntry chunk : chunks) {
+            if (requestedHashes.remove(chunk.getHash())) {
+                fetchedBytes += chunk.getLength();
+            }
+        }
+    }
+
+    // Called on diskIoExecutor
+    public boolean assemble(ChunkStore chunkStore) throws IOException {
+        Hasher hasher = Hashing.sha256().newHasher();
+
+        Files.createDirectories(partPath.getParent());
+
+        try (OutputStream outputStream = Files.newOutputStream(partPath)) {
+            for (ChunkEntry chunk : chunks) {
+                byte[] data = chunkStore.read(chunk.getHash());
+                hasher.putBytes(data);
+                outputStream.write(data);
+            }
+        } finally {
+            unpin(chunkStore);
+        }
+
+        if (!ByteString.copyFrom(hasher.hash().asBytes()).equals(fileInfo.getContentHash())) {
+            Files.deleteIfExists(partPath);
+            return false;
+        }
+
+        Files.move(partPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        return true;
+    }
+
+    // Called on diskIoExecutor, chunks already stored are kept for later downloads
+    public void abort(ChunkStore chunkStore) {
+        unpin(chunkStore);
+
+        try {
+            Files.deleteIfExists(partPath);
+        } catch (IOException e) {
+            LOGGER.error("Error occurred while removing {}", partPath, e);
+        }
+    }
+
+    private void unpin(ChunkStore chunkStore) {
+        chunkStore.unpin(pinnedHashes);
+        pinnedHashes.clear();
+    }
+
+    public String getFileName() {
+        return fileInfo.getFileName();
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public FileInfoResponse getFileInfo() {
+        return fileInfo;
+    }
+
+    public Map<String, FileInfoResponse> getPeerNameToResponseMap() {
+        return peerNameToResponseMap;
+    }
+
+    public Connection getConnection() {
+        return connection;
+    }
+
+    public EventExecutor getDiskIoExecutor() {
+        return diskIoExecutor;
+    }
+
+    public int getNumberOfChunks() {
+        return chunks.size();
+    }
+
+    public boolean hasMissingChunks() {
+        return !missingChunks.isEmpty();
+    }
+
+    public void addPendingRequest() {
+        numberOfPendingRequests++;
+    }
+
+    public void removePendingRequest() {
+        numberOfPendingRequests--;
+    }
+
+    public int getNumberOfPendingRequests() {
+        return numberOfPendingRequests;
+    }
+
+    public long getFetchedBytes() {
+        return fetchedBytes;
+    }
+
+    @Override
+    public String toString() {
+        return "ChunkDownload{" +
+                "fileName='" + fileInfo.getFileName() + '\'' +
+                ", peerName='" + connection.getPeerName() + '\'' +
+                ", chunks=" + chunks.size() +
+                ", missingChunks=" + missingChunks.size() +
+                ", numberOfPendingRequests=" + numberOfPendingRequests +
+                '}';
+    }
+}
@@ -0,0 +1,344 @@
+package com.halcyon.p2p.file.transfer.service;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import com.google.common.io.BaseEncoding;
+import com.google.protobuf.ByteString;
+import com.halcyon.p2p.file.transfer.util.ContentDefinedChunker;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+// Content-addressed chunks, one file per SHA-256 fanned out by its first byte, so a chunk is kept once however many files contain it.
+// Chunks are written to a temporary file and renamed, so concurrent writers of the same chunk and crashes never leave a torn chunk.
+// Chunks of indexed local files are only referenced and read from those files, so the stored chunk files hold just the chunks no local
+// file has, and they are evicted least recently used first once they take more than maxSize bytes and no chunk download needs them.
+public class ChunkStore {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ChunkStore.class);
+
+    private static final HashFunction HASH_FUNCTION = Hashing.sha256();
+    private static final BaseEncoding HEX = BaseEncoding.base16().lowerCase();
+    private static final int HASH_LENGTH = HASH_FUNCTION.bits() / Byte.SIZE;
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+
+    private final Path directory;
+    private final long maxSize;
+
+    // A reference only holds while its file keeps the size and modification time it was indexed with
+    private final Map<Path, ReferencedFile> pathToReferencedFileMap = new ConcurrentHashMap<>();
+    private final Map<ByteString, ChunkReference> hashToReferenceMap = new ConcurrentHashMap<>();
+
+    // Guarded by this, loaded from the directory on first use and kept in access order
+    private final LinkedHashMap<ByteString, Integer> storedChunkSizes = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<ByteString, Integer> hashToPinCountMap = new HashMap<>();
+    private boolean storedChunksLoaded;
+    private long storedSize;
+
+    public ChunkStore(Path directory, long maxSize) {
+        this.directory = directory;
+        this.maxSize = maxSize;
+    }
+
+    public static ByteString hash(byte[] data, int offset, int length) {
+        return ByteString.copyFrom(HASH_FUNCTION.hashBytes(data, offset, length).asBytes());
+    }
+
+    // Hashes come from other peers, anything but a SHA-256 would not map to a chunk file
+    public static boolean isValidHash(ByteString hash) {
+        return hash.size() == HASH_LENGTH;
+    }
+
+    public boolean contains(ByteString hash) {
+        return isValidHash(hash) && (Files.isRegularFile(getPath(hash)) || getReference(hash) != null);
+    }
+
+    // Returns false without storing anything if data does not hash to hash
+    public boolean put(ByteString hash, ByteString data) throws IOException {
+        if (!isValidHash(hash) || !ByteString.copyFrom(HASH_FUNCTION.hashBytes(data.asReadOnlyByteBuffer()).asBytes()).equals(hash)) {
+            return false;
+        }
+
+        Path path = getPath(hash);
+
+        if (Files.isRegularFile(path) || getReference(hash) != null) {
+            return true;
+        }
+
+        Files.createDirectories(path.getParent());
+        Path temporaryPath = Files.createTempFile(path.getParent(), path.getFileName().toString(), TEMPORARY_FILE_SUFFIX);
+
+        try {
+            Files.write(temporaryPath, data.toByteArray());
+            Files.move(temporaryPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporaryPath);
+        }
+
+        addStoredChunk(hash, data.size());
+
+        return true;
+    }
+
+    public byte[] read(ByteString hash) throws IOException {
+        if (!isValidHash(hash)) {
+            throw new IOException("Invalid chunk hash of " + hash.size() + " bytes");
+        }
+
+        try {
+            byte[] data = Files.readAllBytes(getPath(hash));
+            touchStoredChunk(hash);
+            return data;
+        } catch (NoSuchFileException e) {
+            ChunkReference reference = getReference(hash);
+
+            if (reference == null) {
+                throw e;
+            }
+
+            return readReference(hash, reference);
+        }
+    }
+
+    // A file changed since it was indexed fails the hash check, so its reference is dropped instead of serving wrong data
+    private byte[] readReference(ByteString hash, ChunkReference reference) throws IOException {
+        byte[] data = new byte[reference.length()];
+
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(reference.path().toFile(), "r")) {
+            randomAccessFile.seek(reference.offset());
+            randomAccessFile.readFully(data);
+        } catch (IOException e) {
+            hashToReferenceMap.remove(hash, reference);
+            throw e;
+        }
+
+        if (!hash(data, 0, data.length).equals(hash)) {
+            hashToReferenceMap.remove(hash, reference);
+            throw new IOException("Chunk " + HEX.encode(hash.toByteArray()) + " changed in " + reference.path());
+        }
+
+        return data;
+    }
+
+    // Called on a disk I/O thread. Cuts the file the way peers cut their chunk lists and references its chunks, dropping stored copies
+    // of them. A file that is unchanged since it was last indexed isn't read again.
+    public void indexFile(Path path) throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        ReferencedFile referencedFile = pathToReferencedFileMap.get(path);
+
+        if (referencedFile != null && referencedFile.isCurrent(attributes)) {
+            return;
+        }
+
+        ReferencedFile newReferencedFile = new ReferencedFile(attributes.size(), attributes.lastModifiedTime(), new ArrayList<>());
+        List<ChunkReference> references = new ArrayList<>();
+
+        try (InputStream inputStream = Files.newInputStream(path)) {
+            ContentDefinedChunker.forEachChunk(inputStream, (buffer, position, offset, length) -> {
+                newReferencedFile.hashes().add(hash(buffer, position, length));
+                references.add(new ChunkReference(path, newReferencedFile, offset, length));
+            });
+        }
+
+        // Changed while it was read, the next indexing picks up whatever it ends up as
+        if (!newReferencedFile.isCurrent(Files.readAttributes(path, BasicFileAttributes.class))) {
+            return;
+        }
+
+        removeFile(path);
+        pathToReferencedFileMap.put(path, newReferencedFile);
+
+        for (int i = 0; i < references.size(); i++) {
+            ByteString hash = newReferencedFile.hashes().get(i);
+
+            hashToReferenceMap.put(hash, references.get(i));
+            removeStoredChunk(hash);
+        }
+
+        LOGGER.debug("{} chunks of {} were indexed", references.size(), path);
+    }
+
+    // Forgets the chunks of a deleted or replaced file, references to it would fail their hash check anyway
+    public void removeFile(Path path) {
+        ReferencedFile referencedFile = pathToReferencedFileMap.get(path);
+
+        if (referencedFile != null) {
+            removeFile(path, referencedFile);
+        }
+    }
+
+    // Only removes the file if it wasn't indexed again in the meantime
+    private void removeFile(Path path, ReferencedFile referencedFile) {
+        if (!pathToReferencedFileMap.remove(path, referencedFile)) {
+            return;
+        }
+
+        for (ByteString hash : referencedFile.hashes()) {
+            hashToReferenceMap.computeIfPresent(hash, (key, reference) -> reference.referencedFile() == referencedFile ? null : reference);
+        }
+    }
+
+    private ChunkReference getReference(ByteString hash) {
+        ChunkReference reference = hashToReferenceMap.get(hash);
+
+        if (reference == null) {
+            return null;
+        }
+
+        try {
+            if (pathToReferencedFileMap.get(reference.path()) == reference.referencedFile()
+                    && reference.referencedFile().isCurrent(Files.readAttributes(reference.path(), BasicFileAttributes.class))) {
+                return reference;
+            }
+        } catch (IOException e) {
+            LOGGER.debug("{} can't be read anymore, its chunks are forgotten", reference.path());
+        }
+
+        removeFile(reference.path(), reference.referencedFile());
+        hashToReferenceMap.remove(hash, reference);
+
+        return null;
+    }
+
+    private synchronized void addStoredChunk(ByteString hash, int size) {
+        loadStoredChunks();
+
+        Integer previousSize = storedChunkSizes.put(hash, size);
+        storedSize += size - (previousSize != null ? previousSize : 0);
+    }
+
+    // Called before a chunk download looks for its chunks, so they can't be evicted before it is assembled
+    public synchronized void pin(Collection<ByteString> hashes) {
+        for (ByteString hash : hashes) {
+            hashToPinCountMap.merge(hash, 1, Integer::sum);
+        }
+    }
+
+    // The store grows past maxSize while chunk downloads hold the chunks they fetched, it is trimmed as each of them finishes
+    public synchronized void unpin(Collection<ByteString> hashes) {
+        for (ByteString hash : hashes) {
+            hashToPinCountMap.computeIfPresent(hash, (key, pinCount) -> pinCount > 1 ? pinCount - 1 : null);
+        }
+
+        evict();
+    }
+
+    private void evict() {
+        loadStoredChunks();
+
+        Iterator<Map.Entry<ByteString, Integer>> iterator = storedChunkSizes.entrySet().iterator();
+
+        while (storedSize > maxSize && iterator.hasNext()) {
+            Map.Entry<ByteString, Integer> entry = iterator.next();
+
+            if (hashToPinCountMap.containsKey(entry.getKey())) {
+                continue;
+            }
+
+            try {
+                Files.deleteIfExists(getPath(entry.getKey()));
+            } catch (IOException e) {
+                LOGGER.warn("Error occurred while evicting chunk {}", HEX.encode(entry.getKey().toByteArray()), e);
+                continue;
+            }
+
+            storedSize -= entry.getValue();
+            iterator.remove();
+        }
+    }
+
+    private synchronized void touchStoredChunk(ByteString hash) {
+        loadStoredChunks();
+        storedChunkSizes.get(hash);
+    }
+
+    private synchronized void removeStoredChunk(ByteString hash) throws IOException {
+        loadStoredChunks();
+
+        Integer size = storedChunkSizes.remove(hash);
+
+        if (size != null) {
+            storedSize -= size;
+            Files.deleteIfExists(getPath(hash));
+        }
+    }
+
+    // Chunks stored by an earlier run count towards maxSize too, the least recently modified ones are evicted first
+    private void loadStoredChunks() {
+        if (storedChunksLoaded) {
+            return;
+        }
+
+        storedChunksLoaded = true;
+
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+
+        Map<Path, BasicFileAttributes> pathToAttributesMap = new LinkedHashMap<>();
+
+        try (Stream<Path> paths = Files.walk(directory, 2)) {
+            for (Path path : (Iterable<Path>) paths::iterator) {
+                if (directory.relativize(path).getNameCount() == 2 && !path.getFileName().toString().endsWith(TEMPORARY_FILE_SUFFIX)) {
+                    pathToAttributesMap.put(path, Files.readAttributes(path, BasicFileAttributes.class));
+                }
+            }
+        } catch (IOException | UncheckedIOException e) {
+            LOGGER.error("Error occurred while loading the chunks in {}", directory, e);
+        }
+
+        pathToAttributesMap.entrySet().stream()
+                .filter(entry -> entry.getValue().isRegularFile())
+                .sorted(Comparator.comparing(entry -> entry.getValue().lastModifiedTime()))
+                .forEach(entry -> {
+                    Path path = entry.getKey();
+                    ByteString hash = ByteString.copyFrom(HEX.decode(path.getParent().getFileName().toString() + path.getFileName()));
+
+                    storedChunkSizes.put(hash, (int) entry.getValue().size());
+                    storedSize += entry.getValue().size();
+                });
+    }
+
+    private Path getPath(ByteString hash) {
+        String name = HEX.encode(hash.toByteArray());
+
+        return directory.resolve(name.substring(0, 2)).resolve(name.substring(2));
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    public synchronized long getStoredSize() {
+        loadStoredChunks();
+        return storedSize;
+    }
+
+    private record ReferencedFile(long size, FileTime lastModifiedTime, List<ByteString> hashes) {
+        boolean isCurrent(BasicFileAttributes attributes) {
+            return attributes.size() == size && attributes.lastModifiedTime().equals(lastModifiedTime);
+        }
+    }
+
+    private record ChunkReference(Path path, ReferencedFile referencedFile, long offset, int length) {
+    }
+}
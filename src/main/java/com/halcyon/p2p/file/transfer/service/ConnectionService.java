@@ -1,16 +1,18 @@
 package com.halcyon.p2p.file.transfer.service;
 
 import com.halcyon.p2p.file.transfer.config.PeerConfig;
+import com.halcyon.p2p.file.transfer.network.BandwidthLimiter;
 import com.halcyon.p2p.file.transfer.network.Connection;
 import com.halcyon.p2p.file.transfer.network.Peer;
 import com.halcyon.p2p.file.transfer.network.PeerChannelHandler;
 import com.halcyon.p2p.file.transfer.network.PeerChannelInitializer;
+import com.halcyon.p2p.file.transfer.network.Transport;
 import io.netty.bootstrap.Bootstrap;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoop;
 import io.netty.channel.EventLoopGroup;
-import io.netty.channel.socket.nio.NioSocketChannel;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -24,26 +26,27 @@ public class ConnectionService {
     private static final Logger LOGGER = LoggerFactory.getLogger(ConnectionService.class);
 
     private final PeerConfig peerConfig;
+    private final BandwidthLimiter bandwidthLimiter;
+    private final Transport transport;
     private final EventLoopGroup networkEventLoopGroup;
     private final EventLoopGroup peerEventLoopGroup;
+    private final EventLoop peerEventLoop;
 
     private final Map<String, Connection> serverNameToConnectionMap = new HashMap<>();
+    private final Map<String, Connection> peerNameToPendingConnectionMap = new HashMap<>();
 
-    public ConnectionService(PeerConfig peerConfig, EventLoopGroup networkEventLoopGroup, EventLoopGroup peerEventLoopGroup) {
+    public ConnectionService(PeerConfig peerConfig, BandwidthLimiter bandwidthLimiter, Transport transport, EventLoopGroup networkEventLoopGroup,
+                             EventLoopGroup peerEventLoopGroup, EventLoop peerEventLoop) {
         this.peerConfig = peerConfig;
+        this.bandwidthLimiter = bandwidthLimiter;
+        this.transport = transport;
         this.networkEventLoopGroup = networkEventLoopGroup;
         this.peerEventLoopGroup = peerEventLoopGroup;
+        this.peerEventLoop = peerEventLoop;
     }
 
     public void connect(Peer peer, String host, int port, CompletableFuture<Void> futureToNotify) {
-        PeerChannelHandler peerChannelHandler = new PeerChannelHandler(peer);
-        PeerChannelInitializer peerChannelInitializer = new PeerChannelInitializer(peerConfig, peerEventLoopGroup, peerChannelHandler);
-
-        Bootstrap clientBootstrap = new Bootstrap();
-        clientBootstrap.group(networkEventLoopGroup).channel(NioSocketChannel.class).option(ChannelOption.TCP_NODELAY, true)
-                .handler(peerChannelInitializer);
-
-        ChannelFuture connectFuture = clientBootstrap.connect(host, port);
+        ChannelFuture connectFuture = createBootstrap(peer).connect(host, port);
 
         if (futureToNotify != null) {
             connectFuture.addListener((ChannelFutureListener) channelFuture -> {
@@ -58,6 +61,63 @@ public class ConnectionService {
         }
     }
 
+    // The lane goes to the same address as the connection and is attached to it once the other side accepted it
+    public void connectDataLane(Peer peer, Connection connection) {
+        Bootstrap dataLaneBootstrap = createBootstrap(peer).attr(PeerChannelHandler.DATA_LANE_ATTRIBUTE_KEY, connection);
+
+        dataLaneBootstrap.connect(connection.getRemoteAddress()).addListener((ChannelFutureListener) channelFuture -> {
+            if (channelFuture.isSuccess()) {
+                return;
+            }
+
+            // Without its first lane the connection can't be used, extra lanes are only missed by the throughput
+            if (connection.hasDataLane()) {
+                LOGGER.warn("Can't open another data lane to {}", connection.getPeerName(), channelFuture.cause());
+            } else {
+                LOGGER.error("Can't open the data lane of {}", connection, channelFuture.cause());
+                peerEventLoop.execute(() -> peer.handleConnectionClosing(connection));
+            }
+        });
+    }
+
+    private Bootstrap createBootstrap(Peer peer) {
+        PeerChannelHandler peerChannelHandler = new PeerChannelHandler(peer, peerEventLoop);
+        PeerChannelInitializer peerChannelInitializer = new PeerChannelInitializer(peerConfig, bandwidthLimiter, peerEventLoopGroup,
+                peerChannelHandler);
+
+        Bootstrap clientBootstrap = new Bootstrap();
+        clientBootstrap.group(networkEventLoopGroup).channel(transport.getSocketChannelClass()).option(ChannelOption.TCP_NODELAY, true)
+                .option(ChannelOption.WRITE_BUFFER_WATER_MARK, peerConfig.getWriteBufferWaterMark())
+                .handler(peerChannelInitializer);
+
+        transport.configureClient(clientBootstrap, peerConfig);
+
+        return clientBootstrap;
+    }
+
+    // Inbound connections wait here until the other side opens their data lane
+    public void addPendingConnection(Connection connection) {
+        Connection previousConnection = peerNameToPendingConnectionMap.put(connection.getPeerName(), connection);
+
+        if (previousConnection != null) {
+            previousConnection.close();
+            LOGGER.info("Previous pending connection to {} is closed", connection.getPeerName());
+        }
+    }
+
+    public Connection removePendingConnection(String peerName) {
+        return peerNameToPendingConnectionMap.remove(peerName);
+    }
+
+    public boolean removePendingConnection(Connection connection) {
+        if (peerNameToPendingConnectionMap.get(connection.getPeerName()) != connection) {
+            return false;
+        }
+
+        peerNameToPendingConnectionMap.remove(connection.getPeerName());
+        return true;
+    }
+
     public void addConnection(Connection connection) {
         String peerName = connection.getPeerName();
         Connection previousConnection = serverNameToConnectionMap.put(peerName, connection);
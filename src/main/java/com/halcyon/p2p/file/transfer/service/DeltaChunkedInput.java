@@ -0,0 +1,241 @@
+package com.halcyon.p2p.file.transfer.service;
+
+import com.google.protobuf.ByteString;
+import com.halcyon.p2p.file.transfer.proto.File.BlockRange;
+import com.halcyon.p2p.file.transfer.proto.File.DeltaInstruction;
+import com.halcyon.p2p.file.transfer.proto.File.DeltaRequest;
+import com.halcyon.p2p.file.transfer.proto.File.DeltaResponse;
+import com.halcyon.p2p.file.transfer.proto.General.ProtobufMessage;
+import com.halcyon.p2p.file.transfer.util.DeltaUtil;
+import com.halcyon.p2p.file.transfer.util.RollingChecksum;
+import io.netty.util.concurrent.EventExecutor;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+// Slides a rolling checksum over the file and encodes it as copies of the blocks the requester signed and literal bytes in between,
+// one DeltaResponse per batch of instructions
+public class DeltaChunkedInput extends DiskChunkedInput<ProtobufMessage> {
+    static final int MAX_LITERAL_BYTES_PER_RESPONSE = 512 * 1024;
+    private static final int MAX_INSTRUCTIONS_PER_RESPONSE = 4096;
+    private static final int READ_AHEAD_SIZE = 1024 * 1024;
+
+    private final String fileName;
+    private final FileChannel fileChannel;
+    private final long fileSize;
+    private final int blockSize;
+    // Like rsync, a 16 bit tag table rules out most positions before the map is looked up
+    private final boolean[] weakChecksumTags = new boolean[1 << 16];
+    private final Map<Integer, List<Integer>> weakChecksumToBlockIndexesMap = new HashMap<>();
+    private final long[] strongChecksums;
+
+    // Everything below is only accessed on diskIoExecutor, bytes [bufferOffset, bufferOffset + bufferLength) of the file are buffered
+    private final RollingChecksum rollingChecksum;
+    private final byte[] buffer;
+    private long bufferOffset;
+    private int bufferLength;
+    private long position;
+    private long literalStart;
+    private boolean checksumValid;
+    private int nextBlockIndex = -1;
+
+    private long literalBytesSent;
+
+    public DeltaChunkedInput(Path path, DeltaRequest request, EventExecutor diskIoExecutor, Runnable transferResumer) throws IOException {
+        super(request.getFileName(), diskIoExecutor, transferResumer);
+        this.fileName = request.getFileName();
+        this.fileChannel = FileChannel.open(path, StandardOpenOption.READ);
+        this.fileSize = fileChannel.size();
+        this.blockSize = request.getBlockSize();
+        this.strongChecksums = request.getStrongChecksumsList().stream().mapToLong(Long::longValue).toArray();
+        this.rollingChecksum = new RollingChecksum(blockSize);
+        this.buffer = new byte[MAX_LITERAL_BYTES_PER_RESPONSE + blockSize + READ_AHEAD_SIZE];
+
+        for (int blockIndex = 0; blockIndex < request.getWeakChecksumsCount(); blockIndex++) {
+            int weakChecksum = request.getWeakChecksums(blockIndex);
+
+            weakChecksumTags[getTag(weakChecksum)] = true;
+            weakChecksumToBlockIndexesMap.computeIfAbsent(weakChecksum, checksum -> new ArrayList<>(1)).add(blockIndex);
+        }
+    }
+
+    private static int getTag(int weakChecksum) {
+        return (weakChecksum ^ (weakChecksum >>> 16)) & 0xffff;
+    }
+
+    public static boolean isValid(DeltaRequest request) {
+        return request.getBlockSize() >= DeltaUtil.MIN_BLOCK_SIZE && request.getBlockSize() <= DeltaUtil.MAX_BLOCK_SIZE
+                && request.getWeakChecksumsCount() == request.getStrongChecksumsCount();
+    }
+
+    @Override
+    protected Callable<ProtobufMessage> createChunkReader() {
+        return this::encodeNextResponse;
+    }
+
+    @Override
+    protected boolean handleChunkSent(ProtobufMessage chunk) {
+        DeltaResponse response = chunk.getDeltaResponse();
+
+        for (DeltaInstruction instruction : response.getInstructionsList()) {
+            literalBytesSent += instruction.getLiteral().size();
+        }
+
+        return response.getIsLast();
+    }
+
+    @Override
+    protected void closeSource() throws IOException {
+        fileChannel.close();
+    }
+
+    private ProtobufMessage encodeNextResponse() throws IOException {
+        var responseBuilder = DeltaResponse.newBuilder()
+                .setFileName(fileName)
+                .setFound(true);
+        int literalBytes = 0;
+
+        while (literalBytes < MAX_LITERAL_BYTES_PER_RESPONSE && responseBuilder.getInstructionsCount() < MAX_INSTRUCTIONS_PER_RESPONSE) {
+            if (position + blockSize > fileSize) {
+                literalBytes += addLiteral(responseBuilder, fileSize);
+                responseBuilder.setIsLast(true);
+                break;
+            }
+
+            fill(position + blockSize);
+
+            if (!checksumValid) {
+                rollingChecksum.reset(buffer, (int) (position - bufferOffset));
+                checksumValid = true;
+            }
+
+            int blockIndex = findBlock();
+
+            if (blockIndex >= 0) {
+                literalBytes += addLiteral(responseBuilder, position);
+                addCopy(responseBuilder, blockIndex);
+                position += blockSize;
+                literalStart = position;
+                checksumValid = false;
+                continue;
+            }
+
+            if (position + blockSize < fileSize) {
+                fill(position + blockSize + 1);
+                rollingChecksum.roll(buffer[(int) (position - bufferOffset)], buffer[(int) (position + blockSize - bufferOffset)]);
+            }
+
+            position++;
+
+            if (position - literalStart == MAX_LITERAL_BYTES_PER_RESPONSE) {
+                literalBytes += addLiteral(responseBuilder, position);
+            }
+        }
+
+        return ProtobufMessage.newBuilder()
+                .setDeltaResponse(responseBuilder.build())
+                .build();
+    }
+
+    // Prefers the block following the previous copy, so that unchanged runs collapse into a single BlockRange
+    private int findBlock() {
+        int weakChecksum = rollingChecksum.getValue();
+
+        if (!weakChecksumTags[getTag(weakChecksum)]) {
+            return -1;
+        }
+
+        List<Integer> blockIndexes = weakChecksumToBlockIndexesMap.get(weakChecksum);
+
+        if (blockIndexes == null) {
+            return -1;
+        }
+
+        long strongChecksum = DeltaUtil.computeStrongChecksum(buffer, (int) (position - bufferOffset), blockSize);
+
+        if (nextBlockIndex >= 0 && nextBlockIndex < strongChecksums.length && blockIndexes.contains(nextBlockIndex)
+                && strongChecksums[nextBlockIndex] == strongChecksum) {
+            return nextBlockIndex;
+        }
+
+        for (int blockIndex : blockIndexes) {
+            if (strongChecksums[blockIndex] == strongChecksum) {
+                return blockIndex;
+            }
+        }
+
+        return -1;
+    }
+
+    private int addLiteral(DeltaResponse.Builder responseBuilder, long end) throws IOException {
+        int length = (int) (end - literalStart);
+
+        if (length > 0) {
+            fill(end);
+            responseBuilder.addInstructions(DeltaInstruction.newBuilder()
+                    .setLiteral(ByteString.copyFrom(buffer, (int) (literalStart - bufferOffset), length)));
+            nextBlockIndex = -1;
+        }
+
+        literalStart = end;
+
+        return length;
+    }
+
+    private void addCopy(DeltaResponse.Builder responseBuilder, int blockIndex) {
+        int lastIndex = responseBuilder.getInstructionsCount() - 1;
+
+        if (blockIndex == nextBlockIndex && lastIndex >= 0 && responseBuilder.getInstructions(lastIndex).hasCopy()) {
+            BlockRange.Builder blockRangeBuilder = responseBuilder.getInstructionsBuilder(lastIndex).getCopyBuilder();
+            blockRangeBuilder.setBlockCount(blockRangeBuilder.getBlockCount() + 1);
+        } else {
+            responseBuilder.addInstructions(DeltaInstruction.newBuilder()
+                    .setCopy(BlockRange.newBuilder().setBlockIndex(blockIndex).setBlockCount(1)));
+        }
+
+        nextBlockIndex = blockIndex + 1;
+    }
+
+    // Keeps the pending literal bytes buffered and reads ahead of end, discarding everything before literalStart
+    private void fill(long end) throws IOException {
+        if (end <= bufferOffset + bufferLength) {
+            return;
+        }
+
+        int discarded = (int) (literalStart - bufferOffset);
+        System.arraycopy(buffer, discarded, buffer, 0, bufferLength - discarded);
+        bufferOffset = literalStart;
+        bufferLength -= discarded;
+
+        ByteBuffer byteBuffer = ByteBuffer.wrap(buffer, bufferLength, buffer.length - bufferLength);
+
+        while (bufferOffset + bufferLength < end) {
+            int readLength = fileChannel.read(byteBuffer, bufferOffset + bufferLength);
+
+            if (readLength < 0) {
+                throw new EOFException("File " + fileName + " was truncated while its delta was sent");
+            }
+
+            bufferLength += readLength;
+        }
+    }
+
+    @Override
+    public long length() {
+        return -1;
+    }
+
+    @Override
+    public long progress() {
+        return literalBytesSent;
+    }
+}
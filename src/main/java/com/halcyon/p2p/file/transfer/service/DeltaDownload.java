@@ -0,0 +1,249 @@
+package com.halcyon.p2p.file.transfer.service;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.protobuf.ByteString;
+import com.halcyon.p2p.file.transfer.network.Connection;
+import com.halcyon.p2p.file.transfer.proto.File.BlockRange;
+import com.halcyon.p2p.file.transfer.proto.File.DeltaInstruction;
+import com.halcyon.p2p.file.transfer.proto.File.DeltaRequest;
+import com.halcyon.p2p.file.transfer.proto.File.FileInfoResponse;
+import com.halcyon.p2p.file.transfer.util.DeltaUtil;
+import com.halcyon.p2p.file.transfer.util.RollingChecksum;
+import io.netty.util.concurrent.EventExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+
+// Rebuilds the new version of a file next to the old copy from blocks of the old copy and literal bytes, so the old copy stays intact
+// until the result matches the content hash
+public class DeltaDownload {
+    private static final Logger LOGGER = LoggerFactory.getLogger(DeltaDownload.class);
+
+    private static final String DELTA_FILE_SUFFIX = ".delta";
+    private static final int READ_BUFFER_SIZE = 1024 * 1024;
+
+    private final FileInfoResponse fileInfo;
+    private final Map<String, FileInfoResponse> peerNameToResponseMap;
+    private final Connection connection;
+    private final Path path;
+    private final Path deltaPath;
+    // Only the full blocks of the old copy are signed, so copies never reach past them
+    private final long signedSize;
+    private final int blockSize;
+    private final EventExecutor diskIoExecutor;
+
+    // Everything below is only accessed on diskIoExecutor
+    private final Hasher hasher = Hashing.sha256().newHasher();
+    private final byte[] buffer;
+    private FileChannel oldFileChannel;
+    private FileChannel deltaFileChannel;
+    private long bytesWritten;
+    private long bytesCopied;
+    private boolean closed;
+
+    public DeltaDownload(FileInfoResponse fileInfo, Map<String, FileInfoResponse> peerNameToResponseMap, Connection connection, Path path,
+                         long signedSize, int blockSize, EventExecutor diskIoExecutor) {
+        this.fileInfo = fileInfo;
+        this.peerNameToResponseMap = peerNameToResponseMap;
+        this.connection = connection;
+        this.path = path;
+        this.deltaPath = path.resolveSibling(path.getFileName() + DELTA_FILE_SUFFIX);
+        this.signedSize = signedSize;
+        this.blockSize = blockSize;
+        this.diskIoExecutor = diskIoExecutor;
+        this.buffer = new byte[max(blockSize, READ_BUFFER_SIZE / blockSize * blockSize)];
+    }
+
+    // Signs every full block of the old copy while feeding all of it to contentHasher, which tells whether the copy is already up to date
+    public static DeltaRequest createRequest(String fileName, Path path, Hasher contentHasher) throws IOException {
+        try (FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ)) {
+            int blockSize = DeltaUtil.getBlockSize(fileChannel.size());
+            byte[] buffer = new byte[max(blockSize, READ_BUFFER_SIZE / blockSize * blockSize)];
+            var requestBuilder = DeltaRequest.newBuilder()
+                    .setFileName(fileName)
+                    .setBlockSize(blockSize);
+
+            while (true) {
+                int length = readFully(fileChannel, buffer, buffer.length);
+
+                if (length == 0) {
+                    break;
+                }
+
+                contentHasher.putBytes(buffer, 0, length);
+
+                for (int offset = 0; offset + blockSize <= length; offset += blockSize) {
+                    requestBuilder.addWeakChecksums(RollingChecksum.compute(buffer, offset, blockSize))
+                            .addStrongChecksums(DeltaUtil.computeStrongChecksum(buffer, offset, blockSize));
+                }
+
+                if (length < buffer.length) {
+                    break;
+                }
+            }
+
+            return requestBuilder.build();
+        }
+    }
+
+    public void apply(List<DeltaInstruction> instructions) throws IOException {
+        if (closed) {
+            return;
+        }
+
+        if (deltaFileChannel == null) {
+            oldFileChannel = FileChannel.open(path, StandardOpenOption.READ);
+            deltaFileChannel = FileChannel.open(deltaPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+        }
+
+        for (DeltaInstruction instruction : instructions) {
+            switch (instruction.getInstructionCase()) {
+                case COPY -> copyBlocks(instruction.getCopy());
+                case LITERAL -> write(instruction.getLiteral());
+                default -> throw new IOException("Unknown delta instruction for " + fileInfo.getFileName());
+            }
+        }
+    }
+
+    private void copyBlocks(BlockRange blockRange) throws IOException {
+        long offset = (long) blockRange.getBlockIndex() * blockSize;
+        long length = (long) blockRange.getBlockCount() * blockSize;
+
+        if (blockRange.getBlockIndex() < 0 || blockRange.getBlockCount() <= 0 || offset + length > signedSize) {
+            throw new IOException("Blocks " + blockRange.getBlockIndex() + "+" + blockRange.getBlockCount() + " are outside of the old copy of "
+                    + fileInfo.getFileName());
+        }
+
+        while (length > 0) {
+            oldFileChannel.position(offset);
+            int readLength = readFully(oldFileChannel, buffer, (int) min(buffer.length, length));
+
+            if (readLength == 0) {
+                throw new EOFException("The old copy of " + fileInfo.getFileName() + " was truncated");
+            }
+
+            write(ByteString.copyFrom(buffer, 0, readLength));
+            offset += readLength;
+            length -= readLength;
+            bytesCopied += readLength;
+        }
+    }
+
+    private void write(ByteString data) throws IOException {
+        if (bytesWritten + data.size() > fileInfo.getFileSize()) {
+            throw new IOException("The delta of " + fileInfo.getFileName() + " is longer than " + fileInfo.getFileSize() + " bytes");
+        }
+
+        for (ByteBuffer byteBuffer : data.asReadOnlyByteBufferList()) {
+            hasher.putBytes(byteBuffer.duplicate());
+
+            while (byteBuffer.hasRemaining()) {
+                bytesWritten += deltaFileChannel.write(byteBuffer, bytesWritten);
+            }
+        }
+    }
+
+    public boolean complete() throws IOException {
+        closed = true;
+        close();
+
+        if (bytesWritten != fileInfo.getFileSize() || !ByteString.copyFrom(hasher.hash().asBytes()).equals(fileInfo.getContentHash())) {
+            Files.deleteIfExists(deltaPath);
+            return false;
+        }
+
+        Files.move(deltaPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        return true;
+    }
+
+    public void abort() {
+        closed = true;
+
+        try {
+            close();
+            Files.deleteIfExists(deltaPath);
+        } catch (IOException e) {
+            LOGGER.error("Error occurred while removing {}", deltaPath, e);
+        }
+    }
+
+    private void close() throws IOException {
+        if (oldFileChannel != null) {
+            oldFileChannel.close();
+        }
+
+        if (deltaFileChannel != null) {
+            deltaFileChannel.close();
+        }
+    }
+
+    private static int readFully(FileChannel fileChannel, byte[] buffer, int length) throws IOException {
+        ByteBuffer byteBuffer = ByteBuffer.wrap(buffer, 0, length);
+
+        while (byteBuffer.hasRemaining()) {
+            if (fileChannel.read(byteBuffer) < 0) {
+                break;
+            }
+        }
+
+        return byteBuffer.position();
+    }
+
+    public String getFileName() {
+        return fileInfo.getFileName();
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public FileInfoResponse getFileInfo() {
+        return fileInfo;
+    }
+
+    public Map<String, FileInfoResponse> getPeerNameToResponseMap() {
+        return peerNameToResponseMap;
+    }
+
+    public Connection getConnection() {
+        return connection;
+    }
+
+    public EventExecutor getDiskIoExecutor() {
+        return diskIoExecutor;
+    }
+
+    public long getBytesWritten() {
+        return bytesWritten;
+    }
+
+    public long getBytesCopied() {
+        return bytesCopied;
+    }
+
+    @Override
+    public String toString() {
+        return "DeltaDownload{" +
+                "fileName='" + fileInfo.getFileName() + '\'' +
+                ", peerName='" + connection.getPeerName() + '\'' +
+                ", signedSize=" + signedSize +
+                ", blockSize=" + blockSize +
+                '}';
+    }
+}
@@ -0,0 +1,129 @@
+package com.halcyon.p2p.file.transfer.service;
+
+import com.halcyon.p2p.file.transfer.network.Connection;
+import com.halcyon.p2p.file.transfer.proto.File.FileEntry;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+public class DirectoryDownload {
+    private final String directoryName;
+    private final Connection connection;
+    private final Deque<FileEntry> pendingPackedFiles;
+    private final Deque<FileEntry> pendingFiles;
+    private final Map<String, DirectoryFile> fileNameToRequestedFileMap = new HashMap<>();
+    private final int numberOfFiles;
+    private final long startNanos = System.nanoTime();
+
+    private int numberOfPendingRequests;
+    private int numberOfCompletedFiles;
+    private int numberOfFailedFiles;
+    private long numberOfCompletedBytes;
+
+    public DirectoryDownload(String directoryName, Connection connection, Collection<FileEntry> packedFiles, Collection<FileEntry> files) {
+        this.directoryName = directoryName;
+        this.connection = connection;
+        this.pendingPackedFiles = new ArrayDeque<>(packedFiles);
+        this.pendingFiles = new ArrayDeque<>(files);
+        this.numberOfFiles = packedFiles.size() + files.size();
+    }
+
+    public boolean hasPendingFiles() {
+        return !pendingPackedFiles.isEmpty() || !pendingFiles.isEmpty();
+    }
+
+    public boolean hasPendingPackedFiles() {
+        return !pendingPackedFiles.isEmpty();
+    }
+
+    public FileEntry peekPendingPackedFile() {
+        return pendingPackedFiles.peek();
+    }
+
+    public FileEntry pollPendingPackedFile() {
+        return pendingPackedFiles.poll();
+    }
+
+    public FileEntry pollPendingFile() {
+        return pendingFiles.poll();
+    }
+
+    public void addPendingRequest() {
+        numberOfPendingRequests++;
+    }
+
+    public void removePendingRequest() {
+        numberOfPendingRequests--;
+    }
+
+    public int getNumberOfPendingRequests() {
+        return numberOfPendingRequests;
+    }
+
+    public DirectoryFile getRequestedFile(String fileName) {
+        return fileNameToRequestedFileMap.get(fileName);
+    }
+
+    public void addRequestedFile(DirectoryFile directoryFile) {
+        fileNameToRequestedFileMap.put(directoryFile.getFileName(), directoryFile);
+    }
+
+    public Collection<DirectoryFile> getRequestedFiles() {
+        return Collections.unmodifiableCollection(fileNameToRequestedFileMap.values());
+    }
+
+    public void completeFile(DirectoryFile directoryFile, boolean valid) {
+        if (fileNameToRequestedFileMap.remove(directoryFile.getFileName()) == null) {
+            return;
+        }
+
+        if (valid) {
+            numberOfCompletedFiles++;
+            numberOfCompletedBytes += directoryFile.getFileSize();
+        } else {
+            numberOfFailedFiles++;
+        }
+    }
+
+    public boolean isCompleted() {
+        return !hasPendingFiles() && fileNameToRequestedFileMap.isEmpty();
+    }
+
+    public String getDirectoryName() {
+        return directoryName;
+    }
+
+    public Connection getConnection() {
+        return connection;
+    }
+
+    public int getNumberOfFiles() {
+        return numberOfFiles;
+    }
+
+    public int getNumberOfCompletedFiles() {
+        return numberOfCompletedFiles;
+    }
+
+    public int getNumberOfFailedFiles() {
+        return numberOfFailedFiles;
+    }
+
+    public long getNumberOfCompletedBytes() {
+        return numberOfCompletedBytes;
+    }
+
+    public long getElapsedMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    @Override
+    public String toString() {
+        return "DirectoryDownload{" +
+                "directoryName='" + directoryName + '\'' +
+                ", peerName='" + connection.getPeerName() + '\'' +
+                ", completedFiles=" + numberOfCompletedFiles + "/" + numberOfFiles +
+                ", failedFiles=" + numberOfFailedFiles +
+                '}';
+    }
+}
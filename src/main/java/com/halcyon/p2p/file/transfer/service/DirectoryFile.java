@@ -0,0 +1,135 @@
+package com.halcyon.p2p.file.transfer.service;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.protobuf.ByteString;
+import com.halcyon.p2p.file.transfer.proto.File.FileEntry;
+import io.netty.buffer.ByteBuf;
+import io.netty.util.concurrent.EventExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+// A small file of a directory arrives whole and in order, so it is hashed while written and only moved into place when it matches
+public class DirectoryFile {
+    private static final Logger LOGGER = LoggerFactory.getLogger(DirectoryFile.class);
+
+    private static final String PART_FILE_SUFFIX = ".part";
+
+    private final DirectoryDownload directoryDownload;
+    private final FileEntry file;
+    private final Path path;
+    private final Path partPath;
+    private final EventExecutor diskIoExecutor;
+    // Streamed in response to its own FileRequest, rather than packed with others or created locally when empty
+    private final boolean streamed;
+
+    // Everything below is only accessed on diskIoExecutor
+    private final Hasher hasher = Hashing.sha256().newHasher();
+    private FileChannel fileChannel;
+    private long bytesWritten;
+    private boolean closed;
+
+    public DirectoryFile(DirectoryDownload directoryDownload, FileEntry file, Path path, EventExecutor diskIoExecutor, boolean streamed) {
+        this.directoryDownload = directoryDownload;
+        this.file = file;
+        this.path = path;
+        this.partPath = path.resolveSibling(path.getFileName() + PART_FILE_SUFFIX);
+        this.diskIoExecutor = diskIoExecutor;
+        this.streamed = streamed;
+    }
+
+    // Returns true once the last byte of the file is written
+    public boolean write(long offset, ByteBuf data) throws IOException {
+        if (closed) {
+            return false;
+        }
+
+        if (offset != bytesWritten || offset + data.readableBytes() > file.getFileSize()) {
+            throw new IOException("Unexpected range " + offset + "+" + data.readableBytes() + " of " + file.getFileName() + " after "
+                    + bytesWritten + " bytes");
+        }
+
+        if (fileChannel == null) {
+            Files.createDirectories(partPath.getParent());
+            fileChannel = FileChannel.open(partPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        }
+
+        for (ByteBuffer buffer : data.nioBuffers()) {
+            hasher.putBytes(buffer.duplicate());
+
+            while (buffer.hasRemaining()) {
+                bytesWritten += fileChannel.write(buffer, bytesWritten);
+            }
+        }
+
+        return bytesWritten == file.getFileSize();
+    }
+
+    public boolean complete() throws IOException {
+        closed = true;
+        fileChannel.close();
+
+        if (!ByteString.copyFrom(hasher.hash().asBytes()).equals(file.getContentHash())) {
+            Files.deleteIfExists(partPath);
+            return false;
+        }
+
+        Files.move(partPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        return true;
+    }
+
+    public void abort() {
+        closed = true;
+
+        try {
+            if (fileChannel != null) {
+                fileChannel.close();
+            }
+
+            Files.deleteIfExists(partPath);
+        } catch (IOException e) {
+            LOGGER.error("Error occurred while removing {}", partPath, e);
+        }
+    }
+
+    public DirectoryDownload getDirectoryDownload() {
+        return directoryDownload;
+    }
+
+    public String getFileName() {
+        return file.getFileName();
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public long getFileSize() {
+        return file.getFileSize();
+    }
+
+    public EventExecutor getDiskIoExecutor() {
+        return diskIoExecutor;
+    }
+
+    public boolean isStreamed() {
+        return streamed;
+    }
+
+    @Override
+    public String toString() {
+        return "DirectoryFile{" +
+                "fileName='" + file.getFileName() + '\'' +
+                ", fileSize=" + file.getFileSize() +
+                '}';
+    }
+}
@@ -0,0 +1,110 @@
+package com.halcyon.p2p.file.transfer.service;
+
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.stream.ChunkedInput;
+import io.netty.util.ReferenceCountUtil;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.Future;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.concurrent.Callable;
+
+// Reads the next chunk on a disk I/O executor while the current one is written, and resumes the transfer once it is ready,
+// so the event loop never blocks on the disk
+public abstract class DiskChunkedInput<T> implements ChunkedInput<T> {
+    private static final Logger LOGGER = LoggerFactory.getLogger(DiskChunkedInput.class);
+
+    private final String fileName;
+    private final EventExecutor diskIoExecutor;
+    private final Runnable transferResumer;
+
+    private Future<T> nextChunkFuture;
+    private boolean isLastChunkSent;
+
+    protected DiskChunkedInput(String fileName, EventExecutor diskIoExecutor, Runnable transferResumer) {
+        this.fileName = fileName;
+        this.diskIoExecutor = diskIoExecutor;
+        this.transferResumer = transferResumer;
+    }
+
+    // Called on the event loop, the returned task runs on the disk I/O executor
+    protected abstract Callable<T> createChunkReader();
+
+    // Called on the event loop right before the chunk is written, returns whether it is the last one
+    protected abstract boolean handleChunkSent(T chunk);
+
+    // Called on the disk I/O executor
+    protected abstract void closeSource() throws IOException;
+
+    @Override
+    public boolean isEndOfInput() {
+        return isLastChunkSent;
+    }
+
+    @Override
+    public void close() {
+        // A chunk read ahead may hold a pooled buffer that is never going to be written
+        if (nextChunkFuture != null) {
+            nextChunkFuture.addListener(completedFuture -> {
+                if (completedFuture.isSuccess()) {
+                    ReferenceCountUtil.release(completedFuture.getNow());
+                }
+            });
+            nextChunkFuture = null;
+        }
+
+        diskIoExecutor.execute(() -> {
+            try {
+                closeSource();
+            } catch (IOException e) {
+                LOGGER.error("Error occurred while closing file {}", fileName, e);
+            }
+        });
+    }
+
+    @Deprecated
+    @Override
+    public T readChunk(ChannelHandlerContext ctx) throws Exception {
+        return readChunk(ctx.alloc());
+    }
+
+    @Override
+    public T readChunk(ByteBufAllocator allocator) throws Exception {
+        if (isLastChunkSent) {
+            return null;
+        }
+
+        if (nextChunkFuture == null) {
+            nextChunkFuture = readNextChunk();
+        }
+
+        if (!nextChunkFuture.isDone()) {
+            return null;
+        }
+
+        if (!nextChunkFuture.isSuccess()) {
+            throw new IOException("Error occurred while reading file " + fileName, nextChunkFuture.cause());
+        }
+
+        T chunk = nextChunkFuture.getNow();
+
+        isLastChunkSent = handleChunkSent(chunk);
+        nextChunkFuture = isLastChunkSent ? null : readNextChunk();
+
+        return chunk;
+    }
+
+    private Future<T> readNextChunk() {
+        Future<T> future = diskIoExecutor.submit(createChunkReader());
+        future.addListener(completedFuture -> transferResumer.run());
+
+        return future;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+}
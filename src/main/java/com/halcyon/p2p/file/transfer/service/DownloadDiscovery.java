@@ -0,0 +1,68 @@
+package com.halcyon.p2p.file.transfer.service;
+
+import com.google.protobuf.ByteString;
+import com.halcyon.p2p.file.transfer.proto.File.FileInfoResponse;
+
+import java.util.*;
+
+public class DownloadDiscovery {
+    private final String fileName;
+    private final Set<String> pendingPeerNames;
+    private final Map<String, FileInfoResponse> peerNameToResponseMap = new LinkedHashMap<>();
+
+    public DownloadDiscovery(String fileName, Collection<String> peerNames) {
+        this.fileName = fileName;
+        this.pendingPeerNames = new HashSet<>(peerNames);
+    }
+
+    public void addResponse(String peerName, FileInfoResponse response) {
+        if (pendingPeerNames.remove(peerName) && response.getFound()) {
+            peerNameToResponseMap.put(peerName, response);
+        }
+    }
+
+    public void removePeer(String peerName) {
+        pendingPeerNames.remove(peerName);
+        peerNameToResponseMap.remove(peerName);
+    }
+
+    public boolean hasResponses() {
+        return !peerNameToResponseMap.isEmpty();
+    }
+
+    public boolean isCompleted() {
+        return pendingPeerNames.isEmpty();
+    }
+
+    public Map<String, FileInfoResponse> selectMostCommonContent() {
+        Map<ByteString, Map<String, FileInfoResponse>> contentHashToResponsesMap = new HashMap<>();
+
+        for (Map.Entry<String, FileInfoResponse> responseEntry : peerNameToResponseMap.entrySet()) {
+            contentHashToResponsesMap.computeIfAbsent(responseEntry.getValue().getContentHash(), contentHash -> new LinkedHashMap<>())
+                    .put(responseEntry.getKey(), responseEntry.getValue());
+        }
+
+        Map<String, FileInfoResponse> selectedResponses = Collections.emptyMap();
+
+        for (Map<String, FileInfoResponse> responses : contentHashToResponsesMap.values()) {
+            if (responses.size() > selectedResponses.size()) {
+                selectedResponses = responses;
+            }
+        }
+
+        return selectedResponses;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    @Override
+    public String toString() {
+        return "DownloadDiscovery{" +
+                "fileName='" + fileName + '\'' +
+                ", pendingPeerNames=" + pendingPeerNames +
+                ", respondedPeerNames=" + peerNameToResponseMap.keySet() +
+                '}';
+    }
+}
@@ -0,0 +1,1235 @@
+package com.halcyon.p2p.file.transfer.service;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.protobuf.ByteString;
+import com.halcyon.p2p.file.transfer.config.PeerConfig;
+import com.halcyon.p2p.file.transfer.network.Capability;
+import com.halcyon.p2p.file.transfer.network.Connection;
+import com.halcyon.p2p.file.transfer.network.FileData;
+import com.halcyon.p2p.file.transfer.proto.Download.DownloadState;
+import com.halcyon.p2p.file.transfer.proto.File.*;
+import com.halcyon.p2p.file.transfer.proto.General.ProtobufMessage;
+import com.halcyon.p2p.file.transfer.util.DeltaUtil;
+import com.halcyon.p2p.file.transfer.util.MerkleTreeUtil;
+import com.halcyon.p2p.file.transfer.util.PathUtil;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.EventLoop;
+import io.netty.channel.EventLoopGroup;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.EventExecutorGroup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+// Runs on peerEventLoop, except for piece downloads. Each of them is pinned to a loop of the peer group, which handles its file data,
+// sources and pieces, so that downloads of different files scale with the peer threads. fileNameToDownloadMap is the only state
+// they share, it is only added to on peerEventLoop and a download removes itself on its own loop.
+public class DownloadService {
+    private static final Logger LOGGER = LoggerFactory.getLogger(DownloadService.class);
+
+    private static final int MAX_CORRUPT_PIECES_PER_SOURCE = 3;
+    private static final Path DOWNLOADS_DIRECTORY = Path.of("downloads");
+    private static final String CHUNK_STORE_DIRECTORY_NAME = ".chunks";
+    private static final List<String> INCOMPLETE_FILE_SUFFIXES = List.of(".download", ".part", ".delta", ".corrupt");
+    static final int MAX_FILES_PER_PACKED_REQUEST = 1024;
+    private static final int MAX_PENDING_CHUNK_REQUESTS = 4;
+
+    private final PeerConfig peerConfig;
+    private final ConnectionService connectionService;
+    private final EventExecutorGroup diskIoExecutorGroup;
+    private final List<EventExecutor> diskIoExecutors = new ArrayList<>();
+    private final EventLoopGroup peerEventLoopGroup;
+    private final EventLoop peerEventLoop;
+
+    private final Map<String, DownloadDiscovery> fileNameToDiscoveryMap = new HashMap<>();
+    private final Map<String, FileDownload> fileNameToDownloadMap = new ConcurrentHashMap<>();
+    private final Map<String, DeltaDownload> fileNameToDeltaDownloadMap = new HashMap<>();
+    private final Map<String, ChunkDownload> fileNameToChunkDownloadMap = new HashMap<>();
+    private final ChunkStore chunkStore;
+    private final Map<String, DirectoryDownload> directoryNameToDownloadMap = new HashMap<>();
+    private final Map<String, DirectoryFile> fileNameToDirectoryFileMap = new HashMap<>();
+
+    public DownloadService(PeerConfig peerConfig, ConnectionService connectionService, EventExecutorGroup diskIoExecutorGroup,
+                           EventLoopGroup peerEventLoopGroup, EventLoop peerEventLoop) {
+        this.peerConfig = peerConfig;
+        this.connectionService = connectionService;
+        this.diskIoExecutorGroup = diskIoExecutorGroup;
+        this.peerEventLoopGroup = peerEventLoopGroup;
+        this.peerEventLoop = peerEventLoop;
+        this.chunkStore = new ChunkStore(DOWNLOADS_DIRECTORY.resolve(CHUNK_STORE_DIRECTORY_NAME),
+                peerConfig.getMaxChunkStoreMegabytes() * 1024L * 1024L);
+
+        diskIoExecutorGroup.forEach(diskIoExecutors::add);
+    }
+
+    // References to the chunks of local files are only kept in memory, so the downloads of earlier runs are indexed again
+    public void start() {
+        if (!peerConfig.isChunkStoreEnabled()) {
+            return;
+        }
+
+        diskIoExecutorGroup.execute(() -> {
+            try (Stream<Path> paths = Files.walk(DOWNLOADS_DIRECTORY)) {
+                paths.filter(path -> !path.startsWith(chunkStore.getDirectory()) && Files.isRegularFile(path) && isDownloadedFile(path))
+                        .forEach(path -> diskIoExecutorGroup.execute(() -> indexChunks(path)));
+            } catch (NoSuchFileException e) {
+                LOGGER.debug("{} doesn't exist yet, there is nothing to index", DOWNLOADS_DIRECTORY);
+            } catch (IOException | UncheckedIOException e) {
+                LOGGER.error("Error occurred while indexing the chunks of {}", DOWNLOADS_DIRECTORY, e);
+            }
+        });
+    }
+
+    // Files being downloaded and their sidecars are left out, a finished download is indexed when it completes
+    private static boolean isDownloadedFile(Path path) {
+        String name = path.getFileName().toString();
+
+        return INCOMPLETE_FILE_SUFFIXES.stream().noneMatch(name::endsWith) && Files.notExists(FileDownload.getStatePath(path));
+    }
+
+    // Called on a disk I/O thread once a file is complete, so later chunk downloads find its chunks without storing them twice
+    private void indexChunks(Path path) {
+        if (!peerConfig.isChunkStoreEnabled()) {
+            return;
+        }
+
+        try {
+            chunkStore.indexFile(path);
+        } catch (IOException e) {
+            LOGGER.warn("Error occurred while indexing the chunks of {}", path, e);
+        }
+    }
+
+    public ChunkStore getChunkStore() {
+        return chunkStore;
+    }
+
+    public void download(String peerName, String fileName) {
+        Connection connection = connectionService.getConnection(peerName);
+
+        if (connection == null) {
+            LOGGER.warn("There is no connection to the {}", peerName);
+            return;
+        }
+
+        discover(fileName, List.of(connection));
+    }
+
+    public void swarmDownload(String fileName) {
+        Collection<Connection> connections = connectionService.getConnections();
+
+        if (connections.isEmpty()) {
+            LOGGER.warn("Swarm download of {} is ignored because there are no connections", fileName);
+            return;
+        }
+
+        discover(fileName, new ArrayList<>(connections));
+    }
+
+    private void discover(String fileName, Collection<Connection> connections) {
+        if (PathUtil.resolve(DOWNLOADS_DIRECTORY, fileName) == null) {
+            LOGGER.warn("Download of {} is ignored because it is not a valid file name", fileName);
+            return;
+        }
+
+        if (fileNameToDiscoveryMap.containsKey(fileName)) {
+            LOGGER.warn("Peers holding {} are already being discovered", fileName);
+            return;
+        }
+
+        if (fileNameToDeltaDownloadMap.containsKey(fileName) || fileNameToChunkDownloadMap.containsKey(fileName)) {
+            LOGGER.warn("Download of {} has already been started", fileName);
+            return;
+        }
+
+        if (!fileNameToDownloadMap.containsKey(fileName)) {
+            List<String> peerNames = connections.stream().map(Connection::getPeerName).toList();
+            fileNameToDiscoveryMap.put(fileName, new DownloadDiscovery(fileName, peerNames));
+
+            scheduleDiscoveryTimeout(fileName);
+        }
+
+        var fileInfoRequest = FileInfoRequest.newBuilder()
+                .setFileName(fileName)
+                .setPieceSize(peerConfig.getPieceSize())
+                .build();
+
+        var protobufMessage = ProtobufMessage.newBuilder()
+                .setFileInfoRequest(fileInfoRequest)
+                .build();
+
+        for (Connection connection : connections) {
+            connection.send(protobufMessage);
+        }
+
+        LOGGER.info("A FileInfoRequest for {} was sent to {} peers", fileName, connections.size());
+    }
+
+    private void scheduleDiscoveryTimeout(String fileName) {
+        peerEventLoop.schedule(() -> {
+            DownloadDiscovery discovery = fileNameToDiscoveryMap.get(fileName);
+
+            if (discovery != null && !discovery.hasResponses() && !discovery.isCompleted()) {
+                scheduleDiscoveryTimeout(fileName);
+            } else {
+                completeDiscovery(fileName);
+            }
+        }, peerConfig.getSwarmDiscoveryTimeoutMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public void handleFileInfoResponse(Connection connection, FileInfoResponse response) {
+        String fileName = response.getFileName();
+        FileDownload download = fileNameToDownloadMap.get(fileName);
+
+        if (download != null) {
+            if (response.getFound() && response.getContentHash().equals(download.getContentHash())
+                    && response.getMerkleRoot().equals(download.getMerkleRoot())) {
+                download.getEventLoop().execute(() -> addLateSource(download, connection, response));
+            }
+
+            return;
+        }
+
+        DownloadDiscovery discovery = fileNameToDiscoveryMap.get(fileName);
+
+        if (discovery == null) {
+            LOGGER.warn("Unexpected FileInfoResponse for {} from {}", fileName, connection.getPeerName());
+            return;
+        }
+
+        discovery.addResponse(connection.getPeerName(), response);
+
+        if (discovery.isCompleted()) {
+            completeDiscovery(fileName);
+        }
+    }
+
+    private void completeDiscovery(String fileName) {
+        DownloadDiscovery discovery = fileNameToDiscoveryMap.remove(fileName);
+
+        if (discovery == null) {
+            return;
+        }
+
+        Map<String, FileInfoResponse> peerNameToResponseMap = discovery.selectMostCommonContent();
+
+        if (peerNameToResponseMap.isEmpty()) {
+            LOGGER.warn("No connected peer has the file {}", fileName);
+            return;
+        }
+
+        FileInfoResponse fileInfo = selectVerifiableFileInfo(peerNameToResponseMap.values());
+
+        if (fileInfo == null) {
+            LOGGER.warn("No peer sent piece hashes matching the Merkle root of {}", fileName);
+            return;
+        }
+
+        EventExecutor diskIoExecutor = diskIoExecutorGroup.next();
+
+        diskIoExecutor.execute(() -> {
+            Path path = PathUtil.resolve(DOWNLOADS_DIRECTORY, fileName);
+
+            if (isDeltaTransferPossible(path)) {
+                try {
+                    Hasher contentHasher = Hashing.sha256().newHasher();
+                    DeltaRequest deltaRequest = DeltaDownload.createRequest(fileName, path, contentHasher);
+                    boolean upToDate = ByteString.copyFrom(contentHasher.hash().asBytes()).equals(fileInfo.getContentHash());
+
+                    peerEventLoop.execute(() -> startDeltaDownload(fileInfo, peerNameToResponseMap, path, deltaRequest, upToDate,
+                            diskIoExecutor));
+                    return;
+                } catch (IOException e) {
+                    LOGGER.warn("The old copy of {} can't be read, downloading it in full", fileName, e);
+                }
+            }
+
+            if (peerConfig.isChunkStoreEnabled() && Files.notExists(FileDownload.getStatePath(path))) {
+                peerEventLoop.execute(() -> startChunkDownload(fileInfo, peerNameToResponseMap, path, diskIoExecutor));
+                return;
+            }
+
+            FileDownload download = createDownload(fileInfo, diskIoExecutor);
+            peerEventLoop.execute(() -> startDownload(download, peerNameToResponseMap));
+        });
+    }
+
+    // A completed earlier download of the file is the basis of the delta, unfinished downloads resume from their saved state instead
+    private boolean isDeltaTransferPossible(Path path) {
+        try {
+            return peerConfig.isDeltaTransferEnabled() && Files.isRegularFile(path) && Files.notExists(FileDownload.getStatePath(path))
+                    && Files.size(path) >= 2 * DeltaUtil.MIN_BLOCK_SIZE;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private void startFullDownload(FileInfoResponse fileInfo, Map<String, FileInfoResponse> peerNameToResponseMap) {
+        EventExecutor diskIoExecutor = diskIoExecutorGroup.next();
+
+        diskIoExecutor.execute(() -> {
+            FileDownload download = createDownload(fileInfo, diskIoExecutor);
+            peerEventLoop.execute(() -> startDownload(download, peerNameToResponseMap));
+        });
+    }
+
+    private void startDeltaDownload(FileInfoResponse fileInfo, Map<String, FileInfoResponse> peerNameToResponseMap, Path path,
+                                    DeltaRequest deltaRequest, boolean upToDate, EventExecutor diskIoExecutor) {
+        String fileName = fileInfo.getFileName();
+
+        if (upToDate) {
+            LOGGER.info("{} is already up to date", fileName);
+            return;
+        }
+
+        if (fileNameToDownloadMap.containsKey(fileName) || fileNameToDeltaDownloadMap.containsKey(fileName)) {
+            LOGGER.warn("Download of {} has already been started", fileName);
+            return;
+        }
+
+        Connection connection = peerNameToResponseMap.keySet().stream()
+                .map(connectionService::getConnection)
+                .filter(Objects::nonNull)
+                .findFirst()
+                .orElse(null);
+
+        if (connection == null) {
+            LOGGER.warn("All peers holding {} disconnected before the download started", fileName);
+            return;
+        }
+
+        long signedSize = (long) deltaRequest.getWeakChecksumsCount() * deltaRequest.getBlockSize();
+        DeltaDownload deltaDownload = new DeltaDownload(fileInfo, peerNameToResponseMap, connection, path, signedSize,
+                deltaRequest.getBlockSize(), diskIoExecutor);
+        fileNameToDeltaDownloadMap.put(fileName, deltaDownload);
+
+        connection.send(ProtobufMessage.newBuilder().setDeltaRequest(deltaRequest).build());
+        LOGGER.info("Delta download of {} with {} bytes started from {} against {} blocks of {} bytes", fileName, fileInfo.getFileSize(),
+                connection.getPeerName(), deltaRequest.getWeakChecksumsCount(), deltaRequest.getBlockSize());
+    }
+
+    private void startChunkDownload(FileInfoResponse fileInfo, Map<String, FileInfoResponse> peerNameToResponseMap, Path path,
+                                    EventExecutor diskIoExecutor) {
+        String fileName = fileInfo.getFileName();
+
+        if (fileNameToDownloadMap.containsKey(fileName) || fileNameToChunkDownloadMap.containsKey(fileName)) {
+            LOGGER.warn("Download of {} has already been started", fileName);
+            return;
+        }
+
+        Connection connection = peerNameToResponseMap.keySet().stream()
+                .map(connectionService::getConnection)
+                .filter(source -> source != null && source.hasCapability(Capability.CHUNK_STORE))
+                .findFirst()
+                .orElse(null);
+
+        if (connection == null) {
+            LOGGER.info("No peer holding {} serves chunks, downloading it in pieces", fileName);
+            startFullDownload(fileInfo, peerNameToResponseMap);
+            return;
+        }
+
+        fileNameToChunkDownloadMap.put(fileName, new ChunkDownload(fileInfo, peerNameToResponseMap, connection, path, diskIoExecutor));
+
+        var chunkListRequest = ChunkListRequest.newBuilder()
+                .setFileName(fileName)
+                .build();
+
+        connection.send(ProtobufMessage.newBuilder().setChunkListRequest(chunkListRequest).build());
+        LOGGER.info("Chunk download of {} with {} bytes started from {}", fileName, fileInfo.getFileSize(), connection.getPeerName());
+    }
+
+    public void handleChunkListResponse(Connection connection, ChunkListResponse response) {
+        String fileName = response.getFileName();
+        ChunkDownload chunkDownload = fileNameToChunkDownloadMap.get(fileName);
+
+        if (chunkDownload == null || chunkDownload.getConnection() != connection) {
+            LOGGER.warn("Unexpected ChunkListResponse for {} from {}", fileName, connection.getPeerName());
+            return;
+        }
+
+        if (!response.getFound()) {
+            failChunkDownload(chunkDownload, connection.getPeerName() + " no longer has the file");
+            return;
+        }
+
+        chunkDownload.addChunks(response.getChunksList());
+
+        if (!response.getIsLast()) {
+            return;
+        }
+
+        if (!chunkDownload.isChunkListValid()) {
+            failChunkDownload(chunkDownload, "its chunk list doesn't cover the file");
+            return;
+        }
+
+        chunkDownload.getDiskIoExecutor().execute(() -> {
+            List<ChunkEntry> missingChunks = chunkDownload.findMissingChunks(chunkStore);
+
+            peerEventLoop.execute(() -> {
+                if (fileNameToChunkDownloadMap.get(fileName) != chunkDownload) {
+                    return;
+                }
+
+                chunkDownload.setMissingChunks(missingChunks);
+                LOGGER.info("{} of the {} chunks of {} are missing from the chunk store", missingChunks.size(),
+                        chunkDownload.getNumberOfChunks(), fileName);
+                requestChunks(chunkDownload);
+            });
+        });
+    }
+
+    private void requestChunks(ChunkDownload chunkDownload) {
+        while (chunkDownload.hasMissingChunks() && chunkDownload.getNumberOfPendingRequests() < MAX_PENDING_CHUNK_REQUESTS) {
+            var chunkRequest = ChunkRequest.newBuilder()
+                    .setFileName(chunkDownload.getFileName())
+                    .addAllChunks(chunkDownload.pollMissingChunks(peerConfig.getMaxPackedBatchSize()))
+                    .build();
+
+            chunkDownload.addPendingRequest();
+            chunkDownload.getConnection().write(ProtobufMessage.newBuilder().setChunkRequest(chunkRequest).build());
+        }
+
+        chunkDownload.getConnection().flush();
+
+        if (!chunkDownload.hasMissingChunks() && chunkDownload.getNumberOfPendingRequests() == 0) {
+            chunkDownload.getDiskIoExecutor().execute(() -> {
+                boolean valid;
+
+                try {
+                    valid = chunkDownload.assemble(chunkStore);
+
+                    if (valid) {
+                        indexChunks(chunkDownload.getPath());
+                    }
+                } catch (IOException e) {
+                    LOGGER.error("Error occurred while assembling {}", chunkDownload.getFileName(), e);
+                    chunkDownload.abort(chunkStore);
+                    valid = false;
+                }
+
+                boolean assembled = valid;
+                peerEventLoop.execute(() -> handleChunkDownloadCompleted(chunkDownload, assembled));
+            });
+        }
+    }
+
+    // The chunks of a response are the requested ones in the same order, their contents concatenated in data
+    public void handleChunkResponse(Connection connection, ChunkResponse response) {
+        String fileName = response.getFileName();
+        ChunkDownload chunkDownload = fileNameToChunkDownloadMap.get(fileName);
+
+        if (chunkDownload == null || chunkDownload.getConnection() != connection) {
+            LOGGER.warn("Unexpected ChunkResponse for {} from {}", fileName, connection.getPeerName());
+            return;
+        }
+
+        if (response.getChunksCount() == 0 || !response.getChunksList().stream().allMatch(chunk -> chunkDownload.isRequested(chunk.getHash()))) {
+            failChunkDownload(chunkDownload, connection.getPeerName() + " couldn't send the requested chunks");
+            return;
+        }
+
+        chunkDownload.getDiskIoExecutor().execute(() -> {
+            boolean valid = true;
+            int offset = 0;
+
+            try {
+                for (ChunkEntry chunk : response.getChunksList()) {
+                    if (offset + chunk.getLength() > response.getData().size()
+                            || !chunkStore.put(chunk.getHash(), response.getData().substring(offset, offset + chunk.getLength()))) {
+                        valid = false;
+                        break;
+                    }
+
+                    offset += chunk.getLength();
+                }
+            } catch (IOException e) {
+                LOGGER.error("Error occurred while storing the chunks of {}", fileName, e);
+                valid = false;
+            }
+
+            boolean stored = valid;
+
+            peerEventLoop.execute(() -> {
+                if (fileNameToChunkDownloadMap.get(fileName) != chunkDownload) {
+                    return;
+                }
+
+                if (!stored) {
+                    failChunkDownload(chunkDownload, "a chunk from " + connection.getPeerName() + " doesn't match its hash");
+                    return;
+                }
+
+                chunkDownload.removePendingRequest();
+                chunkDownload.handleChunksReceived(response.getChunksList());
+                requestChunks(chunkDownload);
+            });
+        });
+    }
+
+    private void handleChunkDownloadCompleted(ChunkDownload chunkDownload, boolean valid) {
+        String fileName = chunkDownload.getFileName();
+
+        if (!fileNameToChunkDownloadMap.remove(fileName, chunkDownload)) {
+            return;
+        }
+
+        if (valid) {
+            LOGGER.info("{} was assembled from {} chunks with {} of its {} bytes fetched from {}", fileName, chunkDownload.getNumberOfChunks(),
+                    chunkDownload.getFetchedBytes(), chunkDownload.getFileInfo().getFileSize(), chunkDownload.getConnection().getPeerName());
+        } else {
+            LOGGER.warn("The chunks of {} don't add up to its content hash, downloading it in pieces", fileName);
+            startFullDownload(chunkDownload.getFileInfo(), chunkDownload.getPeerNameToResponseMap());
+        }
+    }
+
+    private void failChunkDownload(ChunkDownload chunkDownload, String reason) {
+        fileNameToChunkDownloadMap.remove(chunkDownload.getFileName());
+        chunkDownload.getDiskIoExecutor().execute(() -> chunkDownload.abort(chunkStore));
+
+        LOGGER.warn("Chunk download of {} failed because {}, downloading it in pieces", chunkDownload.getFileName(), reason);
+        startFullDownload(chunkDownload.getFileInfo(), chunkDownload.getPeerNameToResponseMap());
+    }
+
+    public void handleDeltaResponse(Connection connection, DeltaResponse response) {
+        String fileName = response.getFileName();
+        DeltaDownload deltaDownload = fileNameToDeltaDownloadMap.get(fileName);
+
+        if (deltaDownload == null || deltaDownload.getConnection() != connection) {
+            LOGGER.warn("Unexpected DeltaResponse for {} from {}", fileName, connection.getPeerName());
+            return;
+        }
+
+        if (!response.getFound()) {
+            fileNameToDeltaDownloadMap.remove(fileName);
+            LOGGER.warn("{} no longer has {}, downloading it in full", connection.getPeerName(), fileName);
+            startFullDownload(deltaDownload.getFileInfo(), deltaDownload.getPeerNameToResponseMap());
+            return;
+        }
+
+        deltaDownload.getDiskIoExecutor().execute(() -> {
+            boolean valid;
+
+            try {
+                deltaDownload.apply(response.getInstructionsList());
+
+                if (!response.getIsLast()) {
+                    return;
+                }
+
+                valid = deltaDownload.complete();
+
+                if (valid) {
+                    indexChunks(deltaDownload.getPath());
+                }
+            } catch (IOException e) {
+                LOGGER.error("Error occurred while applying the delta of {}", fileName, e);
+                deltaDownload.abort();
+                valid = false;
+            }
+
+            boolean completed = valid;
+            peerEventLoop.execute(() -> handleDeltaDownloadCompleted(deltaDownload, completed));
+        });
+    }
+
+    private void handleDeltaDownloadCompleted(DeltaDownload deltaDownload, boolean valid) {
+        String fileName = deltaDownload.getFileName();
+
+        if (!fileNameToDeltaDownloadMap.remove(fileName, deltaDownload)) {
+            return;
+        }
+
+        if (valid) {
+            LOGGER.info("{} was updated from {} with {} of its {} bytes copied from the old copy", fileName,
+                    deltaDownload.getConnection().getPeerName(), deltaDownload.getBytesCopied(), deltaDownload.getBytesWritten());
+        } else {
+            LOGGER.warn("The delta of {} from {} failed verification, downloading it in full", fileName,
+                    deltaDownload.getConnection().getPeerName());
+            startFullDownload(deltaDownload.getFileInfo(), deltaDownload.getPeerNameToResponseMap());
+        }
+    }
+
+    private FileInfoResponse selectVerifiableFileInfo(Collection<FileInfoResponse> responses) {
+        for (FileInfoResponse response : responses) {
+            long pieceCount = (response.getFileSize() + peerConfig.getPieceSize() - 1) / peerConfig.getPieceSize();
+
+            if (response.getPieceHashesCount() == pieceCount && MerkleTreeUtil.isValid(response.getPieceHashesList(), response.getMerkleRoot())) {
+                return response;
+            }
+        }
+
+        return null;
+    }
+
+    private FileDownload createDownload(FileInfoResponse fileInfo, EventExecutor diskIoExecutor) {
+        String fileName = fileInfo.getFileName();
+        Path path = PathUtil.resolve(DOWNLOADS_DIRECTORY, fileName);
+        BitSet completedPieces = null;
+
+        try {
+            DownloadState state = FileDownload.readState(path);
+
+            if (state != null && state.getFileSize() == fileInfo.getFileSize() && state.getContentHash().equals(fileInfo.getContentHash())
+                    && state.getPieceSize() == peerConfig.getPieceSize()) {
+                completedPieces = BitSet.valueOf(state.getPieceBitmap().toByteArray());
+            }
+        } catch (IOException e) {
+            LOGGER.warn("The saved state of {} can't be read, starting from scratch", fileName, e);
+        }
+
+        return new FileDownload(fileName, path, fileInfo.getFileSize(), fileInfo.getContentHash(), fileInfo.getPieceHashesList(),
+                fileInfo.getMerkleRoot(), peerConfig.getPieceSize(), diskIoExecutor, peerEventLoopGroup.next(), completedPieces);
+    }
+
+    private void startDownload(FileDownload download, Map<String, FileInfoResponse> peerNameToResponseMap) {
+        String fileName = download.getFileName();
+
+        if (fileNameToDownloadMap.containsKey(fileName)) {
+            LOGGER.warn("Download of {} has already been started", fileName);
+            return;
+        }
+
+        Map<Connection, FileInfoResponse> connectionToResponseMap = new LinkedHashMap<>();
+
+        for (Map.Entry<String, FileInfoResponse> responseEntry : peerNameToResponseMap.entrySet()) {
+            Connection connection = connectionService.getConnection(responseEntry.getKey());
+
+            if (connection != null) {
+                connectionToResponseMap.put(connection, responseEntry.getValue());
+            }
+        }
+
+        if (connectionToResponseMap.isEmpty()) {
+            LOGGER.warn("All peers holding {} disconnected before the download started", fileName);
+            return;
+        }
+
+        fileNameToDownloadMap.put(fileName, download);
+        download.getEventLoop().execute(() -> addSources(download, connectionToResponseMap));
+    }
+
+    // Runs on the loop of the download, a connection that closed in the meantime is dropped as a source again once its closing arrives
+    private void addSources(FileDownload download, Map<Connection, FileInfoResponse> connectionToResponseMap) {
+        for (Map.Entry<Connection, FileInfoResponse> responseEntry : connectionToResponseMap.entrySet()) {
+            addSource(download, responseEntry.getKey(), responseEntry.getValue());
+        }
+
+        LOGGER.info("Download of {} with {} bytes in {} pieces started from {} peers with {} pieces already saved", download.getFileName(),
+                download.getFileSize(), download.getPieceCount(), download.getSources().size(), download.getNumberOfCompletedPieces());
+
+        if (download.isCompleted()) {
+            completeDownload(download);
+        } else {
+            download.saveState();
+            requestPieces(download);
+        }
+    }
+
+    private void addLateSource(FileDownload download, Connection connection, FileInfoResponse response) {
+        if (fileNameToDownloadMap.get(download.getFileName()) != download || download.getSource(connection.getPeerName()) != null) {
+            return;
+        }
+
+        addSource(download, connection, response);
+        requestPieces(download);
+    }
+
+    private void addSource(FileDownload download, Connection connection, FileInfoResponse response) {
+        BitSet availablePieces = response.getPieceBitmap().isEmpty() ? null : BitSet.valueOf(response.getPieceBitmap().toByteArray());
+        download.addSource(new DownloadSource(connection, availablePieces));
+
+        LOGGER.info("{} is added as a source of {}", connection.getPeerName(), download.getFileName());
+    }
+
+    private void requestPieces(FileDownload download) {
+        for (DownloadSource source : download.getSources()) {
+            int numberOfRequests = 0;
+
+            while (source.getNumberOfRequestedPieces() < peerConfig.getMaxPendingPieceRequests()) {
+                int pieceIndex = download.selectPiece(source);
+
+                if (pieceIndex < 0) {
+                    break;
+                }
+
+                download.markRequested(source, pieceIndex);
+                writeFileRequest(source.getConnection(), download.getFileName(), download.getPieceOffset(pieceIndex),
+                        download.getPieceLength(pieceIndex));
+                numberOfRequests++;
+            }
+
+            if (numberOfRequests > 0) {
+                source.getConnection().flush();
+            }
+        }
+    }
+
+    private void writeFileRequest(Connection connection, String fileName, long offset, long length) {
+        var fileRequest = FileRequest.newBuilder()
+                .setFileName(fileName)
+                .setOffset(offset)
+                .setLength(length)
+                .build();
+
+        var protobufMessage = ProtobufMessage.newBuilder()
+                .setFileRequest(fileRequest)
+                .build();
+
+        connection.write(protobufMessage);
+    }
+
+    // Called on the channel's loop, takes ownership of the file data and releases it once it is written or dropped
+    public void handleFileData(Connection connection, FileData fileData) {
+        FileDownload download = fileNameToDownloadMap.get(fileData.getFileName());
+
+        if (download == null) {
+            peerEventLoop.execute(() -> handleDirectoryFileData(connection, fileData));
+        } else {
+            download.getEventLoop().execute(() -> handleFileData(download, connection, fileData));
+        }
+    }
+
+    private void handleFileData(FileDownload download, Connection connection, FileData fileData) {
+        if (fileNameToDownloadMap.get(download.getFileName()) != download) {
+            fileData.release();
+            return;
+        }
+
+        DownloadSource source = download.getSource(connection.getPeerName());
+        int pieceIndex = download.getPieceIndex(fileData.getOffset());
+
+        if (source == null || fileData.getOffset() < 0 || !source.isRequested(pieceIndex) || download.isPieceCompleted(pieceIndex)) {
+            fileData.release();
+            return;
+        }
+
+        if (!download.isWithinPiece(fileData.getOffset(), fileData.getLength())) {
+            rejectFileChunk(download, source, fileData.getOffset(), fileData.getLength());
+            fileData.release();
+            return;
+        }
+
+        getPieceExecutor(pieceIndex).execute(() -> writeFileChunk(download, source, fileData));
+    }
+
+    // All writes and the verification of a piece run in order on the same disk I/O executor, while different pieces run in parallel
+    private EventExecutor getPieceExecutor(int pieceIndex) {
+        return diskIoExecutors.get(pieceIndex % diskIoExecutors.size());
+    }
+
+    private void writeFileChunk(FileDownload download, DownloadSource source, FileData fileData) {
+        long offset = fileData.getOffset();
+        int length = fileData.getLength();
+
+        try {
+            if (download.write(offset, fileData.content())) {
+                download.getEventLoop().execute(() -> handleFileChunkWritten(download, source, offset, length));
+            } else {
+                download.getEventLoop().execute(() -> rejectFileChunk(download, source, offset, length));
+            }
+        } catch (IOException e) {
+            LOGGER.error("Error occurred while writing file {}", download.getFileName(), e);
+            download.getEventLoop().execute(() -> failDownload(download));
+        } finally {
+            fileData.release();
+        }
+    }
+
+    // A chunk running past the end of its piece would overwrite the next piece, which may already be verified, so it is dropped and
+    // its piece is asked for again
+    private void rejectFileChunk(FileDownload download, DownloadSource source, long offset, int length) {
+        if (fileNameToDownloadMap.get(download.getFileName()) != download) {
+            return;
+        }
+
+        int pieceIndex = download.getPieceIndex(offset);
+        LOGGER.warn("{} sent {} bytes at offset {} of {}, which run past the end of piece {}", source.getPeerName(), length, offset,
+                download.getFileName(), pieceIndex);
+
+        download.cancelRequest(source, pieceIndex);
+        requestPieces(download);
+    }
+
+    private void handleFileChunkWritten(FileDownload download, DownloadSource source, long offset, int length) {
+        if (fileNameToDownloadMap.get(download.getFileName()) != download) {
+            return;
+        }
+
+        int pieceIndex = download.getPieceIndex(offset);
+        long bytesReceived = download.handleChunkWritten(source, offset, length);
+        long pieceLength = download.getPieceLength(pieceIndex);
+
+        if (bytesReceived > pieceLength) {
+            // Left over from an earlier request of the same piece, the piece is asked for again rather than verified in a mixed state
+            LOGGER.warn("{} sent {} bytes for piece {} of {} with {} bytes", source.getPeerName(), bytesReceived, pieceIndex,
+                    download.getFileName(), pieceLength);
+            download.cancelRequest(source, pieceIndex);
+            requestPieces(download);
+        } else if (bytesReceived == pieceLength) {
+            getPieceExecutor(pieceIndex).execute(() -> verifyPiece(download, source, pieceIndex));
+        }
+    }
+
+    private void verifyPiece(FileDownload download, DownloadSource source, int pieceIndex) {
+        try {
+            boolean valid = download.verifyPiece(pieceIndex);
+            download.getEventLoop().execute(() -> handlePieceVerified(download, source, pieceIndex, valid));
+        } catch (IOException e) {
+            LOGGER.error("Error occurred while verifying piece {} of {}", pieceIndex, download.getFileName(), e);
+            download.getEventLoop().execute(() -> failDownload(download));
+        }
+    }
+
+    private void handlePieceVerified(FileDownload download, DownloadSource source, int pieceIndex, boolean valid) {
+        if (fileNameToDownloadMap.get(download.getFileName()) != download || download.isPieceCompleted(pieceIndex)) {
+            return;
+        }
+
+        if (!valid) {
+            handleCorruptPiece(download, source, pieceIndex);
+            return;
+        }
+
+        download.completePiece(source, pieceIndex);
+
+        if (download.isCompleted()) {
+            completeDownload(download);
+        } else {
+            download.saveState();
+            requestPieces(download);
+        }
+    }
+
+    private void handleCorruptPiece(FileDownload download, DownloadSource source, int pieceIndex) {
+        LOGGER.warn("Piece {} of {} from {} failed verification", pieceIndex, download.getFileName(), source.getPeerName());
+
+        if (download.getSource(source.getPeerName()) != source) {
+            return;
+        }
+
+        int numberOfCorruptPieces = download.rejectPiece(source, pieceIndex);
+
+        if (numberOfCorruptPieces >= MAX_CORRUPT_PIECES_PER_SOURCE) {
+            download.removeSource(source.getPeerName());
+            LOGGER.warn("{} is dropped as a source of {} after {} corrupt pieces", source.getPeerName(), download.getFileName(),
+                    numberOfCorruptPieces);
+        }
+
+        requestPieces(download);
+    }
+
+    public void downloadDirectory(String peerName, String directoryName) {
+        Connection connection = connectionService.getConnection(peerName);
+
+        if (connection == null) {
+            LOGGER.warn("There is no connection to the {}", peerName);
+            return;
+        }
+
+        if (directoryNameToDownloadMap.containsKey(directoryName)) {
+            LOGGER.warn("Download of directory {} has already been started", directoryName);
+            return;
+        }
+
+        var directoryRequest = DirectoryRequest.newBuilder()
+                .setDirectoryName(directoryName)
+                .build();
+
+        var protobufMessage = ProtobufMessage.newBuilder()
+                .setDirectoryRequest(directoryRequest)
+                .build();
+
+        connection.send(protobufMessage);
+        LOGGER.info("A DirectoryRequest for {} was sent to {}", directoryName, peerName);
+    }
+
+    // Tiny files are packed many to a response, files up to a piece are streamed whole and larger ones are downloaded in pieces
+    public void handleDirectoryResponse(Connection connection, DirectoryResponse response) {
+        String directoryName = response.getDirectoryName();
+
+        if (!response.getFound()) {
+            LOGGER.warn("{} has no files in the directory {}", connection.getPeerName(), directoryName);
+            return;
+        }
+
+        if (directoryNameToDownloadMap.containsKey(directoryName)) {
+            LOGGER.warn("Download of directory {} has already been started", directoryName);
+            return;
+        }
+
+        List<FileEntry> packedFiles = new ArrayList<>();
+        List<FileEntry> smallFiles = new ArrayList<>();
+        int numberOfLargeFiles = 0;
+
+        for (FileEntry file : response.getFilesList()) {
+            String fileName = file.getFileName();
+
+            if (!fileName.startsWith(directoryName + "/") || PathUtil.resolve(DOWNLOADS_DIRECTORY, fileName) == null) {
+                LOGGER.warn("{} in the manifest of {} from {} is skipped because it is not a valid file name", fileName, directoryName,
+                        connection.getPeerName());
+            } else if (file.getFileSize() > peerConfig.getPieceSize()) {
+                discover(fileName, List.of(connection));
+                numberOfLargeFiles++;
+            } else if (fileNameToDirectoryFileMap.containsKey(fileName) || fileNameToDownloadMap.containsKey(fileName)) {
+                LOGGER.warn("{} in the manifest of {} is skipped because it is already being downloaded", fileName, directoryName);
+            } else if (file.getFileSize() <= peerConfig.getMaxPackedFileSize()) {
+                packedFiles.add(file);
+            } else {
+                smallFiles.add(file);
+            }
+        }
+
+        DirectoryDownload directoryDownload = new DirectoryDownload(directoryName, connection, packedFiles, smallFiles);
+        directoryNameToDownloadMap.put(directoryName, directoryDownload);
+
+        LOGGER.info("Download of directory {} started from {} with {} packed files, {} whole files and {} files in pieces", directoryName,
+                connection.getPeerName(), packedFiles.size(), smallFiles.size(), numberOfLargeFiles);
+
+        requestFiles(directoryDownload);
+    }
+
+    // Keeps up to maxPendingFileRequests packed or whole-file requests in flight, so small files don't wait a round trip each
+    private void requestFiles(DirectoryDownload directoryDownload) {
+        Connection connection = directoryDownload.getConnection();
+        int numberOfRequests = 0;
+
+        while (directoryDownload.getNumberOfPendingRequests() < peerConfig.getMaxPendingFileRequests() && directoryDownload.hasPendingFiles()) {
+            if (directoryDownload.hasPendingPackedFiles()) {
+                writePackedFileRequest(connection, directoryDownload);
+                directoryDownload.addPendingRequest();
+                numberOfRequests++;
+                continue;
+            }
+
+            FileEntry file = directoryDownload.pollPendingFile();
+            DirectoryFile directoryFile = addDirectoryFile(directoryDownload, file, file.getFileSize() > 0);
+
+            if (directoryFile.isStreamed()) {
+                writeFileRequest(connection, file.getFileName(), 0, file.getFileSize());
+                directoryDownload.addPendingRequest();
+                numberOfRequests++;
+            } else {
+                directoryFile.getDiskIoExecutor().execute(() -> writeDirectoryFileChunk(directoryFile, 0, Unpooled.EMPTY_BUFFER));
+            }
+        }
+
+        if (numberOfRequests > 0) {
+            connection.flush();
+        }
+
+        if (directoryDownload.isCompleted()) {
+            completeDirectoryDownload(directoryDownload);
+        }
+    }
+
+    private DirectoryFile addDirectoryFile(DirectoryDownload directoryDownload, FileEntry file, boolean streamed) {
+        DirectoryFile directoryFile = new DirectoryFile(directoryDownload, file, PathUtil.resolve(DOWNLOADS_DIRECTORY, file.getFileName()),
+                diskIoExecutorGroup.next(), streamed);
+
+        directoryDownload.addRequestedFile(directoryFile);
+        fileNameToDirectoryFileMap.put(file.getFileName(), directoryFile);
+
+        return directoryFile;
+    }
+
+    private void writePackedFileRequest(Connection connection, DirectoryDownload directoryDownload) {
+        var packedFileRequestBuilder = PackedFileRequest.newBuilder().setDirectoryName(directoryDownload.getDirectoryName());
+        long batchSize = 0;
+
+        while (directoryDownload.hasPendingPackedFiles() && packedFileRequestBuilder.getFileNamesCount() < MAX_FILES_PER_PACKED_REQUEST) {
+            FileEntry file = directoryDownload.peekPendingPackedFile();
+
+            if (packedFileRequestBuilder.getFileNamesCount() > 0 && batchSize + file.getFileSize() > peerConfig.getMaxPackedBatchSize()) {
+                break;
+            }
+
+            directoryDownload.pollPendingPackedFile();
+            addDirectoryFile(directoryDownload, file, false);
+            packedFileRequestBuilder.addFileNames(file.getFileName());
+            batchSize += file.getFileSize();
+        }
+
+        var protobufMessage = ProtobufMessage.newBuilder()
+                .setPackedFileRequest(packedFileRequestBuilder.build())
+                .build();
+
+        connection.write(protobufMessage);
+    }
+
+    // The files of a batch are sliced out of the shared payload without copying and written in parallel on the disk I/O executors
+    public void handlePackedFileResponse(Connection connection, PackedFileResponse response) {
+        DirectoryDownload directoryDownload = directoryNameToDownloadMap.get(response.getDirectoryName());
+
+        if (directoryDownload == null || !directoryDownload.getConnection().equals(connection)) {
+            LOGGER.warn("Unexpected PackedFileResponse for {} from {}", response.getDirectoryName(), connection.getPeerName());
+            return;
+        }
+
+        ByteString data = response.getData();
+
+        for (PackedFileEntry entry : response.getFilesList()) {
+            DirectoryFile directoryFile = directoryDownload.getRequestedFile(entry.getFileName());
+
+            if (directoryFile == null || directoryFile.isStreamed()) {
+                continue;
+            }
+
+            if (!entry.getFound() || entry.getOffset() < 0 || entry.getLength() < 0 || (long) entry.getOffset() + entry.getLength() > data.size()) {
+                LOGGER.warn("{} is missing from the PackedFileResponse of {}", entry.getFileName(), connection.getPeerName());
+                handleDirectoryFileCompleted(directoryFile, false);
+                continue;
+            }
+
+            ByteBuf fileData = Unpooled.wrappedBuffer(data.substring(entry.getOffset(), entry.getOffset() + entry.getLength())
+                    .asReadOnlyByteBuffer());
+            directoryFile.getDiskIoExecutor().execute(() -> writeDirectoryFileChunk(directoryFile, 0, fileData));
+        }
+
+        // A request split by the serving peer is pending until its last response
+        if (!response.getHasMore()) {
+            directoryDownload.removePendingRequest();
+        }
+
+        requestFiles(directoryDownload);
+    }
+
+    private void handleDirectoryFileData(Connection connection, FileData fileData) {
+        DirectoryFile directoryFile = fileNameToDirectoryFileMap.get(fileData.getFileName());
+
+        if (directoryFile == null || !directoryFile.getDirectoryDownload().getConnection().equals(connection)) {
+            LOGGER.warn("Unexpected FileResponse for {} from {}", fileData.getFileName(), connection.getPeerName());
+            fileData.release();
+            return;
+        }
+
+        directoryFile.getDiskIoExecutor().execute(() -> writeDirectoryFileChunk(directoryFile, fileData.getOffset(), fileData.content()));
+    }
+
+    // Releases the data once it is written
+    private void writeDirectoryFileChunk(DirectoryFile directoryFile, long offset, ByteBuf data) {
+        boolean valid;
+
+        try {
+            if (!directoryFile.write(offset, data)) {
+                return;
+            }
+
+            valid = directoryFile.complete();
+
+            if (valid) {
+                indexChunks(directoryFile.getPath());
+            }
+        } catch (IOException e) {
+            LOGGER.error("Error occurred while writing file {}", directoryFile.getFileName(), e);
+            directoryFile.abort();
+            valid = false;
+        } finally {
+            data.release();
+        }
+
+        boolean completed = valid;
+        peerEventLoop.execute(() -> handleDirectoryFileCompleted(directoryFile, completed));
+    }
+
+    private void handleDirectoryFileCompleted(DirectoryFile directoryFile, boolean valid) {
+        if (!fileNameToDirectoryFileMap.remove(directoryFile.getFileName(), directoryFile)) {
+            return;
+        }
+
+        if (!valid) {
+            LOGGER.warn("{} of directory {} failed verification", directoryFile.getFileName(),
+                    directoryFile.getDirectoryDownload().getDirectoryName());
+        }
+
+        DirectoryDownload directoryDownload = directoryFile.getDirectoryDownload();
+        directoryDownload.completeFile(directoryFile, valid);
+
+        if (directoryFile.isStreamed()) {
+            directoryDownload.removePendingRequest();
+        }
+
+        requestFiles(directoryDownload);
+    }
+
+    private void completeDirectoryDownload(DirectoryDownload directoryDownload) {
+        if (directoryNameToDownloadMap.remove(directoryDownload.getDirectoryName()) == null) {
+            return;
+        }
+
+        LOGGER.info("{} of {} files with {} bytes in directory {} were saved in {} ms, {} failed",
+                directoryDownload.getNumberOfCompletedFiles(), directoryDownload.getNumberOfFiles(), directoryDownload.getNumberOfCompletedBytes(),
+                directoryDownload.getDirectoryName(), directoryDownload.getElapsedMillis(), directoryDownload.getNumberOfFailedFiles());
+    }
+
+    private void completeDownload(FileDownload download) {
+        if (!fileNameToDownloadMap.remove(download.getFileName(), download)) {
+            return;
+        }
+
+        download.getDiskIoExecutor().execute(() -> {
+            try {
+                if (download.verifyContent()) {
+                    download.close();
+                    download.deleteState();
+                    LOGGER.info("The file {} was saved successfully", download.getFileName());
+                    indexChunks(download.getPath());
+                } else {
+                    // Neither the file nor its saved state can be trusted, so the next download of it starts over
+                    Path corruptPath = download.quarantine();
+                    LOGGER.error("The file {} doesn't match its content hash although all of its pieces were verified, it was moved to {}",
+                            download.getFileName(), corruptPath);
+                }
+            } catch (IOException e) {
+                LOGGER.error("Error occurred while closing file {}", download.getFileName(), e);
+            }
+        });
+    }
+
+    // A local disk error won't go away by asking other peers, so the download stops and its saved state is kept to resume it later
+    private void failDownload(FileDownload download) {
+        if (!fileNameToDownloadMap.remove(download.getFileName(), download)) {
+            return;
+        }
+
+        LOGGER.error("Download of {} failed with {} of {} pieces saved", download.getFileName(), download.getNumberOfCompletedPieces(),
+                download.getPieceCount());
+
+        download.getDiskIoExecutor().execute(() -> {
+            try {
+                download.close();
+            } catch (IOException e) {
+                LOGGER.error("Error occurred while closing file {}", download.getFileName(), e);
+            }
+        });
+    }
+
+    // A source that stops sending a piece, whether it lost the request or is stuck, would hold the piece forever, so the piece is
+    // taken back from it and asked for again from whichever source has it
+    public void timeoutPieceRequests() {
+        long progressDeadlineNanos = System.nanoTime() - TimeUnit.SECONDS.toNanos(peerConfig.getPieceTimeoutSeconds());
+
+        for (FileDownload download : fileNameToDownloadMap.values()) {
+            download.getEventLoop().execute(() -> timeoutPieceRequests(download, progressDeadlineNanos));
+        }
+    }
+
+    private void timeoutPieceRequests(FileDownload download, long progressDeadlineNanos) {
+        if (fileNameToDownloadMap.get(download.getFileName()) != download) {
+            return;
+        }
+
+        boolean timedOut = false;
+
+        for (DownloadSource source : download.getSources()) {
+            for (int pieceIndex : source.getStalledPieces(progressDeadlineNanos)) {
+                LOGGER.warn("Piece {} of {} from {} timed out", pieceIndex, download.getFileName(), source.getPeerName());
+                download.cancelRequest(source, pieceIndex);
+                timedOut = true;
+            }
+        }
+
+        if (timedOut) {
+            requestPieces(download);
+        }
+    }
+
+    public void handleConnectionOpening(Connection connection) {
+        for (FileDownload download : fileNameToDownloadMap.values()) {
+            download.getEventLoop().execute(() -> askForMissingPieces(download, connection));
+        }
+    }
+
+    private void askForMissingPieces(FileDownload download, Connection connection) {
+        if (fileNameToDownloadMap.get(download.getFileName()) != download || download.getSource(connection.getPeerName()) != null) {
+            return;
+        }
+
+        var fileInfoRequest = FileInfoRequest.newBuilder()
+                .setFileName(download.getFileName())
+                .setPieceSize(download.getPieceSize())
+                .build();
+
+        var protobufMessage = ProtobufMessage.newBuilder()
+                .setFileInfoRequest(fileInfoRequest)
+                .build();
+
+        connection.send(protobufMessage);
+        LOGGER.info("Asking {} for the missing pieces of {}", connection.getPeerName(), download.getFileName());
+    }
+
+    public void handleConnectionClosing(Connection connection) {
+        String peerName = connection.getPeerName();
+
+        for (DownloadDiscovery discovery : new ArrayList<>(fileNameToDiscoveryMap.values())) {
+            discovery.removePeer(peerName);
+
+            if (discovery.isCompleted()) {
+                completeDiscovery(discovery.getFileName());
+            }
+        }
+
+        for (DeltaDownload deltaDownload : new ArrayList<>(fileNameToDeltaDownloadMap.values())) {
+            if (deltaDownload.getConnection().getPeerName().equals(peerName)) {
+                fileNameToDeltaDownloadMap.remove(deltaDownload.getFileName());
+                deltaDownload.getDiskIoExecutor().execute(deltaDownload::abort);
+                LOGGER.warn("Delta download of {} is stopped because {} disconnected", deltaDownload.getFileName(), peerName);
+            }
+        }
+
+        for (ChunkDownload chunkDownload : new ArrayList<>(fileNameToChunkDownloadMap.values())) {
+            if (chunkDownload.getConnection().getPeerName().equals(peerName)) {
+                fileNameToChunkDownloadMap.remove(chunkDownload.getFileName());
+                chunkDownload.getDiskIoExecutor().execute(() -> chunkDownload.abort(chunkStore));
+                LOGGER.warn("Chunk download of {} is stopped because {} disconnected", chunkDownload.getFileName(), peerName);
+            }
+        }
+
+        for (DirectoryDownload directoryDownload : new ArrayList<>(directoryNameToDownloadMap.values())) {
+            if (!directoryDownload.getConnection().getPeerName().equals(peerName)) {
+                continue;
+            }
+
+            for (DirectoryFile directoryFile : directoryDownload.getRequestedFiles()) {
+                fileNameToDirectoryFileMap.remove(directoryFile.getFileName());
+                directoryFile.getDiskIoExecutor().execute(directoryFile::abort);
+            }
+
+            directoryNameToDownloadMap.remove(directoryDownload.getDirectoryName());
+            LOGGER.warn("Download of directory {} is stopped because {} disconnected", directoryDownload.getDirectoryName(), peerName);
+        }
+
+        for (FileDownload download : fileNameToDownloadMap.values()) {
+            download.getEventLoop().execute(() -> removeSource(download, peerName));
+        }
+    }
+
+    private void removeSource(FileDownload download, String peerName) {
+        if (fileNameToDownloadMap.get(download.getFileName()) != download || download.removeSource(peerName) == null) {
+            return;
+        }
+
+        if (download.getSources().isEmpty()) {
+            LOGGER.warn("Download of {} is stalled because {} was its last source", download.getFileName(), peerName);
+        } else {
+            requestPieces(download);
+        }
+    }
+
+    // Only the loop of the returned download may read its pieces
+    public FileDownload getDownload(String fileName) {
+        return fileNameToDownloadMap.get(fileName);
+    }
+}
@@ -0,0 +1,106 @@
+package com.halcyon.p2p.file.transfer.service;
+
+import com.halcyon.p2p.file.transfer.network.Connection;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class DownloadSource {
+    private final Connection connection;
+    private final BitSet availablePieces;
+
+    private final Map<Integer, PieceRequest> requestedPieceToRequestMap = new HashMap<>();
+    private int numberOfCorruptPieces;
+
+    public DownloadSource(Connection connection, BitSet availablePieces) {
+        this.connection = connection;
+        this.availablePieces = availablePieces;
+    }
+
+    public boolean hasPiece(int pieceIndex) {
+        return availablePieces == null || availablePieces.get(pieceIndex);
+    }
+
+    public void addRequestedPiece(int pieceIndex) {
+        requestedPieceToRequestMap.put(pieceIndex, new PieceRequest(System.nanoTime()));
+    }
+
+    public boolean isRequested(int pieceIndex) {
+        return requestedPieceToRequestMap.containsKey(pieceIndex);
+    }
+
+    public boolean removeRequestedPiece(int pieceIndex) {
+        return requestedPieceToRequestMap.remove(pieceIndex) != null;
+    }
+
+    public long addBytesReceived(int pieceIndex, long length) {
+        PieceRequest request = requestedPieceToRequestMap.get(pieceIndex);
+
+        if (request == null) {
+            return 0;
+        }
+
+        request.bytesReceived += length;
+        request.lastProgressNanos = System.nanoTime();
+        return request.bytesReceived;
+    }
+
+    // Pieces that haven't received a byte since the given time
+    public List<Integer> getStalledPieces(long progressDeadlineNanos) {
+        List<Integer> stalledPieces = new ArrayList<>();
+
+        for (Map.Entry<Integer, PieceRequest> requestEntry : requestedPieceToRequestMap.entrySet()) {
+            if (requestEntry.getValue().lastProgressNanos - progressDeadlineNanos < 0) {
+                stalledPieces.add(requestEntry.getKey());
+            }
+        }
+
+        return stalledPieces;
+    }
+
+    public int addCorruptPiece() {
+        return ++numberOfCorruptPieces;
+    }
+
+    public int getNumberOfRequestedPieces() {
+        return requestedPieceToRequestMap.size();
+    }
+
+    public Set<Integer> getRequestedPieces() {
+        return Collections.unmodifiableSet(requestedPieceToRequestMap.keySet());
+    }
+
+    public BitSet getAvailablePieces() {
+        return availablePieces;
+    }
+
+    public Connection getConnection() {
+        return connection;
+    }
+
+    public String getPeerName() {
+        return connection.getPeerName();
+    }
+
+    @Override
+    public String toString() {
+        return "DownloadSource{" +
+                "peerName='" + getPeerName() + '\'' +
+                ", requestedPieces=" + requestedPieceToRequestMap.keySet() +
+                '}';
+    }
+
+    private static class PieceRequest {
+        private long bytesReceived;
+        private long lastProgressNanos;
+
+        private PieceRequest(long requestNanos) {
+            this.lastProgressNanos = requestNanos;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.halcyon.p2p.file.transfer.service;
+
+import com.halcyon.p2p.file.transfer.network.ChunkSizeController;
+import com.halcyon.p2p.file.transfer.network.FileData;
+import com.halcyon.p2p.file.transfer.proto.File.FileResponse;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.channel.EventLoop;
+import io.netty.util.concurrent.EventExecutor;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.Callable;
+
+import static java.lang.Math.min;
+
+public class FileChunkedInput extends DiskChunkedInput<FileData> {
+    private final RandomAccessFile randomAccessFile;
+    private final String fileName;
+    private final long fileSize;
+    private final long offset;
+    private final long length;
+    private final ChunkSizeController chunkSizeController;
+    private final ChunkCompressor chunkCompressor;
+    private final EventLoop peerEventLoop;
+
+    private long bytesRead;
+    private long bytesSent;
+
+    public FileChunkedInput(File file, String fileName, long fileSize, long offset, long length,
+                            ChunkSizeController chunkSizeController, ChunkCompressor chunkCompressor, EventExecutor diskIoExecutor,
+                            EventLoop peerEventLoop, Runnable transferResumer) throws IOException {
+        super(fileName, diskIoExecutor, transferResumer);
+        this.randomAccessFile = new RandomAccessFile(file, "r");
+        this.fileName = fileName;
+        this.fileSize = fileSize;
+        this.offset = offset;
+        this.length = length;
+        this.chunkSizeController = chunkSizeController;
+        this.chunkCompressor = chunkCompressor;
+        this.peerEventLoop = peerEventLoop;
+    }
+
+    @Override
+    protected Callable<FileData> createChunkReader() {
+        int chunkSize = chunkSizeController.getChunkSize();
+
+        return () -> readChunkFromDisk(chunkSize);
+    }
+
+    @Override
+    protected boolean handleChunkSent(FileData chunk) {
+        int chunkLength = chunk.getUncompressedLength();
+
+        bytesSent += chunkLength;
+        peerEventLoop.execute(() -> chunkSizeController.handleChunkSent(chunkLength));
+
+        return chunk.isLastChunk();
+    }
+
+    @Override
+    protected void closeSource() throws IOException {
+        randomAccessFile.close();
+    }
+
+    private FileData readChunkFromDisk(int chunkSize) throws IOException {
+        long chunkOffset = offset + bytesRead;
+        int chunkLength = (int) min(chunkSize, length - bytesRead);
+
+        bytesRead += chunkLength;
+
+        return readChunk(randomAccessFile, fileName, fileSize, chunkOffset, chunkLength, bytesRead == length, chunkCompressor);
+    }
+
+    // Reads the chunk into a pooled direct buffer, so the bytes only pass through user space when they are compressed
+    static FileData readChunk(RandomAccessFile randomAccessFile, String fileName, long fileSize, long chunkOffset, int chunkLength,
+                              boolean isLastChunk, ChunkCompressor chunkCompressor) throws IOException {
+        FileChannel fileChannel = randomAccessFile.getChannel();
+        ByteBuf buffer = ByteBufAllocator.DEFAULT.directBuffer(chunkLength);
+
+        try {
+            while (buffer.readableBytes() < chunkLength) {
+                long position = chunkOffset + buffer.readableBytes();
+
+                if (buffer.writeBytes(fileChannel, position, chunkLength - buffer.readableBytes()) < 0) {
+                    throw new EOFException("Unexpected end of " + fileName + " at " + position);
+                }
+            }
+        } catch (IOException e) {
+            buffer.release();
+            throw e;
+        }
+
+        var headerBuilder = FileResponse.newBuilder()
+                .setFileName(fileName)
+                .setPayloadLength(chunkLength)
+                .setOffset(chunkOffset)
+                .setFileSize(fileSize)
+                .setIsLastChunk(isLastChunk);
+
+        ByteBuf compressedBuffer = chunkCompressor != null ? chunkCompressor.compress(buffer, ByteBufAllocator.DEFAULT) : null;
+
+        if (compressedBuffer != null) {
+            buffer.release();
+            buffer = compressedBuffer;
+            headerBuilder.setPayloadLength(compressedBuffer.readableBytes())
+                    .setCompressed(true)
+                    .setUncompressedLength(chunkLength);
+        }
+
+        return new FileData(headerBuilder.build(), buffer);
+    }
+
+    @Override
+    public long length() {
+        return length;
+    }
+
+    @Override
+    public long progress() {
+        return bytesSent;
+    }
+}
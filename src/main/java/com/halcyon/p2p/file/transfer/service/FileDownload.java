@@ -0,0 +1,505 @@
+package com.halcyon.p2p.file.transfer.service;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.protobuf.ByteString;
+import com.halcyon.p2p.file.transfer.network.Peer;
+import com.halcyon.p2p.file.transfer.proto.Download.DownloadState;
+import com.halcyon.p2p.file.transfer.util.MerkleTreeUtil;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.EventLoop;
+import io.netty.util.concurrent.EventExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.lang.Math.min;
+
+public class FileDownload {
+    private static final Logger LOGGER = LoggerFactory.getLogger(FileDownload.class);
+
+    private static final String STATE_FILE_SUFFIX = ".download";
+    private static final String CORRUPT_FILE_SUFFIX = ".corrupt";
+    private static final int VERIFY_BUFFER_SIZE = 64 * 1024;
+
+    private final String fileName;
+    private final Path path;
+    private final Path statePath;
+    private final EventExecutor diskIoExecutor;
+    private final EventLoop eventLoop;
+    private final boolean resumed;
+    private final long fileSize;
+    private final ByteString contentHash;
+    private final List<ByteString> pieceHashes;
+    private final ByteString merkleRoot;
+    private final int pieceSize;
+    private final int pieceCount;
+    // Breaks ties between equally rare pieces
+    private final Random random;
+
+    private final BitSet completedPieces;
+    // Each element is only accessed on the disk I/O executor the piece is pinned to
+    private final boolean[] verifiedPieces;
+    private final int[] pieceAvailability;
+    private final int[] pieceRequesters;
+    private final Map<String, DownloadSource> peerNameToSourceMap = new LinkedHashMap<>();
+    private final AtomicReference<DownloadState> pendingState = new AtomicReference<>();
+
+    private FileChannel fileChannel;
+    private volatile boolean closed;
+    private boolean endgame;
+
+    public FileDownload(String fileName, Path path, long fileSize, ByteString contentHash, List<ByteString> pieceHashes,
+                        ByteString merkleRoot, int pieceSize, EventExecutor diskIoExecutor, EventLoop eventLoop, BitSet completedPieces) {
+        this(fileName, path, fileSize, contentHash, pieceHashes, merkleRoot, pieceSize, diskIoExecutor, eventLoop, completedPieces,
+                Peer.RANDOM);
+    }
+
+    FileDownload(String fileName, Path path, long fileSize, ByteString contentHash, List<ByteString> pieceHashes, ByteString merkleRoot,
+                 int pieceSize, EventExecutor diskIoExecutor, EventLoop eventLoop, BitSet completedPieces, Random random) {
+        this.fileName = fileName;
+        this.path = path;
+        this.statePath = getStatePath(path);
+        this.diskIoExecutor = diskIoExecutor;
+        this.eventLoop = eventLoop;
+        this.resumed = completedPieces != null;
+        this.fileSize = fileSize;
+        this.contentHash = contentHash;
+        this.pieceHashes = pieceHashes;
+        this.merkleRoot = merkleRoot;
+        this.pieceSize = pieceSize;
+        this.pieceCount = (int) ((fileSize + pieceSize - 1) / pieceSize);
+        this.random = random;
+        this.completedPieces = resumed ? completedPieces.get(0, pieceCount) : new BitSet(pieceCount);
+        this.verifiedPieces = new boolean[pieceCount];
+
+        for (int i = this.completedPieces.nextSetBit(0); i >= 0; i = this.completedPieces.nextSetBit(i + 1)) {
+            verifiedPieces[i] = true;
+        }
+        this.pieceAvailability = new int[pieceCount];
+        this.pieceRequesters = new int[pieceCount];
+    }
+
+    public static Path getStatePath(Path path) {
+        return path.resolveSibling(path.getFileName() + STATE_FILE_SUFFIX);
+    }
+
+    public static DownloadState readState(Path path) throws IOException {
+        Path statePath = getStatePath(path);
+
+        if (!Files.exists(statePath) || !Files.exists(path)) {
+            return null;
+        }
+
+        try (InputStream inputStream = Files.newInputStream(statePath)) {
+            return DownloadState.parseFrom(inputStream);
+        }
+    }
+
+    // Returns false without writing anything if the data runs past the end of the piece it starts in
+    public boolean write(long offset, ByteBuf data) throws IOException {
+        if (!isWithinPiece(offset, data.readableBytes())) {
+            return false;
+        }
+
+        if (closed || verifiedPieces[getPieceIndex(offset)]) {
+            return true;
+        }
+
+        FileChannel channel = openFileChannel();
+        long position = offset;
+
+        try {
+            for (ByteBuffer buffer : data.nioBuffers()) {
+                while (buffer.hasRemaining()) {
+                    position += channel.write(buffer, position);
+                }
+            }
+        } catch (ClosedChannelException e) {
+            if (!closed) {
+                throw e;
+            }
+        }
+
+        return true;
+    }
+
+    // Hashes what actually landed on disk, so bytes written by another source in the endgame can't slip through
+    public boolean verifyPiece(int pieceIndex) throws IOException {
+        if (closed) {
+            return false;
+        }
+
+        if (verifiedPieces[pieceIndex]) {
+            return true;
+        }
+
+        FileChannel channel = openFileChannel();
+        Hasher hasher = MerkleTreeUtil.getHashFunction().newHasher();
+        ByteBuffer buffer = ByteBuffer.allocate(VERIFY_BUFFER_SIZE);
+        long position = getPieceOffset(pieceIndex);
+        long end = position + getPieceLength(pieceIndex);
+
+        while (position < end) {
+            buffer.clear().limit((int) min(buffer.capacity(), end - position));
+            int bytesRead = channel.read(buffer, position);
+
+            if (bytesRead < 0) {
+                return false;
+            }
+
+            buffer.flip();
+            hasher.putBytes(buffer);
+            position += bytesRead;
+        }
+
+        verifiedPieces[pieceIndex] = ByteString.copyFrom(hasher.hash().asBytes()).equals(pieceHashes.get(pieceIndex));
+
+        return verifiedPieces[pieceIndex];
+    }
+
+    // Verified pieces say nothing about bytes outside of them, like the tail of a longer file the download resumed into, so the file
+    // is cut to its size and hashed as a whole once before it counts as saved
+    public boolean verifyContent() throws IOException {
+        FileChannel channel = openFileChannel();
+
+        if (channel.size() > fileSize) {
+            channel.truncate(fileSize);
+        }
+
+        Hasher hasher = Hashing.sha256().newHasher();
+        ByteBuffer buffer = ByteBuffer.allocate(VERIFY_BUFFER_SIZE);
+        long position = 0;
+
+        while (position < fileSize) {
+            buffer.clear().limit((int) min(buffer.capacity(), fileSize - position));
+            int bytesRead = channel.read(buffer, position);
+
+            if (bytesRead < 0) {
+                return false;
+            }
+
+            buffer.flip();
+            hasher.putBytes(buffer);
+            position += bytesRead;
+        }
+
+        return ByteString.copyFrom(hasher.hash().asBytes()).equals(contentHash);
+    }
+
+    private synchronized FileChannel openFileChannel() throws IOException {
+        if (fileChannel == null) {
+            Files.createDirectories(path.getParent());
+            fileChannel = resumed
+                    ? FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)
+                    : FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+        }
+
+        return fileChannel;
+    }
+
+    public synchronized void close() throws IOException {
+        closed = true;
+        openFileChannel().close();
+    }
+
+    public void saveState() {
+        DownloadState state = DownloadState.newBuilder()
+                .setFileName(fileName)
+                .setFileSize(fileSize)
+                .setContentHash(contentHash)
+                .setPieceSize(pieceSize)
+                .setPieceBitmap(getPieceBitmap())
+                .build();
+
+        if (pendingState.getAndSet(state) == null) {
+            diskIoExecutor.execute(this::writePendingState);
+        }
+    }
+
+    private void writePendingState() {
+        DownloadState state = pendingState.getAndSet(null);
+
+        if (state == null || closed) {
+            return;
+        }
+
+        try {
+            openFileChannel().force(false);
+
+            Path temporaryStatePath = statePath.resolveSibling(statePath.getFileName() + ".tmp");
+            Files.write(temporaryStatePath, state.toByteArray());
+            Files.move(temporaryStatePath, statePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LOGGER.error("Error occurred while saving the state of {}", fileName, e);
+        }
+    }
+
+    public void deleteState() throws IOException {
+        Files.deleteIfExists(statePath);
+    }
+
+    public static Path getCorruptPath(Path path) {
+        return path.resolveSibling(path.getFileName() + CORRUPT_FILE_SUFFIX);
+    }
+
+    // Moves a file that failed its content hash out of the way, so neither a later download resumes it nor it is served as the file
+    public Path quarantine() throws IOException {
+        close();
+        deleteState();
+
+        Path corruptPath = getCorruptPath(path);
+        Files.move(path, corruptPath, StandardCopyOption.REPLACE_EXISTING);
+        return corruptPath;
+    }
+
+    public void addSource(DownloadSource source) {
+        DownloadSource previousSource = peerNameToSourceMap.put(source.getPeerName(), source);
+
+        if (previousSource != null) {
+            removeAvailability(previousSource);
+        }
+
+        for (int i = 0; i < pieceCount; i++) {
+            if (source.hasPiece(i)) {
+                pieceAvailability[i]++;
+            }
+        }
+    }
+
+    public DownloadSource removeSource(String peerName) {
+        DownloadSource source = peerNameToSourceMap.remove(peerName);
+
+        if (source != null) {
+            removeAvailability(source);
+        }
+
+        return source;
+    }
+
+    private void removeAvailability(DownloadSource source) {
+        for (int i = 0; i < pieceCount; i++) {
+            if (source.hasPiece(i)) {
+                pieceAvailability[i]--;
+            }
+        }
+
+        for (int pieceIndex : source.getRequestedPieces()) {
+            pieceRequesters[pieceIndex]--;
+        }
+    }
+
+    public DownloadSource getSource(String peerName) {
+        return peerNameToSourceMap.get(peerName);
+    }
+
+    public Collection<DownloadSource> getSources() {
+        return Collections.unmodifiableCollection(peerNameToSourceMap.values());
+    }
+
+    public int selectPiece(DownloadSource source) {
+        int selectedPiece = -1;
+        int minAvailability = Integer.MAX_VALUE;
+        int numberOfCandidates = 0;
+        boolean hasUnrequestedPieces = false;
+
+        for (int i = completedPieces.nextClearBit(0); i < pieceCount; i = completedPieces.nextClearBit(i + 1)) {
+            if (pieceRequesters[i] > 0) {
+                continue;
+            }
+
+            hasUnrequestedPieces = true;
+
+            if (!source.hasPiece(i)) {
+                continue;
+            }
+
+            if (pieceAvailability[i] < minAvailability) {
+                selectedPiece = i;
+                minAvailability = pieceAvailability[i];
+                numberOfCandidates = 1;
+            } else if (pieceAvailability[i] == minAvailability && random.nextInt(++numberOfCandidates) == 0) {
+                selectedPiece = i;
+            }
+        }
+
+        if (selectedPiece != -1 || hasUnrequestedPieces) {
+            return selectedPiece;
+        }
+
+        return selectEndgamePiece(source);
+    }
+
+    private int selectEndgamePiece(DownloadSource source) {
+        if (!endgame) {
+            endgame = true;
+            LOGGER.info("Download of {} entered the endgame with {} pieces left", fileName, pieceCount - completedPieces.cardinality());
+        }
+
+        int selectedPiece = -1;
+
+        for (int i = completedPieces.nextClearBit(0); i < pieceCount; i = completedPieces.nextClearBit(i + 1)) {
+            if (source.hasPiece(i) && !source.isRequested(i) && (selectedPiece == -1 || pieceRequesters[i] < pieceRequesters[selectedPiece])) {
+                selectedPiece = i;
+            }
+        }
+
+        return selectedPiece;
+    }
+
+    public void markRequested(DownloadSource source, int pieceIndex) {
+        source.addRequestedPiece(pieceIndex);
+        pieceRequesters[pieceIndex]++;
+    }
+
+    // Returns the bytes received for the piece so far, or -1 if the piece is already completed
+    public long handleChunkWritten(DownloadSource source, long offset, long length) {
+        int pieceIndex = getPieceIndex(offset);
+
+        if (pieceIndex >= pieceCount || completedPieces.get(pieceIndex)) {
+            return -1;
+        }
+
+        return source.addBytesReceived(pieceIndex, length);
+    }
+
+    public void completePiece(DownloadSource source, int pieceIndex) {
+        completedPieces.set(pieceIndex);
+        pieceRequesters[pieceIndex] = 0;
+
+        for (DownloadSource downloadSource : peerNameToSourceMap.values()) {
+            downloadSource.removeRequestedPiece(pieceIndex);
+        }
+
+        source.removeRequestedPiece(pieceIndex);
+    }
+
+    public int rejectPiece(DownloadSource source, int pieceIndex) {
+        cancelRequest(source, pieceIndex);
+        return source.addCorruptPiece();
+    }
+
+    // Makes the piece selectable again without holding it against the source
+    public void cancelRequest(DownloadSource source, int pieceIndex) {
+        if (source.removeRequestedPiece(pieceIndex)) {
+            pieceRequesters[pieceIndex]--;
+        }
+    }
+
+    public boolean isPieceCompleted(int pieceIndex) {
+        return completedPieces.get(pieceIndex);
+    }
+
+    public boolean hasPieces(long offset, long length) {
+        if (length <= 0) {
+            length = fileSize - offset;
+        }
+
+        if (offset < 0 || offset + length > fileSize) {
+            return false;
+        }
+
+        int firstPiece = getPieceIndex(offset);
+        int lastPiece = getPieceIndex(offset + length - 1);
+
+        return length == 0 || completedPieces.nextClearBit(firstPiece) > lastPiece;
+    }
+
+    // Data crossing into the next piece could overwrite it after it was verified, or grow the file past its size
+    public boolean isWithinPiece(long offset, long length) {
+        if (offset < 0 || length < 0 || getPieceIndex(offset) >= pieceCount) {
+            return false;
+        }
+
+        int pieceIndex = getPieceIndex(offset);
+
+        return offset + length <= getPieceOffset(pieceIndex) + getPieceLength(pieceIndex);
+    }
+
+    public boolean isCompleted() {
+        return completedPieces.cardinality() == pieceCount;
+    }
+
+    public int getPieceIndex(long offset) {
+        return (int) (offset / pieceSize);
+    }
+
+    public long getPieceOffset(int pieceIndex) {
+        return (long) pieceIndex * pieceSize;
+    }
+
+    public long getPieceLength(int pieceIndex) {
+        return min(pieceSize, fileSize - getPieceOffset(pieceIndex));
+    }
+
+    public ByteString getPieceBitmap() {
+        return ByteString.copyFrom(completedPieces.toByteArray());
+    }
+
+    public int getNumberOfCompletedPieces() {
+        return completedPieces.cardinality();
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public EventExecutor getDiskIoExecutor() {
+        return diskIoExecutor;
+    }
+
+    // The peer loop that owns the bookkeeping of the download, its sources and its pieces
+    public EventLoop getEventLoop() {
+        return eventLoop;
+    }
+
+    public long getFileSize() {
+        return fileSize;
+    }
+
+    public ByteString getContentHash() {
+        return contentHash;
+    }
+
+    public List<ByteString> getPieceHashes() {
+        return pieceHashes;
+    }
+
+    public ByteString getMerkleRoot() {
+        return merkleRoot;
+    }
+
+    public int getPieceSize() {
+        return pieceSize;
+    }
+
+    public int getPieceCount() {
+        return pieceCount;
+    }
+
+    @Override
+    public String toString() {
+        return "FileDownload{" +
+                "fileName='" + fileName + '\'' +
+                ", fileSize=" + fileSize +
+                ", completedPieces=" + completedPieces.cardinality() + "/" + pieceCount +
+                ", sources=" + peerNameToSourceMap.keySet() +
+                '}';
+    }
+}
@@ -1,60 +1,125 @@
 package com.halcyon.p2p.file.transfer.service;
 
+import com.google.common.io.BaseEncoding;
 import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
 import com.halcyon.p2p.file.transfer.config.PeerConfig;
+import com.halcyon.p2p.file.transfer.network.BandwidthLimiter;
+import com.halcyon.p2p.file.transfer.network.BandwidthLimiter.Direction;
+import com.halcyon.p2p.file.transfer.network.Capability;
 import com.halcyon.p2p.file.transfer.network.Connection;
 import com.halcyon.p2p.file.transfer.proto.File.*;
 import com.halcyon.p2p.file.transfer.proto.General.ProtobufMessage;
+import com.halcyon.p2p.file.transfer.proto.Index.IndexedFile;
+import com.halcyon.p2p.file.transfer.util.ContentDefinedChunker;
+import io.netty.channel.DefaultFileRegion;
+import io.netty.channel.EventLoop;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.EventExecutorGroup;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.*;
-import java.util.Arrays;
-import java.util.HashMap;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.lang.Math.min;
 
 public class FileService {
     private static final Logger LOGGER = LoggerFactory.getLogger(FileService.class);
 
+    private static final String GLOB_SPECIAL_CHARACTERS = "*?[{";
+    private static final int MAX_CHUNKS_PER_CHUNK_LIST_RESPONSE = 16 * 1024;
+    private static final int MAX_CHUNK_RESPONSE_SIZE = 16 * 1024 * 1024;
+
     private final PeerConfig peerConfig;
-    private final ConnectionService connectionService;
+    private final BandwidthLimiter bandwidthLimiter;
+    private final DownloadService downloadService;
+    private final SharedFileIndex sharedFileIndex;
+    private final EventExecutorGroup diskIoExecutorGroup;
+    private final EventLoop peerEventLoop;
+    private final UploadScheduler uploadScheduler;
 
-    private final Map<String, FileOutputStream> fileNameToStreamMap = new HashMap<>();
+    private final Map<String, GetFilesRequest> peerNameToGetFilesRequestMap = new ConcurrentHashMap<>();
 
-    public FileService(PeerConfig peerConfig, ConnectionService connectionService) {
+    public FileService(PeerConfig peerConfig, BandwidthLimiter bandwidthLimiter, DownloadService downloadService, SharedFileIndex sharedFileIndex,
+                       EventExecutorGroup diskIoExecutorGroup, EventLoop peerEventLoop) {
         this.peerConfig = peerConfig;
-        this.connectionService = connectionService;
+        this.bandwidthLimiter = bandwidthLimiter;
+        this.downloadService = downloadService;
+        this.sharedFileIndex = sharedFileIndex;
+        this.diskIoExecutorGroup = diskIoExecutorGroup;
+        this.peerEventLoop = peerEventLoop;
+        this.uploadScheduler = new UploadScheduler(peerConfig, peerEventLoop);
     }
 
-    public void sendGetFilesRequest(Connection connection) {
-        var getFilesRequest = GetFilesRequest.getDefaultInstance();
+    public void sendGetFilesRequest(Connection connection, String filter) {
+        boolean isGlob = filter.chars().anyMatch(c -> GLOB_SPECIAL_CHARACTERS.indexOf(c) >= 0);
+
+        var getFilesRequest = GetFilesRequest.newBuilder()
+                .setPrefix(isGlob ? "" : filter)
+                .setGlob(isGlob ? filter : "")
+                .setPageSize(peerConfig.getGetFilesPageSize())
+                .build();
 
+        sendGetFilesRequest(connection, getFilesRequest);
+        LOGGER.info("Sending GetFilesRequest from {} to {}", peerConfig.getPeerName(), connection.getPeerName());
+    }
+
+    private void sendGetFilesRequest(Connection connection, GetFilesRequest request) {
         var protobufMessage = ProtobufMessage.newBuilder()
-                .setGetFilesRequest(getFilesRequest)
+                .setGetFilesRequest(request)
                 .build();
 
+        peerNameToGetFilesRequestMap.put(connection.getPeerName(), request);
         connection.send(protobufMessage);
-        LOGGER.info("Sending GetFilesRequest from {} to {}", peerConfig.getPeerName(), connection.getPeerName());
     }
 
-    public void handleGetFilesRequest(Connection connection) {
-        File dir = new File("shared_directory/");
-        String[] fileNames = dir.list();
+    public void handleGetFilesRequest(Connection connection, GetFilesRequest request) {
+        PathMatcher globMatcher;
 
-        if (fileNames == null) {
-            sendGetFilesResponse(connection, GetFilesResponse.getDefaultInstance());
-            LOGGER.info("An empty GetFilesResponse was sent from {} to {} because there are no files", peerConfig.getPeerName(), connection.getPeerName());
+        try {
+            globMatcher = request.getGlob().isEmpty() ? null : FileSystems.getDefault().getPathMatcher("glob:" + request.getGlob());
+        } catch (IllegalArgumentException e) {
+            LOGGER.warn("Invalid glob {} in GetFilesRequest from {}", request.getGlob(), connection.getPeerName());
+            sendGetFilesResponse(connection, GetFilesResponse.newBuilder().setPeerName(peerConfig.getPeerName()).build());
             return;
         }
 
+        int pageSize = request.getPageSize() > 0 ? min(request.getPageSize(), peerConfig.getGetFilesPageSize()) : peerConfig.getGetFilesPageSize();
+        // One file past the page tells whether there is a next page, so the last page never costs an empty round trip
+        List<IndexedFile> indexedFiles = sharedFileIndex.getFiles(request.getPrefix(), globMatcher, request.getCursor(), pageSize + 1);
+        boolean hasNextPage = indexedFiles.size() > pageSize;
+
+        if (hasNextPage) {
+            indexedFiles = indexedFiles.subList(0, pageSize);
+        }
+
         var getFilesResponseBuilder = GetFilesResponse.newBuilder().setPeerName(peerConfig.getPeerName());
-        for (String fileName : fileNames) {
-            getFilesResponseBuilder.addFileNames(fileName);
+        for (IndexedFile indexedFile : indexedFiles) {
+            getFilesResponseBuilder.addFiles(FileEntry.newBuilder()
+                    .setFileName(indexedFile.getFileName())
+                    .setFileSize(indexedFile.getFileSize())
+                    .setLastModified(indexedFile.getLastModified())
+                    .setContentHash(indexedFile.getContentHash())
+                    .build());
+        }
+
+        if (hasNextPage) {
+            getFilesResponseBuilder.setNextCursor(indexedFiles.get(pageSize - 1).getFileName());
         }
 
         sendGetFilesResponse(connection, getFilesResponseBuilder.build());
 
-        LOGGER.info("A GetFilesResponse with {} files was sent from {} to {}", fileNames.length, peerConfig.getPeerName(), connection.getPeerName());
+        LOGGER.info("A GetFilesResponse with {} files was sent from {} to {}", indexedFiles.size(), peerConfig.getPeerName(), connection.getPeerName());
     }
 
     private void sendGetFilesResponse(Connection connection, GetFilesResponse response) {
@@ -65,94 +130,529 @@ public class FileService {
         connection.send(protobufMessage);
     }
 
-    public void handleGetFilesResponse(GetFilesResponse response) {
-        System.out.printf("Files in %s:%n", response.getPeerName());
+    public void handleGetFilesResponse(Connection connection, GetFilesResponse response) {
+        GetFilesRequest request = peerNameToGetFilesRequestMap.remove(connection.getPeerName());
+
+        if (request == null || request.getCursor().isEmpty()) {
+            System.out.printf("Files in %s:%n", response.getPeerName());
+        }
+
+        for (FileEntry file : response.getFilesList()) {
+            System.out.printf("%s %d bytes, modified %s, sha256 %s%n", file.getFileName(), file.getFileSize(),
+                    Instant.ofEpochMilli(file.getLastModified()), BaseEncoding.base16().lowerCase().encode(file.getContentHash().toByteArray()));
+        }
+
+        if (request != null && !response.getNextCursor().isEmpty()) {
+            sendGetFilesRequest(connection, request.toBuilder().setCursor(response.getNextCursor()).build());
+        }
+    }
 
-        for (int i = 0; i < response.getFileNamesCount(); i++) {
-            System.out.printf("%s. %s%n", i + 1, response.getFileNames(i));
+    // The manifest lists every file of the tree at once, so the requester can pipeline the downloads without listing directories
+    public void handleDirectoryRequest(Connection connection, DirectoryRequest request) {
+        String directoryName = request.getDirectoryName();
+        List<IndexedFile> indexedFiles = sharedFileIndex.getFiles(directoryName + "/", null, "", Integer.MAX_VALUE);
+
+        var directoryResponseBuilder = DirectoryResponse.newBuilder()
+                .setDirectoryName(directoryName)
+                .setFound(!indexedFiles.isEmpty());
+
+        for (IndexedFile indexedFile : indexedFiles) {
+            directoryResponseBuilder.addFiles(FileEntry.newBuilder()
+                    .setFileName(indexedFile.getFileName())
+                    .setFileSize(indexedFile.getFileSize())
+                    .setLastModified(indexedFile.getLastModified())
+                    .setContentHash(indexedFile.getContentHash())
+                    .build());
         }
+
+        var protobufMessage = ProtobufMessage.newBuilder()
+                .setDirectoryResponse(directoryResponseBuilder.build())
+                .build();
+
+        connection.send(protobufMessage);
+        LOGGER.info("A DirectoryResponse for {} with {} files was sent from {} to {}", directoryName, indexedFiles.size(),
+                peerConfig.getPeerName(), connection.getPeerName());
+    }
+
+    // Packs the requested files back to back into one payload, like a tar stream with the headers gathered in front
+    // A request the requester batched with other limits, or one trying to pull a whole directory at once, is split into responses of
+    // up to maxPackedBatchSize bytes, and files beyond the count any requester packs are answered as not found
+    public void handlePackedFileRequest(Connection connection, PackedFileRequest request) {
+        diskIoExecutorGroup.execute(() -> {
+            String directoryName = request.getDirectoryName();
+            List<String> fileNames = request.getFileNamesList();
+            var packedFileResponseBuilder = PackedFileResponse.newBuilder().setDirectoryName(directoryName);
+            ByteString.Output data = ByteString.newOutput();
+
+            if (fileNames.size() > DownloadService.MAX_FILES_PER_PACKED_REQUEST) {
+                LOGGER.warn("PackedFileRequest of {} for {} with {} files is capped at {} files", connection.getPeerName(), directoryName,
+                        fileNames.size(), DownloadService.MAX_FILES_PER_PACKED_REQUEST);
+            }
+
+            for (int i = 0; i < fileNames.size(); i++) {
+                String fileName = fileNames.get(i);
+                byte[] content = i < DownloadService.MAX_FILES_PER_PACKED_REQUEST ? readPackedFile(connection, fileName) : null;
+
+                if (content != null && data.size() > 0 && data.size() + content.length > peerConfig.getMaxPackedBatchSize()) {
+                    sendPackedFileResponse(connection, packedFileResponseBuilder, data.toByteString(), true);
+                    packedFileResponseBuilder = PackedFileResponse.newBuilder().setDirectoryName(directoryName);
+                    data = ByteString.newOutput();
+                }
+
+                var packedFileEntryBuilder = PackedFileEntry.newBuilder()
+                        .setFileName(fileName)
+                        .setFound(content != null);
+
+                if (content != null) {
+                    packedFileEntryBuilder.setOffset(data.size()).setLength(content.length);
+                    data.write(content, 0, content.length);
+                }
+
+                packedFileResponseBuilder.addFiles(packedFileEntryBuilder.build());
+            }
+
+            sendPackedFileResponse(connection, packedFileResponseBuilder, data.toByteString(), false);
+        });
+    }
+
+    private void sendPackedFileResponse(Connection connection, PackedFileResponse.Builder packedFileResponseBuilder, ByteString data,
+                                        boolean hasMore) {
+        setPackedData(connection, packedFileResponseBuilder, data);
+        packedFileResponseBuilder.setHasMore(hasMore);
+
+        var protobufMessage = ProtobufMessage.newBuilder()
+                .setPackedFileResponse(packedFileResponseBuilder.build())
+                .build();
+
+        peerEventLoop.execute(() -> connection.send(protobufMessage, connection.nextDataLaneIndex()));
+        LOGGER.debug("A PackedFileResponse with {} files and {} bytes was sent from {} to {}", packedFileResponseBuilder.getFilesCount(),
+                data.size(), peerConfig.getPeerName(), connection.getPeerName());
     }
 
-    public void sendFileRequest(String peerName, String fileName) {
-        if (!connectionService.hasConnection(peerName)) {
-            LOGGER.warn("There is no connection to the {}", peerName);
+    private void setPackedData(Connection connection, PackedFileResponse.Builder packedFileResponseBuilder, ByteString data) {
+        if (peerConfig.getCompressionLevel() > 0 && connection.hasCapability(Capability.DEFLATE)) {
+            byte[] uncompressedData = data.toByteArray();
+            byte[] compressedData = new ChunkCompressor(packedFileResponseBuilder.getDirectoryName(), peerConfig.getCompressionLevel())
+                    .compress(uncompressedData, uncompressedData.length);
+
+            if (compressedData != null) {
+                packedFileResponseBuilder.setData(UnsafeByteOperations.unsafeWrap(compressedData))
+                        .setCompressed(true)
+                        .setUncompressedLength(uncompressedData.length);
+                return;
+            }
+        }
+
+        packedFileResponseBuilder.setData(data);
+    }
+
+    private byte[] readPackedFile(Connection connection, String fileName) {
+        Path path = SharedFileIndex.resolveSharedFile(fileName);
+
+        try {
+            if (path == null || !Files.isRegularFile(path) || Files.size(path) > peerConfig.getMaxPackedFileSize()) {
+                LOGGER.warn("{} requested by {} can't be packed", fileName, connection.getPeerName());
+                return null;
+            }
+
+            byte[] content = Files.readAllBytes(path);
+            return content.length <= peerConfig.getMaxPackedFileSize() ? content : null;
+        } catch (IOException e) {
+            LOGGER.error("Error occurred while reading file {}", fileName, e);
+            return null;
+        }
+    }
+
+    public void handleFileInfoRequest(Connection connection, FileInfoRequest request) {
+        String fileName = request.getFileName();
+
+        // Every piece costs a hash on the disk thread and in the response, so the requester can't pick any size it likes
+        if (request.getPieceSize() < peerConfig.getMinPieceSize() || request.getPieceSize() > peerConfig.getMaxPieceSize()) {
+            LOGGER.warn("FileInfoRequest of {} for {} with piece size {} is rejected", connection.getPeerName(), fileName,
+                    request.getPieceSize());
+            sendFileInfoResponse(connection, createFileInfoNotFound(fileName));
+            return;
+        }
+
+        FileDownload download = downloadService.getDownload(fileName);
+
+        if (download == null) {
+            sendFileInfo(connection, request, null);
             return;
         }
 
-        var fileRequest = FileRequest.newBuilder()
+        // The pieces of a download are only read on its own loop
+        download.getEventLoop().execute(() -> {
+            FileInfoResponse partialFileInfo = download.getPieceSize() == request.getPieceSize()
+                    && download.getNumberOfCompletedPieces() > 0 ? createPartialFileInfo(download) : null;
+            sendFileInfo(connection, request, partialFileInfo);
+        });
+    }
+
+    private void sendFileInfo(Connection connection, FileInfoRequest request, FileInfoResponse partialFileInfo) {
+        String fileName = request.getFileName();
+
+        diskIoExecutorGroup.execute(() -> {
+            FileInfoResponse fileInfo = createFileInfo(fileName, request.getPieceSize());
+
+            if (!fileInfo.getFound() && partialFileInfo != null) {
+                fileInfo = partialFileInfo;
+            }
+
+            FileInfoResponse response = fileInfo;
+            peerEventLoop.execute(() -> sendFileInfoResponse(connection, response));
+        });
+    }
+
+    private FileInfoResponse createFileInfo(String fileName, int pieceSize) {
+        Path path = SharedFileIndex.resolveSharedFile(fileName);
+
+        if (path == null || !Files.isRegularFile(path)) {
+            return createFileInfoNotFound(fileName);
+        }
+
+        try {
+            IndexedFile indexedFile = sharedFileIndex.getIndexedFile(fileName, path.toFile(), pieceSize);
+
+            return FileInfoResponse.newBuilder()
+                    .setFileName(fileName)
+                    .setFound(true)
+                    .setFileSize(indexedFile.getFileSize())
+                    .setContentHash(indexedFile.getContentHash())
+                    .addAllPieceHashes(indexedFile.getPieceHashesList())
+                    .setMerkleRoot(indexedFile.getMerkleRoot())
+                    .build();
+        } catch (IOException | RuntimeException e) {
+            LOGGER.error("Error occurred while hashing file {}", fileName, e);
+            return createFileInfoNotFound(fileName);
+        }
+    }
+
+    private static FileInfoResponse createFileInfoNotFound(String fileName) {
+        return FileInfoResponse.newBuilder()
                 .setFileName(fileName)
+                .setFound(false)
+                .build();
+    }
+
+    private FileInfoResponse createPartialFileInfo(FileDownload download) {
+        return FileInfoResponse.newBuilder()
+                .setFileName(download.getFileName())
+                .setFound(true)
+                .setFileSize(download.getFileSize())
+                .setContentHash(download.getContentHash())
+                .setPieceBitmap(download.getPieceBitmap())
+                .addAllPieceHashes(download.getPieceHashes())
+                .setMerkleRoot(download.getMerkleRoot())
                 .build();
+    }
 
+    private void sendFileInfoResponse(Connection connection, FileInfoResponse response) {
         var protobufMessage = ProtobufMessage.newBuilder()
-                .setFileRequest(fileRequest)
+                .setFileInfoResponse(response)
                 .build();
 
-        Connection connection = connectionService.getConnection(peerName);
         connection.send(protobufMessage);
-
-        LOGGER.info("A FileRequest for {} was sent from {} to {}", fileName, peerConfig.getPeerName(), connection.getPeerName());
+        LOGGER.info("A FileInfoResponse for {} was sent from {} to {}", response.getFileName(), peerConfig.getPeerName(), connection.getPeerName());
     }
 
     public void handleFileRequest(Connection connection, FileRequest request) {
-        File file = new File("shared_directory/" + request.getFileName());
+        EventExecutor diskIoExecutor = diskIoExecutorGroup.next();
+
+        diskIoExecutor.execute(() -> {
+            Path path = SharedFileIndex.resolveSharedFile(request.getFileName());
 
-        if (!file.exists()) {
-            LOGGER.warn("The file with name {} was not found", file.getName());
+            if (path == null) {
+                LOGGER.warn("Invalid file name {} requested by {}", request.getFileName(), connection.getPeerName());
+            } else if (Files.isRegularFile(path)) {
+                sendFile(connection, request, path.toFile(), -1, diskIoExecutor);
+            } else {
+                handlePartialFileRequest(connection, request, diskIoExecutor);
+            }
+        });
+    }
+
+    private void handlePartialFileRequest(Connection connection, FileRequest request, EventExecutor diskIoExecutor) {
+        FileDownload download = downloadService.getDownload(request.getFileName());
+
+        if (download == null) {
+            LOGGER.warn("The file with name {} was not found", request.getFileName());
             return;
         }
 
-        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r")) {
-            long fileSize = file.length();
-            byte[] buffer = new byte[8192];
-            long bytesSent = 0;
-            System.out.println(fileSize);
+        download.getEventLoop().execute(() -> {
+            if (!download.hasPieces(request.getOffset(), request.getLength())) {
+                LOGGER.warn("The file with name {} was not found", request.getFileName());
+                return;
+            }
 
-            while (bytesSent < fileSize) {
-                int bytesRead = randomAccessFile.read(buffer);
-                LOGGER.info("Reading {} bytes. {} bytes have already been read", bytesRead, bytesSent + bytesRead);
+            diskIoExecutor.execute(() -> sendFile(connection, request, download.getPath().toFile(), download.getFileSize(), diskIoExecutor));
+        });
+    }
 
-                boolean isLastChunk = (bytesSent + bytesRead) == fileSize;
+    // A negative file size is taken from the open channel, which file regions then read, so the size promised in the headers can't
+    // change under the transfer. A file truncated after that fails its region and closes the lane.
+    private void sendFile(Connection connection, FileRequest request, File file, long knownFileSize, EventExecutor diskIoExecutor) {
+        String fileName = request.getFileName();
+        FileChannel fileChannel = null;
 
-                var fileResponse = FileResponse.newBuilder()
-                        .setData(ByteString.copyFrom(Arrays.copyOf(buffer, bytesRead)))
-                        .setFileName(file.getName())
-                        .setIsLastChunk(isLastChunk)
-                        .build();
+        try {
+            fileChannel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
 
-                var protobufMessage = ProtobufMessage.newBuilder()
-                        .setFileResponse(fileResponse)
-                        .build();
+            long fileSize = knownFileSize >= 0 ? knownFileSize : fileChannel.size();
+            long offset = request.getOffset();
+            long length = request.getLength() > 0 ? min(request.getLength(), fileSize - offset) : fileSize - offset;
+
+            if (offset < 0 || length < 0) {
+                LOGGER.warn("Invalid range {}+{} of {} requested by {}", offset, request.getLength(), fileName, connection.getPeerName());
+                return;
+            }
+
+            ChunkCompressor chunkCompressor = createChunkCompressor(connection, file, fileName, offset, length);
+            boolean isZeroCopy = peerConfig.isZeroCopyTransferEnabled() && chunkCompressor == null;
 
-                connection.send(protobufMessage);
-                bytesSent += bytesRead;
+            // Chunk sized file regions are paced by the upload limit as well
+            if (uploadScheduler.isEnabled()) {
+                Upload upload = new Upload(connection, file, isZeroCopy ? fileChannel : null, fileName, fileSize, offset, length,
+                        chunkCompressor, diskIoExecutor, peerEventLoop);
+                fileChannel = isZeroCopy ? null : fileChannel;
+                peerEventLoop.execute(() -> uploadScheduler.submit(upload));
+                return;
+            }
+
+            // A file region leaves in one go, chunks let the upload limit pace it
+            if (isZeroCopy && !bandwidthLimiter.isLimited(Direction.UPLOAD, connection.getPeerName())) {
+                FileChannel regionChannel = fileChannel;
+                fileChannel = null;
+                peerEventLoop.execute(() -> sendFileRegion(connection, fileName, regionChannel, fileSize, offset, length));
+            } else {
+                FileChunkedInput chunkedInput = new FileChunkedInput(file, fileName, fileSize, offset, length,
+                        connection.getChunkSizeController(), chunkCompressor, diskIoExecutor, peerEventLoop,
+                        connection::resumeTransfer);
+                peerEventLoop.execute(() -> sendFileChunks(connection, fileName, chunkedInput));
             }
         } catch (IOException e) {
-            LOGGER.error("Error occurred while reading file {}", request.getFileName(), e);
+            LOGGER.error("Error occurred while reading file {}", fileName, e);
+        } finally {
+            closeFileChannel(fileName, fileChannel);
         }
     }
 
-    public void handleFileResponse(FileResponse response) {
-        String responseFileName = response.getFileName();
+    private static void closeFileChannel(String fileName, FileChannel fileChannel) {
+        if (fileChannel == null) {
+            return;
+        }
 
         try {
-            FileOutputStream fileOutputStream = fileNameToStreamMap.get(responseFileName);
+            fileChannel.close();
+        } catch (IOException e) {
+            LOGGER.error("Error occurred while closing file {}", fileName, e);
+        }
+    }
+
+    public void rechokeUploads() {
+        if (uploadScheduler.isEnabled()) {
+            uploadScheduler.rechoke();
+        }
+    }
 
-            if (fileOutputStream == null) {
-                fileOutputStream = new FileOutputStream("downloads/" + response.getFileName());
-                fileNameToStreamMap.put(responseFileName, fileOutputStream);
+    public void handleConnectionClosing(Connection connection) {
+        uploadScheduler.handleConnectionClosing(connection);
+    }
+
+    public void handleDeltaRequest(Connection connection, DeltaRequest request) {
+        EventExecutor diskIoExecutor = diskIoExecutorGroup.next();
+
+        diskIoExecutor.execute(() -> {
+            String fileName = request.getFileName();
+            Path path = SharedFileIndex.resolveSharedFile(fileName);
+
+            if (path == null || !DeltaChunkedInput.isValid(request)) {
+                LOGGER.warn("Invalid DeltaRequest for {} with blocks of {} bytes from {}", fileName, request.getBlockSize(),
+                        connection.getPeerName());
+                sendDeltaNotFound(connection, fileName);
+                return;
+            }
+
+            if (!Files.isRegularFile(path)) {
+                sendDeltaNotFound(connection, fileName);
+                return;
+            }
+
+            try {
+                DeltaChunkedInput chunkedInput = new DeltaChunkedInput(path, request, diskIoExecutor, connection::resumeTransfer);
+                peerEventLoop.execute(() -> connection.sendChunkedInput(chunkedInput, connection.nextDataLaneIndex()));
+                LOGGER.info("The delta of {} against {} blocks of {} bytes is being sent to {}", fileName, request.getWeakChecksumsCount(),
+                        request.getBlockSize(), connection.getPeerName());
+            } catch (IOException e) {
+                LOGGER.error("Error occurred while reading file {}", fileName, e);
+                sendDeltaNotFound(connection, fileName);
             }
+        });
+    }
+
+    private void sendDeltaNotFound(Connection connection, String fileName) {
+        var deltaResponse = DeltaResponse.newBuilder()
+                .setFileName(fileName)
+                .setFound(false)
+                .setIsLast(true)
+                .build();
+
+        var protobufMessage = ProtobufMessage.newBuilder()
+                .setDeltaResponse(deltaResponse)
+                .build();
 
-            fileOutputStream.write(response.getData().toByteArray());
+        peerEventLoop.execute(() -> connection.send(protobufMessage));
+    }
+
+    public void handleChunkListRequest(Connection connection, ChunkListRequest request) {
+        diskIoExecutorGroup.execute(() -> {
+            String fileName = request.getFileName();
+            Path path = SharedFileIndex.resolveSharedFile(fileName);
 
-            if (response.getIsLastChunk()) {
-                fileOutputStream.close();
-                fileNameToStreamMap.remove(responseFileName);
+            if (path == null || !Files.isRegularFile(path)) {
+                var chunkListResponse = ChunkListResponse.newBuilder()
+                        .setFileName(fileName)
+                        .setFound(false)
+                        .setIsLast(true)
+                        .build();
 
-                LOGGER.info("The file {} was saved successfully", responseFileName);
+                peerEventLoop.execute(() -> connection.send(ProtobufMessage.newBuilder().setChunkListResponse(chunkListResponse).build()));
+                return;
             }
 
-        } catch (IOException e) {
-            LOGGER.error("Error occurred while writing file {}", responseFileName, e);
+            try {
+                int numberOfChunks = sendChunkList(connection, fileName, path);
+                LOGGER.debug("A chunk list of {} with {} chunks was sent from {} to {}", fileName, numberOfChunks, peerConfig.getPeerName(),
+                        connection.getPeerName());
+            } catch (IOException e) {
+                LOGGER.error("Error occurred while reading file {}", fileName, e);
+            }
+        });
+    }
+
+    // Cuts the file with content-defined chunking and sends the chunk hashes in pages, the chunks are only read again when requested
+    private int sendChunkList(Connection connection, String fileName, Path path) throws IOException {
+        var chunkListResponseBuilder = ChunkListResponse.newBuilder().setFileName(fileName).setFound(true);
+        int numberOfChunks;
+
+        try (InputStream inputStream = Files.newInputStream(path)) {
+            numberOfChunks = ContentDefinedChunker.forEachChunk(inputStream, (buffer, position, offset, length) -> {
+                chunkListResponseBuilder.addChunks(ChunkEntry.newBuilder()
+                        .setHash(ChunkStore.hash(buffer, position, length))
+                        .setOffset(offset)
+                        .setLength(length));
+
+                if (chunkListResponseBuilder.getChunksCount() == MAX_CHUNKS_PER_CHUNK_LIST_RESPONSE) {
+                    sendChunkListResponse(connection, chunkListResponseBuilder.build());
+                    chunkListResponseBuilder.clearChunks();
+                }
+            });
         }
+
+        sendChunkListResponse(connection, chunkListResponseBuilder.setIsLast(true).build());
+
+        return numberOfChunks;
+    }
+
+    private void sendChunkListResponse(Connection connection, ChunkListResponse chunkListResponse) {
+        var protobufMessage = ProtobufMessage.newBuilder()
+                .setChunkListResponse(chunkListResponse)
+                .build();
+
+        peerEventLoop.execute(() -> connection.send(protobufMessage));
+    }
+
+    // A response without chunks tells the requester that they can't be read anymore
+    public void handleChunkRequest(Connection connection, ChunkRequest request) {
+        diskIoExecutorGroup.execute(() -> {
+            String fileName = request.getFileName();
+            Path path = SharedFileIndex.resolveSharedFile(fileName);
+            var chunkResponseBuilder = ChunkResponse.newBuilder().setFileName(fileName);
+
+            if (path != null && Files.isRegularFile(path) && isChunkRequestValid(request)) {
+                ByteString.Output data = ByteString.newOutput();
+
+                try (RandomAccessFile randomAccessFile = new RandomAccessFile(path.toFile(), "r")) {
+                    for (ChunkEntry chunk : request.getChunksList()) {
+                        byte[] content = new byte[chunk.getLength()];
+
+                        randomAccessFile.seek(chunk.getOffset());
+                        randomAccessFile.readFully(content);
+                        data.write(content, 0, content.length);
+                    }
+
+                    chunkResponseBuilder.addAllChunks(request.getChunksList()).setData(data.toByteString());
+                } catch (IOException e) {
+                    LOGGER.error("Error occurred while reading chunks of {}", fileName, e);
+                }
+            } else {
+                LOGGER.warn("Invalid ChunkRequest for {} with {} chunks from {}", fileName, request.getChunksCount(), connection.getPeerName());
+            }
+
+            var protobufMessage = ProtobufMessage.newBuilder()
+                    .setChunkResponse(chunkResponseBuilder.build())
+                    .build();
+
+            peerEventLoop.execute(() -> connection.send(protobufMessage, connection.nextDataLaneIndex()));
+        });
+    }
+
+    private boolean isChunkRequestValid(ChunkRequest request) {
+        long bytes = 0;
+
+        for (ChunkEntry chunk : request.getChunksList()) {
+            if (chunk.getOffset() < 0 || chunk.getLength() <= 0 || chunk.getLength() > ContentDefinedChunker.MAX_CHUNK_SIZE) {
+                return false;
+            }
+
+            bytes += chunk.getLength();
+        }
+
+        return bytes <= MAX_CHUNK_RESPONSE_SIZE;
+    }
+
+    // Compressed data has to pass through user space, so a sample of the range decides whether that beats a zero-copy transfer
+    private ChunkCompressor createChunkCompressor(Connection connection, File file, String fileName, long offset, long length) throws IOException {
+        if (peerConfig.getCompressionLevel() <= 0 || !connection.hasCapability(Capability.DEFLATE_PAYLOAD) || length == 0) {
+            return null;
+        }
+
+        ChunkCompressor chunkCompressor = new ChunkCompressor(fileName, peerConfig.getCompressionLevel());
+        byte[] sample = new byte[(int) min(ChunkCompressor.SAMPLE_SIZE, length)];
+
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r")) {
+            randomAccessFile.seek(offset);
+            randomAccessFile.readFully(sample);
+        }
+
+        return chunkCompressor.compress(sample, sample.length) != null ? chunkCompressor : null;
+    }
+
+    private void sendFileRegion(Connection connection, String fileName, FileChannel fileChannel, long fileSize, long offset, long length) {
+        var fileResponse = FileResponse.newBuilder()
+                .setFileName(fileName)
+                .setPayloadLength(length)
+                .setOffset(offset)
+                .setFileSize(fileSize)
+                .setIsLastChunk(true)
+                .build();
+
+        var protobufMessage = ProtobufMessage.newBuilder()
+                .setFileResponse(fileResponse)
+                .build();
+
+        int dataLaneIndex = connection.nextDataLaneIndex();
+
+        connection.write(protobufMessage, dataLaneIndex);
+        connection.sendFileRegion(new DefaultFileRegion(fileChannel, offset, length), dataLaneIndex);
+
+        LOGGER.debug("{} bytes of {} from offset {} are being sent to {} as a file region", length, fileName, offset, connection.getPeerName());
+    }
+
+    private void sendFileChunks(Connection connection, String fileName, FileChunkedInput chunkedInput) {
+        connection.sendChunkedInput(chunkedInput, connection.nextDataLaneIndex());
+        LOGGER.debug("{} bytes of {} are being sent to {} in chunks of {} bytes", chunkedInput.length(), fileName, connection.getPeerName(),
+                connection.getChunkSizeController().getChunkSize());
     }
 }
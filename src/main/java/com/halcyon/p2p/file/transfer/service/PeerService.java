@@ -2,18 +2,24 @@ package com.halcyon.p2p.file.transfer.service;
 
 import com.google.common.util.concurrent.SettableFuture;
 import com.halcyon.p2p.file.transfer.config.PeerConfig;
+import com.halcyon.p2p.file.transfer.network.BandwidthLimiter;
+import com.halcyon.p2p.file.transfer.network.BandwidthLimiter.Direction;
+import com.halcyon.p2p.file.transfer.network.DataLaneController;
 import com.halcyon.p2p.file.transfer.network.Peer;
 import com.halcyon.p2p.file.transfer.network.PeerChannelHandler;
 import com.halcyon.p2p.file.transfer.network.PeerChannelInitializer;
+import com.halcyon.p2p.file.transfer.network.Transport;
 import io.netty.bootstrap.ServerBootstrap;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoop;
 import io.netty.channel.EventLoopGroup;
-import io.netty.channel.nio.NioEventLoopGroup;
-import io.netty.channel.socket.nio.NioServerSocketChannel;
 import io.netty.handler.logging.LogLevel;
 import io.netty.handler.logging.LoggingHandler;
+import io.netty.util.concurrent.DefaultEventExecutorGroup;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import io.netty.util.concurrent.EventExecutorGroup;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -27,44 +33,81 @@ public class PeerService {
     private final int portToBind;
     private final Peer peer;
 
-    private final EventLoopGroup acceptorEventLoopGroup = new NioEventLoopGroup(1);
-    private final EventLoopGroup networkEventLoopGroup = new NioEventLoopGroup(6);
-    private final EventLoopGroup peerEventLoopGroup = new NioEventLoopGroup(1);
+    private final Transport transport;
+    private final EventLoopGroup acceptorEventLoopGroup;
+    private final EventLoopGroup networkEventLoopGroup;
+    private final EventLoopGroup peerEventLoopGroup;
+    private final EventLoop peerEventLoop;
+    private final EventExecutorGroup diskIoExecutorGroup;
+    private final BandwidthLimiter bandwidthLimiter;
 
     private Future<?> keepAliveFuture;
     private Future<?> timeoutPingsFuture;
+    private Future<?> rechokeUploadsFuture;
+    private Future<?> probeDataLanesFuture;
+    private Future<?> timeoutPieceRequestsFuture;
 
     public PeerService(PeerConfig peerConfig, int portToBind) {
         this.peerConfig = peerConfig;
         this.portToBind = portToBind;
+        this.transport = Transport.select(peerConfig);
+        this.acceptorEventLoopGroup = transport.newEventLoopGroup(transport.getNumberOfBindChannels(peerConfig), new DefaultThreadFactory("acceptor"));
+        this.networkEventLoopGroup = transport.newEventLoopGroup(peerConfig.getNetworkThreads(), new DefaultThreadFactory("network"));
+        this.peerEventLoopGroup = transport.newEventLoopGroup(peerConfig.getPeerThreads(), new DefaultThreadFactory("peer"));
+        this.peerEventLoop = peerEventLoopGroup.next();
+        this.diskIoExecutorGroup = new DefaultEventExecutorGroup(peerConfig.getDiskIoThreads(), new DefaultThreadFactory("disk-io"));
 
-        ConnectionService connectionService = new ConnectionService(peerConfig, networkEventLoopGroup, peerEventLoopGroup);
+        LOGGER.info("{} uses the {} transport with {} acceptor, {} network, {} peer and {} disk I/O threads", peerConfig.getPeerName(),
+                transport, transport.getNumberOfBindChannels(peerConfig), peerConfig.getNetworkThreads(), peerConfig.getPeerThreads(),
+                peerConfig.getDiskIoThreads());
+
+        this.bandwidthLimiter = new BandwidthLimiter(peerConfig);
+
+        ConnectionService connectionService = new ConnectionService(peerConfig, bandwidthLimiter, transport, networkEventLoopGroup,
+                peerEventLoopGroup, peerEventLoop);
         PingPongService pingPongService = new PingPongService(connectionService, peerConfig);
-        FileService fileService = new FileService(peerConfig, connectionService);
+        DownloadService downloadService = new DownloadService(peerConfig, connectionService, diskIoExecutorGroup, peerEventLoopGroup,
+                peerEventLoop);
+        SharedFileIndex sharedFileIndex = new SharedFileIndex(peerConfig, diskIoExecutorGroup, downloadService.getChunkStore());
+        FileService fileService = new FileService(peerConfig, bandwidthLimiter, downloadService, sharedFileIndex, diskIoExecutorGroup,
+                peerEventLoop);
+
+        downloadService.start();
+        sharedFileIndex.start();
 
-        this.peer = new Peer(peerConfig, connectionService, pingPongService, fileService);
+        this.peer = new Peer(peerConfig, connectionService, pingPongService, fileService, downloadService);
     }
 
     public void start() throws InterruptedException {
-        PeerChannelHandler peerChannelHandler = new PeerChannelHandler(peer);
-        PeerChannelInitializer peerChannelInitializer = new PeerChannelInitializer(peerConfig, peerEventLoopGroup, peerChannelHandler);
+        PeerChannelHandler peerChannelHandler = new PeerChannelHandler(peer, peerEventLoop);
+        PeerChannelInitializer peerChannelInitializer = new PeerChannelInitializer(peerConfig, bandwidthLimiter, peerEventLoopGroup,
+                peerChannelHandler);
 
         ServerBootstrap serverBootstrap = new ServerBootstrap();
         serverBootstrap.group(acceptorEventLoopGroup, networkEventLoopGroup)
-                .channel(NioServerSocketChannel.class)
+                .channel(transport.getServerChannelClass())
                 .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 10000)
                 .option(ChannelOption.SO_KEEPALIVE, true)
                 .option(ChannelOption.SO_BACKLOG, 100)
+                .childOption(ChannelOption.WRITE_BUFFER_WATER_MARK, peerConfig.getWriteBufferWaterMark())
                 .handler(new LoggingHandler(LogLevel.INFO))
                 .childHandler(peerChannelInitializer);
 
+        transport.configureServer(serverBootstrap, peerConfig);
+
         ChannelFuture bindFuture = serverBootstrap.bind(portToBind).sync();
         bindServerChannel(bindFuture);
+        bindReusePortChannels(serverBootstrap, bindFuture.channel());
 
         int initialDelay = Peer.RANDOM.nextInt(peerConfig.getKeepAlivePeriodSeconds());
 
-        this.keepAliveFuture = peerEventLoopGroup.scheduleAtFixedRate(peer::keepAlivePing, initialDelay, peerConfig.getKeepAlivePeriodSeconds(), TimeUnit.SECONDS);
-        this.timeoutPingsFuture = peerEventLoopGroup.scheduleAtFixedRate(peer::timeoutPings, 0, 100, TimeUnit.MILLISECONDS);
+        this.keepAliveFuture = peerEventLoop.scheduleAtFixedRate(peer::keepAlivePing, initialDelay, peerConfig.getKeepAlivePeriodSeconds(), TimeUnit.SECONDS);
+        this.timeoutPingsFuture = peerEventLoop.scheduleAtFixedRate(peer::timeoutPings, 0, 100, TimeUnit.MILLISECONDS);
+        this.rechokeUploadsFuture = peerEventLoop.scheduleAtFixedRate(peer::rechokeUploads, UploadScheduler.RECHOKE_PERIOD_SECONDS,
+                UploadScheduler.RECHOKE_PERIOD_SECONDS, TimeUnit.SECONDS);
+        this.probeDataLanesFuture = peerEventLoop.scheduleAtFixedRate(peer::probeDataLanes, DataLaneController.PROBE_PERIOD_SECONDS,
+                DataLaneController.PROBE_PERIOD_SECONDS, TimeUnit.SECONDS);
+        this.timeoutPieceRequestsFuture = peerEventLoop.scheduleAtFixedRate(peer::timeoutPieceRequests, 1, 1, TimeUnit.SECONDS);
     }
 
     private void bindServerChannel(ChannelFuture bindFuture) {
@@ -74,7 +117,7 @@ public class PeerService {
             Channel serverChannel = bindFuture.channel();
             SettableFuture<Void> setServerChannelFuture = SettableFuture.create();
 
-            peerEventLoopGroup.execute(() -> {
+            peerEventLoop.execute(() -> {
                 try {
                     peer.setBindChannel(serverChannel);
                     setServerChannelFuture.set(null);
@@ -91,6 +134,13 @@ public class PeerService {
         }
     }
 
+    private void bindReusePortChannels(ServerBootstrap serverBootstrap, Channel serverChannel) throws InterruptedException {
+        for (int i = 1; i < transport.getNumberOfBindChannels(peerConfig); i++) {
+            Channel reusePortChannel = serverBootstrap.bind(portToBind).sync().channel();
+            serverChannel.closeFuture().addListener(future -> reusePortChannel.close());
+        }
+    }
+
     private void handleChannelBinding(SettableFuture<Void> setServerChannelFuture) {
         try {
             setServerChannelFuture.get(10, TimeUnit.SECONDS);
@@ -111,17 +161,17 @@ public class PeerService {
 
     public CompletableFuture<Void> connect(String host, int port) {
         CompletableFuture<Void> connectToHostFuture = new CompletableFuture<>();
-        peerEventLoopGroup.execute(() -> peer.connectTo(host, port, connectToHostFuture));
+        peerEventLoop.execute(() -> peer.connectTo(host, port, connectToHostFuture));
         return connectToHostFuture;
     }
 
     public void disconnect(String peerName) {
-        peerEventLoopGroup.execute(() -> peer.disconnect(peerName));
+        peerEventLoop.execute(() -> peer.disconnect(peerName));
     }
 
     public CompletableFuture<Void> leave() {
         CompletableFuture<Void> future = new CompletableFuture<>();
-        peerEventLoopGroup.execute(() -> peer.leave(future));
+        peerEventLoop.execute(() -> peer.leave(future));
 
         if (keepAliveFuture != null && timeoutPingsFuture != null) {
             keepAliveFuture.cancel(false);
@@ -129,6 +179,15 @@ public class PeerService {
 
             timeoutPingsFuture.cancel(false);
             timeoutPingsFuture = null;
+
+            rechokeUploadsFuture.cancel(false);
+            rechokeUploadsFuture = null;
+
+            probeDataLanesFuture.cancel(false);
+            probeDataLanesFuture = null;
+
+            timeoutPieceRequestsFuture.cancel(false);
+            timeoutPieceRequestsFuture = null;
         }
 
         return future;
@@ -136,15 +195,34 @@ public class PeerService {
 
     public CompletableFuture<Collection<String>> ping() {
         CompletableFuture<Collection<String>> future = new CompletableFuture<>();
-        peerEventLoopGroup.execute(() -> peer.ping(future));
+        peerEventLoop.execute(() -> peer.ping(future));
         return future;
     }
 
-    public void sendGetFilesRequest(String peerName) {
-        peerEventLoopGroup.execute(() -> peer.sendGetFilesRequest(peerName));
+    public void sendGetFilesRequest(String peerName, String filter) {
+        peerEventLoop.execute(() -> peer.sendGetFilesRequest(peerName, filter));
+    }
+
+    public void download(String peerName, String fileName) {
+        peerEventLoop.execute(() -> peer.download(peerName, fileName));
+    }
+
+    public void swarmDownload(String fileName) {
+        peerEventLoop.execute(() -> peer.swarmDownload(fileName));
+    }
+
+    public void downloadDirectory(String peerName, String directoryName) {
+        peerEventLoop.execute(() -> peer.downloadDirectory(peerName, directoryName));
+    }
+
+    // The buckets are thread-safe, so a new rate applies right away on every channel
+    public void setBandwidthLimit(Direction direction, String peerName, int rate) {
+        bandwidthLimiter.setRate(direction, peerName, rate);
+        LOGGER.info("The {} limit {} is set to {} bytes/s", direction.name().toLowerCase(), peerName != null ? "of " + peerName : "of all peers",
+                rate);
     }
 
-    public void sendFileRequest(String peerName, String fileName) {
-        peerEventLoopGroup.execute(() -> peer.sendFileRequest(peerName, fileName));
+    public void logMessageStats() {
+        LOGGER.info("Messages handled by {} since start:{}", peerConfig.getPeerName(), peer.getMessageHandlerRegistry().getStats());
     }
 }
@@ -12,8 +12,10 @@ import org.slf4j.LoggerFactory;
 import java.net.InetSocketAddress;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import static com.halcyon.p2p.file.transfer.util.PingPongUtil.nextPing;
+import static java.lang.Math.max;
 
 public class PingPongService {
     private static final Logger LOGGER = LoggerFactory.getLogger(PingPongService.class);
@@ -132,7 +134,7 @@ public class PingPongService {
         }
     }
 
-    public void handlePong(PongMessage pong) {
+    public void handlePong(Connection connection, PongMessage pong) {
         if (pong.getPeerName().equals(peerConfig.getPeerName())) {
             LOGGER.warn("Received pong from itself");
             return;
@@ -141,6 +143,13 @@ public class PingPongService {
         String pingPeerName = pong.getPingPeerName();
         PingContext pingContext = peerNameToPingContextMap.get(pingPeerName);
 
+        // A neighbour answering our own ping directly measures the round trip of its connection
+        if (pingContext != null && pingPeerName.equals(peerConfig.getPeerName()) && pong.getPeerName().equals(connection.getPeerName())
+                && connection.getChunkSizeController() != null) {
+            long roundTripMillis = System.currentTimeMillis() - pingContext.getPing().getPingStartTimestamp();
+            connection.getChunkSizeController().handleRoundTrip(TimeUnit.MILLISECONDS.toNanos(max(roundTripMillis, 0)));
+        }
+
         if (pingContext != null) {
             pingContext.handlePong(peerConfig.getPeerName(), pong);
         } else {
@@ -0,0 +1,390 @@
+package com.halcyon.p2p.file.transfer.service;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.protobuf.ByteString;
+import com.halcyon.p2p.file.transfer.config.PeerConfig;
+import com.halcyon.p2p.file.transfer.proto.Index.IndexedFile;
+import com.halcyon.p2p.file.transfer.proto.Index.SharedDirectoryIndex;
+import com.halcyon.p2p.file.transfer.util.MerkleTreeUtil;
+import com.halcyon.p2p.file.transfer.util.PathUtil;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.EventExecutorGroup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static java.lang.Math.min;
+
+// Hashes are kept per shared file at the configured piece size and persisted, so a restart only rehashes changed files.
+// Files anywhere in the tree are named by their path relative to the shared directory.
+public class SharedFileIndex {
+    private static final Logger LOGGER = LoggerFactory.getLogger(SharedFileIndex.class);
+
+    private static final Path SHARED_DIRECTORY = Path.of("shared_directory");
+    private static final Path INDEX_PATH = Path.of("shared_directory.index");
+    private static final int HASH_BUFFER_SIZE = 1024 * 1024;
+    private static final long WATCH_EVENT_DELAY_MILLIS = 500;
+
+    private final PeerConfig peerConfig;
+    private final EventExecutorGroup diskIoExecutorGroup;
+    private final EventExecutor indexExecutor;
+    private final ChunkStore chunkStore;
+
+    private final Map<String, IndexedFile> fileNameToIndexedFileMap = new ConcurrentHashMap<>();
+    private final Map<WatchKey, Path> watchKeyToDirectoryMap = new ConcurrentHashMap<>();
+    private final Set<String> pendingFileNames = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean publishScheduled = new AtomicBoolean();
+    private final AtomicBoolean saveScheduled = new AtomicBoolean();
+
+    private volatile List<IndexedFile> snapshot = List.of();
+
+    public SharedFileIndex(PeerConfig peerConfig, EventExecutorGroup diskIoExecutorGroup, ChunkStore chunkStore) {
+        this.peerConfig = peerConfig;
+        this.diskIoExecutorGroup = diskIoExecutorGroup;
+        this.indexExecutor = diskIoExecutorGroup.next();
+        this.chunkStore = chunkStore;
+    }
+
+    public void start() {
+        try {
+            Files.createDirectories(SHARED_DIRECTORY);
+        } catch (IOException e) {
+            LOGGER.error("Error occurred while creating {}", SHARED_DIRECTORY, e);
+            return;
+        }
+
+        loadIndex();
+        startWatcher();
+        scan(SHARED_DIRECTORY);
+    }
+
+    public static Path resolveSharedFile(String fileName) {
+        return PathUtil.resolve(SHARED_DIRECTORY, fileName);
+    }
+
+    private void loadIndex() {
+        if (!Files.exists(INDEX_PATH)) {
+            return;
+        }
+
+        try (InputStream inputStream = Files.newInputStream(INDEX_PATH)) {
+            for (IndexedFile indexedFile : SharedDirectoryIndex.parseFrom(inputStream).getFilesList()) {
+                fileNameToIndexedFileMap.put(indexedFile.getFileName(), indexedFile);
+            }
+
+            publish(false);
+            LOGGER.info("{} files were loaded from the index {}", fileNameToIndexedFileMap.size(), INDEX_PATH);
+        } catch (IOException e) {
+            LOGGER.warn("The index {} can't be read, all shared files will be rehashed", INDEX_PATH, e);
+        }
+    }
+
+    // Indexed names under a directory that is gone or no longer holds them are rescheduled too, so indexFile drops them
+    private void scan(Path directory) {
+        String prefix = directory.equals(SHARED_DIRECTORY) ? "" : PathUtil.toFileName(SHARED_DIRECTORY, directory) + "/";
+        Set<String> existingFileNames = new HashSet<>();
+
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.filter(Files::isRegularFile).forEach(path -> existingFileNames.add(PathUtil.toFileName(SHARED_DIRECTORY, path)));
+        } catch (NoSuchFileException e) {
+            LOGGER.debug("{} was removed while being scanned", directory);
+        } catch (IOException | UncheckedIOException e) {
+            LOGGER.error("Error occurred while scanning {}", directory, e);
+        }
+
+        for (String fileName : fileNameToIndexedFileMap.keySet()) {
+            if (fileName.startsWith(prefix) && !existingFileNames.contains(fileName)) {
+                scheduleIndexing(fileName, 0);
+            }
+        }
+
+        for (String fileName : existingFileNames) {
+            scheduleIndexing(fileName, 0);
+        }
+    }
+
+    private void startWatcher() {
+        WatchService watchService;
+
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+        } catch (IOException e) {
+            LOGGER.error("Error occurred while watching {}, changes will not be indexed", SHARED_DIRECTORY, e);
+            return;
+        }
+
+        registerDirectories(watchService, SHARED_DIRECTORY);
+        new DefaultThreadFactory("shared-directory-watcher", true).newThread(() -> watch(watchService)).start();
+    }
+
+    // A WatchService only reports direct children, so every directory of the tree gets its own key
+    private void registerDirectories(WatchService watchService, Path directory) {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.filter(Files::isDirectory).forEach(path -> registerDirectory(watchService, path));
+        } catch (IOException | UncheckedIOException e) {
+            LOGGER.error("Error occurred while watching {}, changes will not be indexed until restart", directory, e);
+        }
+    }
+
+    private void registerDirectory(WatchService watchService, Path directory) {
+        try {
+            WatchKey watchKey = directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY,
+                    StandardWatchEventKinds.ENTRY_DELETE);
+            watchKeyToDirectoryMap.put(watchKey, directory);
+        } catch (IOException e) {
+            LOGGER.warn("Error occurred while watching {}, changes will not be indexed until restart", directory, e);
+        }
+    }
+
+    private void watch(WatchService watchService) {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                WatchKey watchKey = watchService.take();
+                Path directory = watchKeyToDirectoryMap.get(watchKey);
+
+                for (WatchEvent<?> event : watchKey.pollEvents()) {
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW || directory == null) {
+                        scan(SHARED_DIRECTORY);
+                        continue;
+                    }
+
+                    Path path = directory.resolve((Path) event.context());
+
+                    if (Files.isDirectory(path)) {
+                        if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE) {
+                            registerDirectories(watchService, path);
+                        }
+
+                        scan(path);
+                    } else {
+                        scheduleIndexing(PathUtil.toFileName(SHARED_DIRECTORY, path), WATCH_EVENT_DELAY_MILLIS);
+
+                        if (event.kind() == StandardWatchEventKinds.ENTRY_DELETE) {
+                            scan(path);
+                        }
+                    }
+                }
+
+                if (!watchKey.reset()) {
+                    watchKeyToDirectoryMap.remove(watchKey);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void scheduleIndexing(String fileName, long delayMillis) {
+        if (pendingFileNames.add(fileName)) {
+            diskIoExecutorGroup.schedule(() -> indexFile(fileName), delayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void indexFile(String fileName) {
+        pendingFileNames.remove(fileName);
+
+        File file = SHARED_DIRECTORY.resolve(fileName).toFile();
+
+        if (!file.isFile()) {
+            chunkStore.removeFile(file.toPath());
+
+            if (fileNameToIndexedFileMap.remove(fileName) != null) {
+                LOGGER.debug("{} was removed from the index", fileName);
+                schedulePublish();
+            }
+
+            return;
+        }
+
+        IndexedFile indexedFile = fileNameToIndexedFileMap.get(fileName);
+
+        if (indexedFile != null && isCurrent(indexedFile, file, peerConfig.getPieceSize())) {
+            indexChunks(file);
+            return;
+        }
+
+        try {
+            indexedFile = hashFile(fileName, file, peerConfig.getPieceSize());
+        } catch (IOException e) {
+            LOGGER.error("Error occurred while hashing file {}", fileName, e);
+            return;
+        }
+
+        if (isCurrent(indexedFile, file, peerConfig.getPieceSize())) {
+            fileNameToIndexedFileMap.put(fileName, indexedFile);
+            LOGGER.debug("{} with {} bytes was indexed", fileName, indexedFile.getFileSize());
+            schedulePublish();
+            indexChunks(file);
+        } else {
+            scheduleIndexing(fileName, WATCH_EVENT_DELAY_MILLIS);
+        }
+    }
+
+    // Chunk references only live in memory, so unchanged files are indexed in the chunk store after a restart too; the chunk store
+    // skips files it has already indexed at their current size and modification time
+    private void indexChunks(File file) {
+        if (!peerConfig.isChunkStoreEnabled()) {
+            return;
+        }
+
+        try {
+            chunkStore.indexFile(file.toPath());
+        } catch (IOException e) {
+            LOGGER.warn("Error occurred while indexing the chunks of {}", file, e);
+        }
+    }
+
+    // Changes to a large tree arrive file by file, so they are sorted into one snapshot per batch rather than per file
+    private void schedulePublish() {
+        if (publishScheduled.compareAndSet(false, true)) {
+            indexExecutor.execute(() -> {
+                publishScheduled.set(false);
+                publish(true);
+                LOGGER.info("The index of {} was updated and has {} files", SHARED_DIRECTORY, snapshot.size());
+            });
+        }
+    }
+
+    private synchronized void publish(boolean save) {
+        List<IndexedFile> indexedFiles = new ArrayList<>(fileNameToIndexedFileMap.values());
+        indexedFiles.sort(Comparator.comparing(IndexedFile::getFileName));
+        snapshot = Collections.unmodifiableList(indexedFiles);
+
+        if (save && saveScheduled.compareAndSet(false, true)) {
+            indexExecutor.execute(this::saveIndex);
+        }
+    }
+
+    private void saveIndex() {
+        saveScheduled.set(false);
+
+        SharedDirectoryIndex index = SharedDirectoryIndex.newBuilder()
+                .addAllFiles(snapshot)
+                .build();
+
+        try {
+            Path temporaryIndexPath = INDEX_PATH.resolveSibling(INDEX_PATH.getFileName() + ".tmp");
+            Files.write(temporaryIndexPath, index.toByteArray());
+            Files.move(temporaryIndexPath, INDEX_PATH, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LOGGER.error("Error occurred while saving the index {}", INDEX_PATH, e);
+        }
+    }
+
+    public List<IndexedFile> getFiles() {
+        return snapshot;
+    }
+
+    public List<IndexedFile> getFiles(String prefix, PathMatcher globMatcher, String cursor, int limit) {
+        return getFiles(snapshot, prefix, globMatcher, cursor, limit);
+    }
+
+    // Names are sorted, so the page starts with a binary search and the prefix range ends at the first name without it
+    @VisibleForTesting
+    static List<IndexedFile> getFiles(List<IndexedFile> indexedFiles, String prefix, PathMatcher globMatcher, String cursor, int limit) {
+        List<IndexedFile> page = new ArrayList<>(min(limit, indexedFiles.size()));
+        String startName = cursor.compareTo(prefix) >= 0 ? cursor + '\0' : prefix;
+
+        for (int i = findFirstIndex(indexedFiles, startName); i < indexedFiles.size() && page.size() < limit; i++) {
+            IndexedFile indexedFile = indexedFiles.get(i);
+
+            if (!indexedFile.getFileName().startsWith(prefix)) {
+                break;
+            }
+
+            if (globMatcher == null || globMatcher.matches(Path.of(indexedFile.getFileName()))) {
+                page.add(indexedFile);
+            }
+        }
+
+        return page;
+    }
+
+    private static int findFirstIndex(List<IndexedFile> indexedFiles, String fileName) {
+        int low = 0;
+        int high = indexedFiles.size();
+
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+
+            if (indexedFiles.get(middle).getFileName().compareTo(fileName) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        return low;
+    }
+
+    // Falls back to hashing on the calling thread when the file is not indexed yet or another piece size is asked for
+    public IndexedFile getIndexedFile(String fileName, File file, int pieceSize) throws IOException {
+        IndexedFile indexedFile = fileNameToIndexedFileMap.get(fileName);
+
+        if (indexedFile != null && isCurrent(indexedFile, file, pieceSize)) {
+            return indexedFile;
+        }
+
+        return hashFile(fileName, file, pieceSize);
+    }
+
+    private static boolean isCurrent(IndexedFile indexedFile, File file, int pieceSize) {
+        return indexedFile.getFileSize() == file.length() && indexedFile.getLastModified() == file.lastModified()
+                && indexedFile.getPieceSize() == pieceSize;
+    }
+
+    public static IndexedFile hashFile(String fileName, File file, int pieceSize) throws IOException {
+        long fileSize = file.length();
+        long lastModified = file.lastModified();
+
+        Hasher fileHasher = Hashing.sha256().newHasher();
+        List<ByteString> pieceHashes = new ArrayList<>();
+
+        try (FileChannel fileChannel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(pieceSize > 0 ? pieceSize : HASH_BUFFER_SIZE);
+
+            for (long position = 0; position < fileSize; position += buffer.limit()) {
+                buffer.clear().limit((int) min(buffer.capacity(), fileSize - position));
+
+                while (buffer.hasRemaining()) {
+                    if (fileChannel.read(buffer, position + buffer.position()) < 0) {
+                        throw new EOFException("File " + fileName + " was truncated while hashing");
+                    }
+                }
+
+                buffer.flip();
+                fileHasher.putBytes(buffer.duplicate());
+
+                if (pieceSize > 0) {
+                    pieceHashes.add(ByteString.copyFrom(MerkleTreeUtil.getHashFunction().hashBytes(buffer).asBytes()));
+                }
+            }
+        }
+
+        return IndexedFile.newBuilder()
+                .setFileName(fileName)
+                .setFileSize(fileSize)
+                .setLastModified(lastModified)
+                .setContentHash(ByteString.copyFrom(fileHasher.hash().asBytes()))
+                .setPieceSize(pieceSize)
+                .addAllPieceHashes(pieceHashes)
+                .setMerkleRoot(MerkleTreeUtil.computeRoot(pieceHashes))
+                .build();
+    }
+}
@@ -0,0 +1,190 @@
+package com.halcyon.p2p.file.transfer.service;
+
+import com.halcyon.p2p.file.transfer.network.Connection;
+import com.halcyon.p2p.file.transfer.network.FileData;
+import com.halcyon.p2p.file.transfer.proto.File.FileResponse;
+import com.halcyon.p2p.file.transfer.proto.General.ProtobufMessage;
+import io.netty.channel.DefaultFileRegion;
+import io.netty.channel.EventLoop;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.Promise;
+import io.netty.util.concurrent.PromiseNotifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+
+// A FileRequest served chunk by chunk by the UploadScheduler. A chunk is either a region of the file channel opened for the request
+// or read and compressed on the disk I/O executor, which runs the reads of one upload in order. Either way it is written to the lane
+// on the peer event loop, so that no chunk of another upload on the same lane gets between a region and its header.
+public class Upload {
+    private static final Logger LOGGER = LoggerFactory.getLogger(Upload.class);
+
+    private final Connection connection;
+    private final File file;
+    private final String fileName;
+    private final long fileSize;
+    private final long offset;
+    private final long length;
+    private final ChunkCompressor chunkCompressor;
+    // Only set for zero-copy uploads, its regions don't close it
+    private final FileChannel fileChannel;
+    private final boolean isZeroCopy;
+    private final EventExecutor diskIoExecutor;
+    private final EventLoop peerEventLoop;
+    private final int dataLaneIndex;
+
+    private RandomAccessFile randomAccessFile;
+    private long bytesScheduled;
+
+    // Takes ownership of the file channel, a zero-copy upload is one with a file channel
+    public Upload(Connection connection, File file, FileChannel fileChannel, String fileName, long fileSize, long offset, long length,
+                  ChunkCompressor chunkCompressor, EventExecutor diskIoExecutor, EventLoop peerEventLoop) {
+        this.connection = connection;
+        this.file = file;
+        this.fileChannel = fileChannel;
+        this.fileName = fileName;
+        this.fileSize = fileSize;
+        this.offset = offset;
+        this.length = length;
+        this.chunkCompressor = chunkCompressor;
+        this.isZeroCopy = fileChannel != null;
+        this.diskIoExecutor = diskIoExecutor;
+        this.peerEventLoop = peerEventLoop;
+        this.dataLaneIndex = connection.nextDataLaneIndex();
+    }
+
+    // Called on the peer event loop, the returned future completes once the chunk is written to the socket
+    public Future<?> sendChunk(int chunkLength) {
+        long chunkOffset = offset + bytesScheduled;
+
+        bytesScheduled += chunkLength;
+        boolean isLastChunk = bytesScheduled == length;
+
+        if (isZeroCopy) {
+            connection.write(createFileRegionHeader(chunkOffset, chunkLength, isLastChunk), dataLaneIndex);
+            Future<?> future = connection.sendFileRegion(new SharedFileRegion(fileChannel, chunkOffset, chunkLength), dataLaneIndex);
+
+            if (isLastChunk) {
+                future.addListener(ignored -> closeFileChannel());
+            }
+
+            return future;
+        }
+
+        Promise<Void> promise = peerEventLoop.newPromise();
+
+        diskIoExecutor.execute(() -> {
+            try {
+                FileData chunk = readChunk(chunkOffset, chunkLength, isLastChunk);
+                peerEventLoop.execute(() -> PromiseNotifier.cascade(connection.sendFileData(chunk, dataLaneIndex), promise));
+            } catch (IOException e) {
+                promise.setFailure(e);
+            }
+        });
+
+        return promise;
+    }
+
+    private ProtobufMessage createFileRegionHeader(long chunkOffset, int chunkLength, boolean isLastChunk) {
+        var fileResponse = FileResponse.newBuilder()
+                .setFileName(fileName)
+                .setPayloadLength(chunkLength)
+                .setOffset(chunkOffset)
+                .setFileSize(fileSize)
+                .setIsLastChunk(isLastChunk)
+                .build();
+
+        return ProtobufMessage.newBuilder()
+                .setFileResponse(fileResponse)
+                .build();
+    }
+
+    private FileData readChunk(long chunkOffset, int chunkLength, boolean isLastChunk) throws IOException {
+        if (randomAccessFile == null) {
+            randomAccessFile = new RandomAccessFile(file, "r");
+        }
+
+        try {
+            return FileChunkedInput.readChunk(randomAccessFile, fileName, fileSize, chunkOffset, chunkLength, isLastChunk, chunkCompressor);
+        } finally {
+            if (isLastChunk) {
+                closeFile();
+            }
+        }
+    }
+
+    public void close() {
+        if (isZeroCopy) {
+            closeFileChannel();
+        } else {
+            diskIoExecutor.execute(this::closeFile);
+        }
+    }
+
+    private void closeFileChannel() {
+        try {
+            fileChannel.close();
+        } catch (IOException e) {
+            LOGGER.error("Error occurred while closing file {}", fileName, e);
+        }
+    }
+
+    private void closeFile() {
+        if (randomAccessFile == null) {
+            return;
+        }
+
+        try {
+            randomAccessFile.close();
+        } catch (IOException e) {
+            LOGGER.error("Error occurred while closing file {}", fileName, e);
+        }
+
+        randomAccessFile = null;
+    }
+
+    public Connection getConnection() {
+        return connection;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public long getRemaining() {
+        return length - bytesScheduled;
+    }
+
+    public boolean isCompleted() {
+        return bytesScheduled == length;
+    }
+
+    @Override
+    public String toString() {
+        return "Upload{" +
+                "fileName='" + fileName + '\'' +
+                ", peerName='" + connection.getPeerName() + '\'' +
+                ", offset=" + offset +
+                ", length=" + length +
+                ", bytesScheduled=" + bytesScheduled +
+                ", isZeroCopy=" + isZeroCopy +
+                ", dataLaneIndex=" + dataLaneIndex +
+                '}';
+    }
+
+    // The chunks of an upload are regions of the same channel, which is closed with the upload rather than with each region
+    private static class SharedFileRegion extends DefaultFileRegion {
+        SharedFileRegion(FileChannel fileChannel, long position, long count) {
+            super(fileChannel, position, count);
+        }
+
+        @Override
+        protected void deallocate() {
+        }
+    }
+}
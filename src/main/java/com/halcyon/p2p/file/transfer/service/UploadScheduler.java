@@ -0,0 +1,347 @@
+package com.halcyon.p2p.file.transfer.service;
+
+import com.halcyon.p2p.file.transfer.config.PeerConfig;
+import com.halcyon.p2p.file.transfer.network.Connection;
+import io.netty.channel.EventLoop;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+import java.util.function.LongSupplier;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+
+// Serves FileRequests through a fixed number of upload slots. The peers holding a slot take turns in deficit round robin with a
+// quantum of maxChunkSize bytes, so each of them gets the same share of the upload no matter how many requests it queues up.
+// Every RECHOKE_PERIOD_SECONDS the slots go tit-for-tat to the peers that sent us the most file data, ties going to the peers that
+// got the least from us, and one optimistic slot rotates among the waiting peers so that newcomers get a chance to reciprocate.
+// A slot is given up once everything its peer asked for is written. Runs on the peer event loop.
+public class UploadScheduler {
+    private static final Logger LOGGER = LoggerFactory.getLogger(UploadScheduler.class);
+
+    public static final int RECHOKE_PERIOD_SECONDS = 10;
+    private static final int OPTIMISTIC_UNCHOKE_ROUNDS = 3;
+    private static final int MAX_PEER_QUANTA_IN_FLIGHT = 2;
+
+    private final PeerConfig peerConfig;
+    private final EventLoop peerEventLoop;
+    private final LongSupplier nanoClock;
+
+    private final Map<String, UploadPeer> peerNameToUploadPeerMap = new HashMap<>();
+    private final Set<UploadPeer> unchokedPeers = new LinkedHashSet<>();
+    // Unchoked peers with queued uploads in the order of their turns
+    private final Deque<UploadPeer> activePeers = new ArrayDeque<>();
+    private UploadPeer optimisticPeer;
+    private long bytesInFlight;
+    private int rechokeRound;
+
+    public UploadScheduler(PeerConfig peerConfig, EventLoop peerEventLoop) {
+        this(peerConfig, peerEventLoop, System::nanoTime);
+    }
+
+    UploadScheduler(PeerConfig peerConfig, EventLoop peerEventLoop, LongSupplier nanoClock) {
+        this.peerConfig = peerConfig;
+        this.peerEventLoop = peerEventLoop;
+        this.nanoClock = nanoClock;
+    }
+
+    public boolean isEnabled() {
+        return peerConfig.getUploadSlots() > 0;
+    }
+
+    public void submit(Upload upload) {
+        Connection connection = upload.getConnection();
+
+        if (!connection.isOpen()) {
+            LOGGER.warn("Upload of {} is dropped because {} is closed", upload.getFileName(), connection);
+            upload.close();
+            return;
+        }
+
+        UploadPeer uploadPeer = peerNameToUploadPeerMap.computeIfAbsent(connection.getPeerName(), peerName -> new UploadPeer(connection));
+
+        if (!uploadPeer.isInterested()) {
+            uploadPeer.waitingSinceNanos = nanoClock.getAsLong();
+        }
+
+        uploadPeer.uploads.addLast(upload);
+        LOGGER.debug("Upload of {} to {} is queued, {} uploads are waiting for it", upload.getFileName(), connection.getPeerName(),
+                uploadPeer.uploads.size());
+
+        if (uploadPeer.isChoked) {
+            fillFreeSlots();
+        } else if (!activePeers.contains(uploadPeer)) {
+            activePeers.addLast(uploadPeer);
+        }
+
+        schedule();
+    }
+
+    public void rechoke() {
+        rechokeRound++;
+
+        List<UploadPeer> interestedPeers = new ArrayList<>();
+
+        for (UploadPeer uploadPeer : peerNameToUploadPeerMap.values()) {
+            long fileDataReceived = uploadPeer.connection.getFileDataReceived();
+
+            uploadPeer.bytesReceivedInPeriod = fileDataReceived - uploadPeer.fileDataReceived;
+            uploadPeer.fileDataReceived = fileDataReceived;
+
+            if (uploadPeer.isInterested()) {
+                interestedPeers.add(uploadPeer);
+            }
+        }
+
+        int uploadSlots = peerConfig.getUploadSlots();
+
+        if (interestedPeers.size() > uploadSlots) {
+            interestedPeers.sort(Comparator.comparingLong((UploadPeer uploadPeer) -> -uploadPeer.bytesReceivedInPeriod)
+                    .thenComparingLong(uploadPeer -> uploadPeer.bytesSentInPeriod));
+
+            int regularSlots = uploadSlots > 1 ? uploadSlots - 1 : uploadSlots;
+            Set<UploadPeer> selectedPeers = new LinkedHashSet<>(interestedPeers.subList(0, regularSlots));
+
+            if (regularSlots < uploadSlots) {
+                selectedPeers.add(selectOptimisticPeer(interestedPeers, selectedPeers));
+            }
+
+            List<UploadPeer> chokedPeers = new ArrayList<>();
+
+            for (UploadPeer uploadPeer : new ArrayList<>(unchokedPeers)) {
+                if (!selectedPeers.contains(uploadPeer)) {
+                    choke(uploadPeer);
+                    chokedPeers.add(uploadPeer);
+                }
+            }
+
+            List<UploadPeer> newlyUnchokedPeers = new ArrayList<>();
+
+            for (UploadPeer uploadPeer : selectedPeers) {
+                if (uploadPeer.isChoked) {
+                    unchoke(uploadPeer);
+                    newlyUnchokedPeers.add(uploadPeer);
+                }
+            }
+
+            if (!chokedPeers.isEmpty() || !newlyUnchokedPeers.isEmpty()) {
+                LOGGER.info("Upload slots moved from {} to {}, optimistic slot is held by {}", chokedPeers, newlyUnchokedPeers,
+                        optimisticPeer);
+            }
+        } else {
+            fillFreeSlots();
+        }
+
+        for (UploadPeer uploadPeer : peerNameToUploadPeerMap.values()) {
+            uploadPeer.bytesSentInPeriod = 0;
+        }
+
+        schedule();
+    }
+
+    private UploadPeer selectOptimisticPeer(List<UploadPeer> interestedPeers, Set<UploadPeer> selectedPeers) {
+        boolean isRotationDue = rechokeRound % OPTIMISTIC_UNCHOKE_ROUNDS == 0;
+
+        if (!isRotationDue && optimisticPeer != null && optimisticPeer.isInterested() && !selectedPeers.contains(optimisticPeer)) {
+            return optimisticPeer;
+        }
+
+        UploadPeer longestWaitingPeer = null;
+
+        for (UploadPeer uploadPeer : interestedPeers) {
+            if (!selectedPeers.contains(uploadPeer) && uploadPeer.isChoked
+                    && (longestWaitingPeer == null || uploadPeer.waitingSinceNanos < longestWaitingPeer.waitingSinceNanos)) {
+                longestWaitingPeer = uploadPeer;
+            }
+        }
+
+        // Every other interested peer already holds a slot, so the current optimistic one keeps it
+        if (longestWaitingPeer == null) {
+            for (UploadPeer uploadPeer : interestedPeers) {
+                if (!selectedPeers.contains(uploadPeer)) {
+                    longestWaitingPeer = uploadPeer;
+                    break;
+                }
+            }
+        }
+
+        optimisticPeer = longestWaitingPeer;
+        return optimisticPeer;
+    }
+
+    public void handleConnectionClosing(Connection connection) {
+        UploadPeer uploadPeer = peerNameToUploadPeerMap.get(connection.getPeerName());
+
+        if (uploadPeer == null || uploadPeer.connection != connection) {
+            return;
+        }
+
+        peerNameToUploadPeerMap.remove(connection.getPeerName());
+        unchokedPeers.remove(uploadPeer);
+        activePeers.remove(uploadPeer);
+
+        if (uploadPeer == optimisticPeer) {
+            optimisticPeer = null;
+        }
+
+        for (Upload upload : uploadPeer.uploads) {
+            upload.close();
+        }
+
+        if (!uploadPeer.uploads.isEmpty()) {
+            LOGGER.info("{} uploads to {} are cancelled because the connection is closed", uploadPeer.uploads.size(), connection.getPeerName());
+            uploadPeer.uploads.clear();
+        }
+
+        fillFreeSlots();
+        schedule();
+    }
+
+    private void fillFreeSlots() {
+        while (unchokedPeers.size() < peerConfig.getUploadSlots()) {
+            UploadPeer longestWaitingPeer = null;
+
+            for (UploadPeer uploadPeer : peerNameToUploadPeerMap.values()) {
+                if (uploadPeer.isChoked && uploadPeer.isInterested()
+                        && (longestWaitingPeer == null || uploadPeer.waitingSinceNanos < longestWaitingPeer.waitingSinceNanos)) {
+                    longestWaitingPeer = uploadPeer;
+                }
+            }
+
+            if (longestWaitingPeer == null) {
+                return;
+            }
+
+            unchoke(longestWaitingPeer);
+            LOGGER.debug("A free upload slot is given to {}", longestWaitingPeer);
+        }
+    }
+
+    private void unchoke(UploadPeer uploadPeer) {
+        uploadPeer.isChoked = false;
+        unchokedPeers.add(uploadPeer);
+        activePeers.addLast(uploadPeer);
+    }
+
+    private void choke(UploadPeer uploadPeer) {
+        uploadPeer.isChoked = true;
+        uploadPeer.deficit = 0;
+        uploadPeer.waitingSinceNanos = nanoClock.getAsLong();
+        unchokedPeers.remove(uploadPeer);
+        activePeers.remove(uploadPeer);
+    }
+
+    // The head of activePeers sends while its deficit covers the next chunk and then goes to the back. Fast peers are bounded by
+    // the bytes in flight, both in total and per peer, so each completed chunk hands the freed budget to the next turn.
+    private void schedule() {
+        int quantum = peerConfig.getMaxChunkSize();
+        long maxBytesInFlight = (long) peerConfig.getUploadSlots() * quantum;
+        int numberOfBlockedPeers = 0;
+
+        while (!activePeers.isEmpty() && numberOfBlockedPeers < activePeers.size()) {
+            UploadPeer uploadPeer = activePeers.peekFirst();
+            int chunkLength = uploadPeer.getNextChunkLength();
+
+            if (bytesInFlight > 0 && bytesInFlight + chunkLength > maxBytesInFlight) {
+                return;
+            }
+
+            if (uploadPeer.bytesInFlight > 0 && uploadPeer.bytesInFlight + chunkLength > uploadPeer.getMaxBytesInFlight(quantum)) {
+                activePeers.addLast(activePeers.pollFirst());
+                numberOfBlockedPeers++;
+                continue;
+            }
+
+            if (uploadPeer.deficit < chunkLength) {
+                uploadPeer.deficit += quantum;
+            }
+
+            sendChunk(uploadPeer, chunkLength);
+            numberOfBlockedPeers = 0;
+
+            if (!uploadPeer.isInterested()) {
+                activePeers.pollFirst();
+            } else if (uploadPeer.deficit < uploadPeer.getNextChunkLength()) {
+                activePeers.addLast(activePeers.pollFirst());
+            }
+        }
+    }
+
+    private void sendChunk(UploadPeer uploadPeer, int chunkLength) {
+        Upload upload = uploadPeer.uploads.peekFirst();
+
+        uploadPeer.deficit -= chunkLength;
+        uploadPeer.bytesInFlight += chunkLength;
+        bytesInFlight += chunkLength;
+
+        upload.sendChunk(chunkLength)
+                .addListener(future -> peerEventLoop.execute(() -> handleChunkSent(uploadPeer, upload, chunkLength, future.cause())));
+
+        if (upload.isCompleted()) {
+            uploadPeer.uploads.pollFirst();
+            LOGGER.debug("Last chunk of {} is scheduled", upload);
+        }
+    }
+
+    private void handleChunkSent(UploadPeer uploadPeer, Upload upload, int chunkLength, Throwable cause) {
+        uploadPeer.bytesInFlight -= chunkLength;
+        bytesInFlight -= chunkLength;
+
+        if (cause == null) {
+            uploadPeer.bytesSentInPeriod += chunkLength;
+            uploadPeer.connection.getChunkSizeController().handleChunkSent(chunkLength);
+        } else if (uploadPeer.connection.isOpen() && uploadPeer.uploads.remove(upload)) {
+            LOGGER.error("Error occurred while sending {}", upload, cause);
+            upload.close();
+
+            // The other uploads of the peer keep its turn
+            if (!uploadPeer.isInterested()) {
+                activePeers.remove(uploadPeer);
+            }
+        }
+
+        if (!uploadPeer.isChoked && !uploadPeer.isInterested() && uploadPeer.bytesInFlight == 0) {
+            choke(uploadPeer);
+            fillFreeSlots();
+        }
+
+        schedule();
+    }
+
+    private static class UploadPeer {
+        private final Connection connection;
+        private final Deque<Upload> uploads = new ArrayDeque<>();
+
+        private boolean isChoked = true;
+        private long waitingSinceNanos;
+        private long deficit;
+        private long bytesInFlight;
+        private long bytesSentInPeriod;
+        private long bytesReceivedInPeriod;
+        private long fileDataReceived;
+
+        UploadPeer(Connection connection) {
+            this.connection = connection;
+            this.fileDataReceived = connection.getFileDataReceived();
+        }
+
+        boolean isInterested() {
+            return !uploads.isEmpty();
+        }
+
+        // Each data lane is a TCP stream of its own and needs its own chunks in flight to stay busy
+        long getMaxBytesInFlight(int quantum) {
+            return (long) MAX_PEER_QUANTA_IN_FLIGHT * quantum * max(connection.getNumberOfDataLanes(), 1);
+        }
+
+        int getNextChunkLength() {
+            return (int) min(connection.getChunkSizeController().getChunkSize(), uploads.peekFirst().getRemaining());
+        }
+
+        @Override
+        public String toString() {
+            return connection.getPeerName();
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.halcyon.p2p.file.transfer.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Random;
+
+import static java.lang.Math.min;
+
+// FastCDC: a gear hash over the bytes cuts a chunk wherever its masked bits are zero, so boundaries follow the content and an insertion
+// only changes the chunks around it. Peers have to cut identically for their chunk hashes to match, so the gear table and masks are fixed.
+public class ContentDefinedChunker {
+    public static final int MIN_CHUNK_SIZE = 2 * 1024;
+    public static final int AVERAGE_CHUNK_SIZE = 8 * 1024;
+    public static final int MAX_CHUNK_SIZE = 64 * 1024;
+
+    // Normalized chunking: a stricter mask before the average size and a looser one after it narrow the size distribution
+    private static final long STRICT_MASK = 0x0003_5907_0353_0000L;
+    private static final long LOOSE_MASK = 0x0000_d900_0353_0000L;
+    private static final int READ_BUFFER_SIZE = 1024 * 1024;
+    private static final long GEAR_SEED = 0x5eed_cdc0_0000_0001L;
+    private static final long[] GEAR = new long[256];
+
+    static {
+        Random random = new Random(GEAR_SEED);
+
+        for (int i = 0; i < GEAR.length; i++) {
+            GEAR[i] = random.nextLong();
+        }
+    }
+
+    private ContentDefinedChunker() {}
+
+    @FunctionalInterface
+    public interface ChunkConsumer {
+        void accept(byte[] buffer, int position, long offset, int length) throws IOException;
+    }
+
+    // Cuts the whole stream and hands each chunk to consumer while it is in the buffer, returns the number of chunks
+    public static int forEachChunk(InputStream inputStream, ChunkConsumer consumer) throws IOException {
+        byte[] buffer = new byte[READ_BUFFER_SIZE];
+        int bufferLength = 0;
+        long offset = 0;
+        int numberOfChunks = 0;
+        boolean isEnd = false;
+
+        while (!isEnd || bufferLength > 0) {
+            if (!isEnd && bufferLength < MAX_CHUNK_SIZE) {
+                int readLength = inputStream.readNBytes(buffer, bufferLength, buffer.length - bufferLength);
+                bufferLength += readLength;
+                isEnd = bufferLength < buffer.length;
+            }
+
+            int position = 0;
+
+            while (bufferLength - position > 0 && (isEnd || bufferLength - position >= MAX_CHUNK_SIZE)) {
+                int chunkLength = findChunkLength(buffer, position, bufferLength - position, isEnd);
+
+                consumer.accept(buffer, position, offset, chunkLength);
+                position += chunkLength;
+                offset += chunkLength;
+                numberOfChunks++;
+            }
+
+            System.arraycopy(buffer, position, buffer, 0, bufferLength - position);
+            bufferLength -= position;
+        }
+
+        return numberOfChunks;
+    }
+
+    // Returns the length of the chunk starting at offset; unless isEnd, length must cover at least MAX_CHUNK_SIZE bytes
+    public static int findChunkLength(byte[] data, int offset, int length, boolean isEnd) {
+        if (length <= MIN_CHUNK_SIZE) {
+            return length;
+        }
+
+        if (!isEnd && length < MAX_CHUNK_SIZE) {
+            throw new IllegalArgumentException("Only " + length + " bytes are available before the end of the data");
+        }
+
+        int end = min(length, MAX_CHUNK_SIZE);
+        int normalSize = min(end, AVERAGE_CHUNK_SIZE);
+        long fingerprint = 0;
+        int i = MIN_CHUNK_SIZE;
+
+        for (; i < normalSize; i++) {
+            fingerprint = (fingerprint << 1) + GEAR[data[offset + i] & 0xff];
+
+            if ((fingerprint & STRICT_MASK) == 0) {
+                return i + 1;
+            }
+        }
+
+        for (; i < end; i++) {
+            fingerprint = (fingerprint << 1) + GEAR[data[offset + i] & 0xff];
+
+            if ((fingerprint & LOOSE_MASK) == 0) {
+                return i + 1;
+            }
+        }
+
+        return end;
+    }
+}
@@ -0,0 +1,26 @@
+package com.halcyon.p2p.file.transfer.util;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+
+public class DeltaUtil {
+    public static final int MIN_BLOCK_SIZE = 1024;
+    public static final int MAX_BLOCK_SIZE = 128 * 1024;
+
+    // Only weeds out weak checksum collisions, the rebuilt file is still verified against its SHA-256
+    private static final HashFunction STRONG_HASH_FUNCTION = Hashing.murmur3_128();
+
+    private DeltaUtil() {}
+
+    // Like rsync, about the square root of the file size, which balances the signature size against the literal bytes per change
+    public static int getBlockSize(long fileSize) {
+        return (int) min(MAX_BLOCK_SIZE, max(MIN_BLOCK_SIZE, (long) Math.sqrt(fileSize) & ~7L));
+    }
+
+    public static long computeStrongChecksum(byte[] data, int offset, int length) {
+        return STRONG_HASH_FUNCTION.hashBytes(data, offset, length).asLong();
+    }
+}
@@ -0,0 +1,55 @@
+package com.halcyon.p2p.file.transfer.util;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import com.google.protobuf.ByteString;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class MerkleTreeUtil {
+    private static final HashFunction HASH_FUNCTION = Hashing.sha256();
+    private static final byte INNER_NODE_PREFIX = 1;
+
+    private MerkleTreeUtil() {}
+
+    public static HashFunction getHashFunction() {
+        return HASH_FUNCTION;
+    }
+
+    // Leaves are the SHA-256 hashes of the pieces; an odd node is promoted to the next level unchanged
+    public static ByteString computeRoot(List<ByteString> leafHashes) {
+        if (leafHashes.isEmpty()) {
+            return ByteString.copyFrom(HASH_FUNCTION.hashBytes(new byte[0]).asBytes());
+        }
+
+        List<ByteString> level = leafHashes;
+
+        while (level.size() > 1) {
+            List<ByteString> nextLevel = new ArrayList<>((level.size() + 1) / 2);
+
+            for (int i = 0; i < level.size(); i += 2) {
+                nextLevel.add(i + 1 < level.size() ? hashInnerNode(level.get(i), level.get(i + 1)) : level.get(i));
+            }
+
+            level = nextLevel;
+        }
+
+        return level.get(0);
+    }
+
+    public static boolean isValid(List<ByteString> leafHashes, ByteString root) {
+        return computeRoot(leafHashes).equals(root);
+    }
+
+    private static ByteString hashInnerNode(ByteString left, ByteString right) {
+        byte[] hash = HASH_FUNCTION.newHasher()
+                .putByte(INNER_NODE_PREFIX)
+                .putBytes(left.asReadOnlyByteBuffer())
+                .putBytes(right.asReadOnlyByteBuffer())
+                .hash()
+                .asBytes();
+
+        return ByteString.copyFrom(hash);
+    }
+}
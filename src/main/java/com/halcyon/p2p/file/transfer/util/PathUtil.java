@@ -0,0 +1,24 @@
+package com.halcyon.p2p.file.transfer.util;
+
+import java.io.File;
+import java.nio.file.Path;
+
+public class PathUtil {
+    private PathUtil() {}
+
+    // File names travel between peers as normalized relative paths with '/' separators, anything else could escape the directory
+    public static Path resolve(Path directory, String fileName) {
+        Path root = directory.toAbsolutePath().normalize();
+        Path path = root.resolve(fileName).normalize();
+
+        if (fileName.isEmpty() || !path.startsWith(root) || !toFileName(root, path).equals(fileName)) {
+            return null;
+        }
+
+        return path;
+    }
+
+    public static String toFileName(Path directory, Path path) {
+        return directory.relativize(path).toString().replace(File.separatorChar, '/');
+    }
+}
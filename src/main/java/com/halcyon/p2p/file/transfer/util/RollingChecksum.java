@@ -0,0 +1,40 @@
+package com.halcyon.p2p.file.transfer.util;
+
+// The rsync weak checksum: sliding the window by one byte updates it in constant time instead of summing the block again
+public class RollingChecksum {
+    private final int blockSize;
+
+    private int a;
+    private int b;
+
+    public RollingChecksum(int blockSize) {
+        this.blockSize = blockSize;
+    }
+
+    public static int compute(byte[] data, int offset, int length) {
+        RollingChecksum rollingChecksum = new RollingChecksum(length);
+        rollingChecksum.reset(data, offset);
+
+        return rollingChecksum.getValue();
+    }
+
+    public void reset(byte[] data, int offset) {
+        a = 0;
+        b = 0;
+
+        for (int i = 0; i < blockSize; i++) {
+            int value = data[offset + i] & 0xff;
+            a += value;
+            b += (blockSize - i) * value;
+        }
+    }
+
+    public void roll(byte outgoing, byte incoming) {
+        a += (incoming & 0xff) - (outgoing & 0xff);
+        b += a - blockSize * (outgoing & 0xff);
+    }
+
+    public int getValue() {
+        return (a & 0xffff) | (b << 16);
+    }
+}
@@ -0,0 +1,109 @@
+package com.halcyon.p2p.file.transfer.network;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ChunkSizeControllerTest {
+    private static final long SAMPLE_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private long now = 1;
+
+    @Test
+    void negotiatesTheOverlapOfBothBounds() {
+        ChunkSizeController controller = ChunkSizeController.negotiate("peer", 16 * 1024, 1024 * 1024, 64 * 1024, 512 * 1024);
+
+        assertEquals(64 * 1024, controller.getMinChunkSize());
+        assertEquals(512 * 1024, controller.getMaxChunkSize());
+        assertEquals(64 * 1024, controller.getChunkSize());
+    }
+
+    @Test
+    void keepsLocalBoundsWhenThePeerAnnouncesNone() {
+        ChunkSizeController controller = ChunkSizeController.negotiate("peer", 16 * 1024, 1024 * 1024, 0, 0);
+
+        assertEquals(16 * 1024, controller.getMinChunkSize());
+        assertEquals(1024 * 1024, controller.getMaxChunkSize());
+    }
+
+    @Test
+    void clampsTheMinimumToTheMaximum() {
+        ChunkSizeController controller = ChunkSizeController.negotiate("peer", 256 * 1024, 1024 * 1024, 16 * 1024, 128 * 1024);
+
+        assertEquals(128 * 1024, controller.getMinChunkSize());
+        assertEquals(128 * 1024, controller.getMaxChunkSize());
+    }
+
+    @Test
+    void doublesUpToTheMaximumWhileChunksDrainFast() {
+        ChunkSizeController controller = new ChunkSizeController("peer", 16 * 1024, 64 * 1024, () -> now);
+
+        for (int expectedChunkSize : new int[]{32 * 1024, 64 * 1024, 64 * 1024}) {
+            sendSample(controller, 1024 * 1024 * 1024);
+            assertEquals(expectedChunkSize, controller.getChunkSize());
+        }
+    }
+
+    @Test
+    void halvesDownToTheMinimumWhileChunksDrainSlowly() {
+        ChunkSizeController controller = new ChunkSizeController("peer", 16 * 1024, 64 * 1024, () -> now);
+
+        sendSample(controller, 1024 * 1024 * 1024);
+        sendSample(controller, 1024 * 1024 * 1024);
+        assertEquals(64 * 1024, controller.getChunkSize());
+
+        for (int expectedChunkSize : new int[]{32 * 1024, 16 * 1024, 16 * 1024}) {
+            sendSample(controller, 1);
+            assertEquals(expectedChunkSize, controller.getChunkSize());
+        }
+    }
+
+    @Test
+    void keepsItsSizeWhileTheTargetIsWithinAFactorOfTwo() {
+        ChunkSizeController controller = new ChunkSizeController("peer", 16 * 1024, 64 * 1024, () -> now);
+
+        // 2 MB/s drains 20 KB in the 10 ms target, which is above half of 32 KB
+        sendSample(controller, 1024 * 1024 * 1024);
+        sendSample(controller, 200 * 1024);
+        assertEquals(32 * 1024, controller.getChunkSize());
+    }
+
+    @Test
+    void startsANewSampleAfterAnIdlePeriod() {
+        ChunkSizeController controller = new ChunkSizeController("peer", 16 * 1024, 64 * 1024, () -> now);
+
+        controller.handleChunkSent(1024 * 1024 * 1024);
+        now += TimeUnit.SECONDS.toNanos(2);
+        controller.handleChunkSent(0);
+
+        assertEquals(16 * 1024, controller.getChunkSize());
+    }
+
+    @Test
+    void growsChunksToCoverASlowRoundTrip() {
+        ChunkSizeController controller = new ChunkSizeController("peer", 16 * 1024, 256 * 1024, () -> now);
+        ChunkSizeController slowController = new ChunkSizeController("peer", 16 * 1024, 256 * 1024, () -> now);
+        slowController.handleRoundTrip(TimeUnit.MILLISECONDS.toNanos(400));
+
+        // 1 MB/s drains 10 KB in 10 ms but 100 KB in a quarter of the 400 ms round trip
+        for (int i = 0; i < 3; i++) {
+            sendSample(controller, 100 * 1024);
+        }
+
+        for (int i = 0; i < 3; i++) {
+            sendSample(slowController, 100 * 1024);
+        }
+
+        assertEquals(16 * 1024, controller.getChunkSize());
+        assertEquals(128 * 1024, slowController.getChunkSize());
+    }
+
+    // A sample closes with the first chunk sent after it has run long enough
+    private void sendSample(ChunkSizeController controller, int bytes) {
+        controller.handleChunkSent(bytes);
+        now += SAMPLE_NANOS;
+        controller.handleChunkSent(0);
+    }
+}
@@ -0,0 +1,105 @@
+package com.halcyon.p2p.file.transfer.network;
+
+import com.halcyon.p2p.file.transfer.proto.General.ProtobufMessage;
+import com.halcyon.p2p.file.transfer.proto.Ping.PingMessage;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.timeout.IdleStateHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static com.halcyon.p2p.file.transfer.network.PeerFrameDecoderTest.fileResponseHeader;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConnectionTest {
+    private final EmbeddedChannel controlChannel = new EmbeddedChannel(new ChannelInboundHandlerAdapter());
+    private final List<EmbeddedChannel> laneChannels = new ArrayList<>();
+    private Connection connection;
+
+    @BeforeEach
+    void openConnection() {
+        connection = new Connection(controlChannel.pipeline().firstContext());
+        connection.open("remote", null, new DataLaneController("remote", 4), Set.of());
+    }
+
+    private ChannelHandlerContext attachDataLane() {
+        EmbeddedChannel laneChannel = new EmbeddedChannel(new IdleStateHandler(0, 0, 0), new ChannelInboundHandlerAdapter());
+        laneChannels.add(laneChannel);
+
+        ChannelHandlerContext laneCtx = laneChannel.pipeline().lastContext();
+        connection.attachDataLane(laneCtx);
+        return laneCtx;
+    }
+
+    private static ProtobufMessage ping() {
+        return ProtobufMessage.newBuilder()
+                .setPing(PingMessage.newBuilder().setPeerName("remote"))
+                .build();
+    }
+
+    @Test
+    void bindsAnAttachedLaneToTheSession() {
+        EmbeddedChannel unattachedChannel = new EmbeddedChannel(new ChannelInboundHandlerAdapter());
+
+        assertFalse(connection.hasDataLane());
+        assertTrue(connection.isAttached(controlChannel.pipeline().firstContext()));
+
+        ChannelHandlerContext laneCtx = attachDataLane();
+
+        assertTrue(connection.hasDataLane());
+        assertTrue(connection.isAttached(laneCtx));
+        assertFalse(connection.isAttached(unattachedChannel.pipeline().firstContext()));
+        assertSame(connection, PeerChannelHandler.getSessionConnection(laneCtx).get());
+        // The control channel watches the peer, the lane may idle while nothing is downloaded
+        assertNull(laneCtx.pipeline().get(IdleStateHandler.class));
+    }
+
+    @Test
+    void spreadsRequestsOverTheAttachedLanes() {
+        assertEquals(List.of(0, 0), List.of(connection.nextDataLaneIndex(), connection.nextDataLaneIndex()));
+
+        attachDataLane();
+        assertEquals(List.of(0, 0), List.of(connection.nextDataLaneIndex(), connection.nextDataLaneIndex()));
+
+        attachDataLane();
+        attachDataLane();
+
+        List<Integer> dataLaneIndexes = new ArrayList<>();
+
+        for (int i = 0; i < 6; i++) {
+            dataLaneIndexes.add(connection.nextDataLaneIndex());
+        }
+
+        assertEquals(3, connection.getNumberOfDataLanes());
+        assertEquals(List.of(0, 1, 2, 0, 1, 2), dataLaneIndexes);
+    }
+
+    @Test
+    void sendsFileDataOverItsLaneAndEverythingElseOverTheControlChannel() {
+        attachDataLane();
+        attachDataLane();
+
+        ProtobufMessage header = fileResponseHeader("a.bin", 0, 0, true);
+        FileData fileData = new FileData(fileResponseHeader("a.bin", 0, 10, true).getFileResponse(), Unpooled.wrappedBuffer(new byte[10]));
+
+        connection.send(header, 1);
+        connection.sendFileData(fileData, 1);
+        connection.send(ping(), 1);
+
+        assertEquals(ping(), controlChannel.readOutbound());
+        assertNull(laneChannels.get(0).readOutbound());
+        assertEquals(header, laneChannels.get(1).readOutbound());
+        assertSame(fileData, laneChannels.get(1).readOutbound());
+        fileData.release();
+
+        // Without a lane at that index file data falls back to the control channel
+        connection.send(header, 2);
+        assertEquals(header, controlChannel.readOutbound());
+    }
+}
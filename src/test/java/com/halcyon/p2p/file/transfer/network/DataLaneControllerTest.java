@@ -0,0 +1,94 @@
+package com.halcyon.p2p.file.transfer.network;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DataLaneControllerTest {
+    private static final long PROBE_PERIOD_NANOS = TimeUnit.SECONDS.toNanos(DataLaneController.PROBE_PERIOD_SECONDS);
+
+    // Feeds the controller the bytes a link of the given rate moves in a probe period, on a clock that only moves with the probes
+    private static class Link {
+        private final DataLaneController controller;
+        private long bytes;
+        private long now = PROBE_PERIOD_NANOS;
+
+        Link(int maxDataLanes) {
+            this.controller = new DataLaneController("peer", maxDataLanes, () -> now);
+            controller.shouldAddDataLane(0, 1);
+        }
+
+        boolean probe(long bytesPerSecond, int numberOfDataLanes) {
+            now += PROBE_PERIOD_NANOS;
+            bytes += bytesPerSecond * DataLaneController.PROBE_PERIOD_SECONDS;
+
+            return controller.shouldAddDataLane(bytes, numberOfDataLanes);
+        }
+    }
+
+    @Test
+    void negotiatesTheSmallerLimit() {
+        assertEquals(2, DataLaneController.negotiate("peer", 4, 2).getMaxDataLanes());
+        assertEquals(2, DataLaneController.negotiate("peer", 2, 4).getMaxDataLanes());
+        assertEquals(1, DataLaneController.negotiate("peer", 4, 0).getMaxDataLanes());
+        assertEquals(1, DataLaneController.negotiate("peer", 0, 4).getMaxDataLanes());
+    }
+
+    @Test
+    void neverAddsALaneOnTheFirstSample() {
+        DataLaneController controller = new DataLaneController("peer", 4);
+
+        assertFalse(controller.shouldAddDataLane(1_000_000, 1));
+    }
+
+    @Test
+    void addsLanesWhileTheyRaiseTheThroughput() {
+        Link link = new Link(4);
+
+        assertTrue(link.probe(10_000_000, 1));
+        assertFalse(link.probe(10_000_000, 1), "waits for the requested lane to open");
+        assertTrue(link.probe(20_000_000, 2));
+        assertTrue(link.probe(30_000_000, 3));
+        assertFalse(link.probe(40_000_000, 4), "stops at the negotiated limit");
+    }
+
+    @Test
+    void stopsWhenALaneDoesNotRaiseTheThroughput() {
+        Link link = new Link(4);
+
+        assertTrue(link.probe(10_000_000, 1));
+        assertFalse(link.probe(9_000_000, 2));
+        assertFalse(link.probe(30_000_000, 2), "stays saturated while data flows");
+    }
+
+    @Test
+    void probesAgainAfterAnIdlePeriod() {
+        Link link = new Link(4);
+
+        assertTrue(link.probe(10_000_000, 1));
+        assertFalse(link.probe(9_000_000, 2));
+        assertFalse(link.probe(0, 2));
+        assertTrue(link.probe(10_000_000, 2));
+    }
+
+    @Test
+    void addsALaneForAGainOfExactlyTenPercent() {
+        Link link = new Link(4);
+
+        assertTrue(link.probe(10_000_000, 1));
+        assertTrue(link.probe(11_000_000, 2));
+        assertFalse(link.probe(12_000_000, 3), "12 MB/s is 9% above the rate before the third lane");
+    }
+
+    @Test
+    void neverAddsALaneWithASingleLaneLimit() {
+        Link link = new Link(1);
+
+        assertFalse(link.probe(10_000_000, 1));
+        assertFalse(link.probe(20_000_000, 1));
+    }
+}
@@ -0,0 +1,116 @@
+package com.halcyon.p2p.file.transfer.network;
+
+import com.halcyon.p2p.file.transfer.config.PeerConfig;
+import com.halcyon.p2p.file.transfer.proto.File.FileRequest;
+import com.halcyon.p2p.file.transfer.proto.General.ProtobufMessage;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static com.halcyon.p2p.file.transfer.network.PeerFrameDecoderTest.fileResponseHeader;
+import static org.junit.jupiter.api.Assertions.*;
+
+// Downloads 1 MB per second with a burst of 10 KB, so a 256 KB message is let through about every 262 ms
+class FileDataDownloadShaperTest {
+    private static final int RATE = 1_000_000;
+    private static final int BURST_SIZE = 10_000;
+    private static final int MESSAGE_SIZE = 256 * 1024;
+
+    private long now;
+    private EmbeddedChannel channel;
+
+    @BeforeEach
+    void createChannel() {
+        PeerConfig peerConfig = new PeerConfig("local");
+        peerConfig.setMaxDownloadRate(RATE);
+        peerConfig.setBandwidthBurstSize(BURST_SIZE);
+
+        channel = new EmbeddedChannel(new FileDataDownloadShaper(new BandwidthLimiter(peerConfig, () -> now), () -> now));
+        channel.freezeTime();
+    }
+
+    private void advanceMillis(long millis) {
+        now += TimeUnit.MILLISECONDS.toNanos(millis);
+        channel.advanceTimeBy(millis, TimeUnit.MILLISECONDS);
+        channel.runScheduledPendingTasks();
+    }
+
+    private static FileData fileData(long offset, int length) {
+        return new FileData(fileResponseHeader("a.bin", offset, length, false).getFileResponse(), Unpooled.wrappedBuffer(new byte[length]));
+    }
+
+    private void assertInboundFileData(long expectedOffset) {
+        FileData fileData = channel.readInbound();
+        assertEquals(expectedOffset, fileData.getOffset());
+        fileData.release();
+    }
+
+    private void writeMessages(int numberOfMessages) {
+        for (int i = 0; i < numberOfMessages; i++) {
+            channel.writeInbound(fileData((long) i * MESSAGE_SIZE, MESSAGE_SIZE));
+        }
+    }
+
+    @Test
+    void letsControlMessagesOvertakeHeldFileData() {
+        ProtobufMessage fileRequest = ProtobufMessage.newBuilder()
+                .setFileRequest(FileRequest.newBuilder().setFileName("b.bin"))
+                .build();
+
+        channel.writeInbound(fileData(0, 8000));
+        channel.writeInbound(fileData(8000, 4000));
+        channel.writeInbound(fileRequest);
+
+        assertInboundFileData(0);
+        assertEquals(fileRequest, channel.readInbound());
+        assertNull(channel.readInbound());
+
+        advanceMillis(1);
+        assertNull(channel.readInbound());
+
+        advanceMillis(2);
+        assertInboundFileData(8000);
+        assertFalse(channel.finish());
+    }
+
+    @Test
+    void stopsReadingADataLaneUntilHalfOfWhatItHoldsIsReleased() {
+        writeMessages(5);
+        assertFalse(channel.config().isAutoRead());
+
+        advanceMillis(300);
+        assertInboundFileData(0);
+        assertFalse(channel.config().isAutoRead());
+
+        // Two messages are still held, just over half of the limit
+        advanceMillis(500);
+        assertInboundFileData(MESSAGE_SIZE);
+        assertInboundFileData(2 * MESSAGE_SIZE);
+        assertFalse(channel.config().isAutoRead());
+
+        advanceMillis(300);
+        assertInboundFileData(3 * MESSAGE_SIZE);
+        assertTrue(channel.config().isAutoRead());
+
+        advanceMillis(300);
+        assertInboundFileData(4 * MESSAGE_SIZE);
+        assertFalse(channel.finish());
+    }
+
+    @Test
+    void keepsReadingTheControlChannel() {
+        Connection connection = new Connection(channel.pipeline().firstContext());
+        connection.open("remote", null, null, Set.of());
+        PeerChannelHandler.getSessionConnection(channel.pipeline().firstContext()).set(connection);
+
+        writeMessages(5);
+
+        assertTrue(channel.config().isAutoRead());
+        assertNull(channel.readInbound());
+        assertFalse(channel.finishAndReleaseAll());
+    }
+}
@@ -0,0 +1,96 @@
+package com.halcyon.p2p.file.transfer.network;
+
+import com.halcyon.p2p.file.transfer.proto.File.FileRequest;
+import com.halcyon.p2p.file.transfer.proto.General.ProtobufMessage;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.jupiter.api.Test;
+
+import static com.halcyon.p2p.file.transfer.network.PeerFrameDecoderTest.fileResponseHeader;
+import static com.halcyon.p2p.file.transfer.network.PeerFrameDecoderTest.randomBytes;
+import static org.junit.jupiter.api.Assertions.*;
+
+class FileDataEncoderTest {
+    static ByteBuf readOutbound(EmbeddedChannel channel) {
+        CompositeByteBuf written = Unpooled.compositeBuffer(Integer.MAX_VALUE);
+        ByteBuf buffer;
+
+        while ((buffer = channel.readOutbound()) != null) {
+            written.addComponent(true, buffer);
+        }
+
+        return written;
+    }
+
+    @Test
+    void writesTheHeaderFollowedByTheRawPayload() {
+        EmbeddedChannel channel = new EmbeddedChannel(new ProtobufBatchEncoder(), new FileDataEncoder());
+        byte[] payload = randomBytes(64 * 1024);
+        FileData fileData = new FileData(fileResponseHeader("a.bin", 4096, payload.length, true).getFileResponse(),
+                Unpooled.wrappedBuffer(payload));
+
+        channel.writeAndFlush(fileData);
+
+        ByteBuf header = channel.readOutbound();
+        ByteBuf written = channel.readOutbound();
+
+        assertSame(fileData.content(), written);
+        assertNull(channel.readOutbound());
+        written.release();
+        header.release();
+
+        assertEquals(0, fileData.refCnt());
+        assertFalse(channel.finish());
+    }
+
+    @Test
+    void roundTripsThroughPeerFrameDecoder() {
+        EmbeddedChannel outbound = new EmbeddedChannel(new ProtobufBatchEncoder(), new FileDataEncoder());
+        EmbeddedChannel inbound = new EmbeddedChannel(new PeerFrameDecoder());
+        byte[] first = randomBytes(32 * 1024);
+        byte[] second = randomBytes(1000);
+        ProtobufMessage request = ProtobufMessage.newBuilder()
+                .setFileRequest(FileRequest.newBuilder().setFileName("b.bin").setLength(10))
+                .build();
+
+        outbound.write(new FileData(fileResponseHeader("a.bin", 0, first.length, false).getFileResponse(), Unpooled.wrappedBuffer(first)));
+        outbound.write(request);
+        outbound.write(new FileData(fileResponseHeader("a.bin", first.length, second.length, true).getFileResponse(),
+                Unpooled.wrappedBuffer(second)));
+        outbound.flush();
+
+        inbound.writeInbound(readOutbound(outbound));
+
+        FileData fileData = inbound.readInbound();
+        assertEquals(0, fileData.getOffset());
+        assertFalse(fileData.isLastChunk());
+        assertEquals(Unpooled.wrappedBuffer(first), fileData.content());
+        fileData.release();
+
+        assertEquals(request, inbound.readInbound());
+
+        fileData = inbound.readInbound();
+        assertEquals(first.length, fileData.getOffset());
+        assertTrue(fileData.isLastChunk());
+        assertEquals(Unpooled.wrappedBuffer(second), fileData.content());
+        fileData.release();
+
+        assertNull(inbound.readInbound());
+        assertFalse(inbound.finish());
+        assertFalse(outbound.finish());
+    }
+
+    @Test
+    void releasesThePayloadWhenTheWriteFails() {
+        EmbeddedChannel channel = new EmbeddedChannel(new ProtobufBatchEncoder(), new FileDataEncoder());
+        FileData fileData = new FileData(fileResponseHeader("a.bin", 0, 100, true).getFileResponse(),
+                Unpooled.wrappedBuffer(randomBytes(100)));
+
+        channel.close();
+
+        assertFalse(channel.writeAndFlush(fileData).isSuccess());
+        assertEquals(0, fileData.refCnt());
+    }
+}
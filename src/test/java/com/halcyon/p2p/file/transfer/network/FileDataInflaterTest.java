@@ -0,0 +1,142 @@
+package com.halcyon.p2p.file.transfer.network;
+
+import com.google.protobuf.ByteString;
+import com.halcyon.p2p.file.transfer.proto.File.FileResponse;
+import com.halcyon.p2p.file.transfer.proto.File.PackedFileResponse;
+import com.halcyon.p2p.file.transfer.proto.General.ProtobufMessage;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.DecoderException;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.zip.Deflater;
+
+import static com.halcyon.p2p.file.transfer.network.PeerFrameDecoderTest.frame;
+import static org.junit.jupiter.api.Assertions.*;
+
+class FileDataInflaterTest {
+    private static byte[] compressibleBytes(int length) {
+        byte[] bytes = new byte[length];
+
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) ("abcdefgh".charAt(i % 8) + i / 4096 % 4);
+        }
+
+        return bytes;
+    }
+
+    private static byte[] deflate(byte[] data) {
+        Deflater deflater = new Deflater();
+        deflater.setInput(data);
+        deflater.finish();
+
+        byte[] buffer = new byte[data.length + 64];
+        int length = deflater.deflate(buffer);
+        deflater.end();
+
+        return Arrays.copyOf(buffer, length);
+    }
+
+    private static ProtobufMessage compressedHeader(int payloadLength, int uncompressedLength) {
+        return ProtobufMessage.newBuilder()
+                .setFileResponse(FileResponse.newBuilder()
+                        .setFileName("a.log")
+                        .setOffset(4096)
+                        .setPayloadLength(payloadLength)
+                        .setCompressed(true)
+                        .setUncompressedLength(uncompressedLength)
+                        .setIsLastChunk(true))
+                .build();
+    }
+
+    @Test
+    void inflatesCompressedPayloadsFromTheWire() throws IOException {
+        EmbeddedChannel channel = new EmbeddedChannel(new PeerFrameDecoder(), new FileDataInflater());
+        byte[] data = compressibleBytes(256 * 1024);
+        byte[] compressedData = deflate(data);
+
+        channel.writeInbound(Unpooled.wrappedBuffer(frame(compressedHeader(compressedData.length, data.length)),
+                Unpooled.wrappedBuffer(compressedData)));
+        FileData fileData = channel.readInbound();
+
+        assertFalse(fileData.getHeader().getCompressed());
+        assertEquals(4096, fileData.getOffset());
+        assertEquals(data.length, fileData.getLength());
+        assertEquals(data.length, fileData.getHeader().getPayloadLength());
+        assertEquals(Unpooled.wrappedBuffer(data), fileData.content());
+        assertTrue(fileData.isLastChunk());
+        fileData.release();
+        assertFalse(channel.finish());
+    }
+
+    @Test
+    void passesUncompressedPayloadsThrough() throws IOException {
+        EmbeddedChannel channel = new EmbeddedChannel(new PeerFrameDecoder(), new FileDataInflater());
+        byte[] data = compressibleBytes(1024);
+        ProtobufMessage header = ProtobufMessage.newBuilder()
+                .setFileResponse(FileResponse.newBuilder().setFileName("a.log").setPayloadLength(data.length))
+                .build();
+
+        channel.writeInbound(Unpooled.wrappedBuffer(frame(header), Unpooled.wrappedBuffer(data)));
+        FileData fileData = channel.readInbound();
+
+        assertEquals(Unpooled.wrappedBuffer(data), fileData.content());
+        fileData.release();
+        assertFalse(channel.finish());
+    }
+
+    @Test
+    void inflatesPackedFileResponses() throws IOException {
+        EmbeddedChannel channel = new EmbeddedChannel(new PeerFrameDecoder(), new FileDataInflater());
+        byte[] data = compressibleBytes(64 * 1024);
+        ProtobufMessage message = ProtobufMessage.newBuilder()
+                .setPackedFileResponse(PackedFileResponse.newBuilder()
+                        .setDirectoryName("docs")
+                        .setData(ByteString.copyFrom(deflate(data)))
+                        .setCompressed(true)
+                        .setUncompressedLength(data.length))
+                .build();
+
+        channel.writeInbound(frame(message));
+        PackedFileResponse response = ((ProtobufMessage) channel.readInbound()).getPackedFileResponse();
+
+        assertFalse(response.getCompressed());
+        assertEquals(0, response.getUncompressedLength());
+        assertEquals(ByteString.copyFrom(data), response.getData());
+        assertFalse(channel.finish());
+    }
+
+    @Test
+    void rejectsDataInflatingBeyondTheDeclaredLength() throws IOException {
+        EmbeddedChannel channel = new EmbeddedChannel(new PeerFrameDecoder(), new FileDataInflater());
+        byte[] data = compressibleBytes(64 * 1024);
+        byte[] compressedData = deflate(data);
+
+        assertThrows(DecoderException.class, () -> channel.writeInbound(Unpooled.wrappedBuffer(
+                frame(compressedHeader(compressedData.length, data.length - 1)), Unpooled.wrappedBuffer(compressedData))));
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    void rejectsDataInflatingShortOfTheDeclaredLength() throws IOException {
+        EmbeddedChannel channel = new EmbeddedChannel(new PeerFrameDecoder(), new FileDataInflater());
+        byte[] data = compressibleBytes(64 * 1024);
+        byte[] compressedData = deflate(data);
+
+        assertThrows(DecoderException.class, () -> channel.writeInbound(Unpooled.wrappedBuffer(
+                frame(compressedHeader(compressedData.length, data.length + 1)), Unpooled.wrappedBuffer(compressedData))));
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    void rejectsGarbage() throws IOException {
+        EmbeddedChannel channel = new EmbeddedChannel(new PeerFrameDecoder(), new FileDataInflater());
+        byte[] garbage = compressibleBytes(1024);
+
+        assertThrows(DecoderException.class, () -> channel.writeInbound(Unpooled.wrappedBuffer(
+                frame(compressedHeader(garbage.length, 4096)), Unpooled.wrappedBuffer(garbage))));
+        channel.finishAndReleaseAll();
+    }
+}
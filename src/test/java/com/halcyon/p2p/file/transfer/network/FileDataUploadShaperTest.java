@@ -0,0 +1,157 @@
+package com.halcyon.p2p.file.transfer.network;
+
+import com.halcyon.p2p.file.transfer.config.PeerConfig;
+import com.halcyon.p2p.file.transfer.proto.File.FileRequest;
+import com.halcyon.p2p.file.transfer.proto.General.ProtobufMessage;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.DefaultFileRegion;
+import io.netty.channel.FileRegion;
+import io.netty.channel.WriteBufferWaterMark;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+
+import static com.halcyon.p2p.file.transfer.network.PeerFrameDecoderTest.fileResponseHeader;
+import static org.junit.jupiter.api.Assertions.*;
+
+// Uploads 1 MB per second with a burst of 10 KB, so 1 KB of file data takes a millisecond once the burst is used up
+class FileDataUploadShaperTest {
+    private static final int RATE = 1_000_000;
+    private static final int BURST_SIZE = 10_000;
+
+    private long now;
+    private EmbeddedChannel channel;
+
+    @BeforeEach
+    void createChannel() {
+        PeerConfig peerConfig = new PeerConfig("local");
+        peerConfig.setMaxUploadRate(RATE);
+        peerConfig.setBandwidthBurstSize(BURST_SIZE);
+
+        channel = new EmbeddedChannel(new FileDataUploadShaper(new BandwidthLimiter(peerConfig, () -> now), () -> now));
+        channel.freezeTime();
+    }
+
+    private void advanceMillis(long millis) {
+        now += TimeUnit.MILLISECONDS.toNanos(millis);
+        channel.advanceTimeBy(millis, TimeUnit.MILLISECONDS);
+        channel.runScheduledPendingTasks();
+    }
+
+    private static FileData fileData(long offset, int length) {
+        return new FileData(fileResponseHeader("a.bin", offset, length, false).getFileResponse(), Unpooled.wrappedBuffer(new byte[length]));
+    }
+
+    private static ProtobufMessage fileRequest() {
+        return ProtobufMessage.newBuilder()
+                .setFileRequest(FileRequest.newBuilder().setFileName("b.bin"))
+                .build();
+    }
+
+    private void assertOutboundFileData(long expectedOffset) {
+        FileData fileData = channel.readOutbound();
+        assertEquals(expectedOffset, fileData.getOffset());
+        fileData.release();
+    }
+
+    @Test
+    void letsControlMessagesOvertakeHeldFileData() {
+        channel.writeAndFlush(fileData(0, 8000));
+        channel.writeAndFlush(fileData(8000, 4000));
+        channel.writeAndFlush(fileRequest());
+
+        assertOutboundFileData(0);
+        assertEquals(fileRequest(), channel.readOutbound());
+        assertNull(channel.readOutbound());
+
+        advanceMillis(1);
+        assertNull(channel.readOutbound());
+
+        advanceMillis(2);
+        assertOutboundFileData(8000);
+        assertFalse(channel.finish());
+    }
+
+    @Test
+    void defersControlMessagesUntilTheRegionFollowsItsHeader() {
+        ProtobufMessage header = fileResponseHeader("a.bin", 0, 100, false);
+        FileRegion fileRegion = new DefaultFileRegion(new File("a.bin"), 0, 100);
+
+        channel.writeAndFlush(header);
+        channel.writeAndFlush(fileRequest());
+
+        assertEquals(header, channel.readOutbound());
+        assertNull(channel.readOutbound());
+
+        channel.writeAndFlush(fileRegion);
+
+        assertSame(fileRegion, channel.readOutbound());
+        assertEquals(fileRequest(), channel.readOutbound());
+        fileRegion.release();
+        assertFalse(channel.finishAndReleaseAll());
+    }
+
+    @Test
+    void sendsDeferredControlMessagesRightBehindAHeldRegion() {
+        ProtobufMessage header = fileResponseHeader("a.bin", 0, 20_000, false);
+        FileRegion fileRegion = new DefaultFileRegion(new File("a.bin"), 0, 20_000);
+
+        channel.writeAndFlush(header);
+        channel.writeAndFlush(fileRequest());
+        channel.writeAndFlush(fileRegion);
+        channel.writeAndFlush(fileData(20_000, 1000));
+
+        assertNull(channel.readOutbound());
+
+        // The header takes 10 ms of debt, the file data behind it another one
+        advanceMillis(11);
+        assertEquals(header, channel.readOutbound());
+        assertSame(fileRegion, channel.readOutbound());
+        assertEquals(fileRequest(), channel.readOutbound());
+        assertNull(channel.readOutbound());
+        fileRegion.release();
+
+        advanceMillis(1);
+        assertOutboundFileData(20_000);
+        assertFalse(channel.finishAndReleaseAll());
+    }
+
+    @Test
+    void turnsUnwritableWhileTooMuchFileDataIsHeld() {
+        channel.config().setWriteBufferWaterMark(new WriteBufferWaterMark(2500, 5000));
+
+        channel.writeAndFlush(fileData(0, 9000));
+        channel.writeAndFlush(fileData(9000, 2000));
+        channel.writeAndFlush(fileData(11_000, 2000));
+        assertTrue(channel.isWritable());
+
+        channel.writeAndFlush(fileData(13_000, 2000));
+        assertFalse(channel.isWritable());
+
+        // One message released leaves more than the low water mark held
+        advanceMillis(2);
+        assertFalse(channel.isWritable());
+
+        advanceMillis(2);
+        assertTrue(channel.isWritable());
+
+        advanceMillis(2);
+        assertTrue(channel.isWritable());
+        assertTrue(channel.finishAndReleaseAll());
+    }
+
+    @Test
+    void failsHeldWritesWhenRemoved() {
+        channel.writeAndFlush(fileData(0, 20_000));
+        ChannelFuture future = channel.writeAndFlush(fileData(20_000, 1000));
+
+        channel.pipeline().removeFirst();
+
+        assertFalse(future.isSuccess());
+        assertFalse(channel.finishAndReleaseAll());
+    }
+}
@@ -0,0 +1,110 @@
+package com.halcyon.p2p.file.transfer.network;
+
+import com.halcyon.p2p.file.transfer.network.MessageHandlerRegistry.Registration;
+import com.halcyon.p2p.file.transfer.proto.File.FileRequest;
+import com.halcyon.p2p.file.transfer.proto.General.ProtobufMessage;
+import com.halcyon.p2p.file.transfer.proto.General.ProtobufMessage.PayloadCase;
+import com.halcyon.p2p.file.transfer.proto.Ping.PingMessage;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.halcyon.p2p.file.transfer.network.PeerFrameDecoderTest.fileResponseHeader;
+import static org.junit.jupiter.api.Assertions.*;
+
+class MessageHandlerRegistryTest {
+    private final MessageHandlerRegistry messageHandlerRegistry = new MessageHandlerRegistry();
+    private final Connection connection = new Connection(new EmbeddedChannel(new ChannelInboundHandlerAdapter()).pipeline().firstContext());
+    private final List<Object> handledMessages = new ArrayList<>();
+
+    private static ProtobufMessage ping() {
+        return ProtobufMessage.newBuilder()
+                .setPing(PingMessage.newBuilder().setPeerName("remote"))
+                .build();
+    }
+
+    private static ProtobufMessage fileRequest() {
+        return ProtobufMessage.newBuilder()
+                .setFileRequest(FileRequest.newBuilder().setFileName("a.bin"))
+                .build();
+    }
+
+    private void handle(Connection connection, Object message) {
+        assertSame(this.connection, connection);
+        handledMessages.add(message);
+    }
+
+    @Test
+    void dispatchesEachTypeToItsHandlerOnTheLoopItWasRegisteredFor() {
+        messageHandlerRegistry.registerOnPeerEventLoop(PayloadCase.PING, this::handle);
+        messageHandlerRegistry.registerOnChannelLoop(PayloadCase.FILEREQUEST, this::handle);
+
+        Registration<ProtobufMessage> pingRegistration = messageHandlerRegistry.get(PayloadCase.PING);
+        Registration<ProtobufMessage> fileRequestRegistration = messageHandlerRegistry.get(PayloadCase.FILEREQUEST);
+
+        assertTrue(pingRegistration.isOnPeerEventLoop());
+        assertFalse(fileRequestRegistration.isOnPeerEventLoop());
+        assertNull(messageHandlerRegistry.get(PayloadCase.PONG));
+
+        pingRegistration.handle(connection, ping(), System.nanoTime());
+        fileRequestRegistration.handle(connection, fileRequest(), System.nanoTime());
+
+        assertEquals(List.of(ping(), fileRequest()), handledMessages);
+    }
+
+    @Test
+    void runsFileDataOnTheChannelLoop() {
+        assertNull(messageHandlerRegistry.getFileData());
+
+        messageHandlerRegistry.registerFileData(this::handle);
+
+        FileData fileData = new FileData(fileResponseHeader("a.bin", 0, 10, true).getFileResponse(), Unpooled.wrappedBuffer(new byte[10]));
+        Registration<FileData> registration = messageHandlerRegistry.getFileData();
+
+        assertFalse(registration.isOnPeerEventLoop());
+        registration.handle(connection, fileData, System.nanoTime());
+        assertEquals(List.of(fileData), handledMessages);
+        fileData.release();
+    }
+
+    @Test
+    void rejectsASecondHandlerForATypeAndMessagesWithoutAType() {
+        messageHandlerRegistry.registerOnChannelLoop(PayloadCase.FILEREQUEST, this::handle);
+        messageHandlerRegistry.registerFileData(this::handle);
+
+        assertThrows(IllegalStateException.class, () -> messageHandlerRegistry.registerOnPeerEventLoop(PayloadCase.FILEREQUEST, this::handle));
+        assertThrows(IllegalStateException.class, () -> messageHandlerRegistry.registerOnChannelLoop(PayloadCase.PAYLOAD_NOT_SET, this::handle));
+        assertThrows(IllegalStateException.class, () -> messageHandlerRegistry.registerFileData(this::handle));
+        assertFalse(messageHandlerRegistry.get(PayloadCase.FILEREQUEST).isOnPeerEventLoop());
+    }
+
+    @Test
+    void countsHandledMessagesEvenWhenTheHandlerFails() {
+        messageHandlerRegistry.registerOnPeerEventLoop(PayloadCase.PING, this::handle);
+        messageHandlerRegistry.registerOnChannelLoop(PayloadCase.PONG, this::handle);
+        messageHandlerRegistry.registerOnChannelLoop(PayloadCase.FILEREQUEST, (connection, message) -> {
+            throw new IllegalArgumentException();
+        });
+
+        Registration<ProtobufMessage> pingRegistration = messageHandlerRegistry.get(PayloadCase.PING);
+        Registration<ProtobufMessage> fileRequestRegistration = messageHandlerRegistry.get(PayloadCase.FILEREQUEST);
+
+        pingRegistration.handle(connection, ping(), System.nanoTime());
+        pingRegistration.handle(connection, ping(), System.nanoTime());
+        assertThrows(IllegalArgumentException.class, () -> fileRequestRegistration.handle(connection, fileRequest(), System.nanoTime()));
+
+        assertEquals(2, pingRegistration.getCount());
+        assertEquals(1, fileRequestRegistration.getCount());
+
+        // Types that were never received are left out
+        String stats = messageHandlerRegistry.getStats();
+
+        assertTrue(stats.contains("PING"));
+        assertTrue(stats.contains("FILEREQUEST"));
+        assertFalse(stats.contains("PONG"));
+    }
+}
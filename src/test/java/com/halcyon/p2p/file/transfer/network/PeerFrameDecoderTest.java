@@ -0,0 +1,166 @@
+package com.halcyon.p2p.file.transfer.network;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedOutputStream;
+import com.halcyon.p2p.file.transfer.proto.File.FileRequest;
+import com.halcyon.p2p.file.transfer.proto.File.FileResponse;
+import com.halcyon.p2p.file.transfer.proto.General.ProtobufMessage;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.DecoderException;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PeerFrameDecoderTest {
+    static ByteBuf frame(ProtobufMessage message) throws IOException {
+        byte[] frame = new byte[CodedOutputStream.computeUInt32SizeNoTag(message.getSerializedSize()) + message.getSerializedSize()];
+        CodedOutputStream outputStream = CodedOutputStream.newInstance(frame);
+        outputStream.writeUInt32NoTag(message.getSerializedSize());
+        message.writeTo(outputStream);
+
+        return Unpooled.wrappedBuffer(frame);
+    }
+
+    static ProtobufMessage fileResponseHeader(String fileName, long offset, long payloadLength, boolean isLastChunk) {
+        return ProtobufMessage.newBuilder()
+                .setFileResponse(FileResponse.newBuilder()
+                        .setFileName(fileName)
+                        .setOffset(offset)
+                        .setPayloadLength(payloadLength)
+                        .setIsLastChunk(isLastChunk))
+                .build();
+    }
+
+    static byte[] randomBytes(int length) {
+        byte[] bytes = new byte[length];
+        new Random(length).nextBytes(bytes);
+        return bytes;
+    }
+
+    @Test
+    void decodesMessagesSplitAcrossReads() throws IOException {
+        EmbeddedChannel channel = new EmbeddedChannel(new PeerFrameDecoder());
+        ProtobufMessage message = ProtobufMessage.newBuilder()
+                .setFileRequest(FileRequest.newBuilder().setFileName("a.bin").setOffset(7).setLength(1024))
+                .build();
+
+        ByteBuf frames = Unpooled.wrappedBuffer(frame(message), frame(message));
+
+        while (frames.isReadable()) {
+            channel.writeInbound(frames.readRetainedSlice(1));
+        }
+
+        frames.release();
+
+        assertEquals(message, channel.readInbound());
+        assertEquals(message, channel.readInbound());
+        assertNull(channel.readInbound());
+        assertFalse(channel.finish());
+    }
+
+    @Test
+    void slicesRawPayloadFollowingItsHeader() throws IOException {
+        EmbeddedChannel channel = new EmbeddedChannel(new PeerFrameDecoder());
+        byte[] payload = randomBytes(150 * 1024);
+        ProtobufMessage next = ProtobufMessage.newBuilder()
+                .setFileRequest(FileRequest.newBuilder().setFileName("next"))
+                .build();
+
+        channel.writeInbound(Unpooled.wrappedBuffer(frame(fileResponseHeader("a.bin", 1000, payload.length, true)),
+                Unpooled.wrappedBuffer(payload), frame(next)));
+
+        ByteBuf received = Unpooled.buffer();
+        long expectedOffset = 1000;
+        FileData fileData;
+
+        while ((fileData = channel.readInbound()) != null) {
+            assertEquals("a.bin", fileData.getFileName());
+            assertEquals(expectedOffset, fileData.getOffset());
+            assertEquals(fileData.getLength(), fileData.getHeader().getPayloadLength());
+
+            expectedOffset += fileData.getLength();
+            received.writeBytes(fileData.content());
+            assertEquals(expectedOffset == 1000 + payload.length, fileData.isLastChunk());
+            fileData.release();
+
+            if (fileData.isLastChunk()) {
+                break;
+            }
+        }
+
+        assertEquals(Unpooled.wrappedBuffer(payload), received);
+        assertEquals(next, channel.readInbound());
+        assertFalse(channel.finish());
+    }
+
+    @Test
+    void waitsForTheWholeCompressedPayload() throws IOException {
+        EmbeddedChannel channel = new EmbeddedChannel(new PeerFrameDecoder());
+        byte[] payload = randomBytes(100 * 1024);
+        ProtobufMessage header = ProtobufMessage.newBuilder()
+                .setFileResponse(fileResponseHeader("a.bin", 0, payload.length, true).getFileResponse().toBuilder()
+                        .setCompressed(true)
+                        .setUncompressedLength(200 * 1024))
+                .build();
+
+        channel.writeInbound(Unpooled.wrappedBuffer(frame(header), Unpooled.wrappedBuffer(payload, 0, 90 * 1024)));
+        assertNull(channel.readInbound());
+
+        channel.writeInbound(Unpooled.wrappedBuffer(payload, 90 * 1024, 10 * 1024));
+        FileData fileData = channel.readInbound();
+
+        assertEquals(payload.length, fileData.getLength());
+        assertTrue(fileData.getHeader().getCompressed());
+        assertEquals(200 * 1024, fileData.getUncompressedLength());
+        fileData.release();
+        assertFalse(channel.finish());
+    }
+
+    @Test
+    void turnsInlineDataIntoFileData() throws IOException {
+        EmbeddedChannel channel = new EmbeddedChannel(new PeerFrameDecoder());
+        byte[] data = randomBytes(4096);
+        ProtobufMessage message = ProtobufMessage.newBuilder()
+                .setFileResponse(FileResponse.newBuilder()
+                        .setFileName("a.bin")
+                        .setOffset(8192)
+                        .setData(ByteString.copyFrom(data))
+                        .setIsLastChunk(true))
+                .build();
+
+        channel.writeInbound(frame(message));
+        FileData fileData = channel.readInbound();
+
+        assertEquals(8192, fileData.getOffset());
+        assertEquals(data.length, fileData.getHeader().getPayloadLength());
+        assertTrue(fileData.getHeader().getData().isEmpty());
+        assertEquals(Unpooled.wrappedBuffer(data), fileData.content());
+        assertTrue(fileData.isLastChunk());
+        fileData.release();
+        assertFalse(channel.finish());
+    }
+
+    @Test
+    void rejectsMalformedLength() {
+        EmbeddedChannel channel = new EmbeddedChannel(new PeerFrameDecoder());
+
+        assertThrows(DecoderException.class, () -> channel.writeInbound(Unpooled.wrappedBuffer(new byte[]{-1, -1, -1, -1, -1, 1})));
+    }
+
+    @Test
+    void rejectsOversizedCompressedPayload() {
+        EmbeddedChannel channel = new EmbeddedChannel(new PeerFrameDecoder());
+        ProtobufMessage header = ProtobufMessage.newBuilder()
+                .setFileResponse(fileResponseHeader("a.bin", 0, FileDataInflater.MAX_UNCOMPRESSED_LENGTH + 1L, true).getFileResponse()
+                        .toBuilder()
+                        .setCompressed(true))
+                .build();
+
+        assertThrows(DecoderException.class, () -> channel.writeInbound(frame(header)));
+    }
+}
@@ -0,0 +1,150 @@
+package com.halcyon.p2p.file.transfer.network;
+
+import com.halcyon.p2p.file.transfer.config.PeerConfig;
+import com.halcyon.p2p.file.transfer.proto.General.ProtobufMessage;
+import com.halcyon.p2p.file.transfer.proto.General.ProtobufMessage.PayloadCase;
+import com.halcyon.p2p.file.transfer.service.ConnectionService;
+import com.halcyon.p2p.file.transfer.service.DownloadService;
+import com.halcyon.p2p.file.transfer.service.FileService;
+import com.halcyon.p2p.file.transfer.service.PingPongService;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.DefaultChannelId;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.util.concurrent.ImmediateEventExecutor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// An accepted connection waits as pending until the connecting peer opens its first data lane, only then is it used
+class PeerTest {
+    private static final int MAX_DATA_LANES = 2;
+
+    private final EmbeddedChannel peerChannel = new EmbeddedChannel();
+    private final PeerConfig peerConfig = new PeerConfig("local");
+    private ConnectionService connectionService;
+    private Peer peer;
+
+    private EmbeddedChannel controlChannel;
+    private Connection connection;
+
+    @BeforeEach
+    void createPeer() {
+        connectionService = new ConnectionService(peerConfig, null, null, null, null, peerChannel.eventLoop());
+        DownloadService downloadService = new DownloadService(peerConfig, connectionService, ImmediateEventExecutor.INSTANCE, null,
+                peerChannel.eventLoop());
+        FileService fileService = new FileService(peerConfig, null, downloadService, null, ImmediateEventExecutor.INSTANCE,
+                peerChannel.eventLoop());
+        peer = new Peer(peerConfig, connectionService, new PingPongService(connectionService, peerConfig), fileService, downloadService);
+
+        // An accepted channel has the server channel as its parent
+        controlChannel = new EmbeddedChannel(new EmbeddedChannel(), DefaultChannelId.newInstance(), true, false,
+                new ChannelInboundHandlerAdapter());
+        connection = new Connection(controlChannel.pipeline().firstContext());
+        connection.open("remote", null, new DataLaneController("remote", MAX_DATA_LANES), Set.of());
+    }
+
+    private static ChannelHandlerContext newDataLane() {
+        return new EmbeddedChannel(new ChannelInboundHandlerAdapter()).pipeline().firstContext();
+    }
+
+    @Test
+    void opensAnAcceptedConnectionOnceItsFirstDataLaneArrives() {
+        peer.handleConnectionPending(connection);
+        assertFalse(connectionService.hasConnection("remote"));
+
+        ChannelHandlerContext dataLaneCtx = newDataLane();
+        peer.handleDataLaneOpening(dataLaneCtx, "remote");
+
+        assertSame(connection, connectionService.getConnection("remote"));
+        assertTrue(connection.isAttached(dataLaneCtx));
+
+        ProtobufMessage handshake = ((EmbeddedChannel) dataLaneCtx.channel()).readOutbound();
+        assertTrue(handshake.getHandshake().getDataLane());
+    }
+
+    @Test
+    void attachesFurtherLanesUpToTheNegotiatedLimit() {
+        peer.handleConnectionPending(connection);
+
+        ChannelHandlerContext[] dataLaneContexts = {newDataLane(), newDataLane(), newDataLane()};
+
+        for (ChannelHandlerContext dataLaneCtx : dataLaneContexts) {
+            peer.handleDataLaneOpening(dataLaneCtx, "remote");
+        }
+
+        assertEquals(MAX_DATA_LANES, connection.getNumberOfDataLanes());
+        assertTrue(dataLaneContexts[1].channel().isOpen());
+        assertFalse(dataLaneContexts[2].channel().isOpen());
+    }
+
+    @Test
+    void closesALaneThatNoConnectionWaitsFor() {
+        ChannelHandlerContext unknownPeerLaneCtx = newDataLane();
+        peer.handleDataLaneOpening(unknownPeerLaneCtx, "unknown");
+
+        assertFalse(unknownPeerLaneCtx.channel().isOpen());
+
+        // An open connection only takes extra lanes after its first one
+        peer.handleConnectionOpening(connection);
+
+        ChannelHandlerContext dataLaneCtx = newDataLane();
+        peer.handleDataLaneOpening(dataLaneCtx, "remote");
+
+        assertFalse(dataLaneCtx.channel().isOpen());
+        assertFalse(connection.hasDataLane());
+    }
+
+    @Test
+    void dropsAPendingConnectionThatClosesBeforeItsLaneArrives() {
+        peer.handleConnectionPending(connection);
+        peer.handleChannelClosing(controlChannel.pipeline().firstContext(), connection);
+
+        assertFalse(controlChannel.isOpen());
+
+        ChannelHandlerContext dataLaneCtx = newDataLane();
+        peer.handleDataLaneOpening(dataLaneCtx, "remote");
+
+        assertFalse(dataLaneCtx.channel().isOpen());
+        assertFalse(connectionService.hasConnection("remote"));
+    }
+
+    @Test
+    void keepsTheSessionWhenAnExtraLaneClosesBeforeItIsAttached() {
+        peer.handleConnectionPending(connection);
+        peer.handleDataLaneOpening(newDataLane(), "remote");
+
+        peer.handleChannelClosing(newDataLane(), connection);
+
+        assertTrue(controlChannel.isOpen());
+        assertSame(connection, connectionService.getConnection("remote"));
+    }
+
+    @Test
+    void handlesEveryMessageTypeAndServesRequestsOnTheChannelLoop() {
+        MessageHandlerRegistry messageHandlerRegistry = peer.getMessageHandlerRegistry();
+        // The handshake and keep-alives are handled by the channel itself, file responses arrive as file data
+        Set<PayloadCase> unregisteredPayloadCases = EnumSet.of(PayloadCase.HANDSHAKE, PayloadCase.KEEPALIVE, PayloadCase.FILERESPONSE,
+                PayloadCase.PAYLOAD_NOT_SET);
+        Set<PayloadCase> channelLoopPayloadCases = EnumSet.noneOf(PayloadCase.class);
+
+        for (PayloadCase payloadCase : PayloadCase.values()) {
+            MessageHandlerRegistry.Registration<ProtobufMessage> registration = messageHandlerRegistry.get(payloadCase);
+
+            assertEquals(unregisteredPayloadCases.contains(payloadCase), registration == null, payloadCase.name());
+
+            if (registration != null && !registration.isOnPeerEventLoop()) {
+                channelLoopPayloadCases.add(payloadCase);
+            }
+        }
+
+        assertEquals(EnumSet.of(PayloadCase.GETFILESREQUEST, PayloadCase.GETFILESRESPONSE, PayloadCase.FILEREQUEST,
+                PayloadCase.DIRECTORYREQUEST, PayloadCase.PACKEDFILEREQUEST, PayloadCase.DELTAREQUEST, PayloadCase.CHUNKLISTREQUEST,
+                PayloadCase.CHUNKREQUEST), channelLoopPayloadCases);
+        assertFalse(messageHandlerRegistry.getFileData().isOnPeerEventLoop());
+    }
+}
@@ -0,0 +1,147 @@
+package com.halcyon.p2p.file.transfer.network;
+
+import com.halcyon.p2p.file.transfer.proto.File.FileRequest;
+import com.halcyon.p2p.file.transfer.proto.General.ProtobufMessage;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.jupiter.api.Test;
+
+import java.nio.channels.ClosedChannelException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.halcyon.p2p.file.transfer.network.PeerFrameDecoderTest.randomBytes;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProtobufBatchEncoderTest {
+    private static ProtobufMessage fileRequest(String fileName) {
+        return ProtobufMessage.newBuilder()
+                .setFileRequest(FileRequest.newBuilder().setFileName(fileName).setLength(1024))
+                .build();
+    }
+
+    private static List<ByteBuf> readAllOutbound(EmbeddedChannel channel) {
+        List<ByteBuf> buffers = new ArrayList<>();
+        ByteBuf buffer;
+
+        while ((buffer = channel.readOutbound()) != null) {
+            buffers.add(buffer);
+        }
+
+        return buffers;
+    }
+
+    private static List<Object> decode(ByteBuf frames) {
+        EmbeddedChannel channel = new EmbeddedChannel(new PeerFrameDecoder());
+        channel.writeInbound(frames);
+
+        List<Object> messages = new ArrayList<>();
+        Object message;
+
+        while ((message = channel.readInbound()) != null) {
+            messages.add(message);
+        }
+
+        assertFalse(channel.finish());
+        return messages;
+    }
+
+    @Test
+    void writesMessagesUntilTheFlushInOneBuffer() {
+        EmbeddedChannel channel = new EmbeddedChannel(new ProtobufBatchEncoder());
+        List<ProtobufMessage> messages = List.of(fileRequest("a"), fileRequest("b"), fileRequest("c"));
+        List<ChannelFuture> futures = new ArrayList<>();
+
+        for (ProtobufMessage message : messages) {
+            futures.add(channel.write(message));
+        }
+
+        assertNull(channel.readOutbound());
+        assertTrue(futures.stream().noneMatch(ChannelFuture::isDone));
+
+        channel.flush();
+        List<ByteBuf> buffers = readAllOutbound(channel);
+
+        assertEquals(1, buffers.size());
+        assertEquals(messages, decode(buffers.get(0)));
+        assertTrue(futures.stream().allMatch(ChannelFuture::isSuccess));
+        assertFalse(channel.finish());
+    }
+
+    @Test
+    void startsAnotherBufferWhenTheBatchIsFull() {
+        EmbeddedChannel channel = new EmbeddedChannel(new ProtobufBatchEncoder());
+        List<ProtobufMessage> messages = new ArrayList<>();
+
+        for (int i = 0; i < 50; i++) {
+            ProtobufMessage message = fileRequest("file-" + i + "-" + "x".repeat(400));
+            messages.add(message);
+            channel.write(message);
+        }
+
+        channel.flush();
+        List<ByteBuf> buffers = readAllOutbound(channel);
+
+        assertTrue(buffers.size() > 1);
+        assertEquals(messages, decode(Unpooled.wrappedBuffer(buffers.toArray(new ByteBuf[0]))));
+        assertFalse(channel.finish());
+    }
+
+    @Test
+    void framesAnOversizedMessageOnItsOwn() {
+        EmbeddedChannel channel = new EmbeddedChannel(new ProtobufBatchEncoder());
+        List<ProtobufMessage> messages = List.of(fileRequest("a"), fileRequest("x".repeat(20 * 1024)), fileRequest("c"));
+        List<ChannelFuture> futures = new ArrayList<>();
+
+        for (ProtobufMessage message : messages) {
+            futures.add(channel.write(message));
+        }
+
+        channel.flush();
+        List<ByteBuf> buffers = readAllOutbound(channel);
+
+        assertEquals(3, buffers.size());
+
+        for (int i = 0; i < buffers.size(); i++) {
+            assertEquals(List.of(messages.get(i)), decode(buffers.get(i)));
+        }
+
+        assertTrue(futures.stream().allMatch(ChannelFuture::isSuccess));
+        assertFalse(channel.finish());
+    }
+
+    @Test
+    void sendsTheBatchBeforeAnythingElse() {
+        EmbeddedChannel channel = new EmbeddedChannel(new ProtobufBatchEncoder());
+        ByteBuf payload = Unpooled.wrappedBuffer(randomBytes(1000));
+
+        channel.write(fileRequest("a"));
+        channel.write(fileRequest("b"));
+        channel.write(payload);
+        channel.write(fileRequest("c"));
+        channel.flush();
+
+        List<ByteBuf> buffers = readAllOutbound(channel);
+
+        assertEquals(3, buffers.size());
+        assertEquals(List.of(fileRequest("a"), fileRequest("b")), decode(buffers.get(0)));
+        assertSame(payload, buffers.get(1));
+        assertEquals(List.of(fileRequest("c")), decode(buffers.get(2)));
+        payload.release();
+        assertFalse(channel.finish());
+    }
+
+    @Test
+    void failsUnflushedWritesWhenRemoved() {
+        EmbeddedChannel channel = new EmbeddedChannel(new ProtobufBatchEncoder());
+        ChannelFuture future = channel.write(fileRequest("a"));
+
+        channel.pipeline().removeFirst();
+
+        assertInstanceOf(ClosedChannelException.class, future.cause());
+        assertNull(channel.readOutbound());
+        assertFalse(channel.finish());
+    }
+}
@@ -0,0 +1,101 @@
+package com.halcyon.p2p.file.transfer.network;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TokenBucketTest {
+    private static final long SECOND_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private long now;
+
+    private TokenBucket createTokenBucket(long rate, long burstSize) {
+        return new TokenBucket(rate, burstSize, () -> now);
+    }
+
+    @Test
+    void neverWaitsWithoutARate() {
+        TokenBucket tokenBucket = createTokenBucket(0, 1000);
+
+        assertEquals(0, tokenBucket.reserve(Long.MAX_VALUE / 2));
+        assertEquals(0, tokenBucket.reserve(1));
+    }
+
+    @Test
+    void letsTheBurstPassRightAway() {
+        TokenBucket tokenBucket = createTokenBucket(1000, 1000);
+
+        assertEquals(0, tokenBucket.reserve(600));
+        assertEquals(0, tokenBucket.reserve(400));
+    }
+
+    @Test
+    void waitsOutTheDebtAtTheRate() {
+        TokenBucket tokenBucket = createTokenBucket(1000, 1000);
+
+        assertEquals(0, tokenBucket.reserve(1000));
+        assertEquals(SECOND_NANOS / 2, tokenBucket.reserve(500));
+        assertEquals(SECOND_NANOS, tokenBucket.reserve(500));
+    }
+
+    @Test
+    void letsAMessageLargerThanTheBurstPass() {
+        TokenBucket tokenBucket = createTokenBucket(1000, 1000);
+
+        assertEquals(0, tokenBucket.reserve(0));
+        assertEquals(2 * SECOND_NANOS, tokenBucket.reserve(3000));
+    }
+
+    @Test
+    void refillsOverTime() {
+        TokenBucket tokenBucket = createTokenBucket(10_000, 10_000);
+
+        tokenBucket.reserve(10_000);
+        now += SECOND_NANOS / 10;
+
+        assertEquals(0, tokenBucket.reserve(1000));
+        assertEquals(SECOND_NANOS / 10, tokenBucket.reserve(1000));
+    }
+
+    @Test
+    void paysOffTheDebtWhileTimePasses() {
+        TokenBucket tokenBucket = createTokenBucket(1000, 1000);
+
+        tokenBucket.reserve(3000);
+        now += SECOND_NANOS / 2;
+
+        assertEquals(SECOND_NANOS * 3 / 2 + SECOND_NANOS / 10, tokenBucket.reserve(100));
+    }
+
+    @Test
+    void neverRefillsPastTheBurst() {
+        TokenBucket tokenBucket = createTokenBucket(1000, 500);
+
+        now += 10 * SECOND_NANOS;
+
+        assertEquals(0, tokenBucket.reserve(500));
+        assertEquals(SECOND_NANOS / 10, tokenBucket.reserve(100));
+    }
+
+    @Test
+    void startsFullWhenARateIsSetOnAnUnlimitedBucket() {
+        TokenBucket tokenBucket = createTokenBucket(0, 0);
+
+        tokenBucket.setRate(1000, 500);
+
+        assertEquals(0, tokenBucket.reserve(500));
+        assertEquals(SECOND_NANOS / 10, tokenBucket.reserve(100));
+    }
+
+    @Test
+    void keepsTheDebtWhenTheRateChanges() {
+        TokenBucket tokenBucket = createTokenBucket(1000, 1000);
+
+        tokenBucket.reserve(2000);
+        tokenBucket.setRate(2000, 1000);
+
+        assertEquals(SECOND_NANOS / 2 + SECOND_NANOS / 20, tokenBucket.reserve(100));
+    }
+}
@@ -0,0 +1,158 @@
+package com.halcyon.p2p.file.transfer.service;
+
+import com.google.protobuf.ByteString;
+import com.halcyon.p2p.file.transfer.util.ContentDefinedChunker;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChunkStoreTest {
+    private static final byte[] DATA = "some chunk of a file".getBytes(StandardCharsets.UTF_8);
+    private static final long MAX_SIZE = 1024 * 1024;
+    private static final int CHUNK_SIZE = 1024;
+
+    @TempDir
+    Path directory;
+
+    private static byte[] randomBytes(int length, long seed) {
+        byte[] bytes = new byte[length];
+        new Random(seed).nextBytes(bytes);
+        return bytes;
+    }
+
+    private static List<ByteString> getChunks(byte[] content) throws IOException {
+        List<ByteString> chunks = new ArrayList<>();
+        ContentDefinedChunker.forEachChunk(new ByteArrayInputStream(content),
+                (buffer, position, offset, length) -> chunks.add(ByteString.copyFrom(buffer, position, length)));
+        return chunks;
+    }
+
+    private static ByteString put(ChunkStore chunkStore, ByteString data) throws IOException {
+        ByteString hash = ChunkStore.hash(data.toByteArray(), 0, data.size());
+        assertTrue(chunkStore.put(hash, data));
+        return hash;
+    }
+
+    @Test
+    void storesChunksUnderTheirHash() throws IOException {
+        ChunkStore chunkStore = new ChunkStore(directory, MAX_SIZE);
+        ByteString hash = ChunkStore.hash(DATA, 0, DATA.length);
+
+        assertFalse(chunkStore.contains(hash));
+        assertTrue(chunkStore.put(hash, ByteString.copyFrom(DATA)));
+        assertTrue(chunkStore.contains(hash));
+        assertArrayEquals(DATA, chunkStore.read(hash));
+        assertTrue(chunkStore.put(hash, ByteString.copyFrom(DATA)));
+    }
+
+    @Test
+    void rejectsDataNotMatchingTheHash() throws IOException {
+        ChunkStore chunkStore = new ChunkStore(directory, MAX_SIZE);
+        ByteString hash = ChunkStore.hash(DATA, 0, DATA.length);
+
+        assertFalse(chunkStore.put(hash, ByteString.copyFrom(DATA, 1, DATA.length - 1)));
+        assertFalse(chunkStore.contains(hash));
+    }
+
+    @Test
+    void rejectsHashesOfAnotherLength() throws IOException {
+        ChunkStore chunkStore = new ChunkStore(directory, MAX_SIZE);
+        ByteString hash = ChunkStore.hash(DATA, 0, DATA.length);
+
+        for (ByteString invalidHash : new ByteString[]{ByteString.EMPTY, hash.substring(0, 1), hash.substring(0, 31),
+                hash.concat(ByteString.copyFrom(new byte[1]))}) {
+            assertFalse(ChunkStore.isValidHash(invalidHash));
+            assertFalse(chunkStore.contains(invalidHash));
+            assertFalse(chunkStore.put(invalidHash, ByteString.copyFrom(DATA)));
+            assertThrows(IOException.class, () -> chunkStore.read(invalidHash));
+        }
+    }
+
+    @Test
+    void readsTheChunksOfAnIndexedFileFromTheFileInsteadOfStoringThemTwice() throws IOException {
+        ChunkStore chunkStore = new ChunkStore(directory.resolve("chunks"), MAX_SIZE);
+        byte[] content = randomBytes(256 * 1024, 1);
+        List<ByteString> chunks = getChunks(content);
+
+        put(chunkStore, chunks.get(0));
+        assertEquals(chunks.get(0).size(), chunkStore.getStoredSize());
+
+        chunkStore.indexFile(Files.write(directory.resolve("a.bin"), content));
+        assertEquals(0, chunkStore.getStoredSize());
+
+        ByteString.Output assembled = ByteString.newOutput();
+
+        for (ByteString chunk : chunks) {
+            ByteString hash = ChunkStore.hash(chunk.toByteArray(), 0, chunk.size());
+
+            assertTrue(chunkStore.contains(hash));
+            assertTrue(chunkStore.put(hash, chunk));
+            assembled.write(chunkStore.read(hash));
+        }
+
+        assertArrayEquals(content, assembled.toByteString().toByteArray());
+        assertEquals(0, chunkStore.getStoredSize());
+    }
+
+    @Test
+    void forgetsTheChunksOfAFileChangedOrRemovedSinceItWasIndexed() throws IOException {
+        ChunkStore chunkStore = new ChunkStore(directory.resolve("chunks"), MAX_SIZE);
+        byte[] content = randomBytes(256 * 1024, 1);
+        ByteString chunk = getChunks(content).get(0);
+        ByteString hash = ChunkStore.hash(chunk.toByteArray(), 0, chunk.size());
+        Path path = Files.write(directory.resolve("a.bin"), content);
+
+        chunkStore.indexFile(path);
+        Files.write(path, randomBytes(content.length + 1, 2));
+
+        assertFalse(chunkStore.contains(hash));
+        assertThrows(IOException.class, () -> chunkStore.read(hash));
+
+        Files.write(path, content);
+        chunkStore.indexFile(path);
+        assertTrue(chunkStore.contains(hash));
+
+        chunkStore.removeFile(path);
+        assertFalse(chunkStore.contains(hash));
+    }
+
+    @Test
+    void evictsTheLeastRecentlyUsedChunksThatNoDownloadHoldsOnceOverTheMaxSize() throws IOException {
+        ChunkStore chunkStore = new ChunkStore(directory, 2 * CHUNK_SIZE);
+        List<ByteString> hashes = new ArrayList<>();
+
+        for (int i = 0; i < 4; i++) {
+            hashes.add(ChunkStore.hash(randomBytes(CHUNK_SIZE, i), 0, CHUNK_SIZE));
+        }
+
+        chunkStore.pin(hashes);
+
+        for (int i = 0; i < 4; i++) {
+            put(chunkStore, ByteString.copyFrom(randomBytes(CHUNK_SIZE, i)));
+        }
+
+        // Chunks held by a download are kept past the max size
+        assertEquals(4 * CHUNK_SIZE, chunkStore.getStoredSize());
+
+        chunkStore.read(hashes.get(0));
+        chunkStore.pin(List.of(hashes.get(3)));
+        chunkStore.unpin(hashes);
+
+        // 1 is the least recently used chunk, 3 is still held by another download
+        assertEquals(List.of(true, false, false, true), hashes.stream().map(chunkStore::contains).toList());
+        assertEquals(2 * CHUNK_SIZE, chunkStore.getStoredSize());
+
+        // A restarted store finds the chunks left on disk
+        assertEquals(2 * CHUNK_SIZE, new ChunkStore(directory, 2 * CHUNK_SIZE).getStoredSize());
+    }
+}
@@ -0,0 +1,173 @@
+package com.halcyon.p2p.file.transfer.service;
+
+import com.google.common.hash.Hashing;
+import com.google.protobuf.ByteString;
+import com.halcyon.p2p.file.transfer.proto.File.BlockRange;
+import com.halcyon.p2p.file.transfer.proto.File.DeltaInstruction;
+import com.halcyon.p2p.file.transfer.proto.File.DeltaRequest;
+import com.halcyon.p2p.file.transfer.proto.File.DeltaResponse;
+import com.halcyon.p2p.file.transfer.proto.File.FileInfoResponse;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.util.concurrent.ImmediateEventExecutor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Signs the old copy, encodes the new file against the signature with DeltaChunkedInput and applies the responses with DeltaDownload
+class DeltaDownloadTest {
+    @TempDir
+    Path directory;
+
+    private Path oldPath;
+    private DeltaRequest request;
+    private DeltaDownload download;
+
+    private static byte[] randomBytes(int length, long seed) {
+        byte[] bytes = new byte[length];
+        new Random(seed).nextBytes(bytes);
+        return bytes;
+    }
+
+    private static byte[] insert(byte[] content, int offset, byte[] insertion) {
+        byte[] result = new byte[content.length + insertion.length];
+        System.arraycopy(content, 0, result, 0, offset);
+        System.arraycopy(insertion, 0, result, offset, insertion.length);
+        System.arraycopy(content, offset, result, offset + insertion.length, content.length - offset);
+        return result;
+    }
+
+    private static DeltaInstruction copy(int blockIndex, int blockCount) {
+        return DeltaInstruction.newBuilder()
+                .setCopy(BlockRange.newBuilder().setBlockIndex(blockIndex).setBlockCount(blockCount))
+                .build();
+    }
+
+    private static DeltaInstruction literal(byte[] content, int offset, int length) {
+        return DeltaInstruction.newBuilder()
+                .setLiteral(ByteString.copyFrom(content, offset, length))
+                .build();
+    }
+
+    private static int getLiteralBytes(DeltaResponse response) {
+        return response.getInstructionsList().stream().mapToInt(instruction -> instruction.getLiteral().size()).sum();
+    }
+
+    private void createDownload(byte[] oldContent, byte[] newContent) throws IOException {
+        oldPath = Files.write(directory.resolve("a.bin"), oldContent);
+        request = DeltaDownload.createRequest("a.bin", oldPath, Hashing.sha256().newHasher());
+
+        FileInfoResponse fileInfo = FileInfoResponse.newBuilder()
+                .setFileName("a.bin")
+                .setFound(true)
+                .setFileSize(newContent.length)
+                .setContentHash(ByteString.copyFrom(Hashing.sha256().hashBytes(newContent).asBytes()))
+                .build();
+        long signedSize = (long) request.getWeakChecksumsCount() * request.getBlockSize();
+
+        download = new DeltaDownload(fileInfo, Map.of(), null, oldPath, signedSize, request.getBlockSize(), ImmediateEventExecutor.INSTANCE);
+    }
+
+    private List<DeltaResponse> encode(byte[] newContent) throws Exception {
+        Path newPath = Files.write(directory.resolve("new.bin"), newContent);
+        DeltaChunkedInput chunkedInput = new DeltaChunkedInput(newPath, request, ImmediateEventExecutor.INSTANCE, () -> {
+        });
+        List<DeltaResponse> responses = new ArrayList<>();
+
+        while (!chunkedInput.isEndOfInput()) {
+            responses.add(chunkedInput.readChunk(ByteBufAllocator.DEFAULT).getDeltaResponse());
+        }
+
+        chunkedInput.close();
+        return responses;
+    }
+
+    private List<DeltaResponse> roundTrip(byte[] oldContent, byte[] newContent) throws Exception {
+        createDownload(oldContent, newContent);
+        List<DeltaResponse> responses = encode(newContent);
+
+        for (DeltaResponse response : responses) {
+            download.apply(response.getInstructionsList());
+        }
+
+        assertTrue(download.complete());
+        assertArrayEquals(newContent, Files.readAllBytes(oldPath));
+        return responses;
+    }
+
+    @Test
+    void copiesTheUnchangedRunsAroundAnInsertion() throws Exception {
+        // Four times the read ahead, so the buffer of the encoder is compacted along the way
+        byte[] oldContent = randomBytes(4 * 1024 * 1024, 1);
+        byte[] newContent = insert(oldContent, 3_000_000, randomBytes(10, 2));
+
+        List<DeltaResponse> responses = roundTrip(oldContent, newContent);
+
+        // The block the insertion hits is sent literally, up to where the next block of the old copy starts again
+        int blockSize = request.getBlockSize();
+        int brokenBlockIndex = 3_000_000 / blockSize;
+        int brokenBlockOffset = brokenBlockIndex * blockSize;
+        int blockCount = oldContent.length / blockSize;
+
+        assertEquals(1, responses.size());
+        assertEquals(List.of(copy(0, brokenBlockIndex), literal(newContent, brokenBlockOffset, blockSize + 10),
+                copy(brokenBlockIndex + 1, blockCount - brokenBlockIndex - 1)), responses.get(0).getInstructionsList());
+        assertEquals((long) (blockCount - 1) * blockSize, download.getBytesCopied());
+    }
+
+    @Test
+    void splitsLiteralsAcrossResponses() throws Exception {
+        int maxLiteralBytes = DeltaChunkedInput.MAX_LITERAL_BYTES_PER_RESPONSE;
+        byte[] oldContent = randomBytes(64 * 1024, 1);
+        byte[] newContent = randomBytes(3 * maxLiteralBytes, 2);
+
+        List<DeltaResponse> responses = roundTrip(oldContent, newContent);
+
+        assertEquals(3, responses.size());
+
+        for (DeltaResponse response : responses) {
+            assertEquals(maxLiteralBytes, getLiteralBytes(response));
+        }
+
+        assertTrue(responses.get(2).getIsLast());
+        assertEquals(0, download.getBytesCopied());
+    }
+
+    @Test
+    void sendsTheUnsignedTailOfTheOldCopyLiterally() throws Exception {
+        byte[] content = randomBytes(10 * 1024 + 500, 1);
+
+        List<DeltaResponse> responses = roundTrip(content, content);
+
+        assertEquals(10, request.getWeakChecksumsCount());
+        assertEquals(List.of(copy(0, 10), literal(content, 10 * 1024, 500)), responses.get(0).getInstructionsList());
+    }
+
+    @Test
+    void rejectsCopiesPastTheSignedBlocks() throws Exception {
+        byte[] content = randomBytes(10 * 1024 + 500, 1);
+        createDownload(content, content);
+
+        assertThrows(IOException.class, () -> download.apply(List.of(copy(9, 2))));
+        download.abort();
+        assertFalse(Files.exists(directory.resolve("a.bin.delta")));
+    }
+
+    @Test
+    void rejectsADeltaLongerThanTheFile() throws Exception {
+        byte[] content = randomBytes(10 * 1024, 1);
+        createDownload(content, content);
+
+        download.apply(List.of(copy(0, 10)));
+        assertThrows(IOException.class, () -> download.apply(List.of(literal(content, 0, 1))));
+        download.abort();
+    }
+}
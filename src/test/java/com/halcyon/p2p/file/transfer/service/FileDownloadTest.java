@@ -0,0 +1,342 @@
+package com.halcyon.p2p.file.transfer.service;
+
+import com.google.protobuf.ByteString;
+import com.halcyon.p2p.file.transfer.network.Connection;
+import com.halcyon.p2p.file.transfer.proto.Download.DownloadState;
+import com.halcyon.p2p.file.transfer.proto.Index.IndexedFile;
+import io.netty.buffer.Unpooled;
+import io.netty.util.concurrent.ImmediateEventExecutor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FileDownloadTest {
+    private static final int PIECE_SIZE = 1024;
+    private static final byte[] CONTENT = new byte[2 * PIECE_SIZE + 452];
+
+    static {
+        new Random(42).nextBytes(CONTENT);
+    }
+
+    @TempDir
+    Path directory;
+
+    private IndexedFile indexedFile;
+
+    @BeforeEach
+    void hashContent() throws IOException {
+        Path sharedPath = directory.resolve("shared.bin");
+        Files.write(sharedPath, CONTENT);
+        indexedFile = SharedFileIndex.hashFile("shared.bin", sharedPath.toFile(), PIECE_SIZE);
+    }
+
+    private FileDownload createDownload(BitSet completedPieces) {
+        return new FileDownload("a.bin", directory.resolve("a.bin"), CONTENT.length, indexedFile.getContentHash(),
+                indexedFile.getPieceHashesList(), indexedFile.getMerkleRoot(), PIECE_SIZE, ImmediateEventExecutor.INSTANCE, null,
+                completedPieces);
+    }
+
+    private FileDownload createEmptyDownload(int pieceCount, long seed) {
+        return new FileDownload("b.bin", directory.resolve("b.bin"), (long) pieceCount * PIECE_SIZE, ByteString.EMPTY, List.of(),
+                ByteString.EMPTY, PIECE_SIZE, ImmediateEventExecutor.INSTANCE, null, null, new Random(seed));
+    }
+
+    // Without pieces the source has all of them
+    private static DownloadSource createSource(String peerName, int... pieces) {
+        Connection connection = new Connection(null);
+        connection.open(peerName, null, null, Set.of());
+
+        BitSet availablePieces = null;
+
+        if (pieces.length > 0) {
+            availablePieces = new BitSet();
+            Arrays.stream(pieces).forEach(availablePieces::set);
+        }
+
+        return new DownloadSource(connection, availablePieces);
+    }
+
+    private static int requestPiece(FileDownload download, DownloadSource source) {
+        int pieceIndex = download.selectPiece(source);
+
+        if (pieceIndex >= 0) {
+            download.markRequested(source, pieceIndex);
+        }
+
+        return pieceIndex;
+    }
+
+    private static boolean writePiece(FileDownload download, int pieceIndex) throws IOException {
+        int offset = (int) download.getPieceOffset(pieceIndex);
+        return download.write(offset, Unpooled.wrappedBuffer(CONTENT, offset, (int) download.getPieceLength(pieceIndex)));
+    }
+
+    @Test
+    void keepsDataWithinThePieceItStartsIn() {
+        FileDownload download = createDownload(null);
+
+        assertTrue(download.isWithinPiece(0, PIECE_SIZE));
+        assertTrue(download.isWithinPiece(1000, 24));
+        assertTrue(download.isWithinPiece(2 * PIECE_SIZE, 452));
+        assertFalse(download.isWithinPiece(1000, 25));
+        assertFalse(download.isWithinPiece(2 * PIECE_SIZE, 453));
+        assertFalse(download.isWithinPiece(3 * PIECE_SIZE, 1));
+        assertFalse(download.isWithinPiece(-1, 1));
+    }
+
+    @Test
+    void dropsAChunkOverlappingAVerifiedPiece() throws IOException {
+        FileDownload download = createDownload(null);
+
+        assertTrue(writePiece(download, 1));
+        assertTrue(download.verifyPiece(1));
+
+        assertFalse(download.write(1000, Unpooled.wrappedBuffer(new byte[100])));
+
+        download.close();
+        byte[] written = Files.readAllBytes(download.getPath());
+        assertArrayEquals(Arrays.copyOfRange(CONTENT, PIECE_SIZE, 2 * PIECE_SIZE), Arrays.copyOfRange(written, PIECE_SIZE, 2 * PIECE_SIZE));
+        assertEquals(0, written[1000]);
+    }
+
+    @Test
+    void neverGrowsTheFilePastItsSize() throws IOException {
+        FileDownload download = createDownload(null);
+
+        assertFalse(download.write(CONTENT.length - 10, Unpooled.wrappedBuffer(new byte[20])));
+
+        download.close();
+        assertEquals(0, Files.size(download.getPath()));
+    }
+
+    @Test
+    void verifiesTheContentOfACompletedFile() throws IOException {
+        FileDownload download = createDownload(null);
+
+        for (int i = 0; i < download.getPieceCount(); i++) {
+            assertTrue(writePiece(download, i));
+            assertTrue(download.verifyPiece(i));
+        }
+
+        assertTrue(download.verifyContent());
+        download.close();
+        assertArrayEquals(CONTENT, Files.readAllBytes(download.getPath()));
+    }
+
+    @Test
+    void truncatesALongerFileItResumedInto() throws IOException {
+        byte[] longerContent = Arrays.copyOf(CONTENT, CONTENT.length + 5000);
+        Files.write(directory.resolve("a.bin"), longerContent);
+        BitSet completedPieces = new BitSet();
+        completedPieces.set(0, 3);
+
+        FileDownload download = createDownload(completedPieces);
+
+        assertTrue(download.isCompleted());
+        assertTrue(download.verifyContent());
+        download.close();
+        assertEquals(CONTENT.length, Files.size(download.getPath()));
+    }
+
+    @Test
+    void rejectsContentThatDoesNotMatchItsHash() throws IOException {
+        byte[] corruptContent = CONTENT.clone();
+        corruptContent[PIECE_SIZE + 1]++;
+        Files.write(directory.resolve("a.bin"), corruptContent);
+        BitSet completedPieces = new BitSet();
+        completedPieces.set(0, 3);
+
+        FileDownload download = createDownload(completedPieces);
+
+        assertFalse(download.verifyContent());
+        download.close();
+    }
+
+    @Test
+    void quarantinesContentThatDoesNotMatchItsHash() throws IOException {
+        byte[] corruptContent = CONTENT.clone();
+        corruptContent[PIECE_SIZE + 1]++;
+        Files.write(directory.resolve("a.bin"), corruptContent);
+        BitSet completedPieces = new BitSet();
+        completedPieces.set(0, 3);
+
+        FileDownload download = createDownload(completedPieces);
+        download.saveState();
+
+        assertFalse(download.verifyContent());
+        Path corruptPath = download.quarantine();
+
+        assertEquals(FileDownload.getCorruptPath(download.getPath()), corruptPath);
+        assertArrayEquals(corruptContent, Files.readAllBytes(corruptPath));
+        assertFalse(Files.exists(download.getPath()));
+        assertFalse(Files.exists(FileDownload.getStatePath(download.getPath())));
+        assertNull(FileDownload.readState(download.getPath()));
+    }
+
+    @Test
+    void selectsTheRarestPieceFirst() {
+        FileDownload download = createEmptyDownload(8, 42);
+        DownloadSource sourceA = createSource("a");
+        DownloadSource sourceB = createSource("b", 0, 1, 2, 3);
+        DownloadSource sourceC = createSource("c", 0, 1);
+        download.addSource(sourceA);
+        download.addSource(sourceB);
+        download.addSource(sourceC);
+
+        for (int i = 0; i < 4; i++) {
+            int pieceIndex = requestPiece(download, sourceA);
+            assertTrue(pieceIndex >= 4, "piece " + pieceIndex + " is held by more than one source");
+        }
+
+        assertTrue(Set.of(2, 3).contains(requestPiece(download, sourceB)));
+        assertTrue(Set.of(0, 1).contains(requestPiece(download, sourceC)));
+    }
+
+    @Test
+    void breaksTiesBetweenEquallyRarePiecesWithItsRandom() {
+        Set<Integer> selectedPieces = new HashSet<>();
+        Random seeds = new Random(42);
+
+        for (int i = 0; i < 64; i++) {
+            long seed = seeds.nextLong();
+            FileDownload download = createEmptyDownload(4, seed);
+            DownloadSource source = createSource("a");
+            download.addSource(source);
+
+            int pieceIndex = download.selectPiece(source);
+            selectedPieces.add(pieceIndex);
+
+            FileDownload sameSeedDownload = createEmptyDownload(4, seed);
+            DownloadSource sameSeedSource = createSource("a");
+            sameSeedDownload.addSource(sameSeedSource);
+
+            assertEquals(pieceIndex, sameSeedDownload.selectPiece(sameSeedSource));
+        }
+
+        assertEquals(Set.of(0, 1, 2, 3), selectedPieces);
+    }
+
+    @Test
+    void leavesPiecesOfOtherSourcesAloneBeforeTheEndgame() {
+        FileDownload download = createEmptyDownload(2, 42);
+        DownloadSource sourceA = createSource("a", 0);
+        DownloadSource sourceB = createSource("b", 1);
+        download.addSource(sourceA);
+        download.addSource(sourceB);
+
+        assertEquals(0, requestPiece(download, sourceA));
+        // Piece 1 is still unrequested, so piece 0 isn't asked for twice
+        assertEquals(-1, download.selectPiece(sourceA));
+        assertEquals(1, requestPiece(download, sourceB));
+    }
+
+    @Test
+    void requestsTheLeastRequestedPiecesAgainInTheEndgame() {
+        FileDownload download = createEmptyDownload(3, 42);
+        DownloadSource sourceA = createSource("a");
+        DownloadSource sourceB = createSource("b");
+        DownloadSource sourceC = createSource("c");
+        download.addSource(sourceA);
+        download.addSource(sourceB);
+        download.addSource(sourceC);
+
+        Set<Integer> requestedPieces = new HashSet<>();
+
+        for (int i = 0; i < 3; i++) {
+            requestedPieces.add(requestPiece(download, sourceA));
+        }
+
+        assertEquals(Set.of(0, 1, 2), requestedPieces);
+
+        assertEquals(0, requestPiece(download, sourceB));
+        assertEquals(1, requestPiece(download, sourceC));
+        assertEquals(2, requestPiece(download, sourceB));
+
+        download.completePiece(sourceA, 1);
+
+        assertEquals(0, requestPiece(download, sourceC));
+        assertEquals(2, requestPiece(download, sourceC));
+        // Every piece left is already requested from b
+        assertEquals(-1, download.selectPiece(sourceB));
+        assertEquals(-1, download.selectPiece(sourceC));
+    }
+
+    @Test
+    void savesAndReadsTheStateOfItsPieces() throws IOException {
+        FileDownload download = createDownload(null);
+
+        assertTrue(writePiece(download, 2));
+        assertTrue(download.verifyPiece(2));
+        download.completePiece(createSource("a"), 2);
+        download.saveState();
+
+        DownloadState state = FileDownload.readState(download.getPath());
+
+        assertEquals("a.bin", state.getFileName());
+        assertEquals(CONTENT.length, state.getFileSize());
+        assertEquals(indexedFile.getContentHash(), state.getContentHash());
+        assertEquals(PIECE_SIZE, state.getPieceSize());
+        assertEquals(BitSet.valueOf(new long[]{0b100}), BitSet.valueOf(state.getPieceBitmap().toByteArray()));
+
+        download.close();
+        download.deleteState();
+
+        assertNull(FileDownload.readState(download.getPath()));
+    }
+
+    @Test
+    void ignoresAStateWithoutItsFile() throws IOException {
+        FileDownload download = createDownload(null);
+        download.saveState();
+        download.close();
+
+        Files.delete(download.getPath());
+
+        assertTrue(Files.exists(FileDownload.getStatePath(download.getPath())));
+        assertNull(FileDownload.readState(download.getPath()));
+    }
+
+    @Test
+    void resumesIntoTheFileItStartedWithoutTruncatingIt() throws IOException {
+        FileDownload download = createDownload(null);
+
+        assertTrue(writePiece(download, 0));
+        assertTrue(download.verifyPiece(0));
+        download.completePiece(createSource("a"), 0);
+        download.saveState();
+        download.close();
+
+        BitSet completedPieces = BitSet.valueOf(FileDownload.readState(download.getPath()).getPieceBitmap().toByteArray());
+        FileDownload resumedDownload = createDownload(completedPieces);
+        DownloadSource source = createSource("a");
+        resumedDownload.addSource(source);
+
+        assertTrue(resumedDownload.isPieceCompleted(0));
+        assertEquals(1, resumedDownload.getNumberOfCompletedPieces());
+        assertNotEquals(0, requestPiece(resumedDownload, source));
+        assertNotEquals(0, requestPiece(resumedDownload, source));
+        assertEquals(-1, requestPiece(resumedDownload, source));
+
+        for (int i = 1; i < resumedDownload.getPieceCount(); i++) {
+            assertTrue(writePiece(resumedDownload, i));
+            assertTrue(resumedDownload.verifyPiece(i));
+            resumedDownload.completePiece(source, i);
+        }
+
+        assertTrue(resumedDownload.isCompleted());
+        assertTrue(resumedDownload.verifyContent());
+        resumedDownload.close();
+    }
+}
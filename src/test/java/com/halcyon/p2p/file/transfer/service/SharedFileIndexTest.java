@@ -0,0 +1,70 @@
+package com.halcyon.p2p.file.transfer.service;
+
+import com.halcyon.p2p.file.transfer.proto.Index.IndexedFile;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.FileSystems;
+import java.nio.file.PathMatcher;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SharedFileIndexTest {
+    // Sorted by name like the published snapshot
+    private static final List<IndexedFile> INDEXED_FILES = Stream.of("a.txt", "docs/a.md", "docs/b.txt", "docs/c.md", "docs/d.md",
+                    "docs/sub/e.md", "docs0.txt", "z.bin")
+            .map(fileName -> IndexedFile.newBuilder().setFileName(fileName).build())
+            .toList();
+
+    private static List<String> getFileNames(String prefix, PathMatcher globMatcher, String cursor, int limit) {
+        return SharedFileIndex.getFiles(INDEXED_FILES, prefix, globMatcher, cursor, limit).stream()
+                .map(IndexedFile::getFileName)
+                .toList();
+    }
+
+    @Test
+    void listsOnlyNamesWithThePrefix() {
+        assertEquals(List.of("docs/a.md", "docs/b.txt", "docs/c.md", "docs/d.md", "docs/sub/e.md"), getFileNames("docs/", null, "", 100));
+    }
+
+    @Test
+    void filtersByGlob() {
+        PathMatcher globMatcher = FileSystems.getDefault().getPathMatcher("glob:docs/*.md");
+
+        assertEquals(List.of("docs/a.md", "docs/c.md", "docs/d.md"), getFileNames("docs/", globMatcher, "", 100));
+    }
+
+    @Test
+    void continuesAfterTheCursor() {
+        assertEquals(List.of("docs/c.md", "docs/d.md"), getFileNames("docs/", null, "docs/b.txt", 2));
+    }
+
+    @Test
+    void startsAtThePrefixWhenTheCursorIsBeforeIt() {
+        assertEquals(List.of("docs/a.md"), getFileNames("docs/", null, "a.txt", 1));
+    }
+
+    @Test
+    void pagesThroughEveryMatchOnce() {
+        PathMatcher globMatcher = FileSystems.getDefault().getPathMatcher("glob:**.md");
+        List<String> fileNames = new ArrayList<>();
+        String cursor = "";
+        List<String> page;
+
+        do {
+            page = getFileNames("docs/", globMatcher, cursor, 2);
+            fileNames.addAll(page);
+            cursor = page.isEmpty() ? cursor : page.get(page.size() - 1);
+        } while (page.size() == 2);
+
+        assertEquals(List.of("docs/a.md", "docs/c.md", "docs/d.md", "docs/sub/e.md"), fileNames);
+    }
+
+    @Test
+    void returnsNothingPastTheLastMatch() {
+        assertEquals(List.of(), getFileNames("docs/", null, "docs/sub/e.md", 100));
+        assertEquals(List.of(), getFileNames("missing/", null, "", 100));
+    }
+}
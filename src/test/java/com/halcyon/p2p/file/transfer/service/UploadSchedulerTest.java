@@ -0,0 +1,209 @@
+package com.halcyon.p2p.file.transfer.service;
+
+import com.halcyon.p2p.file.transfer.config.PeerConfig;
+import com.halcyon.p2p.file.transfer.network.ChunkSizeController;
+import com.halcyon.p2p.file.transfer.network.Connection;
+import com.halcyon.p2p.file.transfer.proto.General.ProtobufMessage;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.util.ReferenceCountUtil;
+import io.netty.util.concurrent.ImmediateEventExecutor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Chunks written by the scheduler are held until the test completes them, and the scheduler only hears of a completed chunk once
+// the tasks of its loop are run
+class UploadSchedulerTest {
+    private static final int QUANTUM = 4096;
+    private static final int CHUNK_SIZE = QUANTUM / 4;
+    private static final long UPLOAD_LENGTH = 1000L * QUANTUM;
+
+    @TempDir
+    Path directory;
+
+    private final EmbeddedChannel schedulerChannel = new EmbeddedChannel();
+    private final List<String> writtenChunks = new ArrayList<>();
+    private final Deque<ChannelPromise> heldChunks = new ArrayDeque<>();
+    private final PeerConfig peerConfig = new PeerConfig("local");
+    private long now;
+
+    private UploadScheduler uploadScheduler;
+    private Path path;
+
+    @BeforeEach
+    void createFile() throws IOException {
+        path = Files.write(directory.resolve("a.bin"), new byte[CHUNK_SIZE]);
+        peerConfig.setMaxChunkSize(QUANTUM);
+    }
+
+    private void createScheduler(int uploadSlots) {
+        peerConfig.setUploadSlots(uploadSlots);
+        uploadScheduler = new UploadScheduler(peerConfig, schedulerChannel.eventLoop(), () -> now);
+    }
+
+    private Connection connect(String peerName) {
+        EmbeddedChannel channel = new EmbeddedChannel(new ChannelOutboundHandlerAdapter() {
+            @Override
+            public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
+                if (msg instanceof ProtobufMessage header) {
+                    writtenChunks.add(peerName + " " + header.getFileResponse().getFileName());
+                } else {
+                    heldChunks.addLast(promise);
+                }
+
+                ReferenceCountUtil.release(msg);
+            }
+        }, new ChannelInboundHandlerAdapter());
+
+        Connection connection = new Connection(channel.pipeline().lastContext());
+        connection.open(peerName, new ChunkSizeController(peerName, CHUNK_SIZE, CHUNK_SIZE), null, Set.of());
+        return connection;
+    }
+
+    private void submit(Connection connection, String fileName) throws IOException {
+        now++;
+        uploadScheduler.submit(new Upload(connection, path.toFile(), FileChannel.open(path), fileName, UPLOAD_LENGTH, 0, UPLOAD_LENGTH,
+                null, ImmediateEventExecutor.INSTANCE, schedulerChannel.eventLoop()));
+    }
+
+    private List<String> completeChunks(int numberOfChunks) {
+        int numberOfWrittenChunks = writtenChunks.size();
+
+        for (int i = 0; i < numberOfChunks; i++) {
+            heldChunks.pollFirst().setSuccess();
+            schedulerChannel.runPendingTasks();
+        }
+
+        return new ArrayList<>(writtenChunks.subList(numberOfWrittenChunks, writtenChunks.size()));
+    }
+
+    private Set<String> completeAllChunks() {
+        return new HashSet<>(completeChunks(heldChunks.size()));
+    }
+
+    private void rechoke() {
+        now++;
+        uploadScheduler.rechoke();
+    }
+
+    @Test
+    void givesEachPeerOneQuantumPerTurn() throws IOException {
+        createScheduler(2);
+        Connection connectionA = connect("a");
+        Connection connectionB = connect("b");
+
+        submit(connectionA, "1.bin");
+        submit(connectionB, "2.bin");
+
+        // a fills the bytes in flight before b shows up
+        assertEquals(Collections.nCopies(8, "a 1.bin"), writtenChunks);
+
+        List<String> expectedChunks = new ArrayList<>();
+
+        for (int i = 0; i < 4; i++) {
+            expectedChunks.addAll(Collections.nCopies(4, i % 2 == 0 ? "a 1.bin" : "b 2.bin"));
+        }
+
+        assertEquals(expectedChunks, completeChunks(16));
+    }
+
+    @Test
+    void capsTheBytesInFlightOfEachPeer() throws IOException {
+        createScheduler(3);
+        Connection connection = connect("a");
+
+        submit(connection, "1.bin");
+        submit(connection, "2.bin");
+
+        // Two quanta in flight, although three slots would take more
+        assertEquals(8, writtenChunks.size());
+        assertEquals(8, heldChunks.size());
+
+        assertEquals(List.of("a 1.bin"), completeChunks(1));
+        assertEquals(8, heldChunks.size());
+    }
+
+    @Test
+    void rechokesToThePeersThatSentTheMost() throws IOException {
+        createScheduler(2);
+        Connection connectionA = connect("a");
+        Connection connectionB = connect("b");
+        Connection connectionC = connect("c");
+
+        submit(connectionA, "1.bin");
+        submit(connectionB, "2.bin");
+        submit(connectionC, "3.bin");
+        assertEquals(Set.of("a 1.bin", "b 2.bin"), completeAllChunks());
+
+        connectionC.handleFileDataReceived(QUANTUM);
+        rechoke();
+
+        // c sent the most, and of the rest b got less from us than a, which is why b takes the optimistic slot
+        completeAllChunks();
+        assertEquals(Set.of("b 2.bin", "c 3.bin"), completeAllChunks());
+    }
+
+    @Test
+    void rotatesTheOptimisticSlotToTheLongestWaitingPeer() throws IOException {
+        createScheduler(2);
+        Connection connectionA = connect("a");
+        Connection connectionB = connect("b");
+        Connection connectionC = connect("c");
+
+        submit(connectionA, "1.bin");
+        submit(connectionB, "2.bin");
+        submit(connectionC, "3.bin");
+        completeAllChunks();
+
+        // a keeps the regular slot in every round, b loses its slot to c, which has waited the longest
+        List<Set<String>> uploadingPeers = new ArrayList<>();
+
+        for (int round = 1; round <= 4; round++) {
+            connectionA.handleFileDataReceived(QUANTUM);
+            rechoke();
+            completeAllChunks();
+            uploadingPeers.add(completeAllChunks());
+        }
+
+        Set<String> withC = Set.of("a 1.bin", "c 3.bin");
+        Set<String> withB = Set.of("a 1.bin", "b 2.bin");
+
+        // The optimistic slot only moves every third round, to b which has waited since the first one
+        assertEquals(List.of(withC, withC, withB, withB), uploadingPeers);
+    }
+
+    @Test
+    void keepsTheTurnOfAPeerWhoseFailedUploadLeavesOthersQueued() throws IOException {
+        createScheduler(1);
+        Connection connection = connect("a");
+
+        // Reading the missing file fails every chunk of the first upload
+        uploadScheduler.submit(new Upload(connection, directory.resolve("missing.bin").toFile(), null, "1.bin", UPLOAD_LENGTH, 0,
+                UPLOAD_LENGTH, null, ImmediateEventExecutor.INSTANCE, schedulerChannel.eventLoop()));
+        submit(connection, "2.bin");
+        assertTrue(writtenChunks.isEmpty());
+
+        schedulerChannel.runPendingTasks();
+
+        // The single slot takes one quantum in flight
+        assertEquals(Collections.nCopies(4, "a 2.bin"), writtenChunks);
+    }
+}
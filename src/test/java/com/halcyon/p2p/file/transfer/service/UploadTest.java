@@ -0,0 +1,112 @@
+package com.halcyon.p2p.file.transfer.service;
+
+import com.halcyon.p2p.file.transfer.network.Connection;
+import com.halcyon.p2p.file.transfer.network.FileData;
+import com.halcyon.p2p.file.transfer.proto.General.ProtobufMessage;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.DefaultEventLoop;
+import io.netty.channel.FileRegion;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.util.ReferenceCountUtil;
+import io.netty.util.concurrent.DefaultEventExecutor;
+import io.netty.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UploadTest {
+    private static final int CHUNK_SIZE = 1024;
+    private static final int NUMBER_OF_CHUNKS = 16;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void writesRegionsRightBehindTheirHeadersBetweenCompressedChunksOnTheSameLane() throws Exception {
+        byte[] content = new byte[NUMBER_OF_CHUNKS * CHUNK_SIZE];
+        new Random(42).nextBytes(content);
+        Path path = directory.resolve("a.bin");
+        Files.write(path, content);
+
+        List<String> writes = Collections.synchronizedList(new ArrayList<>());
+        Set<Thread> writingThreads = ConcurrentHashMap.newKeySet();
+        EmbeddedChannel channel = new EmbeddedChannel(new ChannelOutboundHandlerAdapter() {
+            @Override
+            public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
+                writingThreads.add(Thread.currentThread());
+
+                if (msg instanceof ProtobufMessage header) {
+                    writes.add("header " + header.getFileResponse().getOffset() + " " + header.getFileResponse().getPayloadLength());
+                } else if (msg instanceof FileRegion region) {
+                    writes.add("region " + region.position() + " " + region.count());
+                } else if (msg instanceof FileData fileData) {
+                    writes.add("data " + fileData.getOffset());
+                }
+
+                ReferenceCountUtil.release(msg);
+                promise.trySuccess();
+            }
+        }, new ChannelInboundHandlerAdapter());
+
+        Connection connection = new Connection(channel.pipeline().lastContext());
+        connection.open("b", null, null, Set.of());
+
+        DefaultEventLoop peerEventLoop = new DefaultEventLoop();
+        DefaultEventExecutor diskIoExecutor = new DefaultEventExecutor();
+
+        try {
+            Upload compressedUpload = new Upload(connection, path.toFile(), null, "a.bin", content.length, 0, content.length, null,
+                    diskIoExecutor, peerEventLoop);
+            Upload zeroCopyUpload = new Upload(connection, path.toFile(), FileChannel.open(path), "a.bin", content.length, 0,
+                    content.length, null, diskIoExecutor, peerEventLoop);
+
+            List<Future<?>> futures = peerEventLoop.submit(() -> {
+                List<Future<?>> chunkFutures = new ArrayList<>();
+
+                for (int i = 0; i < NUMBER_OF_CHUNKS; i++) {
+                    chunkFutures.add(compressedUpload.sendChunk(CHUNK_SIZE));
+                    chunkFutures.add(zeroCopyUpload.sendChunk(CHUNK_SIZE));
+                }
+
+                return chunkFutures;
+            }).get();
+
+            for (Future<?> future : futures) {
+                assertTrue(future.sync().isSuccess());
+            }
+
+            assertEquals(Set.of(peerEventLoop.submit(Thread::currentThread).get()), writingThreads);
+        } finally {
+            peerEventLoop.shutdownGracefully().sync();
+            diskIoExecutor.shutdownGracefully().sync();
+        }
+
+        assertEquals(3 * NUMBER_OF_CHUNKS, writes.size());
+
+        int numberOfRegions = 0;
+
+        for (int i = 0; i < writes.size(); i++) {
+            if (writes.get(i).startsWith("region")) {
+                assertEquals(writes.get(i).replace("region", "header"), writes.get(i - 1));
+                numberOfRegions++;
+            }
+        }
+
+        assertEquals(NUMBER_OF_CHUNKS, numberOfRegions);
+        assertFalse(channel.finishAndReleaseAll());
+    }
+}
@@ -0,0 +1,101 @@
+package com.halcyon.p2p.file.transfer.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static com.halcyon.p2p.file.transfer.util.ContentDefinedChunker.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContentDefinedChunkerTest {
+    private static byte[] randomBytes(int length, long seed) {
+        byte[] bytes = new byte[length];
+        new Random(seed).nextBytes(bytes);
+        return bytes;
+    }
+
+    // Feeds the chunker the way the chunk list is built, with the whole rest of the data available
+    private static List<Integer> chunk(byte[] data) {
+        List<Integer> chunkLengths = new ArrayList<>();
+
+        for (int offset = 0; offset < data.length; ) {
+            int chunkLength = findChunkLength(data, offset, data.length - offset, true);
+            chunkLengths.add(chunkLength);
+            offset += chunkLength;
+        }
+
+        return chunkLengths;
+    }
+
+    private static Set<String> chunkContents(byte[] data) {
+        Set<String> chunkContents = new HashSet<>();
+        int offset = 0;
+
+        for (int chunkLength : chunk(data)) {
+            chunkContents.add(Arrays.toString(Arrays.copyOfRange(data, offset, offset + chunkLength)));
+            offset += chunkLength;
+        }
+
+        return chunkContents;
+    }
+
+    @Test
+    void cutsChunksWithinTheBoundsCoveringAllData() {
+        byte[] data = randomBytes(4 * 1024 * 1024, 1);
+        List<Integer> chunkLengths = chunk(data);
+
+        assertEquals(data.length, chunkLengths.stream().mapToInt(Integer::intValue).sum());
+
+        for (int chunkLength : chunkLengths.subList(0, chunkLengths.size() - 1)) {
+            assertTrue(chunkLength > MIN_CHUNK_SIZE && chunkLength <= MAX_CHUNK_SIZE, "chunk of " + chunkLength + " bytes");
+        }
+
+        double averageChunkSize = (double) data.length / chunkLengths.size();
+        assertTrue(averageChunkSize > AVERAGE_CHUNK_SIZE / 2.0 && averageChunkSize < AVERAGE_CHUNK_SIZE * 2.0,
+                "average chunk of " + averageChunkSize + " bytes");
+    }
+
+    @Test
+    void cutsAtTheMaximumWithoutAnyBoundary() {
+        byte[] zeros = new byte[3 * MAX_CHUNK_SIZE];
+
+        assertEquals(List.of(MAX_CHUNK_SIZE, MAX_CHUNK_SIZE, MAX_CHUNK_SIZE), chunk(zeros));
+    }
+
+    @Test
+    void keepsShortDataInOneChunk() {
+        assertEquals(MIN_CHUNK_SIZE, findChunkLength(new byte[MIN_CHUNK_SIZE], 0, MIN_CHUNK_SIZE, false));
+        assertEquals(0, findChunkLength(new byte[0], 0, 0, true));
+    }
+
+    @Test
+    void needsTheMaximumChunkUnlessAtTheEnd() {
+        byte[] data = new byte[MAX_CHUNK_SIZE - 1];
+
+        assertThrows(IllegalArgumentException.class, () -> findChunkLength(data, 0, data.length, false));
+    }
+
+    @Test
+    void cutsIdenticallyAfterAnInsertion() {
+        byte[] data = randomBytes(1024 * 1024, 2);
+        byte[] insertion = randomBytes(100, 3);
+        byte[] changedData = new byte[data.length + insertion.length];
+        int insertionOffset = data.length / 2;
+
+        System.arraycopy(data, 0, changedData, 0, insertionOffset);
+        System.arraycopy(insertion, 0, changedData, insertionOffset, insertion.length);
+        System.arraycopy(data, insertionOffset, changedData, insertionOffset + insertion.length, data.length - insertionOffset);
+
+        Set<String> chunkContents = chunkContents(data);
+        Set<String> changedChunkContents = chunkContents(changedData);
+        changedChunkContents.removeAll(chunkContents);
+
+        // Only the chunks around the insertion differ
+        assertTrue(changedChunkContents.size() <= 2, changedChunkContents.size() + " chunks changed");
+    }
+}
@@ -0,0 +1,36 @@
+package com.halcyon.p2p.file.transfer.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class DeltaUtilTest {
+    @Test
+    void picksAboutTheSquareRootOfTheFileSize() {
+        assertEquals(10_000 & ~7, DeltaUtil.getBlockSize(100_000_000));
+        assertEquals(4096, DeltaUtil.getBlockSize(4096L * 4096));
+    }
+
+    @Test
+    void keepsTheBlockSizeWithinItsBounds() {
+        assertEquals(DeltaUtil.MIN_BLOCK_SIZE, DeltaUtil.getBlockSize(0));
+        assertEquals(DeltaUtil.MIN_BLOCK_SIZE, DeltaUtil.getBlockSize(1000));
+        assertEquals(DeltaUtil.MAX_BLOCK_SIZE, DeltaUtil.getBlockSize(Long.MAX_VALUE));
+    }
+
+    @Test
+    void keepsTheBlockSizeAMultipleOfEight() {
+        for (long fileSize = 1; fileSize < 1L << 40; fileSize = fileSize * 3 + 1) {
+            assertEquals(0, DeltaUtil.getBlockSize(fileSize) % 8);
+        }
+    }
+
+    @Test
+    void computesTheStrongChecksumOverTheRangeOnly() {
+        byte[] data = {1, 2, 3, 4, 5, 6};
+
+        assertEquals(DeltaUtil.computeStrongChecksum(new byte[]{2, 3, 4}, 0, 3), DeltaUtil.computeStrongChecksum(data, 1, 3));
+        assertNotEquals(DeltaUtil.computeStrongChecksum(data, 0, 3), DeltaUtil.computeStrongChecksum(data, 1, 3));
+    }
+}
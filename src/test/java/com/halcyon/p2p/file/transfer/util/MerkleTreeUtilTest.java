@@ -0,0 +1,79 @@
+package com.halcyon.p2p.file.transfer.util;
+
+import com.google.common.hash.Hashing;
+import com.google.protobuf.ByteString;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MerkleTreeUtilTest {
+    private static ByteString leaf(int i) {
+        return ByteString.copyFrom(Hashing.sha256().hashInt(i).asBytes());
+    }
+
+    private static List<ByteString> leaves(int count) {
+        List<ByteString> leaves = new ArrayList<>();
+
+        for (int i = 0; i < count; i++) {
+            leaves.add(leaf(i));
+        }
+
+        return leaves;
+    }
+
+    private static ByteString innerNode(ByteString left, ByteString right) {
+        return ByteString.copyFrom(Hashing.sha256().newHasher()
+                .putByte((byte) 1)
+                .putBytes(left.toByteArray())
+                .putBytes(right.toByteArray())
+                .hash()
+                .asBytes());
+    }
+
+    @Test
+    void hashesAnEmptyFileLikeAnEmptyPiece() {
+        assertEquals(ByteString.copyFrom(Hashing.sha256().hashBytes(new byte[0]).asBytes()), MerkleTreeUtil.computeRoot(List.of()));
+    }
+
+    @Test
+    void usesASingleLeafAsTheRoot() {
+        assertEquals(leaf(0), MerkleTreeUtil.computeRoot(List.of(leaf(0))));
+    }
+
+    @Test
+    void promotesTheOddLeafUnchanged() {
+        ByteString expectedRoot = innerNode(innerNode(leaf(0), leaf(1)), leaf(2));
+
+        assertEquals(expectedRoot, MerkleTreeUtil.computeRoot(leaves(3)));
+    }
+
+    @Test
+    void detectsAnyChangedOrMissingLeaf() {
+        List<ByteString> leaves = leaves(7);
+        ByteString root = MerkleTreeUtil.computeRoot(leaves);
+
+        assertTrue(MerkleTreeUtil.isValid(leaves, root));
+
+        for (int i = 0; i < leaves.size(); i++) {
+            List<ByteString> tamperedLeaves = new ArrayList<>(leaves);
+            tamperedLeaves.set(i, leaf(100 + i));
+
+            assertFalse(MerkleTreeUtil.isValid(tamperedLeaves, root));
+        }
+
+        assertFalse(MerkleTreeUtil.isValid(leaves.subList(0, 6), root));
+    }
+
+    @Test
+    void reachesTheSameRootFromTheInnerNodes() {
+        List<ByteString> leaves = leaves(4);
+        List<ByteString> innerNodes = List.of(innerNode(leaves.get(0), leaves.get(1)), innerNode(leaves.get(2), leaves.get(3)));
+
+        // The inner nodes hash to the same root, which is why pieces are only accepted in the count the file size implies
+        assertEquals(MerkleTreeUtil.computeRoot(leaves), MerkleTreeUtil.computeRoot(innerNodes));
+        assertNotEquals(MerkleTreeUtil.computeRoot(leaves), MerkleTreeUtil.computeRoot(leaves.subList(0, 2)));
+    }
+}
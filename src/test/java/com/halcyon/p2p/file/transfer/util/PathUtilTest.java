@@ -0,0 +1,35 @@
+package com.halcyon.p2p.file.transfer.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PathUtilTest {
+    private static final Path DIRECTORY = Path.of("shared_directory");
+
+    @ParameterizedTest
+    @ValueSource(strings = {"a.txt", "docs/a.txt", "docs/sub/b.bin", "..a", "a..b/c"})
+    void resolvesNormalizedRelativeNames(String fileName) {
+        Path path = PathUtil.resolve(DIRECTORY, fileName);
+
+        assertNotNull(path);
+        assertEquals(DIRECTORY.toAbsolutePath().normalize().resolve(fileName).normalize(), path);
+        assertEquals(fileName, PathUtil.toFileName(DIRECTORY.toAbsolutePath().normalize(), path));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", ".", "..", "../a.txt", "docs/../../a.txt", "docs/../a.txt", "./a.txt", "docs//a.txt", "docs/",
+            "/etc/passwd", "docs/./a.txt"})
+    void rejectsNamesThatEscapeOrAreNotNormalized(String fileName) {
+        assertNull(PathUtil.resolve(DIRECTORY, fileName));
+    }
+
+    @Test
+    void rejectsTheDirectoryItself() {
+        assertNull(PathUtil.resolve(DIRECTORY, "docs/.."));
+    }
+}
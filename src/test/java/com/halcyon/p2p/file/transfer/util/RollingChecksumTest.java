@@ -0,0 +1,43 @@
+package com.halcyon.p2p.file.transfer.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class RollingChecksumTest {
+    @ParameterizedTest
+    @ValueSource(ints = {1, 7, 1024, 4096})
+    void rollingMatchesComputingEveryWindowAgain(int blockSize) {
+        byte[] data = new byte[3 * blockSize + 100];
+        new Random(blockSize).nextBytes(data);
+
+        RollingChecksum rollingChecksum = new RollingChecksum(blockSize);
+        rollingChecksum.reset(data, 0);
+
+        for (int offset = 0; ; offset++) {
+            assertEquals(RollingChecksum.compute(data, offset, blockSize), rollingChecksum.getValue(), "offset " + offset);
+
+            if (offset + blockSize == data.length) {
+                break;
+            }
+
+            rollingChecksum.roll(data[offset], data[offset + blockSize]);
+        }
+    }
+
+    @Test
+    void sumsBytesAsUnsigned() {
+        // a = 255 + 1 = 256, b = 2 * 255 + 1 * 1 = 511
+        assertEquals(256 | 511 << 16, RollingChecksum.compute(new byte[]{-1, 1}, 0, 2));
+    }
+
+    @Test
+    void dependsOnTheOrderOfBytes() {
+        assertNotEquals(RollingChecksum.compute(new byte[]{1, 2, 3}, 0, 3), RollingChecksum.compute(new byte[]{3, 2, 1}, 0, 3));
+    }
+}